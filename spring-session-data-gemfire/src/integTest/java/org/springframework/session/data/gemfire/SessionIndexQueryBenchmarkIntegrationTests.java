@@ -0,0 +1,182 @@
+/*
+ * Copyright 2024 Broadcom. All rights reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.springframework.session.data.gemfire;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import org.junit.After;
+import org.junit.Assume;
+import org.junit.Before;
+import org.junit.Test;
+
+import org.apache.geode.cache.Region;
+import org.apache.geode.cache.client.ClientCache;
+import org.apache.geode.cache.client.ClientCacheFactory;
+import org.apache.geode.cache.client.ClientRegionShortcut;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import org.springframework.data.gemfire.GemfireTemplate;
+import org.springframework.session.FindByIndexNameSessionRepository;
+import org.springframework.session.Session;
+import org.springframework.session.data.gemfire.config.annotation.web.http.support.SessionIndexInstaller;
+
+/**
+ * Benchmark measuring the latency of {@link FindByIndexNameSessionRepository#findByPrincipalName(String)}
+ * and {@link FindByIndexNameSessionRepository#findByIndexNameAndIndexValue(String, String)} queries with
+ * and without the Indexes created by the {@link SessionIndexInstaller}.
+ *
+ * The benchmark is only run when the {@literal spring.session.data.gemfire.benchmark} System property is set
+ * to {@literal true}.  The number of {@link Session Sessions} is set with the
+ * {@literal spring.session.data.gemfire.benchmark.sessions} System property as a comma-delimited list of sizes
+ * (default is {@literal 100000,1000000}).  Run with a heap large enough to hold the largest size.
+ *
+ * @author John Blum
+ * @see Test
+ * @see ClientCache
+ * @see GemFireOperationsSessionRepository
+ * @see SessionIndexInstaller
+ * @since 1.0.0
+ */
+public class SessionIndexQueryBenchmarkIntegrationTests {
+
+	private static final int PRINCIPALS = 10000;
+	private static final int QUERY_COUNT = 100;
+	private static final int TENANTS = 1000;
+
+	private static final String BENCHMARK_PROPERTY = "spring.session.data.gemfire.benchmark";
+	private static final String BENCHMARK_SESSIONS_PROPERTY = "spring.session.data.gemfire.benchmark.sessions";
+	private static final String REGION_NAME = "BenchmarkSessions";
+	private static final String TENANT_ATTRIBUTE_NAME = "tenant";
+
+	private final Logger logger = LoggerFactory.getLogger(getClass());
+
+	private ClientCache clientCache;
+
+	@Before
+	public void setup() {
+
+		Assume.assumeTrue(String.format("Set System property [%s] to run the benchmark", BENCHMARK_PROPERTY),
+			Boolean.getBoolean(BENCHMARK_PROPERTY));
+
+		this.clientCache = new ClientCacheFactory()
+			.set("log-level", "error")
+			.create();
+	}
+
+	@After
+	public void tearDown() {
+
+		if (this.clientCache != null) {
+			this.clientCache.close();
+		}
+	}
+
+	@Test
+	public void benchmarkQueriesWithAndWithoutIndexes() {
+
+		int[] sizes = Arrays.stream(System.getProperty(BENCHMARK_SESSIONS_PROPERTY, "100000,1000000").split(","))
+			.map(String::trim)
+			.mapToInt(Integer::parseInt)
+			.toArray();
+
+		for (int size : sizes) {
+			benchmark(size);
+		}
+	}
+
+	private void benchmark(int size) {
+
+		Region<Object, Session> sessions = this.clientCache.<Object, Session>createClientRegionFactory(
+			ClientRegionShortcut.LOCAL).create(REGION_NAME);
+
+		try {
+
+			GemFireOperationsSessionRepository repository =
+				new GemFireOperationsSessionRepository(new GemfireTemplate(sessions));
+
+			Map<Object, Session> batch = new HashMap<>();
+
+			for (int count = 0; count < size; count++) {
+
+				Session session = repository.createSession();
+
+				session.setAttribute(FindByIndexNameSessionRepository.PRINCIPAL_NAME_INDEX_NAME,
+					"user" + (count % PRINCIPALS));
+				session.setAttribute(TENANT_ATTRIBUTE_NAME, "tenant" + (count % TENANTS));
+
+				batch.put(session.getId(), session);
+
+				if (batch.size() >= 10000) {
+					sessions.putAll(batch);
+					batch.clear();
+				}
+			}
+
+			sessions.putAll(batch);
+
+			assertThat(sessions.size()).isEqualTo(size);
+
+			long principalNameScanNanos = time(() -> repository.findByPrincipalName("user1"));
+			long attributeScanNanos = time(() ->
+				repository.findByIndexNameAndIndexValue(TENANT_ATTRIBUTE_NAME, "tenant1"));
+
+			SessionIndexInstaller installer = new SessionIndexInstaller(this.clientCache, REGION_NAME,
+				new String[] { TENANT_ATTRIBUTE_NAME }, false);
+
+			long indexCreationStart = System.nanoTime();
+
+			assertThat(installer.install()).containsExactly(SessionIndexInstaller.PRINCIPAL_NAME_INDEX_NAME,
+				SessionIndexInstaller.SESSION_ATTRIBUTES_INDEX_NAME);
+
+			long indexCreationNanos = System.nanoTime() - indexCreationStart;
+
+			long principalNameIndexNanos = time(() -> repository.findByPrincipalName("user1"));
+			long attributeIndexNanos = time(() ->
+				repository.findByIndexNameAndIndexValue(TENANT_ATTRIBUTE_NAME, "tenant1"));
+
+			assertThat(repository.findByPrincipalName("user1")).hasSize(size / PRINCIPALS);
+
+			this.logger.info(String.format("Sessions [%d]; Index creation [%d ms]", size,
+				TimeUnit.NANOSECONDS.toMillis(indexCreationNanos)));
+			this.logger.info(String.format("  findByPrincipalName: scan [%.3f ms], indexed [%.3f ms]",
+				toMillis(principalNameScanNanos), toMillis(principalNameIndexNanos)));
+			this.logger.info(String.format("  findByIndexNameAndIndexValue: scan [%.3f ms], indexed [%.3f ms]",
+				toMillis(attributeScanNanos), toMillis(attributeIndexNanos)));
+		}
+		finally {
+			sessions.localDestroyRegion();
+		}
+	}
+
+	/**
+	 * Returns the average time in nanoseconds taken to execute the given query, after warming up.
+	 */
+	private long time(Supplier<Map<String, ?>> query) {
+
+		for (int count = 0; count < 10; count++) {
+			query.get();
+		}
+
+		long start = System.nanoTime();
+
+		for (int count = 0; count < QUERY_COUNT; count++) {
+			query.get();
+		}
+
+		return (System.nanoTime() - start) / QUERY_COUNT;
+	}
+
+	private double toMillis(long nanos) {
+		return nanos / 1_000_000.0d;
+	}
+}
@@ -0,0 +1,132 @@
+/*
+ * Copyright 2024 Broadcom. All rights reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.springframework.session.data.gemfire.serialization.pdx;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.util.Map;
+
+import com.vmware.gemfire.testcontainers.GemFireCluster;
+
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.support.PropertySourcesPlaceholderConfigurer;
+import org.springframework.data.gemfire.config.annotation.ClientCacheApplication;
+import org.springframework.session.Session;
+import org.springframework.session.data.gemfire.AbstractGemFireIntegrationTests;
+import org.springframework.session.data.gemfire.GemFireOperationsSessionRepository;
+import org.springframework.session.data.gemfire.config.annotation.web.http.EnableGemFireHttpSession;
+import org.springframework.session.data.gemfire.model.SessionSummary;
+import org.springframework.session.data.gemfire.support.SessionQuery;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.junit4.SpringRunner;
+
+/**
+ * Integration tests for the {@link SessionSummary} projection and {@link SessionQuery} queries of the
+ * {@link GemFireOperationsSessionRepository} against a server {@link org.apache.geode.cache.Region} storing
+ * {@link Session Sessions} as PDX, without any Spring Session classes on the server classpath.
+ *
+ * @author John Blum
+ * @see Test
+ * @see AbstractGemFireIntegrationTests
+ * @see GemFireOperationsSessionRepository
+ * @see SessionQuery
+ * @see SessionSummary
+ * @see EnableGemFireHttpSession
+ * @since 1.0.0
+ */
+@RunWith(SpringRunner.class)
+@ContextConfiguration
+@SuppressWarnings("unused")
+public class SessionQueryWithPdxIntegrationTests extends AbstractGemFireIntegrationTests {
+
+	private static final String GEMFIRE_LOG_LEVEL = "error";
+
+	private static GemFireCluster gemFireCluster;
+
+	@Autowired
+	private GemFireOperationsSessionRepository sessionRepository;
+
+	@BeforeClass
+	public static void startGemFireServer() throws IOException {
+
+		gemFireCluster = new GemFireCluster(System.getProperty("spring.test.gemfire.docker.image"), 1, 1)
+			.withGfsh(false, "create region --type=PARTITION --name=ClusteredSpringSessions");
+
+		gemFireCluster.acceptLicense().start();
+
+		System.setProperty("spring.data.gemfire.pool.locators",
+			String.format("localhost[%d]", gemFireCluster.getLocatorPort()));
+	}
+
+	@AfterClass
+	public static void teardown() {
+		gemFireCluster.close();
+	}
+
+	@Test
+	public void findSessionSummariesByPrincipalNameProjectsPdxTimes() {
+
+		Session session = save(touch(createSession("summaryDoe")));
+
+		Map<String, SessionSummary> sessionSummaries =
+			this.sessionRepository.findSessionSummariesByPrincipalName("summaryDoe");
+
+		assertThat(sessionSummaries).containsOnlyKeys(session.getId());
+
+		SessionSummary sessionSummary = sessionSummaries.get(session.getId());
+
+		assertThat(sessionSummary.getPrincipalName()).isEqualTo("summaryDoe");
+		assertThat(sessionSummary.getCreationTime().toEpochMilli())
+			.isEqualTo(session.getCreationTime().toEpochMilli());
+		assertThat(sessionSummary.getLastAccessedTime().toEpochMilli())
+			.isEqualTo(session.getLastAccessedTime().toEpochMilli());
+		assertThat(sessionSummary.getExpirationTime())
+			.isEqualTo(session.getLastAccessedTime().plus(session.getMaxInactiveInterval()).toEpochMilli());
+	}
+
+	@Test
+	public void findBySessionQueryWithTimeCriteriaMatchesPdxSessions() {
+
+		Session session = save(touch(createSession("queryDoe")));
+
+		Instant lastAccessedTime = session.getLastAccessedTime();
+
+		SessionQuery recentlyAccessed = SessionQuery.query()
+			.principalNameEquals("queryDoe")
+			.lastAccessedAfter(lastAccessedTime.minusSeconds(60))
+			.createdBefore(session.getCreationTime().plusSeconds(60));
+
+		assertThat(this.sessionRepository.findReadOnlyBySessionQuery(recentlyAccessed))
+			.containsOnlyKeys(session.getId());
+
+		assertThat(this.sessionRepository.findSessionSummariesBySessionQuery(recentlyAccessed))
+			.containsOnlyKeys(session.getId());
+
+		SessionQuery accessedLater = SessionQuery.query()
+			.principalNameEquals("queryDoe")
+			.lastAccessedAfter(lastAccessedTime.plusSeconds(60));
+
+		assertThat(this.sessionRepository.findReadOnlyBySessionQuery(accessedLater)).isEmpty();
+		assertThat(this.sessionRepository.findSessionSummariesBySessionQuery(accessedLater)).isEmpty();
+	}
+
+	@ClientCacheApplication(logLevel = GEMFIRE_LOG_LEVEL, subscriptionEnabled = true)
+	@EnableGemFireHttpSession(poolName = "DEFAULT")
+	static class GemFireClientConfiguration {
+
+		@Bean
+		static PropertySourcesPlaceholderConfigurer propertyPlaceholderConfigurer() {
+			return new PropertySourcesPlaceholderConfigurer();
+		}
+	}
+}
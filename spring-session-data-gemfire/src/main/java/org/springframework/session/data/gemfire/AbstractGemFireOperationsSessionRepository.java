@@ -9,7 +9,6 @@ import org.apache.geode.DataSerializer;
 import org.apache.geode.Delta;
 import org.apache.geode.InvalidDeltaException;
 import org.apache.geode.cache.EntryEvent;
-import org.apache.geode.cache.InterestResultPolicy;
 import org.apache.geode.cache.Operation;
 import org.apache.geode.cache.Region;
 import org.apache.geode.cache.RegionAttributes;
@@ -29,12 +28,18 @@ import org.springframework.lang.NonNull;
 import org.springframework.lang.Nullable;
 import org.springframework.session.FindByIndexNameSessionRepository;
 import org.springframework.session.Session;
+import org.springframework.session.SessionIdGenerator;
 import org.springframework.session.SessionRepository;
+import org.springframework.session.UuidSessionIdGenerator;
 import org.springframework.session.data.gemfire.config.annotation.web.http.GemFireHttpSessionConfiguration;
 import org.springframework.session.data.gemfire.events.SessionChangedEvent;
+import org.springframework.session.data.gemfire.events.SessionEventExecutor;
+import org.springframework.session.data.gemfire.events.SessionExpiredEventBatcher;
 import org.springframework.session.data.gemfire.model.BoundedRingHashSet;
 import org.springframework.session.data.gemfire.support.GemFireUtils;
 import org.springframework.session.data.gemfire.support.IsDirtyPredicate;
+import org.springframework.session.data.gemfire.support.SessionClockAware;
+import org.springframework.session.data.gemfire.support.SessionInterestManager;
 import org.springframework.session.data.gemfire.support.SessionIdHolder;
 import org.springframework.session.events.AbstractSessionEvent;
 import org.springframework.session.events.SessionCreatedEvent;
@@ -47,6 +52,7 @@ import org.springframework.util.ObjectUtils;
 import java.io.DataInput;
 import java.io.DataOutput;
 import java.io.IOException;
+import java.time.Clock;
 import java.time.Duration;
 import java.time.Instant;
 import java.util.AbstractMap;
@@ -59,7 +65,6 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
-import java.util.concurrent.ConcurrentSkipListSet;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.BiFunction;
 
@@ -95,6 +100,7 @@ import static org.springframework.data.gemfire.util.RuntimeExceptionFactory.newI
  * @see SessionChangedEvent
  * @see org.springframework.session.data.gemfire.support.DeltaAwareDirtyPredicate
  * @see IsDirtyPredicate
+ * @see SessionClockAware
  * @see SessionIdHolder
  * @see AbstractSessionEvent
  * @see SessionCreatedEvent
@@ -104,12 +110,11 @@ import static org.springframework.data.gemfire.util.RuntimeExceptionFactory.newI
  * @since 1.1.0
  */
 public abstract class AbstractGemFireOperationsSessionRepository
-    implements ApplicationEventPublisherAware, FindByIndexNameSessionRepository<Session> {
+    implements ApplicationEventPublisherAware, FindByIndexNameSessionRepository<Session>, SessionClockAware {
 
   private static final boolean DEFAULT_CLIENT_SUBSCRIPTIONS_ENABLED = false;
-  private static final boolean DEFAULT_REGISTER_INTEREST_DURABILITY = false;
-  private static final boolean DEFAULT_REGISTER_INTEREST_ENABLED = false;
-  private static final boolean DEFAULT_REGISTER_INTEREST_RECEIVE_VALUES = true;
+
+  private static final Clock DEFAULT_CLOCK = Clock.systemUTC();
 
   // TODO - use non-static variable
   private static final AtomicBoolean usingDataSerialization = new AtomicBoolean(false);
@@ -117,14 +122,14 @@ public abstract class AbstractGemFireOperationsSessionRepository
   private static final Duration DEFAULT_MAX_INACTIVE_INTERVAL =
       Duration.ofSeconds(GemFireHttpSessionConfiguration.DEFAULT_MAX_INACTIVE_INTERVAL_IN_SECONDS);
 
-  private static final InterestResultPolicy DEFAULT_REGISTER_INTEREST_RESULT_POLICY = InterestResultPolicy.NONE;
-
   private static final IsDirtyPredicate DEFAULT_IS_DIRTY_PREDICATE =
       GemFireHttpSessionConfiguration.DEFAULT_IS_DIRTY_PREDICATE;
 
   private ApplicationEventPublisher applicationEventPublisher = event -> {
   };
 
+  private volatile Clock clock = DEFAULT_CLOCK;
+
   private Duration maxInactiveInterval = DEFAULT_MAX_INACTIVE_INTERVAL;
 
   private final GemfireOperations template;
@@ -135,10 +140,12 @@ public abstract class AbstractGemFireOperationsSessionRepository
 
   private final Region<Object, Session> sessions;
 
+  private SessionIdGenerator sessionIdGenerator = UuidSessionIdGenerator.getInstance();
+
   private SessionEventHandlerCacheListenerAdapter sessionEventHandler;
   private SessionEventHandlerCacheWriterAdapter sessionEventHandlerCacheWriter;
 
-  private final Set<Integer> interestingSessionIds = new ConcurrentSkipListSet<>();
+  private volatile SessionInterestManager sessionInterestManager;
 
   /**
    * Protected, default constructor used by extensions of {@link AbstractGemFireOperationsSessionRepository}
@@ -336,6 +343,30 @@ public abstract class AbstractGemFireOperationsSessionRepository
     return this.applicationEventPublisher;
   }
 
+  /**
+   * Configures the {@link Clock} used to create, touch and expire {@link Session Sessions}.
+   *
+   * @param clock {@link Clock} to use; the {@link Clock#systemUTC() system clock} is used if {@literal null}.
+   * @see org.springframework.session.data.gemfire.support.CachedMillisecondClock
+   * @see Clock
+   */
+  @Override
+  public void setClock(@Nullable Clock clock) {
+    this.clock = clock != null ? clock : DEFAULT_CLOCK;
+  }
+
+  /**
+   * Returns the configured {@link Clock} used to create, touch and expire {@link Session Sessions}.
+   * <p>
+   * Defaults to the {@link Clock#systemUTC() system clock}.
+   *
+   * @return the configured {@link Clock}; never {@literal null}.
+   * @see Clock
+   */
+  public @NonNull Clock getClock() {
+    return this.clock;
+  }
+
   /**
    * Configures the {@link IsDirtyPredicate} strategy interface used to determine whether the users' application
    * domain objects are dirty or not.
@@ -365,6 +396,33 @@ public abstract class AbstractGemFireOperationsSessionRepository
         : DEFAULT_IS_DIRTY_PREDICATE;
   }
 
+  /**
+   * Configures the {@link SessionIdGenerator} used to generate the {@link Session#getId() IDs} of new
+   * {@link Session Sessions} and the new IDs of {@link Session Sessions} when the {@link Session#changeSessionId()
+   * Session ID changes}.
+   *
+   * @param sessionIdGenerator {@link SessionIdGenerator} used to generate {@link Session} IDs.
+   * @see SessionIdGenerator
+   */
+  public void setSessionIdGenerator(@Nullable SessionIdGenerator sessionIdGenerator) {
+    this.sessionIdGenerator = sessionIdGenerator;
+  }
+
+  /**
+   * Returns the configured {@link SessionIdGenerator} used to generate {@link Session} IDs.
+   * <p>
+   * Defaults to the {@link UuidSessionIdGenerator}.
+   *
+   * @return the configured {@link SessionIdGenerator}.
+   * @see SessionIdGenerator
+   */
+  public @NonNull SessionIdGenerator getSessionIdGenerator() {
+
+    return this.sessionIdGenerator != null
+        ? this.sessionIdGenerator
+        : UuidSessionIdGenerator.getInstance();
+  }
+
   /**
    * Return a reference to the {@link Logger} used to log messages.
    *
@@ -431,6 +489,101 @@ public abstract class AbstractGemFireOperationsSessionRepository
     return Optional.ofNullable(this.sessionEventHandler);
   }
 
+  /**
+   * Configures the window within which {@link SessionChangedEvent SessionChangedEvents} for the same {@link Session}
+   * are coalesced by the {@link Session} event handler, publishing only the latest state once per window.
+   *
+   * @param sessionChangedEventCoalescingWindow {@link Duration} of the coalescing window; {@literal null},
+   *                                            zero or negative disables coalescing.
+   * @see SessionEventHandlerCacheListenerAdapter#setSessionChangedEventCoalescingWindow(Duration)
+   * @see SessionChangedEvent
+   */
+  public void setSessionChangedEventCoalescingWindow(@Nullable Duration sessionChangedEventCoalescingWindow) {
+    getSessionEventHandler()
+        .ifPresent(it -> it.setSessionChangedEventCoalescingWindow(sessionChangedEventCoalescingWindow));
+  }
+
+  /**
+   * Configures the {@link SessionEventExecutor} used by the {@link Session} event handlers to publish
+   * {@link AbstractSessionEvent Session events} asynchronously, in order per {@link Session}.
+   *
+   * @param sessionEventExecutor {@link SessionEventExecutor} used to dispatch {@link Session} events;
+   *                             may be {@literal null} to publish events on the calling {@link Thread}.
+   * @see SessionEventHandlerCacheListenerAdapter#setSessionEventExecutor(SessionEventExecutor)
+   * @see SessionEventHandlerCacheWriterAdapter#setSessionEventExecutor(SessionEventExecutor)
+   * @see SessionEventExecutor
+   */
+  public void setSessionEventExecutor(@Nullable SessionEventExecutor sessionEventExecutor) {
+
+    getSessionEventHandler().ifPresent(it -> it.setSessionEventExecutor(sessionEventExecutor));
+
+    Optional.ofNullable(this.sessionEventHandlerCacheWriter)
+        .ifPresent(it -> it.setSessionEventExecutor(sessionEventExecutor));
+  }
+
+  /**
+   * Configures the {@link SessionExpiredEventBatcher} used by the {@link Session} event handler to publish
+   * expired {@link Session} IDs in bulk, in addition to the individual {@link SessionExpiredEvent SessionExpiredEvents}.
+   *
+   * @param sessionExpiredEventBatcher {@link SessionExpiredEventBatcher} used to batch expired {@link Session} IDs;
+   *                                   may be {@literal null} to disable batching.
+   * @see SessionEventHandlerCacheListenerAdapter#setSessionExpiredEventBatcher(SessionExpiredEventBatcher)
+   * @see SessionExpiredEventBatcher
+   */
+  public void setSessionExpiredEventBatcher(@Nullable SessionExpiredEventBatcher sessionExpiredEventBatcher) {
+    getSessionEventHandler().ifPresent(it -> it.setSessionExpiredEventBatcher(sessionExpiredEventBatcher));
+  }
+
+  /**
+   * Configures the {@link SessionInterestManager} used to register interest in the keys of only those
+   * {@link Session Sessions} served by this node, rather than all keys in the {@link Session} {@link Region}.
+   * <p>
+   * The {@link SessionInterestManager} is only applied when the {@link Session} {@link Region} is a client
+   * {@link Region} with subscriptions enabled on its {@link Pool}; otherwise it is ignored.
+   *
+   * @param sessionInterestManager {@link SessionInterestManager} tracking the {@link Session Sessions}
+   *                               served by this node; may be {@literal null} to disable interest registration.
+   * @see SessionEventHandlerCacheListenerAdapter#setSessionInterestManager(SessionInterestManager)
+   * @see #isRegionRegisterInterestAllowed(Region)
+   * @see SessionInterestManager
+   */
+  public void setSessionInterestManager(@Nullable SessionInterestManager sessionInterestManager) {
+
+    if (sessionInterestManager == null || isRegionRegisterInterestAllowed(getSessionsRegion())) {
+      this.sessionInterestManager = sessionInterestManager;
+      getSessionEventHandler().ifPresent(it -> it.setSessionInterestManager(sessionInterestManager));
+    } else {
+      getLogger().warn("Interest registration is only allowed for client Regions with subscriptions enabled;"
+          + " ignoring the configured SessionInterestManager");
+    }
+  }
+
+  /**
+   * Returns the configured {@link SessionInterestManager}, if any.
+   *
+   * @return an {@link Optional} {@link SessionInterestManager}.
+   * @see SessionInterestManager
+   */
+  protected Optional<SessionInterestManager> getSessionInterestManager() {
+    return Optional.ofNullable(this.sessionInterestManager);
+  }
+
+  /**
+   * Registers interest in the given {@link Session Session's} key, if this node is not already interested
+   * in the {@link Session}, and records the local access.
+   *
+   * @param session {@link Session} loaded or saved by this node.
+   * @return the given {@link Session}.
+   * @see SessionInterestManager#touch(String)
+   */
+  protected @Nullable Session registerInterest(@Nullable Session session) {
+
+    Optional.ofNullable(session)
+        .ifPresent(it -> getSessionInterestManager().ifPresent(manager -> manager.touch(it.getId())));
+
+    return session;
+  }
+
   /**
    * Returns a reference to the configured Apache Geode / Pivotal GemFire cache {@link Region} used to
    * store and manage (HTTP) {@link Session} data.
@@ -534,10 +687,26 @@ public abstract class AbstractGemFireOperationsSessionRepository
         .filter(GemFireSession.class::isInstance)
         .map(GemFireSession.class::cast)
         .map(it -> it.configureWith(getMaxInactiveInterval()))
+        .map(it -> it.configureWith(getSessionIdGenerator()))
+        .map(it -> it.configureWith(getClock()))
         .<Session>map(it -> it.configureWith(getIsDirtyPredicate()))
         .orElse(session);
   }
 
+  /**
+   * Resolves the principal name of the given {@link Session}.
+   *
+   * @param session {@link Session} from which to resolve the principal name.
+   * @return the principal name of the {@link Session}, or {@literal null} if the {@link Session} has no principal.
+   * @see GemFireSession#getPrincipalName()
+   */
+  static @Nullable String resolvePrincipalName(@NonNull Session session) {
+
+    return session instanceof GemFireSession
+        ? ((GemFireSession<?>) session).getPrincipalName()
+        : session.getAttribute(PRINCIPAL_NAME_INDEX_NAME);
+  }
+
   /**
    * Deletes the given {@link Session} from Apache Geode / Pivotal GemFire.
    *
@@ -564,7 +733,7 @@ public abstract class AbstractGemFireOperationsSessionRepository
    */
   protected void handleDeleted(String sessionId, Session session) {
     Optional.ofNullable(session).ifPresentOrElse(session1 -> {
-      if (session.isExpired()) {
+      if (isExpired(session)) {
         getSessionEventHandler()
             .ifPresent(it -> it.afterExpired(sessionId, session));
       } else {
@@ -591,19 +760,34 @@ public abstract class AbstractGemFireOperationsSessionRepository
     }
   }
 
+  /**
+   * Determines whether the given {@link Session} has expired at the current time of the configured {@link Clock}.
+   *
+   * @param session {@link Session} to evaluate.
+   * @return a boolean value indicating whether the given {@link Session} has expired.
+   * @see GemFireSession#isExpired(long)
+   * @see #getClock()
+   */
+  protected boolean isExpired(@NonNull Session session) {
+
+    return session instanceof GemFireSession
+        ? ((GemFireSession<?>) session).isExpired(getClock().millis())
+        : session.isExpired();
+  }
+
   /**
    * Updates the {@link Session#setLastAccessedTime(Instant)} property of the {@link Session}
-   * to the {@link Instant#now() current time}.
+   * to the current time of the configured {@link Clock}.
    *
    * @param session {@link Session} to touch.
    * @return the {@link Session}.
    * @see Session#setLastAccessedTime(Instant)
    * @see Session
-   * @see Instant#now()
+   * @see #getClock()
    */
   protected @NonNull Session touch(@NonNull Session session) {
 
-    session.setLastAccessedTime(Instant.now());
+    session.setLastAccessedTime(getClock().instant());
 
     return session;
   }
@@ -619,6 +803,10 @@ public abstract class AbstractGemFireOperationsSessionRepository
       super(id);
     }
 
+    public DeltaCapableGemFireSession(String id, Instant creationTime) {
+      super(id, creationTime);
+    }
+
     public DeltaCapableGemFireSession(Session session) {
       super(session);
     }
@@ -677,6 +865,55 @@ public abstract class AbstractGemFireOperationsSessionRepository
           : new GemFireSession<>();
     }
 
+    /**
+     * Factory method used to construct a new instance of {@link GemFireSession} with an ID generated by,
+     * and configured to change its ID with, the given {@link SessionIdGenerator}.
+     *
+     * @param <T> {@link Class Sub-type} of {@link GemFireSessionAttributes}.
+     * @param sessionIdGenerator {@link SessionIdGenerator} used to generate {@link Session} IDs;
+     *                           must not be {@literal null}.
+     * @return a new {@link GemFireSession}.
+     * @throws IllegalArgumentException if {@link SessionIdGenerator} is {@literal null}.
+     * @see #isUsingDataSerialization()
+     */
+    @SuppressWarnings("unchecked")
+    public static <T extends GemFireSessionAttributes> GemFireSession<T> create(
+        @NonNull SessionIdGenerator sessionIdGenerator) {
+
+      return create(sessionIdGenerator, DEFAULT_CLOCK);
+    }
+
+    /**
+     * Factory method used to construct a new instance of {@link GemFireSession} with an ID generated by,
+     * and configured to change its ID with, the given {@link SessionIdGenerator}, created at the current time
+     * of the given {@link Clock}, which the {@link GemFireSession} also uses to determine
+     * whether it {@link #isExpired() is expired}.
+     *
+     * @param <T> {@link Class Sub-type} of {@link GemFireSessionAttributes}.
+     * @param sessionIdGenerator {@link SessionIdGenerator} used to generate {@link Session} IDs;
+     *                           must not be {@literal null}.
+     * @param clock {@link Clock} used to set the {@link #getCreationTime() creation time}; must not be {@literal null}.
+     * @return a new {@link GemFireSession}.
+     * @throws IllegalArgumentException if {@link SessionIdGenerator} or {@link Clock} is {@literal null}.
+     * @see #isUsingDataSerialization()
+     */
+    @SuppressWarnings("unchecked")
+    public static <T extends GemFireSessionAttributes> GemFireSession<T> create(
+        @NonNull SessionIdGenerator sessionIdGenerator, @NonNull Clock clock) {
+
+      Assert.notNull(sessionIdGenerator, "SessionIdGenerator is required");
+      Assert.notNull(clock, "Clock is required");
+
+      String id = sessionIdGenerator.generate();
+      Instant creationTime = clock.instant();
+
+      GemFireSession<T> session = isUsingDataSerialization()
+          ? (GemFireSession<T>) new DeltaCapableGemFireSession(id, creationTime)
+          : new GemFireSession<>(id, creationTime);
+
+      return session.configureWith(sessionIdGenerator).configureWith(clock);
+    }
+
     /**
      * Copy (i.e. clone) the given {@link Session}.
      *
@@ -715,8 +952,12 @@ public abstract class AbstractGemFireOperationsSessionRepository
 
     private Instant lastAccessedTime;
 
+    private transient Clock clock = DEFAULT_CLOCK;
+
     private transient IsDirtyPredicate dirtyPredicate = DEFAULT_IS_DIRTY_PREDICATE;
 
+    private transient SessionIdGenerator sessionIdGenerator;
+
     private transient final SpelExpressionParser parser = new SpelExpressionParser();
 
     private String id;
@@ -738,16 +979,34 @@ public abstract class AbstractGemFireOperationsSessionRepository
      * Constructs a new instance of {@link GemFireSession} initialized with
      * the given {@link Session#getId() Session Identifier}.
      * <p>
-     * Additionally, the {@link #creationTime} is set to {@link Instant#now()}, {@link #lastAccessedTime}
-     * is set to {@link #creationTime} and the {@link #maxInactiveInterval} is set to {@link Duration#ZERO}.
+     * Additionally, the {@link #creationTime} is set to the current time of the {@link #getClock() Clock},
+     * {@link #lastAccessedTime} is set to {@link #creationTime} and the {@link #maxInactiveInterval}
+     * is set to {@link Duration#ZERO}.
      *
      * @param id {@link String} containing the unique identifier for this {@link Session}.
-     * @see #validateSessionId(String)
+     * @see #GemFireSession(String, Instant)
      */
     protected GemFireSession(String id) {
+      this(id, DEFAULT_CLOCK.instant());
+    }
+
+    /**
+     * Constructs a new instance of {@link GemFireSession} initialized with
+     * the given {@link Session#getId() Session Identifier} and {@link Instant creation time}.
+     * <p>
+     * Additionally, the {@link #lastAccessedTime} is set to {@link #creationTime}
+     * and the {@link #maxInactiveInterval} is set to {@link Duration#ZERO}.
+     *
+     * @param id {@link String} containing the unique identifier for this {@link Session}.
+     * @param creationTime {@link Instant} at which this {@link Session} was created.
+     * @see #validateSessionId(String)
+     */
+    protected GemFireSession(String id, Instant creationTime) {
+
+      Assert.notNull(creationTime, "Creation time is required");
 
       this.id = validateSessionId(id);
-      this.creationTime = Instant.now();
+      this.creationTime = creationTime;
       this.lastAccessedTime = this.creationTime;
       this.maxInactiveInterval = Duration.ZERO;
     }
@@ -788,14 +1047,14 @@ public abstract class AbstractGemFireOperationsSessionRepository
      * Change the {@link String identifier} of this {@link Session}.
      *
      * @return the new {@link String identifier} of of this {@link Session}.
-     * @see #generateSessionId()
+     * @see #getSessionIdGenerator()
      * @see #triggerDelta()
      * @see #getId()
      */
     @Override
     public synchronized String changeSessionId() {
 
-      this.id = generateSessionId();
+      this.id = validateSessionId(getSessionIdGenerator().generate());
 
       triggerDelta();
 
@@ -887,20 +1146,78 @@ public abstract class AbstractGemFireOperationsSessionRepository
       return this.creationTime;
     }
 
-    public synchronized boolean isExpired() {
+    /**
+     * Returns the {@link #getCreationTime() creation time} of this {@link Session} in milliseconds since the epoch.
+     * <p>
+     * Like the {@link #getExpirationTime() expiration time}, the creation time in milliseconds is queryable
+     * as a {@literal long} whether this {@link Session} is stored with PDX or Data Serialization.
+     *
+     * @return the creation time in milliseconds.
+     * @see #getCreationTime()
+     */
+    public synchronized long getCreationTimeMillis() {
+      return getCreationTime().toEpochMilli();
+    }
 
-      Instant lastAccessedTime = getLastAccessedTime();
+    /**
+     * Returns the time in milliseconds since the epoch at which this {@link Session} expires, derived from the
+     * {@link #getLastAccessedTime() last accessed time} and {@link #getMaxInactiveInterval() max inactive interval}.
+     * <p>
+     * The expiration time is queryable and can be indexed to range scan {@link Session Sessions} expiring soon.
+     *
+     * @return the expiration time in milliseconds, or {@link Long#MAX_VALUE} if this {@link Session}
+     * does not expire.
+     */
+    public synchronized long getExpirationTime() {
 
       Duration maxInactiveInterval = getMaxInactiveInterval();
 
       return isExpirationEnabled(maxInactiveInterval)
-          && Instant.now().minus(maxInactiveInterval).isAfter(lastAccessedTime);
+          ? getLastAccessedTime().toEpochMilli() + maxInactiveInterval.toMillis()
+          : Long.MAX_VALUE;
+    }
+
+    /**
+     * Determines whether this {@link Session} has expired at the current time of the configured {@link Clock}.
+     *
+     * @return a boolean value indicating whether this {@link Session} has expired.
+     * @see #isExpired(long)
+     * @see #getClock()
+     */
+    public boolean isExpired() {
+      return isExpired(getClock().millis());
+    }
+
+    /**
+     * Determines whether this {@link Session} has expired at the given time.
+     *
+     * @param currentTimeMillis current time in milliseconds since the epoch.
+     * @return a boolean value indicating whether this {@link Session} has expired.
+     * @see #getExpirationTime()
+     */
+    public synchronized boolean isExpired(long currentTimeMillis) {
+
+      Duration maxInactiveInterval = getMaxInactiveInterval();
+
+      return isExpirationEnabled(maxInactiveInterval)
+          && currentTimeMillis - getLastAccessedTime().toEpochMilli() > maxInactiveInterval.toMillis();
     }
 
     private boolean isExpirationEnabled(Duration duration) {
       return duration != null && duration.toNanos() > 0;
     }
 
+    protected synchronized void setClock(Clock clock) {
+      this.clock = clock;
+    }
+
+    protected synchronized Clock getClock() {
+
+      return this.clock != null
+          ? this.clock
+          : DEFAULT_CLOCK;
+    }
+
     protected synchronized void setIsDirtyPredicate(IsDirtyPredicate dirtyPredicate) {
 
       this.dirtyPredicate = dirtyPredicate;
@@ -914,6 +1231,17 @@ public abstract class AbstractGemFireOperationsSessionRepository
           : DEFAULT_IS_DIRTY_PREDICATE;
     }
 
+    protected synchronized void setSessionIdGenerator(SessionIdGenerator sessionIdGenerator) {
+      this.sessionIdGenerator = sessionIdGenerator;
+    }
+
+    protected synchronized SessionIdGenerator getSessionIdGenerator() {
+
+      return this.sessionIdGenerator != null
+          ? this.sessionIdGenerator
+          : UuidSessionIdGenerator.getInstance();
+    }
+
     private boolean isLastAccessedTimeValid(Instant lastAccessedTime) {
       return lastAccessedTime != null;
     }
@@ -932,6 +1260,20 @@ public abstract class AbstractGemFireOperationsSessionRepository
       return this.lastAccessedTime;
     }
 
+    /**
+     * Returns the {@link #getLastAccessedTime() last accessed time} of this {@link Session} in milliseconds
+     * since the epoch.
+     * <p>
+     * Like the {@link #getExpirationTime() expiration time}, the last accessed time in milliseconds is queryable
+     * as a {@literal long} whether this {@link Session} is stored with PDX or Data Serialization.
+     *
+     * @return the last accessed time in milliseconds.
+     * @see #getLastAccessedTime()
+     */
+    public synchronized long getLastAccessedTimeMillis() {
+      return getLastAccessedTime().toEpochMilli();
+    }
+
     public synchronized void setMaxInactiveInterval(Duration maxInactiveInterval) {
 
       triggerDelta(!ObjectUtils.nullSafeEquals(this.maxInactiveInterval, maxInactiveInterval));
@@ -999,6 +1341,34 @@ public abstract class AbstractGemFireOperationsSessionRepository
       return this;
     }
 
+    /**
+     * Builder method to configure the {@link SessionIdGenerator} used to generate a new ID
+     * when the {@link #changeSessionId() ID of this GemFireSession changes}.
+     *
+     * @param sessionIdGenerator {@link SessionIdGenerator} used to generate {@link Session} IDs.
+     * @return this {@link GemFireSession}.
+     * @see SessionIdGenerator
+     * @see #setSessionIdGenerator(SessionIdGenerator)
+     */
+    public GemFireSession<T> configureWith(SessionIdGenerator sessionIdGenerator) {
+      setSessionIdGenerator(sessionIdGenerator);
+      return this;
+    }
+
+    /**
+     * Builder method to configure the {@link Clock} used to determine whether this {@link GemFireSession}
+     * {@link #isExpired() is expired}.
+     *
+     * @param clock {@link Clock} providing the current time; the system clock is used if {@literal null}.
+     * @return this {@link GemFireSession}.
+     * @see #setClock(Clock)
+     * @see Clock
+     */
+    public GemFireSession<T> configureWith(Clock clock) {
+      setClock(clock);
+      return this;
+    }
+
     @Override
     public int compareTo(Session session) {
       return getCreationTime().compareTo(session.getCreationTime());
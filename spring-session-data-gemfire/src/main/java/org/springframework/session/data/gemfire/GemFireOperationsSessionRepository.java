@@ -4,17 +4,52 @@
  */
 package org.springframework.session.data.gemfire;
 
+import org.apache.geode.cache.EntryNotFoundException;
+import org.apache.geode.cache.Region;
+import org.apache.geode.cache.RegionAttributes;
+import org.apache.geode.cache.execute.Execution;
+import org.apache.geode.cache.execute.FunctionService;
+import org.apache.geode.cache.query.QueryService;
 import org.apache.geode.cache.query.SelectResults;
+import org.apache.geode.cache.query.Struct;
 import org.springframework.data.gemfire.GemfireOperations;
 import org.springframework.lang.NonNull;
 import org.springframework.lang.Nullable;
 import org.springframework.session.Session;
 import org.springframework.session.SessionRepository;
+import org.springframework.session.data.gemfire.model.SessionExpiration;
+import org.springframework.session.data.gemfire.model.SessionSummary;
+import org.springframework.session.data.gemfire.support.DeleteSessionsByPrincipalNameFunction;
+import org.springframework.session.data.gemfire.support.DeletedSessionsResultCollector;
+import org.springframework.session.data.gemfire.support.GemFireUtils;
+import org.springframework.session.data.gemfire.support.PrincipalNameSessionIndex;
+import org.springframework.session.data.gemfire.support.QueryCache;
+import org.springframework.session.data.gemfire.support.ReadOnlySession;
+import org.springframework.session.data.gemfire.support.SessionDeletionException;
+import org.springframework.session.data.gemfire.support.SessionQuery;
+import org.springframework.util.Assert;
+import org.springframework.util.StringUtils;
 
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
+import java.util.NoSuchElementException;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * The {@link GemFireOperationsSessionRepository} class is a Spring {@link SessionRepository} implementation
@@ -29,6 +64,14 @@ import java.util.Optional;
  */
 public class GemFireOperationsSessionRepository extends AbstractGemFireOperationsSessionRepository {
 
+  // Keys of the compiled OQL queries cached in the QueryCache.
+  private static final String FIND_SESSIONS_BY_INDEX_NAME_QUERY_KEY = "findByIndexName:";
+  private static final String FIND_SESSIONS_EXPIRING_BEFORE_QUERY_KEY = "findSessionsExpiringBefore:";
+  private static final String FIND_SESSION_SUMMARIES_BY_INDEX_NAME_QUERY_KEY = "findSessionSummariesByIndexName:";
+  private static final String FIND_SESSION_IDS_BY_INDEX_NAME_QUERY_KEY = "findSessionIdsByIndexName:";
+  private static final String FIND_SESSIONS_BY_SESSION_QUERY_KEY = "findBySessionQuery:";
+  private static final String FIND_SESSION_SUMMARIES_BY_SESSION_QUERY_KEY = "findSessionSummariesBySessionQuery:";
+
   // Pivotal GemFire OQL query used to lookup Sessions by arbitrary attributes.
   protected static final String FIND_SESSIONS_BY_INDEX_NAME_AND_INDEX_VALUE_QUERY =
       "SELECT s FROM %1$s s WHERE s.attributes['%2$s'] = $1";
@@ -37,6 +80,49 @@ public class GemFireOperationsSessionRepository extends AbstractGemFireOperation
   protected static final String FIND_SESSIONS_BY_PRINCIPAL_NAME_QUERY =
       "SELECT s FROM %1$s s WHERE s.principalName = $1";
 
+  // Pivotal GemFire OQL query used to range scan Sessions by expiration time, one page at a time.
+  protected static final String FIND_SESSIONS_EXPIRING_BEFORE_QUERY =
+      "SELECT DISTINCT s.id, s.expirationTime FROM %1$s s"
+          + " WHERE s.expirationTime < $1"
+          + " AND (s.expirationTime > $2 OR (s.expirationTime = $2 AND s.id > $3))"
+          + " ORDER BY s.expirationTime, s.id LIMIT %2$d";
+
+  // Pivotal GemFire OQL query used to page through the IDs of Sessions with arbitrary attributes.
+  protected static final String FIND_SESSION_IDS_BY_INDEX_NAME_AND_INDEX_VALUE_QUERY =
+      "SELECT DISTINCT s.id FROM %1$s s WHERE s.attributes['%2$s'] = $1 AND s.id > $2 ORDER BY s.id LIMIT %3$d";
+
+  // Pivotal GemFire OQL query used to page through the IDs of Sessions by principal name.
+  protected static final String FIND_SESSION_IDS_BY_PRINCIPAL_NAME_QUERY =
+      "SELECT DISTINCT s.id FROM %1$s s WHERE s.principalName = $1 AND s.id > $2 ORDER BY s.id LIMIT %2$d";
+
+  // Pivotal GemFire OQL projection of Session metadata, excluding the Session attributes; the projected times
+  // are long in both the PDX and Data Serialization forms of a Session.
+  protected static final String SESSION_SUMMARY_PROJECTION =
+      "SELECT s.id, s.principalName, s.creationTimeMillis AS creationTime,"
+          + " s.lastAccessedTimeMillis AS lastAccessedTime, s.expirationTime FROM %1$s s";
+
+  // Pivotal GemFire OQL query used to look up Session metadata by arbitrary attributes.
+  protected static final String FIND_SESSION_SUMMARIES_BY_INDEX_NAME_AND_INDEX_VALUE_QUERY =
+      SESSION_SUMMARY_PROJECTION + " WHERE s.attributes['%2$s'] = $1";
+
+  // Pivotal GemFire OQL query used to look up Session metadata by principal name.
+  protected static final String FIND_SESSION_SUMMARIES_BY_PRINCIPAL_NAME_QUERY =
+      SESSION_SUMMARY_PROJECTION + " WHERE s.principalName = $1";
+
+  // Pivotal GemFire OQL query used to look up Sessions matching a SessionQuery predicate.
+  protected static final String FIND_SESSIONS_BY_SESSION_QUERY = "SELECT s FROM %1$s s WHERE %2$s";
+
+  // Pivotal GemFire OQL query used to look up Session metadata matching a SessionQuery predicate.
+  protected static final String FIND_SESSION_SUMMARIES_BY_SESSION_QUERY = SESSION_SUMMARY_PROJECTION + " WHERE %2$s";
+
+  private volatile boolean fixedDurationExpirationEnforcedByDataGrid;
+
+  private volatile Duration fixedDurationExpirationTimeout;
+
+  private volatile PrincipalNameSessionIndex principalNameSessionIndex;
+
+  private volatile QueryCache queryCache;
+
   /**
    * Constructs a new instance of {@link GemFireOperationsSessionRepository} initialized with
    * the required {@link GemfireOperations} object used to perform data access operations
@@ -49,23 +135,142 @@ public class GemFireOperationsSessionRepository extends AbstractGemFireOperation
     super(template);
   }
 
+  /**
+   * Configures the fixed {@link Duration} after which a {@link Session} expires, measured from
+   * the {@link Session#getCreationTime() creation time}, even if the {@link Session} remains active.
+   *
+   * @param fixedDurationExpirationTimeout {@link Duration} of the absolute {@link Session} lifetime;
+   * {@literal null}, zero or negative disables fixed duration expiration.
+   * @see #setFixedDurationExpirationEnforcedByDataGrid(boolean)
+   */
+  public void setFixedDurationExpirationTimeout(@Nullable Duration fixedDurationExpirationTimeout) {
+    this.fixedDurationExpirationTimeout = fixedDurationExpirationTimeout;
+  }
+
+  /**
+   * Returns the configured fixed {@link Duration} after which a {@link Session} expires, if any.
+   *
+   * @return an {@link Optional} {@link Duration} of the absolute {@link Session} lifetime.
+   */
+  public Optional<Duration> getFixedDurationExpirationTimeout() {
+    return Optional.ofNullable(this.fixedDurationExpirationTimeout)
+        .filter(timeout -> !(timeout.isNegative() || timeout.isZero()));
+  }
+
+  /**
+   * Configures whether the data grid removes {@link Session Sessions} exceeding
+   * the {@link #getFixedDurationExpirationTimeout() fixed duration}, for example with an entry time-to-live
+   * on the {@link Session} {@link Region}.  When enforced by the data grid, a {@link Session} found to have expired
+   * on read is not deleted by this {@link SessionRepository}, avoiding a redundant round trip.
+   *
+   * @param fixedDurationExpirationEnforcedByDataGrid boolean indicating whether the data grid removes
+   * {@link Session Sessions} exceeding the fixed duration.
+   */
+  public void setFixedDurationExpirationEnforcedByDataGrid(boolean fixedDurationExpirationEnforcedByDataGrid) {
+    this.fixedDurationExpirationEnforcedByDataGrid = fixedDurationExpirationEnforcedByDataGrid;
+  }
+
+  /**
+   * Determines whether the data grid removes {@link Session Sessions} exceeding
+   * the {@link #getFixedDurationExpirationTimeout() fixed duration}.
+   *
+   * @return a boolean value indicating whether the data grid removes {@link Session Sessions} exceeding
+   * the fixed duration.
+   */
+  public boolean isFixedDurationExpirationEnforcedByDataGrid() {
+    return this.fixedDurationExpirationEnforcedByDataGrid;
+  }
+
+  /**
+   * Configures the {@link PrincipalNameSessionIndex} used to maintain a secondary mapping of principal names
+   * to {@link Session} IDs, so {@link Session Sessions} are found by principal name without an OQL query.
+   * <p>
+   * The {@link Session} event handler removes {@link Session Sessions} destroyed or expired in
+   * the {@link Session} {@link Region} from the {@link PrincipalNameSessionIndex}.
+   *
+   * @param principalNameSessionIndex {@link PrincipalNameSessionIndex} mapping principal names to
+   * {@link Session} IDs; may be {@literal null}.
+   * @see PrincipalNameSessionIndex
+   */
+  public void setPrincipalNameSessionIndex(@Nullable PrincipalNameSessionIndex principalNameSessionIndex) {
+    this.principalNameSessionIndex = principalNameSessionIndex;
+    getSessionEventHandler().ifPresent(it -> it.setPrincipalNameSessionIndex(principalNameSessionIndex));
+  }
+
+  /**
+   * Returns the configured {@link PrincipalNameSessionIndex}, if any.
+   *
+   * @return an {@link Optional} {@link PrincipalNameSessionIndex}.
+   * @see PrincipalNameSessionIndex
+   */
+  public Optional<PrincipalNameSessionIndex> getPrincipalNameSessionIndex() {
+    return Optional.ofNullable(this.principalNameSessionIndex);
+  }
+
+  /**
+   * Returns the {@link QueryCache} of compiled OQL queries used to find {@link Session Sessions}, which records
+   * query compilation and execution times.
+   * <p>
+   * The {@link QueryCache} is created on first use from the {@link QueryService} resolved for
+   * the {@link #getSessionsRegion() Sessions Region}.  If the {@link QueryService} cannot be resolved,
+   * queries are executed with the {@link #getSessionsTemplate() template} instead.
+   *
+   * @return the {@link Optional} {@link QueryCache}.
+   * @see GemFireUtils#resolveQueryService(org.apache.geode.cache.Region)
+   * @see QueryCache
+   */
+  public Optional<QueryCache> getQueryCache() {
+
+    QueryCache queryCache = this.queryCache;
+
+    if (queryCache == null) {
+      synchronized (this) {
+        queryCache = this.queryCache;
+        if (queryCache == null) {
+          queryCache = Optional.ofNullable(GemFireUtils.resolveQueryService(getSessionsRegion()))
+              .map(this::newQueryCache)
+              .orElse(null);
+          this.queryCache = queryCache;
+        }
+      }
+    }
+
+    return Optional.ofNullable(queryCache);
+  }
+
+  /**
+   * Constructs a new {@link QueryCache} used to cache compiled OQL queries.
+   *
+   * @param queryService {@link QueryService} used to compile queries.
+   * @return a new {@link QueryCache}.
+   * @see QueryCache
+   */
+  protected @NonNull QueryCache newQueryCache(@NonNull QueryService queryService) {
+    return new QueryCache(queryService);
+  }
+
   /**
    * Constructs a new {@link Session} instance backed by GemFire.
    *
    * @return an instance of {@link Session} backed by GemFire.
-   * @see GemFireSession#create()
+   * @see GemFireSession#create(org.springframework.session.SessionIdGenerator, java.time.Clock)
+   * @see #getSessionIdGenerator()
+   * @see #getClock()
    * @see Session
    * @see #configure(Session)
    */
   @NonNull
   public Session createSession() {
-    return configure(GemFireSession.create());
+    return configure(GemFireSession.create(getSessionIdGenerator(), getClock()));
   }
 
   /**
    * Finds an existing, non-expired {@link Session} by ID.
    * <p>
    * If the {@link Session} is expired, then the {@link Session} is deleted and {@literal null} is returned.
+   * A {@link Session} exceeding the {@link #getFixedDurationExpirationTimeout() fixed duration} is also expired,
+   * but only deleted when the data grid does not {@link #isFixedDurationExpirationEnforcedByDataGrid() enforce}
+   * the fixed duration.
    *
    * @param sessionId {@link String} containing the {@link Session#getId() ID}} of the {@link Session} to get.
    * @return an existing {@link Session} by ID or {@literal null} if no {@link Session} exists
@@ -76,17 +281,43 @@ public class GemFireOperationsSessionRepository extends AbstractGemFireOperation
    * @see #getSessionsTemplate()
    * @see #prepare(Session)
    * @see #delete(Session)
+   * @see #registerInterest(Session)
    */
   @Nullable
   public Session findById(String sessionId) {
 
     return Optional.ofNullable(getSessionsTemplate().get(sessionId))
-        .map(session -> ((Session) session).isExpired()
+        .map(session -> isExpired((Session) session)
             ? delete((Session) session)
-            : prepare(GemFireSession.from((Session) session)))
+            : isFixedDurationExpired((Session) session)
+            ? expireFixedDuration((Session) session)
+            : registerInterest(prepare(GemFireSession.from((Session) session))))
         .orElse(null);
   }
 
+  /**
+   * Determines whether the given {@link Session} has exceeded
+   * the {@link #getFixedDurationExpirationTimeout() fixed duration}.
+   *
+   * @param session {@link Session} to evaluate.
+   * @return a boolean value indicating whether the {@link Session} has exceeded the fixed duration.
+   * @see #getFixedDurationExpirationTimeout()
+   */
+  boolean isFixedDurationExpired(@NonNull Session session) {
+
+    Duration fixedDurationExpirationTimeout = this.fixedDurationExpirationTimeout;
+
+    return fixedDurationExpirationTimeout != null
+        && !(fixedDurationExpirationTimeout.isNegative() || fixedDurationExpirationTimeout.isZero())
+        && session.getCreationTime() != null
+        && getClock().millis() - session.getCreationTime().toEpochMilli()
+        >= fixedDurationExpirationTimeout.toMillis();
+  }
+
+  private @Nullable Session expireFixedDuration(@NonNull Session session) {
+    return isFixedDurationExpirationEnforcedByDataGrid() ? null : delete(session);
+  }
+
   /**
    * Finds all available {@link Session Sessions} with the particular attribute indexed by {@link String name}
    * having the given {@link Object value}.
@@ -99,23 +330,429 @@ public class GemFireOperationsSessionRepository extends AbstractGemFireOperation
    * @see org.springframework.data.gemfire.GemfireTemplate#find(String, Object...)
    * @see Session
    * @see Map
+   * @see #getQueryCache()
    * @see #getSessionsTemplate()
    * @see #prepareQuery(String)
    * @see #prepare(Session)
    */
   @Override
   public Map<String, Session> findByIndexNameAndIndexValue(String indexName, String indexValue) {
+    return findByIndexNameAndIndexValue(indexName, indexValue, this::prepare, this::resolve);
+  }
 
-    SelectResults<Session> results = getSessionsTemplate().find(prepareQuery(indexName), indexValue);
+  /**
+   * Finds all available {@link Session Sessions} of the given principal as {@link ReadOnlySession read-only views}.
+   *
+   * @param principalName {@link String} containing the principal name.
+   * @return a mapping of {@link Session#getId() Session IDs} to {@link ReadOnlySession read-only Sessions}.
+   * @see #findReadOnlyByIndexNameAndIndexValue(String, String)
+   */
+  public Map<String, Session> findReadOnlyByPrincipalName(String principalName) {
+    return findReadOnlyByIndexNameAndIndexValue(PRINCIPAL_NAME_INDEX_NAME, principalName);
+  }
+
+  /**
+   * Finds all available {@link Session Sessions} with the particular attribute indexed by {@link String name}
+   * having the given {@link Object value} as {@link ReadOnlySession read-only views}.
+   * <p>
+   * Unlike {@link #findByIndexNameAndIndexValue(String, String)}, the {@link Session Sessions} found are
+   * neither touched nor marked dirty, so administrative lookups do not extend the lifetime of {@link Session Sessions}
+   * and saving the returned {@link Session Sessions} does not write them back.
+   *
+   * @param indexName {@link String name} of the indexed {@link Session} attribute.
+   * @param indexValue {@link Object value} of the indexed {@link Session} attribute to search on.
+   * @return a mapping of {@link Session#getId() Session IDs} to {@link ReadOnlySession read-only Sessions}.
+   * @see #findByIndexNameAndIndexValue(String, String)
+   * @see ReadOnlySession
+   */
+  public Map<String, Session> findReadOnlyByIndexNameAndIndexValue(String indexName, String indexValue) {
+    return findByIndexNameAndIndexValue(indexName, indexValue, this::view, this::view);
+  }
+
+  private Map<String, Session> findByIndexNameAndIndexValue(String indexName, String indexValue,
+      Function<Session, Session> queriedSessionPreparer, Function<Session, Session> indexedSessionPreparer) {
+
+    if (PRINCIPAL_NAME_INDEX_NAME.equals(indexName) && getPrincipalNameSessionIndex().isPresent()) {
+      return findByPrincipalName(getPrincipalNameSessionIndex().get(), indexValue, indexedSessionPreparer);
+    }
+
+    SelectResults<Session> results = getQueryCache()
+        .map(queryCache -> queryCache.<Session>execute(FIND_SESSIONS_BY_INDEX_NAME_QUERY_KEY + indexName,
+            () -> prepareQuery(indexName), indexValue))
+        .orElseGet(() -> getSessionsTemplate().find(prepareQuery(indexName), indexValue));
 
     Map<String, Session> sessions = new HashMap<>(results.size());
 
     results.asList().forEach(session ->
-        sessions.put(session.getId(), prepare(session)));
+        sessions.put(session.getId(), queriedSessionPreparer.apply(session)));
+
+    return sessions;
+  }
+
+  /**
+   * Finds all {@link Session Sessions} of the given principal using the {@link PrincipalNameSessionIndex}.
+   * <p>
+   * The {@link Session} IDs of the principal are looked up with a single get and the {@link Session Sessions}
+   * are then fetched with a single getAll.  Unlike an OQL query, the {@link Session Sessions} found are not touched,
+   * since finding the {@link Session Sessions} of a principal does not access them.  Mappings to {@link Session
+   * Sessions} that no longer exist, have expired, or belong to another principal, are evicted from the index.
+   *
+   * @param principalNameSessionIndex {@link PrincipalNameSessionIndex} mapping principal names to {@link Session} IDs.
+   * @param principalName {@link String} containing the principal name.
+   * @param sessionPreparer {@link Function} used to prepare each {@link Session} found.
+   * @return a mapping of {@link Session#getId() Session IDs} to unexpired {@link Session} objects.
+   * @see GemfireOperations#getAll(java.util.Collection)
+   * @see PrincipalNameSessionIndex#getSessionIds(String)
+   */
+  protected Map<String, Session> findByPrincipalName(@NonNull PrincipalNameSessionIndex principalNameSessionIndex,
+      String principalName, @NonNull Function<Session, Session> sessionPreparer) {
+
+    Set<String> sessionIds = principalNameSessionIndex.getSessionIds(principalName);
+
+    Map<String, Session> sessions = new HashMap<>(sessionIds.size());
+
+    if (!sessionIds.isEmpty()) {
+
+      Map<String, Session> foundSessions = getSessionsTemplate().getAll(sessionIds);
+
+      for (String sessionId : sessionIds) {
+
+        Session session = foundSessions != null ? foundSessions.get(sessionId) : null;
+
+        if (session == null || !principalName.equals(resolvePrincipalName(session))
+            || isExpired(session) || isFixedDurationExpired(session)) {
+          principalNameSessionIndex.evict(sessionId, principalName);
+        }
+        else {
+          sessions.put(sessionId, sessionPreparer.apply(session));
+        }
+      }
+    }
+
+    return sessions;
+  }
+
+  /**
+   * Streams all {@link Session Sessions} with the particular attribute indexed by {@link String name} having
+   * the given {@link Object value} as {@link ReadOnlySession read-only views}, one page at a time.
+   * <p>
+   * Unlike {@link #findByIndexNameAndIndexValue(String, String)}, which loads every matching {@link Session}
+   * at once, the {@link Stream} is lazy and holds at most one page of {@link Session Sessions} in memory,
+   * regardless of the number of matching {@link Session Sessions}.  Each page is fetched when the previous page
+   * has been consumed, with a {@link #findSessionIdsByIndexNameAndIndexValue(String, String, String, int) keyset
+   * query} of the {@link Session} IDs followed by a single getAll of the {@link Session Sessions}.
+   * {@link Session Sessions} deleted between pages are skipped.
+   *
+   * @param indexName {@link String name} of the indexed {@link Session} attribute.
+   * @param indexValue {@link Object value} of the indexed {@link Session} attribute to search on.
+   * @param pageSize maximum number of {@link Session Sessions} fetched per page; must be greater than {@literal 0}.
+   * @return a {@link Stream} of {@link ReadOnlySession read-only Sessions} ordered by {@link Session#getId() ID}.
+   * @throws IllegalArgumentException if the page size is less than {@literal 1}.
+   * @see #findSessionIdsByIndexNameAndIndexValue(String, String, String, int)
+   * @see ReadOnlySession
+   */
+  public @NonNull Stream<Session> streamByIndexNameAndIndexValue(String indexName, String indexValue,
+      int pageSize) {
+
+    Assert.isTrue(pageSize > 0, () -> String.format("Page size [%d] must be greater than 0", pageSize));
+
+    Iterator<List<String>> pages = new Iterator<>() {
+
+      private String afterSessionId;
+
+      private boolean hasNext = true;
+
+      @Override
+      public boolean hasNext() {
+        return this.hasNext;
+      }
+
+      @Override
+      public List<String> next() {
+
+        if (!hasNext()) {
+          throw new NoSuchElementException("No more Sessions");
+        }
+
+        List<String> sessionIds =
+            findSessionIdsByIndexNameAndIndexValue(indexName, indexValue, this.afterSessionId, pageSize);
+
+        this.hasNext = sessionIds.size() == pageSize;
+        this.afterSessionId = this.hasNext ? sessionIds.get(sessionIds.size() - 1) : this.afterSessionId;
+
+        return sessionIds;
+      }
+    };
+
+    return StreamSupport.stream(Spliterators.spliteratorUnknownSize(pages, Spliterator.ORDERED), false)
+        .flatMap(this::findReadOnlyByIds);
+  }
+
+  /**
+   * Finds a page of the {@link Session#getId() IDs} of the {@link Session Sessions} with the particular
+   * attribute indexed by {@link String name} having the given {@link Object value}, ordered by ID.
+   * <p>
+   * Pass the last {@link Session} ID of a page as the cursor to fetch the next page; an empty or partial page
+   * indicates there are no more {@link Session Sessions}.
+   *
+   * @param indexName {@link String name} of the indexed {@link Session} attribute.
+   * @param indexValue {@link Object value} of the indexed {@link Session} attribute to search on.
+   * @param afterSessionId {@link String} containing the last {@link Session} ID of the previous page;
+   * {@literal null} for the first page.
+   * @param pageSize maximum number of {@link Session} IDs to return; must be greater than {@literal 0}.
+   * @return a {@link List} of {@link Session} IDs ordered by ID.
+   * @throws IllegalArgumentException if the page size is less than {@literal 1}.
+   * @see #streamByIndexNameAndIndexValue(String, String, int)
+   */
+  public @NonNull List<String> findSessionIdsByIndexNameAndIndexValue(String indexName, String indexValue,
+      @Nullable String afterSessionId, int pageSize) {
+
+    Assert.isTrue(pageSize > 0, () -> String.format("Page size [%d] must be greater than 0", pageSize));
+
+    Supplier<String> query = () -> prepareSessionIdsQuery(indexName, pageSize);
+
+    Object[] parameters = { indexValue, afterSessionId != null ? afterSessionId : "" };
+
+    SelectResults<Object> results = getQueryCache()
+        .map(queryCache -> queryCache.<Object>execute(
+            FIND_SESSION_IDS_BY_INDEX_NAME_QUERY_KEY + indexName + ":" + pageSize, query, parameters))
+        .orElseGet(() -> getSessionsTemplate().find(query.get(), parameters));
+
+    List<String> sessionIds = new ArrayList<>(results.size());
+
+    results.asList().forEach(sessionId -> sessionIds.add(String.valueOf(sessionId)));
+
+    return sessionIds;
+  }
+
+  private Stream<Session> findReadOnlyByIds(List<String> sessionIds) {
+
+    if (sessionIds.isEmpty()) {
+      return Stream.empty();
+    }
+
+    Map<String, Session> sessions = getSessionsTemplate().getAll(sessionIds);
+
+    return sessions != null
+        ? sessionIds.stream().map(sessions::get).filter(Objects::nonNull).map(this::view)
+        : Stream.empty();
+  }
+
+  /**
+   * Finds the {@link SessionSummary summaries} of all unexpired {@link Session Sessions} of the given principal.
+   *
+   * @param principalName {@link String} containing the principal name.
+   * @return a mapping of {@link Session#getId() Session IDs} to {@link SessionSummary SessionSummaries}.
+   * @see #findSessionSummariesByIndexNameAndIndexValue(String, String)
+   */
+  public @NonNull Map<String, SessionSummary> findSessionSummariesByPrincipalName(String principalName) {
+    return findSessionSummariesByIndexNameAndIndexValue(PRINCIPAL_NAME_INDEX_NAME, principalName);
+  }
+
+  /**
+   * Finds the {@link SessionSummary summaries} of all unexpired {@link Session Sessions} with the given
+   * indexed {@link Session} attribute value.
+   * <p>
+   * Unlike {@link #findByIndexNameAndIndexValue(String, String)}, a projection query selects only the
+   * {@link Session} metadata, so the {@link Session} attributes are neither sent to nor deserialized by the client.
+   * Use this method when only the {@link Session#getId() IDs}, principal name or access times are needed,
+   * for example, to list the active {@link Session Sessions} of a user or to {@link #deleteById(String) delete}
+   * them.  The {@link Session Sessions} are not touched.
+   *
+   * @param indexName {@link String} containing the name of the indexed {@link Session} attribute.
+   * @param indexValue {@link String} containing the value of the indexed {@link Session} attribute.
+   * @return a mapping of {@link Session#getId() Session IDs} to {@link SessionSummary SessionSummaries}.
+   * @see #prepareSummaryQuery(String)
+   * @see SessionSummary
+   */
+  public @NonNull Map<String, SessionSummary> findSessionSummariesByIndexNameAndIndexValue(String indexName,
+      String indexValue) {
+
+    SelectResults<Struct> results = getQueryCache()
+        .map(queryCache -> queryCache.<Struct>execute(FIND_SESSION_SUMMARIES_BY_INDEX_NAME_QUERY_KEY + indexName,
+            () -> prepareSummaryQuery(indexName), indexValue))
+        .orElseGet(() -> getSessionsTemplate().find(prepareSummaryQuery(indexName), indexValue));
+
+    return toSessionSummaries(results);
+  }
+
+  /**
+   * Finds all unexpired {@link Session Sessions} matching the given {@link SessionQuery} as
+   * {@link ReadOnlySession read-only views}.
+   * <p>
+   * The {@link SessionQuery} is compiled to a parameterized OQL query, which uses the OQL Indexes on
+   * the {@link Session} properties and attributes in the criteria, so the {@link Session Sessions} are filtered
+   * by the query engine rather than on the client.  The {@link Session Sessions} found are neither touched
+   * nor marked dirty.
+   *
+   * @param sessionQuery {@link SessionQuery} to execute; must not be {@literal null} or empty.
+   * @return a mapping of {@link Session#getId() Session IDs} to {@link ReadOnlySession read-only Sessions}.
+   * @throws IllegalArgumentException if the {@link SessionQuery} is {@literal null} or empty.
+   * @see #findSessionSummariesBySessionQuery(SessionQuery)
+   * @see SessionQuery
+   */
+  public @NonNull Map<String, Session> findReadOnlyBySessionQuery(@NonNull SessionQuery sessionQuery) {
+
+    String predicate = toPredicate(sessionQuery);
+
+    Supplier<String> query = () -> String.format(FIND_SESSIONS_BY_SESSION_QUERY, getSessionsRegionName(), predicate);
+
+    Object[] parameters = sessionQuery.getParameters();
+
+    SelectResults<Session> results = getQueryCache()
+        .map(queryCache -> queryCache.<Session>execute(FIND_SESSIONS_BY_SESSION_QUERY_KEY + predicate, query,
+            parameters))
+        .orElseGet(() -> getSessionsTemplate().find(query.get(), parameters));
+
+    Map<String, Session> sessions = new HashMap<>(results.size());
+
+    results.asList().stream()
+        .filter(session -> !isExpired(session))
+        .forEach(session -> sessions.put(session.getId(), view(session)));
 
     return sessions;
   }
 
+  /**
+   * Finds the {@link SessionSummary summaries} of all unexpired {@link Session Sessions} matching
+   * the given {@link SessionQuery}.
+   * <p>
+   * Like {@link #findSessionSummariesByIndexNameAndIndexValue(String, String)}, a projection query selects only
+   * the {@link Session} metadata, so the {@link Session} attributes are neither sent to nor deserialized by
+   * the client.
+   *
+   * @param sessionQuery {@link SessionQuery} to execute; must not be {@literal null} or empty.
+   * @return a mapping of {@link Session#getId() Session IDs} to {@link SessionSummary SessionSummaries}.
+   * @throws IllegalArgumentException if the {@link SessionQuery} is {@literal null} or empty.
+   * @see #findReadOnlyBySessionQuery(SessionQuery)
+   * @see SessionQuery
+   */
+  public @NonNull Map<String, SessionSummary> findSessionSummariesBySessionQuery(@NonNull SessionQuery sessionQuery) {
+
+    String predicate = toPredicate(sessionQuery);
+
+    Supplier<String> query = () ->
+        String.format(FIND_SESSION_SUMMARIES_BY_SESSION_QUERY, getSessionsRegionName(), predicate);
+
+    Object[] parameters = sessionQuery.getParameters();
+
+    SelectResults<Struct> results = getQueryCache()
+        .map(queryCache -> queryCache.<Struct>execute(FIND_SESSION_SUMMARIES_BY_SESSION_QUERY_KEY + predicate, query,
+            parameters))
+        .orElseGet(() -> getSessionsTemplate().find(query.get(), parameters));
+
+    return toSessionSummaries(results);
+  }
+
+  private String toPredicate(SessionQuery sessionQuery) {
+
+    Assert.notNull(sessionQuery, "SessionQuery is required");
+    Assert.isTrue(!sessionQuery.isEmpty(), "SessionQuery requires at least one criterion");
+
+    return sessionQuery.toPredicate();
+  }
+
+  private Map<String, SessionSummary> toSessionSummaries(SelectResults<Struct> results) {
+
+    long currentTimeMillis = getClock().millis();
+
+    Map<String, SessionSummary> sessionSummaries = new HashMap<>(results.size());
+
+    for (Struct result : results.asList()) {
+
+      SessionSummary sessionSummary = SessionSummary.of(String.valueOf(result.get("id")),
+          (String) result.get("principalName"), ((Number) result.get("creationTime")).longValue(),
+          ((Number) result.get("lastAccessedTime")).longValue(), ((Number) result.get("expirationTime")).longValue());
+
+      if (!sessionSummary.isExpired(currentTimeMillis)) {
+        sessionSummaries.put(sessionSummary.getSessionId(), sessionSummary);
+      }
+    }
+
+    return sessionSummaries;
+  }
+
+  /**
+   * Finds a page of {@link Session Sessions} that have already expired, ordered by expiration time.
+   *
+   * @param after {@link SessionExpiration} of the last {@link Session} in the previous page;
+   * {@literal null} for the first page.
+   * @param pageSize maximum number of {@link Session Sessions} to return; must be greater than {@literal 0}.
+   * @return a {@link List} of {@link SessionExpiration SessionExpirations} ordered by expiration time.
+   * @see #findSessionsExpiringBefore(Instant, SessionExpiration, int)
+   */
+  public @NonNull List<SessionExpiration> findExpiredSessions(@Nullable SessionExpiration after, int pageSize) {
+    return findSessionsExpiringBefore(getClock().instant(), after, pageSize);
+  }
+
+  /**
+   * Finds a page of {@link Session Sessions} expiring within the given {@link Duration} from now,
+   * including {@link Session Sessions} that have already expired, ordered by expiration time.
+   *
+   * @param within {@link Duration} from now; must not be {@literal null}.
+   * @param after {@link SessionExpiration} of the last {@link Session} in the previous page;
+   * {@literal null} for the first page.
+   * @param pageSize maximum number of {@link Session Sessions} to return; must be greater than {@literal 0}.
+   * @return a {@link List} of {@link SessionExpiration SessionExpirations} ordered by expiration time.
+   * @see #findSessionsExpiringBefore(Instant, SessionExpiration, int)
+   */
+  public @NonNull List<SessionExpiration> findSessionsExpiringWithin(@NonNull Duration within,
+      @Nullable SessionExpiration after, int pageSize) {
+
+    Assert.notNull(within, "Duration is required");
+
+    return findSessionsExpiringBefore(getClock().instant().plus(within), after, pageSize);
+  }
+
+  /**
+   * Finds a page of {@link Session Sessions} expiring before the given {@link Instant}, ordered by
+   * expiration time and {@link Session#getId() ID}.
+   * <p>
+   * Pages are fetched with a keyset (seek) query on the derived {@literal expirationTime} field, which uses
+   * the expiration time Index when present, so each page costs the same regardless of its position.
+   * Pass the last {@link SessionExpiration} of a page as the cursor to fetch the next page; an empty or partial
+   * page indicates there are no more {@link Session Sessions}.
+   *
+   * @param expiringBefore {@link Instant} before which the {@link Session Sessions} expire;
+   * must not be {@literal null}.
+   * @param after {@link SessionExpiration} of the last {@link Session} in the previous page;
+   * {@literal null} for the first page.
+   * @param pageSize maximum number of {@link Session Sessions} to return; must be greater than {@literal 0}.
+   * @return a {@link List} of {@link SessionExpiration SessionExpirations} ordered by expiration time.
+   * @throws IllegalArgumentException if the {@link Instant} is {@literal null} or the page size
+   * is less than {@literal 1}.
+   * @see GemFireSession#getExpirationTime()
+   * @see SessionExpiration
+   */
+  public @NonNull List<SessionExpiration> findSessionsExpiringBefore(@NonNull Instant expiringBefore,
+      @Nullable SessionExpiration after, int pageSize) {
+
+    Assert.notNull(expiringBefore, "Instant is required");
+    Assert.isTrue(pageSize > 0, () -> String.format("Page size [%d] must be greater than 0", pageSize));
+
+    Supplier<String> query = () ->
+        String.format(FIND_SESSIONS_EXPIRING_BEFORE_QUERY, getSessionsRegionName(), pageSize);
+
+    long afterExpirationTime = after != null ? after.getExpirationTime() : Long.MIN_VALUE;
+    String afterSessionId = after != null ? after.getSessionId() : "";
+
+    Object[] parameters = { expiringBefore.toEpochMilli(), afterExpirationTime, afterSessionId };
+
+    SelectResults<Struct> results = getQueryCache()
+        .map(queryCache -> queryCache.<Struct>execute(FIND_SESSIONS_EXPIRING_BEFORE_QUERY_KEY + pageSize,
+            query, parameters))
+        .orElseGet(() -> getSessionsTemplate().find(query.get(), parameters));
+
+    List<SessionExpiration> sessionExpirations = new ArrayList<>(results.size());
+
+    for (Struct result : results.asList()) {
+      sessionExpirations.add(SessionExpiration.of(String.valueOf(result.get("id")),
+          ((Number) result.get("expirationTime")).longValue()));
+    }
+
+    return sessionExpirations;
+  }
+
   /**
    * Prepares the appropriate Pivotal GemFire OQL query based on the indexed Session attribute
    * name.
@@ -134,6 +771,44 @@ public class GemFireOperationsSessionRepository extends AbstractGemFireOperation
         : String.format(FIND_SESSIONS_BY_INDEX_NAME_AND_INDEX_VALUE_QUERY, fullyQualifiedRegionName, indexName);
   }
 
+  /**
+   * Prepares the Pivotal GemFire OQL projection query selecting {@link SessionSummary Session metadata}
+   * based on the indexed Session attribute name.
+   *
+   * @param indexName a String indicating the name of the indexed Session attribute.
+   * @return an appropriate Pivotal GemFire OQL projection query for a particular indexed Session attribute.
+   * @see #getSessionsRegionName()
+   */
+  protected String prepareSummaryQuery(String indexName) {
+
+    String fullyQualifiedRegionName = getSessionsRegionName();
+
+    return PRINCIPAL_NAME_INDEX_NAME.equals(indexName)
+        ? String.format(FIND_SESSION_SUMMARIES_BY_PRINCIPAL_NAME_QUERY, fullyQualifiedRegionName)
+        : String.format(FIND_SESSION_SUMMARIES_BY_INDEX_NAME_AND_INDEX_VALUE_QUERY, fullyQualifiedRegionName,
+            indexName);
+  }
+
+  /**
+   * Prepares the Pivotal GemFire OQL query used to page through the {@link Session} IDs based on
+   * the indexed Session attribute name.
+   *
+   * @param indexName a String indicating the name of the indexed Session attribute.
+   * @param pageSize maximum number of {@link Session} IDs per page.
+   * @return an appropriate Pivotal GemFire OQL query paging through the IDs of Sessions with a particular
+   * indexed Session attribute.
+   * @see #getSessionsRegionName()
+   */
+  protected String prepareSessionIdsQuery(String indexName, int pageSize) {
+
+    String fullyQualifiedRegionName = getSessionsRegionName();
+
+    return PRINCIPAL_NAME_INDEX_NAME.equals(indexName)
+        ? String.format(FIND_SESSION_IDS_BY_PRINCIPAL_NAME_QUERY, fullyQualifiedRegionName, pageSize)
+        : String.format(FIND_SESSION_IDS_BY_INDEX_NAME_AND_INDEX_VALUE_QUERY, fullyQualifiedRegionName, indexName,
+            pageSize);
+  }
+
   /**
    * Prepares the (loaded) {@link Session} for use.
    *
@@ -145,7 +820,31 @@ public class GemFireOperationsSessionRepository extends AbstractGemFireOperation
    * @see #touch(Session)
    */
   private Session prepare(Session session) {
-    return touch(commit(configure(session)));
+    return touch(resolve(session));
+  }
+
+  /**
+   * Resolves the (loaded) {@link Session} for use without touching it.
+   *
+   * @param session {@link Session} to resolve.
+   * @return the resolved {@link Session}.
+   * @see #configure(Session)
+   * @see #commit(Session)
+   */
+  private Session resolve(Session session) {
+    return commit(configure(session));
+  }
+
+  /**
+   * Returns a {@link ReadOnlySession read-only view} of the (loaded) {@link Session}.
+   *
+   * @param session {@link Session} to view.
+   * @return a {@link ReadOnlySession read-only view} of the {@link Session}.
+   * @see ReadOnlySession
+   * @see #resolve(Session)
+   */
+  private Session view(Session session) {
+    return ReadOnlySession.from(resolve(session));
   }
 
   /**
@@ -170,6 +869,7 @@ public class GemFireOperationsSessionRepository extends AbstractGemFireOperation
 
   /**
    * Determines whether the given {@link Session} is dirty (i.e. has any changes).
+   * A {@link ReadOnlySession} is never dirty.
    *
    * @param session {@link Session} to evaluate.
    * @return a boolean value indicating whether the {@link Session} is dirty or not.
@@ -177,7 +877,10 @@ public class GemFireOperationsSessionRepository extends AbstractGemFireOperation
    * @see Session
    */
   private boolean isDirty(@NonNull Session session) {
-    return !(session instanceof GemFireSession) || ((GemFireSession<?>) session).hasDelta();
+
+    return session instanceof GemFireSession
+        ? ((GemFireSession<?>) session).hasDelta()
+        : !(session instanceof ReadOnlySession);
   }
 
   /**
@@ -200,14 +903,21 @@ public class GemFireOperationsSessionRepository extends AbstractGemFireOperation
    * @see org.springframework.data.gemfire.GemfireTemplate#put(Object, Object)
    * @see Session
    * @see #commit(Session)
+   * @see #registerInterest(Session)
    */
   void doSave(@NonNull Session session) {
 
     // Save Session As GemFireSession
     getSessionsTemplate().put(session.getId(), GemFireSession.from(session));
 
+    // Index the Session by principal name, if necessary
+    getPrincipalNameSessionIndex().ifPresent(index -> index.index(session.getId(), resolvePrincipalName(session)));
+
     // Commit Session
     commit(session);
+
+    // Register Interest in the Session, if necessary
+    registerInterest(session);
   }
 
   /**
@@ -222,6 +932,237 @@ public class GemFireOperationsSessionRepository extends AbstractGemFireOperation
     Session sessionBeforeRemoval = getSessionsTemplate().get(sessionId);
     Session removedSession = getSessionsTemplate().<Object, Session>remove(sessionId);
     Session session = removedSession != null ? removedSession : sessionBeforeRemoval;
+    getPrincipalNameSessionIndex().ifPresent(index ->
+        index.unindex(sessionId, session != null ? resolvePrincipalName(session) : null));
     handleDeleted(sessionId, session);
   }
+
+  /**
+   * Removes the {@link Session} with the given {@link Session#getId() ID} after it was moved to the {@link Region}
+   * of another route by the {@link RoutingGemFireOperationsSessionRepository}.
+   * <p>
+   * The {@link Session} still exists, so it is removed with
+   * the {@link RoutingGemFireOperationsSessionRepository#SESSION_MOVED_CALLBACK_ARGUMENT} and,
+   * unlike {@link #deleteById(String)}, no {@link org.springframework.session.events.SessionDeletedEvent}
+   * is published.
+   *
+   * @param sessionId {@link String} containing the {@link Session#getId() ID} of the moved {@link Session}.
+   * @see RoutingGemFireOperationsSessionRepository#save(Session)
+   */
+  void removeMovedSession(String sessionId) {
+
+    Session session = getSessionsTemplate().get(sessionId);
+
+    try {
+      getSessionsRegion().destroy(sessionId, RoutingGemFireOperationsSessionRepository.SESSION_MOVED_CALLBACK_ARGUMENT);
+    }
+    catch (EntryNotFoundException ignore) {
+      // Session was not stored under the previous ID
+    }
+
+    getPrincipalNameSessionIndex().ifPresent(index ->
+        index.unindex(sessionId, session != null ? resolvePrincipalName(session) : null));
+  }
+
+  /**
+   * Deletes all {@link Session Sessions} of the given principal.
+   *
+   * @param principalName {@link String} containing the principal name.
+   * @return a {@link Set} of the {@link Session#getId() IDs} of the deleted {@link Session Sessions}.
+   * @see #deleteByPrincipalNames(Collection)
+   */
+  public @NonNull Set<String> deleteByPrincipalName(String principalName) {
+    return deleteByPrincipalNames(Collections.singleton(principalName));
+  }
+
+  /**
+   * Deletes all {@link Session Sessions} of the given principals in bulk.
+   * <p>
+   * In a client-server topology, the {@link DeleteSessionsByPrincipalNameFunction} is executed on the
+   * {@link Session} {@link Region}, deleting the {@link Session Sessions} in place and in parallel on the servers
+   * hosting the data, so no {@link Session} is sent to the client.  If the Function is not registered
+   * on the servers, or the {@link Session} {@link Region} is local, the {@link Session Sessions}
+   * are {@link #findSessionSummariesByPrincipalName(String) found} and {@link #deleteById(String) deleted}
+   * one at a time.  In either case, a {@link org.springframework.session.events.SessionDeletedEvent}
+   * is published for each deleted {@link Session}.
+   * <p>
+   * Any other failure of the Function is not retried one {@link Session} at a time; the {@link Session Sessions}
+   * deleted before the failure are still unindexed and published, and their IDs are carried by
+   * the {@link SessionDeletionException}.
+   *
+   * @param principalNames {@link Collection} of principal names; must not be {@literal null}.
+   * @return a {@link Set} of the {@link Session#getId() IDs} of the deleted {@link Session Sessions}.
+   * @throws IllegalArgumentException if the {@link Collection} of principal names is {@literal null}.
+   * @throws SessionDeletionException if the Function fails on the servers.
+   * @see DeleteSessionsByPrincipalNameFunction
+   */
+  public @NonNull Set<String> deleteByPrincipalNames(@NonNull Collection<String> principalNames) {
+
+    Assert.notNull(principalNames, "Principal names are required");
+
+    Set<String> resolvedPrincipalNames = new HashSet<>();
+
+    principalNames.stream()
+        .filter(StringUtils::hasText)
+        .forEach(resolvedPrincipalNames::add);
+
+    if (resolvedPrincipalNames.isEmpty()) {
+      return Collections.emptySet();
+    }
+
+    if (GemFireUtils.isNonLocalClientRegion(getSessionsRegion())) {
+
+      Optional<Set<String>> deletedSessionIds = deleteOnServers(resolvedPrincipalNames);
+
+      if (deletedSessionIds.isPresent()) {
+        return deletedSessionIds.get();
+      }
+    }
+
+    Set<String> deletedSessionIds = new HashSet<>();
+
+    for (String principalName : resolvedPrincipalNames) {
+      for (String sessionId : findSessionSummariesByPrincipalName(principalName).keySet()) {
+        deleteById(sessionId);
+        deletedSessionIds.add(sessionId);
+      }
+    }
+
+    return Collections.unmodifiableSet(deletedSessionIds);
+  }
+
+  /**
+   * Deletes the {@link Session Sessions} of the given principals on the servers with
+   * the {@link DeleteSessionsByPrincipalNameFunction}.
+   * <p>
+   * The {@link Session Sessions} deleted on the servers are unindexed, destroyed in the client {@link Region}
+   * when it stores data locally, as a {@literal CACHING_PROXY} does, and a
+   * {@link org.springframework.session.events.SessionDeletedEvent} is published for each, even when the
+   * {@link DeleteSessionsByPrincipalNameFunction} fails on some servers.  The destroy events caused by
+   * the {@link DeleteSessionsByPrincipalNameFunction} do not publish another event.
+   *
+   * @param principalNames {@link Set} of principal names.
+   * @return the {@link Set} of the {@link Session#getId() IDs} of the deleted {@link Session Sessions},
+   * or {@link Optional#empty()} if the {@link DeleteSessionsByPrincipalNameFunction} is not registered
+   * on the servers.
+   * @throws SessionDeletionException if the {@link DeleteSessionsByPrincipalNameFunction} fails, carrying
+   * the {@link Session#getId() IDs} of the {@link Session Sessions} deleted before the failure.
+   */
+  private Optional<Set<String>> deleteOnServers(Set<String> principalNames) {
+
+    DeletedSessionsResultCollector resultCollector = new DeletedSessionsResultCollector();
+
+    RuntimeException failure = null;
+
+    try {
+      newSessionsRegionExecution()
+          .setArguments(new ArrayList<>(principalNames))
+          .withCollector(resultCollector)
+          .execute(DeleteSessionsByPrincipalNameFunction.ID)
+          .getResult();
+    }
+    catch (RuntimeException cause) {
+
+      if (isFunctionNotRegistered(cause)) {
+
+        getLogger().warn("The [{}] Function is not registered on the servers; Deploy and register the Function"
+            + " with gfsh to delete Sessions in bulk; Deleting the Sessions of principals {} one at a time",
+            DeleteSessionsByPrincipalNameFunction.ID, principalNames);
+
+        return Optional.empty();
+      }
+
+      failure = cause;
+    }
+
+    Map<String, String> deletedSessions = resultCollector.getResult();
+
+    boolean locallyCached = isLocallyCached(getSessionsRegion());
+
+    deletedSessions.forEach((sessionId, principalName) -> {
+      getPrincipalNameSessionIndex().ifPresent(index -> index.unindex(sessionId, principalName));
+
+      if (locallyCached) {
+        localDestroy(sessionId);
+      }
+
+      handleDeleted(sessionId, null);
+    });
+
+    Set<String> deletedSessionIds = Collections.unmodifiableSet(new HashSet<>(deletedSessions.keySet()));
+
+    Throwable resolvedFailure = failure != null ? failure
+        : resultCollector.getFailures().stream().findFirst().orElse(null);
+
+    if (resolvedFailure != null) {
+      throw new SessionDeletionException(String.format("Failed to delete the Sessions of principals %s"
+          + " on the servers; [%d] Sessions were deleted", principalNames, deletedSessionIds.size()),
+          resolvedFailure, deletedSessionIds);
+    }
+
+    return Optional.of(deletedSessionIds);
+  }
+
+  private boolean isLocallyCached(Region<Object, Session> sessionsRegion) {
+
+    RegionAttributes<Object, Session> regionAttributes = sessionsRegion.getAttributes();
+
+    return regionAttributes != null && regionAttributes.getDataPolicy() != null
+        && regionAttributes.getDataPolicy().withStorage();
+  }
+
+  /**
+   * Destroys the client copy of the given {@link Session} deleted on the servers, so that it is not served
+   * from the client {@link Region} when the client does not receive the destroy events from the servers.
+   *
+   * @param sessionId {@link String} containing the {@link Session#getId() ID} of the deleted {@link Session}.
+   */
+  private void localDestroy(String sessionId) {
+
+    try {
+      getSessionsRegion()
+          .localDestroy(sessionId, DeleteSessionsByPrincipalNameFunction.SESSION_DELETED_CALLBACK_ARGUMENT);
+    }
+    catch (EntryNotFoundException ignore) {
+      // Session is not cached locally, or was already destroyed by the event from the servers
+    }
+    catch (RuntimeException cause) {
+      getLogger().warn(String.format("Failed to destroy the client copy of deleted Session [%s]", sessionId), cause);
+    }
+  }
+
+  /**
+   * Determines whether the given failure was caused by the {@link DeleteSessionsByPrincipalNameFunction}
+   * not being registered on the servers.
+   *
+   * @param cause {@link Throwable} to evaluate.
+   * @return a boolean value indicating whether the {@link DeleteSessionsByPrincipalNameFunction}
+   * is not registered on the servers.
+   */
+  boolean isFunctionNotRegistered(@Nullable Throwable cause) {
+
+    for (Throwable current = cause; current != null; current = current.getCause()) {
+
+      String message = current.getMessage();
+
+      if (message != null && message.contains(DeleteSessionsByPrincipalNameFunction.ID)
+          && message.contains("not registered")) {
+
+        return true;
+      }
+    }
+
+    return false;
+  }
+
+  /**
+   * Constructs a new {@link Execution} used to execute the {@link DeleteSessionsByPrincipalNameFunction}
+   * on the {@link Session} {@link Region}.
+   *
+   * @return a new {@link Execution} on the {@link Session} {@link Region}.
+   * @see FunctionService#onRegion(Region)
+   */
+  protected @NonNull Execution newSessionsRegionExecution() {
+    return FunctionService.onRegion(getSessionsRegion());
+  }
 }
@@ -0,0 +1,329 @@
+/*
+ * Copyright 2024 Broadcom. All rights reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.springframework.session.data.gemfire;
+
+import org.apache.geode.cache.EntryEvent;
+import org.apache.geode.cache.Region;
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+import org.springframework.session.FindByIndexNameSessionRepository;
+import org.springframework.session.Session;
+import org.springframework.session.SessionIdGenerator;
+import org.springframework.session.SessionRepository;
+import org.springframework.session.UuidSessionIdGenerator;
+import org.springframework.session.data.gemfire.AbstractGemFireOperationsSessionRepository.GemFireSession;
+import org.springframework.session.data.gemfire.support.SessionClassifier;
+import org.springframework.util.Assert;
+import org.springframework.util.StringUtils;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * {@link RoutingGemFireOperationsSessionRepository} is a Spring {@link SessionRepository} that stores
+ * {@link Session Sessions} in one of several {@link Region Regions}, each managed by its own, independently
+ * configured {@link GemFireOperationsSessionRepository}, based on a {@link SessionClassifier}.
+ * <p>
+ * The route of a {@link Session} is encoded in its {@link Session#getId() ID} as a prefix, separated by
+ * {@link #ROUTE_SEPARATOR}, so {@link #findById(String)} and {@link #deleteById(String)} access exactly one
+ * {@link Region}.  {@link Session} IDs without a known route prefix, such as the IDs of {@link Session Sessions}
+ * stored before routing was introduced, belong to the default route.  The {@link Session Sessions} created and
+ * found by this {@link SessionRepository} generate route-prefixed IDs, so the route is kept when
+ * the {@link Session#changeSessionId() Session ID is changed}, for example on sign in.
+ * <p>
+ * {@link Session Sessions} are classified when created and again when saved.  When a saved {@link Session}
+ * is classified into a different route, for example after the user signs in, the {@link Session} is given
+ * a new ID encoding the new route, stored in the new {@link Region} and removed from the previous
+ * {@link Region} with the {@link #SESSION_MOVED_CALLBACK_ARGUMENT}, so no deletion event is published for
+ * the moved {@link Session}.  Lookups by index name and value are executed on every route.
+ * <p>
+ * Declare this {@link SessionRepository} as the {@literal @Primary} {@link SessionRepository} bean so
+ * it is used by Spring Session's {@link org.springframework.session.web.http.SessionRepositoryFilter}.
+ *
+ * @author John Blum
+ * @see FindByIndexNameSessionRepository
+ * @see GemFireOperationsSessionRepository
+ * @see SessionClassifier
+ * @since 1.0.0
+ */
+public class RoutingGemFireOperationsSessionRepository implements FindByIndexNameSessionRepository<Session> {
+
+  public static final String ROUTE_SEPARATOR = ".";
+
+  public static final String SESSION_MOVED_CALLBACK_ARGUMENT = "SessionMoved";
+
+  /**
+   * Determines whether the given {@link EntryEvent} is the removal of a {@link Session} moved to another route.
+   *
+   * @param event {@link EntryEvent} to evaluate.
+   * @return a boolean value indicating whether the {@link EntryEvent} is the removal of a moved {@link Session}.
+   * @see #SESSION_MOVED_CALLBACK_ARGUMENT
+   */
+  public static boolean isSessionMoved(@Nullable EntryEvent<?, ?> event) {
+    return event != null && SESSION_MOVED_CALLBACK_ARGUMENT.equals(event.getCallbackArgument());
+  }
+
+  private final Map<String, GemFireOperationsSessionRepository> repositories;
+
+  private final SessionClassifier sessionClassifier;
+
+  private final String defaultRoute;
+
+  /**
+   * Constructs a new instance of {@link RoutingGemFireOperationsSessionRepository}.
+   *
+   * @param repositories {@link Map} of route names to the {@link GemFireOperationsSessionRepository} managing
+   * the {@link Session Sessions} of each route; must not be {@literal null} or empty.
+   * @param defaultRoute {@link String} containing the name of the route used when a {@link Session}
+   * is not classified; must be one of the routes.
+   * @param sessionClassifier {@link SessionClassifier} used to classify {@link Session Sessions};
+   * must not be {@literal null}.
+   * @throws IllegalArgumentException if no routes are given, a route name is invalid, the default route
+   * is not one of the routes or the {@link SessionClassifier} is {@literal null}.
+   */
+  public RoutingGemFireOperationsSessionRepository(
+      @NonNull Map<String, ? extends GemFireOperationsSessionRepository> repositories,
+      @NonNull String defaultRoute, @NonNull SessionClassifier sessionClassifier) {
+
+    Assert.notEmpty(repositories, "Routes are required");
+    Assert.notNull(sessionClassifier, "SessionClassifier is required");
+
+    repositories.forEach((route, repository) -> {
+      Assert.isTrue(StringUtils.hasText(route) && !route.contains(ROUTE_SEPARATOR),
+          () -> String.format("Route [%s] must not be empty or contain [%s]", route, ROUTE_SEPARATOR));
+      Assert.notNull(repository, () -> String.format("SessionRepository for route [%s] is required", route));
+    });
+
+    Assert.isTrue(repositories.containsKey(defaultRoute),
+        () -> String.format("Default route [%s] must be one of %s", defaultRoute, repositories.keySet()));
+
+    this.repositories = Collections.unmodifiableMap(new LinkedHashMap<>(repositories));
+    this.defaultRoute = defaultRoute;
+    this.sessionClassifier = sessionClassifier;
+  }
+
+  public @NonNull String getDefaultRoute() {
+    return this.defaultRoute;
+  }
+
+  public @NonNull Set<String> getRoutes() {
+    return this.repositories.keySet();
+  }
+
+  public @NonNull SessionClassifier getSessionClassifier() {
+    return this.sessionClassifier;
+  }
+
+  /**
+   * Returns the {@link GemFireOperationsSessionRepository} of the given route, or of the {@link #getDefaultRoute()
+   * default route} if the route is {@literal null} or unknown.
+   *
+   * @param route {@link String} containing the name of the route.
+   * @return the {@link GemFireOperationsSessionRepository} of the route.
+   */
+  public @NonNull GemFireOperationsSessionRepository getRepository(@Nullable String route) {
+
+    GemFireOperationsSessionRepository repository = route != null ? this.repositories.get(route) : null;
+
+    return repository != null ? repository : this.repositories.get(getDefaultRoute());
+  }
+
+  /**
+   * Resolves the route encoded in the given {@link Session#getId() Session ID}.
+   *
+   * @param sessionId {@link String} containing the {@link Session#getId() Session ID}.
+   * @return the route encoded in the {@link Session#getId() Session ID}, or {@literal null}
+   * if the {@link Session#getId() Session ID} does not start with a known route.
+   */
+  protected @Nullable String resolveRoute(@Nullable String sessionId) {
+
+    int index = sessionId != null ? sessionId.indexOf(ROUTE_SEPARATOR) : -1;
+
+    String route = index > 0 ? sessionId.substring(0, index) : null;
+
+    return route != null && this.repositories.containsKey(route) ? route : null;
+  }
+
+  /**
+   * Classifies the given {@link Session} into one of the {@link #getRoutes() routes}.
+   *
+   * @param session {@link Session} to classify.
+   * @return the route of the {@link Session}, or the {@link #getDefaultRoute() default route}
+   * if the {@link Session} is not classified into a known route.
+   * @see SessionClassifier#classify(Session)
+   */
+  protected @NonNull String classify(@NonNull Session session) {
+
+    String route = getSessionClassifier().classify(session);
+
+    return route != null && this.repositories.containsKey(route) ? route : getDefaultRoute();
+  }
+
+  private String toSessionId(String route, String sessionId) {
+    return route + ROUTE_SEPARATOR + sessionId;
+  }
+
+  /**
+   * Configures the given {@link Session} to generate IDs encoding the given route when
+   * its {@link Session#changeSessionId() ID is changed}.
+   *
+   * @param session {@link Session} to configure.
+   * @param route {@link String} containing the name of the route of the {@link Session}.
+   * @return the given {@link Session}.
+   */
+  private @Nullable Session configure(@Nullable Session session, @NonNull String route) {
+
+    if (session instanceof GemFireSession) {
+      ((GemFireSession<?>) session).configureWith(new RouteSessionIdGenerator(route,
+          getRepository(route).getSessionIdGenerator()));
+    }
+
+    return session;
+  }
+
+  /**
+   * Creates a new {@link Session} with the {@link GemFireOperationsSessionRepository} of the route
+   * the new {@link Session} is classified into, and encodes the route in the {@link Session#getId() Session ID}.
+   *
+   * @return a new {@link Session}.
+   * @see GemFireOperationsSessionRepository#createSession()
+   */
+  @Override
+  public Session createSession() {
+
+    Session session = getRepository(getDefaultRoute()).createSession();
+
+    String route = classify(session);
+
+    if (!getDefaultRoute().equals(route)) {
+      session = getRepository(route).createSession();
+    }
+
+    GemFireSession<?> gemfireSession = GemFireSession.from(session);
+
+    gemfireSession.setId(toSessionId(route, gemfireSession.getId()));
+
+    return configure(gemfireSession, route);
+  }
+
+  /**
+   * Saves the given {@link Session} in the {@link Region} of the route the {@link Session} is classified into.
+   * <p>
+   * If the {@link Session} is classified into a route other than the route encoded in its
+   * {@link Session#getId() ID}, then the {@link Session} ID is changed to encode the new route
+   * and the {@link Session} is removed from the {@link Region} of the previous route without publishing
+   * a deletion event.  A {@link Session} with an ID that does not encode a route, such as a {@link Session}
+   * stored before routing was enabled, is removed from the {@link Region} of the {@link #getDefaultRoute()
+   * default route}.  Only
+   * a {@link GemFireSession} can be moved; any other {@link Session} is saved in the route encoded
+   * in its {@link Session#getId() ID}.
+   *
+   * @param session {@link Session} to save.
+   * @see GemFireOperationsSessionRepository#save(Session)
+   */
+  @Override
+  public void save(@Nullable Session session) {
+
+    if (session != null) {
+
+      String currentRoute = resolveRoute(session.getId());
+      String route = classify(session);
+
+      if (!route.equals(currentRoute) && session instanceof GemFireSession) {
+
+        GemFireSession<?> gemfireSession = (GemFireSession<?>) session;
+
+        String previousSessionId = gemfireSession.getId();
+
+        configure(gemfireSession, route);
+
+        if (currentRoute != null) {
+          gemfireSession.changeSessionId();
+        }
+        else {
+          gemfireSession.setId(toSessionId(route, gemfireSession.getId()));
+          gemfireSession.triggerDelta();
+        }
+
+        getRepository(route).save(gemfireSession);
+        getRepository(currentRoute).removeMovedSession(previousSessionId);
+      }
+      else {
+        getRepository(currentRoute).save(session);
+      }
+    }
+  }
+
+  /**
+   * Finds the {@link Session} with the given {@link Session#getId() ID} in the {@link Region} of the route
+   * encoded in the {@link Session#getId() ID}.
+   *
+   * @param sessionId {@link String} containing the {@link Session#getId() Session ID}.
+   * @return the {@link Session}, or {@literal null} if no {@link Session} exists or the {@link Session} expired.
+   * @see GemFireOperationsSessionRepository#findById(String)
+   */
+  @Override
+  public @Nullable Session findById(String sessionId) {
+
+    String route = resolveRoute(sessionId);
+
+    return configure(getRepository(route).findById(sessionId), route != null ? route : getDefaultRoute());
+  }
+
+  /**
+   * Deletes the {@link Session} with the given {@link Session#getId() ID} from the {@link Region} of the route
+   * encoded in the {@link Session#getId() ID}.
+   *
+   * @param sessionId {@link String} containing the {@link Session#getId() Session ID}.
+   * @see GemFireOperationsSessionRepository#deleteById(String)
+   */
+  @Override
+  public void deleteById(String sessionId) {
+    getRepository(resolveRoute(sessionId)).deleteById(sessionId);
+  }
+
+  /**
+   * Finds the {@link Session Sessions} with the given index value on every route.
+   *
+   * @param indexName {@link String name} of the indexed {@link Session} attribute.
+   * @param indexValue {@link String value} of the indexed {@link Session} attribute.
+   * @return a mapping of {@link Session#getId() Session IDs} to {@link Session Sessions}.
+   * @see GemFireOperationsSessionRepository#findByIndexNameAndIndexValue(String, String)
+   */
+  @Override
+  public Map<String, Session> findByIndexNameAndIndexValue(String indexName, String indexValue) {
+
+    Map<String, Session> sessions = new LinkedHashMap<>();
+
+    this.repositories.values().forEach(repository ->
+        sessions.putAll(repository.findByIndexNameAndIndexValue(indexName, indexValue)));
+
+    return sessions;
+  }
+
+  /**
+   * {@link SessionIdGenerator} prefixing the IDs generated by the {@link SessionIdGenerator} of a route
+   * with the route.
+   */
+  private static final class RouteSessionIdGenerator implements SessionIdGenerator {
+
+    private final SessionIdGenerator sessionIdGenerator;
+
+    private final String route;
+
+    private RouteSessionIdGenerator(@NonNull String route, @Nullable SessionIdGenerator sessionIdGenerator) {
+      this.route = route;
+      this.sessionIdGenerator = sessionIdGenerator != null ? sessionIdGenerator
+          : UuidSessionIdGenerator.getInstance();
+    }
+
+    @Override
+    public @NonNull String generate() {
+      return this.route + ROUTE_SEPARATOR + this.sessionIdGenerator.generate();
+    }
+  }
+}
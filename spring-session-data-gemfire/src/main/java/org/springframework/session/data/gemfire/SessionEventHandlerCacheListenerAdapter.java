@@ -6,14 +6,23 @@
 package org.springframework.session.data.gemfire;
 
 import org.apache.geode.cache.EntryEvent;
+import org.apache.geode.cache.Operation;
 import org.apache.geode.cache.Region;
 import org.apache.geode.cache.util.CacheListenerAdapter;
 import org.springframework.context.ApplicationEvent;
 import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
 import org.springframework.session.Session;
 import org.springframework.session.SessionRepository;
 import org.springframework.session.data.gemfire.events.SessionChangedEvent;
+import org.springframework.session.data.gemfire.events.SessionEventExecutor;
+import org.springframework.session.data.gemfire.events.SessionExpiredEventBatcher;
+import org.springframework.session.data.gemfire.events.SessionsExpiredBatchEvent;
+import org.springframework.session.data.gemfire.expiration.support.ExpiredSessionSweeperFunction;
 import org.springframework.session.data.gemfire.model.BoundedRingHashSet;
+import org.springframework.session.data.gemfire.support.DeleteSessionsByPrincipalNameFunction;
+import org.springframework.session.data.gemfire.support.PrincipalNameSessionIndex;
+import org.springframework.session.data.gemfire.support.SessionInterestManager;
 import org.springframework.session.data.gemfire.support.SessionUtils;
 import org.springframework.session.events.AbstractSessionEvent;
 import org.springframework.session.events.SessionDeletedEvent;
@@ -22,14 +31,38 @@ import org.springframework.session.events.SessionExpiredEvent;
 import org.springframework.util.Assert;
 import org.springframework.util.ObjectUtils;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 
 public class SessionEventHandlerCacheListenerAdapter extends CacheListenerAdapter<Object, Session> {
 
+  protected static final String SESSION_CHANGED_EVENT_COALESCING_THREAD_NAME = "SessionChangedEventCoalescingThread";
+
   private final AbstractGemFireOperationsSessionRepository sessionRepository;
 
   private final BoundedRingHashSet cachedSessionIds;
 
+  private volatile SessionEventExecutor sessionEventExecutor;
+
+  private volatile SessionExpiredEventBatcher sessionExpiredEventBatcher;
+
+  private volatile PrincipalNameSessionIndex principalNameSessionIndex;
+
+  private volatile SessionInterestManager sessionInterestManager;
+
+  private volatile Duration sessionChangedEventCoalescingWindow = Duration.ZERO;
+
+  private final Map<Object, ApplicationEvent> pendingSessionChangedEvents = new ConcurrentHashMap<>();
+
+  private volatile ScheduledExecutorService sessionChangedEventScheduler;
+
   /**
    * Constructs a new instance of the {@link SessionEventHandlerCacheListenerAdapter} initialized with
    * the given {@link AbstractGemFireOperationsSessionRepository}.
@@ -58,6 +91,142 @@ public class SessionEventHandlerCacheListenerAdapter extends CacheListenerAdapte
     return this.sessionRepository;
   }
 
+  /**
+   * Configures the {@link SessionEventExecutor} used to publish {@link AbstractSessionEvent Session events}
+   * asynchronously while preserving the order of events for each {@link Session}.
+   *
+   * @param sessionEventExecutor {@link SessionEventExecutor} used to dispatch {@link Session} events;
+   *                             may be {@literal null} to publish events on the calling {@link Thread}.
+   * @see SessionEventExecutor
+   */
+  public void setSessionEventExecutor(@Nullable SessionEventExecutor sessionEventExecutor) {
+    this.sessionEventExecutor = sessionEventExecutor;
+  }
+
+  /**
+   * Returns the configured {@link SessionEventExecutor}, if any.
+   *
+   * @return an {@link Optional} {@link SessionEventExecutor}.
+   * @see SessionEventExecutor
+   */
+  protected Optional<SessionEventExecutor> getSessionEventExecutor() {
+    return Optional.ofNullable(this.sessionEventExecutor);
+  }
+
+  /**
+   * Dispatches the given event publishing task for the identified {@link Session} using the configured
+   * {@link SessionEventExecutor}, or runs the task on the calling {@link Thread} if none is configured.
+   *
+   * @param sessionId {@link Object} identifying the {@link Session}.
+   * @param publishTask {@link Runnable} publishing the {@link Session} event.
+   * @see SessionEventExecutor#execute(Object, Runnable)
+   */
+  protected void dispatch(Object sessionId, Runnable publishTask) {
+    getSessionEventExecutor().ifPresentOrElse(it -> it.execute(sessionId, publishTask), publishTask);
+  }
+
+  /**
+   * Configures the window within which {@link SessionChangedEvent SessionChangedEvents} for the same
+   * {@link Session} are coalesced, publishing only the latest state once per window.
+   *
+   * @param sessionChangedEventCoalescingWindow {@link Duration} of the coalescing window; {@literal null},
+   *                                            zero or negative disables coalescing.
+   * @see SessionChangedEvent
+   */
+  public void setSessionChangedEventCoalescingWindow(@Nullable Duration sessionChangedEventCoalescingWindow) {
+    this.sessionChangedEventCoalescingWindow = sessionChangedEventCoalescingWindow != null
+        ? sessionChangedEventCoalescingWindow
+        : Duration.ZERO;
+  }
+
+  /**
+   * Returns the window within which {@link SessionChangedEvent SessionChangedEvents} are coalesced.
+   *
+   * @return the {@link Duration} of the coalescing window.
+   */
+  protected @NonNull Duration getSessionChangedEventCoalescingWindow() {
+    return this.sessionChangedEventCoalescingWindow;
+  }
+
+  /**
+   * Determines whether {@link SessionChangedEvent SessionChangedEvents} are coalesced.
+   *
+   * @return a boolean value indicating whether {@link SessionChangedEvent SessionChangedEvents} are coalesced.
+   */
+  protected boolean isSessionChangedEventCoalescingEnabled() {
+
+    Duration window = getSessionChangedEventCoalescingWindow();
+
+    return !(window.isZero() || window.isNegative());
+  }
+
+  /**
+   * Configures the {@link SessionExpiredEventBatcher} used to publish {@link SessionsExpiredBatchEvent batches}
+   * of expired {@link Session} IDs in addition to the individual {@link SessionExpiredEvent SessionExpiredEvents}.
+   *
+   * @param sessionExpiredEventBatcher {@link SessionExpiredEventBatcher} used to batch expired {@link Session} IDs;
+   *                                   may be {@literal null} to disable batching.
+   * @see SessionExpiredEventBatcher
+   */
+  public void setSessionExpiredEventBatcher(@Nullable SessionExpiredEventBatcher sessionExpiredEventBatcher) {
+    this.sessionExpiredEventBatcher = sessionExpiredEventBatcher;
+  }
+
+  /**
+   * Returns the configured {@link SessionExpiredEventBatcher}, if any.
+   *
+   * @return an {@link Optional} {@link SessionExpiredEventBatcher}.
+   * @see SessionExpiredEventBatcher
+   */
+  protected Optional<SessionExpiredEventBatcher> getSessionExpiredEventBatcher() {
+    return Optional.ofNullable(this.sessionExpiredEventBatcher);
+  }
+
+  /**
+   * Configures the {@link PrincipalNameSessionIndex} from which {@link Session Sessions} destroyed or expired in
+   * the {@link Session} {@link Region} are removed, including {@link Session Sessions} removed by the data grid
+   * or by other application nodes.
+   *
+   * @param principalNameSessionIndex {@link PrincipalNameSessionIndex} mapping principal names to
+   *                                  {@link Session} IDs; may be {@literal null}.
+   * @see PrincipalNameSessionIndex
+   */
+  public void setPrincipalNameSessionIndex(@Nullable PrincipalNameSessionIndex principalNameSessionIndex) {
+    this.principalNameSessionIndex = principalNameSessionIndex;
+  }
+
+  /**
+   * Returns the configured {@link PrincipalNameSessionIndex}, if any.
+   *
+   * @return an {@link Optional} {@link PrincipalNameSessionIndex}.
+   * @see PrincipalNameSessionIndex
+   */
+  protected Optional<PrincipalNameSessionIndex> getPrincipalNameSessionIndex() {
+    return Optional.ofNullable(this.principalNameSessionIndex);
+  }
+
+  /**
+   * Configures the {@link SessionInterestManager} from which deleted, destroyed and expired {@link Session Sessions}
+   * are removed so that interest in their keys is unregistered.
+   *
+   * @param sessionInterestManager {@link SessionInterestManager} tracking the {@link Session Sessions} served by
+   *                               this node; may be {@literal null}.
+   * @see SessionInterestManager
+   */
+  public void setSessionInterestManager(@Nullable SessionInterestManager sessionInterestManager) {
+    this.sessionInterestManager = sessionInterestManager;
+  }
+
+  /**
+   * Returns the configured {@link SessionInterestManager}, if any.
+   *
+   * @return an {@link Optional} {@link SessionInterestManager}.
+   * @see SessionInterestManager
+   */
+  protected Optional<SessionInterestManager> getSessionInterestManager() {
+    return Optional.ofNullable(this.sessionInterestManager);
+  }
+
   /**
    * Causes Session deleted events to be published to the Spring application context.
    *
@@ -73,13 +242,26 @@ public class SessionEventHandlerCacheListenerAdapter extends CacheListenerAdapte
     if (sessionId == null || (session != null && session.getId() == null)) {
       throw new IllegalStateException(String.format("The Session or the Session ID [%s] must be known to trigger a Session event", sessionId));
     }
-    getSessionRepository().publishEvent(SessionUtils.newSessionDeletedEvent(getSessionRepository(), SessionUtils.toSession(session, sessionId)));
+    ApplicationEvent sessionEvent = SessionUtils.newSessionDeletedEvent(getSessionRepository(), SessionUtils.toSession(session, sessionId));
+    dispatch(sessionId, () -> getSessionRepository().publishEvent(sessionEvent));
     cachedSessionIds.remove(ObjectUtils.nullSafeHashCode(sessionId));
+    getSessionInterestManager().ifPresent(it -> it.remove(sessionId));
+    discardPendingSessionChangedEvent(sessionId);
   }
 
   /**
    * Callback method triggered when an entry is destroyed (removed) in the {@link Session} cache {@link Region}.
    *
+   * The eviction of a client copy of a {@link Session} from a {@literal CACHING_PROXY} {@link Region}, and its
+   * local destroy when {@link SessionInterestManager#isInterestDropped(EntryEvent) interest is dropped}, are ignored
+   * since the {@link Session} still exists on the servers.  The removal of an expired {@link Session} by
+   * the {@link ExpiredSessionSweeperFunction} is handled as an {@link #afterInvalidate(EntryEvent) expiration}.
+   * The deletion of a {@link Session} by the {@link DeleteSessionsByPrincipalNameFunction} is only cleaned up after,
+   * since the {@link GemFireOperationsSessionRepository#deleteByPrincipalNames(java.util.Collection) repository}
+   * deleting the {@link Session} publishes the {@link SessionDeletedEvent}.  Neither is an event published for
+   * the removal of a {@link Session} {@link RoutingGemFireOperationsSessionRepository#isSessionMoved(EntryEvent)
+   * moved} to another route, since the {@link Session} still exists.
+   *
    * @param event {@link EntryEvent} containing the details of the cache operation.
    * @see SessionDestroyedEvent
    * @see Session
@@ -90,14 +272,30 @@ public class SessionEventHandlerCacheListenerAdapter extends CacheListenerAdapte
    */
   @Override
   public void afterDestroy(EntryEvent<Object, Session> event) {
-    Optional.ofNullable(event).ifPresent(entryEvent -> {
+    if (ExpiredSessionSweeperFunction.isSessionExpired(event)) {
+      afterInvalidate(event);
+      return;
+    }
+    Optional.ofNullable(event).filter(entryEvent -> !isClientCopyRemoval(entryEvent)).ifPresent(entryEvent -> {
       Object sessionId = entryEvent.getKey();
-      getSessionRepository()
-          .publishEvent(SessionUtils.newSessionDestroyedEvent(getSessionRepository(), SessionUtils.toSession(entryEvent.getOldValue(), sessionId)));
+      Object oldValue = entryEvent.getOldValue();
+      if (!DeleteSessionsByPrincipalNameFunction.isSessionDeleted(entryEvent)
+          && !RoutingGemFireOperationsSessionRepository.isSessionMoved(entryEvent)) {
+        ApplicationEvent sessionEvent = SessionUtils.newSessionDestroyedEvent(getSessionRepository(), SessionUtils.toSession(oldValue, sessionId));
+        dispatch(sessionId, () -> getSessionRepository().publishEvent(sessionEvent));
+      }
       cachedSessionIds.remove(ObjectUtils.nullSafeHashCode(sessionId));
+      getSessionInterestManager().ifPresent(it -> it.remove(sessionId));
+      unindex(sessionId, oldValue);
+      discardPendingSessionChangedEvent(sessionId);
     });
   }
 
+  private boolean isClientCopyRemoval(EntryEvent<Object, Session> event) {
+    Operation operation = event.getOperation();
+    return (operation != null && operation.isEviction()) || SessionInterestManager.isInterestDropped(event);
+  }
+
   /**
    * Callback method triggered when an entry is invalidated (expired) in the {@link Session} cache {@link Region}.
    *
@@ -113,18 +311,42 @@ public class SessionEventHandlerCacheListenerAdapter extends CacheListenerAdapte
   public void afterInvalidate(EntryEvent<Object, Session> event) {
     Optional.ofNullable(event).ifPresent(entryEvent -> {
       Object key = event.getKey();
-      getSessionRepository()
-          .publishEvent(SessionUtils.newSessionExpiredEvent(getSessionRepository(), SessionUtils.toSession(event.getOldValue(), key)));
+      Object oldValue = event.getOldValue();
+      ApplicationEvent sessionEvent = SessionUtils.newSessionExpiredEvent(getSessionRepository(), SessionUtils.toSession(oldValue, key));
+      dispatch(key, () -> getSessionRepository().publishEvent(sessionEvent));
+      getSessionExpiredEventBatcher().ifPresent(batcher -> batcher.add(key));
       cachedSessionIds.remove(ObjectUtils.nullSafeHashCode(key));
+      getSessionInterestManager().ifPresent(it -> it.remove(key));
+      unindex(key, oldValue);
+      discardPendingSessionChangedEvent(key);
     });
   }
 
+  /**
+   * Removes the destroyed or expired {@link Session} from the {@link PrincipalNameSessionIndex}, if configured.
+   *
+   * @param sessionId {@link Object} identifying the {@link Session}.
+   * @param oldValue {@link Object} value of the {@link Session} entry before the event; may be {@literal null}.
+   */
+  private void unindex(@Nullable Object sessionId, @Nullable Object oldValue) {
+
+    if (sessionId != null) {
+      getPrincipalNameSessionIndex().ifPresent(index -> index.unindex(sessionId.toString(), oldValue instanceof Session
+          ? AbstractGemFireOperationsSessionRepository.resolvePrincipalName((Session) oldValue)
+          : null));
+    }
+  }
+
   public void afterExpired(@NonNull String sessionId, @NonNull Session session){
     if (sessionId == null || (session != null && session.getId() == null)) {
       throw new IllegalStateException(String.format("The Session or the Session ID [%s] must be known to trigger a Session event", sessionId));
     }
-    getSessionRepository().publishEvent(SessionUtils.newSessionExpiredEvent(getSessionRepository(), SessionUtils.toSession(session, sessionId)));
+    ApplicationEvent sessionEvent = SessionUtils.newSessionExpiredEvent(getSessionRepository(), SessionUtils.toSession(session, sessionId));
+    dispatch(sessionId, () -> getSessionRepository().publishEvent(sessionEvent));
+    getSessionExpiredEventBatcher().ifPresent(batcher -> batcher.add(sessionId));
     cachedSessionIds.remove(ObjectUtils.nullSafeHashCode(sessionId));
+    getSessionInterestManager().ifPresent(it -> it.remove(sessionId));
+    discardPendingSessionChangedEvent(sessionId);
   }
 
   /**
@@ -140,8 +362,90 @@ public class SessionEventHandlerCacheListenerAdapter extends CacheListenerAdapte
    */
   @Override
   public void afterUpdate(EntryEvent<Object, Session> event) {
-    Optional.ofNullable(event).ifPresent(entryEvent ->
-        getSessionRepository()
-            .publishEvent(SessionUtils.newSessionChangedEvent(getSessionRepository(), SessionUtils.toSession(event.getNewValue(), event.getKey()))));
+    Optional.ofNullable(event).ifPresent(entryEvent -> {
+      Object key = event.getKey();
+      ApplicationEvent sessionEvent = SessionUtils.newSessionChangedEvent(getSessionRepository(), SessionUtils.toSession(event.getNewValue(), key));
+      if (isSessionChangedEventCoalescingEnabled() && key != null) {
+        coalesce(key, sessionEvent);
+      } else {
+        dispatch(key, () -> getSessionRepository().publishEvent(sessionEvent));
+      }
+    });
+  }
+
+  /**
+   * Holds the given {@link SessionChangedEvent} until the end of the coalescing window for the {@link Session},
+   * replacing any event already pending for the same {@link Session}.
+   *
+   * @param sessionId {@link Object} identifying the {@link Session}.
+   * @param sessionEvent {@link SessionChangedEvent} to publish.
+   */
+  private void coalesce(@NonNull Object sessionId, @NonNull ApplicationEvent sessionEvent) {
+
+    if (this.pendingSessionChangedEvents.put(sessionId, sessionEvent) == null) {
+      try {
+        resolveSessionChangedEventScheduler().schedule(() -> publishPendingSessionChangedEvent(sessionId),
+            getSessionChangedEventCoalescingWindow().toMillis(), TimeUnit.MILLISECONDS);
+      } catch (RejectedExecutionException ignore) {
+        publishPendingSessionChangedEvent(sessionId);
+      }
+    }
+  }
+
+  /**
+   * Publishes the latest pending {@link SessionChangedEvent} for the identified {@link Session}, if any.
+   *
+   * @param sessionId {@link Object} identifying the {@link Session}.
+   */
+  void publishPendingSessionChangedEvent(@NonNull Object sessionId) {
+
+    Optional.ofNullable(this.pendingSessionChangedEvents.remove(sessionId))
+        .ifPresent(sessionEvent -> dispatch(sessionId, () -> getSessionRepository().publishEvent(sessionEvent)));
+  }
+
+  /**
+   * Drops any pending {@link SessionChangedEvent} for a {@link Session} that was deleted, destroyed or expired
+   * so that no stale change is published after the terminal event.
+   *
+   * @param sessionId {@link Object} identifying the {@link Session}.
+   */
+  private void discardPendingSessionChangedEvent(@Nullable Object sessionId) {
+
+    if (sessionId != null) {
+      this.pendingSessionChangedEvents.remove(sessionId);
+    }
+  }
+
+  private ScheduledExecutorService resolveSessionChangedEventScheduler() {
+
+    ScheduledExecutorService scheduler = this.sessionChangedEventScheduler;
+
+    if (scheduler == null) {
+      synchronized (this.pendingSessionChangedEvents) {
+        scheduler = this.sessionChangedEventScheduler;
+        if (scheduler == null) {
+          scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread schedulerThread = new Thread(runnable, SESSION_CHANGED_EVENT_COALESCING_THREAD_NAME);
+            schedulerThread.setDaemon(true);
+            return schedulerThread;
+          });
+          this.sessionChangedEventScheduler = scheduler;
+        }
+      }
+    }
+
+    return scheduler;
+  }
+
+  /**
+   * Publishes all pending {@link SessionChangedEvent SessionChangedEvents} and stops the coalescing scheduler
+   * when the {@link Session} {@link Region} is closed.
+   */
+  @Override
+  public void close() {
+
+    Optional.ofNullable(this.sessionChangedEventScheduler).ifPresent(ScheduledExecutorService::shutdownNow);
+
+    new ArrayList<>(this.pendingSessionChangedEvents.keySet()).forEach(this::publishPendingSessionChangedEvent);
   }
 }
@@ -12,9 +12,12 @@ import org.apache.geode.cache.Region;
 import org.apache.geode.cache.Scope;
 import org.apache.geode.cache.util.CacheWriterAdapter;
 import org.apache.geode.internal.cache.LocalRegion;
+import org.springframework.context.ApplicationEvent;
 import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
 import org.springframework.session.Session;
 import org.springframework.session.SessionRepository;
+import org.springframework.session.data.gemfire.events.SessionEventExecutor;
 import org.springframework.session.data.gemfire.model.BoundedRingHashSet;
 import org.springframework.session.data.gemfire.support.SessionUtils;
 import org.springframework.session.events.AbstractSessionEvent;
@@ -30,6 +33,8 @@ public class SessionEventHandlerCacheWriterAdapter extends CacheWriterAdapter<Ob
 
   private BoundedRingHashSet cachedSessionIds = new BoundedRingHashSet();
 
+  private volatile SessionEventExecutor sessionEventExecutor;
+
   protected SessionEventHandlerCacheWriterAdapter() {
     this(null, null);
   }
@@ -52,13 +57,48 @@ public class SessionEventHandlerCacheWriterAdapter extends CacheWriterAdapter<Ob
     this.cachedSessionIds = cachedSessionIds;
   }
 
+  /**
+   * Configures the {@link SessionEventExecutor} used to publish {@link AbstractSessionEvent Session events}
+   * asynchronously while preserving the order of events for each {@link Session}.
+   *
+   * @param sessionEventExecutor {@link SessionEventExecutor} used to dispatch {@link Session} events;
+   *                             may be {@literal null} to publish events on the calling {@link Thread}.
+   * @see SessionEventExecutor
+   */
+  public void setSessionEventExecutor(@Nullable SessionEventExecutor sessionEventExecutor) {
+    this.sessionEventExecutor = sessionEventExecutor;
+  }
+
+  /**
+   * Returns the configured {@link SessionEventExecutor}, if any.
+   *
+   * @return an {@link Optional} {@link SessionEventExecutor}.
+   * @see SessionEventExecutor
+   */
+  protected Optional<SessionEventExecutor> getSessionEventExecutor() {
+    return Optional.ofNullable(this.sessionEventExecutor);
+  }
+
+  /**
+   * Dispatches the given event publishing task for the identified {@link Session} using the configured
+   * {@link SessionEventExecutor}, or runs the task on the calling {@link Thread} if none is configured.
+   *
+   * @param sessionId {@link Object} identifying the {@link Session}.
+   * @param publishTask {@link Runnable} publishing the {@link Session} event.
+   * @see SessionEventExecutor#execute(Object, Runnable)
+   */
+  protected void dispatch(Object sessionId, Runnable publishTask) {
+    getSessionEventExecutor().ifPresentOrElse(it -> it.execute(sessionId, publishTask), publishTask);
+  }
+
   @Override
   public void beforeCreate(EntryEvent<Object, Session> event) throws CacheWriterException {
     if (event == null || !isSession(event)) {
       return;
     }
 
-    int hashedSessionId = ObjectUtils.nullSafeHashCode(event.getKey());
+    Object sessionId = event.getKey();
+    int hashedSessionId = ObjectUtils.nullSafeHashCode(sessionId);
 
     if (isLocalLoadEvent(event)) {
       getCachedSessionIds().add(hashedSessionId);
@@ -70,8 +110,8 @@ public class SessionEventHandlerCacheWriterAdapter extends CacheWriterAdapter<Ob
     }
 
     if (!isClientProxiedRegion(event) || !isKeyOnServer(event)) {
-      getSessionRepository()
-          .publishEvent(SessionUtils.newSessionCreatedEvent(getSessionRepository(), SessionUtils.toSession(event)));
+      ApplicationEvent sessionEvent = SessionUtils.newSessionCreatedEvent(getSessionRepository(), SessionUtils.toSession(event));
+      dispatch(sessionId, () -> getSessionRepository().publishEvent(sessionEvent));
       getCachedSessionIds().add(hashedSessionId);
     }
   }
@@ -219,6 +219,82 @@ public abstract class AbstractGemFireHttpSessionConfiguration extends SpringHttp
 		return sessionPropertyName("serializer.bean-name");
 	}
 
+	protected String sessionExpiredEventBatchIntervalMillisPropertyName() {
+		return sessionPropertyName("events.expired.batch-interval-millis");
+	}
+
+	protected String sessionExpiredEventBatchSizePropertyName() {
+		return sessionPropertyName("events.expired.batch-size");
+	}
+
+	protected String sessionExpiredEventMaxBatchesPerFlushPropertyName() {
+		return sessionPropertyName("events.expired.max-batches-per-flush");
+	}
+
+	protected String registerInterestEnabledPropertyName() {
+		return cachePropertyName("client.region.register-interest.enabled");
+	}
+
+	protected String registerInterestInactivityTimeoutSecondsPropertyName() {
+		return cachePropertyName("client.region.register-interest.inactivity-timeout-seconds");
+	}
+
+	protected String sessionEventExecutorLaneCountPropertyName() {
+		return sessionPropertyName("events.executor.lane-count");
+	}
+
+	protected String sessionChangedEventCoalescingWindowMillisPropertyName() {
+		return sessionPropertyName("events.changed.coalescing-window-millis");
+	}
+
+	protected String timingWheelExpirationEnabledPropertyName() {
+		return sessionPropertyName("expiration.timing-wheel.enabled");
+	}
+
+	protected String fixedDurationExpirationSecondsPropertyName() {
+		return sessionPropertyName("expiration.fixed-duration-seconds");
+	}
+
+	protected String expiredSessionSweepIntervalSecondsPropertyName() {
+		return sessionPropertyName("expiration.sweep-interval-seconds");
+	}
+
+	protected String cachedClockResolutionMillisPropertyName() {
+		return sessionPropertyName("clock.cached-resolution-millis");
+	}
+
+	protected String expirationTimeIndexEnabledPropertyName() {
+		return sessionPropertyName("expiration.index.enabled");
+	}
+
+	protected String principalNameIndexRegionEnabledPropertyName() {
+		return sessionPropertyName("principal-name.index-region.enabled");
+	}
+
+	protected String sessionRegionOffHeapPropertyName() {
+		return sessionPropertyName("region.off-heap");
+	}
+
+	protected String sessionRegionCompressionEnabledPropertyName() {
+		return sessionPropertyName("region.compression.enabled");
+	}
+
+	protected String sessionRegionTotalNumberOfBucketsPropertyName() {
+		return sessionPropertyName("region.partition.total-number-of-buckets");
+	}
+
+	protected String sessionRegionRedundantCopiesPropertyName() {
+		return sessionPropertyName("region.partition.redundant-copies");
+	}
+
+	protected String sessionRegionEvictionPolicyPropertyName() {
+		return sessionPropertyName("region.eviction.policy");
+	}
+
+	protected String sessionRegionEvictionMaximumPropertyName() {
+		return sessionPropertyName("region.eviction.maximum");
+	}
+
 	/**
 	 * Resolves the value for the given property identified by {@link String name} from the Spring {@link Environment}
 	 * as an instance of the specified {@link Class type}.
@@ -26,6 +26,7 @@ import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Import;
 import org.springframework.core.env.Environment;
 import org.springframework.session.Session;
+import org.springframework.session.data.gemfire.config.annotation.web.http.support.SessionRegionEvictionPolicy;
 import org.springframework.session.data.gemfire.config.annotation.web.http.support.SpringSessionGemFireConfigurer;
 import org.springframework.session.data.gemfire.expiration.SessionExpirationPolicy;
 import org.springframework.session.data.gemfire.serialization.SessionSerializer;
@@ -146,6 +147,9 @@ public @interface EnableGemFireHttpSession {
 	 * For instance, find all {@link Session Sessions} in Apache Geode or Pivotal GemFire having attribute A
 	 * defined with value X.
 	 *
+	 * A map Index is created on the named {@link Session} attributes, in addition to the functional Index
+	 * always created on the principal name.
+	 *
 	 * Defaults to empty {@link String} array.
 	 *
 	 * Use the {@literal spring.session.data.gemfire.session.attributes.indexed}
@@ -245,4 +249,347 @@ public @interface EnableGemFireHttpSession {
 	 */
 	String sessionSerializerBeanName() default GemFireHttpSessionConfiguration.DEFAULT_SESSION_SERIALIZER_BEAN_NAME;
 
+	/**
+	 * Defines the interval in milliseconds between publications of batched expired {@link Session} events.
+	 *
+	 * Only applies when {@link #sessionExpiredEventBatchSize()} is greater than {@literal 0}.
+	 *
+	 * Defaults to {@literal 1000} milliseconds.
+	 *
+	 * Use the {@literal spring.session.data.gemfire.session.events.expired.batch-interval-millis}
+	 * in Spring Boot {@literal application.properties}.
+	 *
+	 * @return an integer value defining the interval in milliseconds between batched expired {@link Session} events.
+	 * @see GemFireHttpSessionConfiguration#DEFAULT_SESSION_EXPIRED_EVENT_BATCH_INTERVAL_MILLIS
+	 */
+	int sessionExpiredEventBatchIntervalMillis() default GemFireHttpSessionConfiguration.DEFAULT_SESSION_EXPIRED_EVENT_BATCH_INTERVAL_MILLIS;
+
+	/**
+	 * Defines the maximum number of expired {@link Session} IDs published in a single
+	 * {@link org.springframework.session.data.gemfire.events.SessionsExpiredBatchEvent}, which is published
+	 * in addition to the individual {@link org.springframework.session.events.SessionExpiredEvent} per {@link Session}.
+	 *
+	 * Pending expired {@link Session} IDs are published in batches every
+	 * {@link #sessionExpiredEventBatchIntervalMillis() interval}, up to
+	 * {@link #sessionExpiredEventMaxBatchesPerFlush()} batches, so listeners are notified once per batch
+	 * rather than once per {@link Session} during mass expirations.
+	 *
+	 * Defaults to {@literal 0}, which disables batching.
+	 *
+	 * Use the {@literal spring.session.data.gemfire.session.events.expired.batch-size}
+	 * in Spring Boot {@literal application.properties}.
+	 *
+	 * @return an integer value defining the maximum number of expired {@link Session} IDs in a single batch.
+	 * @see GemFireHttpSessionConfiguration#DEFAULT_SESSION_EXPIRED_EVENT_BATCH_SIZE
+	 */
+	int sessionExpiredEventBatchSize() default GemFireHttpSessionConfiguration.DEFAULT_SESSION_EXPIRED_EVENT_BATCH_SIZE;
+
+	/**
+	 * Defines the maximum number of {@link org.springframework.session.data.gemfire.events.SessionsExpiredBatchEvent
+	 * SessionsExpiredBatchEvents} published every {@link #sessionExpiredEventBatchIntervalMillis() interval}.
+	 *
+	 * Expired {@link Session} IDs beyond this number of batches are published in the following intervals,
+	 * so a mass expiration is spread out over time.  Only applies when {@link #sessionExpiredEventBatchSize()}
+	 * is greater than {@literal 0}.
+	 *
+	 * Defaults to {@literal 10}.
+	 *
+	 * Use the {@literal spring.session.data.gemfire.session.events.expired.max-batches-per-flush}
+	 * in Spring Boot {@literal application.properties}.
+	 *
+	 * @return an integer value defining the maximum number of batches published per interval.
+	 * @see GemFireHttpSessionConfiguration#DEFAULT_SESSION_EXPIRED_EVENT_MAX_BATCHES_PER_FLUSH
+	 */
+	int sessionExpiredEventMaxBatchesPerFlush()
+		default GemFireHttpSessionConfiguration.DEFAULT_SESSION_EXPIRED_EVENT_MAX_BATCHES_PER_FLUSH;
+
+	/**
+	 * Enables targeted interest registration, where each client application node registers interest only in
+	 * the keys of the {@link Session Sessions} it has loaded or created, rather than all keys.
+	 *
+	 * Interest is unregistered when the {@link Session} is deleted or expires, or has not been accessed locally
+	 * for the {@link #registerInterestInactivityTimeoutSeconds() inactivity timeout}.  Registrations are batched.
+	 *
+	 * Requires a client {@link org.apache.geode.cache.Region} whose {@link org.apache.geode.cache.client.Pool}
+	 * has subscriptions enabled; otherwise this setting is ignored.
+	 *
+	 * Defaults to {@literal false}.
+	 *
+	 * Use the {@literal spring.session.data.gemfire.cache.client.region.register-interest.enabled}
+	 * in Spring Boot {@literal application.properties}.
+	 *
+	 * @return a boolean value indicating whether targeted interest registration is enabled.
+	 * @see GemFireHttpSessionConfiguration#DEFAULT_REGISTER_INTEREST_ENABLED
+	 */
+	boolean registerInterestEnabled() default GemFireHttpSessionConfiguration.DEFAULT_REGISTER_INTEREST_ENABLED;
+
+	/**
+	 * Defines the local inactivity timeout in seconds after which interest in a {@link Session} is unregistered.
+	 *
+	 * Defaults to {@literal 0}, which uses the {@link #maxInactiveIntervalInSeconds()}.
+	 *
+	 * Use the {@literal spring.session.data.gemfire.cache.client.region.register-interest.inactivity-timeout-seconds}
+	 * in Spring Boot {@literal application.properties}.
+	 *
+	 * @return an integer value defining the local inactivity timeout in seconds.
+	 * @see GemFireHttpSessionConfiguration#DEFAULT_REGISTER_INTEREST_INACTIVITY_TIMEOUT_SECONDS
+	 */
+	int registerInterestInactivityTimeoutSeconds()
+		default GemFireHttpSessionConfiguration.DEFAULT_REGISTER_INTEREST_INACTIVITY_TIMEOUT_SECONDS;
+
+	/**
+	 * Defines the number of single-threaded lanes used to publish {@link Session} events asynchronously.
+	 *
+	 * Events are assigned to a lane by hashing the {@link Session#getId() Session ID}, so events for the same
+	 * {@link Session} are always published in order, while events for different {@link Session Sessions}
+	 * are published in parallel.
+	 *
+	 * Defaults to {@literal 0}, which publishes events on the cache callback {@link Thread}.
+	 *
+	 * Use the {@literal spring.session.data.gemfire.session.events.executor.lane-count}
+	 * in Spring Boot {@literal application.properties}.
+	 *
+	 * @return an integer value defining the number of lanes used to publish {@link Session} events.
+	 * @see GemFireHttpSessionConfiguration#DEFAULT_SESSION_EVENT_EXECUTOR_LANE_COUNT
+	 */
+	int sessionEventExecutorLaneCount() default GemFireHttpSessionConfiguration.DEFAULT_SESSION_EVENT_EXECUTOR_LANE_COUNT;
+
+	/**
+	 * Defines the window in milliseconds within which
+	 * {@link org.springframework.session.data.gemfire.events.SessionChangedEvent SessionChangedEvents}
+	 * for the same {@link Session} are coalesced, publishing only the latest {@link Session} state once per window.
+	 *
+	 * Pending changes are dropped when the {@link Session} is deleted, destroyed or expires.
+	 *
+	 * Defaults to {@literal 0}, which publishes one event per update.
+	 *
+	 * Use the {@literal spring.session.data.gemfire.session.events.changed.coalescing-window-millis}
+	 * in Spring Boot {@literal application.properties}.
+	 *
+	 * @return an integer value defining the coalescing window in milliseconds.
+	 * @see GemFireHttpSessionConfiguration#DEFAULT_SESSION_CHANGED_EVENT_COALESCING_WINDOW_MILLIS
+	 */
+	int sessionChangedEventCoalescingWindowMillis()
+		default GemFireHttpSessionConfiguration.DEFAULT_SESSION_CHANGED_EVENT_COALESCING_WINDOW_MILLIS;
+
+	/**
+	 * Enables expiration of {@link Session Sessions} stored in a client {@link org.apache.geode.cache.Region}
+	 * with a local data policy (e.g. {@literal LOCAL} or {@literal CACHING_PROXY}) using a hierarchical timing wheel,
+	 * which expires due {@link Session Sessions} in batches, instead of per-entry idle timeout expiration.
+	 *
+	 * The configured {@link #sessionExpirationPolicyBeanName() SessionExpirationPolicy}, or the
+	 * {@link #maxInactiveIntervalInSeconds()}, determines when each {@link Session} expires.
+	 * This setting has no effect on {@literal PROXY} {@link org.apache.geode.cache.Region Regions}.
+	 *
+	 * Defaults to {@literal false}.
+	 *
+	 * Use the {@literal spring.session.data.gemfire.session.expiration.timing-wheel.enabled}
+	 * in Spring Boot {@literal application.properties}.
+	 *
+	 * @return a boolean value indicating whether timing wheel expiration is enabled.
+	 * @see GemFireHttpSessionConfiguration#DEFAULT_TIMING_WHEEL_EXPIRATION_ENABLED
+	 */
+	boolean timingWheelExpirationEnabled()
+		default GemFireHttpSessionConfiguration.DEFAULT_TIMING_WHEEL_EXPIRATION_ENABLED;
+
+	/**
+	 * Defines the fixed duration in seconds after which a {@link Session} expires, measured from
+	 * the {@link Session#getCreationTime() creation time}, regardless of activity.
+	 *
+	 * Fixed duration expiration is enforced eagerly by the data grid using an entry time-to-live computed from
+	 * the {@link Session#getCreationTime() creation time}, in addition to the idle timeout.  Unless the client
+	 * {@link org.apache.geode.cache.Region} is {@literal LOCAL}, the time-to-live must be set on the
+	 * {@link org.apache.geode.cache.Region} on the servers, which is verified on startup and logged as a warning,
+	 * with the {@literal gfsh} command to create the {@link org.apache.geode.cache.Region}, when missing.
+	 * A {@link Session} exceeding the fixed duration is never returned when found by ID.
+	 *
+	 * Defaults to {@literal 0}, which disables fixed duration expiration.
+	 *
+	 * Use the {@literal spring.session.data.gemfire.session.expiration.fixed-duration-seconds}
+	 * in Spring Boot {@literal application.properties}.
+	 *
+	 * @return an integer value defining the fixed duration in seconds.
+	 * @see GemFireHttpSessionConfiguration#DEFAULT_FIXED_DURATION_EXPIRATION_SECONDS
+	 */
+	int fixedDurationExpirationSeconds()
+		default GemFireHttpSessionConfiguration.DEFAULT_FIXED_DURATION_EXPIRATION_SECONDS;
+
+	/**
+	 * Defines the interval in seconds between sweeps of expired {@link Session Sessions} performed on the servers
+	 * by executing the {@literal ExpiredSessionSweeperFunction} on the {@link Session} Region in parallel.
+	 *
+	 * Useful when expiration cannot be configured on the client, such as with {@literal PROXY} Regions.
+	 * The {@literal ExpiredSessionSweeperFunction} must be registered on the servers, for example with
+	 * the {@literal ExpiredSessionSweeperInitializer}.  Each server sweeps the Region at most once per interval,
+	 * however many client application nodes schedule the sweep.  Expired Sessions are removed with a destroy
+	 * that is published as a {@link org.springframework.session.events.SessionExpiredEvent}.
+	 *
+	 * Defaults to {@literal 0}, which disables the sweeper.
+	 *
+	 * Use the {@literal spring.session.data.gemfire.session.expiration.sweep-interval-seconds}
+	 * in Spring Boot {@literal application.properties}.
+	 *
+	 * @return an integer value defining the interval in seconds between sweeps.
+	 * @see GemFireHttpSessionConfiguration#DEFAULT_EXPIRED_SESSION_SWEEP_INTERVAL_SECONDS
+	 */
+	int expiredSessionSweepIntervalSeconds()
+		default GemFireHttpSessionConfiguration.DEFAULT_EXPIRED_SESSION_SWEEP_INTERVAL_SECONDS;
+
+	/**
+	 * Defines the resolution in milliseconds of a cached clock used to touch and expire {@link Session Sessions}.
+	 *
+	 * A cached clock avoids reading the system time on every request in exchange for coarser
+	 * {@link Session#getLastAccessedTime() last accessed times}.
+	 *
+	 * Defaults to {@literal 0}, which uses the system clock.
+	 *
+	 * Use the {@literal spring.session.data.gemfire.session.clock.cached-resolution-millis}
+	 * in Spring Boot {@literal application.properties}.
+	 *
+	 * @return an integer value defining the resolution in milliseconds of the cached clock.
+	 * @see GemFireHttpSessionConfiguration#DEFAULT_CACHED_CLOCK_RESOLUTION_MILLIS
+	 */
+	int cachedClockResolutionMillis()
+		default GemFireHttpSessionConfiguration.DEFAULT_CACHED_CLOCK_RESOLUTION_MILLIS;
+
+	/**
+	 * Enables a range Index on the derived expiration time of {@link Session Sessions}, used to efficiently
+	 * page through {@link Session Sessions} that expire soon or have already expired.
+	 *
+	 * The Index is created on the servers, where queries run, unless the client
+	 * {@link org.apache.geode.cache.Region} is {@literal LOCAL}.
+	 *
+	 * Defaults to {@literal false}.
+	 *
+	 * Use the {@literal spring.session.data.gemfire.session.expiration.index.enabled}
+	 * in Spring Boot {@literal application.properties}.
+	 *
+	 * @return a boolean value indicating whether the expiration time Index is created.
+	 * @see GemFireHttpSessionConfiguration#DEFAULT_EXPIRATION_TIME_INDEX_ENABLED
+	 */
+	boolean expirationTimeIndexEnabled()
+		default GemFireHttpSessionConfiguration.DEFAULT_EXPIRATION_TIME_INDEX_ENABLED;
+
+	/**
+	 * Enables a {@link org.apache.geode.cache.Region} mapping principal names to the IDs of the
+	 * {@link Session Sessions} of each principal, maintained when {@link Session Sessions} are saved and deleted.
+	 *
+	 * {@link Session Sessions} are then found by principal name with a single get of the {@link Session} IDs
+	 * and a single getAll of the {@link Session Sessions}, rather than an OQL query.  For client-server topologies,
+	 * a {@literal PARTITION} {@link org.apache.geode.cache.Region} named after the {@link #regionName()}
+	 * with the suffix {@literal ByPrincipalName} must be defined on the servers.
+	 *
+	 * Defaults to {@literal false}.
+	 *
+	 * Use the {@literal spring.session.data.gemfire.session.principal-name.index-region.enabled}
+	 * in Spring Boot {@literal application.properties}.
+	 *
+	 * @return a boolean value indicating whether the principal name index {@link org.apache.geode.cache.Region}
+	 * is used.
+	 * @see GemFireHttpSessionConfiguration#DEFAULT_PRINCIPAL_NAME_INDEX_REGION_ENABLED
+	 */
+	boolean principalNameIndexRegionEnabled()
+		default GemFireHttpSessionConfiguration.DEFAULT_PRINCIPAL_NAME_INDEX_REGION_ENABLED;
+
+	/**
+	 * Configures the {@link Session} {@link Region} to store {@link Session Sessions} in off-heap memory,
+	 * so large volumes of {@link Session} state do not drive garbage collection pauses.
+	 *
+	 * Applies to client {@link Region Regions} that store data locally.  The server {@link Region} is not created
+	 * by the client; it must be created with {@literal gfsh}, and a warning is logged when it does not match.
+	 * Off-heap memory must be configured on the members with {@literal off-heap-memory-size}.
+	 *
+	 * Defaults to {@literal false}.
+	 *
+	 * Use the {@literal spring.session.data.gemfire.session.region.off-heap}
+	 * in Spring Boot {@literal application.properties}.
+	 *
+	 * @return a boolean value indicating whether {@link Session Sessions} are stored off-heap.
+	 * @see GemFireHttpSessionConfiguration#DEFAULT_SESSION_REGION_OFF_HEAP
+	 */
+	boolean offHeap() default GemFireHttpSessionConfiguration.DEFAULT_SESSION_REGION_OFF_HEAP;
+
+	/**
+	 * Configures the {@link Session} {@link Region} to compress {@link Session Sessions} with
+	 * the {@link org.apache.geode.compression.SnappyCompressor}, trading CPU for memory.
+	 *
+	 * Applies to client {@link Region Regions} that store data locally.  The server {@link Region} is not created
+	 * by the client; it must be created with {@literal gfsh}, and a warning is logged when it does not match.
+	 *
+	 * Defaults to {@literal false}.
+	 *
+	 * Use the {@literal spring.session.data.gemfire.session.region.compression.enabled}
+	 * in Spring Boot {@literal application.properties}.
+	 *
+	 * @return a boolean value indicating whether {@link Session Sessions} are compressed.
+	 * @see GemFireHttpSessionConfiguration#DEFAULT_SESSION_REGION_COMPRESSION_ENABLED
+	 */
+	boolean compressionEnabled() default GemFireHttpSessionConfiguration.DEFAULT_SESSION_REGION_COMPRESSION_ENABLED;
+
+	/**
+	 * Defines the total number of buckets of the {@literal PARTITION} {@link Session} {@link Region} on the servers.
+	 *
+	 * A prime number a few times larger than the number of servers spreads {@link Session Sessions} evenly.
+	 * The server {@link Region} must be created with {@literal gfsh}; a warning is logged when it does not match.
+	 *
+	 * Defaults to {@literal 113}.
+	 *
+	 * Use the {@literal spring.session.data.gemfire.session.region.partition.total-number-of-buckets}
+	 * in Spring Boot {@literal application.properties}.
+	 *
+	 * @return the total number of buckets.
+	 * @see GemFireHttpSessionConfiguration#DEFAULT_SESSION_REGION_TOTAL_NUMBER_OF_BUCKETS
+	 */
+	int totalNumberOfBuckets() default GemFireHttpSessionConfiguration.DEFAULT_SESSION_REGION_TOTAL_NUMBER_OF_BUCKETS;
+
+	/**
+	 * Defines the number of redundant copies of the {@literal PARTITION} {@link Session} {@link Region}
+	 * on the servers.
+	 *
+	 * A negative value uses the redundancy of the {@link #serverRegionShortcut()}.
+	 *
+	 * Defaults to {@literal -1}.
+	 *
+	 * Use the {@literal spring.session.data.gemfire.session.region.partition.redundant-copies}
+	 * in Spring Boot {@literal application.properties}.
+	 *
+	 * @return the number of redundant copies.
+	 * @see GemFireHttpSessionConfiguration#DEFAULT_SESSION_REGION_REDUNDANT_COPIES
+	 */
+	int redundantCopies() default GemFireHttpSessionConfiguration.DEFAULT_SESSION_REGION_REDUNDANT_COPIES;
+
+	/**
+	 * Configures the least recently used (LRU) eviction policy of a client {@literal CACHING_PROXY}
+	 * {@link Session} {@link Region}, which bounds the number or size of {@link Session Sessions} held in
+	 * the client heap.  {@link Session Sessions} are evicted with local-destroy, so they remain on the servers.
+	 *
+	 * Ignored when the client {@link Region} is a {@literal PROXY} or {@literal LOCAL} {@link Region}.
+	 *
+	 * Defaults to {@literal NONE}.
+	 *
+	 * Use the {@literal spring.session.data.gemfire.session.region.eviction.policy}
+	 * in Spring Boot {@literal application.properties}.
+	 *
+	 * @return the {@link SessionRegionEvictionPolicy}.
+	 * @see GemFireHttpSessionConfiguration#DEFAULT_SESSION_REGION_EVICTION_POLICY
+	 */
+	SessionRegionEvictionPolicy evictionPolicy() default SessionRegionEvictionPolicy.NONE;
+
+	/**
+	 * Defines the maximum of the {@link #evictionPolicy()}: the number of {@link Session Sessions} for
+	 * {@literal ENTRY_COUNT}, the size in megabytes for {@literal MEMORY_SIZE} and the eviction heap percentage
+	 * of the cache for {@literal HEAP_PERCENTAGE}.
+	 *
+	 * A value less than {@literal 1} uses the Apache Geode default.
+	 *
+	 * Defaults to {@literal 0}.
+	 *
+	 * Use the {@literal spring.session.data.gemfire.session.region.eviction.maximum}
+	 * in Spring Boot {@literal application.properties}.
+	 *
+	 * @return the maximum of the {@link SessionRegionEvictionPolicy}.
+	 * @see GemFireHttpSessionConfiguration#DEFAULT_SESSION_REGION_EVICTION_MAXIMUM
+	 */
+	int evictionMaximum() default GemFireHttpSessionConfiguration.DEFAULT_SESSION_REGION_EVICTION_MAXIMUM;
+
 }
@@ -10,22 +10,31 @@ import java.lang.annotation.Annotation;
 import java.lang.reflect.Method;
 import java.time.Duration;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Properties;
+import java.util.Set;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import org.apache.geode.DataSerializer;
 import org.apache.geode.cache.Cache;
+import org.apache.geode.cache.EvictionAttributes;
 import org.apache.geode.cache.ExpirationAction;
 import org.apache.geode.cache.ExpirationAttributes;
+import org.apache.geode.cache.PartitionAttributesFactory;
 import org.apache.geode.cache.Region;
 import org.apache.geode.cache.RegionAttributes;
 import org.apache.geode.cache.RegionShortcut;
 import org.apache.geode.cache.client.ClientCache;
+import org.apache.geode.cache.client.ClientRegionFactory;
 import org.apache.geode.cache.client.ClientRegionShortcut;
 import org.apache.geode.cache.client.Pool;
+import org.apache.geode.cache.control.ResourceManager;
 import org.apache.geode.cache.query.Index;
+import org.apache.geode.compression.SnappyCompressor;
 import org.apache.geode.pdx.PdxSerializer;
 import org.springframework.beans.BeansException;
 import org.springframework.beans.factory.NoSuchBeanDefinitionException;
@@ -55,23 +64,50 @@ import org.springframework.data.gemfire.util.ArrayUtils;
 import org.springframework.lang.NonNull;
 import org.springframework.lang.Nullable;
 import org.springframework.session.Session;
+import org.springframework.session.SessionIdGenerator;
 import org.springframework.session.SessionRepository;
+import org.springframework.session.UuidSessionIdGenerator;
 import org.springframework.session.data.gemfire.AbstractGemFireOperationsSessionRepository.GemFireSession;
 import org.springframework.session.data.gemfire.GemFireOperationsSessionRepository;
 import org.springframework.session.data.gemfire.config.annotation.web.http.support.SessionCacheTypeAwareRegionFactoryBean;
+import org.springframework.session.data.gemfire.config.annotation.web.http.support.SessionIndexInstaller;
+import org.springframework.session.data.gemfire.config.annotation.web.http.support.SessionRegionEvictionPolicy;
+import org.springframework.session.data.gemfire.config.annotation.web.http.support.SessionRegionSettingsFunction;
+import org.springframework.session.data.gemfire.config.annotation.web.http.support.SessionRegionVerifier;
 import org.springframework.session.data.gemfire.config.annotation.web.http.support.SpringSessionGemFireConfigurer;
+import org.springframework.session.data.gemfire.events.SessionChangedEvent;
+import org.springframework.session.data.gemfire.events.SessionEventExecutor;
+import org.springframework.session.data.gemfire.events.SessionExpiredEventBatcher;
+import org.springframework.session.data.gemfire.events.SessionsExpiredBatchEvent;
 import org.springframework.session.data.gemfire.expiration.SessionExpirationPolicy;
 import org.springframework.session.data.gemfire.expiration.config.SessionExpirationTimeoutAwareBeanPostProcessor;
+import org.springframework.session.data.gemfire.expiration.support.CompositeSessionExpirationPolicy;
+import org.springframework.session.data.gemfire.expiration.support.DeclarableSessionCustomExpiry;
+import org.springframework.session.data.gemfire.expiration.support.ExpiredSessionSweeper;
+import org.springframework.session.data.gemfire.expiration.support.ExpiredSessionSweeperFunction;
+import org.springframework.session.data.gemfire.expiration.support.IdleTimeoutSessionExpirationPolicy;
+import org.springframework.session.data.gemfire.expiration.support.MaxLifetimeSessionExpirationPolicy;
+import org.springframework.session.data.gemfire.expiration.support.MemoryPressureAwareSessionExpirationPolicy;
+import org.springframework.session.data.gemfire.expiration.support.MemoryPressureSessionSweeper;
 import org.springframework.session.data.gemfire.expiration.support.SessionExpirationPolicyCustomExpiryAdapter;
+import org.springframework.session.data.gemfire.expiration.support.TimingWheelSessionExpirationCacheListener;
 import org.springframework.session.data.gemfire.serialization.SessionSerializer;
 import org.springframework.session.data.gemfire.serialization.data.provider.DataSerializableSessionSerializer;
 import org.springframework.session.data.gemfire.serialization.data.support.DataSerializerSessionSerializerAdapter;
 import org.springframework.session.data.gemfire.serialization.pdx.provider.PdxSerializableSessionSerializer;
 import org.springframework.session.data.gemfire.serialization.pdx.support.ComposablePdxSerializer;
 import org.springframework.session.data.gemfire.serialization.pdx.support.PdxSerializerSessionSerializerAdapter;
+import org.springframework.session.data.gemfire.support.CachedMillisecondClock;
 import org.springframework.session.data.gemfire.support.DeltaAwareDirtyPredicate;
 import org.springframework.session.data.gemfire.support.GemFireUtils;
 import org.springframework.session.data.gemfire.support.IsDirtyPredicate;
+import org.springframework.session.data.gemfire.support.PrincipalNameSessionIndex;
+import org.springframework.session.data.gemfire.support.RoutingKeySessionIdGenerator;
+import org.springframework.session.data.gemfire.support.SessionClockAware;
+import org.springframework.session.data.gemfire.support.SessionClockAwareBeanPostProcessor;
+import org.springframework.session.data.gemfire.support.SessionIdPartitionResolver;
+import org.springframework.session.data.gemfire.support.SessionInterestManager;
+import org.springframework.session.data.gemfire.support.SessionRegionStatistics;
 import org.springframework.util.StringUtils;
 
 /**
@@ -121,6 +157,7 @@ import org.springframework.util.StringUtils;
  * @see SessionExpirationPolicy
  * @see SessionExpirationTimeoutAwareBeanPostProcessor
  * @see SessionExpirationPolicyCustomExpiryAdapter
+ * @see SessionExpiredEventBatcher
  * @see SessionSerializer
  * @see DataSerializableSessionSerializer
  * @see DataSerializerSessionSerializerAdapter
@@ -175,6 +212,113 @@ public class GemFireHttpSessionConfiguration extends AbstractGemFireHttpSessionC
 	 */
 	public static final RegionShortcut DEFAULT_SERVER_REGION_SHORTCUT = RegionShortcut.PARTITION;
 
+	/**
+	 * Default interval in milliseconds between publications of batched expired {@link Session} events.
+	 */
+	public static final int DEFAULT_SESSION_EXPIRED_EVENT_BATCH_INTERVAL_MILLIS = 1000;
+
+	/**
+	 * Default maximum number of expired {@link Session} IDs published in a single batched event;
+	 * {@literal 0} disables batching.
+	 */
+	public static final int DEFAULT_SESSION_EXPIRED_EVENT_BATCH_SIZE = SessionExpiredEventBatcher.DEFAULT_MAX_BATCH_SIZE;
+
+	/**
+	 * Default maximum number of batched expired {@link Session} events published per interval.
+	 */
+	public static final int DEFAULT_SESSION_EXPIRED_EVENT_MAX_BATCHES_PER_FLUSH =
+		SessionExpiredEventBatcher.DEFAULT_MAX_BATCHES_PER_FLUSH;
+
+	/**
+	 * Default setting for targeted, per-{@link Session} interest registration; disabled by default.
+	 */
+	public static final boolean DEFAULT_REGISTER_INTEREST_ENABLED = false;
+
+	/**
+	 * Default local inactivity timeout in seconds after which interest in a {@link Session} is unregistered;
+	 * {@literal 0} uses the {@link Session} {@link #getMaxInactiveIntervalInSeconds() max inactive interval}.
+	 */
+	public static final int DEFAULT_REGISTER_INTEREST_INACTIVITY_TIMEOUT_SECONDS = 0;
+
+	/**
+	 * Default number of lanes used to publish {@link Session} events asynchronously, in order per {@link Session};
+	 * {@literal 0} publishes events on the cache callback {@link Thread}.
+	 */
+	public static final int DEFAULT_SESSION_EVENT_EXECUTOR_LANE_COUNT = SessionEventExecutor.DEFAULT_LANE_COUNT;
+
+	/**
+	 * Default window in milliseconds within which {@link SessionChangedEvent SessionChangedEvents} for the same
+	 * {@link Session} are coalesced; {@literal 0} disables coalescing.
+	 */
+	public static final int DEFAULT_SESSION_CHANGED_EVENT_COALESCING_WINDOW_MILLIS = 0;
+
+	/**
+	 * Default setting for expiring {@link Session Sessions} in client {@link Region Regions} with a local data policy
+	 * using a timing wheel rather than per-entry idle timeout expiration.
+	 */
+	public static final boolean DEFAULT_TIMING_WHEEL_EXPIRATION_ENABLED = false;
+
+	/**
+	 * Default fixed duration in seconds after which a {@link Session} expires, measured from its creation time,
+	 * enforced with an entry time-to-live; {@literal 0} disables fixed duration expiration.
+	 */
+	public static final int DEFAULT_FIXED_DURATION_EXPIRATION_SECONDS = 0;
+
+	/**
+	 * Default interval in seconds between server-side sweeps of expired {@link Session Sessions};
+	 * {@literal 0} disables the sweeper.
+	 */
+	public static final int DEFAULT_EXPIRED_SESSION_SWEEP_INTERVAL_SECONDS = 0;
+
+	/**
+	 * Default resolution in milliseconds of the cached clock used to touch and expire {@link Session Sessions};
+	 * {@literal 0} uses the system clock.
+	 */
+	public static final int DEFAULT_CACHED_CLOCK_RESOLUTION_MILLIS = 0;
+
+	/**
+	 * Default setting for creating a range Index on the expiration time of {@link Session Sessions}.
+	 */
+	public static final boolean DEFAULT_EXPIRATION_TIME_INDEX_ENABLED = false;
+
+	/**
+	 * Default setting for maintaining a {@link Region} mapping principal names to {@link Session} IDs.
+	 */
+	public static final boolean DEFAULT_PRINCIPAL_NAME_INDEX_REGION_ENABLED = false;
+
+	/**
+	 * Default setting for storing {@link Session Sessions} in off-heap memory.
+	 */
+	public static final boolean DEFAULT_SESSION_REGION_OFF_HEAP = false;
+
+	/**
+	 * Default setting for compressing {@link Session Sessions} in the {@link Session} {@link Region}.
+	 */
+	public static final boolean DEFAULT_SESSION_REGION_COMPRESSION_ENABLED = false;
+
+	/**
+	 * Default total number of buckets of a {@literal PARTITION} {@link Session} {@link Region}.
+	 */
+	public static final int DEFAULT_SESSION_REGION_TOTAL_NUMBER_OF_BUCKETS =
+		PartitionAttributesFactory.GLOBAL_MAX_BUCKETS_DEFAULT;
+
+	/**
+	 * Default number of redundant copies of a {@literal PARTITION} {@link Session} {@link Region};
+	 * {@literal -1} uses the redundancy of the server {@link RegionShortcut}.
+	 */
+	public static final int DEFAULT_SESSION_REGION_REDUNDANT_COPIES = -1;
+
+	/**
+	 * Default {@link SessionRegionEvictionPolicy} of a client {@literal CACHING_PROXY} {@link Session} {@link Region}.
+	 */
+	public static final SessionRegionEvictionPolicy DEFAULT_SESSION_REGION_EVICTION_POLICY =
+		SessionRegionEvictionPolicy.NONE;
+
+	/**
+	 * Default maximum of the {@link SessionRegionEvictionPolicy}; {@literal 0} uses the Apache Geode default.
+	 */
+	public static final int DEFAULT_SESSION_REGION_EVICTION_MAXIMUM = 0;
+
 	/**
 	 * {@link SpringSessionGemFireConfigurer} {@link Class Interface} {@link Method} {@link String Names}
 	 */
@@ -205,6 +349,63 @@ public class GemFireHttpSessionConfiguration extends AbstractGemFireHttpSessionC
 	public static final String CONFIGURER_GET_SESSION_SERIALIZER_BEAN_NAME_METHOD_NAME =
 		findByMethodName(SpringSessionGemFireConfigurer.class, "getSessionSerializerBeanName");
 
+	public static final String CONFIGURER_GET_SESSION_EXPIRED_EVENT_BATCH_INTERVAL_MILLIS_METHOD_NAME =
+		findByMethodName(SpringSessionGemFireConfigurer.class, "getSessionExpiredEventBatchIntervalMillis");
+
+	public static final String CONFIGURER_GET_SESSION_EXPIRED_EVENT_BATCH_SIZE_METHOD_NAME =
+		findByMethodName(SpringSessionGemFireConfigurer.class, "getSessionExpiredEventBatchSize");
+
+	public static final String CONFIGURER_GET_SESSION_EXPIRED_EVENT_MAX_BATCHES_PER_FLUSH_METHOD_NAME =
+		findByMethodName(SpringSessionGemFireConfigurer.class, "getSessionExpiredEventMaxBatchesPerFlush");
+
+	public static final String CONFIGURER_IS_REGISTER_INTEREST_ENABLED_METHOD_NAME =
+		findByMethodName(SpringSessionGemFireConfigurer.class, "isRegisterInterestEnabled");
+
+	public static final String CONFIGURER_GET_REGISTER_INTEREST_INACTIVITY_TIMEOUT_SECONDS_METHOD_NAME =
+		findByMethodName(SpringSessionGemFireConfigurer.class, "getRegisterInterestInactivityTimeoutSeconds");
+
+	public static final String CONFIGURER_GET_SESSION_EVENT_EXECUTOR_LANE_COUNT_METHOD_NAME =
+		findByMethodName(SpringSessionGemFireConfigurer.class, "getSessionEventExecutorLaneCount");
+
+	public static final String CONFIGURER_GET_SESSION_CHANGED_EVENT_COALESCING_WINDOW_MILLIS_METHOD_NAME =
+		findByMethodName(SpringSessionGemFireConfigurer.class, "getSessionChangedEventCoalescingWindowMillis");
+
+	public static final String CONFIGURER_IS_TIMING_WHEEL_EXPIRATION_ENABLED_METHOD_NAME =
+		findByMethodName(SpringSessionGemFireConfigurer.class, "isTimingWheelExpirationEnabled");
+
+	public static final String CONFIGURER_GET_FIXED_DURATION_EXPIRATION_SECONDS_METHOD_NAME =
+		findByMethodName(SpringSessionGemFireConfigurer.class, "getFixedDurationExpirationSeconds");
+
+	public static final String CONFIGURER_GET_EXPIRED_SESSION_SWEEP_INTERVAL_SECONDS_METHOD_NAME =
+		findByMethodName(SpringSessionGemFireConfigurer.class, "getExpiredSessionSweepIntervalSeconds");
+
+	public static final String CONFIGURER_GET_CACHED_CLOCK_RESOLUTION_MILLIS_METHOD_NAME =
+		findByMethodName(SpringSessionGemFireConfigurer.class, "getCachedClockResolutionMillis");
+
+	public static final String CONFIGURER_IS_EXPIRATION_TIME_INDEX_ENABLED_METHOD_NAME =
+		findByMethodName(SpringSessionGemFireConfigurer.class, "isExpirationTimeIndexEnabled");
+
+	public static final String CONFIGURER_IS_PRINCIPAL_NAME_INDEX_REGION_ENABLED_METHOD_NAME =
+		findByMethodName(SpringSessionGemFireConfigurer.class, "isPrincipalNameIndexRegionEnabled");
+
+	public static final String CONFIGURER_IS_SESSION_REGION_OFF_HEAP_METHOD_NAME =
+		findByMethodName(SpringSessionGemFireConfigurer.class, "isSessionRegionOffHeap");
+
+	public static final String CONFIGURER_IS_SESSION_REGION_COMPRESSION_ENABLED_METHOD_NAME =
+		findByMethodName(SpringSessionGemFireConfigurer.class, "isSessionRegionCompressionEnabled");
+
+	public static final String CONFIGURER_GET_SESSION_REGION_TOTAL_NUMBER_OF_BUCKETS_METHOD_NAME =
+		findByMethodName(SpringSessionGemFireConfigurer.class, "getSessionRegionTotalNumberOfBuckets");
+
+	public static final String CONFIGURER_GET_SESSION_REGION_REDUNDANT_COPIES_METHOD_NAME =
+		findByMethodName(SpringSessionGemFireConfigurer.class, "getSessionRegionRedundantCopies");
+
+	public static final String CONFIGURER_GET_SESSION_REGION_EVICTION_POLICY_METHOD_NAME =
+		findByMethodName(SpringSessionGemFireConfigurer.class, "getSessionRegionEvictionPolicy");
+
+	public static final String CONFIGURER_GET_SESSION_REGION_EVICTION_MAXIMUM_METHOD_NAME =
+		findByMethodName(SpringSessionGemFireConfigurer.class, "getSessionRegionEvictionMaximum");
+
 	/**
 	 * Name of the connection {@link Pool} used by the client {@link Region} to send {@link Session} state
 	 * to the cluster of  Apache Geode servers.
@@ -252,6 +453,8 @@ public class GemFireHttpSessionConfiguration extends AbstractGemFireHttpSessionC
 
 	private RegionShortcut serverRegionShortcut = DEFAULT_SERVER_REGION_SHORTCUT;
 
+	private SessionIdGenerator sessionIdGenerator;
+
 	private String poolName = DEFAULT_POOL_NAME;
 
 	private String sessionExpirationPolicyBeanName = DEFAULT_SESSION_EXPIRATION_POLICY_BEAN_NAME;
@@ -262,6 +465,42 @@ public class GemFireHttpSessionConfiguration extends AbstractGemFireHttpSessionC
 
 	private String[] indexableSessionAttributes = DEFAULT_INDEXABLE_SESSION_ATTRIBUTES;
 
+	private boolean sessionRegionOffHeap = DEFAULT_SESSION_REGION_OFF_HEAP;
+
+	private boolean sessionRegionCompressionEnabled = DEFAULT_SESSION_REGION_COMPRESSION_ENABLED;
+
+	private int sessionRegionTotalNumberOfBuckets = DEFAULT_SESSION_REGION_TOTAL_NUMBER_OF_BUCKETS;
+
+	private int sessionRegionRedundantCopies = DEFAULT_SESSION_REGION_REDUNDANT_COPIES;
+
+	private SessionRegionEvictionPolicy sessionRegionEvictionPolicy = DEFAULT_SESSION_REGION_EVICTION_POLICY;
+
+	private int sessionRegionEvictionMaximum = DEFAULT_SESSION_REGION_EVICTION_MAXIMUM;
+
+	private boolean principalNameIndexRegionEnabled = DEFAULT_PRINCIPAL_NAME_INDEX_REGION_ENABLED;
+
+	private boolean expirationTimeIndexEnabled = DEFAULT_EXPIRATION_TIME_INDEX_ENABLED;
+
+	private int cachedClockResolutionMillis = DEFAULT_CACHED_CLOCK_RESOLUTION_MILLIS;
+
+	private int expiredSessionSweepIntervalSeconds = DEFAULT_EXPIRED_SESSION_SWEEP_INTERVAL_SECONDS;
+
+	private int fixedDurationExpirationSeconds = DEFAULT_FIXED_DURATION_EXPIRATION_SECONDS;
+
+	private boolean timingWheelExpirationEnabled = DEFAULT_TIMING_WHEEL_EXPIRATION_ENABLED;
+
+	private int sessionChangedEventCoalescingWindowMillis = DEFAULT_SESSION_CHANGED_EVENT_COALESCING_WINDOW_MILLIS;
+
+	private int sessionEventExecutorLaneCount = DEFAULT_SESSION_EVENT_EXECUTOR_LANE_COUNT;
+
+	private boolean registerInterestEnabled = DEFAULT_REGISTER_INTEREST_ENABLED;
+
+	private int registerInterestInactivityTimeoutSeconds = DEFAULT_REGISTER_INTEREST_INACTIVITY_TIMEOUT_SECONDS;
+
+	private int sessionExpiredEventBatchIntervalMillis = DEFAULT_SESSION_EXPIRED_EVENT_BATCH_INTERVAL_MILLIS;
+	private int sessionExpiredEventBatchSize = DEFAULT_SESSION_EXPIRED_EVENT_BATCH_SIZE;
+	private int sessionExpiredEventMaxBatchesPerFlush = DEFAULT_SESSION_EXPIRED_EVENT_MAX_BATCHES_PER_FLUSH;
+
 	private static @NonNull String findByMethodName(@NonNull Class<?> type, @NonNull String methodName) {
 
 		return Arrays.stream(type.getDeclaredMethods())
@@ -418,6 +657,34 @@ public class GemFireHttpSessionConfiguration extends AbstractGemFireHttpSessionC
 			: DEFAULT_IS_DIRTY_PREDICATE;
 	}
 
+	/**
+	 * Configures the {@link SessionIdGenerator}, as a bean from the Spring context, used to generate
+	 * {@link Session} IDs.
+	 *
+	 * @param sessionIdGenerator {@link SessionIdGenerator} bean used to generate {@link Session} IDs.
+	 * @see SessionIdGenerator
+	 */
+	@Autowired(required = false)
+	public void setSessionIdGenerator(SessionIdGenerator sessionIdGenerator) {
+		this.sessionIdGenerator = sessionIdGenerator;
+	}
+
+	/**
+	 * Returns the configured {@link SessionIdGenerator} bean, declared in the Spring context, used to generate
+	 * {@link Session} IDs.
+	 *
+	 * Defaults to the {@link UuidSessionIdGenerator}.
+	 *
+	 * @return the configured {@link SessionIdGenerator} bean used to generate {@link Session} IDs.
+	 * @see SessionIdGenerator
+	 */
+	public SessionIdGenerator getSessionIdGenerator() {
+
+		return this.sessionIdGenerator != null
+			? this.sessionIdGenerator
+			: UuidSessionIdGenerator.getInstance();
+	}
+
 	/**
 	 * Sets the maximum interval in seconds in which a {@link Session} can remain inactive before it expires.
 	 *
@@ -607,131 +874,738 @@ public class GemFireHttpSessionConfiguration extends AbstractGemFireHttpSessionC
 	}
 
 	/**
-	 * Callback with the {@link AnnotationMetadata} of the class containing {@link Import @Import} annotation
-	 * that imported this {@link Configuration @Configuration} class.
-	 *
-	 * The {@link Configuration @Configuration} class should also be annotated with {@link EnableGemFireHttpSession}.
+	 * Sets the interval in milliseconds between publications of batched expired {@link Session} events.
 	 *
-	 * @param importMetadata {@link AnnotationMetadata} of the application class importing
-	 * this {@link Configuration} class.
-	 * @see AnnotationMetadata
-	 * @see #applySpringSessionGemFireConfigurer()
-	 * @see #exposeSpringSessionGemFireConfiguration()
+	 * @param sessionExpiredEventBatchIntervalMillis interval in milliseconds between publications
+	 * of {@link SessionsExpiredBatchEvent SessionsExpiredBatchEvents}.
+	 * @see EnableGemFireHttpSession#sessionExpiredEventBatchIntervalMillis()
 	 */
-	public void setImportMetadata(AnnotationMetadata importMetadata) {
-
-		AnnotationAttributes enableGemFireHttpSessionAttributes =
-			AnnotationAttributes.fromMap(importMetadata.getAnnotationAttributes(
-				EnableGemFireHttpSession.class.getName()));
-
-		// Apply configuration from {@link EnableGemFireHttpSession} annotation
-		// and well-known, documented {@link Properties}.
-		configureClientRegionShortcut(enableGemFireHttpSessionAttributes);
-		configureExposeConfigurationAsProperties(enableGemFireHttpSessionAttributes);
-		configureIndexedSessionAttributes(enableGemFireHttpSessionAttributes);
-		configureMaxInactiveIntervalInSeconds(enableGemFireHttpSessionAttributes);
-		configurePoolName(enableGemFireHttpSessionAttributes);
-		configureServerRegionShortcut(enableGemFireHttpSessionAttributes);
-		configureSessionExpirationPolicyBeanName(enableGemFireHttpSessionAttributes);
-		configureSessionRegionName(enableGemFireHttpSessionAttributes);
-		configureSessionSerializerBeanName(enableGemFireHttpSessionAttributes);
-
-		// Apply configuration from {@link SpringSessionGemFireConfigurer}.
-		applySpringSessionGemFireConfigurer();
-
-		// Expose configuration as {@link Properties} in the Spring {@link Environment}
-		// if {@link EnableGemFireHttpSession#exposeConfigurationAsProperties} is set to {@literal true}.
-		exposeSpringSessionGemFireConfiguration();
-
-		// Initialize GemFire/Geode if possible
-		registerSessionSerializerBeanAlias();
+	public void setSessionExpiredEventBatchIntervalMillis(int sessionExpiredEventBatchIntervalMillis) {
+		this.sessionExpiredEventBatchIntervalMillis = sessionExpiredEventBatchIntervalMillis;
 	}
 
-	private void configureClientRegionShortcut(AnnotationAttributes enableGemFireHttpSessionAttributes) {
-
-		ClientRegionShortcut defaultClientRegionShortcut =
-			enableGemFireHttpSessionAttributes.getEnum("clientRegionShortcut");
+	/**
+	 * Gets the interval in milliseconds between publications of batched expired {@link Session} events.
+	 *
+	 * Defaults to {@link #DEFAULT_SESSION_EXPIRED_EVENT_BATCH_INTERVAL_MILLIS}.
+	 *
+	 * @return the interval in milliseconds between publications
+	 * of {@link SessionsExpiredBatchEvent SessionsExpiredBatchEvents}.
+	 */
+	public int getSessionExpiredEventBatchIntervalMillis() {
 
-		setClientRegionShortcut(resolveProperty(clientRegionShortcutPropertyName(),
-			ClientRegionShortcut.class, defaultClientRegionShortcut));
+		return this.sessionExpiredEventBatchIntervalMillis > 0
+			? this.sessionExpiredEventBatchIntervalMillis
+			: DEFAULT_SESSION_EXPIRED_EVENT_BATCH_INTERVAL_MILLIS;
 	}
 
-	private void configureExposeConfigurationAsProperties(AnnotationAttributes enableGemFireHttpSessionAttributes) {
-
-		boolean defaultExposeConfigurationAsProperties = Boolean.TRUE
-			.equals(enableGemFireHttpSessionAttributes.getBoolean("exposeConfigurationAsProperties"));
-
-		setExposeConfigurationAsProperties(resolveProperty(exposeConfigurationAsPropertiesPropertyName(),
-			defaultExposeConfigurationAsProperties));
+	/**
+	 * Sets the maximum number of expired {@link Session} IDs published in a single batched event.
+	 *
+	 * A value less than {@literal 1} disables batching.
+	 *
+	 * @param sessionExpiredEventBatchSize maximum number of expired {@link Session} IDs
+	 * in a single {@link SessionsExpiredBatchEvent}.
+	 * @see EnableGemFireHttpSession#sessionExpiredEventBatchSize()
+	 */
+	public void setSessionExpiredEventBatchSize(int sessionExpiredEventBatchSize) {
+		this.sessionExpiredEventBatchSize = sessionExpiredEventBatchSize;
 	}
 
-	private void configureIndexedSessionAttributes(AnnotationAttributes enableGemFireHttpSessionAttributes) {
-
-		String[] defaultIndexedSessionAttributes =
-			enableGemFireHttpSessionAttributes.getStringArray("indexableSessionAttributes");
-
-		setIndexableSessionAttributes(resolveProperty(indexedSessionAttributesPropertyName(),
-			resolveProperty(indexableSessionAttributesPropertyName(), defaultIndexedSessionAttributes)));
+	/**
+	 * Gets the maximum number of expired {@link Session} IDs published in a single batched event.
+	 *
+	 * Defaults to {@link #DEFAULT_SESSION_EXPIRED_EVENT_BATCH_SIZE}, which disables batching.
+	 *
+	 * @return the maximum number of expired {@link Session} IDs in a single {@link SessionsExpiredBatchEvent}.
+	 */
+	public int getSessionExpiredEventBatchSize() {
+		return this.sessionExpiredEventBatchSize;
 	}
 
-	private void configureMaxInactiveIntervalInSeconds(AnnotationAttributes enableGemFireHttpSessionAttributes) {
-
-		Integer defaultMaxInactiveIntervalInSeconds =
-			enableGemFireHttpSessionAttributes.getNumber("maxInactiveIntervalInSeconds").intValue();
-
-		setMaxInactiveIntervalInSeconds(resolveProperty(maxInactiveIntervalInSecondsPropertyName(),
-			defaultMaxInactiveIntervalInSeconds));
+	/**
+	 * Sets the maximum number of batched expired {@link Session} events published per interval.
+	 *
+	 * @param sessionExpiredEventMaxBatchesPerFlush maximum number of
+	 * {@link SessionsExpiredBatchEvent SessionsExpiredBatchEvents} published per interval.
+	 * @see EnableGemFireHttpSession#sessionExpiredEventMaxBatchesPerFlush()
+	 */
+	public void setSessionExpiredEventMaxBatchesPerFlush(int sessionExpiredEventMaxBatchesPerFlush) {
+		this.sessionExpiredEventMaxBatchesPerFlush = sessionExpiredEventMaxBatchesPerFlush;
 	}
 
-	private void configurePoolName(AnnotationAttributes enableGemFireHttpSessionAttributes) {
-
-		String defaultPoolName = enableGemFireHttpSessionAttributes.getString("poolName");
+	/**
+	 * Gets the maximum number of batched expired {@link Session} events published per interval.
+	 *
+	 * Defaults to {@link #DEFAULT_SESSION_EXPIRED_EVENT_MAX_BATCHES_PER_FLUSH}.
+	 *
+	 * @return the maximum number of {@link SessionsExpiredBatchEvent SessionsExpiredBatchEvents}
+	 * published per interval.
+	 */
+	public int getSessionExpiredEventMaxBatchesPerFlush() {
 
-		setPoolName(resolveProperty(poolNamePropertyName(), defaultPoolName));
+		return this.sessionExpiredEventMaxBatchesPerFlush > 0
+			? this.sessionExpiredEventMaxBatchesPerFlush
+			: DEFAULT_SESSION_EXPIRED_EVENT_MAX_BATCHES_PER_FLUSH;
 	}
 
-	private void configureServerRegionShortcut(AnnotationAttributes enableGemFireHttpSessionAttributes) {
-
-		RegionShortcut defaultServerRegionShortcut =
-			enableGemFireHttpSessionAttributes.getEnum("serverRegionShortcut");
+	/**
+	 * Sets whether interest is registered only in the keys of the {@link Session Sessions} served by this node.
+	 *
+	 * @param registerInterestEnabled boolean value indicating whether targeted interest registration is enabled.
+	 * @see EnableGemFireHttpSession#registerInterestEnabled()
+	 */
+	public void setRegisterInterestEnabled(boolean registerInterestEnabled) {
+		this.registerInterestEnabled = registerInterestEnabled;
+	}
 
-		setServerRegionShortcut(resolveProperty(serverRegionShortcutPropertyName(), RegionShortcut.class,
-			defaultServerRegionShortcut));
+	/**
+	 * Determines whether interest is registered only in the keys of the {@link Session Sessions} served by this node.
+	 *
+	 * Defaults to {@link #DEFAULT_REGISTER_INTEREST_ENABLED}.
+	 *
+	 * @return a boolean value indicating whether targeted interest registration is enabled.
+	 */
+	public boolean isRegisterInterestEnabled() {
+		return this.registerInterestEnabled;
 	}
 
-	private void configureSessionExpirationPolicyBeanName(AnnotationAttributes enableGemFireHttpSessionAttributes) {
+	/**
+	 * Sets the local inactivity timeout in seconds after which interest in a {@link Session} is unregistered.
+	 *
+	 * @param registerInterestInactivityTimeoutSeconds local inactivity timeout in seconds.
+	 * @see EnableGemFireHttpSession#registerInterestInactivityTimeoutSeconds()
+	 */
+	public void setRegisterInterestInactivityTimeoutSeconds(int registerInterestInactivityTimeoutSeconds) {
+		this.registerInterestInactivityTimeoutSeconds = registerInterestInactivityTimeoutSeconds;
+	}
 
-		String defaultSessionExpirationPolicyBeanName =
-			enableGemFireHttpSessionAttributes.getString("sessionExpirationPolicyBeanName");
+	/**
+	 * Gets the local inactivity timeout in seconds after which interest in a {@link Session} is unregistered.
+	 *
+	 * Defaults to the {@link #getMaxInactiveIntervalInSeconds() max inactive interval} when not set,
+	 * or to {@link #DEFAULT_MAX_INACTIVE_INTERVAL_IN_SECONDS} when {@link Session Sessions} never expire.
+	 *
+	 * @return the local inactivity timeout in seconds.
+	 */
+	public int getRegisterInterestInactivityTimeoutSeconds() {
 
-		setSessionExpirationPolicyBeanName(resolveProperty(sessionExpirationPolicyBeanNamePropertyName(),
-			defaultSessionExpirationPolicyBeanName));
+		return this.registerInterestInactivityTimeoutSeconds > 0 ? this.registerInterestInactivityTimeoutSeconds
+			: getMaxInactiveIntervalInSeconds() > 0 ? getMaxInactiveIntervalInSeconds()
+			: DEFAULT_MAX_INACTIVE_INTERVAL_IN_SECONDS;
 	}
 
-	private void configureSessionRegionName(AnnotationAttributes enableGemFireHttpSessionAttributes) {
-
-		String defaultSessionRegionName = enableGemFireHttpSessionAttributes.getString("regionName");
+	/**
+	 * Sets the number of lanes used to publish {@link Session} events asynchronously, in order per {@link Session}.
+	 *
+	 * @param sessionEventExecutorLaneCount number of single-threaded lanes; {@literal 0} disables
+	 * asynchronous publication.
+	 * @see EnableGemFireHttpSession#sessionEventExecutorLaneCount()
+	 */
+	public void setSessionEventExecutorLaneCount(int sessionEventExecutorLaneCount) {
+		this.sessionEventExecutorLaneCount = sessionEventExecutorLaneCount;
+	}
 
-		setSessionRegionName(resolveProperty(sessionRegionNamePropertyName(), defaultSessionRegionName));
+	/**
+	 * Gets the number of lanes used to publish {@link Session} events asynchronously, in order per {@link Session}.
+	 *
+	 * Defaults to {@link #DEFAULT_SESSION_EVENT_EXECUTOR_LANE_COUNT}.
+	 *
+	 * @return the number of single-threaded lanes.
+	 */
+	public int getSessionEventExecutorLaneCount() {
+		return this.sessionEventExecutorLaneCount;
 	}
 
-	private void configureSessionSerializerBeanName(AnnotationAttributes enableGemFireHttpSessionAttributes) {
+	/**
+	 * Sets the window in milliseconds within which {@link SessionChangedEvent SessionChangedEvents}
+	 * for the same {@link Session} are coalesced.
+	 *
+	 * @param sessionChangedEventCoalescingWindowMillis coalescing window in milliseconds;
+	 * {@literal 0} disables coalescing.
+	 * @see EnableGemFireHttpSession#sessionChangedEventCoalescingWindowMillis()
+	 */
+	public void setSessionChangedEventCoalescingWindowMillis(int sessionChangedEventCoalescingWindowMillis) {
+		this.sessionChangedEventCoalescingWindowMillis = sessionChangedEventCoalescingWindowMillis;
+	}
 
-		String defaultSessionSerializerBeanName =
-			enableGemFireHttpSessionAttributes.getString("sessionSerializerBeanName");
+	/**
+	 * Gets the window in milliseconds within which {@link SessionChangedEvent SessionChangedEvents}
+	 * for the same {@link Session} are coalesced.
+	 *
+	 * Defaults to {@link #DEFAULT_SESSION_CHANGED_EVENT_COALESCING_WINDOW_MILLIS}.
+	 *
+	 * @return the coalescing window in milliseconds.
+	 */
+	public int getSessionChangedEventCoalescingWindowMillis() {
+		return this.sessionChangedEventCoalescingWindowMillis;
+	}
 
-		setSessionSerializerBeanName(resolveProperty(sessionSerializerBeanNamePropertyName(),
-			defaultSessionSerializerBeanName));
+	/**
+	 * Sets whether {@link Session Sessions} in a client {@link Region} with a local data policy are expired
+	 * using a timing wheel rather than per-entry idle timeout expiration.
+	 *
+	 * @param timingWheelExpirationEnabled boolean value indicating whether timing wheel expiration is enabled.
+	 * @see EnableGemFireHttpSession#timingWheelExpirationEnabled()
+	 */
+	public void setTimingWheelExpirationEnabled(boolean timingWheelExpirationEnabled) {
+		this.timingWheelExpirationEnabled = timingWheelExpirationEnabled;
 	}
 
 	/**
-	 * Applies configuration from a single {@link SpringSessionGemFireConfigurer} bean
-	 * declared in the Spring {@link ApplicationContext}.
+	 * Determines whether {@link Session Sessions} in a client {@link Region} with a local data policy are expired
+	 * using a timing wheel rather than per-entry idle timeout expiration.
 	 *
-	 * @see SpringSessionGemFireConfigurer
-	 * @see #resolveSpringSessionGemFireConfigurer()
+	 * Defaults to {@link #DEFAULT_TIMING_WHEEL_EXPIRATION_ENABLED}.
+	 *
+	 * @return a boolean value indicating whether timing wheel expiration is enabled.
 	 */
-	void applySpringSessionGemFireConfigurer() {
+	public boolean isTimingWheelExpirationEnabled() {
+		return this.timingWheelExpirationEnabled;
+	}
+
+	/**
+	 * Sets the fixed duration in seconds after which a {@link Session} expires, measured from its creation time.
+	 *
+	 * @param fixedDurationExpirationSeconds fixed duration in seconds; {@literal 0} disables
+	 * fixed duration expiration.
+	 * @see EnableGemFireHttpSession#fixedDurationExpirationSeconds()
+	 */
+	public void setFixedDurationExpirationSeconds(int fixedDurationExpirationSeconds) {
+		this.fixedDurationExpirationSeconds = fixedDurationExpirationSeconds;
+	}
+
+	/**
+	 * Gets the fixed duration in seconds after which a {@link Session} expires, measured from its creation time.
+	 *
+	 * Defaults to {@link #DEFAULT_FIXED_DURATION_EXPIRATION_SECONDS}.
+	 *
+	 * @return the fixed duration in seconds.
+	 */
+	public int getFixedDurationExpirationSeconds() {
+		return this.fixedDurationExpirationSeconds;
+	}
+
+	/**
+	 * Sets the interval in seconds between server-side sweeps of expired {@link Session Sessions}.
+	 *
+	 * @param expiredSessionSweepIntervalSeconds interval in seconds between sweeps; {@literal 0} disables
+	 * the sweeper.
+	 * @see EnableGemFireHttpSession#expiredSessionSweepIntervalSeconds()
+	 */
+	public void setExpiredSessionSweepIntervalSeconds(int expiredSessionSweepIntervalSeconds) {
+		this.expiredSessionSweepIntervalSeconds = expiredSessionSweepIntervalSeconds;
+	}
+
+	/**
+	 * Gets the interval in seconds between server-side sweeps of expired {@link Session Sessions}.
+	 *
+	 * Defaults to {@link #DEFAULT_EXPIRED_SESSION_SWEEP_INTERVAL_SECONDS}.
+	 *
+	 * @return the interval in seconds between sweeps.
+	 */
+	public int getExpiredSessionSweepIntervalSeconds() {
+		return this.expiredSessionSweepIntervalSeconds;
+	}
+
+	/**
+	 * Sets the resolution in milliseconds of the cached clock used to touch and expire {@link Session Sessions}.
+	 *
+	 * @param cachedClockResolutionMillis resolution in milliseconds of the cached clock; {@literal 0} uses
+	 * the system clock.
+	 * @see EnableGemFireHttpSession#cachedClockResolutionMillis()
+	 */
+	public void setCachedClockResolutionMillis(int cachedClockResolutionMillis) {
+		this.cachedClockResolutionMillis = cachedClockResolutionMillis;
+	}
+
+	/**
+	 * Gets the resolution in milliseconds of the cached clock used to touch and expire {@link Session Sessions}.
+	 *
+	 * Defaults to {@link #DEFAULT_CACHED_CLOCK_RESOLUTION_MILLIS}.
+	 *
+	 * @return the resolution in milliseconds of the cached clock.
+	 */
+	public int getCachedClockResolutionMillis() {
+		return this.cachedClockResolutionMillis;
+	}
+
+	/**
+	 * Sets whether a range Index is created on the expiration time of {@link Session Sessions}.
+	 *
+	 * @param expirationTimeIndexEnabled boolean value indicating whether the expiration time Index is created.
+	 * @see EnableGemFireHttpSession#expirationTimeIndexEnabled()
+	 */
+	public void setExpirationTimeIndexEnabled(boolean expirationTimeIndexEnabled) {
+		this.expirationTimeIndexEnabled = expirationTimeIndexEnabled;
+	}
+
+	/**
+	 * Determines whether a range Index is created on the expiration time of {@link Session Sessions}.
+	 *
+	 * Defaults to {@link #DEFAULT_EXPIRATION_TIME_INDEX_ENABLED}.
+	 *
+	 * @return a boolean value indicating whether the expiration time Index is created.
+	 */
+	public boolean isExpirationTimeIndexEnabled() {
+		return this.expirationTimeIndexEnabled;
+	}
+
+	/**
+	 * Sets whether a {@link Region} mapping principal names to {@link Session} IDs is maintained
+	 * and used to find {@link Session Sessions} by principal name.
+	 *
+	 * @param principalNameIndexRegionEnabled boolean value indicating whether the principal name index
+	 * {@link Region} is used.
+	 * @see EnableGemFireHttpSession#principalNameIndexRegionEnabled()
+	 */
+	public void setPrincipalNameIndexRegionEnabled(boolean principalNameIndexRegionEnabled) {
+		this.principalNameIndexRegionEnabled = principalNameIndexRegionEnabled;
+	}
+
+	/**
+	 * Determines whether a {@link Region} mapping principal names to {@link Session} IDs is maintained
+	 * and used to find {@link Session Sessions} by principal name.
+	 *
+	 * Defaults to {@link #DEFAULT_PRINCIPAL_NAME_INDEX_REGION_ENABLED}.
+	 *
+	 * @return a boolean value indicating whether the principal name index {@link Region} is used.
+	 */
+	public boolean isPrincipalNameIndexRegionEnabled() {
+		return this.principalNameIndexRegionEnabled;
+	}
+
+	/**
+	 * Sets whether the {@link Session} {@link Region} stores {@link Session Sessions} in off-heap memory.
+	 *
+	 * @param sessionRegionOffHeap boolean value indicating whether {@link Session Sessions} are stored off-heap.
+	 * @see EnableGemFireHttpSession#offHeap()
+	 */
+	public void setSessionRegionOffHeap(boolean sessionRegionOffHeap) {
+		this.sessionRegionOffHeap = sessionRegionOffHeap;
+	}
+
+	/**
+	 * Determines whether the {@link Session} {@link Region} stores {@link Session Sessions} in off-heap memory.
+	 *
+	 * Defaults to {@link #DEFAULT_SESSION_REGION_OFF_HEAP}.
+	 *
+	 * @return a boolean value indicating whether {@link Session Sessions} are stored off-heap.
+	 */
+	public boolean isSessionRegionOffHeap() {
+		return this.sessionRegionOffHeap;
+	}
+
+	/**
+	 * Sets whether the {@link Session} {@link Region} compresses {@link Session Sessions} with Snappy.
+	 *
+	 * @param sessionRegionCompressionEnabled boolean value indicating whether {@link Session Sessions} are compressed.
+	 * @see EnableGemFireHttpSession#compressionEnabled()
+	 */
+	public void setSessionRegionCompressionEnabled(boolean sessionRegionCompressionEnabled) {
+		this.sessionRegionCompressionEnabled = sessionRegionCompressionEnabled;
+	}
+
+	/**
+	 * Determines whether the {@link Session} {@link Region} compresses {@link Session Sessions} with Snappy.
+	 *
+	 * Defaults to {@link #DEFAULT_SESSION_REGION_COMPRESSION_ENABLED}.
+	 *
+	 * @return a boolean value indicating whether {@link Session Sessions} are compressed.
+	 */
+	public boolean isSessionRegionCompressionEnabled() {
+		return this.sessionRegionCompressionEnabled;
+	}
+
+	/**
+	 * Sets the total number of buckets of the {@literal PARTITION} {@link Session} {@link Region} on the servers.
+	 *
+	 * @param sessionRegionTotalNumberOfBuckets total number of buckets.
+	 * @see EnableGemFireHttpSession#totalNumberOfBuckets()
+	 */
+	public void setSessionRegionTotalNumberOfBuckets(int sessionRegionTotalNumberOfBuckets) {
+		this.sessionRegionTotalNumberOfBuckets = sessionRegionTotalNumberOfBuckets;
+	}
+
+	/**
+	 * Gets the total number of buckets of the {@literal PARTITION} {@link Session} {@link Region} on the servers.
+	 *
+	 * Defaults to {@link #DEFAULT_SESSION_REGION_TOTAL_NUMBER_OF_BUCKETS}.
+	 *
+	 * @return the total number of buckets.
+	 */
+	public int getSessionRegionTotalNumberOfBuckets() {
+		return this.sessionRegionTotalNumberOfBuckets;
+	}
+
+	/**
+	 * Sets the number of redundant copies of the {@literal PARTITION} {@link Session} {@link Region} on the servers.
+	 *
+	 * @param sessionRegionRedundantCopies number of redundant copies; {@literal -1} uses the redundancy
+	 * of the server {@link RegionShortcut}.
+	 * @see EnableGemFireHttpSession#redundantCopies()
+	 */
+	public void setSessionRegionRedundantCopies(int sessionRegionRedundantCopies) {
+		this.sessionRegionRedundantCopies = sessionRegionRedundantCopies;
+	}
+
+	/**
+	 * Gets the number of redundant copies of the {@literal PARTITION} {@link Session} {@link Region} on the servers.
+	 *
+	 * Defaults to {@link #DEFAULT_SESSION_REGION_REDUNDANT_COPIES}.
+	 *
+	 * @return the number of redundant copies.
+	 */
+	public int getSessionRegionRedundantCopies() {
+		return this.sessionRegionRedundantCopies;
+	}
+
+	/**
+	 * Sets the {@link SessionRegionEvictionPolicy} of a client {@literal CACHING_PROXY} {@link Session} {@link Region}.
+	 *
+	 * @param sessionRegionEvictionPolicy {@link SessionRegionEvictionPolicy} used to evict client copies
+	 * of {@link Session Sessions}.
+	 * @see EnableGemFireHttpSession#evictionPolicy()
+	 */
+	public void setSessionRegionEvictionPolicy(SessionRegionEvictionPolicy sessionRegionEvictionPolicy) {
+		this.sessionRegionEvictionPolicy = sessionRegionEvictionPolicy;
+	}
+
+	/**
+	 * Gets the {@link SessionRegionEvictionPolicy} of a client {@literal CACHING_PROXY} {@link Session} {@link Region}.
+	 *
+	 * Defaults to {@link #DEFAULT_SESSION_REGION_EVICTION_POLICY}.
+	 *
+	 * @return the {@link SessionRegionEvictionPolicy}.
+	 */
+	public SessionRegionEvictionPolicy getSessionRegionEvictionPolicy() {
+		return this.sessionRegionEvictionPolicy;
+	}
+
+	/**
+	 * Sets the maximum of the {@link SessionRegionEvictionPolicy}.
+	 *
+	 * @param sessionRegionEvictionMaximum maximum number of {@link Session Sessions}, megabytes or heap percentage,
+	 * depending on the policy.
+	 * @see EnableGemFireHttpSession#evictionMaximum()
+	 */
+	public void setSessionRegionEvictionMaximum(int sessionRegionEvictionMaximum) {
+		this.sessionRegionEvictionMaximum = sessionRegionEvictionMaximum;
+	}
+
+	/**
+	 * Gets the maximum of the {@link SessionRegionEvictionPolicy}.
+	 *
+	 * Defaults to {@link #DEFAULT_SESSION_REGION_EVICTION_MAXIMUM}.
+	 *
+	 * @return the maximum of the {@link SessionRegionEvictionPolicy}.
+	 */
+	public int getSessionRegionEvictionMaximum() {
+		return this.sessionRegionEvictionMaximum;
+	}
+
+	/**
+	 * Callback with the {@link AnnotationMetadata} of the class containing {@link Import @Import} annotation
+	 * that imported this {@link Configuration @Configuration} class.
+	 *
+	 * The {@link Configuration @Configuration} class should also be annotated with {@link EnableGemFireHttpSession}.
+	 *
+	 * @param importMetadata {@link AnnotationMetadata} of the application class importing
+	 * this {@link Configuration} class.
+	 * @see AnnotationMetadata
+	 * @see #applySpringSessionGemFireConfigurer()
+	 * @see #exposeSpringSessionGemFireConfiguration()
+	 */
+	public void setImportMetadata(AnnotationMetadata importMetadata) {
+
+		AnnotationAttributes enableGemFireHttpSessionAttributes =
+			AnnotationAttributes.fromMap(importMetadata.getAnnotationAttributes(
+				EnableGemFireHttpSession.class.getName()));
+
+		// Apply configuration from {@link EnableGemFireHttpSession} annotation
+		// and well-known, documented {@link Properties}.
+		configureClientRegionShortcut(enableGemFireHttpSessionAttributes);
+		configureExposeConfigurationAsProperties(enableGemFireHttpSessionAttributes);
+		configureIndexedSessionAttributes(enableGemFireHttpSessionAttributes);
+		configureMaxInactiveIntervalInSeconds(enableGemFireHttpSessionAttributes);
+		configurePoolName(enableGemFireHttpSessionAttributes);
+		configureServerRegionShortcut(enableGemFireHttpSessionAttributes);
+		configureSessionExpirationPolicyBeanName(enableGemFireHttpSessionAttributes);
+		configureSessionRegionName(enableGemFireHttpSessionAttributes);
+		configureSessionSerializerBeanName(enableGemFireHttpSessionAttributes);
+		configureSessionExpiredEventBatching(enableGemFireHttpSessionAttributes);
+		configureRegisterInterest(enableGemFireHttpSessionAttributes);
+		configureSessionEventExecutor(enableGemFireHttpSessionAttributes);
+		configureSessionChangedEventCoalescing(enableGemFireHttpSessionAttributes);
+		configureTimingWheelExpiration(enableGemFireHttpSessionAttributes);
+		configureFixedDurationExpiration(enableGemFireHttpSessionAttributes);
+		configureExpiredSessionSweepInterval(enableGemFireHttpSessionAttributes);
+		configureCachedClockResolution(enableGemFireHttpSessionAttributes);
+		configureExpirationTimeIndex(enableGemFireHttpSessionAttributes);
+		configurePrincipalNameIndexRegion(enableGemFireHttpSessionAttributes);
+		configureSessionRegionOffHeap(enableGemFireHttpSessionAttributes);
+		configureSessionRegionCompressionEnabled(enableGemFireHttpSessionAttributes);
+		configureSessionRegionTotalNumberOfBuckets(enableGemFireHttpSessionAttributes);
+		configureSessionRegionRedundantCopies(enableGemFireHttpSessionAttributes);
+		configureSessionRegionEvictionPolicy(enableGemFireHttpSessionAttributes);
+		configureSessionRegionEvictionMaximum(enableGemFireHttpSessionAttributes);
+
+		// Apply configuration from {@link SpringSessionGemFireConfigurer}.
+		applySpringSessionGemFireConfigurer();
+
+		// Expose configuration as {@link Properties} in the Spring {@link Environment}
+		// if {@link EnableGemFireHttpSession#exposeConfigurationAsProperties} is set to {@literal true}.
+		exposeSpringSessionGemFireConfiguration();
+
+		// Initialize GemFire/Geode if possible
+		registerSessionSerializerBeanAlias();
+	}
+
+	private void configureClientRegionShortcut(AnnotationAttributes enableGemFireHttpSessionAttributes) {
+
+		ClientRegionShortcut defaultClientRegionShortcut =
+			enableGemFireHttpSessionAttributes.getEnum("clientRegionShortcut");
+
+		setClientRegionShortcut(resolveProperty(clientRegionShortcutPropertyName(),
+			ClientRegionShortcut.class, defaultClientRegionShortcut));
+	}
+
+	private void configureExposeConfigurationAsProperties(AnnotationAttributes enableGemFireHttpSessionAttributes) {
+
+		boolean defaultExposeConfigurationAsProperties = Boolean.TRUE
+			.equals(enableGemFireHttpSessionAttributes.getBoolean("exposeConfigurationAsProperties"));
+
+		setExposeConfigurationAsProperties(resolveProperty(exposeConfigurationAsPropertiesPropertyName(),
+			defaultExposeConfigurationAsProperties));
+	}
+
+	private void configureIndexedSessionAttributes(AnnotationAttributes enableGemFireHttpSessionAttributes) {
+
+		String[] defaultIndexedSessionAttributes =
+			enableGemFireHttpSessionAttributes.getStringArray("indexableSessionAttributes");
+
+		setIndexableSessionAttributes(resolveProperty(indexedSessionAttributesPropertyName(),
+			resolveProperty(indexableSessionAttributesPropertyName(), defaultIndexedSessionAttributes)));
+	}
+
+	private void configureMaxInactiveIntervalInSeconds(AnnotationAttributes enableGemFireHttpSessionAttributes) {
+
+		Integer defaultMaxInactiveIntervalInSeconds =
+			enableGemFireHttpSessionAttributes.getNumber("maxInactiveIntervalInSeconds").intValue();
+
+		setMaxInactiveIntervalInSeconds(resolveProperty(maxInactiveIntervalInSecondsPropertyName(),
+			defaultMaxInactiveIntervalInSeconds));
+	}
+
+	private void configurePoolName(AnnotationAttributes enableGemFireHttpSessionAttributes) {
+
+		String defaultPoolName = enableGemFireHttpSessionAttributes.getString("poolName");
+
+		setPoolName(resolveProperty(poolNamePropertyName(), defaultPoolName));
+	}
+
+	private void configureServerRegionShortcut(AnnotationAttributes enableGemFireHttpSessionAttributes) {
+
+		RegionShortcut defaultServerRegionShortcut =
+			enableGemFireHttpSessionAttributes.getEnum("serverRegionShortcut");
+
+		setServerRegionShortcut(resolveProperty(serverRegionShortcutPropertyName(), RegionShortcut.class,
+			defaultServerRegionShortcut));
+	}
+
+	private void configureSessionExpirationPolicyBeanName(AnnotationAttributes enableGemFireHttpSessionAttributes) {
+
+		String defaultSessionExpirationPolicyBeanName =
+			enableGemFireHttpSessionAttributes.getString("sessionExpirationPolicyBeanName");
+
+		setSessionExpirationPolicyBeanName(resolveProperty(sessionExpirationPolicyBeanNamePropertyName(),
+			defaultSessionExpirationPolicyBeanName));
+	}
+
+	private void configureSessionRegionName(AnnotationAttributes enableGemFireHttpSessionAttributes) {
+
+		String defaultSessionRegionName = enableGemFireHttpSessionAttributes.getString("regionName");
+
+		setSessionRegionName(resolveProperty(sessionRegionNamePropertyName(), defaultSessionRegionName));
+	}
+
+	private void configureSessionSerializerBeanName(AnnotationAttributes enableGemFireHttpSessionAttributes) {
+
+		String defaultSessionSerializerBeanName =
+			enableGemFireHttpSessionAttributes.getString("sessionSerializerBeanName");
+
+		setSessionSerializerBeanName(resolveProperty(sessionSerializerBeanNamePropertyName(),
+			defaultSessionSerializerBeanName));
+	}
+
+	private void configureSessionExpiredEventBatching(AnnotationAttributes enableGemFireHttpSessionAttributes) {
+
+		Integer defaultSessionExpiredEventBatchIntervalMillis =
+			enableGemFireHttpSessionAttributes.getNumber("sessionExpiredEventBatchIntervalMillis").intValue();
+
+		Integer defaultSessionExpiredEventBatchSize =
+			enableGemFireHttpSessionAttributes.getNumber("sessionExpiredEventBatchSize").intValue();
+
+		setSessionExpiredEventBatchIntervalMillis(resolveProperty(sessionExpiredEventBatchIntervalMillisPropertyName(),
+			defaultSessionExpiredEventBatchIntervalMillis));
+
+		Integer defaultSessionExpiredEventMaxBatchesPerFlush =
+			enableGemFireHttpSessionAttributes.getNumber("sessionExpiredEventMaxBatchesPerFlush").intValue();
+
+		setSessionExpiredEventBatchSize(resolveProperty(sessionExpiredEventBatchSizePropertyName(),
+			defaultSessionExpiredEventBatchSize));
+
+		setSessionExpiredEventMaxBatchesPerFlush(resolveProperty(sessionExpiredEventMaxBatchesPerFlushPropertyName(),
+			defaultSessionExpiredEventMaxBatchesPerFlush));
+	}
+
+	private void configureRegisterInterest(AnnotationAttributes enableGemFireHttpSessionAttributes) {
+
+		Boolean defaultRegisterInterestEnabled =
+			enableGemFireHttpSessionAttributes.getBoolean("registerInterestEnabled");
+
+		Integer defaultRegisterInterestInactivityTimeoutSeconds =
+			enableGemFireHttpSessionAttributes.getNumber("registerInterestInactivityTimeoutSeconds").intValue();
+
+		setRegisterInterestEnabled(resolveProperty(registerInterestEnabledPropertyName(),
+			defaultRegisterInterestEnabled));
+
+		setRegisterInterestInactivityTimeoutSeconds(resolveProperty(
+			registerInterestInactivityTimeoutSecondsPropertyName(), defaultRegisterInterestInactivityTimeoutSeconds));
+	}
+
+	private void configureSessionEventExecutor(AnnotationAttributes enableGemFireHttpSessionAttributes) {
+
+		Integer defaultSessionEventExecutorLaneCount =
+			enableGemFireHttpSessionAttributes.getNumber("sessionEventExecutorLaneCount").intValue();
+
+		setSessionEventExecutorLaneCount(resolveProperty(sessionEventExecutorLaneCountPropertyName(),
+			defaultSessionEventExecutorLaneCount));
+	}
+
+	private void configureSessionChangedEventCoalescing(AnnotationAttributes enableGemFireHttpSessionAttributes) {
+
+		Integer defaultSessionChangedEventCoalescingWindowMillis =
+			enableGemFireHttpSessionAttributes.getNumber("sessionChangedEventCoalescingWindowMillis").intValue();
+
+		setSessionChangedEventCoalescingWindowMillis(resolveProperty(
+			sessionChangedEventCoalescingWindowMillisPropertyName(), defaultSessionChangedEventCoalescingWindowMillis));
+	}
+
+	private void configureTimingWheelExpiration(AnnotationAttributes enableGemFireHttpSessionAttributes) {
+
+		Boolean defaultTimingWheelExpirationEnabled =
+			enableGemFireHttpSessionAttributes.getBoolean("timingWheelExpirationEnabled");
+
+		setTimingWheelExpirationEnabled(resolveProperty(timingWheelExpirationEnabledPropertyName(),
+			defaultTimingWheelExpirationEnabled));
+	}
+
+	private void configureFixedDurationExpiration(AnnotationAttributes enableGemFireHttpSessionAttributes) {
+
+		Integer defaultFixedDurationExpirationSeconds =
+			enableGemFireHttpSessionAttributes.getNumber("fixedDurationExpirationSeconds").intValue();
+
+		setFixedDurationExpirationSeconds(resolveProperty(fixedDurationExpirationSecondsPropertyName(),
+			defaultFixedDurationExpirationSeconds));
+	}
+
+	private void configureExpiredSessionSweepInterval(AnnotationAttributes enableGemFireHttpSessionAttributes) {
+
+		Integer defaultExpiredSessionSweepIntervalSeconds =
+			enableGemFireHttpSessionAttributes.getNumber("expiredSessionSweepIntervalSeconds").intValue();
+
+		setExpiredSessionSweepIntervalSeconds(resolveProperty(expiredSessionSweepIntervalSecondsPropertyName(),
+			defaultExpiredSessionSweepIntervalSeconds));
+	}
+
+	private void configureCachedClockResolution(AnnotationAttributes enableGemFireHttpSessionAttributes) {
+
+		Integer defaultCachedClockResolutionMillis =
+			enableGemFireHttpSessionAttributes.getNumber("cachedClockResolutionMillis").intValue();
+
+		setCachedClockResolutionMillis(resolveProperty(cachedClockResolutionMillisPropertyName(),
+			defaultCachedClockResolutionMillis));
+	}
+
+	private void configureExpirationTimeIndex(AnnotationAttributes enableGemFireHttpSessionAttributes) {
+
+		Boolean defaultExpirationTimeIndexEnabled =
+			enableGemFireHttpSessionAttributes.getBoolean("expirationTimeIndexEnabled");
+
+		setExpirationTimeIndexEnabled(resolveProperty(expirationTimeIndexEnabledPropertyName(),
+			defaultExpirationTimeIndexEnabled));
+	}
+
+	private void configurePrincipalNameIndexRegion(AnnotationAttributes enableGemFireHttpSessionAttributes) {
+
+		Boolean defaultPrincipalNameIndexRegionEnabled =
+			enableGemFireHttpSessionAttributes.getBoolean("principalNameIndexRegionEnabled");
+
+		setPrincipalNameIndexRegionEnabled(resolveProperty(principalNameIndexRegionEnabledPropertyName(),
+			defaultPrincipalNameIndexRegionEnabled));
+	}
+
+	private void configureSessionRegionOffHeap(AnnotationAttributes enableGemFireHttpSessionAttributes) {
+
+		Boolean defaultSessionRegionOffHeap = enableGemFireHttpSessionAttributes.getBoolean("offHeap");
+
+		setSessionRegionOffHeap(resolveProperty(sessionRegionOffHeapPropertyName(), defaultSessionRegionOffHeap));
+	}
+
+	private void configureSessionRegionCompressionEnabled(AnnotationAttributes enableGemFireHttpSessionAttributes) {
+
+		Boolean defaultSessionRegionCompressionEnabled =
+			enableGemFireHttpSessionAttributes.getBoolean("compressionEnabled");
+
+		setSessionRegionCompressionEnabled(resolveProperty(sessionRegionCompressionEnabledPropertyName(),
+			defaultSessionRegionCompressionEnabled));
+	}
+
+	private void configureSessionRegionTotalNumberOfBuckets(AnnotationAttributes enableGemFireHttpSessionAttributes) {
+
+		Integer defaultSessionRegionTotalNumberOfBuckets =
+			enableGemFireHttpSessionAttributes.getNumber("totalNumberOfBuckets").intValue();
+
+		setSessionRegionTotalNumberOfBuckets(resolveProperty(sessionRegionTotalNumberOfBucketsPropertyName(),
+			defaultSessionRegionTotalNumberOfBuckets));
+	}
+
+	private void configureSessionRegionRedundantCopies(AnnotationAttributes enableGemFireHttpSessionAttributes) {
+
+		Integer defaultSessionRegionRedundantCopies =
+			enableGemFireHttpSessionAttributes.getNumber("redundantCopies").intValue();
+
+		setSessionRegionRedundantCopies(resolveProperty(sessionRegionRedundantCopiesPropertyName(),
+			defaultSessionRegionRedundantCopies));
+	}
+
+	private void configureSessionRegionEvictionPolicy(AnnotationAttributes enableGemFireHttpSessionAttributes) {
+
+		SessionRegionEvictionPolicy defaultSessionRegionEvictionPolicy =
+			enableGemFireHttpSessionAttributes.getEnum("evictionPolicy");
+
+		setSessionRegionEvictionPolicy(resolveEnumeratedProperty(sessionRegionEvictionPolicyPropertyName(),
+			SessionRegionEvictionPolicy.class, defaultSessionRegionEvictionPolicy));
+	}
+
+	private void configureSessionRegionEvictionMaximum(AnnotationAttributes enableGemFireHttpSessionAttributes) {
+
+		Integer defaultSessionRegionEvictionMaximum =
+			enableGemFireHttpSessionAttributes.getNumber("evictionMaximum").intValue();
+
+		setSessionRegionEvictionMaximum(resolveProperty(sessionRegionEvictionMaximumPropertyName(),
+			defaultSessionRegionEvictionMaximum));
+	}
+
+	/**
+	 * Applies configuration from a single {@link SpringSessionGemFireConfigurer} bean
+	 * declared in the Spring {@link ApplicationContext}.
+	 *
+	 * @see SpringSessionGemFireConfigurer
+	 * @see #resolveSpringSessionGemFireConfigurer()
+	 */
+	void applySpringSessionGemFireConfigurer() {
 
 		resolveSpringSessionGemFireConfigurer()
 			.map(this::applyClientRegionShortcut)
@@ -742,7 +1616,26 @@ public class GemFireHttpSessionConfiguration extends AbstractGemFireHttpSessionC
 			.map(this::applyServerRegionShortcut)
 			.map(this::applySessionExpirationPolicyBeanName)
 			.map(this::applySessionRegionName)
-			.map(this::applySessionSerializerBeanName);
+			.map(this::applySessionSerializerBeanName)
+			.map(this::applySessionExpiredEventBatchIntervalMillis)
+			.map(this::applySessionExpiredEventBatchSize)
+			.map(this::applySessionExpiredEventMaxBatchesPerFlush)
+			.map(this::applyRegisterInterestEnabled)
+			.map(this::applyRegisterInterestInactivityTimeoutSeconds)
+			.map(this::applySessionEventExecutorLaneCount)
+			.map(this::applySessionChangedEventCoalescingWindowMillis)
+			.map(this::applyTimingWheelExpirationEnabled)
+			.map(this::applyFixedDurationExpirationSeconds)
+			.map(this::applyExpiredSessionSweepIntervalSeconds)
+			.map(this::applyCachedClockResolutionMillis)
+			.map(this::applyExpirationTimeIndexEnabled)
+			.map(this::applyPrincipalNameIndexRegionEnabled)
+			.map(this::applySessionRegionOffHeap)
+			.map(this::applySessionRegionCompressionEnabled)
+			.map(this::applySessionRegionTotalNumberOfBuckets)
+			.map(this::applySessionRegionRedundantCopies)
+			.map(this::applySessionRegionEvictionPolicy)
+			.map(this::applySessionRegionEvictionMaximum);
 	}
 
 	private Optional<SpringSessionGemFireConfigurer> resolveSpringSessionGemFireConfigurer() {
@@ -818,25 +1711,189 @@ public class GemFireHttpSessionConfiguration extends AbstractGemFireHttpSessionC
 				SpringSessionGemFireConfigurer::getServerRegionShortcut, this::setServerRegionShortcut);
 	}
 
-	private SpringSessionGemFireConfigurer applySessionExpirationPolicyBeanName(SpringSessionGemFireConfigurer configurer) {
+	private SpringSessionGemFireConfigurer applySessionExpirationPolicyBeanName(SpringSessionGemFireConfigurer configurer) {
+
+		return applySpringSessionGemFireConfigurerConfiguration(configurer,
+			CONFIGURER_GET_SESSION_EXPIRATION_POLICY_BEAN_NAME_METHOD_NAME,
+				SpringSessionGemFireConfigurer::getSessionExpirationPolicyBeanName, this::setSessionExpirationPolicyBeanName);
+	}
+
+	private SpringSessionGemFireConfigurer applySessionRegionName(SpringSessionGemFireConfigurer configurer) {
+
+		return applySpringSessionGemFireConfigurerConfiguration(configurer,
+			CONFIGURER_GET_REGION_NAME_METHOD_NAME,
+				SpringSessionGemFireConfigurer::getRegionName, this::setSessionRegionName);
+	}
+
+	private SpringSessionGemFireConfigurer applySessionSerializerBeanName(SpringSessionGemFireConfigurer configurer) {
+
+		return applySpringSessionGemFireConfigurerConfiguration(configurer,
+			CONFIGURER_GET_SESSION_SERIALIZER_BEAN_NAME_METHOD_NAME,
+				SpringSessionGemFireConfigurer::getSessionSerializerBeanName, this::setSessionSerializerBeanName);
+	}
+
+	private SpringSessionGemFireConfigurer applySessionExpiredEventBatchIntervalMillis(
+			SpringSessionGemFireConfigurer configurer) {
+
+		return applySpringSessionGemFireConfigurerConfiguration(configurer,
+			CONFIGURER_GET_SESSION_EXPIRED_EVENT_BATCH_INTERVAL_MILLIS_METHOD_NAME,
+				SpringSessionGemFireConfigurer::getSessionExpiredEventBatchIntervalMillis,
+					this::setSessionExpiredEventBatchIntervalMillis);
+	}
+
+	private SpringSessionGemFireConfigurer applySessionExpiredEventBatchSize(SpringSessionGemFireConfigurer configurer) {
+
+		return applySpringSessionGemFireConfigurerConfiguration(configurer,
+			CONFIGURER_GET_SESSION_EXPIRED_EVENT_BATCH_SIZE_METHOD_NAME,
+				SpringSessionGemFireConfigurer::getSessionExpiredEventBatchSize, this::setSessionExpiredEventBatchSize);
+	}
+
+	private SpringSessionGemFireConfigurer applySessionExpiredEventMaxBatchesPerFlush(
+			SpringSessionGemFireConfigurer configurer) {
+
+		return applySpringSessionGemFireConfigurerConfiguration(configurer,
+			CONFIGURER_GET_SESSION_EXPIRED_EVENT_MAX_BATCHES_PER_FLUSH_METHOD_NAME,
+				SpringSessionGemFireConfigurer::getSessionExpiredEventMaxBatchesPerFlush,
+					this::setSessionExpiredEventMaxBatchesPerFlush);
+	}
+
+	private SpringSessionGemFireConfigurer applyRegisterInterestEnabled(SpringSessionGemFireConfigurer configurer) {
+
+		return applySpringSessionGemFireConfigurerConfiguration(configurer,
+			CONFIGURER_IS_REGISTER_INTEREST_ENABLED_METHOD_NAME,
+				SpringSessionGemFireConfigurer::isRegisterInterestEnabled, this::setRegisterInterestEnabled);
+	}
+
+	private SpringSessionGemFireConfigurer applyRegisterInterestInactivityTimeoutSeconds(
+			SpringSessionGemFireConfigurer configurer) {
+
+		return applySpringSessionGemFireConfigurerConfiguration(configurer,
+			CONFIGURER_GET_REGISTER_INTEREST_INACTIVITY_TIMEOUT_SECONDS_METHOD_NAME,
+				SpringSessionGemFireConfigurer::getRegisterInterestInactivityTimeoutSeconds,
+					this::setRegisterInterestInactivityTimeoutSeconds);
+	}
+
+	private SpringSessionGemFireConfigurer applySessionEventExecutorLaneCount(
+			SpringSessionGemFireConfigurer configurer) {
+
+		return applySpringSessionGemFireConfigurerConfiguration(configurer,
+			CONFIGURER_GET_SESSION_EVENT_EXECUTOR_LANE_COUNT_METHOD_NAME,
+				SpringSessionGemFireConfigurer::getSessionEventExecutorLaneCount, this::setSessionEventExecutorLaneCount);
+	}
+
+	private SpringSessionGemFireConfigurer applySessionChangedEventCoalescingWindowMillis(
+			SpringSessionGemFireConfigurer configurer) {
+
+		return applySpringSessionGemFireConfigurerConfiguration(configurer,
+			CONFIGURER_GET_SESSION_CHANGED_EVENT_COALESCING_WINDOW_MILLIS_METHOD_NAME,
+				SpringSessionGemFireConfigurer::getSessionChangedEventCoalescingWindowMillis,
+					this::setSessionChangedEventCoalescingWindowMillis);
+	}
+
+	private SpringSessionGemFireConfigurer applyTimingWheelExpirationEnabled(
+			SpringSessionGemFireConfigurer configurer) {
+
+		return applySpringSessionGemFireConfigurerConfiguration(configurer,
+			CONFIGURER_IS_TIMING_WHEEL_EXPIRATION_ENABLED_METHOD_NAME,
+				SpringSessionGemFireConfigurer::isTimingWheelExpirationEnabled,
+					this::setTimingWheelExpirationEnabled);
+	}
+
+	private SpringSessionGemFireConfigurer applyFixedDurationExpirationSeconds(
+			SpringSessionGemFireConfigurer configurer) {
+
+		return applySpringSessionGemFireConfigurerConfiguration(configurer,
+			CONFIGURER_GET_FIXED_DURATION_EXPIRATION_SECONDS_METHOD_NAME,
+				SpringSessionGemFireConfigurer::getFixedDurationExpirationSeconds,
+					this::setFixedDurationExpirationSeconds);
+	}
+
+	private SpringSessionGemFireConfigurer applyExpiredSessionSweepIntervalSeconds(
+			SpringSessionGemFireConfigurer configurer) {
+
+		return applySpringSessionGemFireConfigurerConfiguration(configurer,
+			CONFIGURER_GET_EXPIRED_SESSION_SWEEP_INTERVAL_SECONDS_METHOD_NAME,
+				SpringSessionGemFireConfigurer::getExpiredSessionSweepIntervalSeconds,
+					this::setExpiredSessionSweepIntervalSeconds);
+	}
+
+	private SpringSessionGemFireConfigurer applyCachedClockResolutionMillis(
+			SpringSessionGemFireConfigurer configurer) {
+
+		return applySpringSessionGemFireConfigurerConfiguration(configurer,
+			CONFIGURER_GET_CACHED_CLOCK_RESOLUTION_MILLIS_METHOD_NAME,
+				SpringSessionGemFireConfigurer::getCachedClockResolutionMillis,
+					this::setCachedClockResolutionMillis);
+	}
+
+	private SpringSessionGemFireConfigurer applyExpirationTimeIndexEnabled(
+			SpringSessionGemFireConfigurer configurer) {
+
+		return applySpringSessionGemFireConfigurerConfiguration(configurer,
+			CONFIGURER_IS_EXPIRATION_TIME_INDEX_ENABLED_METHOD_NAME,
+				SpringSessionGemFireConfigurer::isExpirationTimeIndexEnabled,
+					this::setExpirationTimeIndexEnabled);
+	}
+
+	private SpringSessionGemFireConfigurer applyPrincipalNameIndexRegionEnabled(
+			SpringSessionGemFireConfigurer configurer) {
+
+		return applySpringSessionGemFireConfigurerConfiguration(configurer,
+			CONFIGURER_IS_PRINCIPAL_NAME_INDEX_REGION_ENABLED_METHOD_NAME,
+				SpringSessionGemFireConfigurer::isPrincipalNameIndexRegionEnabled,
+					this::setPrincipalNameIndexRegionEnabled);
+	}
+
+	private SpringSessionGemFireConfigurer applySessionRegionOffHeap(
+			SpringSessionGemFireConfigurer configurer) {
+
+		return applySpringSessionGemFireConfigurerConfiguration(configurer,
+			CONFIGURER_IS_SESSION_REGION_OFF_HEAP_METHOD_NAME,
+				SpringSessionGemFireConfigurer::isSessionRegionOffHeap,
+					this::setSessionRegionOffHeap);
+	}
+
+	private SpringSessionGemFireConfigurer applySessionRegionCompressionEnabled(
+			SpringSessionGemFireConfigurer configurer) {
+
+		return applySpringSessionGemFireConfigurerConfiguration(configurer,
+			CONFIGURER_IS_SESSION_REGION_COMPRESSION_ENABLED_METHOD_NAME,
+				SpringSessionGemFireConfigurer::isSessionRegionCompressionEnabled,
+					this::setSessionRegionCompressionEnabled);
+	}
+
+	private SpringSessionGemFireConfigurer applySessionRegionTotalNumberOfBuckets(
+			SpringSessionGemFireConfigurer configurer) {
+
+		return applySpringSessionGemFireConfigurerConfiguration(configurer,
+			CONFIGURER_GET_SESSION_REGION_TOTAL_NUMBER_OF_BUCKETS_METHOD_NAME,
+				SpringSessionGemFireConfigurer::getSessionRegionTotalNumberOfBuckets,
+					this::setSessionRegionTotalNumberOfBuckets);
+	}
+
+	private SpringSessionGemFireConfigurer applySessionRegionRedundantCopies(
+			SpringSessionGemFireConfigurer configurer) {
 
 		return applySpringSessionGemFireConfigurerConfiguration(configurer,
-			CONFIGURER_GET_SESSION_EXPIRATION_POLICY_BEAN_NAME_METHOD_NAME,
-				SpringSessionGemFireConfigurer::getSessionExpirationPolicyBeanName, this::setSessionExpirationPolicyBeanName);
+			CONFIGURER_GET_SESSION_REGION_REDUNDANT_COPIES_METHOD_NAME,
+				SpringSessionGemFireConfigurer::getSessionRegionRedundantCopies,
+					this::setSessionRegionRedundantCopies);
 	}
 
-	private SpringSessionGemFireConfigurer applySessionRegionName(SpringSessionGemFireConfigurer configurer) {
+	private SpringSessionGemFireConfigurer applySessionRegionEvictionPolicy(SpringSessionGemFireConfigurer configurer) {
 
 		return applySpringSessionGemFireConfigurerConfiguration(configurer,
-			CONFIGURER_GET_REGION_NAME_METHOD_NAME,
-				SpringSessionGemFireConfigurer::getRegionName, this::setSessionRegionName);
+			CONFIGURER_GET_SESSION_REGION_EVICTION_POLICY_METHOD_NAME,
+				SpringSessionGemFireConfigurer::getSessionRegionEvictionPolicy, this::setSessionRegionEvictionPolicy);
 	}
 
-	private SpringSessionGemFireConfigurer applySessionSerializerBeanName(SpringSessionGemFireConfigurer configurer) {
+	private SpringSessionGemFireConfigurer applySessionRegionEvictionMaximum(
+			SpringSessionGemFireConfigurer configurer) {
 
 		return applySpringSessionGemFireConfigurerConfiguration(configurer,
-			CONFIGURER_GET_SESSION_SERIALIZER_BEAN_NAME_METHOD_NAME,
-				SpringSessionGemFireConfigurer::getSessionSerializerBeanName, this::setSessionSerializerBeanName);
+			CONFIGURER_GET_SESSION_REGION_EVICTION_MAXIMUM_METHOD_NAME,
+				SpringSessionGemFireConfigurer::getSessionRegionEvictionMaximum,
+					this::setSessionRegionEvictionMaximum);
 	}
 
 	/**
@@ -895,6 +1952,63 @@ public class GemFireHttpSessionConfiguration extends AbstractGemFireHttpSessionC
 
 					properties.setProperty(sessionSerializerBeanNamePropertyName(), getSessionSerializerBeanName());
 
+					properties.setProperty(sessionExpiredEventBatchIntervalMillisPropertyName(),
+						String.valueOf(getSessionExpiredEventBatchIntervalMillis()));
+
+					properties.setProperty(sessionExpiredEventBatchSizePropertyName(),
+						String.valueOf(getSessionExpiredEventBatchSize()));
+
+					properties.setProperty(sessionExpiredEventMaxBatchesPerFlushPropertyName(),
+						String.valueOf(getSessionExpiredEventMaxBatchesPerFlush()));
+
+					properties.setProperty(registerInterestEnabledPropertyName(),
+						String.valueOf(isRegisterInterestEnabled()));
+
+					properties.setProperty(registerInterestInactivityTimeoutSecondsPropertyName(),
+						String.valueOf(getRegisterInterestInactivityTimeoutSeconds()));
+
+					properties.setProperty(sessionEventExecutorLaneCountPropertyName(),
+						String.valueOf(getSessionEventExecutorLaneCount()));
+
+					properties.setProperty(sessionChangedEventCoalescingWindowMillisPropertyName(),
+						String.valueOf(getSessionChangedEventCoalescingWindowMillis()));
+
+					properties.setProperty(timingWheelExpirationEnabledPropertyName(),
+						String.valueOf(isTimingWheelExpirationEnabled()));
+
+					properties.setProperty(fixedDurationExpirationSecondsPropertyName(),
+						String.valueOf(getFixedDurationExpirationSeconds()));
+
+					properties.setProperty(expiredSessionSweepIntervalSecondsPropertyName(),
+						String.valueOf(getExpiredSessionSweepIntervalSeconds()));
+
+					properties.setProperty(cachedClockResolutionMillisPropertyName(),
+						String.valueOf(getCachedClockResolutionMillis()));
+
+					properties.setProperty(expirationTimeIndexEnabledPropertyName(),
+						String.valueOf(isExpirationTimeIndexEnabled()));
+
+					properties.setProperty(principalNameIndexRegionEnabledPropertyName(),
+						String.valueOf(isPrincipalNameIndexRegionEnabled()));
+
+					properties.setProperty(sessionRegionOffHeapPropertyName(),
+						String.valueOf(isSessionRegionOffHeap()));
+
+					properties.setProperty(sessionRegionCompressionEnabledPropertyName(),
+						String.valueOf(isSessionRegionCompressionEnabled()));
+
+					properties.setProperty(sessionRegionTotalNumberOfBucketsPropertyName(),
+						String.valueOf(getSessionRegionTotalNumberOfBuckets()));
+
+					properties.setProperty(sessionRegionRedundantCopiesPropertyName(),
+						String.valueOf(getSessionRegionRedundantCopies()));
+
+					properties.setProperty(sessionRegionEvictionPolicyPropertyName(),
+						getSessionRegionEvictionPolicy().name());
+
+					properties.setProperty(sessionRegionEvictionMaximumPropertyName(),
+						String.valueOf(getSessionRegionEvictionMaximum()));
+
 				});
 		}
 	}
@@ -912,6 +2026,11 @@ public class GemFireHttpSessionConfiguration extends AbstractGemFireHttpSessionC
 		return new SessionExpirationTimeoutAwareBeanPostProcessor(expirationTimeout);
 	}
 
+	@Bean
+	BeanPostProcessor sessionClockAwareBeanPostProcessor() {
+		return new SessionClockAwareBeanPostProcessor(cachedMillisecondClock());
+	}
+
 	@Bean
 	BeanPostProcessor sessionSerializerConfigurationBeanPostProcessor() {
 
@@ -954,6 +2073,23 @@ public class GemFireHttpSessionConfiguration extends AbstractGemFireHttpSessionC
 		return Optional.empty();
 	}
 
+	private Optional<SessionExpirationPolicy> resolveFixedDurationExpirationPolicy() {
+
+		int fixedDurationExpirationSeconds = getFixedDurationExpirationSeconds();
+
+		if (fixedDurationExpirationSeconds > 0) {
+
+			MaxLifetimeSessionExpirationPolicy fixedDurationExpirationPolicy =
+				new MaxLifetimeSessionExpirationPolicy(Duration.ofSeconds(fixedDurationExpirationSeconds));
+
+			fixedDurationExpirationPolicy.setClock(cachedMillisecondClock());
+
+			return Optional.of(fixedDurationExpirationPolicy);
+		}
+
+		return Optional.empty();
+	}
+
 	private SessionSerializer resolveSessionSerializer() {
 		return getApplicationContext().getBean(SESSION_SERIALIZER_BEAN_ALIAS, SessionSerializer.class);
 	}
@@ -1056,7 +2192,14 @@ public class GemFireHttpSessionConfiguration extends AbstractGemFireHttpSessionC
 	 * used to store {@link Session} state.
 	 *
 	 * Expiration is also configured for the {@link Region} on the basis that the cache {@link Region}
-	 * is a not a proxy on either the client or server.
+	 * is a not a proxy on either the client or server, unless {@link Session Sessions} are expired
+	 * by a {@link #isTimingWheelExpirationEnabled() timing wheel}.  A {@link #getFixedDurationExpirationSeconds()
+	 * fixed duration} is enforced with a custom entry time-to-live computed from the {@link Session} creation time.
+	 *
+	 * When the client {@link Region} stores data locally, {@link Session Sessions} are also stored
+	 * {@link #isSessionRegionOffHeap() off-heap} and {@link #isSessionRegionCompressionEnabled() compressed}
+	 * when configured.  The client copies of {@link Session Sessions} in a {@literal CACHING_PROXY} {@link Region}
+	 * are evicted with the configured {@link #getSessionRegionEvictionPolicy() eviction policy}.
 	 *
 	 * @param gemfireCache reference to the {@link ClientCache}.
 	 * @return an instance of {@link RegionAttributes} used to configure and initialize cache {@link Region}
@@ -1075,25 +2218,108 @@ public class GemFireHttpSessionConfiguration extends AbstractGemFireHttpSessionC
 		regionAttributes.setKeyConstraint(SESSION_REGION_KEY_CONSTRAINT);
 		regionAttributes.setValueConstraint(SESSION_REGION_VALUE_CONSTRAINT);
 
+		if (!GemFireUtils.isProxy(getClientRegionShortcut())) {
+
+			regionAttributes.setOffHeap(isSessionRegionOffHeap());
+
+			if (isSessionRegionCompressionEnabled()) {
+				regionAttributes.setCompressor(new SnappyCompressor());
+			}
+
+			EvictionAttributes evictionAttributes = resolveSessionRegionEvictionAttributes(gemfireCache);
+
+			if (evictionAttributes != null) {
+				regionAttributes.setEvictionAttributes(evictionAttributes);
+			}
+		}
+
 		if (isExpirationAllowed(gemfireCache)) {
 
 			regionAttributes.setStatisticsEnabled(true);
 
-			regionAttributes.setEntryIdleTimeout(new ExpirationAttributes(
-				Math.max(getMaxInactiveIntervalInSeconds(), 0), ExpirationAction.INVALIDATE));
+			if (isTimingWheelExpirationEnabled()) {
+				getLogger().info("Sessions in Region [{}] are expired by a timing wheel", getSessionRegionName());
+			}
+			else {
+
+				regionAttributes.setEntryIdleTimeout(new ExpirationAttributes(
+					Math.max(getMaxInactiveIntervalInSeconds(), 0), ExpirationAction.INVALIDATE));
+
+				resolveSessionExpirationPolicy()
+					.map(SessionExpirationPolicyCustomExpiryAdapter::new)
+					.ifPresent(regionAttributes::setCustomEntryIdleTimeout);
 
-			resolveSessionExpirationPolicy()
-				.map(SessionExpirationPolicyCustomExpiryAdapter::new)
-				.ifPresent(regionAttributes::setCustomEntryIdleTimeout);
+				resolveFixedDurationExpirationPolicy()
+					.map(SessionExpirationPolicyCustomExpiryAdapter::new)
+					.ifPresent(regionAttributes::setCustomEntryTimeToLive);
+			}
 		}
 		else {
 			getLogger().info("Expiration is not allowed on Regions with a data management policy of {}",
 				getClientRegionShortcut());
 		}
 
+		if (getFixedDurationExpirationSeconds() > 0 && !isFixedDurationExpirationEnforcedByClient()) {
+			getLogger().warn("The fixed duration of [{}] seconds must be enforced by a time-to-live on Region [{}]"
+				+ " on the servers; Sessions exceeding the fixed duration are deleted when read",
+					getFixedDurationExpirationSeconds(), getSessionRegionName());
+		}
+
 		return regionAttributes;
 	}
 
+	/**
+	 * Determines whether the {@link #getFixedDurationExpirationSeconds() fixed duration} is enforced by
+	 * the time-to-live of the client {@link Session} {@link Region}.
+	 *
+	 * Only a {@literal LOCAL} client {@link Region} holds the {@link Session Sessions}.  The expiration of
+	 * a {@literal CACHING_PROXY} client {@link Region} only removes the local copy, so the fixed duration must be
+	 * enforced by the {@link Region} on the servers, which is verified by the {@link SessionRegionVerifier}.
+	 *
+	 * @return a boolean value indicating whether the client {@link Region} enforces the fixed duration.
+	 * @see #getFixedDurationExpirationSeconds()
+	 */
+	boolean isFixedDurationExpirationEnforcedByClient() {
+		return getFixedDurationExpirationSeconds() > 0 && GemFireUtils.isLocal(getClientRegionShortcut());
+	}
+
+	/**
+	 * Resolves the {@link EvictionAttributes} of the client {@link Session} {@link Region} from the configured
+	 * {@link #getSessionRegionEvictionPolicy() eviction policy}.
+	 *
+	 * Eviction is not applied to a {@literal LOCAL} client {@link Region}, since {@link Session Sessions} evicted
+	 * with local-destroy would be lost.  For {@link SessionRegionEvictionPolicy#HEAP_PERCENTAGE}, a positive
+	 * {@link #getSessionRegionEvictionMaximum() maximum} sets the eviction heap percentage of the cache.
+	 *
+	 * @param gemfireCache reference to the {@link ClientCache}.
+	 * @return the {@link EvictionAttributes}, or {@literal null} if {@link Session Sessions} are not evicted.
+	 * @see SessionRegionEvictionPolicy#toEvictionAttributes(int)
+	 */
+	@Nullable EvictionAttributes resolveSessionRegionEvictionAttributes(ClientCache gemfireCache) {
+
+		SessionRegionEvictionPolicy evictionPolicy = getSessionRegionEvictionPolicy();
+
+		if (evictionPolicy == null || SessionRegionEvictionPolicy.NONE.equals(evictionPolicy)) {
+			return null;
+		}
+
+		if (GemFireUtils.isLocal(getClientRegionShortcut())) {
+
+			getLogger().warn("Eviction policy [{}] is ignored for Region [{}] with a data management policy of {}",
+				evictionPolicy, getSessionRegionName(), getClientRegionShortcut());
+
+			return null;
+		}
+
+		int evictionMaximum = getSessionRegionEvictionMaximum();
+
+		if (SessionRegionEvictionPolicy.HEAP_PERCENTAGE.equals(evictionPolicy) && evictionMaximum > 0) {
+			gemfireCache.getResourceManager().setEvictionHeapPercentage(evictionMaximum);
+		}
+
+		return evictionPolicy.toEvictionAttributes(evictionMaximum);
+	}
+
 	/**
 	 * Determines whether expiration configuration is allowed to be set on the cache {@link Region}
 	 * used to store and manage {@link Session} state.
@@ -1133,22 +2359,463 @@ public class GemFireHttpSessionConfiguration extends AbstractGemFireHttpSessionC
 	 *
 	 * @param gemfireOperations instance of {@link GemfireOperations} used to manage {@link Session} state
 	 * in Apache Geode or Pivotal GemFire.
+	 * @param gemfireCache reference to the {@link ClientCache} used to create the principal name {@link Region}.
 	 * @return a {@link GemFireOperationsSessionRepository} for managing (clustering/replicating) {@link Session} state
 	 * in Apache Geode or Pivotal GemFire.
 	 * @see GemFireOperationsSessionRepository
 	 * @see GemfireOperations
+	 * @see #resolvePrincipalNameSessionIndex(ClientCache)
 	 */
 	@Bean
 	public GemFireOperationsSessionRepository sessionRepository(
-			@Qualifier("sessionRegionTemplate") GemfireOperations gemfireOperations) {
+			@Qualifier("sessionRegionTemplate") GemfireOperations gemfireOperations, ClientCache gemfireCache) {
 
 		GemFireOperationsSessionRepository sessionRepository =
 			new GemFireOperationsSessionRepository(gemfireOperations);
 
+		resolvePrincipalNameSessionIndex(gemfireCache).ifPresent(sessionRepository::setPrincipalNameSessionIndex);
+
+		sessionRepository.setFixedDurationExpirationTimeout(Duration.ofSeconds(getFixedDurationExpirationSeconds()));
+		sessionRepository.setFixedDurationExpirationEnforcedByDataGrid(isFixedDurationExpirationEnforcedByClient());
 		sessionRepository.setIsDirtyPredicate(getIsDirtyPredicate());
 		sessionRepository.setMaxInactiveIntervalInSeconds(getMaxInactiveIntervalInSeconds());
+		sessionRepository.setSessionChangedEventCoalescingWindow(
+			Duration.ofMillis(getSessionChangedEventCoalescingWindowMillis()));
+		sessionRepository.setSessionIdGenerator(getSessionIdGenerator());
 		sessionRepository.setUseDataSerialization(isUsingDataSerialization());
 
 		return sessionRepository;
 	}
+
+	/**
+	 * Defines the {@link SessionExpiredEventBatcher} used to publish the IDs of expired {@link Session Sessions}
+	 * in bulk as {@link SessionsExpiredBatchEvent SessionsExpiredBatchEvents}.
+	 *
+	 * The {@link SessionExpiredEventBatcher} is only registered with the {@link SessionRepository}
+	 * when batching is enabled.  Expired {@link Session} IDs exceeding its capacity are dropped, so the GemFire
+	 * thread delivering the expiration events is never blocked publishing events.
+	 *
+	 * @param sessionRepository {@link GemFireOperationsSessionRepository} used as the source of the events.
+	 * @return the {@link SessionExpiredEventBatcher}.
+	 * @see SessionExpiredEventBatcher
+	 * @see #getSessionExpiredEventBatchIntervalMillis()
+	 * @see #getSessionExpiredEventBatchSize()
+	 * @see #getSessionExpiredEventMaxBatchesPerFlush()
+	 */
+	@Bean
+	public SessionExpiredEventBatcher sessionExpiredEventBatcher(GemFireOperationsSessionRepository sessionRepository) {
+
+		SessionExpiredEventBatcher sessionExpiredEventBatcher = new SessionExpiredEventBatcher(sessionRepository,
+			getApplicationContext(), getSessionExpiredEventBatchSize(),
+				Duration.ofMillis(getSessionExpiredEventBatchIntervalMillis()),
+					SessionExpiredEventBatcher.DEFAULT_CAPACITY, SessionExpiredEventBatcher.OverflowPolicy.DROP,
+						getSessionExpiredEventMaxBatchesPerFlush());
+
+		if (sessionExpiredEventBatcher.isEnabled()) {
+			sessionRepository.setSessionExpiredEventBatcher(sessionExpiredEventBatcher);
+		}
+
+		return sessionExpiredEventBatcher;
+	}
+
+	/**
+	 * Defines the {@link SessionInterestManager} used to register interest in the keys of only those
+	 * {@link Session Sessions} loaded or created by this client application node.
+	 *
+	 * The {@link SessionInterestManager} is only registered with the {@link SessionRepository}
+	 * when {@link #isRegisterInterestEnabled() targeted interest registration} is enabled.
+	 *
+	 * @param sessionRepository {@link GemFireOperationsSessionRepository} managing {@link Session Sessions}.
+	 * @param gemfireCache reference to the {@link ClientCache} used to resolve the {@link Session} {@link Region}.
+	 * @return the {@link SessionInterestManager}.
+	 * @see SessionInterestManager
+	 * @see #isRegisterInterestEnabled()
+	 * @see #getRegisterInterestInactivityTimeoutSeconds()
+	 */
+	@Bean
+	public SessionInterestManager sessionInterestManager(GemFireOperationsSessionRepository sessionRepository,
+			ClientCache gemfireCache) {
+
+		Region<Object, Session> sessionsRegion = gemfireCache.getRegion(getSessionRegionName());
+
+		SessionInterestManager sessionInterestManager = new SessionInterestManager(sessionsRegion,
+			Duration.ofSeconds(getRegisterInterestInactivityTimeoutSeconds()));
+
+		if (isRegisterInterestEnabled()) {
+			sessionRepository.setSessionInterestManager(sessionInterestManager);
+		}
+
+		return sessionInterestManager;
+	}
+
+	/**
+	 * Defines the {@link SessionEventExecutor} used to publish {@link Session} events asynchronously
+	 * while preserving the order of events for each {@link Session}.
+	 *
+	 * The {@link SessionEventExecutor} is only registered with the {@link SessionRepository}
+	 * when at least one lane is configured.
+	 *
+	 * @param sessionRepository {@link GemFireOperationsSessionRepository} publishing {@link Session} events.
+	 * @return the {@link SessionEventExecutor}.
+	 * @see SessionEventExecutor
+	 * @see #getSessionEventExecutorLaneCount()
+	 */
+	@Bean
+	public SessionEventExecutor sessionEventExecutor(GemFireOperationsSessionRepository sessionRepository) {
+
+		SessionEventExecutor sessionEventExecutor = new SessionEventExecutor(getSessionEventExecutorLaneCount());
+
+		if (sessionEventExecutor.isEnabled()) {
+			sessionRepository.setSessionEventExecutor(sessionEventExecutor);
+		}
+
+		return sessionEventExecutor;
+	}
+
+	/**
+	 * Defines the {@link TimingWheelSessionExpirationCacheListener} used to expire {@link Session Sessions}
+	 * stored in a client {@link Region} with a local data policy.
+	 *
+	 * The {@link TimingWheelSessionExpirationCacheListener} is only added to the {@link Region} when
+	 * {@link #isTimingWheelExpirationEnabled() timing wheel expiration} is enabled and expiration is allowed
+	 * on the {@link Region}.  {@link Session Sessions} expire according to the configured
+	 * {@link SessionExpirationPolicy}, or the {@link #getMaxInactiveIntervalInSeconds() max inactive interval}
+	 * when no {@link SessionExpirationPolicy} is configured, and no later than the
+	 * {@link #getFixedDurationExpirationSeconds() fixed duration}, when configured.
+	 *
+	 * @param gemfireCache reference to the {@link ClientCache} used to resolve the {@link Session} {@link Region}.
+	 * @return the {@link TimingWheelSessionExpirationCacheListener}.
+	 * @see TimingWheelSessionExpirationCacheListener
+	 * @see #isTimingWheelExpirationEnabled()
+	 * @see #isExpirationAllowed(ClientCache)
+	 */
+	@Bean
+	@DependsOn(DEFAULT_SESSION_REGION_NAME)
+	public TimingWheelSessionExpirationCacheListener sessionExpirationTimingWheelCacheListener(
+			ClientCache gemfireCache) {
+
+		Region<Object, Session> sessionsRegion = gemfireCache.getRegion(getSessionRegionName());
+
+		int maxInactiveIntervalInSeconds = getMaxInactiveIntervalInSeconds();
+
+		SessionExpirationPolicy idleTimeoutSessionExpirationPolicy = resolveSessionExpirationPolicy()
+			.orElseGet(() -> new IdleTimeoutSessionExpirationPolicy(maxInactiveIntervalInSeconds > 0
+				? Duration.ofSeconds(maxInactiveIntervalInSeconds)
+				: null));
+
+		SessionExpirationPolicy sessionExpirationPolicy = resolveFixedDurationExpirationPolicy()
+			.<SessionExpirationPolicy>map(fixedDurationExpirationPolicy -> CompositeSessionExpirationPolicy
+				.compose(idleTimeoutSessionExpirationPolicy, fixedDurationExpirationPolicy))
+			.orElse(idleTimeoutSessionExpirationPolicy);
+
+		if (sessionExpirationPolicy instanceof SessionClockAware) {
+			((SessionClockAware) sessionExpirationPolicy).setClock(cachedMillisecondClock());
+		}
+
+		TimingWheelSessionExpirationCacheListener cacheListener =
+			new TimingWheelSessionExpirationCacheListener(sessionsRegion, sessionExpirationPolicy);
+
+		if (isTimingWheelExpirationEnabled() && isExpirationAllowed(gemfireCache)) {
+			sessionsRegion.getAttributesMutator().addCacheListener(cacheListener);
+		}
+
+		return cacheListener;
+	}
+
+	/**
+	 * Defines an {@link ExpiredSessionSweeper} bean used to periodically remove expired {@link Session Sessions}
+	 * on the servers by executing the {@link ExpiredSessionSweeperFunction} on the {@link Session} {@link Region}.
+	 *
+	 * The sweeper is only started when the {@link #getExpiredSessionSweepIntervalSeconds() sweep interval}
+	 * is greater than {@literal 0}.  Every client application node starts a sweeper, but each server sweeps
+	 * the {@link Session} {@link Region} at most once per interval.
+	 *
+	 * @param gemfireCache reference to the {@link ClientCache}.
+	 * @return the {@link ExpiredSessionSweeper}.
+	 * @see ExpiredSessionSweeper
+	 * @see #getExpiredSessionSweepIntervalSeconds()
+	 */
+	@Bean
+	@DependsOn(DEFAULT_SESSION_REGION_NAME)
+	public ExpiredSessionSweeper expiredSessionSweeper(ClientCache gemfireCache) {
+
+		Region<Object, Session> sessionsRegion = gemfireCache.getRegion(getSessionRegionName());
+
+		int expiredSessionSweepIntervalSeconds = getExpiredSessionSweepIntervalSeconds();
+
+		ExpiredSessionSweeper expiredSessionSweeper = expiredSessionSweepIntervalSeconds > 0
+			? new ExpiredSessionSweeper(sessionsRegion, Duration.ofSeconds(expiredSessionSweepIntervalSeconds),
+				ExpiredSessionSweeperFunction.DEFAULT_BATCH_SIZE)
+			: new ExpiredSessionSweeper(sessionsRegion);
+
+		return expiredSessionSweepIntervalSeconds > 0
+			? expiredSessionSweeper.start()
+			: expiredSessionSweeper;
+	}
+
+	/**
+	 * Defines a {@link MemoryPressureSessionSweeper} bean used to remove idle, low-value {@link Session Sessions}
+	 * while memory usage is above the thresholds of the configured {@link MemoryPressureAwareSessionExpirationPolicy}.
+	 *
+	 * The thresholds of the {@link MemoryPressureAwareSessionExpirationPolicy} are configured from the eviction
+	 * and critical heap percentages of the {@link ClientCache} {@link ResourceManager}.  The sweeper is only defined
+	 * when the configured {@link SessionExpirationPolicy} is a {@link MemoryPressureAwareSessionExpirationPolicy}
+	 * and the client {@link Session} {@link Region} is {@literal LOCAL}, since the client heap usage, the client
+	 * {@link ResourceManager} thresholds and a sweep on each client say nothing about the memory of the servers
+	 * storing the {@link Session Sessions} of a {@literal PROXY} or {@literal CACHING_PROXY} {@link Region}.
+	 * In a client/server topology, the {@link MemoryPressureAwareSessionExpirationPolicy} is applied on the servers.
+	 *
+	 * @param gemfireCache reference to the {@link ClientCache}.
+	 * @param sessionRepository {@link GemFireOperationsSessionRepository} used to find idle {@link Session Sessions}.
+	 * @return the started {@link MemoryPressureSessionSweeper}, or {@literal null} if the configured
+	 * {@link SessionExpirationPolicy} is not a {@link MemoryPressureAwareSessionExpirationPolicy} or the client
+	 * {@link Session} {@link Region} is not {@literal LOCAL}.
+	 * @see MemoryPressureAwareSessionExpirationPolicy#configureThresholds(ResourceManager)
+	 * @see MemoryPressureSessionSweeper
+	 */
+	@Bean
+	@DependsOn(DEFAULT_SESSION_REGION_NAME)
+	public MemoryPressureSessionSweeper memoryPressureSessionSweeper(ClientCache gemfireCache,
+			GemFireOperationsSessionRepository sessionRepository) {
+
+		if (!GemFireUtils.isLocal(getClientRegionShortcut())) {
+			return null;
+		}
+
+		return resolveSessionExpirationPolicy()
+			.filter(MemoryPressureAwareSessionExpirationPolicy.class::isInstance)
+			.map(MemoryPressureAwareSessionExpirationPolicy.class::cast)
+			.map(sessionExpirationPolicy -> {
+
+				sessionExpirationPolicy.configureThresholds(gemfireCache.getResourceManager());
+
+				Region<Object, Session> sessionsRegion = gemfireCache.getRegion(getSessionRegionName());
+
+				return new MemoryPressureSessionSweeper(sessionsRegion, sessionRepository, sessionExpirationPolicy)
+					.start();
+			})
+			.orElse(null);
+	}
+
+	/**
+	 * Defines a {@link CachedMillisecondClock} bean used to touch and expire {@link Session Sessions}.
+	 *
+	 * The {@link CachedMillisecondClock} is set on all {@link SessionClockAware} beans, such as
+	 * the {@link SessionRepository} and {@link SessionExpirationPolicy SessionExpirationPolicies}, and is closed
+	 * when the Spring container is closed.  It is only started when the {@link #getCachedClockResolutionMillis()
+	 * resolution} is greater than {@literal 0}; otherwise, it reads the system time.
+	 *
+	 * @return the {@link CachedMillisecondClock}.
+	 * @see CachedMillisecondClock
+	 * @see SessionClockAwareBeanPostProcessor
+	 * @see #getCachedClockResolutionMillis()
+	 */
+	@Bean(destroyMethod = "close")
+	public CachedMillisecondClock cachedMillisecondClock() {
+
+		int cachedClockResolutionMillis = getCachedClockResolutionMillis();
+
+		return cachedClockResolutionMillis > 0
+			? new CachedMillisecondClock(Duration.ofMillis(cachedClockResolutionMillis)).start()
+			: new CachedMillisecondClock();
+	}
+
+	/**
+	 * Defines a {@link SessionRegionVerifier} bean used to verify that the {@link Session} {@link Region}
+	 * on the servers has the configured {@link #isSessionRegionOffHeap() off-heap},
+	 * {@link #isSessionRegionCompressionEnabled() compression}, partition and expiration settings.
+	 *
+	 * The server {@link Region} is not created by the client, so that it is stored in the cluster configuration;
+	 * a warning is logged with the {@literal gfsh} command creating the {@link Region} with the configured settings
+	 * when it is missing or does not match.  The {@link #getMaxInactiveIntervalInSeconds() max inactive interval}
+	 * is verified as the entry idle timeout of the server {@link Region}.  The {@link SessionRegionVerifier}
+	 * is only defined when the client {@link Region} is not {@literal LOCAL} and at least one storage or expiration
+	 * setting differs from its default.
+	 *
+	 * @param gemfireCache reference to the {@link ClientCache}.
+	 * @return the {@link SessionRegionVerifier}, or {@literal null} if the server {@link Region} is not configured.
+	 * @see SessionRegionVerifier
+	 * @see #resolveSessionRegionStorageSettings()
+	 */
+	@Bean
+	public SessionRegionVerifier sessionRegionVerifier(ClientCache gemfireCache) {
+
+		Map<String, Object> storageSettings = resolveSessionRegionStorageSettings();
+
+		if (GemFireUtils.isLocal(getClientRegionShortcut()) || storageSettings.isEmpty()) {
+			return null;
+		}
+
+		storageSettings.put(SessionRegionSettingsFunction.ENTRY_IDLE_TIMEOUT_SECONDS,
+			Math.max(getMaxInactiveIntervalInSeconds(), 0));
+
+		return new SessionRegionVerifier(gemfireCache, getPoolName(), getSessionRegionName(),
+			getServerRegionShortcut(), storageSettings);
+	}
+
+	/**
+	 * Defines a {@link SessionRegionVerifier} bean used to verify that the principal name {@link Region}
+	 * of the {@link PrincipalNameSessionIndex} exists on the servers.
+	 *
+	 * The principal name {@link Region} is a {@literal PROXY} on the client, so it must be created on the servers;
+	 * a warning is logged with the {@literal gfsh} command creating the {@link Region} when it is missing.
+	 * The {@link SessionRegionVerifier} is only defined when the
+	 * {@link #isPrincipalNameIndexRegionEnabled() principal name index Region} is enabled and the client
+	 * {@link Session} {@link Region} is not {@literal LOCAL}.
+	 *
+	 * @param gemfireCache reference to the {@link ClientCache}.
+	 * @return the {@link SessionRegionVerifier}, or {@literal null} if the principal name {@link Region}
+	 * is not used or not stored on the servers.
+	 * @see PrincipalNameSessionIndex#toRegionName(String)
+	 * @see SessionRegionVerifier
+	 */
+	@Bean
+	public SessionRegionVerifier principalNameRegionVerifier(ClientCache gemfireCache) {
+
+		if (!isPrincipalNameIndexRegionEnabled() || GemFireUtils.isLocal(getClientRegionShortcut())) {
+			return null;
+		}
+
+		return new SessionRegionVerifier(gemfireCache, getPoolName(),
+			PrincipalNameSessionIndex.toRegionName(getSessionRegionName()), getServerRegionShortcut(),
+				Collections.emptyMap());
+	}
+
+	/**
+	 * Resolves the storage and expiration settings of the server {@link Session} {@link Region} that differ from
+	 * their defaults.
+	 *
+	 * A {@literal PARTITION} {@link Region} is configured with the {@link SessionIdPartitionResolver} when
+	 * the {@link #getSessionIdGenerator() SessionIdGenerator} is a {@link RoutingKeySessionIdGenerator}.
+	 * A configured {@link SessionExpirationPolicy} and {@link #getFixedDurationExpirationSeconds() fixed duration}
+	 * are enforced on the servers by a {@link DeclarableSessionCustomExpiry}.
+	 *
+	 * @return a {@link Map} of settings keyed by the {@link SessionRegionSettingsFunction} setting names.
+	 */
+	Map<String, Object> resolveSessionRegionStorageSettings() {
+
+		Map<String, Object> storageSettings = new LinkedHashMap<>();
+
+		if (isSessionRegionOffHeap()) {
+			storageSettings.put(SessionRegionSettingsFunction.OFF_HEAP, true);
+		}
+
+		if (isSessionRegionCompressionEnabled()) {
+			storageSettings.put(SessionRegionSettingsFunction.COMPRESSED, true);
+		}
+
+		if (getServerRegionShortcut().isPartition()) {
+
+			if (getSessionRegionTotalNumberOfBuckets() != DEFAULT_SESSION_REGION_TOTAL_NUMBER_OF_BUCKETS) {
+				storageSettings.put(SessionRegionSettingsFunction.TOTAL_NUMBER_OF_BUCKETS,
+					getSessionRegionTotalNumberOfBuckets());
+			}
+
+			if (getSessionRegionRedundantCopies() >= 0) {
+				storageSettings.put(SessionRegionSettingsFunction.REDUNDANT_COPIES, getSessionRegionRedundantCopies());
+			}
+
+			if (getSessionIdGenerator() instanceof RoutingKeySessionIdGenerator) {
+				storageSettings.put(SessionRegionSettingsFunction.PARTITION_RESOLVER,
+					SessionIdPartitionResolver.class.getName());
+			}
+		}
+
+		resolveSessionExpirationPolicy().ifPresent(sessionExpirationPolicy ->
+			storageSettings.put(SessionRegionSettingsFunction.SESSION_EXPIRATION_POLICY,
+				sessionExpirationPolicy.getClass().getName()));
+
+		if (getFixedDurationExpirationSeconds() > 0) {
+			storageSettings.put(SessionRegionSettingsFunction.FIXED_DURATION_EXPIRATION_SECONDS,
+				getFixedDurationExpirationSeconds());
+		}
+
+		return storageSettings;
+	}
+
+	/**
+	 * Defines a {@link SessionRegionStatistics} bean recording the hit rate and the number of evictions
+	 * of a client {@link Session} {@link Region} that stores {@link Session Sessions} locally.
+	 *
+	 * @param gemfireCache reference to the {@link ClientCache}.
+	 * @return the {@link SessionRegionStatistics}, or {@literal null} if the client {@link Region}
+	 * is a {@literal PROXY}.
+	 * @see SessionRegionStatistics
+	 */
+	@Bean
+	@DependsOn(DEFAULT_SESSION_REGION_NAME)
+	public SessionRegionStatistics sessionRegionStatistics(ClientCache gemfireCache) {
+
+		Region<?, ?> sessionsRegion = gemfireCache.getRegion(getSessionRegionName());
+
+		return sessionsRegion != null && !GemFireUtils.isProxy(getClientRegionShortcut())
+			? SessionRegionStatistics.register(sessionsRegion)
+			: null;
+	}
+
+	/**
+	 * Defines a {@link SessionIndexInstaller} bean used to create the OQL Indexes on the principal name,
+	 * the {@link #getIndexableSessionAttributes() indexable Session attributes} and, when
+	 * {@link #isExpirationTimeIndexEnabled() enabled}, the expiration time of {@link Session Sessions}.
+	 *
+	 * The Indexes are created on the servers, where queries run, unless the client {@link Region} is {@literal LOCAL}.
+	 *
+	 * @param gemfireCache reference to the {@link ClientCache}.
+	 * @return the {@link SessionIndexInstaller}.
+	 * @see SessionIndexInstaller
+	 * @see #getIndexableSessionAttributes()
+	 * @see #isExpirationTimeIndexEnabled()
+	 */
+	@Bean
+	@DependsOn(DEFAULT_SESSION_REGION_NAME)
+	public SessionIndexInstaller sessionIndexInstaller(ClientCache gemfireCache) {
+		return new SessionIndexInstaller(gemfireCache, getSessionRegionName(), getIndexableSessionAttributes(),
+			isExpirationTimeIndexEnabled());
+	}
+
+	/**
+	 * Resolves the {@link PrincipalNameSessionIndex} used to find {@link Session Sessions} by principal name
+	 * from a {@link Region} mapping principal names to {@link Session} IDs.
+	 *
+	 * The {@link PrincipalNameSessionIndex}, and its {@link Region}, are only created when
+	 * the {@link #isPrincipalNameIndexRegionEnabled() principal name index Region} is enabled.  The principal name
+	 * {@link Region} is a {@literal PROXY} for any client connected to the servers, so every read sees the mapping
+	 * updated by all application nodes and the atomic updates are checked against the same value, and
+	 * {@literal LOCAL} only when the {@link Session} {@link Region} is {@literal LOCAL}.
+	 *
+	 * @param gemfireCache reference to the {@link ClientCache} used to create the principal name {@link Region}.
+	 * @return an {@link Optional} {@link PrincipalNameSessionIndex}.
+	 * @see PrincipalNameSessionIndex
+	 * @see #isPrincipalNameIndexRegionEnabled()
+	 * @see #principalNameRegionVerifier(ClientCache)
+	 */
+	Optional<PrincipalNameSessionIndex> resolvePrincipalNameSessionIndex(ClientCache gemfireCache) {
+
+		return isPrincipalNameIndexRegionEnabled()
+			? Optional.of(new PrincipalNameSessionIndex(resolvePrincipalNameRegion(gemfireCache)))
+			: Optional.empty();
+	}
+
+	private Region<String, Set<String>> resolvePrincipalNameRegion(ClientCache gemfireCache) {
+
+		String regionName = PrincipalNameSessionIndex.toRegionName(getSessionRegionName());
+
+		Region<String, Set<String>> principalNameRegion = gemfireCache.getRegion(regionName);
+
+		if (principalNameRegion == null) {
+
+			boolean local = GemFireUtils.isLocal(getClientRegionShortcut());
+
+			ClientRegionFactory<String, Set<String>> clientRegionFactory =
+				gemfireCache.createClientRegionFactory(local ? ClientRegionShortcut.LOCAL : ClientRegionShortcut.PROXY);
+
+			if (!local) {
+				clientRegionFactory.setPoolName(getPoolName());
+			}
+
+			principalNameRegion = clientRegionFactory.create(regionName);
+		}
+
+		return principalNameRegion;
+	}
 }
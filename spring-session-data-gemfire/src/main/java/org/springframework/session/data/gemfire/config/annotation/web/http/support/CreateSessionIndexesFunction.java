@@ -0,0 +1,127 @@
+/*
+ * Copyright 2024 Broadcom. All rights reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.springframework.session.data.gemfire.config.annotation.web.http.support;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+
+import org.apache.geode.cache.Cache;
+import org.apache.geode.cache.Declarable;
+import org.apache.geode.cache.Region;
+import org.apache.geode.cache.execute.Function;
+import org.apache.geode.cache.execute.FunctionContext;
+import org.apache.geode.cache.execute.FunctionException;
+import org.apache.geode.cache.query.Index;
+import org.apache.geode.cache.query.IndexExistsException;
+import org.apache.geode.cache.query.IndexNameConflictException;
+import org.apache.geode.cache.query.QueryService;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import org.springframework.session.Session;
+
+/**
+ * {@link CreateSessionIndexesFunction} is a server-side Apache Geode {@link Function} that creates any missing
+ * Indexes on the {@link Session} {@link Region} of each server and returns the names of the Indexes defined
+ * on the {@link Session} {@link Region}.
+ *
+ * The {@link Function} arguments are the {@link String name} of the {@link Session} {@link Region}
+ * and a {@link Map} of Index names to indexed expressions, using {@literal s} as the iterator variable.
+ *
+ * The {@link Function} must be registered on the servers for a client to create the Indexes; otherwise,
+ * the Indexes must be created on the servers with {@literal gfsh}.
+ *
+ * @author John Blum
+ * @see Function
+ * @see QueryService#createIndex(String, String, String)
+ * @see SessionIndexInstaller
+ * @since 1.0.0
+ */
+@SuppressWarnings("rawtypes")
+public class CreateSessionIndexesFunction implements Function, Declarable {
+
+	public static final String ID = "CreateSessionIndexesFunction";
+
+	private final Logger logger = LoggerFactory.getLogger(getClass());
+
+	@Override
+	public String getId() {
+		return ID;
+	}
+
+	protected Logger getLogger() {
+		return this.logger;
+	}
+
+	@Override
+	public boolean hasResult() {
+		return true;
+	}
+
+	@Override
+	public boolean isHA() {
+		return false;
+	}
+
+	@Override
+	public boolean optimizeForWrite() {
+		return false;
+	}
+
+	@Override
+	public void initialize(Cache cache, Properties parameters) { }
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public void execute(FunctionContext context) {
+
+		Object[] arguments = context.getArguments() instanceof Object[]
+			? (Object[]) context.getArguments()
+			: new Object[0];
+
+		if (arguments.length != 2 || !(arguments[0] instanceof String) || !(arguments[1] instanceof Map)) {
+			throw new FunctionException(String.format("Function [%s] requires a Region name and Index definitions",
+				ID));
+		}
+
+		String regionName = (String) arguments[0];
+
+		Region<?, ?> sessionsRegion = context.getCache().getRegion(regionName);
+
+		if (sessionsRegion == null) {
+			throw new FunctionException(String.format("Region [%s] was not found on member [%s]",
+				regionName, context.getMemberName()));
+		}
+
+		QueryService queryService = context.getCache().getQueryService();
+
+		for (Map.Entry<String, String> indexDefinition : ((Map<String, String>) arguments[1]).entrySet()) {
+			try {
+				queryService.createIndex(indexDefinition.getKey(), indexDefinition.getValue(),
+					sessionsRegion.getFullPath() + " s");
+
+				getLogger().info("Created Index [{}] on Region [{}]", indexDefinition.getKey(), regionName);
+			}
+			catch (IndexExistsException | IndexNameConflictException ignore) {
+				// The Index was already created, possibly by another member for a PARTITION Region
+			}
+			catch (Exception cause) {
+				throw new FunctionException(String.format("Failed to create Index [%s] on Region [%s]",
+					indexDefinition.getKey(), regionName), cause);
+			}
+		}
+
+		List<String> indexNames = new ArrayList<>();
+
+		for (Index index : queryService.getIndexes(sessionsRegion)) {
+			indexNames.add(index.getName());
+		}
+
+		context.getResultSender().lastResult(indexNames);
+	}
+}
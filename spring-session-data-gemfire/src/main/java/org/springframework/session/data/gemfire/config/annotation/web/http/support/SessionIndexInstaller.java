@@ -0,0 +1,299 @@
+/*
+ * Copyright 2024 Broadcom. All rights reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.springframework.session.data.gemfire.config.annotation.web.http.support;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.apache.geode.cache.Region;
+import org.apache.geode.cache.client.ClientCache;
+import org.apache.geode.cache.client.Pool;
+import org.apache.geode.cache.client.PoolManager;
+import org.apache.geode.cache.execute.Execution;
+import org.apache.geode.cache.execute.FunctionService;
+import org.apache.geode.cache.query.IndexExistsException;
+import org.apache.geode.cache.query.IndexNameConflictException;
+import org.apache.geode.cache.query.QueryService;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+import org.springframework.session.FindByIndexNameSessionRepository;
+import org.springframework.session.Session;
+import org.springframework.session.data.gemfire.support.GemFireUtils;
+import org.springframework.util.Assert;
+import org.springframework.util.StringUtils;
+
+/**
+ * {@link SessionIndexInstaller} creates the OQL Indexes used to query the {@link Session Sessions} stored
+ * in the {@link Session} {@link Region}.
+ *
+ * The following Indexes are created:
+ *
+ * <ul>
+ *     <li>a functional Index on the {@literal principalName} of the {@link Session}, used by
+ *     {@link FindByIndexNameSessionRepository#findByPrincipalName(String)}</li>
+ *     <li>a map Index on {@literal attributes['name', ...]} for each of the configured indexable
+ *     {@link Session} attributes, used by
+ *     {@link FindByIndexNameSessionRepository#findByIndexNameAndIndexValue(String, String)}</li>
+ *     <li>a range Index on the derived {@literal expirationTime} of the {@link Session}, when enabled</li>
+ * </ul>
+ *
+ * Without these Indexes, each query is a full {@link Region} scan that deserializes every {@link Session}.
+ *
+ * When the client {@link Region} has a corresponding server {@link Region}, whether a {@literal PROXY} or
+ * a {@literal CACHING_PROXY}, queries run on the servers, so the Indexes are created on the servers by executing
+ * the {@link CreateSessionIndexesFunction}, which returns the Indexes defined on each server so that they can be
+ * verified.  If the {@link CreateSessionIndexesFunction} is not registered on the servers, then the Indexes must be
+ * created with {@literal gfsh}, for example:
+ *
+ * <pre>
+ * <code>
+ * gfsh&gt; create index --name=sessionPrincipalNameIndex --expression=principalName --region=/ClusteredSpringSessions
+ * </code>
+ * </pre>
+ *
+ * The Indexes are created with the local {@link QueryService} only for a {@literal LOCAL} client {@link Region}.
+ *
+ * @author John Blum
+ * @see ClientCache#getLocalQueryService()
+ * @see CreateSessionIndexesFunction
+ * @see FunctionService#onServers(Pool)
+ * @see SmartInitializingSingleton
+ * @since 1.0.0
+ */
+public class SessionIndexInstaller implements SmartInitializingSingleton {
+
+	public static final String EXPIRATION_TIME_INDEX_NAME = "sessionExpirationTimeIndex";
+	public static final String EXPIRATION_TIME_INDEXED_EXPRESSION = "s.expirationTime";
+	public static final String PRINCIPAL_NAME_INDEX_NAME = "sessionPrincipalNameIndex";
+	public static final String PRINCIPAL_NAME_INDEXED_EXPRESSION = "s.principalName";
+	public static final String SESSION_ATTRIBUTES_INDEX_NAME = "sessionAttributesIndex";
+	public static final String SESSION_ATTRIBUTES_INDEXED_EXPRESSION = "s.attributes[%s]";
+
+	private final boolean expirationTimeIndexEnabled;
+
+	private final ClientCache clientCache;
+
+	private final Logger logger = LoggerFactory.getLogger(getClass());
+
+	private final String regionName;
+
+	private final String[] indexableSessionAttributes;
+
+	/**
+	 * Constructs a new instance of {@link SessionIndexInstaller}.
+	 *
+	 * @param clientCache {@link ClientCache} hosting the {@link Session} {@link Region}; must not be {@literal null}.
+	 * @param regionName {@link String} containing the name of the {@link Session} {@link Region};
+	 * must not be {@literal null} or empty.
+	 * @param indexableSessionAttributes array of {@link String names} of the indexable {@link Session} attributes.
+	 * @param expirationTimeIndexEnabled boolean value indicating whether the expiration time Index is created.
+	 * @throws IllegalArgumentException if the {@link ClientCache} is {@literal null}
+	 * or the {@link Region} name is not set.
+	 */
+	public SessionIndexInstaller(@NonNull ClientCache clientCache, @NonNull String regionName,
+			@Nullable String[] indexableSessionAttributes, boolean expirationTimeIndexEnabled) {
+
+		Assert.notNull(clientCache, "ClientCache is required");
+		Assert.hasText(regionName, "Region name is required");
+
+		this.clientCache = clientCache;
+		this.regionName = regionName;
+		this.indexableSessionAttributes = indexableSessionAttributes != null
+			? indexableSessionAttributes.clone()
+			: new String[0];
+		this.expirationTimeIndexEnabled = expirationTimeIndexEnabled;
+	}
+
+	protected ClientCache getClientCache() {
+		return this.clientCache;
+	}
+
+	public boolean isExpirationTimeIndexEnabled() {
+		return this.expirationTimeIndexEnabled;
+	}
+
+	public String[] getIndexableSessionAttributes() {
+		return this.indexableSessionAttributes.clone();
+	}
+
+	protected Logger getLogger() {
+		return this.logger;
+	}
+
+	protected String getRegionName() {
+		return this.regionName;
+	}
+
+	/**
+	 * Returns the definitions of the Indexes to create on the {@link Session} {@link Region}.
+	 *
+	 * The principal name is excluded from the {@link Session} attributes map Index since it is indexed
+	 * with its own functional Index.
+	 *
+	 * @return a {@link Map} of Index names to indexed expressions.
+	 */
+	@NonNull
+	public Map<String, String> getIndexDefinitions() {
+
+		Map<String, String> indexDefinitions = new LinkedHashMap<>();
+
+		indexDefinitions.put(PRINCIPAL_NAME_INDEX_NAME, PRINCIPAL_NAME_INDEXED_EXPRESSION);
+
+		String indexedAttributeNames = Arrays.stream(this.indexableSessionAttributes)
+			.filter(StringUtils::hasText)
+			.map(String::trim)
+			.filter(attributeName ->
+				!FindByIndexNameSessionRepository.PRINCIPAL_NAME_INDEX_NAME.equals(attributeName))
+			.distinct()
+			.map(attributeName -> String.format("'%s'", attributeName))
+			.collect(Collectors.joining(", "));
+
+		if (StringUtils.hasText(indexedAttributeNames)) {
+			indexDefinitions.put(SESSION_ATTRIBUTES_INDEX_NAME,
+				String.format(SESSION_ATTRIBUTES_INDEXED_EXPRESSION, indexedAttributeNames));
+		}
+
+		if (isExpirationTimeIndexEnabled()) {
+			indexDefinitions.put(EXPIRATION_TIME_INDEX_NAME, EXPIRATION_TIME_INDEXED_EXPRESSION);
+		}
+
+		return indexDefinitions;
+	}
+
+	@Override
+	public void afterSingletonsInstantiated() {
+		install();
+	}
+
+	/**
+	 * Creates the {@link #getIndexDefinitions() Indexes} on the {@link Session} {@link Region}.
+	 *
+	 * @return a {@link Set} of names of the Indexes that exist on the {@link Session} {@link Region};
+	 * for a client {@link Region} with a corresponding server {@link Region}, the Indexes that exist
+	 * on every server.
+	 */
+	@NonNull
+	public Set<String> install() {
+
+		Region<?, ?> sessionsRegion = getClientCache().getRegion(getRegionName());
+
+		if (sessionsRegion == null) {
+			getLogger().warn("Region [{}] was not found; Indexes were not created", getRegionName());
+			return Collections.emptySet();
+		}
+
+		return GemFireUtils.isNonLocalClientRegion(sessionsRegion)
+			? installOnServers(sessionsRegion)
+			: installLocally(sessionsRegion);
+	}
+
+	private Set<String> installLocally(Region<?, ?> sessionsRegion) {
+
+		QueryService queryService = getClientCache().getLocalQueryService();
+
+		Set<String> indexNames = new LinkedHashSet<>();
+
+		for (Map.Entry<String, String> indexDefinition : getIndexDefinitions().entrySet()) {
+			try {
+				queryService.createIndex(indexDefinition.getKey(), indexDefinition.getValue(),
+					sessionsRegion.getFullPath() + " s");
+
+				indexNames.add(indexDefinition.getKey());
+			}
+			catch (IndexExistsException | IndexNameConflictException ignore) {
+				indexNames.add(indexDefinition.getKey());
+			}
+			catch (Exception cause) {
+				getLogger().warn(String.format("Failed to create Index [%s] on Region [%s]",
+					indexDefinition.getKey(), getRegionName()), cause);
+			}
+		}
+
+		return indexNames;
+	}
+
+	private Set<String> installOnServers(Region<?, ?> sessionsRegion) {
+
+		Set<String> indexNames = new LinkedHashSet<>(getIndexDefinitions().keySet());
+
+		try {
+
+			Object results = newServerExecution(sessionsRegion)
+				.setArguments(new Object[] { getRegionName(), new LinkedHashMap<>(getIndexDefinitions()) })
+				.execute(CreateSessionIndexesFunction.ID)
+				.getResult();
+
+			boolean verified = false;
+
+			if (results instanceof Collection) {
+				for (Object result : (Collection<?>) results) {
+					if (result instanceof Collection) {
+						indexNames.retainAll((Collection<?>) result);
+						verified = true;
+					}
+					else if (result instanceof Throwable) {
+						throw (Throwable) result;
+					}
+				}
+			}
+
+			if (!verified) {
+				indexNames.clear();
+			}
+		}
+		catch (Throwable cause) {
+
+			getLogger().warn(String.format("Failed to create Indexes %s on the servers for Region [%s];"
+				+ " register Function [%s] on the servers or create the Indexes with gfsh",
+					getIndexDefinitions().keySet(), getRegionName(), CreateSessionIndexesFunction.ID), cause);
+
+			return Collections.emptySet();
+		}
+
+		Set<String> missingIndexNames = new LinkedHashSet<>(getIndexDefinitions().keySet());
+
+		missingIndexNames.removeAll(indexNames);
+
+		if (!missingIndexNames.isEmpty()) {
+			getLogger().warn("Indexes {} are missing on one or more servers for Region [{}]",
+				missingIndexNames, getRegionName());
+		}
+
+		return indexNames;
+	}
+
+	/**
+	 * Returns a new {@link Execution} on all the servers in the {@link Pool} used by the {@link Session}
+	 * {@link Region}, or the default {@link Pool} if the {@link Region} does not name a {@link Pool}.
+	 *
+	 * @param sessionsRegion client {@link Session} {@link Region}.
+	 * @return a new {@link Execution}.
+	 * @see FunctionService#onServers(Pool)
+	 */
+	@SuppressWarnings("rawtypes")
+	protected Execution newServerExecution(@NonNull Region<?, ?> sessionsRegion) {
+
+		String poolName = sessionsRegion.getAttributes() != null
+			? sessionsRegion.getAttributes().getPoolName()
+			: null;
+
+		Pool pool = StringUtils.hasText(poolName) ? PoolManager.find(poolName) : null;
+
+		return pool != null
+			? FunctionService.onServers(pool)
+			: FunctionService.onServers(getClientCache());
+	}
+}
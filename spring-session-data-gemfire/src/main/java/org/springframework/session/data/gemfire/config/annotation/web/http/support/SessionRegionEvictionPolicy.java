@@ -0,0 +1,82 @@
+/*
+ * Copyright 2024 Broadcom. All rights reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.springframework.session.data.gemfire.config.annotation.web.http.support;
+
+import org.apache.geode.cache.EvictionAction;
+import org.apache.geode.cache.EvictionAttributes;
+import org.apache.geode.cache.Region;
+import org.apache.geode.cache.client.ClientRegionShortcut;
+import org.apache.geode.cache.control.ResourceManager;
+import org.apache.geode.cache.util.ObjectSizer;
+
+import org.springframework.lang.Nullable;
+import org.springframework.session.Session;
+
+/**
+ * {@link SessionRegionEvictionPolicy} enumerates the least recently used (LRU) eviction policies of
+ * a {@link ClientRegionShortcut#CACHING_PROXY} {@link Session} {@link Region}.
+ *
+ * {@link Session Sessions} are evicted with {@link EvictionAction#LOCAL_DESTROY}, which only removes
+ * the client copy of the {@link Session}; the {@link Session} remains on the servers and is fetched again
+ * on the next request.
+ *
+ * @author John Blum
+ * @see EvictionAttributes
+ * @see ClientRegionShortcut#CACHING_PROXY
+ * @since 1.0.0
+ */
+public enum SessionRegionEvictionPolicy {
+
+	/**
+	 * {@link Session Sessions} are not evicted.
+	 */
+	NONE,
+
+	/**
+	 * {@link Session Sessions} are evicted when the number of {@link Session Sessions} exceeds the maximum.
+	 */
+	ENTRY_COUNT,
+
+	/**
+	 * {@link Session Sessions} are evicted when the heap used by the JVM exceeds the
+	 * {@link ResourceManager#getEvictionHeapPercentage() eviction heap percentage}.
+	 */
+	HEAP_PERCENTAGE,
+
+	/**
+	 * {@link Session Sessions} are evicted when the size of the {@link Session Sessions} in megabytes
+	 * exceeds the maximum.
+	 */
+	MEMORY_SIZE;
+
+	/**
+	 * Creates {@link EvictionAttributes} for this {@link SessionRegionEvictionPolicy} with the given maximum.
+	 *
+	 * The maximum is the number of {@link Session Sessions} for {@link #ENTRY_COUNT} and the size in megabytes
+	 * for {@link #MEMORY_SIZE}; a value less than {@literal 1} uses the Apache Geode default.  The maximum of
+	 * {@link #HEAP_PERCENTAGE} is the {@link ResourceManager#setEvictionHeapPercentage(float) eviction heap percentage}
+	 * and is set on the {@link ResourceManager} instead.
+	 *
+	 * @param maximum maximum for this {@link SessionRegionEvictionPolicy}.
+	 * @return the {@link EvictionAttributes}, or {@literal null} for {@link #NONE}.
+	 * @see EvictionAttributes
+	 */
+	public @Nullable EvictionAttributes toEvictionAttributes(int maximum) {
+
+		switch (this) {
+			case ENTRY_COUNT:
+				return EvictionAttributes.createLRUEntryAttributes(
+					maximum > 0 ? maximum : EvictionAttributes.DEFAULT_ENTRIES_MAXIMUM, EvictionAction.LOCAL_DESTROY);
+			case HEAP_PERCENTAGE:
+				return EvictionAttributes.createLRUHeapAttributes(ObjectSizer.DEFAULT, EvictionAction.LOCAL_DESTROY);
+			case MEMORY_SIZE:
+				return EvictionAttributes.createLRUMemoryAttributes(
+					maximum > 0 ? maximum : EvictionAttributes.DEFAULT_MEMORY_MAXIMUM, ObjectSizer.DEFAULT,
+						EvictionAction.LOCAL_DESTROY);
+			default:
+				return null;
+		}
+	}
+}
@@ -0,0 +1,163 @@
+/*
+ * Copyright 2024 Broadcom. All rights reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.springframework.session.data.gemfire.config.annotation.web.http.support;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Properties;
+
+import org.apache.geode.cache.Cache;
+import org.apache.geode.cache.CustomExpiry;
+import org.apache.geode.cache.Declarable;
+import org.apache.geode.cache.ExpirationAttributes;
+import org.apache.geode.cache.PartitionAttributes;
+import org.apache.geode.cache.PartitionResolver;
+import org.apache.geode.cache.Region;
+import org.apache.geode.cache.RegionAttributes;
+import org.apache.geode.cache.execute.Function;
+import org.apache.geode.cache.execute.FunctionContext;
+import org.apache.geode.cache.execute.FunctionException;
+
+import org.springframework.session.Session;
+import org.springframework.session.data.gemfire.expiration.SessionExpirationPolicy;
+import org.springframework.session.data.gemfire.expiration.support.DeclarableSessionCustomExpiry;
+
+/**
+ * {@link SessionRegionSettingsFunction} is a server-side Apache Geode {@link Function} returning the storage
+ * and expiration settings of the {@link Session} {@link Region} defined on each server.
+ *
+ * The {@link Function} argument is the {@link String name} of the {@link Session} {@link Region}.  The result is
+ * a {@link Map} of settings keyed by {@link #OFF_HEAP}, {@link #COMPRESSED}, {@link #TOTAL_NUMBER_OF_BUCKETS},
+ * {@link #REDUNDANT_COPIES}, {@link #PARTITION_RESOLVER}, {@link #ENTRY_IDLE_TIMEOUT_SECONDS},
+ * {@link #SESSION_EXPIRATION_POLICY} and {@link #FIXED_DURATION_EXPIRATION_SECONDS}, or an empty {@link Map}
+ * if the {@link Region} does not exist on the server.
+ *
+ * The {@link Region} is not created by this {@link Function}.  A {@link Region} created with the API is not
+ * recorded in the cluster configuration and would be missing from a restarted server, so the {@link Region}
+ * must be created with {@literal gfsh}, for example:
+ *
+ * <pre>
+ * <code>
+ * gfsh&gt; create region --name=ClusteredSpringSessions --type=PARTITION --off-heap=true
+ *   --compressor=org.apache.geode.compression.SnappyCompressor --total-num-buckets=271 --redundant-copies=1
+ *   --enable-statistics=true --entry-idle-time-expiration=1800 --entry-idle-time-expiration-action=INVALIDATE
+ * </code>
+ * </pre>
+ *
+ * @author John Blum
+ * @see DeclarableSessionCustomExpiry
+ * @see Function
+ * @see SessionRegionVerifier
+ * @since 1.0.0
+ */
+@SuppressWarnings("rawtypes")
+public class SessionRegionSettingsFunction implements Function, Declarable {
+
+	public static final String ID = "SessionRegionSettingsFunction";
+
+	public static final String COMPRESSED = "compressed";
+	public static final String ENTRY_IDLE_TIMEOUT_SECONDS = "entryIdleTimeoutSeconds";
+	public static final String FIXED_DURATION_EXPIRATION_SECONDS = "fixedDurationExpirationSeconds";
+	public static final String OFF_HEAP = "offHeap";
+	public static final String PARTITION_RESOLVER = "partitionResolver";
+	public static final String REDUNDANT_COPIES = "redundantCopies";
+	public static final String SESSION_EXPIRATION_POLICY = "sessionExpirationPolicy";
+	public static final String TOTAL_NUMBER_OF_BUCKETS = "totalNumberOfBuckets";
+
+	@Override
+	public String getId() {
+		return ID;
+	}
+
+	@Override
+	public boolean hasResult() {
+		return true;
+	}
+
+	@Override
+	public boolean isHA() {
+		return false;
+	}
+
+	@Override
+	public boolean optimizeForWrite() {
+		return false;
+	}
+
+	@Override
+	public void initialize(Cache cache, Properties parameters) { }
+
+	@Override
+	public void execute(FunctionContext context) {
+
+		if (!(context.getArguments() instanceof String)) {
+			throw new FunctionException(String.format("Function [%s] requires a Region name", ID));
+		}
+
+		Region<?, ?> sessionsRegion = context.getCache().getRegion((String) context.getArguments());
+
+		context.getResultSender().lastResult(sessionsRegion != null
+			? getStorageSettings(sessionsRegion.getAttributes())
+			: Collections.emptyMap());
+	}
+
+	/**
+	 * Returns the storage and expiration settings of a {@link Region} with the given {@link RegionAttributes}.
+	 *
+	 * @param regionAttributes {@link RegionAttributes} of the {@link Region}.
+	 * @return a {@link Map} of settings.
+	 */
+	protected Map<String, Object> getStorageSettings(RegionAttributes<?, ?> regionAttributes) {
+
+		Map<String, Object> storageSettings = new HashMap<>();
+
+		storageSettings.put(OFF_HEAP, regionAttributes.getOffHeap());
+		storageSettings.put(COMPRESSED, regionAttributes.getCompressor() != null);
+
+		PartitionAttributes<?, ?> partitionAttributes = regionAttributes.getPartitionAttributes();
+
+		if (partitionAttributes != null) {
+			storageSettings.put(TOTAL_NUMBER_OF_BUCKETS, partitionAttributes.getTotalNumBuckets());
+			storageSettings.put(REDUNDANT_COPIES, partitionAttributes.getRedundantCopies());
+
+			PartitionResolver<?, ?> partitionResolver = partitionAttributes.getPartitionResolver();
+
+			if (partitionResolver != null) {
+				storageSettings.put(PARTITION_RESOLVER, partitionResolver.getClass().getName());
+			}
+		}
+
+		ExpirationAttributes entryIdleTimeout = regionAttributes.getEntryIdleTimeout();
+
+		storageSettings.put(ENTRY_IDLE_TIMEOUT_SECONDS, regionAttributes.getStatisticsEnabled()
+			&& entryIdleTimeout != null ? entryIdleTimeout.getTimeout() : 0);
+
+		CustomExpiry<?, ?> customEntryIdleTimeout = regionAttributes.getCustomEntryIdleTimeout();
+
+		if (customEntryIdleTimeout instanceof DeclarableSessionCustomExpiry) {
+
+			SessionExpirationPolicy sessionExpirationPolicy =
+				((DeclarableSessionCustomExpiry) customEntryIdleTimeout).getSessionExpirationPolicy();
+
+			if (sessionExpirationPolicy != null) {
+				storageSettings.put(SESSION_EXPIRATION_POLICY, sessionExpirationPolicy.getClass().getName());
+			}
+		}
+
+		CustomExpiry<?, ?> customEntryTimeToLive = regionAttributes.getCustomEntryTimeToLive();
+
+		if (customEntryTimeToLive instanceof DeclarableSessionCustomExpiry) {
+
+			long maxLifetimeSeconds = ((DeclarableSessionCustomExpiry) customEntryTimeToLive).getMaxLifetimeSeconds();
+
+			if (maxLifetimeSeconds > 0) {
+				storageSettings.put(FIXED_DURATION_EXPIRATION_SECONDS, (int) maxLifetimeSeconds);
+			}
+		}
+
+		return storageSettings;
+	}
+}
@@ -0,0 +1,284 @@
+/*
+ * Copyright 2024 Broadcom. All rights reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.springframework.session.data.gemfire.config.annotation.web.http.support;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+
+import org.apache.geode.cache.Region;
+import org.apache.geode.cache.RegionShortcut;
+import org.apache.geode.cache.client.ClientCache;
+import org.apache.geode.cache.client.Pool;
+import org.apache.geode.cache.client.PoolManager;
+import org.apache.geode.cache.execute.Execution;
+import org.apache.geode.cache.execute.FunctionService;
+import org.apache.geode.compression.SnappyCompressor;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+import org.springframework.session.Session;
+import org.springframework.session.data.gemfire.expiration.support.DeclarableSessionCustomExpiry;
+import org.springframework.util.Assert;
+import org.springframework.util.StringUtils;
+
+/**
+ * {@link SessionRegionVerifier} verifies that the {@link Session} {@link Region} on the servers has the configured
+ * storage and expiration settings, such as off-heap storage, compression, the number of buckets and redundant
+ * copies of a {@literal PARTITION} {@link Region}, the entry idle timeout and the fixed-duration time-to-live,
+ * by executing the {@link SessionRegionSettingsFunction}.
+ *
+ * The server {@link Region} is not created by the client, since a {@link Region} created with the API is not
+ * recorded in the cluster configuration and would be missing from a restarted server.  When the {@link Region}
+ * is missing, or its settings do not match the configured settings, a warning is logged with the
+ * {@link #toGfshCommand() gfsh command} that creates the {@link Region}, and stores it in the cluster configuration,
+ * with the configured settings.  If the {@link SessionRegionSettingsFunction} is not registered on the servers,
+ * then the settings cannot be verified.
+ *
+ * @author John Blum
+ * @see FunctionService#onServers(Pool)
+ * @see InitializingBean
+ * @see SessionRegionSettingsFunction
+ * @since 1.0.0
+ */
+public class SessionRegionVerifier implements InitializingBean {
+
+	private final ClientCache clientCache;
+
+	private final Logger logger = LoggerFactory.getLogger(getClass());
+
+	private final Map<String, Object> storageSettings;
+
+	private final RegionShortcut serverRegionShortcut;
+
+	private final String poolName;
+	private final String regionName;
+
+	/**
+	 * Constructs a new instance of {@link SessionRegionVerifier}.
+	 *
+	 * @param clientCache {@link ClientCache} connected to the servers; must not be {@literal null}.
+	 * @param poolName {@link String} containing the name of the {@link Pool} used to connect to the servers.
+	 * @param regionName {@link String} containing the name of the {@link Session} {@link Region};
+	 * must not be {@literal null} or empty.
+	 * @param serverRegionShortcut {@link RegionShortcut} of the {@link Region} on the servers;
+	 * must not be {@literal null}.
+	 * @param storageSettings {@link Map} of storage and expiration settings keyed by
+	 * the {@link SessionRegionSettingsFunction} setting names.
+	 * @throws IllegalArgumentException if the {@link ClientCache} or {@link RegionShortcut} is {@literal null}
+	 * or the {@link Region} name is not set.
+	 */
+	public SessionRegionVerifier(@NonNull ClientCache clientCache, @Nullable String poolName,
+			@NonNull String regionName, @NonNull RegionShortcut serverRegionShortcut,
+			@Nullable Map<String, Object> storageSettings) {
+
+		Assert.notNull(clientCache, "ClientCache is required");
+		Assert.hasText(regionName, "Region name is required");
+		Assert.notNull(serverRegionShortcut, "RegionShortcut is required");
+
+		this.clientCache = clientCache;
+		this.poolName = poolName;
+		this.regionName = regionName;
+		this.serverRegionShortcut = serverRegionShortcut;
+		this.storageSettings = storageSettings != null
+			? Collections.unmodifiableMap(new LinkedHashMap<>(storageSettings))
+			: Collections.emptyMap();
+	}
+
+	protected ClientCache getClientCache() {
+		return this.clientCache;
+	}
+
+	protected Logger getLogger() {
+		return this.logger;
+	}
+
+	protected String getPoolName() {
+		return this.poolName;
+	}
+
+	protected String getRegionName() {
+		return this.regionName;
+	}
+
+	public RegionShortcut getServerRegionShortcut() {
+		return this.serverRegionShortcut;
+	}
+
+	public Map<String, Object> getStorageSettings() {
+		return this.storageSettings;
+	}
+
+	@Override
+	public void afterPropertiesSet() {
+		verify();
+	}
+
+	/**
+	 * Verifies that the {@link Session} {@link Region} exists on every server with the configured settings.
+	 *
+	 * @return a boolean value indicating whether the {@link Region} exists on every server with the configured
+	 * settings.
+	 */
+	public boolean verify() {
+
+		try {
+
+			Object results = newServerExecution()
+				.setArguments(getRegionName())
+				.execute(SessionRegionSettingsFunction.ID)
+				.getResult();
+
+			boolean matched = true;
+			boolean verified = false;
+
+			if (results instanceof Collection) {
+				for (Object result : (Collection<?>) results) {
+					if (result instanceof Map) {
+						matched &= verify((Map<?, ?>) result);
+						verified = true;
+					}
+					else if (result instanceof RuntimeException) {
+						throw (RuntimeException) result;
+					}
+				}
+			}
+
+			if (!(verified && matched)) {
+				getLogger().warn("Create Region [{}] with the configured settings, stored in the cluster configuration,"
+					+ " using gfsh> {}", getRegionName(), toGfshCommand());
+			}
+
+			return verified && matched;
+		}
+		catch (RuntimeException cause) {
+
+			getLogger().warn(String.format("Failed to verify Region [%s] with settings %s on the servers;"
+				+ " register Function [%s] on the servers or verify the Region was created using gfsh> %s",
+					getRegionName(), getStorageSettings(), SessionRegionSettingsFunction.ID, toGfshCommand()), cause);
+
+			return false;
+		}
+	}
+
+	private boolean verify(Map<?, ?> serverStorageSettings) {
+
+		if (serverStorageSettings.isEmpty()) {
+			getLogger().warn("Region [{}] does not exist on one or more servers", getRegionName());
+			return false;
+		}
+
+		boolean verified = true;
+
+		for (Map.Entry<String, Object> storageSetting : getStorageSettings().entrySet()) {
+
+			Object serverValue = serverStorageSettings.get(storageSetting.getKey());
+
+			if (!Objects.equals(storageSetting.getValue(), serverValue)) {
+
+				getLogger().warn("Region [{}] on one or more servers has [{}] set to [{}] but [{}] was configured",
+					getRegionName(), storageSetting.getKey(), serverValue, storageSetting.getValue());
+
+				verified = false;
+			}
+		}
+
+		return verified;
+	}
+
+	/**
+	 * Returns the {@literal gfsh} command that creates the {@link Session} {@link Region} on the servers with
+	 * the configured settings and stores the {@link Region} in the cluster configuration.
+	 *
+	 * @return the {@literal gfsh} {@literal create region} command.
+	 * @see DeclarableSessionCustomExpiry
+	 */
+	public String toGfshCommand() {
+
+		Map<String, Object> storageSettings = getStorageSettings();
+
+		StringBuilder command = new StringBuilder("create region --name=").append(getRegionName())
+			.append(" --type=").append(getServerRegionShortcut().name());
+
+		if (Boolean.TRUE.equals(storageSettings.get(SessionRegionSettingsFunction.OFF_HEAP))) {
+			command.append(" --off-heap=true");
+		}
+
+		if (Boolean.TRUE.equals(storageSettings.get(SessionRegionSettingsFunction.COMPRESSED))) {
+			command.append(" --compressor=").append(SnappyCompressor.class.getName());
+		}
+
+		appendOption(command, "--total-num-buckets",
+			storageSettings.get(SessionRegionSettingsFunction.TOTAL_NUMBER_OF_BUCKETS));
+		appendOption(command, "--redundant-copies",
+			storageSettings.get(SessionRegionSettingsFunction.REDUNDANT_COPIES));
+		appendOption(command, "--partition-resolver",
+			storageSettings.get(SessionRegionSettingsFunction.PARTITION_RESOLVER));
+
+		Object entryIdleTimeoutSeconds = storageSettings.get(SessionRegionSettingsFunction.ENTRY_IDLE_TIMEOUT_SECONDS);
+		Object sessionExpirationPolicy = storageSettings.get(SessionRegionSettingsFunction.SESSION_EXPIRATION_POLICY);
+		Object fixedDurationExpirationSeconds =
+			storageSettings.get(SessionRegionSettingsFunction.FIXED_DURATION_EXPIRATION_SECONDS);
+
+		boolean entryIdleTimeoutEnabled =
+			entryIdleTimeoutSeconds instanceof Integer && (Integer) entryIdleTimeoutSeconds > 0;
+
+		if (entryIdleTimeoutEnabled || sessionExpirationPolicy != null || fixedDurationExpirationSeconds != null) {
+			command.append(" --enable-statistics=true");
+		}
+
+		if (entryIdleTimeoutEnabled) {
+			command.append(" --entry-idle-time-expiration=").append(entryIdleTimeoutSeconds)
+				.append(" --entry-idle-time-expiration-action=INVALIDATE");
+		}
+
+		if (sessionExpirationPolicy != null) {
+			command.append(" --entry-idle-time-custom-expiry=").append(toCustomExpiry(
+				DeclarableSessionCustomExpiry.SESSION_EXPIRATION_POLICY, sessionExpirationPolicy));
+		}
+
+		if (fixedDurationExpirationSeconds != null) {
+			command.append(" --entry-time-to-live-custom-expiry=").append(toCustomExpiry(
+				DeclarableSessionCustomExpiry.MAX_LIFETIME_SECONDS, fixedDurationExpirationSeconds));
+		}
+
+		return command.toString();
+	}
+
+	private void appendOption(StringBuilder command, String option, @Nullable Object value) {
+
+		if (value != null) {
+			command.append(' ').append(option).append('=').append(value);
+		}
+	}
+
+	private String toCustomExpiry(String parameterName, Object parameterValue) {
+		return String.format("%s{\"%s\":\"%s\"}", DeclarableSessionCustomExpiry.class.getName(), parameterName,
+			parameterValue);
+	}
+
+	/**
+	 * Returns a new {@link Execution} on all the servers in the named {@link Pool}, or the default {@link Pool}
+	 * if the {@link Pool} is not found.
+	 *
+	 * @return a new {@link Execution}.
+	 * @see FunctionService#onServers(Pool)
+	 */
+	@SuppressWarnings("rawtypes")
+	protected Execution newServerExecution() {
+
+		Pool pool = StringUtils.hasText(getPoolName()) ? PoolManager.find(getPoolName()) : null;
+
+		return pool != null
+			? FunctionService.onServers(pool)
+			: FunctionService.onServers(getClientCache());
+	}
+}
@@ -190,4 +190,238 @@ public interface SpringSessionGemFireConfigurer {
 	default String getSessionSerializerBeanName() {
 		return GemFireHttpSessionConfiguration.DEFAULT_SESSION_SERIALIZER_BEAN_NAME;
 	}
+
+	/**
+	 * Defines the interval in milliseconds between publications of batched expired {@link Session} events.
+	 *
+	 * Defaults to {@literal 1000} milliseconds.
+	 *
+	 * @return an integer value defining the interval in milliseconds between batched expired {@link Session} events.
+	 * @see GemFireHttpSessionConfiguration#DEFAULT_SESSION_EXPIRED_EVENT_BATCH_INTERVAL_MILLIS
+	 */
+	default int getSessionExpiredEventBatchIntervalMillis() {
+		return GemFireHttpSessionConfiguration.DEFAULT_SESSION_EXPIRED_EVENT_BATCH_INTERVAL_MILLIS;
+	}
+
+	/**
+	 * Defines the maximum number of expired {@link Session} IDs published in a single batched event.
+	 *
+	 * Defaults to {@literal 0}, which disables batching.
+	 *
+	 * @return an integer value defining the maximum number of expired {@link Session} IDs in a single batch.
+	 * @see GemFireHttpSessionConfiguration#DEFAULT_SESSION_EXPIRED_EVENT_BATCH_SIZE
+	 */
+	default int getSessionExpiredEventBatchSize() {
+		return GemFireHttpSessionConfiguration.DEFAULT_SESSION_EXPIRED_EVENT_BATCH_SIZE;
+	}
+
+	/**
+	 * Defines the maximum number of batched expired {@link Session} events published per interval.
+	 *
+	 * Defaults to {@literal 10}.
+	 *
+	 * @return an integer value defining the maximum number of batches published per interval.
+	 * @see GemFireHttpSessionConfiguration#DEFAULT_SESSION_EXPIRED_EVENT_MAX_BATCHES_PER_FLUSH
+	 */
+	default int getSessionExpiredEventMaxBatchesPerFlush() {
+		return GemFireHttpSessionConfiguration.DEFAULT_SESSION_EXPIRED_EVENT_MAX_BATCHES_PER_FLUSH;
+	}
+
+	/**
+	 * Determines whether interest is registered only in the keys of the {@link Session Sessions} served by this node.
+	 *
+	 * Defaults to {@literal false}.
+	 *
+	 * @return a boolean value indicating whether targeted interest registration is enabled.
+	 * @see GemFireHttpSessionConfiguration#DEFAULT_REGISTER_INTEREST_ENABLED
+	 */
+	default boolean isRegisterInterestEnabled() {
+		return GemFireHttpSessionConfiguration.DEFAULT_REGISTER_INTEREST_ENABLED;
+	}
+
+	/**
+	 * Defines the local inactivity timeout in seconds after which interest in a {@link Session} is unregistered.
+	 *
+	 * Defaults to {@literal 0}, which uses the max inactive interval.
+	 *
+	 * @return an integer value defining the local inactivity timeout in seconds.
+	 * @see GemFireHttpSessionConfiguration#DEFAULT_REGISTER_INTEREST_INACTIVITY_TIMEOUT_SECONDS
+	 */
+	default int getRegisterInterestInactivityTimeoutSeconds() {
+		return GemFireHttpSessionConfiguration.DEFAULT_REGISTER_INTEREST_INACTIVITY_TIMEOUT_SECONDS;
+	}
+
+	/**
+	 * Defines the number of single-threaded lanes used to publish {@link Session} events asynchronously.
+	 *
+	 * Defaults to {@literal 0}, which publishes events on the cache callback {@link Thread}.
+	 *
+	 * @return an integer value defining the number of lanes used to publish {@link Session} events.
+	 * @see GemFireHttpSessionConfiguration#DEFAULT_SESSION_EVENT_EXECUTOR_LANE_COUNT
+	 */
+	default int getSessionEventExecutorLaneCount() {
+		return GemFireHttpSessionConfiguration.DEFAULT_SESSION_EVENT_EXECUTOR_LANE_COUNT;
+	}
+
+	/**
+	 * Defines the window in milliseconds within which changed events for the same {@link Session} are coalesced.
+	 *
+	 * Defaults to {@literal 0}, which disables coalescing.
+	 *
+	 * @return an integer value defining the coalescing window in milliseconds.
+	 * @see GemFireHttpSessionConfiguration#DEFAULT_SESSION_CHANGED_EVENT_COALESCING_WINDOW_MILLIS
+	 */
+	default int getSessionChangedEventCoalescingWindowMillis() {
+		return GemFireHttpSessionConfiguration.DEFAULT_SESSION_CHANGED_EVENT_COALESCING_WINDOW_MILLIS;
+	}
+
+	/**
+	 * Determines whether {@link Session Sessions} in a client Region with a local data policy are expired
+	 * using a timing wheel.
+	 *
+	 * Defaults to {@literal false}.
+	 *
+	 * @return a boolean value indicating whether timing wheel expiration is enabled.
+	 * @see GemFireHttpSessionConfiguration#DEFAULT_TIMING_WHEEL_EXPIRATION_ENABLED
+	 */
+	default boolean isTimingWheelExpirationEnabled() {
+		return GemFireHttpSessionConfiguration.DEFAULT_TIMING_WHEEL_EXPIRATION_ENABLED;
+	}
+
+	/**
+	 * Defines the fixed duration in seconds after which a {@link Session} expires, measured from its creation time.
+	 *
+	 * Defaults to {@literal 0}, which disables fixed duration expiration.
+	 *
+	 * @return an integer value defining the fixed duration in seconds.
+	 * @see GemFireHttpSessionConfiguration#DEFAULT_FIXED_DURATION_EXPIRATION_SECONDS
+	 */
+	default int getFixedDurationExpirationSeconds() {
+		return GemFireHttpSessionConfiguration.DEFAULT_FIXED_DURATION_EXPIRATION_SECONDS;
+	}
+
+	/**
+	 * Defines the interval in seconds between server-side sweeps of expired {@link Session Sessions}.
+	 *
+	 * Defaults to {@literal 0}, which disables the sweeper.
+	 *
+	 * @return an integer value defining the interval in seconds between sweeps.
+	 * @see GemFireHttpSessionConfiguration#DEFAULT_EXPIRED_SESSION_SWEEP_INTERVAL_SECONDS
+	 */
+	default int getExpiredSessionSweepIntervalSeconds() {
+		return GemFireHttpSessionConfiguration.DEFAULT_EXPIRED_SESSION_SWEEP_INTERVAL_SECONDS;
+	}
+
+	/**
+	 * Defines the resolution in milliseconds of the cached clock used to touch and expire {@link Session Sessions}.
+	 *
+	 * Defaults to {@literal 0}, which uses the system clock.
+	 *
+	 * @return an integer value defining the resolution in milliseconds of the cached clock.
+	 * @see GemFireHttpSessionConfiguration#DEFAULT_CACHED_CLOCK_RESOLUTION_MILLIS
+	 */
+	default int getCachedClockResolutionMillis() {
+		return GemFireHttpSessionConfiguration.DEFAULT_CACHED_CLOCK_RESOLUTION_MILLIS;
+	}
+
+	/**
+	 * Determines whether a range Index is created on the expiration time of {@link Session Sessions}.
+	 *
+	 * Defaults to {@literal false}.
+	 *
+	 * @return a boolean value indicating whether the expiration time Index is created.
+	 * @see GemFireHttpSessionConfiguration#DEFAULT_EXPIRATION_TIME_INDEX_ENABLED
+	 */
+	default boolean isExpirationTimeIndexEnabled() {
+		return GemFireHttpSessionConfiguration.DEFAULT_EXPIRATION_TIME_INDEX_ENABLED;
+	}
+
+	/**
+	 * Determines whether a {@link org.apache.geode.cache.Region} mapping principal names to {@link Session} IDs
+	 * is maintained and used to find {@link Session Sessions} by principal name.
+	 *
+	 * Defaults to {@literal false}.
+	 *
+	 * @return a boolean value indicating whether the principal name index {@link org.apache.geode.cache.Region}
+	 * is used.
+	 * @see GemFireHttpSessionConfiguration#DEFAULT_PRINCIPAL_NAME_INDEX_REGION_ENABLED
+	 */
+	default boolean isPrincipalNameIndexRegionEnabled() {
+		return GemFireHttpSessionConfiguration.DEFAULT_PRINCIPAL_NAME_INDEX_REGION_ENABLED;
+	}
+
+	/**
+	 * Determines whether the {@link Session} {@link Region} stores {@link Session Sessions} in off-heap memory.
+	 *
+	 * Defaults to {@literal false}.
+	 *
+	 * @return a boolean value indicating whether {@link Session Sessions} are stored off-heap.
+	 * @see GemFireHttpSessionConfiguration#DEFAULT_SESSION_REGION_OFF_HEAP
+	 */
+	default boolean isSessionRegionOffHeap() {
+		return GemFireHttpSessionConfiguration.DEFAULT_SESSION_REGION_OFF_HEAP;
+	}
+
+	/**
+	 * Determines whether the {@link Session} {@link Region} compresses {@link Session Sessions} with Snappy.
+	 *
+	 * Defaults to {@literal false}.
+	 *
+	 * @return a boolean value indicating whether {@link Session Sessions} are compressed.
+	 * @see GemFireHttpSessionConfiguration#DEFAULT_SESSION_REGION_COMPRESSION_ENABLED
+	 */
+	default boolean isSessionRegionCompressionEnabled() {
+		return GemFireHttpSessionConfiguration.DEFAULT_SESSION_REGION_COMPRESSION_ENABLED;
+	}
+
+	/**
+	 * Defines the total number of buckets of the {@literal PARTITION} {@link Session} {@link Region} on the servers.
+	 *
+	 * Defaults to {@literal 113}.
+	 *
+	 * @return the total number of buckets.
+	 * @see GemFireHttpSessionConfiguration#DEFAULT_SESSION_REGION_TOTAL_NUMBER_OF_BUCKETS
+	 */
+	default int getSessionRegionTotalNumberOfBuckets() {
+		return GemFireHttpSessionConfiguration.DEFAULT_SESSION_REGION_TOTAL_NUMBER_OF_BUCKETS;
+	}
+
+	/**
+	 * Defines the number of redundant copies of the {@literal PARTITION} {@link Session} {@link Region}
+	 * on the servers; a negative value uses the redundancy of the server {@link RegionShortcut}.
+	 *
+	 * Defaults to {@literal -1}.
+	 *
+	 * @return the number of redundant copies.
+	 * @see GemFireHttpSessionConfiguration#DEFAULT_SESSION_REGION_REDUNDANT_COPIES
+	 */
+	default int getSessionRegionRedundantCopies() {
+		return GemFireHttpSessionConfiguration.DEFAULT_SESSION_REGION_REDUNDANT_COPIES;
+	}
+
+	/**
+	 * Defines the least recently used (LRU) eviction policy of a client {@literal CACHING_PROXY}
+	 * {@link Session} {@link Region}.
+	 *
+	 * Defaults to {@literal NONE}.
+	 *
+	 * @return the {@link SessionRegionEvictionPolicy}.
+	 * @see GemFireHttpSessionConfiguration#DEFAULT_SESSION_REGION_EVICTION_POLICY
+	 */
+	default SessionRegionEvictionPolicy getSessionRegionEvictionPolicy() {
+		return GemFireHttpSessionConfiguration.DEFAULT_SESSION_REGION_EVICTION_POLICY;
+	}
+
+	/**
+	 * Defines the maximum of the {@link SessionRegionEvictionPolicy}; a value less than {@literal 1}
+	 * uses the Apache Geode default.
+	 *
+	 * Defaults to {@literal 0}.
+	 *
+	 * @return the maximum of the {@link SessionRegionEvictionPolicy}.
+	 * @see GemFireHttpSessionConfiguration#DEFAULT_SESSION_REGION_EVICTION_MAXIMUM
+	 */
+	default int getSessionRegionEvictionMaximum() {
+		return GemFireHttpSessionConfiguration.DEFAULT_SESSION_REGION_EVICTION_MAXIMUM;
+	}
 }
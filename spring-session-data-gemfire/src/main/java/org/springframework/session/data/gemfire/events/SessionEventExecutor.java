@@ -0,0 +1,179 @@
+/*
+ * Copyright 2024 Broadcom. All rights reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.springframework.session.data.gemfire.events;
+
+import java.util.Objects;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+import org.springframework.session.Session;
+import org.springframework.util.Assert;
+
+/**
+ * {@link SessionEventExecutor} dispatches {@link Session} event processing onto a fixed number of
+ * single-threaded lanes, selecting the lane by hashing the {@link Session#getId() Session ID}.
+ *
+ * All tasks for the same {@link Session} run on the same lane in submission order, so a created, changed
+ * and deleted sequence for one {@link Session} cannot be reordered, while events for different
+ * {@link Session Sessions} are processed in parallel across lanes.
+ *
+ * Lanes are started lazily on first use.  When configured with less than {@literal 1} lane,
+ * the {@link SessionEventExecutor} is {@link #isEnabled() disabled} and tasks run on the calling {@link Thread}.
+ *
+ * @author John Blum
+ * @see ExecutorService
+ * @see Session
+ * @since 1.0.0
+ */
+public class SessionEventExecutor implements AutoCloseable {
+
+	public static final int DEFAULT_LANE_COUNT = 0;
+
+	protected static final String LANE_THREAD_NAME_PREFIX = "SessionEventExecutorLane-";
+
+	private final AtomicReferenceArray<ExecutorService> lanes;
+
+	private final int laneCount;
+
+	private final Logger logger = LoggerFactory.getLogger(getClass());
+
+	private volatile boolean closed;
+
+	/**
+	 * Constructs a new instance of {@link SessionEventExecutor} with the given number of lanes.
+	 *
+	 * @param laneCount number of single-threaded lanes; a value less than {@literal 1} disables
+	 * asynchronous dispatch.
+	 */
+	public SessionEventExecutor(int laneCount) {
+
+		this.laneCount = Math.max(laneCount, 0);
+		this.lanes = new AtomicReferenceArray<>(this.laneCount);
+	}
+
+	public int getLaneCount() {
+		return this.laneCount;
+	}
+
+	protected Logger getLogger() {
+		return this.logger;
+	}
+
+	/**
+	 * Determines whether tasks are dispatched asynchronously onto lanes.
+	 *
+	 * @return a boolean value indicating whether tasks are dispatched asynchronously.
+	 */
+	public boolean isEnabled() {
+		return this.laneCount > 0 && !this.closed;
+	}
+
+	/**
+	 * Determines the index of the lane processing tasks for the given {@link Session#getId() Session ID}.
+	 *
+	 * @param sessionId {@link Object} identifying the {@link Session}.
+	 * @return the index of the lane for the given {@link Session#getId() Session ID}.
+	 */
+	public int laneFor(@Nullable Object sessionId) {
+
+		int hashCode = Objects.hashCode(sessionId);
+
+		return Math.floorMod(hashCode ^ (hashCode >>> 16), Math.max(getLaneCount(), 1));
+	}
+
+	/**
+	 * Executes the given task on the lane for the given {@link Session#getId() Session ID}, or on
+	 * the calling {@link Thread} if this {@link SessionEventExecutor} is not {@link #isEnabled() enabled}.
+	 *
+	 * @param sessionId {@link Object} identifying the {@link Session} the task applies to.
+	 * @param task {@link Runnable} to execute; must not be {@literal null}.
+	 * @throws IllegalArgumentException if the task is {@literal null}.
+	 */
+	public void execute(@Nullable Object sessionId, @NonNull Runnable task) {
+
+		Assert.notNull(task, "Task is required");
+
+		if (isEnabled()) {
+			try {
+				resolveLane(laneFor(sessionId)).execute(() -> safeRun(task));
+				return;
+			}
+			catch (RejectedExecutionException ignore) {
+				// closed concurrently; run the task on the calling Thread
+			}
+		}
+
+		task.run();
+	}
+
+	private ExecutorService resolveLane(int index) {
+
+		ExecutorService lane = this.lanes.get(index);
+
+		if (lane == null) {
+
+			ExecutorService newLane = newLane(index);
+
+			if (this.lanes.compareAndSet(index, null, newLane)) {
+				lane = newLane;
+			}
+			else {
+				newLane.shutdown();
+				lane = this.lanes.get(index);
+			}
+		}
+
+		return lane;
+	}
+
+	protected ExecutorService newLane(int index) {
+
+		return Executors.newSingleThreadExecutor(runnable -> {
+
+			Thread laneThread = new Thread(runnable, LANE_THREAD_NAME_PREFIX + index);
+
+			laneThread.setDaemon(true);
+
+			return laneThread;
+		});
+	}
+
+	private void safeRun(Runnable task) {
+
+		try {
+			task.run();
+		}
+		catch (Throwable cause) {
+			getLogger().error("Error occurred while processing Session event", cause);
+		}
+	}
+
+	/**
+	 * Stops accepting new tasks and shuts down all lanes after their queued tasks have run.
+	 *
+	 * Tasks submitted after closing run on the calling {@link Thread}.
+	 */
+	@Override
+	public void close() {
+
+		this.closed = true;
+
+		for (int index = 0; index < this.laneCount; index++) {
+
+			ExecutorService lane = this.lanes.get(index);
+
+			if (lane != null) {
+				lane.shutdown();
+			}
+		}
+	}
+}
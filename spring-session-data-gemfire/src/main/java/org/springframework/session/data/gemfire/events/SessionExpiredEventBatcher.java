@@ -0,0 +1,422 @@
+/*
+ * Copyright 2024 Broadcom. All rights reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.springframework.session.data.gemfire.events;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+import org.springframework.session.Session;
+import org.springframework.util.Assert;
+
+/**
+ * {@link SessionExpiredEventBatcher} collects the {@link Session#getId() IDs} of expired {@link Session Sessions}
+ * and periodically publishes them in bulk as a {@link SessionsExpiredBatchEvent}.
+ *
+ * Every {@link #getFlushInterval() flush interval}, the pending {@link Session#getId() Session IDs} are published
+ * in {@link SessionsExpiredBatchEvent SessionsExpiredBatchEvents} containing no more than {@link #getMaxBatchSize()}
+ * {@link Session#getId() Session IDs} each, and no more than {@link #getMaxBatchesPerFlush()} events per interval,
+ * so a mass expiration burst is published over several intervals instead of flooding the listeners at once.
+ *
+ * At most {@link #getCapacity()} {@link Session#getId() Session IDs} are pending at once.  When full, the
+ * {@link OverflowPolicy} either drops the {@link Session#getId() ID}, counting the
+ * {@link #getDroppedCount() dropped IDs}, or publishes a batch on the calling thread.  By default, IDs are
+ * {@link OverflowPolicy#DROP dropped}, since the calling thread is the GemFire thread delivering cache events.
+ *
+ * Batching is disabled when {@link #getMaxBatchSize()} is less than {@literal 1}.
+ *
+ * @author John Blum
+ * @see ApplicationEventPublisher
+ * @see ScheduledExecutorService
+ * @see Session
+ * @see SessionsExpiredBatchEvent
+ * @since 1.0.0
+ */
+public class SessionExpiredEventBatcher implements AutoCloseable {
+
+	public static final int DEFAULT_CAPACITY = 100_000;
+	public static final int DEFAULT_MAX_BATCH_SIZE = 0;
+	public static final int DEFAULT_MAX_BATCHES_PER_FLUSH = 10;
+
+	public static final OverflowPolicy DEFAULT_OVERFLOW_POLICY = OverflowPolicy.DROP;
+
+	public static final Duration DEFAULT_FLUSH_INTERVAL = Duration.ofSeconds(1);
+
+	protected static final String FLUSH_THREAD_NAME = "SessionExpiredEventBatcherThread";
+
+	private final AtomicBoolean started = new AtomicBoolean(false);
+
+	private final AtomicLong droppedCount = new AtomicLong(0L);
+	private final AtomicLong unreportedDroppedCount = new AtomicLong(0L);
+
+	private final ApplicationEventPublisher eventPublisher;
+
+	private final Duration flushInterval;
+
+	private final int capacity;
+	private final int maxBatchesPerFlush;
+	private final int maxBatchSize;
+
+	private final Logger logger = LoggerFactory.getLogger(getClass());
+
+	private final Object source;
+
+	private final OverflowPolicy overflowPolicy;
+
+	private final BlockingQueue<String> expiredSessionIds;
+
+	private volatile ScheduledExecutorService flushScheduler;
+
+	/**
+	 * Constructs a new instance of {@link SessionExpiredEventBatcher} initialized with the given {@link Object source}
+	 * of the events, {@link ApplicationEventPublisher}, maximum batch size and {@link Duration flush interval}.
+	 *
+	 * @param source {@link Object} used as the source of all published {@link SessionsExpiredBatchEvent events};
+	 * must not be {@literal null}.
+	 * @param eventPublisher {@link ApplicationEventPublisher} used to publish {@link SessionsExpiredBatchEvent events};
+	 * must not be {@literal null}.
+	 * @param maxBatchSize maximum number of {@link Session#getId() Session IDs} published per interval;
+	 * a value less than {@literal 1} disables batching.
+	 * @param flushInterval {@link Duration} between publications; defaults to {@link #DEFAULT_FLUSH_INTERVAL}
+	 * if {@literal null} or not positive.
+	 * @throws IllegalArgumentException if the {@link Object source} or {@link ApplicationEventPublisher}
+	 * is {@literal null}.
+	 * @see #SessionExpiredEventBatcher(Object, ApplicationEventPublisher, int, Duration, int, OverflowPolicy)
+	 */
+	public SessionExpiredEventBatcher(@NonNull Object source, @NonNull ApplicationEventPublisher eventPublisher,
+			int maxBatchSize, @Nullable Duration flushInterval) {
+
+		this(source, eventPublisher, maxBatchSize, flushInterval, DEFAULT_CAPACITY, DEFAULT_OVERFLOW_POLICY);
+	}
+
+	/**
+	 * Constructs a new instance of {@link SessionExpiredEventBatcher} initialized with the given {@link Object source}
+	 * of the events, {@link ApplicationEventPublisher}, maximum batch size, {@link Duration flush interval},
+	 * capacity and {@link OverflowPolicy}.
+	 *
+	 * @param source {@link Object} used as the source of all published {@link SessionsExpiredBatchEvent events};
+	 * must not be {@literal null}.
+	 * @param eventPublisher {@link ApplicationEventPublisher} used to publish {@link SessionsExpiredBatchEvent events};
+	 * must not be {@literal null}.
+	 * @param maxBatchSize maximum number of {@link Session#getId() Session IDs} published per event;
+	 * a value less than {@literal 1} disables batching.
+	 * @param flushInterval {@link Duration} between publications; defaults to {@link #DEFAULT_FLUSH_INTERVAL}
+	 * if {@literal null} or not positive.
+	 * @param capacity maximum number of pending {@link Session#getId() Session IDs}; must be greater than {@literal 0}.
+	 * @param overflowPolicy {@link OverflowPolicy} applied when the capacity is reached;
+	 * defaults to {@link #DEFAULT_OVERFLOW_POLICY} if {@literal null}.
+	 * @throws IllegalArgumentException if the {@link Object source} or {@link ApplicationEventPublisher}
+	 * is {@literal null}, or the capacity is less than {@literal 1}.
+	 * @see #SessionExpiredEventBatcher(Object, ApplicationEventPublisher, int, Duration, int, OverflowPolicy, int)
+	 */
+	public SessionExpiredEventBatcher(@NonNull Object source, @NonNull ApplicationEventPublisher eventPublisher,
+			int maxBatchSize, @Nullable Duration flushInterval, int capacity, @Nullable OverflowPolicy overflowPolicy) {
+
+		this(source, eventPublisher, maxBatchSize, flushInterval, capacity, overflowPolicy,
+			DEFAULT_MAX_BATCHES_PER_FLUSH);
+	}
+
+	/**
+	 * Constructs a new instance of {@link SessionExpiredEventBatcher} initialized with the given {@link Object source}
+	 * of the events, {@link ApplicationEventPublisher}, maximum batch size, {@link Duration flush interval},
+	 * capacity, {@link OverflowPolicy} and maximum number of batches published per interval.
+	 *
+	 * @param source {@link Object} used as the source of all published {@link SessionsExpiredBatchEvent events};
+	 * must not be {@literal null}.
+	 * @param eventPublisher {@link ApplicationEventPublisher} used to publish {@link SessionsExpiredBatchEvent events};
+	 * must not be {@literal null}.
+	 * @param maxBatchSize maximum number of {@link Session#getId() Session IDs} published per event;
+	 * a value less than {@literal 1} disables batching.
+	 * @param flushInterval {@link Duration} between publications; defaults to {@link #DEFAULT_FLUSH_INTERVAL}
+	 * if {@literal null} or not positive.
+	 * @param capacity maximum number of pending {@link Session#getId() Session IDs}; must be greater than {@literal 0}.
+	 * @param overflowPolicy {@link OverflowPolicy} applied when the capacity is reached;
+	 * defaults to {@link #DEFAULT_OVERFLOW_POLICY} if {@literal null}.
+	 * @param maxBatchesPerFlush maximum number of {@link SessionsExpiredBatchEvent events} published per interval;
+	 * must be greater than {@literal 0}.
+	 * @throws IllegalArgumentException if the {@link Object source} or {@link ApplicationEventPublisher}
+	 * is {@literal null}, or the capacity or maximum number of batches per interval is less than {@literal 1}.
+	 * @see ApplicationEventPublisher
+	 * @see OverflowPolicy
+	 * @see Duration
+	 */
+	public SessionExpiredEventBatcher(@NonNull Object source, @NonNull ApplicationEventPublisher eventPublisher,
+			int maxBatchSize, @Nullable Duration flushInterval, int capacity, @Nullable OverflowPolicy overflowPolicy,
+			int maxBatchesPerFlush) {
+
+		Assert.notNull(source, "Source is required");
+		Assert.notNull(eventPublisher, "ApplicationEventPublisher is required");
+		Assert.isTrue(capacity > 0, () -> String.format("Capacity [%d] must be greater than 0", capacity));
+		Assert.isTrue(maxBatchesPerFlush > 0, () -> String.format("Max batches per flush [%d] must be greater than 0",
+			maxBatchesPerFlush));
+
+		this.source = source;
+		this.eventPublisher = eventPublisher;
+		this.maxBatchSize = maxBatchSize;
+		this.maxBatchesPerFlush = maxBatchesPerFlush;
+		this.capacity = capacity;
+		this.expiredSessionIds = new LinkedBlockingQueue<>(capacity);
+		this.overflowPolicy = overflowPolicy != null ? overflowPolicy : DEFAULT_OVERFLOW_POLICY;
+		this.flushInterval = Optional.ofNullable(flushInterval)
+			.filter(interval -> !(interval.isNegative() || interval.isZero()))
+			.orElse(DEFAULT_FLUSH_INTERVAL);
+	}
+
+	/**
+	 * Determines whether batching of expired {@link Session} events is enabled.
+	 *
+	 * @return a boolean value indicating whether batching of expired {@link Session} events is enabled.
+	 * @see #getMaxBatchSize()
+	 */
+	public boolean isEnabled() {
+		return getMaxBatchSize() > 0;
+	}
+
+	/**
+	 * Returns the maximum number of {@link Session#getId() Session IDs} waiting to be published.
+	 *
+	 * @return the maximum number of {@link Session#getId() Session IDs} waiting to be published.
+	 */
+	public int getCapacity() {
+		return this.capacity;
+	}
+
+	/**
+	 * Returns the number of {@link Session#getId() Session IDs} dropped because the capacity was reached.
+	 *
+	 * @return the number of {@link Session#getId() Session IDs} dropped because the capacity was reached.
+	 * @see OverflowPolicy#DROP
+	 */
+	public long getDroppedCount() {
+		return this.droppedCount.get();
+	}
+
+	/**
+	 * Returns the {@link Duration} between publications of {@link SessionsExpiredBatchEvent events}.
+	 *
+	 * @return the {@link Duration} between publications of {@link SessionsExpiredBatchEvent events}.
+	 */
+	public Duration getFlushInterval() {
+		return this.flushInterval;
+	}
+
+	protected Logger getLogger() {
+		return this.logger;
+	}
+
+	/**
+	 * Returns the maximum number of {@link SessionsExpiredBatchEvent events} published per
+	 * {@link #getFlushInterval() flush interval}.
+	 *
+	 * @return the maximum number of {@link SessionsExpiredBatchEvent events} published per interval.
+	 */
+	public int getMaxBatchesPerFlush() {
+		return this.maxBatchesPerFlush;
+	}
+
+	/**
+	 * Returns the maximum number of {@link Session#getId() Session IDs} published per event.
+	 *
+	 * @return the maximum number of {@link Session#getId() Session IDs} published per event.
+	 */
+	public int getMaxBatchSize() {
+		return this.maxBatchSize;
+	}
+
+	/**
+	 * Returns the {@link OverflowPolicy} applied when the {@link #getCapacity() capacity} is reached.
+	 *
+	 * @return the {@link OverflowPolicy} applied when the {@link #getCapacity() capacity} is reached.
+	 */
+	public OverflowPolicy getOverflowPolicy() {
+		return this.overflowPolicy;
+	}
+
+	/**
+	 * Returns the number of {@link Session#getId() Session IDs} waiting to be published.
+	 *
+	 * @return the number of {@link Session#getId() Session IDs} waiting to be published.
+	 */
+	public int getPendingCount() {
+		return this.expiredSessionIds.size();
+	}
+
+	/**
+	 * Adds the {@link Session#getId() ID} of an expired {@link Session} to the next batch.
+	 *
+	 * Does nothing if batching is disabled or the {@link Session#getId() ID} is {@literal null}.  When the
+	 * {@link #getCapacity() capacity} is reached, the {@link #getOverflowPolicy() OverflowPolicy} is applied.
+	 *
+	 * @param sessionId {@link Object} identifying the expired {@link Session}.
+	 * @see #isEnabled()
+	 * @see OverflowPolicy
+	 */
+	public void add(@Nullable Object sessionId) {
+
+		if (isEnabled() && sessionId != null) {
+
+			String expiredSessionId = String.valueOf(sessionId);
+
+			while (!this.expiredSessionIds.offer(expiredSessionId)) {
+				if (OverflowPolicy.DROP.equals(getOverflowPolicy())) {
+					this.droppedCount.incrementAndGet();
+					this.unreportedDroppedCount.incrementAndGet();
+					break;
+				}
+				else {
+					flush();
+				}
+			}
+
+			start();
+		}
+	}
+
+	private void start() {
+
+		if (this.started.compareAndSet(false, true)) {
+
+			long flushIntervalInMilliseconds = getFlushInterval().toMillis();
+
+			this.flushScheduler = newFlushScheduler();
+			this.flushScheduler.scheduleWithFixedDelay(this::safeFlush, flushIntervalInMilliseconds,
+				flushIntervalInMilliseconds, TimeUnit.MILLISECONDS);
+		}
+	}
+
+	protected ScheduledExecutorService newFlushScheduler() {
+
+		return Executors.newSingleThreadScheduledExecutor(runnable -> {
+
+			Thread flushThread = new Thread(runnable, FLUSH_THREAD_NAME);
+
+			flushThread.setDaemon(true);
+
+			return flushThread;
+		});
+	}
+
+	/**
+	 * Publishes a single {@link SessionsExpiredBatchEvent} containing up to {@link #getMaxBatchSize()}
+	 * pending {@link Session#getId() Session IDs}.
+	 *
+	 * @return the number of {@link Session#getId() Session IDs} published.
+	 * @see #flushAll()
+	 */
+	public int flush() {
+
+		List<String> batch = new ArrayList<>();
+
+		if (isEnabled()) {
+			this.expiredSessionIds.drainTo(batch, getMaxBatchSize());
+		}
+
+		if (!batch.isEmpty()) {
+			this.eventPublisher.publishEvent(new SessionsExpiredBatchEvent(this.source, batch));
+		}
+
+		return batch.size();
+	}
+
+	/**
+	 * Publishes the {@link Session#getId() Session IDs} pending when called in batches of {@link #getMaxBatchSize()},
+	 * publishing no more than {@link #getMaxBatchesPerFlush()} batches.
+	 *
+	 * {@link Session#getId() Session IDs} added while publishing, and those beyond the maximum number of batches,
+	 * are left for the next call, so neither a steady stream of expirations nor a large backlog can keep
+	 * the flush thread publishing indefinitely.
+	 *
+	 * @return the number of {@link Session#getId() Session IDs} published.
+	 * @see #flush()
+	 */
+	public int flushAll() {
+
+		int pendingCount = getPendingCount();
+		int publishedCount = 0;
+
+		for (int batches = 0; batches < getMaxBatchesPerFlush() && publishedCount < pendingCount; batches++) {
+
+			int batchCount = flush();
+
+			if (batchCount < 1) {
+				break;
+			}
+
+			publishedCount += batchCount;
+		}
+
+		return publishedCount;
+	}
+
+	private void safeFlush() {
+
+		try {
+
+			flushAll();
+
+			long droppedCount = this.unreportedDroppedCount.getAndSet(0L);
+
+			if (droppedCount > 0L) {
+				getLogger().warn("Dropped [{}] expired Session IDs; the capacity of [{}] pending Session IDs"
+					+ " was reached", droppedCount, getCapacity());
+			}
+		}
+		catch (Throwable cause) {
+			getLogger().error("Error occurred while publishing batch of expired Session IDs", cause);
+		}
+	}
+
+	/**
+	 * Stops the periodic publication of {@link SessionsExpiredBatchEvent events} and publishes all remaining
+	 * {@link Session#getId() Session IDs}, in batches of {@link #getMaxBatchSize()}.
+	 */
+	@Override
+	public void close() {
+
+		Optional.ofNullable(this.flushScheduler).ifPresent(ScheduledExecutorService::shutdown);
+
+		int published;
+
+		do {
+			published = flush();
+		}
+		while (published > 0);
+	}
+
+	/**
+	 * Policy applied when the {@link #getCapacity() capacity} of pending {@link Session#getId() Session IDs}
+	 * is reached.
+	 */
+	public enum OverflowPolicy {
+
+		/**
+		 * Drops the {@link Session#getId() ID} of the expired {@link Session}, which is counted
+		 * and logged on the next flush.  Never blocks the calling thread.
+		 */
+		DROP,
+
+		/**
+		 * Publishes a batch of pending {@link Session#getId() Session IDs} on the calling thread
+		 * to make room for the {@link Session#getId() ID} of the expired {@link Session}.  The calling thread,
+		 * typically a GemFire thread delivering cache events, is blocked by the listeners of the event.
+		 */
+		PUBLISH
+
+	}
+}
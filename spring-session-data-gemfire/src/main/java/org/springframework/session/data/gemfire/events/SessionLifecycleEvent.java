@@ -0,0 +1,145 @@
+/*
+ * Copyright 2024 Broadcom. All rights reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.springframework.session.data.gemfire.events;
+
+import java.util.Optional;
+
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+import org.springframework.session.Session;
+import org.springframework.util.Assert;
+import org.springframework.util.ObjectUtils;
+
+/**
+ * {@link SessionLifecycleEvent} is an immutable value describing a change in the lifecycle of a {@link Session}
+ * as observed on the server, independent of the Spring {@link org.springframework.context.ApplicationContext}.
+ *
+ * @author John Blum
+ * @see Session
+ * @see SessionLifecycleEventSink
+ * @since 1.0.0
+ */
+public final class SessionLifecycleEvent {
+
+	/**
+	 * Factory method used to construct a new {@link SessionLifecycleEvent}.
+	 *
+	 * @param sessionId {@link String} containing the {@link Session#getId() ID} of the {@link Session};
+	 * must not be {@literal null}.
+	 * @param type {@link Type} of the lifecycle event; must not be {@literal null}.
+	 * @param session {@link Session} subject of the event; may be {@literal null}.
+	 * @return a new {@link SessionLifecycleEvent}.
+	 * @throws IllegalArgumentException if {@link String Session ID} or {@link Type} is {@literal null}.
+	 */
+	public static SessionLifecycleEvent of(@NonNull String sessionId, @NonNull Type type, @Nullable Session session) {
+		return new SessionLifecycleEvent(sessionId, type, session);
+	}
+
+	private final Session session;
+
+	private final String sessionId;
+
+	private final Type type;
+
+	private SessionLifecycleEvent(String sessionId, Type type, Session session) {
+
+		Assert.notNull(sessionId, "Session ID is required");
+		Assert.notNull(type, "Type is required");
+
+		this.sessionId = sessionId;
+		this.type = type;
+		this.session = session;
+	}
+
+	/**
+	 * Returns an {@link Optional} {@link Session} that is the subject of this event.
+	 *
+	 * The {@link Session} may not be present for {@link Type#isTerminal() terminal} events.
+	 *
+	 * @return an {@link Optional} {@link Session} that is the subject of this event.
+	 */
+	public Optional<Session> getSession() {
+		return Optional.ofNullable(this.session);
+	}
+
+	public String getSessionId() {
+		return this.sessionId;
+	}
+
+	public Type getType() {
+		return this.type;
+	}
+
+	/**
+	 * Merges this event with a later event for the same {@link Session}, returning the single event
+	 * that represents both.
+	 *
+	 * A {@link Type#CREATED} followed by a {@link Type#UPDATED} remains {@link Type#CREATED} with the later state;
+	 * otherwise, the later event wins.
+	 *
+	 * @param later {@link SessionLifecycleEvent} that occurred after this event.
+	 * @return the merged {@link SessionLifecycleEvent}.
+	 */
+	public SessionLifecycleEvent mergeWith(@NonNull SessionLifecycleEvent later) {
+
+		return Type.CREATED.equals(getType()) && Type.UPDATED.equals(later.getType())
+			? of(later.getSessionId(), Type.CREATED, later.session)
+			: later;
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+
+		if (this == obj) {
+			return true;
+		}
+
+		if (!(obj instanceof SessionLifecycleEvent)) {
+			return false;
+		}
+
+		SessionLifecycleEvent that = (SessionLifecycleEvent) obj;
+
+		return this.getSessionId().equals(that.getSessionId())
+			&& this.getType().equals(that.getType())
+			&& ObjectUtils.nullSafeEquals(this.session, that.session);
+	}
+
+	@Override
+	public int hashCode() {
+
+		int hashValue = 17;
+
+		hashValue = 37 * hashValue + getSessionId().hashCode();
+		hashValue = 37 * hashValue + getType().hashCode();
+
+		return hashValue;
+	}
+
+	@Override
+	public String toString() {
+		return String.format("%1$s[%2$s]", getType(), getSessionId());
+	}
+
+	/**
+	 * Types of {@link Session} lifecycle events.
+	 */
+	public enum Type {
+
+		CREATED,
+		UPDATED,
+		DELETED,
+		EXPIRED;
+
+		/**
+		 * Determines whether this {@link Type} ends the lifecycle of the {@link Session}.
+		 *
+		 * @return a boolean value indicating whether this {@link Type} ends the lifecycle of the {@link Session}.
+		 */
+		public boolean isTerminal() {
+			return DELETED.equals(this) || EXPIRED.equals(this);
+		}
+	}
+}
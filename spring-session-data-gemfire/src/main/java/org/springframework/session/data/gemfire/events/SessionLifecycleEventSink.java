@@ -0,0 +1,42 @@
+/*
+ * Copyright 2024 Broadcom. All rights reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.springframework.session.data.gemfire.events;
+
+import java.util.List;
+
+import org.springframework.session.Session;
+
+/**
+ * {@link SessionLifecycleEventSink} is a strategy interface used to consume batches of
+ * {@link SessionLifecycleEvent SessionLifecycleEvents} delivered from the server-side
+ * {@link org.apache.geode.cache.asyncqueue.AsyncEventQueue} attached to the {@link Session} {@link org.apache.geode.cache.Region}.
+ *
+ * Implementations must provide a public, no-arg constructor when configured by {@link Class#getName() class name}
+ * on the server.
+ *
+ * @author John Blum
+ * @see Session
+ * @see SessionLifecycleEvent
+ * @see org.springframework.session.data.gemfire.events.support.SessionLifecycleAsyncEventListener
+ * @since 1.0.0
+ */
+@FunctionalInterface
+public interface SessionLifecycleEventSink {
+
+	/**
+	 * Accepts a batch of {@link SessionLifecycleEvent SessionLifecycleEvents}, containing at most one event
+	 * per {@link Session}, in the order the {@link Session Sessions} were first seen in the batch.
+	 *
+	 * Events are delivered at least once: throwing an exception causes the entire batch to be redelivered,
+	 * and a batch already accepted may be delivered again after a failover of the primary server.
+	 * Implementations must be idempotent.
+	 *
+	 * @param events {@link List} of {@link SessionLifecycleEvent SessionLifecycleEvents} to process.
+	 * @throws Exception if the batch could not be processed.
+	 * @see SessionLifecycleEvent
+	 */
+	void accept(List<SessionLifecycleEvent> events) throws Exception;
+
+}
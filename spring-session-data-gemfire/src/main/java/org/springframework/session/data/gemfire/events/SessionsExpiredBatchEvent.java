@@ -0,0 +1,69 @@
+/*
+ * Copyright 2024 Broadcom. All rights reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.springframework.session.data.gemfire.events;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+import org.springframework.context.ApplicationEvent;
+import org.springframework.session.Session;
+import org.springframework.session.events.SessionExpiredEvent;
+
+/**
+ * {@link SessionsExpiredBatchEvent} is a Spring {@link ApplicationEvent} fired once for a batch of expired
+ * {@link Session Sessions}, carrying only the {@link Session#getId() IDs} of the {@link Session Sessions}
+ * that expired.
+ *
+ * This event is published in addition to, and not instead of, the individual {@link SessionExpiredEvent} fired
+ * per {@link Session}, allowing application components to process mass expirations in bulk.
+ *
+ * @author John Blum
+ * @see ApplicationEvent
+ * @see Session
+ * @see SessionExpiredEvent
+ * @see SessionExpiredEventBatcher
+ * @since 1.0.0
+ */
+public class SessionsExpiredBatchEvent extends ApplicationEvent {
+
+	private final List<String> sessionIds;
+
+	/**
+	 * Constructs a new instance of {@link SessionsExpiredBatchEvent} initialized with the given {@link Object source}
+	 * and {@link Collection} of expired {@link Session} {@link String IDs}.
+	 *
+	 * @param source {@link Object} referencing the source of the event.
+	 * @param sessionIds {@link Collection} of {@link Session#getId() Session IDs} that expired.
+	 * @see Session#getId()
+	 */
+	public SessionsExpiredBatchEvent(Object source, Collection<String> sessionIds) {
+
+		super(source);
+
+		this.sessionIds = sessionIds != null
+			? Collections.unmodifiableList(new ArrayList<>(sessionIds))
+			: Collections.emptyList();
+	}
+
+	/**
+	 * Gets the {@link List} of {@link Session#getId() IDs} of the {@link Session Sessions} that expired.
+	 *
+	 * @return an unmodifiable {@link List} of {@link Session#getId() Session IDs}; never {@literal null}.
+	 */
+	public List<String> getSessionIds() {
+		return this.sessionIds;
+	}
+
+	/**
+	 * Returns the number of expired {@link Session Sessions} in this batch.
+	 *
+	 * @return the number of expired {@link Session Sessions} in this batch.
+	 */
+	public int size() {
+		return this.sessionIds.size();
+	}
+}
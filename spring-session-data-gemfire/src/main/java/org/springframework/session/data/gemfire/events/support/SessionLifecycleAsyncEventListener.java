@@ -0,0 +1,231 @@
+/*
+ * Copyright 2024 Broadcom. All rights reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.springframework.session.data.gemfire.events.support;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Properties;
+
+import org.apache.geode.cache.Cache;
+import org.apache.geode.cache.Declarable;
+import org.apache.geode.cache.Operation;
+import org.apache.geode.cache.asyncqueue.AsyncEvent;
+import org.apache.geode.cache.asyncqueue.AsyncEventListener;
+import org.apache.geode.cache.asyncqueue.AsyncEventQueue;
+import org.apache.geode.pdx.PdxInstance;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import org.springframework.beans.BeanUtils;
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+import org.springframework.session.Session;
+import org.springframework.session.data.gemfire.events.SessionLifecycleEvent;
+import org.springframework.session.data.gemfire.events.SessionLifecycleEventSink;
+import org.springframework.session.data.gemfire.expiration.support.ExpiredSessionSweeperFunction;
+import org.springframework.session.data.gemfire.support.SessionUtils;
+import org.springframework.util.Assert;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.StringUtils;
+
+/**
+ * {@link SessionLifecycleAsyncEventListener} is a server-side Apache Geode {@link AsyncEventListener} that converts
+ * batches of {@link AsyncEvent AsyncEvents} from the {@link Session} {@link org.apache.geode.cache.Region}
+ * into {@link SessionLifecycleEvent SessionLifecycleEvents} and delivers them to a pluggable
+ * {@link SessionLifecycleEventSink}.
+ *
+ * Because an {@link AsyncEventQueue} is processed by the primary member(s) only, each event is handled by a single
+ * consumer in the cluster, rather than being fanned out to every subscribed client application node.  Multiple
+ * events for the same {@link Session} in a batch are collapsed into a single {@link SessionLifecycleEvent}.
+ *
+ * Events are delivered to the {@link SessionLifecycleEventSink} at least once.  After a failover, the new primary
+ * redelivers the events that were not yet removed from the queue ({@link AsyncEvent#getPossibleDuplicate()
+ * possible duplicates}), including events the previous primary already delivered, and a batch is redelivered
+ * when the {@link SessionLifecycleEventSink} fails.  The {@link SessionLifecycleEventSink} must therefore
+ * be idempotent.
+ *
+ * When declared by {@link Class#getName() class name}, for example with {@literal gfsh}, the
+ * {@link SessionLifecycleEventSink} is configured with the {@value #SINK_CLASS_NAME_PARAMETER} parameter.
+ *
+ * Note, {@link AsyncEventQueue AsyncEventQueues} do not receive {@link Operation#isInvalidate() invalidate}
+ * operations.  Expired {@link Session Sessions} are only delivered when the {@link Session}
+ * {@link org.apache.geode.cache.Region} expires entries with {@link org.apache.geode.cache.ExpirationAction#DESTROY}
+ * and the {@link AsyncEventQueue} forwards expiration destroy operations, or when they are removed by
+ * the {@link ExpiredSessionSweeperFunction}.
+ *
+ * @author John Blum
+ * @see Declarable
+ * @see AsyncEvent
+ * @see AsyncEventListener
+ * @see AsyncEventQueue
+ * @see SessionLifecycleEvent
+ * @see SessionLifecycleEventSink
+ * @since 1.0.0
+ */
+@SuppressWarnings("rawtypes")
+public class SessionLifecycleAsyncEventListener implements AsyncEventListener, Declarable {
+
+	public static final String SINK_CLASS_NAME_PARAMETER = "sink";
+
+	private final Logger logger = LoggerFactory.getLogger(getClass());
+
+	private volatile SessionLifecycleEventSink sink;
+
+	/**
+	 * Default constructor used when this listener is declared by {@link Class#getName() class name} on the server.
+	 *
+	 * The {@link SessionLifecycleEventSink} is configured in {@link #initialize(Cache, Properties)}.
+	 */
+	public SessionLifecycleAsyncEventListener() { }
+
+	/**
+	 * Constructs a new instance of {@link SessionLifecycleAsyncEventListener} initialized with
+	 * the given {@link SessionLifecycleEventSink}.
+	 *
+	 * @param sink {@link SessionLifecycleEventSink} receiving batches of {@link SessionLifecycleEvent events};
+	 * must not be {@literal null}.
+	 * @throws IllegalArgumentException if {@link SessionLifecycleEventSink} is {@literal null}.
+	 * @see SessionLifecycleEventSink
+	 */
+	public SessionLifecycleAsyncEventListener(@NonNull SessionLifecycleEventSink sink) {
+
+		Assert.notNull(sink, "SessionLifecycleEventSink is required");
+
+		this.sink = sink;
+	}
+
+	protected Logger getLogger() {
+		return this.logger;
+	}
+
+	/**
+	 * Returns the configured {@link SessionLifecycleEventSink}.
+	 *
+	 * @return the configured {@link SessionLifecycleEventSink}.
+	 * @throws IllegalStateException if the {@link SessionLifecycleEventSink} was not configured.
+	 */
+	protected SessionLifecycleEventSink getSink() {
+
+		SessionLifecycleEventSink sink = this.sink;
+
+		Assert.state(sink != null, "SessionLifecycleEventSink was not configured");
+
+		return sink;
+	}
+
+	/**
+	 * Configures the {@link SessionLifecycleEventSink} from the {@value #SINK_CLASS_NAME_PARAMETER} parameter
+	 * when this listener was not constructed with a {@link SessionLifecycleEventSink}.
+	 *
+	 * @param cache reference to the peer {@link Cache}.
+	 * @param parameters {@link Properties} declared for this listener.
+	 */
+	@Override
+	public void initialize(Cache cache, Properties parameters) {
+
+		if (this.sink == null) {
+			this.sink = Optional.ofNullable(parameters)
+				.map(it -> it.getProperty(SINK_CLASS_NAME_PARAMETER))
+				.filter(StringUtils::hasText)
+				.map(String::trim)
+				.map(this::newSink)
+				.orElseThrow(() -> new IllegalArgumentException(String.format(
+					"The [%s] parameter declaring the SessionLifecycleEventSink class name is required",
+						SINK_CLASS_NAME_PARAMETER)));
+		}
+	}
+
+	private SessionLifecycleEventSink newSink(String sinkClassName) {
+
+		try {
+
+			Class<?> sinkType = ClassUtils.forName(sinkClassName, getClass().getClassLoader());
+
+			Assert.isAssignable(SessionLifecycleEventSink.class, sinkType);
+
+			return (SessionLifecycleEventSink) BeanUtils.instantiateClass(sinkType);
+		}
+		catch (ClassNotFoundException cause) {
+			throw new IllegalArgumentException(String.format("SessionLifecycleEventSink class [%s] not found",
+				sinkClassName), cause);
+		}
+	}
+
+	/**
+	 * Collapses the batch of {@link AsyncEvent AsyncEvents} into at most one {@link SessionLifecycleEvent}
+	 * per {@link Session} and delivers the result to the configured {@link SessionLifecycleEventSink}.
+	 *
+	 * @param asyncEvents {@link List} of {@link AsyncEvent AsyncEvents} to process.
+	 * @return {@literal true} if the batch was processed; {@literal false} to have the batch redelivered.
+	 */
+	@Override
+	public boolean processEvents(List<AsyncEvent> asyncEvents) {
+
+		Map<String, SessionLifecycleEvent> sessionLifecycleEvents = new LinkedHashMap<>();
+
+		for (AsyncEvent asyncEvent : asyncEvents) {
+			toSessionLifecycleEvent(asyncEvent).ifPresent(event ->
+				sessionLifecycleEvents.merge(event.getSessionId(), event, SessionLifecycleEvent::mergeWith));
+		}
+
+		try {
+
+			if (!sessionLifecycleEvents.isEmpty()) {
+				getSink().accept(new ArrayList<>(sessionLifecycleEvents.values()));
+			}
+
+			return true;
+		}
+		catch (Exception cause) {
+			getLogger().error(String.format("Failed to process batch of [%d] Session lifecycle events;"
+				+ " the batch will be redelivered", sessionLifecycleEvents.size()), cause);
+
+			return false;
+		}
+	}
+
+	/**
+	 * Converts the given {@link AsyncEvent} into a {@link SessionLifecycleEvent}.
+	 *
+	 * @param asyncEvent {@link AsyncEvent} to convert.
+	 * @return an {@link Optional} {@link SessionLifecycleEvent}, empty if the {@link Operation} is not relevant
+	 * or the {@link Session#getId() Session ID} is invalid.
+	 */
+	protected Optional<SessionLifecycleEvent> toSessionLifecycleEvent(@NonNull AsyncEvent asyncEvent) {
+
+		Object key = asyncEvent.getKey();
+
+		return Optional.ofNullable(asyncEvent.getOperation())
+			.map(operation -> toType(operation, asyncEvent.getCallbackArgument()))
+			.filter(type -> SessionUtils.isValidSessionId(key))
+			.map(type -> SessionLifecycleEvent.of(key.toString(), type,
+				type.isTerminal() ? null : toSession(asyncEvent.getDeserializedValue())));
+	}
+
+	private @Nullable SessionLifecycleEvent.Type toType(@NonNull Operation operation,
+			@Nullable Object callbackArgument) {
+
+		return operation.isCreate() ? SessionLifecycleEvent.Type.CREATED
+			: operation.isUpdate() ? SessionLifecycleEvent.Type.UPDATED
+			: operation.isDestroy() && isExpiration(operation, callbackArgument) ? SessionLifecycleEvent.Type.EXPIRED
+			: operation.isDestroy() ? SessionLifecycleEvent.Type.DELETED
+			: null;
+	}
+
+	private boolean isExpiration(@NonNull Operation operation, @Nullable Object callbackArgument) {
+		return operation.isExpiration() || ExpiredSessionSweeperFunction.isSessionExpired(callbackArgument);
+	}
+
+	private @Nullable Session toSession(@Nullable Object value) {
+
+		Object resolvedValue = value instanceof PdxInstance ? ((PdxInstance) value).getObject() : value;
+
+		return resolvedValue instanceof Session ? (Session) resolvedValue : null;
+	}
+}
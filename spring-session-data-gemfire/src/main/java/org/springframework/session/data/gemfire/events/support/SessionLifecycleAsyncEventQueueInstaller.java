@@ -0,0 +1,210 @@
+/*
+ * Copyright 2024 Broadcom. All rights reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.springframework.session.data.gemfire.events.support;
+
+import java.util.Optional;
+
+import org.apache.geode.cache.Cache;
+import org.apache.geode.cache.ExpirationAction;
+import org.apache.geode.cache.ExpirationAttributes;
+import org.apache.geode.cache.Region;
+import org.apache.geode.cache.RegionAttributes;
+import org.apache.geode.cache.asyncqueue.AsyncEventQueue;
+import org.apache.geode.cache.asyncqueue.AsyncEventQueueFactory;
+
+import org.springframework.lang.NonNull;
+import org.springframework.session.Session;
+import org.springframework.session.data.gemfire.events.SessionLifecycleEventSink;
+import org.springframework.util.Assert;
+import org.springframework.util.StringUtils;
+
+/**
+ * {@link SessionLifecycleAsyncEventQueueInstaller} creates an {@link AsyncEventQueue} with
+ * a {@link SessionLifecycleAsyncEventListener} on a server (peer) {@link Cache} and attaches it to
+ * the {@link Session} {@link Region}.
+ *
+ * This is the programmatic equivalent of the following {@literal gfsh} commands:
+ *
+ * <pre>
+ * create async-event-queue --id=SessionLifecycleEventQueue --parallel=true --forward-expiration-destroy=true
+ *   --enable-batch-conflation=true --batch-size=100 --batch-time-interval=1000
+ *   --listener=org.springframework.session.data.gemfire.events.support.SessionLifecycleAsyncEventListener
+ *   --listener-param=sink#com.example.MySessionLifecycleEventSink
+ * alter region --name=/ClusteredSpringSessions --async-event-queue-id=SessionLifecycleEventQueue
+ * </pre>
+ *
+ * The installer runs on the servers hosting the {@link Session} {@link Region}, for example in a server
+ * {@literal cache.xml} {@literal <initializer>} or a Spring Boot server application, and is therefore not part of
+ * the client {@link org.springframework.session.data.gemfire.config.annotation.web.http.EnableGemFireHttpSession}
+ * configuration.
+ *
+ * {@link AsyncEventQueue AsyncEventQueues} do not receive invalidate operations, so expired {@link Session Sessions}
+ * only reach the queue when the {@link Session} {@link Region} expires entries with {@link ExpirationAction#DESTROY}.
+ * Installing the queue on a {@link Region} whose entry idle timeout or time-to-live expires entries with any other
+ * {@link ExpirationAction}, such as the default {@link ExpirationAction#INVALIDATE}, fails.  Custom expiration
+ * of the {@link Region} cannot be verified and must also use {@link ExpirationAction#DESTROY}.
+ *
+ * @author John Blum
+ * @see Cache
+ * @see Region
+ * @see AsyncEventQueue
+ * @see AsyncEventQueueFactory
+ * @see SessionLifecycleAsyncEventListener
+ * @see SessionLifecycleEventSink
+ * @since 1.0.0
+ */
+public class SessionLifecycleAsyncEventQueueInstaller {
+
+	public static final boolean DEFAULT_BATCH_CONFLATION_ENABLED = true;
+	public static final boolean DEFAULT_PARALLEL = true;
+	public static final boolean DEFAULT_PERSISTENT = false;
+
+	public static final int DEFAULT_BATCH_SIZE = 100;
+	public static final int DEFAULT_BATCH_TIME_INTERVAL_MILLIS = 1000;
+
+	public static final String DEFAULT_ASYNC_EVENT_QUEUE_ID = "SessionLifecycleEventQueue";
+
+	private boolean batchConflationEnabled = DEFAULT_BATCH_CONFLATION_ENABLED;
+	private boolean parallel = DEFAULT_PARALLEL;
+	private boolean persistent = DEFAULT_PERSISTENT;
+
+	private int batchSize = DEFAULT_BATCH_SIZE;
+	private int batchTimeIntervalMillis = DEFAULT_BATCH_TIME_INTERVAL_MILLIS;
+
+	private final SessionLifecycleEventSink sink;
+
+	private String asyncEventQueueId = DEFAULT_ASYNC_EVENT_QUEUE_ID;
+	private String diskStoreName;
+
+	/**
+	 * Constructs a new instance of {@link SessionLifecycleAsyncEventQueueInstaller} initialized with
+	 * the given {@link SessionLifecycleEventSink}.
+	 *
+	 * @param sink {@link SessionLifecycleEventSink} receiving batches of Session lifecycle events;
+	 * must not be {@literal null}.
+	 * @throws IllegalArgumentException if {@link SessionLifecycleEventSink} is {@literal null}.
+	 */
+	public SessionLifecycleAsyncEventQueueInstaller(@NonNull SessionLifecycleEventSink sink) {
+
+		Assert.notNull(sink, "SessionLifecycleEventSink is required");
+
+		this.sink = sink;
+	}
+
+	public SessionLifecycleAsyncEventQueueInstaller withAsyncEventQueueId(String asyncEventQueueId) {
+		this.asyncEventQueueId = asyncEventQueueId;
+		return this;
+	}
+
+	public SessionLifecycleAsyncEventQueueInstaller withBatchConflationEnabled(boolean batchConflationEnabled) {
+		this.batchConflationEnabled = batchConflationEnabled;
+		return this;
+	}
+
+	public SessionLifecycleAsyncEventQueueInstaller withBatchSize(int batchSize) {
+		this.batchSize = batchSize;
+		return this;
+	}
+
+	public SessionLifecycleAsyncEventQueueInstaller withBatchTimeIntervalMillis(int batchTimeIntervalMillis) {
+		this.batchTimeIntervalMillis = batchTimeIntervalMillis;
+		return this;
+	}
+
+	public SessionLifecycleAsyncEventQueueInstaller withDiskStoreName(String diskStoreName) {
+		this.diskStoreName = diskStoreName;
+		return this;
+	}
+
+	public SessionLifecycleAsyncEventQueueInstaller withParallel(boolean parallel) {
+		this.parallel = parallel;
+		return this;
+	}
+
+	/**
+	 * Configures whether the {@link AsyncEventQueue} is persistent, making the event stream durable
+	 * across server restarts.
+	 *
+	 * @param persistent boolean value indicating whether the {@link AsyncEventQueue} is persistent.
+	 * @return this {@link SessionLifecycleAsyncEventQueueInstaller}.
+	 */
+	public SessionLifecycleAsyncEventQueueInstaller withPersistent(boolean persistent) {
+		this.persistent = persistent;
+		return this;
+	}
+
+	public String getAsyncEventQueueId() {
+
+		return StringUtils.hasText(this.asyncEventQueueId)
+			? this.asyncEventQueueId
+			: DEFAULT_ASYNC_EVENT_QUEUE_ID;
+	}
+
+	/**
+	 * Creates the {@link AsyncEventQueue}, or reuses an existing {@link AsyncEventQueue} with the same
+	 * {@link #getAsyncEventQueueId() ID}, and attaches it to the given {@link Session} {@link Region}.
+	 *
+	 * @param cache peer {@link Cache} on which the {@link AsyncEventQueue} is created; must not be {@literal null}.
+	 * @param sessionsRegion {@link Session} {@link Region} to which the {@link AsyncEventQueue} is attached;
+	 * must not be {@literal null}.
+	 * @return the {@link AsyncEventQueue} attached to the {@link Session} {@link Region}.
+	 * @throws IllegalStateException if the {@link Session} {@link Region} expires entries with
+	 * an {@link ExpirationAction} other than {@link ExpirationAction#DESTROY}.
+	 * @see AsyncEventQueueFactory
+	 */
+	public AsyncEventQueue install(@NonNull Cache cache, @NonNull Region<?, ?> sessionsRegion) {
+
+		Assert.notNull(cache, "Cache is required");
+		Assert.notNull(sessionsRegion, "Region is required");
+
+		assertExpirationDestroysEntries(sessionsRegion);
+
+		String asyncEventQueueId = getAsyncEventQueueId();
+
+		AsyncEventQueue asyncEventQueue = Optional.ofNullable(cache.getAsyncEventQueue(asyncEventQueueId))
+			.orElseGet(() -> newAsyncEventQueue(cache, asyncEventQueueId));
+
+		if (!sessionsRegion.getAttributes().getAsyncEventQueueIds().contains(asyncEventQueueId)) {
+			sessionsRegion.getAttributesMutator().addAsyncEventQueueId(asyncEventQueueId);
+		}
+
+		return asyncEventQueue;
+	}
+
+	private void assertExpirationDestroysEntries(Region<?, ?> sessionsRegion) {
+
+		RegionAttributes<?, ?> regionAttributes = sessionsRegion.getAttributes();
+
+		assertExpirationDestroysEntries(sessionsRegion, "entry idle timeout", regionAttributes.getEntryIdleTimeout());
+		assertExpirationDestroysEntries(sessionsRegion, "entry time-to-live", regionAttributes.getEntryTimeToLive());
+	}
+
+	private void assertExpirationDestroysEntries(Region<?, ?> sessionsRegion, String expirationType,
+			ExpirationAttributes expirationAttributes) {
+
+		Assert.state(expirationAttributes == null || expirationAttributes.getTimeout() <= 0
+				|| ExpirationAction.DESTROY.equals(expirationAttributes.getAction()),
+			() -> String.format("The %1$s of Region [%2$s] must use ExpirationAction [DESTROY] instead of [%3$s]"
+				+ " for AsyncEventQueue [%4$s] to receive expired Sessions", expirationType,
+					sessionsRegion.getFullPath(), expirationAttributes.getAction(), getAsyncEventQueueId()));
+	}
+
+	private AsyncEventQueue newAsyncEventQueue(Cache cache, String asyncEventQueueId) {
+
+		AsyncEventQueueFactory asyncEventQueueFactory = cache.createAsyncEventQueueFactory()
+			.setBatchConflationEnabled(this.batchConflationEnabled)
+			.setBatchSize(this.batchSize)
+			.setBatchTimeInterval(this.batchTimeIntervalMillis)
+			.setForwardExpirationDestroy(true)
+			.setParallel(this.parallel)
+			.setPersistent(this.persistent);
+
+		if (StringUtils.hasText(this.diskStoreName)) {
+			asyncEventQueueFactory.setDiskStoreName(this.diskStoreName);
+		}
+
+		return asyncEventQueueFactory.create(asyncEventQueueId, new SessionLifecycleAsyncEventListener(this.sink));
+	}
+}
@@ -31,6 +31,8 @@ import org.springframework.session.data.gemfire.expiration.repository.FixedDurat
 @SuppressWarnings("unused")
 public class FixedDurationExpirationSessionRepositoryBeanPostProcessor implements BeanPostProcessor {
 
+	private final boolean expirationEnforcedByDataGrid;
+
 	private final Duration expirationTimeout;
 
 	/**
@@ -42,7 +44,23 @@ public class FixedDurationExpirationSessionRepositoryBeanPostProcessor implement
 	 * @see Duration
 	 */
 	public FixedDurationExpirationSessionRepositoryBeanPostProcessor(@Nullable Duration expirationTimeout) {
+		this(expirationTimeout, false);
+	}
+
+	/**
+	 * Constructs a new instance of {@link FixedDurationExpirationSessionRepositoryBeanPostProcessor} initialized with
+	 * the given {@link Duration} to implement fixed {@link Duration} expiration policy on all {@link Session Sessions}.
+	 *
+	 * @param expirationTimeout {@link Duration} indicating the length of time until the {@link Session} expires.
+	 * @param expirationEnforcedByDataGrid boolean indicating whether the data grid removes expired
+	 * {@link Session Sessions} (e.g. using an entry time-to-live).
+	 * @see FixedDurationExpirationSessionRepository#isExpirationEnforcedByDataGrid()
+	 */
+	public FixedDurationExpirationSessionRepositoryBeanPostProcessor(@Nullable Duration expirationTimeout,
+			boolean expirationEnforcedByDataGrid) {
+
 		this.expirationTimeout = expirationTimeout;
+		this.expirationEnforcedByDataGrid = expirationEnforcedByDataGrid;
 	}
 
 	/**
@@ -55,11 +73,21 @@ public class FixedDurationExpirationSessionRepositoryBeanPostProcessor implement
 		return this.expirationTimeout;
 	}
 
+	/**
+	 * Determines whether the data grid removes expired {@link Session Sessions}.
+	 *
+	 * @return a boolean value indicating whether the data grid removes expired {@link Session Sessions}.
+	 */
+	protected boolean isExpirationEnforcedByDataGrid() {
+		return this.expirationEnforcedByDataGrid;
+	}
+
 	@Nullable @Override @SuppressWarnings("unchecked")
 	public Object postProcessAfterInitialization(Object bean, String beanName) throws BeansException {
 
 		return bean instanceof SessionRepository
-			? new FixedDurationExpirationSessionRepository<>((SessionRepository) bean, getExpirationTimeout())
+			? new FixedDurationExpirationSessionRepository<>((SessionRepository) bean, getExpirationTimeout(),
+				isExpirationEnforcedByDataGrid())
 			: bean;
 	}
 }
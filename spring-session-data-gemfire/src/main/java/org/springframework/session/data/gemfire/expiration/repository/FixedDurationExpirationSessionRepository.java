@@ -5,6 +5,7 @@
 
 package org.springframework.session.data.gemfire.expiration.repository;
 
+import java.time.Clock;
 import java.time.Duration;
 import java.time.Instant;
 import java.util.Optional;
@@ -13,6 +14,7 @@ import org.springframework.lang.NonNull;
 import org.springframework.lang.Nullable;
 import org.springframework.session.Session;
 import org.springframework.session.SessionRepository;
+import org.springframework.session.data.gemfire.support.SessionClockAware;
 
 import org.apache.shiro.util.Assert;
 
@@ -27,6 +29,10 @@ import org.apache.shiro.util.Assert;
  *
  * This may be useful in certain UCs where, for security reasons, the {@link Session} must expire no matter what.
  *
+ * When the data grid also enforces the fixed duration, for example with an entry time-to-live computed from
+ * the {@link Session#getCreationTime() creation time}, the repository only filters expired {@link Session Sessions}
+ * on read and leaves their removal to the data grid.
+ *
  * @author John Blum
  * @see Duration
  * @see Instant
@@ -36,7 +42,14 @@ import org.apache.shiro.util.Assert;
  * @since 2.1.0
  */
 @SuppressWarnings("unused")
-public class FixedDurationExpirationSessionRepository<S extends Session> implements SessionRepository<S> {
+public class FixedDurationExpirationSessionRepository<S extends Session>
+		implements SessionRepository<S>, SessionClockAware {
+
+	private static final Clock DEFAULT_CLOCK = Clock.systemUTC();
+
+	private final boolean expirationEnforcedByDataGrid;
+
+	private volatile Clock clock = DEFAULT_CLOCK;
 
 	private final SessionRepository<S> delegate;
 
@@ -55,10 +68,51 @@ public class FixedDurationExpirationSessionRepository<S extends Session> impleme
 	public FixedDurationExpirationSessionRepository(@NonNull SessionRepository<S> sessionRepository,
 			@Nullable Duration expirationTimeout) {
 
+		this(sessionRepository, expirationTimeout, false);
+	}
+
+	/**
+	 * Constructs a new instance of {@link FixedDurationExpirationSessionRepository} initialized with the given
+	 * data store specific {@link SessionRepository}.
+	 *
+	 * @param sessionRepository {@link SessionRepository} delegate.
+	 * @param expirationTimeout {@link Duration} specifying the length of time until the {@link Session} expires.
+	 * @param expirationEnforcedByDataGrid boolean indicating whether the data grid removes expired
+	 * {@link Session Sessions}, in which case expired {@link Session Sessions} are not deleted on read.
+	 * @throws IllegalArgumentException if {@link SessionRepository} is {@literal null}.
+	 * @see SessionRepository
+	 * @see Duration
+	 */
+	public FixedDurationExpirationSessionRepository(@NonNull SessionRepository<S> sessionRepository,
+			@Nullable Duration expirationTimeout, boolean expirationEnforcedByDataGrid) {
+
 		Assert.notNull(sessionRepository, "SessionRepository is required");
 
 		this.delegate = sessionRepository;
 		this.expirationTimeout = expirationTimeout;
+		this.expirationEnforcedByDataGrid = expirationEnforcedByDataGrid;
+	}
+
+	/**
+	 * Configures the {@link Clock} used to determine whether a {@link Session} has expired.
+	 *
+	 * @param clock {@link Clock} to use; the {@link Clock#systemUTC() system clock} is used if {@literal null}.
+	 * @see Clock
+	 */
+	@Override
+	public void setClock(@Nullable Clock clock) {
+		this.clock = clock != null ? clock : DEFAULT_CLOCK;
+	}
+
+	/**
+	 * Returns the configured {@link Clock} used to determine whether a {@link Session} has expired.
+	 *
+	 * @return the configured {@link Clock}; never {@literal null}.
+	 * @see Clock
+	 */
+	@NonNull
+	protected Clock getClock() {
+		return this.clock;
 	}
 
 	/**
@@ -83,6 +137,15 @@ public class FixedDurationExpirationSessionRepository<S extends Session> impleme
 		return Optional.ofNullable(this.expirationTimeout);
 	}
 
+	/**
+	 * Determines whether the data grid removes expired {@link Session Sessions}.
+	 *
+	 * @return a boolean value indicating whether the data grid removes expired {@link Session Sessions}.
+	 */
+	public boolean isExpirationEnforcedByDataGrid() {
+		return this.expirationEnforcedByDataGrid;
+	}
+
 	/**
 	 * Creates a new instance of {@link Session}.
 	 *
@@ -123,6 +186,9 @@ public class FixedDurationExpirationSessionRepository<S extends Session> impleme
 	/**
 	 * Handles the expiration event for the given {@link Session} if the {@link Session} has expired.
 	 *
+	 * The expired {@link Session} is only deleted when the data grid does not
+	 * {@link #isExpirationEnforcedByDataGrid() enforce expiration}, avoiding a redundant round trip.
+	 *
 	 * @param session {@link Session} to evaluate for expiration.
 	 * @param expirationDuration {@link Duration} indicating the length of time before an idle,
 	 * unused or old {@link Session} expires.
@@ -135,7 +201,11 @@ public class FixedDurationExpirationSessionRepository<S extends Session> impleme
 	S handleExpired(S session, Duration expirationDuration) {
 
 		if (isExpired(session, expirationDuration)) {
-			deleteById(session.getId());
+
+			if (!isExpirationEnforcedByDataGrid()) {
+				deleteById(session.getId());
+			}
+
 			session = null;
 		}
 
@@ -158,10 +228,8 @@ public class FixedDurationExpirationSessionRepository<S extends Session> impleme
 	 */
 	boolean isExpired(S session, Duration expirationDuration) {
 
-		Instant sessionCreationTime = session.getCreationTime();
-		Instant now = Instant.now();
-
-		return now.minusMillis(expirationDuration.toMillis()).isAfter(sessionCreationTime);
+		return getClock().millis() - session.getCreationTime().toEpochMilli()
+			> expirationDuration.toMillis();
 	}
 
 	/**
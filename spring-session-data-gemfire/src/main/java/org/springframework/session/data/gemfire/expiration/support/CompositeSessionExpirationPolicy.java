@@ -0,0 +1,159 @@
+/*
+ * Copyright 2024 Broadcom. All rights reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.springframework.session.data.gemfire.expiration.support;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+import org.springframework.session.Session;
+import org.springframework.session.data.gemfire.expiration.SessionExpirationPolicy;
+import org.springframework.session.data.gemfire.expiration.config.SessionExpirationTimeoutAware;
+import org.springframework.session.data.gemfire.support.SessionClockAware;
+import org.springframework.util.Assert;
+
+/**
+ * {@link CompositeSessionExpirationPolicy} is a {@link SessionExpirationPolicy} composed of 2 or more
+ * {@link SessionExpirationPolicy SessionExpirationPolicies}, where the {@link Session} expires at the earliest
+ * {@link Duration expiration timeout} determined by any of the composed policies.
+ *
+ * For example, an {@link IdleTimeoutSessionExpirationPolicy}, a {@link MaxLifetimeSessionExpirationPolicy}
+ * and a {@link ConditionalSessionExpirationPolicy} with a short idle timeout for anonymous {@link Session Sessions}
+ * can be combined into a single policy and evaluated by the {@link SessionExpirationPolicyCustomExpiryAdapter}.
+ *
+ * Composed policies that do not determine a timeout are ignored.  If no composed policy determines a timeout,
+ * then {@link Optional#empty()} is returned and expiration defers to the {@link org.apache.geode.cache.Region}
+ * configuration.
+ *
+ * The {@link #setExpirationTimeout(Duration) configured expiration timeout} (e.g. the max inactive interval)
+ * is passed on to all composed policies that are {@link SessionExpirationTimeoutAware}, and the
+ * {@link #setClock(Clock) configured Clock} to all composed policies that are {@link SessionClockAware}.
+ *
+ * @author John Blum
+ * @see <a href="https://en.wikipedia.org/wiki/Composite_pattern">Composite Software Design Pattern</a>
+ * @see SessionExpirationPolicy
+ * @see SessionExpirationTimeoutAware
+ * @see SessionClockAware
+ * @since 1.0.0
+ */
+public class CompositeSessionExpirationPolicy
+		implements SessionExpirationPolicy, SessionExpirationTimeoutAware, SessionClockAware {
+
+	/**
+	 * Factory method used to compose the given {@link SessionExpirationPolicy SessionExpirationPolicies}.
+	 *
+	 * @param sessionExpirationPolicies array of {@link SessionExpirationPolicy SessionExpirationPolicies}
+	 * to compose; must not be {@literal null}.
+	 * @return a new {@link CompositeSessionExpirationPolicy}.
+	 * @throws IllegalArgumentException if the array or any element is {@literal null}.
+	 */
+	public static CompositeSessionExpirationPolicy compose(
+			@NonNull SessionExpirationPolicy... sessionExpirationPolicies) {
+
+		return new CompositeSessionExpirationPolicy(Arrays.asList(sessionExpirationPolicies));
+	}
+
+	private final List<SessionExpirationPolicy> sessionExpirationPolicies;
+
+	private volatile ExpirationAction expirationAction = ExpirationAction.INVALIDATE;
+
+	/**
+	 * Constructs a new instance of {@link CompositeSessionExpirationPolicy} composed of the given
+	 * {@link SessionExpirationPolicy SessionExpirationPolicies}.
+	 *
+	 * @param sessionExpirationPolicies {@link Iterable} of {@link SessionExpirationPolicy SessionExpirationPolicies}
+	 * to compose; must not be {@literal null}.
+	 * @throws IllegalArgumentException if the {@link Iterable} or any element is {@literal null}.
+	 */
+	public CompositeSessionExpirationPolicy(@NonNull Iterable<SessionExpirationPolicy> sessionExpirationPolicies) {
+
+		Assert.notNull(sessionExpirationPolicies, "SessionExpirationPolicies are required");
+
+		List<SessionExpirationPolicy> policies = new ArrayList<>();
+
+		for (SessionExpirationPolicy sessionExpirationPolicy : sessionExpirationPolicies) {
+			Assert.notNull(sessionExpirationPolicy, "SessionExpirationPolicy must not be null");
+			policies.add(sessionExpirationPolicy);
+		}
+
+		this.sessionExpirationPolicies = Collections.unmodifiableList(policies);
+	}
+
+	/**
+	 * Returns the composed {@link SessionExpirationPolicy SessionExpirationPolicies}.
+	 *
+	 * @return an unmodifiable {@link List} of the composed {@link SessionExpirationPolicy SessionExpirationPolicies}.
+	 */
+	@NonNull
+	protected List<SessionExpirationPolicy> getSessionExpirationPolicies() {
+		return this.sessionExpirationPolicies;
+	}
+
+	/**
+	 * Sets the {@link ExpirationAction} taken when the {@link Session} expires.
+	 *
+	 * @param expirationAction {@link ExpirationAction} taken when the {@link Session} expires;
+	 * defaults to {@link ExpirationAction#INVALIDATE} if {@literal null}.
+	 */
+	public void setExpirationAction(@Nullable ExpirationAction expirationAction) {
+		this.expirationAction = ExpirationAction.defaultIfNull(expirationAction);
+	}
+
+	@Override
+	public ExpirationAction getExpirationAction() {
+		return this.expirationAction;
+	}
+
+	@Override
+	public void setClock(@Nullable Clock clock) {
+
+		for (SessionExpirationPolicy sessionExpirationPolicy : getSessionExpirationPolicies()) {
+			if (sessionExpirationPolicy instanceof SessionClockAware) {
+				((SessionClockAware) sessionExpirationPolicy).setClock(clock);
+			}
+		}
+	}
+
+	@Override
+	public void setExpirationTimeout(@Nullable Duration expirationTimeout) {
+
+		for (SessionExpirationPolicy sessionExpirationPolicy : getSessionExpirationPolicies()) {
+			if (sessionExpirationPolicy instanceof SessionExpirationTimeoutAware) {
+				((SessionExpirationTimeoutAware) sessionExpirationPolicy).setExpirationTimeout(expirationTimeout);
+			}
+		}
+	}
+
+	@Override
+	public Optional<Duration> determineExpirationTimeout(@NonNull Session session) {
+
+		Duration minimumExpirationTimeout = null;
+
+		for (SessionExpirationPolicy sessionExpirationPolicy : getSessionExpirationPolicies()) {
+
+			Duration expirationTimeout = sessionExpirationPolicy.determineExpirationTimeout(session).orElse(null);
+
+			boolean earlier = expirationTimeout != null
+				&& (minimumExpirationTimeout == null || expirationTimeout.compareTo(minimumExpirationTimeout) < 0);
+
+			if (earlier) {
+
+				minimumExpirationTimeout = expirationTimeout;
+
+				if (minimumExpirationTimeout.isZero() || minimumExpirationTimeout.isNegative()) {
+					break;
+				}
+			}
+		}
+
+		return Optional.ofNullable(minimumExpirationTimeout);
+	}
+}
@@ -0,0 +1,179 @@
+/*
+ * Copyright 2024 Broadcom. All rights reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.springframework.session.data.gemfire.expiration.support;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Predicate;
+
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.session.FindByIndexNameSessionRepository;
+import org.springframework.session.Session;
+import org.springframework.session.data.gemfire.expiration.SessionExpirationPolicy;
+import org.springframework.session.data.gemfire.support.SessionClockAware;
+import org.springframework.util.Assert;
+
+/**
+ * An implementation of the {@link SessionExpirationPolicy} interface that applies a delegate
+ * {@link SessionExpirationPolicy} only to those {@link Session Sessions} matching a {@link Predicate condition},
+ * such as anonymous {@link Session Sessions}, or {@link Session Sessions} with a given attribute or authority.
+ *
+ * {@link Session Sessions} not matching the condition do not determine a timeout.  Typically used in
+ * a {@link CompositeSessionExpirationPolicy}, for example, to expire anonymous {@link Session Sessions}
+ * after a few minutes of inactivity while authenticated {@link Session Sessions} use the default idle timeout.
+ *
+ * @author John Blum
+ * @see CompositeSessionExpirationPolicy
+ * @see Predicate
+ * @see Session
+ * @see SessionExpirationPolicy
+ * @see SessionClockAware
+ * @since 1.0.0
+ */
+public class ConditionalSessionExpirationPolicy implements SessionExpirationPolicy, SessionClockAware {
+
+	protected static final String SPRING_SECURITY_CONTEXT = "SPRING_SECURITY_CONTEXT";
+
+	/**
+	 * Factory method used to expire anonymous {@link Session Sessions} after the given {@link Duration idle timeout}.
+	 *
+	 * @param idleTimeout {@link Duration} until an idle, anonymous {@link Session} expires;
+	 * must not be {@literal null}.
+	 * @return a new {@link ConditionalSessionExpirationPolicy} for anonymous {@link Session Sessions}.
+	 * @see #isAnonymous()
+	 */
+	public static ConditionalSessionExpirationPolicy anonymous(@NonNull Duration idleTimeout) {
+
+		Assert.notNull(idleTimeout, "Idle timeout is required");
+
+		return new ConditionalSessionExpirationPolicy(isAnonymous(),
+			new IdleTimeoutSessionExpirationPolicy(idleTimeout));
+	}
+
+	/**
+	 * Returns a {@link Predicate} matching {@link Session Sessions} without a principal name
+	 * or with an anonymous {@link Authentication}.
+	 *
+	 * @return a {@link Predicate} matching anonymous {@link Session Sessions}.
+	 */
+	public static Predicate<Session> isAnonymous() {
+
+		return session -> {
+
+			if (session.getAttribute(FindByIndexNameSessionRepository.PRINCIPAL_NAME_INDEX_NAME) != null) {
+				return false;
+			}
+
+			Authentication authentication = resolveAuthentication(session);
+
+			return authentication == null || authentication instanceof AnonymousAuthenticationToken;
+		};
+	}
+
+	/**
+	 * Returns a {@link Predicate} matching {@link Session Sessions} with the named attribute set to the given value.
+	 *
+	 * @param attributeName {@link String} containing the name of the {@link Session} attribute.
+	 * @param attributeValue {@link Object} value to match.
+	 * @return a {@link Predicate} matching {@link Session Sessions} by attribute value.
+	 */
+	public static Predicate<Session> hasAttribute(@NonNull String attributeName, Object attributeValue) {
+		return session -> Objects.equals(session.getAttribute(attributeName), attributeValue);
+	}
+
+	/**
+	 * Returns a {@link Predicate} matching {@link Session Sessions} whose {@link Authentication}
+	 * has been granted the given authority (e.g. {@literal ROLE_ADMIN}).
+	 *
+	 * @param authority {@link String} containing the granted authority.
+	 * @return a {@link Predicate} matching {@link Session Sessions} by granted authority.
+	 */
+	public static Predicate<Session> hasAuthority(@NonNull String authority) {
+
+		return session -> {
+
+			Authentication authentication = resolveAuthentication(session);
+
+			if (authentication != null && authentication.getAuthorities() != null) {
+				for (GrantedAuthority grantedAuthority : authentication.getAuthorities()) {
+					if (authority.equals(grantedAuthority.getAuthority())) {
+						return true;
+					}
+				}
+			}
+
+			return false;
+		};
+	}
+
+	private static Authentication resolveAuthentication(Session session) {
+
+		Object securityContext = session.getAttribute(SPRING_SECURITY_CONTEXT);
+
+		return securityContext instanceof SecurityContext
+			? ((SecurityContext) securityContext).getAuthentication()
+			: null;
+	}
+
+	private final Predicate<Session> condition;
+
+	private final SessionExpirationPolicy sessionExpirationPolicy;
+
+	/**
+	 * Constructs a new {@link ConditionalSessionExpirationPolicy} initialized with the given
+	 * {@link Predicate condition} and delegate {@link SessionExpirationPolicy}.
+	 *
+	 * @param condition {@link Predicate} selecting the {@link Session Sessions} to which the delegate applies;
+	 * must not be {@literal null}.
+	 * @param sessionExpirationPolicy delegate {@link SessionExpirationPolicy}; must not be {@literal null}.
+	 * @throws IllegalArgumentException if the {@link Predicate} or {@link SessionExpirationPolicy}
+	 * is {@literal null}.
+	 */
+	public ConditionalSessionExpirationPolicy(@NonNull Predicate<Session> condition,
+			@NonNull SessionExpirationPolicy sessionExpirationPolicy) {
+
+		Assert.notNull(condition, "Condition is required");
+		Assert.notNull(sessionExpirationPolicy, "SessionExpirationPolicy is required");
+
+		this.condition = condition;
+		this.sessionExpirationPolicy = sessionExpirationPolicy;
+	}
+
+	protected Predicate<Session> getCondition() {
+		return this.condition;
+	}
+
+	protected SessionExpirationPolicy getSessionExpirationPolicy() {
+		return this.sessionExpirationPolicy;
+	}
+
+	@Override
+	public void setClock(@Nullable Clock clock) {
+
+		if (getSessionExpirationPolicy() instanceof SessionClockAware) {
+			((SessionClockAware) getSessionExpirationPolicy()).setClock(clock);
+		}
+	}
+
+	@Override
+	public Optional<Duration> determineExpirationTimeout(@NonNull Session session) {
+
+		return getCondition().test(session)
+			? getSessionExpirationPolicy().determineExpirationTimeout(session)
+			: Optional.empty();
+	}
+
+	@Override
+	public ExpirationAction getExpirationAction() {
+		return getSessionExpirationPolicy().getExpirationAction();
+	}
+}
@@ -0,0 +1,135 @@
+/*
+ * Copyright 2024 Broadcom. All rights reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.springframework.session.data.gemfire.expiration.support;
+
+import java.time.Duration;
+import java.util.Properties;
+
+import org.apache.geode.cache.Cache;
+import org.apache.geode.cache.CustomExpiry;
+import org.apache.geode.cache.Declarable;
+import org.apache.geode.cache.ExpirationAttributes;
+import org.apache.geode.cache.Region;
+
+import org.springframework.lang.Nullable;
+import org.springframework.session.Session;
+import org.springframework.session.data.gemfire.expiration.SessionExpirationPolicy;
+import org.springframework.util.StringUtils;
+
+/**
+ * {@link DeclarableSessionCustomExpiry} is a {@link Declarable} {@link CustomExpiry} used to expire
+ * {@link Session Sessions} in the server {@link Session} {@link Region}, configured with {@literal gfsh}
+ * so that the expiration is stored in cluster configuration, for example:
+ *
+ * <pre>
+ * <code>
+ * gfsh&gt; create region --name=ClusteredSpringSessions --type=PARTITION --enable-statistics=true
+ *   --entry-time-to-live-custom-expiry=org.springframework.session.data.gemfire.expiration.support
+ *     .DeclarableSessionCustomExpiry{"maxLifetimeSeconds":"3600"}
+ * </code>
+ * </pre>
+ *
+ * The {@link CustomExpiry} is configured with either the {@link #MAX_LIFETIME_SECONDS} of a {@link Session},
+ * enforced with a {@link MaxLifetimeSessionExpirationPolicy}, or the {@link Class#getName() class name} of
+ * a {@link SessionExpirationPolicy} with a public, no-arg constructor, named by {@link #SESSION_EXPIRATION_POLICY}.
+ * The {@link Session Sessions} are expired by a {@link SessionExpirationPolicyCustomExpiryAdapter}.
+ *
+ * @author John Blum
+ * @see CustomExpiry
+ * @see Declarable
+ * @see MaxLifetimeSessionExpirationPolicy
+ * @see SessionExpirationPolicyCustomExpiryAdapter
+ * @since 1.0.0
+ */
+public class DeclarableSessionCustomExpiry implements CustomExpiry<String, Object>, Declarable {
+
+	public static final String MAX_LIFETIME_SECONDS = "maxLifetimeSeconds";
+	public static final String SESSION_EXPIRATION_POLICY = "sessionExpirationPolicy";
+
+	private volatile long maxLifetimeSeconds;
+
+	private volatile SessionExpirationPolicy sessionExpirationPolicy;
+
+	private volatile SessionExpirationPolicyCustomExpiryAdapter customExpiry;
+
+	@Override
+	public void initialize(Cache cache, Properties parameters) {
+
+		String maxLifetimeSeconds = parameters != null ? parameters.getProperty(MAX_LIFETIME_SECONDS) : null;
+		String sessionExpirationPolicy = parameters != null ? parameters.getProperty(SESSION_EXPIRATION_POLICY) : null;
+
+		if (StringUtils.hasText(maxLifetimeSeconds) == StringUtils.hasText(sessionExpirationPolicy)) {
+			throw new IllegalArgumentException(String.format("Exactly one of [%s] or [%s] is required",
+				MAX_LIFETIME_SECONDS, SESSION_EXPIRATION_POLICY));
+		}
+
+		if (StringUtils.hasText(maxLifetimeSeconds)) {
+			this.maxLifetimeSeconds = Long.parseLong(maxLifetimeSeconds.trim());
+			this.sessionExpirationPolicy =
+				new MaxLifetimeSessionExpirationPolicy(Duration.ofSeconds(this.maxLifetimeSeconds));
+		}
+		else {
+			this.sessionExpirationPolicy = newSessionExpirationPolicy(sessionExpirationPolicy.trim());
+		}
+
+		this.customExpiry = new SessionExpirationPolicyCustomExpiryAdapter(this.sessionExpirationPolicy);
+	}
+
+	/**
+	 * Constructs a new instance of the named {@link SessionExpirationPolicy} {@link Class}.
+	 *
+	 * @param className {@link String} containing the name of a {@link SessionExpirationPolicy} {@link Class}
+	 * with a public, no-arg constructor.
+	 * @return a new {@link SessionExpirationPolicy}.
+	 * @throws IllegalArgumentException if the named {@link Class} is not a {@link SessionExpirationPolicy}
+	 * or cannot be constructed.
+	 */
+	protected SessionExpirationPolicy newSessionExpirationPolicy(String className) {
+
+		try {
+
+			Class<?> type = Class.forName(className, true, Thread.currentThread().getContextClassLoader());
+
+			if (!SessionExpirationPolicy.class.isAssignableFrom(type)) {
+				throw new IllegalArgumentException(String.format("[%s] is not a SessionExpirationPolicy",
+					className));
+			}
+
+			return (SessionExpirationPolicy) type.getDeclaredConstructor().newInstance();
+		}
+		catch (ReflectiveOperationException cause) {
+			throw new IllegalArgumentException(String.format("Failed to construct SessionExpirationPolicy [%s]",
+				className), cause);
+		}
+	}
+
+	/**
+	 * Returns the configured maximum lifetime of a {@link Session} in seconds.
+	 *
+	 * @return the maximum lifetime of a {@link Session} in seconds, or {@literal 0} if this {@link CustomExpiry}
+	 * is configured with a {@link SessionExpirationPolicy} {@link Class}.
+	 */
+	public long getMaxLifetimeSeconds() {
+		return this.maxLifetimeSeconds;
+	}
+
+	/**
+	 * Returns the {@link SessionExpirationPolicy} used to expire {@link Session Sessions}.
+	 *
+	 * @return the {@link SessionExpirationPolicy}, or {@literal null} if this {@link CustomExpiry}
+	 * has not been initialized.
+	 */
+	public @Nullable SessionExpirationPolicy getSessionExpirationPolicy() {
+		return this.sessionExpirationPolicy;
+	}
+
+	@Nullable @Override
+	public ExpirationAttributes getExpiry(@Nullable Region.Entry<String, Object> regionEntry) {
+
+		SessionExpirationPolicyCustomExpiryAdapter customExpiry = this.customExpiry;
+
+		return customExpiry != null ? customExpiry.getExpiry(regionEntry) : null;
+	}
+}
@@ -0,0 +1,100 @@
+/*
+ * Copyright 2024 Broadcom. All rights reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.springframework.session.data.gemfire.expiration.support;
+
+import java.io.Serializable;
+import java.util.Collection;
+
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+import org.springframework.session.Session;
+
+/**
+ * {@link ExpiredSessionSweepResult} reports the outcome of sweeping expired {@link Session Sessions}
+ * on a single member, or aggregated across members.
+ *
+ * @author John Blum
+ * @see java.io.Serializable
+ * @see ExpiredSessionSweeperFunction
+ * @see ExpiredSessionSweeper
+ * @since 1.0.0
+ */
+public class ExpiredSessionSweepResult implements Serializable {
+
+	private static final long serialVersionUID = 1L;
+
+	/**
+	 * Aggregates the given {@link ExpiredSessionSweepResult results} from individual members.
+	 *
+	 * The aggregate duration is the longest duration of any member since members sweep in parallel.
+	 *
+	 * @param results {@link Collection} of {@link ExpiredSessionSweepResult results} to aggregate.
+	 * @return the aggregated {@link ExpiredSessionSweepResult}.
+	 */
+	public static ExpiredSessionSweepResult aggregate(@Nullable Collection<ExpiredSessionSweepResult> results) {
+
+		long scannedCount = 0L;
+		long expiredCount = 0L;
+		long durationMillis = 0L;
+
+		if (results != null) {
+			for (ExpiredSessionSweepResult result : results) {
+				if (result != null) {
+					scannedCount += result.getScannedCount();
+					expiredCount += result.getExpiredCount();
+					durationMillis = Math.max(durationMillis, result.getDurationMillis());
+				}
+			}
+		}
+
+		return new ExpiredSessionSweepResult("*", scannedCount, expiredCount, durationMillis);
+	}
+
+	private final long durationMillis;
+	private final long expiredCount;
+	private final long scannedCount;
+
+	private final String memberName;
+
+	/**
+	 * Constructs a new instance of {@link ExpiredSessionSweepResult}.
+	 *
+	 * @param memberName {@link String} containing the name of the member that was swept.
+	 * @param scannedCount number of {@link Session Sessions} scanned.
+	 * @param expiredCount number of expired {@link Session Sessions} removed.
+	 * @param durationMillis duration of the sweep in milliseconds.
+	 */
+	public ExpiredSessionSweepResult(@Nullable String memberName, long scannedCount, long expiredCount,
+			long durationMillis) {
+
+		this.memberName = memberName;
+		this.scannedCount = scannedCount;
+		this.expiredCount = expiredCount;
+		this.durationMillis = durationMillis;
+	}
+
+	public long getDurationMillis() {
+		return this.durationMillis;
+	}
+
+	public long getExpiredCount() {
+		return this.expiredCount;
+	}
+
+	public @Nullable String getMemberName() {
+		return this.memberName;
+	}
+
+	public long getScannedCount() {
+		return this.scannedCount;
+	}
+
+	@Override
+	public @NonNull String toString() {
+
+		return String.format("{ memberName = %s, scannedCount = %d, expiredCount = %d, durationMillis = %d }",
+			getMemberName(), getScannedCount(), getExpiredCount(), getDurationMillis());
+	}
+}
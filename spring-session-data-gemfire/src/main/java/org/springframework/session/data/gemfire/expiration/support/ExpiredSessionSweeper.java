@@ -0,0 +1,216 @@
+/*
+ * Copyright 2024 Broadcom. All rights reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.springframework.session.data.gemfire.expiration.support;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.apache.geode.cache.Region;
+import org.apache.geode.cache.execute.Execution;
+import org.apache.geode.cache.execute.FunctionService;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import org.springframework.lang.NonNull;
+import org.springframework.session.Session;
+import org.springframework.util.Assert;
+
+/**
+ * {@link ExpiredSessionSweeper} periodically executes the {@link ExpiredSessionSweeperFunction} on the servers
+ * hosting the {@link Session} {@link Region} to remove expired {@link Session Sessions} in bulk.
+ *
+ * Every client application node may schedule a sweep.  The {@link #getSweepInterval() sweep interval} is passed
+ * to the {@link ExpiredSessionSweeperFunction}, which sweeps the {@link Region} on each server at most once per
+ * interval, so the {@link Region} is not scanned once per client application node.
+ *
+ * Used when {@link Region} expiration cannot be configured on the client (e.g. {@literal PROXY} {@link Region Regions})
+ * or when the configured {@link org.springframework.session.data.gemfire.expiration.SessionExpirationPolicy}
+ * cannot be expressed by the data grid.  Otherwise, expired {@link Session Sessions} are only removed
+ * when looked up.
+ *
+ * @author John Blum
+ * @see ExpiredSessionSweeperFunction
+ * @see ExpiredSessionSweepResult
+ * @see FunctionService#onRegion(Region)
+ * @since 1.0.0
+ */
+public class ExpiredSessionSweeper implements AutoCloseable {
+
+	public static final Duration DEFAULT_SWEEP_INTERVAL = Duration.ofMinutes(1);
+
+	protected static final String SWEEPER_THREAD_NAME = "ExpiredSessionSweeperThread";
+
+	private final AtomicBoolean started = new AtomicBoolean(false);
+
+	private final Duration sweepInterval;
+
+	private final int batchSize;
+
+	private final Logger logger = LoggerFactory.getLogger(getClass());
+
+	private final Region<?, ?> sessionsRegion;
+
+	private volatile ScheduledExecutorService sweepScheduler;
+
+	/**
+	 * Constructs a new instance of {@link ExpiredSessionSweeper} using the {@link #DEFAULT_SWEEP_INTERVAL}
+	 * and {@link ExpiredSessionSweeperFunction#DEFAULT_BATCH_SIZE}.
+	 *
+	 * @param sessionsRegion {@link Session} {@link Region} to sweep; must not be {@literal null}.
+	 * @throws IllegalArgumentException if the {@link Region} is {@literal null}.
+	 */
+	public ExpiredSessionSweeper(@NonNull Region<?, ?> sessionsRegion) {
+		this(sessionsRegion, DEFAULT_SWEEP_INTERVAL, ExpiredSessionSweeperFunction.DEFAULT_BATCH_SIZE);
+	}
+
+	/**
+	 * Constructs a new instance of {@link ExpiredSessionSweeper} initialized with the given {@link Session}
+	 * {@link Region}, {@link Duration sweep interval} and batch size.
+	 *
+	 * @param sessionsRegion {@link Session} {@link Region} to sweep; must not be {@literal null}.
+	 * @param sweepInterval {@link Duration} between sweeps; must be positive.
+	 * @param batchSize number of expired {@link Session Sessions} removed at once on each server;
+	 * must be greater than {@literal 0}.
+	 * @throws IllegalArgumentException if the {@link Region} is {@literal null}, the {@link Duration sweep interval}
+	 * is not positive or the batch size is less than {@literal 1}.
+	 */
+	public ExpiredSessionSweeper(@NonNull Region<?, ?> sessionsRegion, @NonNull Duration sweepInterval,
+			int batchSize) {
+
+		Assert.notNull(sessionsRegion, "Region is required");
+		Assert.isTrue(sweepInterval != null && !sweepInterval.isZero() && !sweepInterval.isNegative(),
+			() -> String.format("Sweep interval [%s] must be positive", sweepInterval));
+		Assert.isTrue(batchSize > 0, () -> String.format("Batch size [%d] must be greater than 0", batchSize));
+
+		this.sessionsRegion = sessionsRegion;
+		this.sweepInterval = sweepInterval;
+		this.batchSize = batchSize;
+	}
+
+	public int getBatchSize() {
+		return this.batchSize;
+	}
+
+	protected Logger getLogger() {
+		return this.logger;
+	}
+
+	protected Region<?, ?> getSessionsRegion() {
+		return this.sessionsRegion;
+	}
+
+	public Duration getSweepInterval() {
+		return this.sweepInterval;
+	}
+
+	public boolean isStarted() {
+		return this.started.get();
+	}
+
+	/**
+	 * Schedules the sweep to run periodically at the configured {@link #getSweepInterval() sweep interval}.
+	 *
+	 * @return this {@link ExpiredSessionSweeper}.
+	 */
+	public ExpiredSessionSweeper start() {
+
+		if (this.started.compareAndSet(false, true)) {
+
+			long sweepIntervalMillis = getSweepInterval().toMillis();
+
+			this.sweepScheduler = newSweepScheduler();
+			this.sweepScheduler.scheduleWithFixedDelay(this::safeSweep, sweepIntervalMillis, sweepIntervalMillis,
+				TimeUnit.MILLISECONDS);
+		}
+
+		return this;
+	}
+
+	protected ScheduledExecutorService newSweepScheduler() {
+
+		return Executors.newSingleThreadScheduledExecutor(runnable -> {
+
+			Thread sweeperThread = new Thread(runnable, SWEEPER_THREAD_NAME);
+
+			sweeperThread.setDaemon(true);
+
+			return sweeperThread;
+		});
+	}
+
+	/**
+	 * Executes the {@link ExpiredSessionSweeperFunction} on the servers and waits for the results.
+	 *
+	 * @return a {@link List} of {@link ExpiredSessionSweepResult results}, one per server.
+	 */
+	@NonNull
+	public List<ExpiredSessionSweepResult> sweep() {
+
+		Object results = newExecution().execute(ExpiredSessionSweeperFunction.ID).getResult();
+
+		List<ExpiredSessionSweepResult> sweepResults = new ArrayList<>();
+
+		if (results instanceof Collection) {
+			for (Object result : (Collection<?>) results) {
+				if (result instanceof ExpiredSessionSweepResult) {
+					sweepResults.add((ExpiredSessionSweepResult) result);
+				}
+				else if (result instanceof Throwable) {
+					getLogger().warn("Error occurred while sweeping expired Sessions", (Throwable) result);
+				}
+			}
+		}
+
+		ExpiredSessionSweepResult aggregateResult = ExpiredSessionSweepResult.aggregate(sweepResults);
+
+		getLogger().debug("Removed [{}] expired Sessions of [{}] scanned on [{}] servers in [{}] ms",
+			aggregateResult.getExpiredCount(), aggregateResult.getScannedCount(), sweepResults.size(),
+				aggregateResult.getDurationMillis());
+
+		return Collections.unmodifiableList(sweepResults);
+	}
+
+	/**
+	 * Returns a new {@link Execution} of the {@link ExpiredSessionSweeperFunction} on the {@link Session}
+	 * {@link Region} passing the {@link #getBatchSize() batch size} and {@link #getSweepInterval() sweep interval}
+	 * in milliseconds as the arguments.
+	 *
+	 * @return a new {@link Execution}.
+	 * @see FunctionService#onRegion(Region)
+	 */
+	@SuppressWarnings("rawtypes")
+	protected Execution newExecution() {
+
+		return FunctionService.onRegion(getSessionsRegion())
+			.setArguments(new Object[] { getBatchSize(), getSweepInterval().toMillis() });
+	}
+
+	private void safeSweep() {
+
+		try {
+			sweep();
+		}
+		catch (Throwable cause) {
+			getLogger().error("Error occurred while sweeping expired Sessions", cause);
+		}
+	}
+
+	/**
+	 * Stops sweeping expired {@link Session Sessions}.
+	 */
+	@Override
+	public void close() {
+		Optional.ofNullable(this.sweepScheduler).ifPresent(ScheduledExecutorService::shutdownNow);
+	}
+}
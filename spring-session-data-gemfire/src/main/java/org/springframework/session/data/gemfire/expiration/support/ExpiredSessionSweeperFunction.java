@@ -0,0 +1,365 @@
+/*
+ * Copyright 2024 Broadcom. All rights reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.springframework.session.data.gemfire.expiration.support;
+
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+
+import org.apache.geode.cache.Cache;
+import org.apache.geode.cache.CacheTransactionManager;
+import org.apache.geode.cache.CommitConflictException;
+import org.apache.geode.cache.Declarable;
+import org.apache.geode.cache.EntryEvent;
+import org.apache.geode.cache.EntryNotFoundException;
+import org.apache.geode.cache.GemFireCache;
+import org.apache.geode.cache.Region;
+import org.apache.geode.cache.execute.Function;
+import org.apache.geode.cache.execute.FunctionContext;
+import org.apache.geode.cache.execute.FunctionException;
+import org.apache.geode.cache.execute.RegionFunctionContext;
+import org.apache.geode.cache.partition.PartitionRegionHelper;
+import org.apache.geode.cache.query.Query;
+import org.apache.geode.cache.query.SelectResults;
+import org.apache.geode.pdx.PdxInstance;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+import org.springframework.session.Session;
+import org.springframework.session.data.gemfire.AbstractGemFireOperationsSessionRepository.GemFireSession;
+import org.springframework.session.data.gemfire.support.SessionClockAware;
+
+/**
+ * {@link ExpiredSessionSweeperFunction} is a server-side Apache Geode {@link Function} that removes expired
+ * {@link Session Sessions} from the {@link Session} {@link Region} on each member in parallel.
+ *
+ * When executed on a {@link PartitionRegionHelper#isPartitionedRegion(Region) partitioned} {@link Region},
+ * each member only queries its local primary buckets.  Expired {@link Session Sessions} are found by querying
+ * the {@literal expirationTime}, which is read directly from the PDX bytes without deserializing the {@link Session}
+ * and is range scanned with the {@literal sessionExpirationTimeIndex} when the expiration time Index is enabled.
+ *
+ * The expired {@link Session Sessions} found are processed in batches of the given size.  Each {@link Session}
+ * is re-read and only removed if it is still expired, in a transaction, so a {@link Session} accessed after
+ * the query ran is kept.  {@link Session Sessions} are removed with the {@link #SESSION_EXPIRED_CALLBACK_ARGUMENT}
+ * callback argument.  The removal is a destroy, not an expiration, so
+ * {@link org.apache.geode.cache.CacheListener CacheListeners} and subscribed clients receive destroy events;
+ * {@link #isSessionExpired(EntryEvent)} identifies these events so they can be handled as expirations.
+ *
+ * The {@link Function} arguments are the batch size and the sweep interval in milliseconds, as an {@link Object}
+ * array.  Each member sweeps a {@link Region} at most once per sweep interval, so when every client application
+ * node schedules a sweep, the {@link Region} is still only swept once per interval; the other executions return
+ * an empty {@link ExpiredSessionSweepResult}.  Each member returns an {@link ExpiredSessionSweepResult}.
+ *
+ * The {@link Function} must be registered on the servers, for example by declaring
+ * the {@link ExpiredSessionSweeperInitializer} in {@literal cache.xml} or by deploying this module
+ * with {@literal gfsh> deploy}, which registers the {@link Function Functions} in the deployed JAR.
+ *
+ * @author John Blum
+ * @see Function
+ * @see RegionFunctionContext
+ * @see Query#execute(RegionFunctionContext, Object[])
+ * @see ExpiredSessionSweepResult
+ * @see ExpiredSessionSweeper
+ * @see ExpiredSessionSweeperInitializer
+ * @see SessionClockAware
+ * @since 1.0.0
+ */
+@SuppressWarnings("rawtypes")
+public class ExpiredSessionSweeperFunction implements Function, Declarable, SessionClockAware {
+
+	public static final int DEFAULT_BATCH_SIZE = 1000;
+
+	private static final Clock DEFAULT_CLOCK = Clock.systemUTC();
+
+	public static final String ID = "ExpiredSessionSweeperFunction";
+
+	public static final String SESSION_EXPIRED_CALLBACK_ARGUMENT = "SessionExpired";
+
+	protected static final String EXPIRATION_TIME_PDX_FIELD_NAME = "expirationTime";
+
+	protected static final String FIND_EXPIRED_SESSION_IDS_QUERY =
+		"SELECT DISTINCT s.id FROM %s s WHERE s.expirationTime < $1";
+
+	/**
+	 * Determines whether the given {@link EntryEvent} was caused by this {@link Function} removing
+	 * an expired {@link Session}.
+	 *
+	 * @param event {@link EntryEvent} to evaluate.
+	 * @return a boolean value indicating whether the {@link EntryEvent} is the removal of an expired {@link Session}.
+	 * @see #SESSION_EXPIRED_CALLBACK_ARGUMENT
+	 */
+	public static boolean isSessionExpired(@Nullable EntryEvent<?, ?> event) {
+		return event != null && isSessionExpired(event.getCallbackArgument());
+	}
+
+	/**
+	 * Determines whether the given callback argument marks the removal of an expired {@link Session}
+	 * by this {@link Function}.
+	 *
+	 * @param callbackArgument callback argument of the cache operation.
+	 * @return a boolean value indicating whether the callback argument is
+	 * the {@link #SESSION_EXPIRED_CALLBACK_ARGUMENT}.
+	 */
+	public static boolean isSessionExpired(@Nullable Object callbackArgument) {
+		return SESSION_EXPIRED_CALLBACK_ARGUMENT.equals(callbackArgument);
+	}
+
+	private final ConcurrentMap<String, Long> lastSweepIntervals = new ConcurrentHashMap<>();
+
+	private final Logger logger = LoggerFactory.getLogger(getClass());
+
+	private volatile Clock clock = DEFAULT_CLOCK;
+
+	@Override
+	public String getId() {
+		return ID;
+	}
+
+	@Override
+	public void setClock(@Nullable Clock clock) {
+		this.clock = clock != null ? clock : DEFAULT_CLOCK;
+	}
+
+	protected Clock getClock() {
+		return this.clock;
+	}
+
+	protected Logger getLogger() {
+		return this.logger;
+	}
+
+	@Override
+	public boolean hasResult() {
+		return true;
+	}
+
+	@Override
+	public boolean isHA() {
+		return true;
+	}
+
+	@Override
+	public boolean optimizeForWrite() {
+		return true;
+	}
+
+	@Override
+	public void initialize(Cache cache, Properties parameters) { }
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public void execute(FunctionContext context) {
+
+		if (!(context instanceof RegionFunctionContext)) {
+			throw new FunctionException(String.format("Function [%s] must be executed on the Session Region", ID));
+		}
+
+		RegionFunctionContext regionContext = (RegionFunctionContext) context;
+
+		Region<Object, Object> sessionsRegion = regionContext.getDataSet();
+
+		Object[] arguments = resolveArguments(context.getArguments());
+
+		int batchSize = resolveBatchSize(arguments[0]);
+
+		long now = getClock().millis();
+
+		if (!claimSweep(sessionsRegion, resolveSweepIntervalMillis(arguments[1]), now)) {
+
+			getLogger().debug("Region [{}] was already swept on member [{}] in this interval",
+				sessionsRegion.getFullPath(), context.getMemberName());
+
+			context.getResultSender().lastResult(new ExpiredSessionSweepResult(context.getMemberName(), 0L, 0L, 0L));
+
+			return;
+		}
+
+		long startTime = System.nanoTime();
+
+		long expiredCount = 0L;
+		long scannedCount = 0L;
+
+		List<Object> batch = new ArrayList<>(batchSize);
+
+		for (Object sessionId : findExpiredSessionIds(regionContext, sessionsRegion, now)) {
+
+			scannedCount++;
+			batch.add(sessionId);
+
+			if (batch.size() >= batchSize) {
+				expiredCount += remove(sessionsRegion, batch, now);
+			}
+		}
+
+		expiredCount += remove(sessionsRegion, batch, now);
+
+		long durationMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime);
+
+		getLogger().debug("Removed [{}] of [{}] expired Sessions found in [{}] ms", expiredCount, scannedCount,
+			durationMillis);
+
+		context.getResultSender().lastResult(
+			new ExpiredSessionSweepResult(context.getMemberName(), scannedCount, expiredCount, durationMillis));
+	}
+
+	private Object[] resolveArguments(@Nullable Object arguments) {
+
+		return arguments instanceof Object[] && ((Object[]) arguments).length == 2 ? (Object[]) arguments
+			: new Object[] { arguments, null };
+	}
+
+	private int resolveBatchSize(@Nullable Object argument) {
+
+		return argument instanceof Number && ((Number) argument).intValue() > 0
+			? ((Number) argument).intValue()
+			: DEFAULT_BATCH_SIZE;
+	}
+
+	private long resolveSweepIntervalMillis(@Nullable Object argument) {
+		return argument instanceof Number ? Math.max(((Number) argument).longValue(), 0L) : 0L;
+	}
+
+	/**
+	 * Claims the sweep of the given {@link Region} on this member for the sweep interval containing
+	 * the given time.
+	 *
+	 * Time is divided into consecutive intervals of the given length, and a {@link Region} is swept at most once
+	 * per interval.  Consecutive sweeps scheduled with a fixed delay of at least one interval always fall into
+	 * different intervals, so a single scheduler is never skipped.
+	 *
+	 * @param sessionsRegion {@link Session} {@link Region} to sweep.
+	 * @param sweepIntervalMillis length of the sweep interval in milliseconds; {@literal 0} always sweeps.
+	 * @param now current time in milliseconds since the epoch.
+	 * @return a boolean value indicating whether this execution should sweep the {@link Region}.
+	 */
+	protected boolean claimSweep(@NonNull Region<?, ?> sessionsRegion, long sweepIntervalMillis, long now) {
+
+		if (sweepIntervalMillis <= 0L) {
+			return true;
+		}
+
+		long sweepInterval = now / sweepIntervalMillis;
+
+		Long previousSweepInterval = this.lastSweepIntervals.get(sessionsRegion.getFullPath());
+
+		return previousSweepInterval == null
+			? this.lastSweepIntervals.putIfAbsent(sessionsRegion.getFullPath(), sweepInterval) == null
+			: previousSweepInterval < sweepInterval
+				&& this.lastSweepIntervals.replace(sessionsRegion.getFullPath(), previousSweepInterval, sweepInterval);
+	}
+
+	/**
+	 * Finds the {@link Session#getId() IDs} of the {@link Session Sessions} stored on this member that expired
+	 * before the given time.
+	 *
+	 * For a {@literal PARTITION} {@link Region}, the query runs only on the local primary buckets.
+	 *
+	 * @param regionContext {@link RegionFunctionContext} of this {@link Function} execution.
+	 * @param sessionsRegion {@link Session} {@link Region}.
+	 * @param now current time in milliseconds since the epoch.
+	 * @return the {@link SelectResults} containing the {@link Session#getId() IDs} of the expired
+	 * {@link Session Sessions}.
+	 * @throws FunctionException if the query fails.
+	 */
+	@SuppressWarnings("unchecked")
+	protected SelectResults<Object> findExpiredSessionIds(@NonNull RegionFunctionContext regionContext,
+			@NonNull Region<Object, Object> sessionsRegion, long now) {
+
+		Query query = regionContext.getCache().getQueryService()
+			.newQuery(String.format(FIND_EXPIRED_SESSION_IDS_QUERY, sessionsRegion.getFullPath()));
+
+		Object[] parameters = { now };
+
+		try {
+			return (SelectResults<Object>) (PartitionRegionHelper.isPartitionedRegion(sessionsRegion)
+				? query.execute(regionContext, parameters)
+				: query.execute(parameters));
+		}
+		catch (Exception cause) {
+			throw new FunctionException(String.format("Failed to find the expired Sessions in Region [%s]",
+				sessionsRegion.getFullPath()), cause);
+		}
+	}
+
+	private int remove(Region<Object, Object> sessionsRegion, List<Object> batch, long now) {
+
+		int removedCount = 0;
+
+		for (Object sessionId : batch) {
+			if (removeIfExpired(sessionsRegion, sessionId, session -> isExpired(session, now))) {
+				removedCount++;
+			}
+		}
+
+		batch.clear();
+
+		return removedCount;
+	}
+
+	private boolean isExpired(@Nullable Object session, long now) {
+
+		if (session instanceof GemFireSession) {
+			return ((GemFireSession<?>) session).getExpirationTime() < now;
+		}
+		else if (session instanceof PdxInstance && ((PdxInstance) session).hasField(EXPIRATION_TIME_PDX_FIELD_NAME)) {
+
+			Object expirationTime = ((PdxInstance) session).readField(EXPIRATION_TIME_PDX_FIELD_NAME);
+
+			return expirationTime instanceof Number && ((Number) expirationTime).longValue() < now;
+		}
+
+		return false;
+	}
+
+	/**
+	 * Removes the {@link Session} with the given {@link Session#getId() ID} from the {@link Session} {@link Region}
+	 * with the {@link #SESSION_EXPIRED_CALLBACK_ARGUMENT} if the {@link Session} is still expired when re-read.
+	 *
+	 * The {@link Session} is re-read and destroyed in a transaction, so a {@link Session} updated after it was
+	 * found to be expired is never removed; the commit fails instead.  {@link Region#remove(Object, Object)}
+	 * is not used since it cannot carry the {@link #SESSION_EXPIRED_CALLBACK_ARGUMENT}.
+	 *
+	 * @param <V> {@link Class type} of the {@link Region} values.
+	 * @param sessionsRegion {@link Session} {@link Region}.
+	 * @param sessionId {@link Session#getId() ID} of the {@link Session} to remove.
+	 * @param expired {@link Predicate} testing whether the re-read {@link Session}, possibly {@literal null},
+	 * is expired.
+	 * @return a boolean value indicating whether the {@link Session} was removed.
+	 */
+	static <V> boolean removeIfExpired(@NonNull Region<Object, V> sessionsRegion, @NonNull Object sessionId,
+			@NonNull Predicate<? super V> expired) {
+
+		CacheTransactionManager transactionManager =
+			((GemFireCache) sessionsRegion.getRegionService()).getCacheTransactionManager();
+
+		transactionManager.begin();
+
+		try {
+			if (expired.test(sessionsRegion.get(sessionId))) {
+				sessionsRegion.destroy(sessionId, SESSION_EXPIRED_CALLBACK_ARGUMENT);
+				transactionManager.commit();
+				return true;
+			}
+
+			return false;
+		}
+		catch (CommitConflictException | EntryNotFoundException ignore) {
+			return false;
+		}
+		finally {
+			if (transactionManager.exists()) {
+				transactionManager.rollback();
+			}
+		}
+	}
+}
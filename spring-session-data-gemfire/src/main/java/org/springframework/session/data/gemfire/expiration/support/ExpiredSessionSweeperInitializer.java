@@ -0,0 +1,71 @@
+/*
+ * Copyright 2024 Broadcom. All rights reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.springframework.session.data.gemfire.expiration.support;
+
+import java.util.Properties;
+
+import org.apache.geode.cache.Cache;
+import org.apache.geode.cache.Declarable;
+import org.apache.geode.cache.execute.FunctionService;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import org.springframework.session.Session;
+
+/**
+ * {@link ExpiredSessionSweeperInitializer} registers the {@link ExpiredSessionSweeperFunction} on a server
+ * so that clients can sweep expired {@link Session Sessions} with the {@link ExpiredSessionSweeper}.
+ *
+ * Declare the initializer in the server's {@literal cache.xml}, for example:
+ *
+ * <pre>
+ * <code>
+ * &lt;initializer&gt;
+ *   &lt;class-name&gt;org.springframework.session.data.gemfire.expiration.support.ExpiredSessionSweeperInitializer&lt;/class-name&gt;
+ * &lt;/initializer&gt;
+ * </code>
+ * </pre>
+ *
+ * @author John Blum
+ * @see Declarable
+ * @see FunctionService#registerFunction(org.apache.geode.cache.execute.Function)
+ * @see ExpiredSessionSweeperFunction
+ * @since 1.0.0
+ */
+public class ExpiredSessionSweeperInitializer implements Declarable {
+
+	private final Logger logger = LoggerFactory.getLogger(getClass());
+
+	protected Logger getLogger() {
+		return this.logger;
+	}
+
+	@Override
+	public void initialize(Cache cache, Properties parameters) {
+		register();
+	}
+
+	/**
+	 * Registers a new {@link ExpiredSessionSweeperFunction} unless a {@link org.apache.geode.cache.execute.Function}
+	 * with the same {@link ExpiredSessionSweeperFunction#ID ID} is already registered.
+	 *
+	 * @return a boolean value indicating whether the {@link ExpiredSessionSweeperFunction} was registered.
+	 * @see FunctionService#isRegistered(String)
+	 */
+	public boolean register() {
+
+		if (!FunctionService.isRegistered(ExpiredSessionSweeperFunction.ID)) {
+
+			FunctionService.registerFunction(new ExpiredSessionSweeperFunction());
+
+			getLogger().info("Registered Function [{}]", ExpiredSessionSweeperFunction.ID);
+
+			return true;
+		}
+
+		return false;
+	}
+}
@@ -32,6 +32,8 @@ public class FixedTimeoutSessionExpirationPolicy extends IdleTimeoutSessionExpir
 
 	private final Duration fixedTimeout;
 
+	private final long fixedTimeoutMillis;
+
 	/**
 	 * Constructs a new {@link FixedTimeoutSessionExpirationPolicy} initialized with
 	 * the given {@link Duration fixed, expiration timeout}.
@@ -47,6 +49,7 @@ public class FixedTimeoutSessionExpirationPolicy extends IdleTimeoutSessionExpir
 		Assert.notNull(fixedTimeout, "Fixed expiration timeout is required");
 
 		this.fixedTimeout = fixedTimeout;
+		this.fixedTimeoutMillis = fixedTimeout.toMillis();
 	}
 
 	/**
@@ -62,18 +65,13 @@ public class FixedTimeoutSessionExpirationPolicy extends IdleTimeoutSessionExpir
 	@Override
 	public Optional<Duration> determineExpirationTimeout(@NonNull Session session) {
 
-		Optional<Duration> idleTimeout = super.determineExpirationTimeout(session);
-
-		Duration fixedExpirationTimeout = getFixedTimeout().minus(computeTimeSinceCreation(session));
-
-		return idleTimeout.filter(it -> it.compareTo(fixedExpirationTimeout) <= 0).isPresent()
-			? Optional.empty() : Optional.of(fixedExpirationTimeout);
-	}
-
-	private Duration computeTimeSinceCreation(@NonNull Session session) {
-
-		long timeSinceCreation = Math.max(System.currentTimeMillis() - session.getCreationTime().toEpochMilli(), 0L);
+		long fixedExpirationTimeoutMillis = this.fixedTimeoutMillis
+			- Math.max(getClock().millis() - session.getCreationTime().toEpochMilli(), 0L);
 
-		return Duration.ofMillis(timeSinceCreation);
+		return isIdleTimeoutConfigured()
+				&& computeExpirationTimeoutMillis(session.getLastAccessedTime().toEpochMilli())
+					<= fixedExpirationTimeoutMillis
+			? Optional.empty()
+			: Optional.of(Duration.ofMillis(fixedExpirationTimeoutMillis));
 	}
 }
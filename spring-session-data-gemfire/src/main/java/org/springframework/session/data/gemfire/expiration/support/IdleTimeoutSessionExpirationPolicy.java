@@ -5,6 +5,7 @@
 
 package org.springframework.session.data.gemfire.expiration.support;
 
+import java.time.Clock;
 import java.time.Duration;
 import java.util.Optional;
 
@@ -13,6 +14,7 @@ import org.springframework.lang.Nullable;
 import org.springframework.session.Session;
 import org.springframework.session.data.gemfire.expiration.SessionExpirationPolicy;
 import org.springframework.session.data.gemfire.expiration.config.SessionExpirationTimeoutAware;
+import org.springframework.session.data.gemfire.support.SessionClockAware;
 
 /**
  * An implementation of the {@link SessionExpirationPolicy} interface that specifies an expiration policy for
@@ -24,15 +26,25 @@ import org.springframework.session.data.gemfire.expiration.config.SessionExpirat
  * @see Session
  * @see SessionExpirationPolicy
  * @see SessionExpirationTimeoutAware
+ * @see SessionClockAware
  * @since 2.1.0
  */
 @SuppressWarnings("unused")
-public class IdleTimeoutSessionExpirationPolicy implements SessionExpirationPolicy, SessionExpirationTimeoutAware {
+public class IdleTimeoutSessionExpirationPolicy
+		implements SessionExpirationPolicy, SessionExpirationTimeoutAware, SessionClockAware {
 
 	protected static final Duration DEFAULT_IDLE_TIMEOUT = Duration.ofMinutes(30L);
 
+	protected static final long NO_EXPIRATION_TIMEOUT = Long.MIN_VALUE;
+
+	private static final Clock DEFAULT_CLOCK = Clock.systemUTC();
+
+	private volatile Clock clock = DEFAULT_CLOCK;
+
 	private Duration idleTimeout;
 
+	private long idleTimeoutMillis;
+
 	/**
 	 * Constructs a new {@link IdleTimeoutSessionExpirationPolicy} initialized with
 	 * the {@link IdleTimeoutSessionExpirationPolicy#DEFAULT_IDLE_TIMEOUT}.
@@ -53,7 +65,28 @@ public class IdleTimeoutSessionExpirationPolicy implements SessionExpirationPoli
 	 * @see Duration
 	 */
 	public IdleTimeoutSessionExpirationPolicy(@Nullable Duration idleTimeout) {
-		this.idleTimeout = idleTimeout;
+		setExpirationTimeout(idleTimeout);
+	}
+
+	/**
+	 * Configures the {@link Clock} used to compute the idle time of a {@link Session}.
+	 *
+	 * @param clock {@link Clock} to use; the {@link Clock#systemUTC() system clock} is used if {@literal null}.
+	 * @see Clock
+	 */
+	@Override
+	public void setClock(@Nullable Clock clock) {
+		this.clock = clock != null ? clock : DEFAULT_CLOCK;
+	}
+
+	/**
+	 * Returns the configured {@link Clock} used to compute the idle time of a {@link Session}.
+	 *
+	 * @return the configured {@link Clock}; never {@literal null}.
+	 * @see Clock
+	 */
+	protected Clock getClock() {
+		return this.clock;
 	}
 
 	/**
@@ -66,6 +99,7 @@ public class IdleTimeoutSessionExpirationPolicy implements SessionExpirationPoli
 	@Override
 	public void setExpirationTimeout(@Nullable Duration idleTimeout) {
 		this.idleTimeout = idleTimeout;
+		this.idleTimeoutMillis = idleTimeout != null ? idleTimeout.toMillis() : NO_EXPIRATION_TIMEOUT;
 	}
 
 	/**
@@ -79,17 +113,42 @@ public class IdleTimeoutSessionExpirationPolicy implements SessionExpirationPoli
 		return Optional.ofNullable(this.idleTimeout);
 	}
 
-	@Override @SuppressWarnings("all")
+	@Override
 	public Optional<Duration> determineExpirationTimeout(@NonNull Session session) {
 
-		return getIdleTimeout()
-			.map(idleTimeout -> idleTimeout.minus(computeIdleTime(session)));
+		if (!isIdleTimeoutConfigured()) {
+			return Optional.empty();
+		}
+
+		long lastAccessedTime = session.getLastAccessedTime().toEpochMilli();
+
+		return Optional.of(Duration.ofMillis(computeExpirationTimeoutMillis(lastAccessedTime)));
 	}
 
-	private Duration computeIdleTime(@NonNull Session session) {
+	/**
+	 * Determines whether an expiration {@link Duration idle timeout} is configured.
+	 *
+	 * @return a boolean value indicating whether an expiration {@link Duration idle timeout} is configured.
+	 */
+	protected boolean isIdleTimeoutConfigured() {
+		return this.idleTimeoutMillis != NO_EXPIRATION_TIMEOUT;
+	}
+
+	/**
+	 * Computes the expiration timeout in milliseconds of a {@link Session} last accessed at the given time,
+	 * comparing primitive {@literal long} milliseconds from the configured {@link Clock}.
+	 *
+	 * @param lastAccessedTime time in milliseconds since the epoch when the {@link Session} was last accessed.
+	 * @return the expiration timeout in milliseconds, which is negative when the {@link Session} has expired,
+	 * or {@link #NO_EXPIRATION_TIMEOUT} if no {@link Duration idle timeout} is configured.
+	 * @see #getClock()
+	 */
+	protected long computeExpirationTimeoutMillis(long lastAccessedTime) {
 
-		long idleTime = Math.max(System.currentTimeMillis() - session.getLastAccessedTime().toEpochMilli(), 0L);
+		long idleTimeoutMillis = this.idleTimeoutMillis;
 
-		return Duration.ofMillis(idleTime);
+		return idleTimeoutMillis != NO_EXPIRATION_TIMEOUT
+			? idleTimeoutMillis - Math.max(getClock().millis() - lastAccessedTime, 0L)
+			: NO_EXPIRATION_TIMEOUT;
 	}
 }
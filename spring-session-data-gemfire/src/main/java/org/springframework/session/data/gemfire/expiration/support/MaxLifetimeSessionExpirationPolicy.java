@@ -0,0 +1,105 @@
+/*
+ * Copyright 2024 Broadcom. All rights reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.springframework.session.data.gemfire.expiration.support;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Optional;
+
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+import org.springframework.session.Session;
+import org.springframework.session.data.gemfire.expiration.SessionExpirationPolicy;
+import org.springframework.session.data.gemfire.support.SessionClockAware;
+import org.springframework.util.Assert;
+
+/**
+ * An implementation of the {@link SessionExpirationPolicy} interface that limits the absolute lifetime
+ * of a {@link Session}, measured from the {@link Session#getCreationTime() creation time},
+ * regardless of activity.
+ *
+ * Unlike the {@link FixedTimeoutSessionExpirationPolicy}, this policy always determines a timeout,
+ * which makes it suitable for use in a {@link CompositeSessionExpirationPolicy}.
+ *
+ * @author John Blum
+ * @see CompositeSessionExpirationPolicy
+ * @see Duration
+ * @see Session
+ * @see SessionExpirationPolicy
+ * @see SessionClockAware
+ * @since 1.0.0
+ */
+public class MaxLifetimeSessionExpirationPolicy implements SessionExpirationPolicy, SessionClockAware {
+
+	private static final Clock DEFAULT_CLOCK = Clock.systemUTC();
+
+	private volatile Clock clock = DEFAULT_CLOCK;
+
+	private final Duration maxLifetime;
+
+	private final long maxLifetimeMillis;
+
+	/**
+	 * Constructs a new {@link MaxLifetimeSessionExpirationPolicy} initialized with
+	 * the given {@link Duration maximum lifetime}.
+	 *
+	 * @param maxLifetime {@link Duration maximum length of time} a {@link Session} may exist.
+	 * @throws IllegalArgumentException if the {@link Duration maximum lifetime} is {@literal null}.
+	 */
+	public MaxLifetimeSessionExpirationPolicy(@NonNull Duration maxLifetime) {
+
+		Assert.notNull(maxLifetime, "Max lifetime is required");
+
+		this.maxLifetime = maxLifetime;
+		this.maxLifetimeMillis = maxLifetime.toMillis();
+	}
+
+	/**
+	 * Configures the {@link Clock} used to compute the time since the creation of a {@link Session}.
+	 *
+	 * @param clock {@link Clock} to use; the {@link Clock#systemUTC() system clock} is used if {@literal null}.
+	 * @see Clock
+	 */
+	@Override
+	public void setClock(@Nullable Clock clock) {
+		this.clock = clock != null ? clock : DEFAULT_CLOCK;
+	}
+
+	/**
+	 * Returns the configured {@link Clock} used to compute the time since the creation of a {@link Session}.
+	 *
+	 * @return the configured {@link Clock}; never {@literal null}.
+	 * @see Clock
+	 */
+	protected Clock getClock() {
+		return this.clock;
+	}
+
+	/**
+	 * Return the configured {@link Duration maximum lifetime}.
+	 *
+	 * @return the configured {@link Duration maximum lifetime}.
+	 */
+	protected Duration getMaxLifetime() {
+		return this.maxLifetime;
+	}
+
+	@Override
+	public Optional<Duration> determineExpirationTimeout(@NonNull Session session) {
+		return Optional.of(Duration.ofMillis(computeExpirationTimeoutMillis(session.getCreationTime().toEpochMilli())));
+	}
+
+	/**
+	 * Computes the expiration timeout in milliseconds of a {@link Session} created at the given time,
+	 * comparing primitive {@literal long} milliseconds from the configured {@link Clock}.
+	 *
+	 * @param creationTime time in milliseconds since the epoch when the {@link Session} was created.
+	 * @return the expiration timeout in milliseconds, which is negative when the {@link Session} has expired.
+	 * @see #getClock()
+	 */
+	protected long computeExpirationTimeoutMillis(long creationTime) {
+		return this.maxLifetimeMillis - Math.max(getClock().millis() - creationTime, 0L);
+	}
+}
@@ -0,0 +1,327 @@
+/*
+ * Copyright 2024 Broadcom. All rights reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.springframework.session.data.gemfire.expiration.support;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryUsage;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.function.DoubleSupplier;
+import java.util.function.Predicate;
+
+import org.apache.geode.cache.control.ResourceManager;
+
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+import org.springframework.session.Session;
+import org.springframework.session.data.gemfire.expiration.SessionExpirationPolicy;
+import org.springframework.session.data.gemfire.expiration.config.SessionExpirationTimeoutAware;
+import org.springframework.session.data.gemfire.support.SessionClockAware;
+import org.springframework.util.Assert;
+
+/**
+ * An implementation of the {@link SessionExpirationPolicy} interface that shortens the idle timeout of low-value
+ * {@link Session Sessions} (e.g. anonymous {@link Session Sessions}) while memory usage is above a threshold,
+ * and restores the idle timeout once memory usage drops.
+ *
+ * The {@link MemoryPressure memory pressure} is {@link MemoryPressure#ELEVATED} when memory usage is at or above
+ * the {@link #getElevatedThresholdPercentage() elevated threshold} and {@link MemoryPressure#CRITICAL} at or above
+ * the {@link #getCriticalThresholdPercentage() critical threshold}.  The thresholds can be
+ * {@link #configureThresholds(ResourceManager) configured} from the eviction and critical heap percentages
+ * of the GemFire {@link ResourceManager}.  By default, memory usage is the percentage of the JVM heap in use,
+ * sampled at most once per {@link #DEFAULT_SAMPLE_INTERVAL sample interval}.
+ *
+ * The idle timeout is only applied when a {@link Session} is created or updated, so the
+ * {@link MemoryPressureSessionSweeper} removes existing low-value {@link Session Sessions} that have been idle
+ * longer than the shortened idle timeout while memory usage is above the threshold.
+ *
+ * All other {@link Session Sessions} use the delegate {@link SessionExpirationPolicy}, for example
+ * an {@link IdleTimeoutSessionExpirationPolicy}, regardless of memory pressure.
+ *
+ * @author John Blum
+ * @see ConditionalSessionExpirationPolicy#isAnonymous()
+ * @see MemoryPressureSessionSweeper
+ * @see ResourceManager
+ * @see SessionExpirationPolicy
+ * @see SessionExpirationTimeoutAware
+ * @see SessionClockAware
+ * @since 1.0.0
+ */
+public class MemoryPressureAwareSessionExpirationPolicy
+		implements SessionExpirationPolicy, SessionExpirationTimeoutAware, SessionClockAware {
+
+	public static final float DEFAULT_CRITICAL_THRESHOLD_PERCENTAGE = 90.0f;
+	public static final float DEFAULT_ELEVATED_THRESHOLD_PERCENTAGE = 75.0f;
+
+	public static final Duration DEFAULT_SAMPLE_INTERVAL = Duration.ofSeconds(1);
+
+	private static final Clock DEFAULT_CLOCK = Clock.systemUTC();
+
+	/**
+	 * Returns a {@link DoubleSupplier} of the percentage of the JVM heap in use.
+	 *
+	 * @return a {@link DoubleSupplier} of the percentage of the JVM heap in use.
+	 */
+	public static DoubleSupplier heapUsagePercentage() {
+
+		return () -> {
+
+			MemoryUsage heapMemoryUsage = ManagementFactory.getMemoryMXBean().getHeapMemoryUsage();
+
+			long maxHeap = heapMemoryUsage.getMax() > 0 ? heapMemoryUsage.getMax() : heapMemoryUsage.getCommitted();
+
+			return maxHeap > 0 ? heapMemoryUsage.getUsed() * 100.0d / maxHeap : 0.0d;
+		};
+	}
+
+	private final Duration criticalIdleTimeout;
+	private final Duration elevatedIdleTimeout;
+
+	private volatile Clock clock = DEFAULT_CLOCK;
+
+	private volatile DoubleSupplier memoryUsagePercentage = heapUsagePercentage();
+
+	private volatile float criticalThresholdPercentage = DEFAULT_CRITICAL_THRESHOLD_PERCENTAGE;
+	private volatile float elevatedThresholdPercentage = DEFAULT_ELEVATED_THRESHOLD_PERCENTAGE;
+
+	private volatile long nextSampleTime;
+
+	private volatile MemoryPressure memoryPressure = MemoryPressure.NORMAL;
+
+	private final Predicate<Session> condition;
+
+	private final SessionExpirationPolicy sessionExpirationPolicy;
+
+	/**
+	 * Constructs a new {@link MemoryPressureAwareSessionExpirationPolicy} shortening the idle timeout
+	 * of anonymous {@link Session Sessions} under memory pressure.
+	 *
+	 * @param sessionExpirationPolicy delegate {@link SessionExpirationPolicy}; must not be {@literal null}.
+	 * @param elevatedIdleTimeout {@link Duration} until an idle, low-value {@link Session} expires
+	 * under {@link MemoryPressure#ELEVATED elevated} memory pressure; must not be {@literal null}.
+	 * @param criticalIdleTimeout {@link Duration} until an idle, low-value {@link Session} expires
+	 * under {@link MemoryPressure#CRITICAL critical} memory pressure; must not be {@literal null}.
+	 * @throws IllegalArgumentException if any argument is {@literal null}.
+	 * @see ConditionalSessionExpirationPolicy#isAnonymous()
+	 */
+	public MemoryPressureAwareSessionExpirationPolicy(@NonNull SessionExpirationPolicy sessionExpirationPolicy,
+			@NonNull Duration elevatedIdleTimeout, @NonNull Duration criticalIdleTimeout) {
+
+		this(sessionExpirationPolicy, ConditionalSessionExpirationPolicy.isAnonymous(), elevatedIdleTimeout,
+			criticalIdleTimeout);
+	}
+
+	/**
+	 * Constructs a new {@link MemoryPressureAwareSessionExpirationPolicy} shortening the idle timeout
+	 * of {@link Session Sessions} matching the given {@link Predicate condition} under memory pressure.
+	 *
+	 * @param sessionExpirationPolicy delegate {@link SessionExpirationPolicy}; must not be {@literal null}.
+	 * @param condition {@link Predicate} selecting low-value {@link Session Sessions}; must not be {@literal null}.
+	 * @param elevatedIdleTimeout {@link Duration} until an idle, low-value {@link Session} expires
+	 * under {@link MemoryPressure#ELEVATED elevated} memory pressure; must not be {@literal null}.
+	 * @param criticalIdleTimeout {@link Duration} until an idle, low-value {@link Session} expires
+	 * under {@link MemoryPressure#CRITICAL critical} memory pressure; must not be {@literal null}.
+	 * @throws IllegalArgumentException if any argument is {@literal null}.
+	 */
+	public MemoryPressureAwareSessionExpirationPolicy(@NonNull SessionExpirationPolicy sessionExpirationPolicy,
+			@NonNull Predicate<Session> condition, @NonNull Duration elevatedIdleTimeout,
+			@NonNull Duration criticalIdleTimeout) {
+
+		Assert.notNull(sessionExpirationPolicy, "SessionExpirationPolicy is required");
+		Assert.notNull(condition, "Condition is required");
+		Assert.notNull(elevatedIdleTimeout, "Elevated idle timeout is required");
+		Assert.notNull(criticalIdleTimeout, "Critical idle timeout is required");
+
+		this.sessionExpirationPolicy = sessionExpirationPolicy;
+		this.condition = condition;
+		this.elevatedIdleTimeout = elevatedIdleTimeout;
+		this.criticalIdleTimeout = criticalIdleTimeout;
+	}
+
+	/**
+	 * Configures the {@link Clock} used to sample memory usage and compute the idle time of a {@link Session},
+	 * which is also passed on to the delegate {@link SessionExpirationPolicy} if it is {@link SessionClockAware}.
+	 *
+	 * @param clock {@link Clock} to use; the {@link Clock#systemUTC() system clock} is used if {@literal null}.
+	 */
+	@Override
+	public void setClock(@Nullable Clock clock) {
+
+		this.clock = clock != null ? clock : DEFAULT_CLOCK;
+
+		if (getSessionExpirationPolicy() instanceof SessionClockAware) {
+			((SessionClockAware) getSessionExpirationPolicy()).setClock(clock);
+		}
+	}
+
+	protected Clock getClock() {
+		return this.clock;
+	}
+
+	protected Predicate<Session> getCondition() {
+		return this.condition;
+	}
+
+	public Duration getCriticalIdleTimeout() {
+		return this.criticalIdleTimeout;
+	}
+
+	public Duration getElevatedIdleTimeout() {
+		return this.elevatedIdleTimeout;
+	}
+
+	/**
+	 * Returns the idle timeout of low-value {@link Session Sessions} under the given {@link MemoryPressure}.
+	 *
+	 * @param memoryPressure {@link MemoryPressure} determining the idle timeout.
+	 * @return the {@link #getCriticalIdleTimeout() critical} or {@link #getElevatedIdleTimeout() elevated}
+	 * idle timeout, or {@literal null} under {@link MemoryPressure#NORMAL normal} memory pressure.
+	 */
+	@Nullable
+	public Duration getIdleTimeout(@Nullable MemoryPressure memoryPressure) {
+
+		return MemoryPressure.CRITICAL.equals(memoryPressure) ? getCriticalIdleTimeout()
+			: MemoryPressure.ELEVATED.equals(memoryPressure) ? getElevatedIdleTimeout()
+			: null;
+	}
+
+	protected SessionExpirationPolicy getSessionExpirationPolicy() {
+		return this.sessionExpirationPolicy;
+	}
+
+	/**
+	 * Sets the threshold percentage of memory usage at or above which memory pressure is critical.
+	 *
+	 * @param criticalThresholdPercentage threshold percentage of memory usage.
+	 */
+	public void setCriticalThresholdPercentage(float criticalThresholdPercentage) {
+		this.criticalThresholdPercentage = criticalThresholdPercentage;
+	}
+
+	public float getCriticalThresholdPercentage() {
+		return this.criticalThresholdPercentage;
+	}
+
+	/**
+	 * Sets the threshold percentage of memory usage at or above which memory pressure is elevated.
+	 *
+	 * @param elevatedThresholdPercentage threshold percentage of memory usage.
+	 */
+	public void setElevatedThresholdPercentage(float elevatedThresholdPercentage) {
+		this.elevatedThresholdPercentage = elevatedThresholdPercentage;
+	}
+
+	public float getElevatedThresholdPercentage() {
+		return this.elevatedThresholdPercentage;
+	}
+
+	/**
+	 * Sets the {@link DoubleSupplier} of the percentage of memory in use, such as heap or off-heap memory.
+	 *
+	 * @param memoryUsagePercentage {@link DoubleSupplier} of the percentage of memory in use;
+	 * defaults to {@link #heapUsagePercentage()} if {@literal null}.
+	 */
+	public void setMemoryUsagePercentage(@Nullable DoubleSupplier memoryUsagePercentage) {
+		this.memoryUsagePercentage = memoryUsagePercentage != null ? memoryUsagePercentage : heapUsagePercentage();
+		this.nextSampleTime = 0L;
+	}
+
+	/**
+	 * Configures the thresholds from the eviction and critical heap percentages of the given {@link ResourceManager}.
+	 *
+	 * Thresholds that are not enabled on the {@link ResourceManager} keep their current value.
+	 *
+	 * @param resourceManager GemFire {@link ResourceManager}; must not be {@literal null}.
+	 * @return this {@link MemoryPressureAwareSessionExpirationPolicy}.
+	 * @see ResourceManager#getEvictionHeapPercentage()
+	 * @see ResourceManager#getCriticalHeapPercentage()
+	 */
+	public MemoryPressureAwareSessionExpirationPolicy configureThresholds(@NonNull ResourceManager resourceManager) {
+
+		Assert.notNull(resourceManager, "ResourceManager is required");
+
+		if (resourceManager.getEvictionHeapPercentage() > 0.0f) {
+			setElevatedThresholdPercentage(resourceManager.getEvictionHeapPercentage());
+		}
+
+		if (resourceManager.getCriticalHeapPercentage() > 0.0f) {
+			setCriticalThresholdPercentage(resourceManager.getCriticalHeapPercentage());
+		}
+
+		return this;
+	}
+
+	/**
+	 * Returns the current {@link MemoryPressure}, sampling memory usage at most once per
+	 * {@link #DEFAULT_SAMPLE_INTERVAL sample interval}.
+	 *
+	 * @return the current {@link MemoryPressure}.
+	 */
+	public MemoryPressure getMemoryPressure() {
+
+		long now = getClock().millis();
+
+		if (now >= this.nextSampleTime) {
+			this.nextSampleTime = now + DEFAULT_SAMPLE_INTERVAL.toMillis();
+			this.memoryPressure = toMemoryPressure(this.memoryUsagePercentage.getAsDouble());
+		}
+
+		return this.memoryPressure;
+	}
+
+	private MemoryPressure toMemoryPressure(double memoryUsagePercentage) {
+
+		return memoryUsagePercentage >= getCriticalThresholdPercentage() ? MemoryPressure.CRITICAL
+			: memoryUsagePercentage >= getElevatedThresholdPercentage() ? MemoryPressure.ELEVATED
+			: MemoryPressure.NORMAL;
+	}
+
+	@Override
+	public ExpirationAction getExpirationAction() {
+		return getSessionExpirationPolicy().getExpirationAction();
+	}
+
+	@Override
+	public void setExpirationTimeout(@Nullable Duration expirationTimeout) {
+
+		if (getSessionExpirationPolicy() instanceof SessionExpirationTimeoutAware) {
+			((SessionExpirationTimeoutAware) getSessionExpirationPolicy()).setExpirationTimeout(expirationTimeout);
+		}
+	}
+
+	@Override
+	public Optional<Duration> determineExpirationTimeout(@NonNull Session session) {
+
+		Optional<Duration> expirationTimeout = getSessionExpirationPolicy().determineExpirationTimeout(session);
+
+		MemoryPressure memoryPressure = getMemoryPressure();
+
+		if (MemoryPressure.NORMAL.equals(memoryPressure) || !getCondition().test(session)) {
+			return expirationTimeout;
+		}
+
+		Duration idleTimeout = getIdleTimeout(memoryPressure);
+
+		long idleTime = Math.max(getClock().millis() - session.getLastAccessedTime().toEpochMilli(), 0L);
+
+		Duration shortenedExpirationTimeout = idleTimeout.minusMillis(idleTime);
+
+		return Optional.of(expirationTimeout
+			.filter(timeout -> timeout.compareTo(shortenedExpirationTimeout) < 0)
+			.orElse(shortenedExpirationTimeout));
+	}
+
+	/**
+	 * Level of memory pressure.
+	 */
+	public enum MemoryPressure {
+
+		NORMAL,
+		ELEVATED,
+		CRITICAL
+
+	}
+}
@@ -0,0 +1,277 @@
+/*
+ * Copyright 2024 Broadcom. All rights reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.springframework.session.data.gemfire.expiration.support;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.apache.geode.cache.Region;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import org.springframework.lang.NonNull;
+import org.springframework.session.Session;
+import org.springframework.session.data.gemfire.GemFireOperationsSessionRepository;
+import org.springframework.session.data.gemfire.expiration.support.MemoryPressureAwareSessionExpirationPolicy.MemoryPressure;
+import org.springframework.session.data.gemfire.model.SessionExpiration;
+import org.springframework.util.Assert;
+
+/**
+ * {@link MemoryPressureSessionSweeper} periodically removes low-value {@link Session Sessions} that have been idle
+ * longer than the idle timeout shortened by the {@link MemoryPressureAwareSessionExpirationPolicy} while memory
+ * usage is above the {@link MemoryPressureAwareSessionExpirationPolicy#getElevatedThresholdPercentage() threshold}.
+ *
+ * GemFire evaluates the expiration of a {@link Session} when it is created or updated, and again only when its
+ * scheduled expiration fires, so a shortened idle timeout never reclaims existing idle {@link Session Sessions}
+ * earlier on its own.  The sweeper pages through the candidate {@link Session Sessions} ordered by expiration time,
+ * using the expiration time Index, and removes those expired by the {@link MemoryPressureAwareSessionExpirationPolicy}
+ * with the {@link ExpiredSessionSweeperFunction#SESSION_EXPIRED_CALLBACK_ARGUMENT}, so the removal is handled
+ * as an expiration.  Each candidate is re-read and evaluated in a transaction, so a {@link Session} accessed
+ * while sweeping is kept.
+ *
+ * The candidates are the {@link Session Sessions} last accessed before the shortened idle timeout given
+ * the {@link GemFireOperationsSessionRepository#getMaxInactiveInterval() default max inactive interval}.
+ * Nothing is swept when {@link Session Sessions} do not expire by default.
+ *
+ * The memory usage is sampled in the JVM running the sweeper, so the sweeper must run where
+ * the {@link Session Sessions} are stored, e.g. with a {@literal LOCAL} client {@link Region}, and not on
+ * the clients of a client/server topology.
+ *
+ * @author John Blum
+ * @see GemFireOperationsSessionRepository#findSessionsExpiringBefore(Instant, SessionExpiration, int)
+ * @see MemoryPressureAwareSessionExpirationPolicy
+ * @see ExpiredSessionSweeper
+ * @since 1.0.0
+ */
+public class MemoryPressureSessionSweeper implements AutoCloseable {
+
+	public static final Duration DEFAULT_SWEEP_INTERVAL = Duration.ofSeconds(10);
+
+	protected static final String SWEEPER_THREAD_NAME = "MemoryPressureSessionSweeperThread";
+
+	private final AtomicBoolean started = new AtomicBoolean(false);
+
+	private final Duration sweepInterval;
+
+	private final GemFireOperationsSessionRepository sessionRepository;
+
+	private final int batchSize;
+
+	private final Logger logger = LoggerFactory.getLogger(getClass());
+
+	private final MemoryPressureAwareSessionExpirationPolicy sessionExpirationPolicy;
+
+	private final Region<Object, Session> sessionsRegion;
+
+	private volatile ScheduledExecutorService sweepScheduler;
+
+	/**
+	 * Constructs a new instance of {@link MemoryPressureSessionSweeper} using the {@link #DEFAULT_SWEEP_INTERVAL}
+	 * and {@link ExpiredSessionSweeperFunction#DEFAULT_BATCH_SIZE}.
+	 *
+	 * @param sessionsRegion {@link Session} {@link Region} to sweep; must not be {@literal null}.
+	 * @param sessionRepository {@link GemFireOperationsSessionRepository} used to find the candidate
+	 * {@link Session Sessions}; must not be {@literal null}.
+	 * @param sessionExpirationPolicy {@link MemoryPressureAwareSessionExpirationPolicy} determining
+	 * the {@link MemoryPressure} and whether a {@link Session} has expired; must not be {@literal null}.
+	 * @throws IllegalArgumentException if any argument is {@literal null}.
+	 */
+	public MemoryPressureSessionSweeper(@NonNull Region<Object, Session> sessionsRegion,
+			@NonNull GemFireOperationsSessionRepository sessionRepository,
+			@NonNull MemoryPressureAwareSessionExpirationPolicy sessionExpirationPolicy) {
+
+		this(sessionsRegion, sessionRepository, sessionExpirationPolicy, DEFAULT_SWEEP_INTERVAL,
+			ExpiredSessionSweeperFunction.DEFAULT_BATCH_SIZE);
+	}
+
+	/**
+	 * Constructs a new instance of {@link MemoryPressureSessionSweeper} initialized with the given {@link Session}
+	 * {@link Region}, {@link GemFireOperationsSessionRepository}, {@link MemoryPressureAwareSessionExpirationPolicy},
+	 * {@link Duration sweep interval} and batch size.
+	 *
+	 * @param sessionsRegion {@link Session} {@link Region} to sweep; must not be {@literal null}.
+	 * @param sessionRepository {@link GemFireOperationsSessionRepository} used to find the candidate
+	 * {@link Session Sessions}; must not be {@literal null}.
+	 * @param sessionExpirationPolicy {@link MemoryPressureAwareSessionExpirationPolicy} determining
+	 * the {@link MemoryPressure} and whether a {@link Session} has expired; must not be {@literal null}.
+	 * @param sweepInterval {@link Duration} between sweeps; must be positive.
+	 * @param batchSize number of candidate {@link Session Sessions} fetched at once;
+	 * must be greater than {@literal 0}.
+	 * @throws IllegalArgumentException if any argument is {@literal null}, the {@link Duration sweep interval}
+	 * is not positive or the batch size is less than {@literal 1}.
+	 */
+	public MemoryPressureSessionSweeper(@NonNull Region<Object, Session> sessionsRegion,
+			@NonNull GemFireOperationsSessionRepository sessionRepository,
+			@NonNull MemoryPressureAwareSessionExpirationPolicy sessionExpirationPolicy,
+			@NonNull Duration sweepInterval, int batchSize) {
+
+		Assert.notNull(sessionsRegion, "Region is required");
+		Assert.notNull(sessionRepository, "SessionRepository is required");
+		Assert.notNull(sessionExpirationPolicy, "SessionExpirationPolicy is required");
+		Assert.isTrue(sweepInterval != null && !sweepInterval.isZero() && !sweepInterval.isNegative(),
+			() -> String.format("Sweep interval [%s] must be positive", sweepInterval));
+		Assert.isTrue(batchSize > 0, () -> String.format("Batch size [%d] must be greater than 0", batchSize));
+
+		this.sessionsRegion = sessionsRegion;
+		this.sessionRepository = sessionRepository;
+		this.sessionExpirationPolicy = sessionExpirationPolicy;
+		this.sweepInterval = sweepInterval;
+		this.batchSize = batchSize;
+	}
+
+	public int getBatchSize() {
+		return this.batchSize;
+	}
+
+	protected Logger getLogger() {
+		return this.logger;
+	}
+
+	protected MemoryPressureAwareSessionExpirationPolicy getSessionExpirationPolicy() {
+		return this.sessionExpirationPolicy;
+	}
+
+	protected GemFireOperationsSessionRepository getSessionRepository() {
+		return this.sessionRepository;
+	}
+
+	protected Region<Object, Session> getSessionsRegion() {
+		return this.sessionsRegion;
+	}
+
+	public Duration getSweepInterval() {
+		return this.sweepInterval;
+	}
+
+	public boolean isStarted() {
+		return this.started.get();
+	}
+
+	/**
+	 * Schedules the sweep to run periodically at the configured {@link #getSweepInterval() sweep interval}.
+	 *
+	 * @return this {@link MemoryPressureSessionSweeper}.
+	 */
+	public MemoryPressureSessionSweeper start() {
+
+		if (this.started.compareAndSet(false, true)) {
+
+			long sweepIntervalMillis = getSweepInterval().toMillis();
+
+			this.sweepScheduler = newSweepScheduler();
+			this.sweepScheduler.scheduleWithFixedDelay(this::safeSweep, sweepIntervalMillis, sweepIntervalMillis,
+				TimeUnit.MILLISECONDS);
+		}
+
+		return this;
+	}
+
+	protected ScheduledExecutorService newSweepScheduler() {
+
+		return Executors.newSingleThreadScheduledExecutor(runnable -> {
+
+			Thread sweeperThread = new Thread(runnable, SWEEPER_THREAD_NAME);
+
+			sweeperThread.setDaemon(true);
+
+			return sweeperThread;
+		});
+	}
+
+	/**
+	 * Removes the low-value {@link Session Sessions} expired by the {@link MemoryPressureAwareSessionExpirationPolicy}
+	 * when the {@link MemoryPressure} is above {@link MemoryPressure#NORMAL normal}.
+	 *
+	 * @return the number of {@link Session Sessions} removed.
+	 */
+	public int sweep() {
+
+		MemoryPressure memoryPressure = getSessionExpirationPolicy().getMemoryPressure();
+
+		Duration idleTimeout = getSessionExpirationPolicy().getIdleTimeout(memoryPressure);
+
+		Duration maxInactiveInterval = getSessionRepository().getMaxInactiveInterval();
+
+		if (idleTimeout == null || maxInactiveInterval == null || maxInactiveInterval.isZero()
+				|| maxInactiveInterval.isNegative()) {
+
+			return 0;
+		}
+
+		Instant expiringBefore = getSessionRepository().getClock().instant()
+			.plus(maxInactiveInterval)
+			.minus(idleTimeout);
+
+		List<SessionExpiration> candidates;
+
+		SessionExpiration after = null;
+
+		int removedCount = 0;
+		int scannedCount = 0;
+
+		do {
+			candidates = getSessionRepository().findSessionsExpiringBefore(expiringBefore, after, getBatchSize());
+
+			if (!candidates.isEmpty()) {
+				after = candidates.get(candidates.size() - 1);
+				scannedCount += candidates.size();
+				removedCount += removeExpired(candidates);
+			}
+		}
+		while (candidates.size() == getBatchSize());
+
+		getLogger().debug("Removed [{}] idle Sessions of [{}] scanned under [{}] memory pressure",
+			removedCount, scannedCount, memoryPressure);
+
+		return removedCount;
+	}
+
+	private int removeExpired(List<SessionExpiration> candidates) {
+
+		int removedCount = 0;
+
+		for (SessionExpiration candidate : candidates) {
+			if (ExpiredSessionSweeperFunction.removeIfExpired(getSessionsRegion(), candidate.getSessionId(),
+					this::isExpired)) {
+
+				removedCount++;
+			}
+		}
+
+		return removedCount;
+	}
+
+	private boolean isExpired(Session session) {
+
+		return session != null && getSessionExpirationPolicy().determineExpirationTimeout(session)
+			.filter(expirationTimeout -> expirationTimeout.isZero() || expirationTimeout.isNegative())
+			.isPresent();
+	}
+
+	private void safeSweep() {
+
+		try {
+			sweep();
+		}
+		catch (Throwable cause) {
+			getLogger().error("Error occurred while sweeping idle Sessions under memory pressure", cause);
+		}
+	}
+
+	/**
+	 * Stops sweeping idle {@link Session Sessions}.
+	 */
+	@Override
+	public void close() {
+		Optional.ofNullable(this.sweepScheduler).ifPresent(ScheduledExecutorService::shutdownNow);
+	}
+}
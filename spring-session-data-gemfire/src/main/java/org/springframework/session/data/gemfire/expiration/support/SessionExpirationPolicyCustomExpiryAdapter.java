@@ -6,7 +6,10 @@
 package org.springframework.session.data.gemfire.expiration.support;
 
 import java.time.Duration;
+import java.time.Instant;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Function;
 
 import org.apache.geode.cache.CustomExpiry;
 import org.apache.geode.cache.ExpirationAction;
@@ -25,6 +28,13 @@ import org.springframework.util.Assert;
  * implementation wrapping and adapting an instance of the {@link SessionExpirationPolicy} strategy interface
  * to plugin to and affect Apache Geode/Pivotal GemFire's expiration behavior.
  *
+ * Since {@link #getExpiry(Region.Entry)} is called for every {@link Session} on create, update and access,
+ * {@link ExpirationAttributes} are interned per timeout in seconds and {@link ExpirationAction}. When adapting
+ * an {@link IdleTimeoutSessionExpirationPolicy} or a {@link MaxLifetimeSessionExpirationPolicy}, the timeout is
+ * computed directly from the {@link Session#getLastAccessedTime() last accessed time}
+ * or {@link Session#getCreationTime() creation time}, respectively, which is read from a {@link PdxInstance}
+ * without deserializing the {@link Session}.
+ *
  * @author John Blum
  * @see CustomExpiry
  * @see ExpirationAction
@@ -41,6 +51,21 @@ public class SessionExpirationPolicyCustomExpiryAdapter implements CustomExpiry<
 	protected static final SessionExpirationPolicy.ExpirationAction DEFAULT_EXPIRATION_ACTION =
 		SessionExpirationPolicy.ExpirationAction.INVALIDATE;
 
+	protected static final int EXPIRATION_ATTRIBUTES_CACHE_SIZE = 3601;
+
+	protected static final String CREATION_TIME_PDX_FIELD_NAME = "creationTime";
+	protected static final String LAST_ACCESSED_TIME_PDX_FIELD_NAME = "lastAccessedTime";
+
+	private final AtomicReferenceArray<ExpirationAttributes> destroyExpirationAttributes =
+		new AtomicReferenceArray<>(EXPIRATION_ATTRIBUTES_CACHE_SIZE);
+
+	private final AtomicReferenceArray<ExpirationAttributes> invalidateExpirationAttributes =
+		new AtomicReferenceArray<>(EXPIRATION_ATTRIBUTES_CACHE_SIZE);
+
+	private final IdleTimeoutSessionExpirationPolicy idleTimeoutSessionExpirationPolicy;
+
+	private final MaxLifetimeSessionExpirationPolicy maxLifetimeSessionExpirationPolicy;
+
 	private final SessionExpirationPolicy sessionExpirationPolicy;
 
 	/**
@@ -57,6 +82,16 @@ public class SessionExpirationPolicyCustomExpiryAdapter implements CustomExpiry<
 		Assert.notNull(sessionExpirationPolicy, "SessionExpirationPolicy is required");
 
 		this.sessionExpirationPolicy = sessionExpirationPolicy;
+
+		this.idleTimeoutSessionExpirationPolicy =
+			IdleTimeoutSessionExpirationPolicy.class.equals(sessionExpirationPolicy.getClass())
+				? (IdleTimeoutSessionExpirationPolicy) sessionExpirationPolicy
+				: null;
+
+		this.maxLifetimeSessionExpirationPolicy =
+			MaxLifetimeSessionExpirationPolicy.class.equals(sessionExpirationPolicy.getClass())
+				? (MaxLifetimeSessionExpirationPolicy) sessionExpirationPolicy
+				: null;
 	}
 
 	/**
@@ -73,19 +108,79 @@ public class SessionExpirationPolicyCustomExpiryAdapter implements CustomExpiry<
 	@Nullable @Override
 	public ExpirationAttributes getExpiry(@Nullable Region.Entry<String, Object> regionEntry) {
 
-		return resolveSession(regionEntry)
-			.flatMap(getSessionExpirationPolicy()::determineExpirationTimeout)
-			.map(expirationTimeout ->
-				newExpirationAttributes(expirationTimeout, getSessionExpirationPolicy().getExpirationAction()))
-			.orElse(null);
+		Object value = regionEntry != null ? regionEntry.getValue() : null;
+
+		if (value == null) {
+			return null;
+		}
+
+		IdleTimeoutSessionExpirationPolicy idleTimeoutSessionExpirationPolicy = this.idleTimeoutSessionExpirationPolicy;
+		MaxLifetimeSessionExpirationPolicy maxLifetimeSessionExpirationPolicy = this.maxLifetimeSessionExpirationPolicy;
+
+		if (idleTimeoutSessionExpirationPolicy != null) {
+
+			Long lastAccessedTime = resolveTime(value, LAST_ACCESSED_TIME_PDX_FIELD_NAME, Session::getLastAccessedTime);
+
+			if (lastAccessedTime != null) {
+				return getExpiry(idleTimeoutSessionExpirationPolicy.computeExpirationTimeoutMillis(lastAccessedTime),
+					idleTimeoutSessionExpirationPolicy.getExpirationAction());
+			}
+		}
+		else if (maxLifetimeSessionExpirationPolicy != null) {
+
+			Long creationTime = resolveTime(value, CREATION_TIME_PDX_FIELD_NAME, Session::getCreationTime);
+
+			if (creationTime != null) {
+				return getExpiry(maxLifetimeSessionExpirationPolicy.computeExpirationTimeoutMillis(creationTime),
+					maxLifetimeSessionExpirationPolicy.getExpirationAction());
+			}
+		}
+
+		Session session = resolveSession(value);
+
+		if (session == null) {
+			return null;
+		}
+
+		SessionExpirationPolicy sessionExpirationPolicy = getSessionExpirationPolicy();
+
+		Optional<Duration> expirationTimeout = sessionExpirationPolicy.determineExpirationTimeout(session);
+
+		return expirationTimeout.isPresent()
+			? newExpirationAttributes(expirationTimeout.get(), sessionExpirationPolicy.getExpirationAction())
+			: null;
 	}
 
 	/**
-	 * Constructs a new {@link ExpirationAttributes} initialized with the given {@link Duration expiration timeut}
+	 * Computes {@link ExpirationAttributes} for an expiration timeout in milliseconds.
+	 *
+	 * @param expirationTimeoutMillis expiration timeout in milliseconds, or
+	 * {@link IdleTimeoutSessionExpirationPolicy#NO_EXPIRATION_TIMEOUT} if the {@link Session} does not expire.
+	 * @param expirationAction action taken when the {@link Session} expires.
+	 * @return the, possibly interned, {@link ExpirationAttributes} or {@literal null} if the {@link Session}
+	 * does not expire.
+	 */
+	@Nullable
+	private ExpirationAttributes getExpiry(long expirationTimeoutMillis,
+			@Nullable SessionExpirationPolicy.ExpirationAction expirationAction) {
+
+		if (expirationTimeoutMillis == IdleTimeoutSessionExpirationPolicy.NO_EXPIRATION_TIMEOUT) {
+			return null;
+		}
+
+		// same as Duration.ofMillis(expirationTimeoutMillis).getSeconds(), without allocating
+		long expirationTimeoutInSeconds = Math.floorDiv(expirationTimeoutMillis, 1000L);
+
+		return getExpirationAttributes(toExpirationTimeoutInSeconds(expirationTimeoutInSeconds),
+			toGemFireExpirationAction(expirationAction));
+	}
+
+	/**
+	 * Returns {@link ExpirationAttributes} initialized with the given {@link Duration expiration timeut}
 	 * and default {@link ExpirationAction#INVALIDATE expirtion action}.
 	 *
 	 * @param expirationTimeout {@link Duration} specifying the expiration timeout.
-	 * @return the new {@link ExpirationAttributes}.
+	 * @return the, possibly interned, {@link ExpirationAttributes}.
 	 * @see #newExpirationAttributes(Duration, SessionExpirationPolicy.ExpirationAction)
 	 * @see ExpirationAttributes
 	 * @see Duration
@@ -96,13 +191,13 @@ public class SessionExpirationPolicyCustomExpiryAdapter implements CustomExpiry<
 	}
 
 	/**
-	 * Constructs a new {@link ExpirationAttributes} initialized with the given {@link Duration expiration timeout}
+	 * Returns {@link ExpirationAttributes} initialized with the given {@link Duration expiration timeout}
 	 * and action taken when the {@link Session} expires.
 	 *
 	 * @param expirationTimeout {@link Duration} specifying the expiration timeout.
 	 * @param expirationAction action taken when the {@link Session} expires.
-	 * @return the new {@link ExpirationAttributes}.
-	 * @see #newExpirationAttributes(int, ExpirationAction)
+	 * @return the, possibly interned, {@link ExpirationAttributes}.
+	 * @see #getExpirationAttributes(int, ExpirationAction)
 	 * @see SessionExpirationPolicy.ExpirationAction
 	 * @see ExpirationAttributes
 	 * @see Duration
@@ -111,64 +206,101 @@ public class SessionExpirationPolicyCustomExpiryAdapter implements CustomExpiry<
 	protected ExpirationAttributes newExpirationAttributes(@NonNull Duration expirationTimeout,
 			@Nullable SessionExpirationPolicy.ExpirationAction expirationAction) {
 
-		int expirationTimeoutInSeconds =
-			(int) Math.min(Integer.MAX_VALUE, Math.max(expirationTimeout.getSeconds(), 1));
+		return getExpirationAttributes(toExpirationTimeoutInSeconds(expirationTimeout.getSeconds()),
+			toGemFireExpirationAction(expirationAction));
+	}
 
-		return newExpirationAttributes(expirationTimeoutInSeconds, toGemFireExpirationAction(expirationAction));
+	private int toExpirationTimeoutInSeconds(long expirationTimeoutInSeconds) {
+		return (int) Math.min(Integer.MAX_VALUE, Math.max(expirationTimeoutInSeconds, 1));
 	}
 
 	/**
-	 * Constructs a new {@link ExpirationAttributes} initialized with the given {@link Integer expiration timeout}
+	 * Returns {@link ExpirationAttributes} initialized with the given {@link Integer expiration timeout}
 	 * in seconds and {@link ExpirationAction} taken when the {@link Session} expires.
 	 *
+	 * {@link ExpirationAttributes} are immutable and are interned for timeouts less than
+	 * {@link #EXPIRATION_ATTRIBUTES_CACHE_SIZE} seconds; larger timeouts are constructed on each call.
+	 *
 	 * @param expirationTimeInSeconds {@link Integer length of time} in seconds until the {@link Session} expires.
 	 * @param expirationAction {@link ExpirationAction} taken when the {@link Session} expires.
-	 * @return the new {@link ExpirationAttributes}.
+	 * @return the, possibly interned, {@link ExpirationAttributes}.
 	 * @see ExpirationAction
 	 * @see ExpirationAttributes
 	 */
 	@NonNull
-	private ExpirationAttributes newExpirationAttributes(int expirationTimeInSeconds,
+	private ExpirationAttributes getExpirationAttributes(int expirationTimeInSeconds,
 			ExpirationAction expirationAction) {
 
-		return new ExpirationAttributes(expirationTimeInSeconds, expirationAction);
+		if (expirationTimeInSeconds >= EXPIRATION_ATTRIBUTES_CACHE_SIZE) {
+			return new ExpirationAttributes(expirationTimeInSeconds, expirationAction);
+		}
+
+		AtomicReferenceArray<ExpirationAttributes> expirationAttributesCache =
+			ExpirationAction.DESTROY.equals(expirationAction)
+				? this.destroyExpirationAttributes
+				: this.invalidateExpirationAttributes;
+
+		ExpirationAttributes expirationAttributes = expirationAttributesCache.get(expirationTimeInSeconds);
+
+		if (expirationAttributes == null) {
+			expirationAttributes = new ExpirationAttributes(expirationTimeInSeconds, expirationAction);
+			expirationAttributesCache.set(expirationTimeInSeconds, expirationAttributes);
+		}
+
+		return expirationAttributes;
 	}
 
 	/**
-	 * Resolves an {@link Optional} {@link Session} object from the {@link Region.Entry#getValue() Region Entry Value}.
+	 * Resolves a {@link Session} time, in milliseconds since the epoch, from the given {@link Object} value.
 	 *
-	 * @param regionEntry {@link Region.Entry} from which to extract the {@link Session} value.
-	 * @return an {@link Optional} {@link Session} object from the {@link Region.Entry#getValue() Region Entry Value}.
-	 * @see Region.Entry
-	 * @see Session
-	 * @see Optional
-	 * @see #resolveSession(Object)
+	 * The time field is read directly from a {@link PdxInstance} without deserializing the {@link Session}.
+	 *
+	 * @param value {@link Object} to evaluate as a {@link Session}.
+	 * @param pdxFieldName {@link String} containing the name of the PDX field storing the time.
+	 * @param sessionTime {@link Function} used to read the time from a {@link Session}.
+	 * @return the {@link Session} time in milliseconds, or {@literal null} if the value is not a {@link Session}.
+	 * @see PdxInstance#readField(String)
 	 */
-	private Optional<Session> resolveSession(@Nullable Region.Entry<String, Object> regionEntry) {
+	@Nullable
+	private Long resolveTime(@NonNull Object value, @NonNull String pdxFieldName,
+			@NonNull Function<Session, Instant> sessionTime) {
+
+		if (value instanceof Session) {
+			return sessionTime.apply((Session) value).toEpochMilli();
+		}
+		else if (value instanceof PdxInstance) {
 
-		return Optional.ofNullable(regionEntry)
-			.map(Region.Entry::getValue)
-			.flatMap(this::resolveSession);
+			PdxInstance pdxInstance = (PdxInstance) value;
+
+			if (pdxInstance.hasField(pdxFieldName)) {
+
+				Object time = pdxInstance.readField(pdxFieldName);
+
+				return time instanceof Number ? ((Number) time).longValue() : null;
+			}
+		}
+
+		return null;
 	}
 
 	/**
-	 * Resolves an {@link Optional} {@link Session} object from the given {@link Object} value.
+	 * Resolves a {@link Session} object from the given {@link Object} value.
 	 *
 	 * The {@link Object} may already be a {@link Session} or may possibly be a {@link PdxInstance}
 	 * if Apache Geode/Pivotal GemFire PDX serialization is enabled.
 	 *
 	 * @param value {@link Object} to evaluate as a {@link Session}.
-	 * @return an {@link Optional} {@link Session} from the given {@link Object}.
+	 * @return a {@link Session} from the given {@link Object}, or {@literal null}.
 	 * @see Session
 	 * @see PdxInstance
-	 * @see Optional
 	 * @see Object
 	 */
-	private Optional<Session> resolveSession(@Nullable Object value) {
+	@Nullable
+	private Session resolveSession(@Nullable Object value) {
+
+		Object resolvedValue = value instanceof PdxInstance ? ((PdxInstance) value).getObject() : value;
 
-		return Optional.ofNullable(value instanceof Session ? (Session) value
-			: value instanceof PdxInstance ? (Session) ((PdxInstance) value).getObject()
-			: null);
+		return resolvedValue instanceof Session ? (Session) resolvedValue : null;
 	}
 
 	/**
@@ -0,0 +1,401 @@
+/*
+ * Copyright 2024 Broadcom. All rights reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.springframework.session.data.gemfire.expiration.support;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+import java.util.function.LongSupplier;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+import org.springframework.session.Session;
+import org.springframework.util.Assert;
+
+/**
+ * {@link SessionExpirationTimingWheel} is a hierarchical timing wheel tracking one expiration timer per
+ * {@link Session#getId() Session ID}.
+ *
+ * Scheduling, rescheduling (e.g. when a {@link Session} is touched) and cancelling a timer are {@literal O(1)}
+ * operations, independent of the number of tracked {@link Session Sessions}.  Each level of the wheel has
+ * {@link #getWheelSize() wheel size} slots; level {@literal 0} slots span one {@link #getTickDuration() tick},
+ * and each higher level slot spans a full rotation of the level below.  Timers in higher levels are cascaded
+ * down as the wheel turns, and timers beyond the range of the highest level are re-cascaded until due.
+ *
+ * On each tick, all timers that came due are removed and handed to the expiration handler as a single batch.
+ *
+ * @author John Blum
+ * @see <a href="https://www.cs.columbia.edu/~nahum/w6998/papers/ton97-timing-wheels.pdf">Hashed and Hierarchical Timing Wheels</a>
+ * @see Session
+ * @since 1.0.0
+ */
+public class SessionExpirationTimingWheel implements AutoCloseable {
+
+	public static final Duration DEFAULT_TICK_DURATION = Duration.ofSeconds(1);
+
+	public static final int DEFAULT_WHEEL_SIZE = 64;
+	public static final int LEVELS = 4;
+
+	protected static final String TICK_THREAD_NAME = "SessionExpirationTimingWheelThread";
+
+	private final AtomicBoolean started = new AtomicBoolean(false);
+
+	private final Bucket[][] wheels;
+
+	private final Consumer<List<String>> expirationHandler;
+
+	private final Duration tickDuration;
+
+	private final int wheelSize;
+
+	private final long startTime;
+	private final long tickMillis;
+
+	private long currentTick;
+
+	private final LongSupplier currentTimeMillis;
+
+	private final Logger logger = LoggerFactory.getLogger(getClass());
+
+	private final Map<String, Timer> timers = new HashMap<>();
+
+	private volatile ScheduledExecutorService tickScheduler;
+
+	/**
+	 * Constructs a new instance of {@link SessionExpirationTimingWheel} using the {@link #DEFAULT_TICK_DURATION}
+	 * and {@link #DEFAULT_WHEEL_SIZE}.
+	 *
+	 * @param expirationHandler {@link Consumer} receiving batches of expired {@link Session#getId() Session IDs};
+	 * must not be {@literal null}.
+	 * @throws IllegalArgumentException if the expiration handler is {@literal null}.
+	 */
+	public SessionExpirationTimingWheel(@NonNull Consumer<List<String>> expirationHandler) {
+		this(DEFAULT_TICK_DURATION, DEFAULT_WHEEL_SIZE, expirationHandler, System::currentTimeMillis);
+	}
+
+	/**
+	 * Constructs a new instance of {@link SessionExpirationTimingWheel}.
+	 *
+	 * @param tickDuration {@link Duration} of a single tick, which is the resolution of expiration;
+	 * must be at least {@literal 1 millisecond}.
+	 * @param wheelSize number of slots per level; must be greater than {@literal 1}.
+	 * @param expirationHandler {@link Consumer} receiving batches of expired {@link Session#getId() Session IDs};
+	 * must not be {@literal null}.
+	 * @param currentTimeMillis {@link LongSupplier} of the current time in milliseconds; must not be {@literal null}.
+	 * @throws IllegalArgumentException if any argument is invalid.
+	 */
+	public SessionExpirationTimingWheel(@NonNull Duration tickDuration, int wheelSize,
+			@NonNull Consumer<List<String>> expirationHandler, @NonNull LongSupplier currentTimeMillis) {
+
+		Assert.notNull(tickDuration, "Tick duration is required");
+		Assert.isTrue(tickDuration.toMillis() > 0, "Tick duration must be at least 1 millisecond");
+		Assert.isTrue(wheelSize > 1, "Wheel size must be greater than 1");
+		Assert.notNull(expirationHandler, "Expiration handler is required");
+		Assert.notNull(currentTimeMillis, "Current time supplier is required");
+
+		this.tickDuration = tickDuration;
+		this.tickMillis = tickDuration.toMillis();
+		this.wheelSize = wheelSize;
+		this.expirationHandler = expirationHandler;
+		this.currentTimeMillis = currentTimeMillis;
+		this.startTime = currentTimeMillis.getAsLong();
+		this.wheels = new Bucket[LEVELS][wheelSize];
+
+		for (Bucket[] wheel : this.wheels) {
+			for (int slot = 0; slot < wheelSize; slot++) {
+				wheel[slot] = new Bucket();
+			}
+		}
+	}
+
+	protected Logger getLogger() {
+		return this.logger;
+	}
+
+	public Duration getTickDuration() {
+		return this.tickDuration;
+	}
+
+	public int getWheelSize() {
+		return this.wheelSize;
+	}
+
+	/**
+	 * Returns the number of {@link Session Sessions} with a pending expiration timer.
+	 *
+	 * @return the number of pending expiration timers.
+	 */
+	public synchronized int size() {
+		return this.timers.size();
+	}
+
+	/**
+	 * Determines whether an expiration timer is pending for the given {@link Session#getId() Session ID}.
+	 *
+	 * @param sessionId {@link String} containing the {@link Session#getId() Session ID}.
+	 * @return a boolean value indicating whether an expiration timer is pending.
+	 */
+	public synchronized boolean isScheduled(@Nullable String sessionId) {
+		return this.timers.containsKey(sessionId);
+	}
+
+	/**
+	 * Schedules, or reschedules, the expiration of the {@link Session} with the given ID after the given
+	 * {@link Duration timeout}, measured from now.
+	 *
+	 * A {@literal null} {@link Duration timeout} cancels any pending expiration.  A zero or negative
+	 * {@link Duration timeout} expires the {@link Session} on the next tick.
+	 *
+	 * @param sessionId {@link String} containing the {@link Session#getId() Session ID}; must not be {@literal null}.
+	 * @param timeout {@link Duration} until the {@link Session} expires.
+	 */
+	public void schedule(@NonNull String sessionId, @Nullable Duration timeout) {
+
+		Assert.notNull(sessionId, "Session ID is required");
+
+		if (timeout == null) {
+			cancel(sessionId);
+		}
+		else {
+
+			long deadline = this.currentTimeMillis.getAsLong() + Math.max(timeout.toMillis(), 0L);
+
+			synchronized (this) {
+
+				Timer timer = this.timers.computeIfAbsent(sessionId, Timer::new);
+
+				timer.deadlineTick = Math.max(toTick(deadline, true), this.currentTick + 1);
+
+				place(timer);
+			}
+
+			start();
+		}
+	}
+
+	/**
+	 * Cancels any pending expiration of the {@link Session} with the given ID.
+	 *
+	 * @param sessionId {@link String} containing the {@link Session#getId() Session ID}.
+	 * @return a boolean value indicating whether an expiration was pending.
+	 */
+	public synchronized boolean cancel(@Nullable String sessionId) {
+
+		Timer timer = sessionId != null ? this.timers.remove(sessionId) : null;
+
+		if (timer != null) {
+			timer.unlink();
+		}
+
+		return timer != null;
+	}
+
+	/**
+	 * Turns the wheel up to the current time and hands all expired {@link Session#getId() Session IDs}
+	 * to the expiration handler as a single batch.
+	 *
+	 * @return the number of {@link Session Sessions} that expired.
+	 */
+	public int advance() {
+
+		List<String> expiredSessionIds = new ArrayList<>();
+
+		synchronized (this) {
+
+			long targetTick = toTick(this.currentTimeMillis.getAsLong(), false);
+
+			while (this.currentTick < targetTick) {
+				expire(++this.currentTick, expiredSessionIds);
+			}
+		}
+
+		if (!expiredSessionIds.isEmpty()) {
+			this.expirationHandler.accept(expiredSessionIds);
+		}
+
+		return expiredSessionIds.size();
+	}
+
+	private long toTick(long timeMillis, boolean roundUp) {
+
+		long elapsed = Math.max(timeMillis - this.startTime, 0L);
+
+		return roundUp ? (elapsed + this.tickMillis - 1) / this.tickMillis : elapsed / this.tickMillis;
+	}
+
+	private long span(int level) {
+
+		long span = 1L;
+
+		for (int index = 0; index < level; index++) {
+			span *= this.wheelSize;
+		}
+
+		return span;
+	}
+
+	private void place(Timer timer) {
+
+		long delta = timer.deadlineTick - this.currentTick;
+
+		int level = 0;
+
+		while (level < LEVELS - 1 && delta >= span(level + 1)) {
+			level++;
+		}
+
+		long placementTick = Math.min(timer.deadlineTick, this.currentTick + span(LEVELS) - 1);
+
+		int slot = (int) ((placementTick / span(level)) % this.wheelSize);
+
+		timer.unlink();
+		this.wheels[level][slot].add(timer);
+	}
+
+	private void expire(long tick, List<String> expiredSessionIds) {
+
+		for (int level = LEVELS - 1; level > 0; level--) {
+
+			long span = span(level);
+
+			if (tick % span == 0) {
+				for (Timer timer : this.wheels[level][(int) ((tick / span) % this.wheelSize)].removeAll()) {
+					place(timer);
+				}
+			}
+		}
+
+		for (Timer timer : this.wheels[0][(int) (tick % this.wheelSize)].removeAll()) {
+			if (timer.deadlineTick <= tick) {
+				this.timers.remove(timer.sessionId);
+				expiredSessionIds.add(timer.sessionId);
+			}
+			else {
+				place(timer);
+			}
+		}
+	}
+
+	private void start() {
+
+		if (this.started.compareAndSet(false, true)) {
+			this.tickScheduler = newTickScheduler();
+			this.tickScheduler.scheduleWithFixedDelay(this::safeAdvance, this.tickMillis, this.tickMillis,
+				TimeUnit.MILLISECONDS);
+		}
+	}
+
+	protected ScheduledExecutorService newTickScheduler() {
+
+		return Executors.newSingleThreadScheduledExecutor(runnable -> {
+
+			Thread tickThread = new Thread(runnable, TICK_THREAD_NAME);
+
+			tickThread.setDaemon(true);
+
+			return tickThread;
+		});
+	}
+
+	private void safeAdvance() {
+
+		try {
+			advance();
+		}
+		catch (Throwable cause) {
+			getLogger().error("Error occurred while expiring Sessions", cause);
+		}
+	}
+
+	/**
+	 * Stops turning the wheel; pending expiration timers are discarded.
+	 */
+	@Override
+	public void close() {
+
+		Optional.ofNullable(this.tickScheduler).ifPresent(ScheduledExecutorService::shutdownNow);
+
+		synchronized (this) {
+			this.timers.values().forEach(Timer::unlink);
+			this.timers.clear();
+		}
+	}
+
+	/**
+	 * Doubly-linked list of {@link Timer Timers} in a single slot of the wheel.
+	 */
+	static final class Bucket {
+
+		private final Timer head = new Timer(null);
+
+		Bucket() {
+			this.head.next = this.head;
+			this.head.previous = this.head;
+		}
+
+		void add(Timer timer) {
+
+			timer.bucket = this;
+			timer.previous = this.head.previous;
+			timer.next = this.head;
+			this.head.previous.next = timer;
+			this.head.previous = timer;
+		}
+
+		List<Timer> removeAll() {
+
+			List<Timer> timers = new ArrayList<>();
+
+			for (Timer timer = this.head.next; timer != this.head; timer = timer.next) {
+				timers.add(timer);
+			}
+
+			timers.forEach(Timer::unlink);
+
+			return timers;
+		}
+	}
+
+	/**
+	 * Expiration timer for a single {@link Session}.
+	 */
+	static final class Timer {
+
+		private Bucket bucket;
+
+		private long deadlineTick;
+
+		private final String sessionId;
+
+		private Timer next;
+		private Timer previous;
+
+		Timer(String sessionId) {
+			this.sessionId = sessionId;
+		}
+
+		void unlink() {
+
+			if (this.bucket != null) {
+				this.previous.next = this.next;
+				this.next.previous = this.previous;
+				this.next = null;
+				this.previous = null;
+				this.bucket = null;
+			}
+		}
+	}
+}
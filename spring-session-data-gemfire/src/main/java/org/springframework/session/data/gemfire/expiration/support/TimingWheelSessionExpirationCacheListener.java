@@ -0,0 +1,270 @@
+/*
+ * Copyright 2024 Broadcom. All rights reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.springframework.session.data.gemfire.expiration.support;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+import org.apache.geode.cache.EntryEvent;
+import org.apache.geode.cache.EntryNotFoundException;
+import org.apache.geode.cache.Region;
+import org.apache.geode.cache.RegionEvent;
+import org.apache.geode.cache.util.CacheListenerAdapter;
+import org.apache.geode.pdx.PdxInstance;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+import org.springframework.session.Session;
+import org.springframework.session.data.gemfire.expiration.SessionExpirationPolicy;
+import org.springframework.session.data.gemfire.support.SessionClockAware;
+import org.springframework.util.Assert;
+
+/**
+ * {@link TimingWheelSessionExpirationCacheListener} is an Apache Geode {@link org.apache.geode.cache.CacheListener}
+ * that expires {@link Session Sessions} in a client {@link Region} with a local data policy
+ * (e.g. {@literal LOCAL} or {@literal CACHING_PROXY}) using a {@link SessionExpirationTimingWheel}
+ * instead of per-entry idle timeout expiration.
+ *
+ * Each time a {@link Session} is created or updated in the {@link Region}, the configured
+ * {@link SessionExpirationPolicy} determines the {@link Duration expiration timeout} and the {@link Session}
+ * is (re)scheduled in the timing wheel.  Expired {@link Session Sessions} are re-evaluated against the
+ * {@link SessionExpirationPolicy} and then locally invalidated or destroyed, in batches, according to the
+ * {@link SessionExpirationPolicy#getExpirationAction() expiration action}.
+ *
+ * A {@link SessionExpirationPolicy} that does not determine a timeout leaves the {@link Session} unscheduled.
+ *
+ * @author John Blum
+ * @see CacheListenerAdapter
+ * @see Region#localDestroy(Object)
+ * @see Region#localInvalidate(Object)
+ * @see SessionExpirationPolicy
+ * @see SessionExpirationTimingWheel
+ * @see SessionClockAware
+ * @since 1.0.0
+ */
+public class TimingWheelSessionExpirationCacheListener extends CacheListenerAdapter<Object, Session>
+		implements AutoCloseable, SessionClockAware {
+
+	private static final Clock DEFAULT_CLOCK = Clock.systemUTC();
+
+	private final Logger logger = LoggerFactory.getLogger(getClass());
+
+	private volatile Clock clock = DEFAULT_CLOCK;
+
+	private final Region<Object, Session> sessionsRegion;
+
+	private final SessionExpirationPolicy sessionExpirationPolicy;
+
+	private final SessionExpirationTimingWheel timingWheel;
+
+	/**
+	 * Constructs a new instance of {@link TimingWheelSessionExpirationCacheListener} using
+	 * the {@link SessionExpirationTimingWheel#DEFAULT_TICK_DURATION default tick} and
+	 * {@link SessionExpirationTimingWheel#DEFAULT_WHEEL_SIZE default wheel size}.
+	 *
+	 * @param sessionsRegion client {@link Region} storing {@link Session Sessions}; must not be {@literal null}.
+	 * @param sessionExpirationPolicy {@link SessionExpirationPolicy} determining when each {@link Session} expires;
+	 * must not be {@literal null}.
+	 * @throws IllegalArgumentException if the {@link Region} or {@link SessionExpirationPolicy} is {@literal null}.
+	 */
+	public TimingWheelSessionExpirationCacheListener(@NonNull Region<Object, Session> sessionsRegion,
+			@NonNull SessionExpirationPolicy sessionExpirationPolicy) {
+
+		this(sessionsRegion, sessionExpirationPolicy, SessionExpirationTimingWheel.DEFAULT_TICK_DURATION,
+			SessionExpirationTimingWheel.DEFAULT_WHEEL_SIZE);
+	}
+
+	/**
+	 * Constructs a new instance of {@link TimingWheelSessionExpirationCacheListener}.
+	 *
+	 * @param sessionsRegion client {@link Region} storing {@link Session Sessions}; must not be {@literal null}.
+	 * @param sessionExpirationPolicy {@link SessionExpirationPolicy} determining when each {@link Session} expires;
+	 * must not be {@literal null}.
+	 * @param tickDuration {@link Duration} of a single tick of the {@link SessionExpirationTimingWheel}.
+	 * @param wheelSize number of slots per level of the {@link SessionExpirationTimingWheel}.
+	 * @throws IllegalArgumentException if any argument is invalid.
+	 * @see SessionExpirationTimingWheel
+	 */
+	public TimingWheelSessionExpirationCacheListener(@NonNull Region<Object, Session> sessionsRegion,
+			@NonNull SessionExpirationPolicy sessionExpirationPolicy, @NonNull Duration tickDuration, int wheelSize) {
+
+		Assert.notNull(sessionsRegion, "Region is required");
+		Assert.notNull(sessionExpirationPolicy, "SessionExpirationPolicy is required");
+
+		this.sessionsRegion = sessionsRegion;
+		this.sessionExpirationPolicy = sessionExpirationPolicy;
+		this.timingWheel = newTimingWheel(tickDuration, wheelSize);
+	}
+
+	protected SessionExpirationTimingWheel newTimingWheel(Duration tickDuration, int wheelSize) {
+		return new SessionExpirationTimingWheel(tickDuration, wheelSize, this::expire, this::currentTimeMillis);
+	}
+
+	/**
+	 * Configures the {@link Clock} used to schedule and expire {@link Session Sessions} in the timing wheel.
+	 *
+	 * @param clock {@link Clock} to use; the {@link Clock#systemUTC() system clock} is used if {@literal null}.
+	 */
+	@Override
+	public void setClock(@Nullable Clock clock) {
+		this.clock = clock != null ? clock : DEFAULT_CLOCK;
+	}
+
+	protected Clock getClock() {
+		return this.clock;
+	}
+
+	private long currentTimeMillis() {
+		return this.clock.millis();
+	}
+
+	protected Logger getLogger() {
+		return this.logger;
+	}
+
+	protected Region<Object, Session> getSessionsRegion() {
+		return this.sessionsRegion;
+	}
+
+	protected SessionExpirationPolicy getSessionExpirationPolicy() {
+		return this.sessionExpirationPolicy;
+	}
+
+	protected SessionExpirationTimingWheel getTimingWheel() {
+		return this.timingWheel;
+	}
+
+	@Override
+	public void afterCreate(EntryEvent<Object, Session> event) {
+		schedule(event);
+	}
+
+	@Override
+	public void afterUpdate(EntryEvent<Object, Session> event) {
+		schedule(event);
+	}
+
+	/**
+	 * Cancels the expiration of the destroyed {@link Session}.
+	 *
+	 * An evicted client copy is cancelled as well since there is no local entry left to expire; the {@link Session}
+	 * on the servers is expired by the server {@link Region} and is rescheduled when it is loaded again.
+	 *
+	 * @param event {@link EntryEvent} containing the details of the cache operation.
+	 */
+	@Override
+	public void afterDestroy(EntryEvent<Object, Session> event) {
+		cancel(event);
+	}
+
+	@Override
+	public void afterInvalidate(EntryEvent<Object, Session> event) {
+		cancel(event);
+	}
+
+	@Override
+	public void afterRegionDestroy(RegionEvent<Object, Session> event) {
+		close();
+	}
+
+	private void schedule(@Nullable EntryEvent<Object, Session> event) {
+
+		Optional.ofNullable(event)
+			.filter(it -> it.getKey() != null)
+			.ifPresent(it -> schedule(it.getKey().toString(), it.getNewValue()));
+	}
+
+	private void schedule(@NonNull String sessionId, @Nullable Object value) {
+
+		Optional<Session> session = resolveSession(value);
+
+		if (session.isPresent()) {
+			getTimingWheel().schedule(sessionId,
+				getSessionExpirationPolicy().determineExpirationTimeout(session.get()).orElse(null));
+		}
+		else {
+			getTimingWheel().cancel(sessionId);
+		}
+	}
+
+	private void cancel(@Nullable EntryEvent<Object, Session> event) {
+
+		Optional.ofNullable(event)
+			.map(EntryEvent::getKey)
+			.map(Object::toString)
+			.ifPresent(getTimingWheel()::cancel);
+	}
+
+	/**
+	 * Expires the batch of {@link Session Sessions} that came due in the {@link SessionExpirationTimingWheel}.
+	 *
+	 * Each {@link Session} is re-evaluated first since it may have been accessed without triggering an update.
+	 *
+	 * @param sessionIds {@link List} of {@link Session#getId() Session IDs} that came due.
+	 */
+	protected void expire(@NonNull List<String> sessionIds) {
+
+		for (String sessionId : sessionIds) {
+
+			Optional<Session> session = Optional.ofNullable(getSessionsRegion().getEntry(sessionId))
+				.map(Region.Entry::getValue)
+				.flatMap(this::resolveSession);
+
+			Optional<Duration> expirationTimeout =
+				session.flatMap(getSessionExpirationPolicy()::determineExpirationTimeout);
+
+			if (session.isPresent() && !isExpired(expirationTimeout)) {
+				getTimingWheel().schedule(sessionId, expirationTimeout.orElse(null));
+			}
+			else if (session.isPresent()) {
+				expireSession(sessionId);
+			}
+		}
+	}
+
+	private boolean isExpired(Optional<Duration> expirationTimeout) {
+		return expirationTimeout.filter(timeout -> timeout.isZero() || timeout.isNegative()).isPresent();
+	}
+
+	private void expireSession(String sessionId) {
+
+		try {
+			if (SessionExpirationPolicy.ExpirationAction.DESTROY
+					.equals(getSessionExpirationPolicy().getExpirationAction())) {
+
+				getSessionsRegion().localDestroy(sessionId);
+			}
+			else {
+				getSessionsRegion().localInvalidate(sessionId);
+			}
+		}
+		catch (EntryNotFoundException ignore) {
+			// Session was already removed
+		}
+		catch (RuntimeException cause) {
+			getLogger().warn(String.format("Failed to expire Session [%s]", sessionId), cause);
+		}
+	}
+
+	private Optional<Session> resolveSession(@Nullable Object value) {
+
+		Object resolvedValue = value instanceof PdxInstance ? ((PdxInstance) value).getObject() : value;
+
+		return Optional.ofNullable(resolvedValue instanceof Session ? (Session) resolvedValue : null);
+	}
+
+	/**
+	 * Stops the {@link SessionExpirationTimingWheel}.
+	 */
+	@Override
+	public void close() {
+		getTimingWheel().close();
+	}
+}
@@ -0,0 +1,98 @@
+/*
+ * Copyright 2024 Broadcom. All rights reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.springframework.session.data.gemfire.model;
+
+import java.time.Instant;
+import java.util.Objects;
+
+import org.springframework.lang.NonNull;
+import org.springframework.session.Session;
+import org.springframework.util.Assert;
+
+/**
+ * {@link SessionExpiration} is a value object holding the {@link Session#getId() ID} and expiration time
+ * of a {@link Session}, as returned by a range scan of {@link Session Sessions} ordered by expiration time.
+ * <p>
+ * The last {@link SessionExpiration} of a page is the cursor used to fetch the next page.
+ *
+ * @author John Blum
+ * @see Session
+ * @since 1.0.0
+ */
+public final class SessionExpiration implements Comparable<SessionExpiration> {
+
+  /**
+   * Factory method used to construct a new {@link SessionExpiration}.
+   *
+   * @param sessionId {@link String} containing the {@link Session#getId() ID} of the {@link Session};
+   * must not be {@literal null}.
+   * @param expirationTime time in milliseconds since the epoch at which the {@link Session} expires.
+   * @return a new {@link SessionExpiration}.
+   * @throws IllegalArgumentException if the {@link Session#getId() ID} is {@literal null}.
+   */
+  public static SessionExpiration of(@NonNull String sessionId, long expirationTime) {
+    return new SessionExpiration(sessionId, expirationTime);
+  }
+
+  private final long expirationTime;
+
+  private final String sessionId;
+
+  private SessionExpiration(String sessionId, long expirationTime) {
+
+    Assert.notNull(sessionId, "Session ID is required");
+
+    this.sessionId = sessionId;
+    this.expirationTime = expirationTime;
+  }
+
+  public long getExpirationTime() {
+    return this.expirationTime;
+  }
+
+  public @NonNull Instant getExpirationInstant() {
+    return Instant.ofEpochMilli(getExpirationTime());
+  }
+
+  public @NonNull String getSessionId() {
+    return this.sessionId;
+  }
+
+  @Override
+  public int compareTo(@NonNull SessionExpiration that) {
+
+    int result = Long.compare(this.getExpirationTime(), that.getExpirationTime());
+
+    return result != 0 ? result : this.getSessionId().compareTo(that.getSessionId());
+  }
+
+  @Override
+  public boolean equals(Object obj) {
+
+    if (this == obj) {
+      return true;
+    }
+
+    if (!(obj instanceof SessionExpiration)) {
+      return false;
+    }
+
+    SessionExpiration that = (SessionExpiration) obj;
+
+    return this.getExpirationTime() == that.getExpirationTime()
+        && this.getSessionId().equals(that.getSessionId());
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(getSessionId(), getExpirationTime());
+  }
+
+  @Override
+  public String toString() {
+    return String.format("{ sessionId = %s, expirationTime = %d }", getSessionId(), getExpirationTime());
+  }
+}
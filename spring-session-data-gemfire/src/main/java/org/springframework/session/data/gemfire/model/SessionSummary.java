@@ -0,0 +1,129 @@
+/*
+ * Copyright 2024 Broadcom. All rights reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.springframework.session.data.gemfire.model;
+
+import java.time.Instant;
+import java.util.Objects;
+
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+import org.springframework.session.Session;
+import org.springframework.util.Assert;
+
+/**
+ * {@link SessionSummary} is a value object holding the metadata of a {@link Session}, such as
+ * the {@link Session#getId() ID}, principal name and access times, without the {@link Session} attributes.
+ * <p>
+ * {@link SessionSummary SessionSummaries} are returned by projection queries, so the {@link Session} attributes
+ * are neither sent to nor deserialized by the client.
+ *
+ * @author John Blum
+ * @see Session
+ * @since 1.0.0
+ */
+public final class SessionSummary {
+
+  /**
+   * Factory method used to construct a new {@link SessionSummary}.
+   *
+   * @param sessionId {@link String} containing the {@link Session#getId() ID} of the {@link Session};
+   * must not be {@literal null}.
+   * @param principalName {@link String} containing the principal name of the {@link Session}; may be {@literal null}.
+   * @param creationTime time in milliseconds since the epoch at which the {@link Session} was created.
+   * @param lastAccessedTime time in milliseconds since the epoch at which the {@link Session} was last accessed.
+   * @param expirationTime time in milliseconds since the epoch at which the {@link Session} expires.
+   * @return a new {@link SessionSummary}.
+   * @throws IllegalArgumentException if the {@link Session#getId() ID} is {@literal null}.
+   */
+  public static SessionSummary of(@NonNull String sessionId, @Nullable String principalName, long creationTime,
+      long lastAccessedTime, long expirationTime) {
+
+    return new SessionSummary(sessionId, principalName, creationTime, lastAccessedTime, expirationTime);
+  }
+
+  private final long creationTime;
+  private final long expirationTime;
+  private final long lastAccessedTime;
+
+  private final String principalName;
+  private final String sessionId;
+
+  private SessionSummary(String sessionId, String principalName, long creationTime, long lastAccessedTime,
+      long expirationTime) {
+
+    Assert.notNull(sessionId, "Session ID is required");
+
+    this.sessionId = sessionId;
+    this.principalName = principalName;
+    this.creationTime = creationTime;
+    this.lastAccessedTime = lastAccessedTime;
+    this.expirationTime = expirationTime;
+  }
+
+  public @NonNull Instant getCreationTime() {
+    return Instant.ofEpochMilli(this.creationTime);
+  }
+
+  public long getExpirationTime() {
+    return this.expirationTime;
+  }
+
+  public @NonNull Instant getLastAccessedTime() {
+    return Instant.ofEpochMilli(this.lastAccessedTime);
+  }
+
+  public @Nullable String getPrincipalName() {
+    return this.principalName;
+  }
+
+  public @NonNull String getSessionId() {
+    return this.sessionId;
+  }
+
+  /**
+   * Determines whether the {@link Session} had expired at the given time.
+   *
+   * @param currentTimeMillis time in milliseconds since the epoch.
+   * @return a boolean value indicating whether the {@link Session} had expired at the given time.
+   */
+  public boolean isExpired(long currentTimeMillis) {
+    return currentTimeMillis > getExpirationTime();
+  }
+
+  @Override
+  public boolean equals(Object obj) {
+
+    if (this == obj) {
+      return true;
+    }
+
+    if (!(obj instanceof SessionSummary)) {
+      return false;
+    }
+
+    SessionSummary that = (SessionSummary) obj;
+
+    return this.getSessionId().equals(that.getSessionId())
+        && Objects.equals(this.getPrincipalName(), that.getPrincipalName())
+        && this.creationTime == that.creationTime
+        && this.lastAccessedTime == that.lastAccessedTime
+        && this.getExpirationTime() == that.getExpirationTime();
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(getSessionId(), getPrincipalName(), this.creationTime, this.lastAccessedTime,
+        getExpirationTime());
+  }
+
+  @Override
+  public String toString() {
+
+    return String.format("{ sessionId = %s, principalName = %s, creationTime = %s, lastAccessedTime = %s,"
+        + " expirationTime = %d }", getSessionId(), getPrincipalName(), getCreationTime(), getLastAccessedTime(),
+        getExpirationTime());
+  }
+}
@@ -48,6 +48,9 @@ public class PdxSerializableSessionSerializer extends AbstractPdxSerializableSes
 			writer.writeLong("creationTime", session.getCreationTime().toEpochMilli());
 			writer.writeLong("lastAccessedTime", session.getLastAccessedTime().toEpochMilli());
 			writer.writeLong("maxInactiveIntervalInSeconds", session.getMaxInactiveInterval().getSeconds());
+			writer.writeLong("expirationTime", session.getExpirationTime());
+			writer.writeLong("creationTimeMillis", session.getCreationTimeMillis());
+			writer.writeLong("lastAccessedTimeMillis", session.getLastAccessedTimeMillis());
 			writer.writeString("principalName", session.getPrincipalName());
 			writer.writeObject("attributes", newMap(session.getAttributes()));
 			writer.markIdentityField("id");
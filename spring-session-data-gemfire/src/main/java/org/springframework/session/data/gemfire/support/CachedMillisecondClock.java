@@ -0,0 +1,158 @@
+/*
+ * Copyright 2024 Broadcom. All rights reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.springframework.session.data.gemfire.support;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.Optional;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.springframework.lang.NonNull;
+import org.springframework.util.Assert;
+
+/**
+ * {@link CachedMillisecondClock} is a coarse {@link Clock} that caches the current time in milliseconds,
+ * refreshing it from the system time at a fixed {@link Duration resolution} on a background thread.
+ *
+ * Reading the time is a single volatile read.  Until the {@link Clock} is {@link #start() started},
+ * or after it is {@link #close() closed}, the system time is returned.
+ *
+ * @author John Blum
+ * @see Clock
+ * @see SessionClockAware
+ * @since 1.0.0
+ */
+public class CachedMillisecondClock extends Clock implements AutoCloseable {
+
+	public static final Duration DEFAULT_RESOLUTION = Duration.ofMillis(10);
+
+	protected static final String TICK_THREAD_NAME = "CachedMillisecondClockThread";
+
+	private final AtomicBoolean started = new AtomicBoolean(false);
+
+	private final Duration resolution;
+
+	private volatile boolean running;
+
+	private volatile long currentTimeMillis;
+
+	private volatile ScheduledExecutorService tickScheduler;
+
+	/**
+	 * Constructs a new instance of {@link CachedMillisecondClock} using the {@link #DEFAULT_RESOLUTION}.
+	 */
+	public CachedMillisecondClock() {
+		this(DEFAULT_RESOLUTION);
+	}
+
+	/**
+	 * Constructs a new instance of {@link CachedMillisecondClock} refreshing the cached time
+	 * at the given {@link Duration resolution}.
+	 *
+	 * @param resolution {@link Duration} between refreshes of the cached time; must be positive.
+	 * @throws IllegalArgumentException if the {@link Duration resolution} is not positive.
+	 */
+	public CachedMillisecondClock(@NonNull Duration resolution) {
+
+		Assert.isTrue(resolution != null && resolution.toMillis() > 0,
+			() -> String.format("Resolution [%s] must be at least 1 millisecond", resolution));
+
+		this.resolution = resolution;
+		this.currentTimeMillis = System.currentTimeMillis();
+	}
+
+	public @NonNull Duration getResolution() {
+		return this.resolution;
+	}
+
+	public boolean isRunning() {
+		return this.running;
+	}
+
+	@Override
+	public ZoneId getZone() {
+		return ZoneOffset.UTC;
+	}
+
+	/**
+	 * Returns this {@link CachedMillisecondClock} since the cached time in milliseconds since the epoch
+	 * is independent of the {@link ZoneId zone}.
+	 *
+	 * @param zone {@link ZoneId} to use.
+	 * @return this {@link CachedMillisecondClock}.
+	 */
+	@Override
+	public Clock withZone(ZoneId zone) {
+		return this;
+	}
+
+	@Override
+	public long millis() {
+		return this.running ? this.currentTimeMillis : System.currentTimeMillis();
+	}
+
+	@Override
+	public Instant instant() {
+		return Instant.ofEpochMilli(millis());
+	}
+
+	/**
+	 * Starts refreshing the cached time at the configured {@link #getResolution() resolution}.
+	 *
+	 * @return this {@link CachedMillisecondClock}.
+	 */
+	public CachedMillisecondClock start() {
+
+		if (this.started.compareAndSet(false, true)) {
+
+			long resolutionMillis = getResolution().toMillis();
+
+			tick();
+
+			this.tickScheduler = newTickScheduler();
+			this.tickScheduler.scheduleAtFixedRate(this::tick, resolutionMillis, resolutionMillis,
+				TimeUnit.MILLISECONDS);
+			this.running = true;
+		}
+
+		return this;
+	}
+
+	protected ScheduledExecutorService newTickScheduler() {
+
+		return Executors.newSingleThreadScheduledExecutor(runnable -> {
+
+			Thread tickThread = new Thread(runnable, TICK_THREAD_NAME);
+
+			tickThread.setDaemon(true);
+
+			return tickThread;
+		});
+	}
+
+	/**
+	 * Refreshes the cached time from the system time.
+	 */
+	protected void tick() {
+		this.currentTimeMillis = System.currentTimeMillis();
+	}
+
+	/**
+	 * Stops refreshing the cached time; the system time is returned from then on.
+	 */
+	@Override
+	public void close() {
+
+		this.running = false;
+
+		Optional.ofNullable(this.tickScheduler).ifPresent(ScheduledExecutorService::shutdownNow);
+	}
+}
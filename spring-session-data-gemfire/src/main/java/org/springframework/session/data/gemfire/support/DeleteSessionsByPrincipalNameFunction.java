@@ -0,0 +1,199 @@
+/*
+ * Copyright 2024 Broadcom. All rights reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.springframework.session.data.gemfire.support;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+
+import org.apache.geode.cache.Cache;
+import org.apache.geode.cache.Declarable;
+import org.apache.geode.cache.EntryEvent;
+import org.apache.geode.cache.EntryNotFoundException;
+import org.apache.geode.cache.Region;
+import org.apache.geode.cache.execute.Function;
+import org.apache.geode.cache.execute.FunctionContext;
+import org.apache.geode.cache.execute.FunctionException;
+import org.apache.geode.cache.execute.RegionFunctionContext;
+import org.apache.geode.cache.partition.PartitionRegionHelper;
+import org.apache.geode.cache.query.Query;
+import org.apache.geode.cache.query.SelectResults;
+import org.apache.geode.cache.query.Struct;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import org.springframework.lang.Nullable;
+import org.springframework.session.Session;
+
+/**
+ * {@link DeleteSessionsByPrincipalNameFunction} is a server-side, data-aware Apache Geode {@link Function}
+ * that deletes all {@link Session Sessions} of the given principals in place.
+ *
+ * The {@link Function} is executed on the {@link Session} {@link Region} with
+ * {@link org.apache.geode.cache.execute.FunctionService#onRegion(Region)}, so it runs in parallel on each server
+ * hosting primary buckets of a {@literal PARTITION} {@link Region}, querying and deleting only the local
+ * {@link Session Sessions}.  The {@link Session Sessions} are destroyed with
+ * the {@link #SESSION_DELETED_CALLBACK_ARGUMENT} callback argument, so {@link org.apache.geode.cache.CacheListener
+ * CacheListeners} and subscribed clients only clean up after the deleted {@link Session Sessions};
+ * the caller publishes the deletion events.
+ *
+ * The {@link Function} argument is a {@link Collection} of principal names.  The result sent by each server
+ * is a {@link Map} of the deleted {@link Session#getId() Session IDs} to principal names.  When deleting fails,
+ * the {@link Session Sessions} deleted before the failure are sent, followed by the {@link FunctionException}.
+ *
+ * The {@link Function} must be registered on the servers; otherwise, {@link Session Sessions} are deleted
+ * one at a time from the client.
+ *
+ * @author John Blum
+ * @see Function
+ * @see RegionFunctionContext
+ * @see Query#execute(RegionFunctionContext, Object[])
+ * @since 1.0.0
+ */
+@SuppressWarnings("rawtypes")
+public class DeleteSessionsByPrincipalNameFunction implements Function, Declarable {
+
+	public static final String ID = "DeleteSessionsByPrincipalNameFunction";
+
+	public static final String SESSION_DELETED_CALLBACK_ARGUMENT = "SessionDeletedByPrincipalName";
+
+	protected static final String FIND_SESSIONS_BY_PRINCIPAL_NAMES_QUERY =
+		"SELECT s.id, s.principalName FROM %s s WHERE s.principalName IN $1";
+
+	/**
+	 * Determines whether the given {@link EntryEvent} was caused by this {@link Function} deleting a {@link Session}
+	 * of a principal, or by the caller destroying its client copy of the deleted {@link Session}.
+	 *
+	 * @param event {@link EntryEvent} to evaluate.
+	 * @return a boolean value indicating whether the {@link EntryEvent} is the deletion of a {@link Session}
+	 * by principal name.
+	 * @see #SESSION_DELETED_CALLBACK_ARGUMENT
+	 */
+	public static boolean isSessionDeleted(@Nullable EntryEvent<?, ?> event) {
+		return event != null && SESSION_DELETED_CALLBACK_ARGUMENT.equals(event.getCallbackArgument());
+	}
+
+	private final Logger logger = LoggerFactory.getLogger(getClass());
+
+	@Override
+	public String getId() {
+		return ID;
+	}
+
+	protected Logger getLogger() {
+		return this.logger;
+	}
+
+	@Override
+	public boolean hasResult() {
+		return true;
+	}
+
+	@Override
+	public boolean isHA() {
+		return false;
+	}
+
+	@Override
+	public boolean optimizeForWrite() {
+		return true;
+	}
+
+	@Override
+	public void initialize(Cache cache, Properties parameters) { }
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public void execute(FunctionContext context) {
+
+		if (!(context instanceof RegionFunctionContext)) {
+			throw new FunctionException(String.format("Function [%s] must be executed on the Session Region", ID));
+		}
+
+		if (!(context.getArguments() instanceof Collection)) {
+			throw new FunctionException(String.format("Function [%s] requires a Collection of principal names", ID));
+		}
+
+		RegionFunctionContext regionContext = (RegionFunctionContext) context;
+
+		Region<Object, Object> sessionsRegion = regionContext.getDataSet();
+
+		Set<String> principalNames = new HashSet<>((Collection<String>) context.getArguments());
+
+		Map<String, String> deletedSessions = new HashMap<>();
+
+		if (!principalNames.isEmpty()) {
+
+			List<Struct> sessions = findSessions(regionContext, sessionsRegion, principalNames).asList();
+
+			try {
+				for (Struct result : sessions) {
+
+					String sessionId = String.valueOf(result.get("id"));
+
+					try {
+						sessionsRegion.destroy(sessionId, SESSION_DELETED_CALLBACK_ARGUMENT);
+						deletedSessions.put(sessionId, (String) result.get("principalName"));
+					}
+					catch (EntryNotFoundException ignore) {
+						// Session was already removed
+					}
+				}
+			}
+			catch (RuntimeException cause) {
+
+				// Send the Sessions deleted before the failure so the caller can publish and unindex them
+				context.getResultSender().sendResult(deletedSessions);
+				context.getResultSender().sendException(new FunctionException(String.format(
+					"Failed to delete the Sessions of principals %s on member [%s]", principalNames,
+						context.getMemberName()), cause));
+
+				return;
+			}
+
+			getLogger().debug("Deleted [{}] Sessions of [{}] principals on member [{}]", deletedSessions.size(),
+				principalNames.size(), context.getMemberName());
+		}
+
+		context.getResultSender().lastResult(deletedSessions);
+	}
+
+	/**
+	 * Finds the {@link Session Sessions} of the given principals stored on this member.
+	 *
+	 * For a {@literal PARTITION} {@link Region}, the query runs only on the local primary buckets.
+	 *
+	 * @param regionContext {@link RegionFunctionContext} of this {@link Function} execution.
+	 * @param sessionsRegion {@link Session} {@link Region}.
+	 * @param principalNames {@link Set} of principal names.
+	 * @return the {@link SelectResults} containing the {@link Session#getId() ID} and principal name
+	 * of each {@link Session}.
+	 * @throws FunctionException if the query fails.
+	 */
+	@SuppressWarnings("unchecked")
+	protected SelectResults<Struct> findSessions(RegionFunctionContext regionContext,
+			Region<Object, Object> sessionsRegion, Set<String> principalNames) {
+
+		Query query = regionContext.getCache().getQueryService()
+			.newQuery(String.format(FIND_SESSIONS_BY_PRINCIPAL_NAMES_QUERY, sessionsRegion.getFullPath()));
+
+		Object[] parameters = { principalNames };
+
+		try {
+			return (SelectResults<Struct>) (PartitionRegionHelper.isPartitionedRegion(sessionsRegion)
+				? query.execute(regionContext, parameters)
+				: query.execute(parameters));
+		}
+		catch (Exception cause) {
+			throw new FunctionException(String.format("Failed to find the Sessions of principals %s in Region [%s]",
+				principalNames, sessionsRegion.getFullPath()), cause);
+		}
+	}
+}
@@ -0,0 +1,84 @@
+/*
+ * Copyright 2024 Broadcom. All rights reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.springframework.session.data.gemfire.support;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.geode.cache.execute.FunctionException;
+import org.apache.geode.cache.execute.ResultCollector;
+import org.apache.geode.distributed.DistributedMember;
+
+import org.springframework.lang.NonNull;
+import org.springframework.session.Session;
+
+/**
+ * {@link DeletedSessionsResultCollector} is an Apache Geode {@link ResultCollector} collecting the
+ * {@link Session Sessions} deleted by the {@link DeleteSessionsByPrincipalNameFunction} on each server.
+ *
+ * The deleted {@link Session Sessions} are kept as each result arrives, so when the {@link Session Sessions}
+ * on one server fail to be deleted, the {@link Session Sessions} already deleted on the other servers, and
+ * on the failed server before it failed, are still known.  Failures sent as results are collected as well.
+ *
+ * @author John Blum
+ * @see DeleteSessionsByPrincipalNameFunction
+ * @see ResultCollector
+ * @since 1.0.0
+ */
+public class DeletedSessionsResultCollector implements ResultCollector<Object, Map<String, String>> {
+
+	private final List<Throwable> failures = new ArrayList<>();
+
+	private final Map<String, String> deletedSessions = new HashMap<>();
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public synchronized void addResult(DistributedMember member, Object result) {
+
+		if (result instanceof Map) {
+			this.deletedSessions.putAll((Map<String, String>) result);
+		}
+		else if (result instanceof Throwable) {
+			this.failures.add((Throwable) result);
+		}
+	}
+
+	@Override
+	public void endResults() { }
+
+	@Override
+	public synchronized void clearResults() {
+		this.deletedSessions.clear();
+		this.failures.clear();
+	}
+
+	/**
+	 * Returns the failures sent as results by the servers.
+	 *
+	 * @return a {@link List} of the failures sent as results.
+	 */
+	public synchronized @NonNull List<Throwable> getFailures() {
+		return Collections.unmodifiableList(new ArrayList<>(this.failures));
+	}
+
+	/**
+	 * Returns the {@link Session Sessions} deleted so far.
+	 *
+	 * @return a {@link Map} of the deleted {@link Session#getId() Session IDs} to principal names.
+	 */
+	@Override
+	public synchronized @NonNull Map<String, String> getResult() {
+		return Collections.unmodifiableMap(new HashMap<>(this.deletedSessions));
+	}
+
+	@Override
+	public Map<String, String> getResult(long timeout, TimeUnit unit) throws FunctionException {
+		return getResult();
+	}
+}
@@ -11,9 +11,13 @@ import org.apache.geode.cache.Cache;
 import org.apache.geode.cache.DataPolicy;
 import org.apache.geode.cache.Region;
 import org.apache.geode.cache.RegionAttributes;
+import org.apache.geode.cache.RegionService;
 import org.apache.geode.cache.RegionShortcut;
 import org.apache.geode.cache.client.ClientCache;
 import org.apache.geode.cache.client.ClientRegionShortcut;
+import org.apache.geode.cache.client.Pool;
+import org.apache.geode.cache.client.PoolManager;
+import org.apache.geode.cache.query.QueryService;
 import org.springframework.lang.Nullable;
 import org.springframework.util.ReflectionUtils;
 import org.springframework.util.StringUtils;
@@ -164,4 +168,43 @@ public abstract class GemFireUtils {
 				return false;
 		}
 	}
+
+	/**
+	 * Resolves the {@link QueryService} used to query the given {@link Region}.
+	 *
+	 * Resolution follows {@link org.springframework.data.gemfire.GemfireTemplate}: a client {@link Region}
+	 * with a {@link Pool} or server proxy is queried on the servers using the {@link Pool Pool's}
+	 * {@link QueryService}, a local-only client {@link Region} is queried with the local {@link QueryService},
+	 * and a peer {@link Region} is queried with the {@link RegionService RegionService's} {@link QueryService}.
+	 *
+	 * @param region {@link Region} to query.
+	 * @return the resolved {@link QueryService}, or {@literal null} if the {@link Region} is {@literal null}
+	 * or has no {@link RegionService}.
+	 * @see QueryService
+	 * @see Region
+	 */
+	public static @Nullable QueryService resolveQueryService(@Nullable Region<?, ?> region) {
+
+		RegionService regionService = region != null ? region.getRegionService() : null;
+
+		if (regionService instanceof ClientCache) {
+
+			ClientCache clientCache = (ClientCache) regionService;
+
+			if (isPoolConfiguredOrHasServerProxy(region)) {
+
+				Pool pool = Optional.ofNullable(region.getAttributes())
+					.map(RegionAttributes::getPoolName)
+					.filter(StringUtils::hasText)
+					.map(PoolManager::find)
+					.orElse(null);
+
+				return pool != null ? pool.getQueryService() : clientCache.getQueryService();
+			}
+
+			return clientCache.getLocalQueryService();
+		}
+
+		return regionService != null ? regionService.getQueryService() : null;
+	}
 }
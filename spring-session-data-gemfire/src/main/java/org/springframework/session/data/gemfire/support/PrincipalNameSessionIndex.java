@@ -0,0 +1,261 @@
+/*
+ * Copyright 2024 Broadcom. All rights reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.springframework.session.data.gemfire.support;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+import org.apache.geode.cache.Region;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+import org.springframework.session.Session;
+import org.springframework.util.Assert;
+import org.springframework.util.StringUtils;
+
+/**
+ * {@link PrincipalNameSessionIndex} maintains a secondary mapping of principal names to the
+ * {@link Session#getId() IDs} of the {@link Session Sessions} owned by each principal in a dedicated {@link Region}.
+ *
+ * Finding the {@link Session Sessions} of a principal is then a single {@link Region#get(Object) get}
+ * of the {@link Session} IDs, followed by a {@link Region#getAll(java.util.Collection) getAll} of exactly
+ * those {@link Session Sessions}, rather than an OQL query over the whole {@link Session} {@link Region}.
+ *
+ * The mapping is updated with atomic {@link Region#putIfAbsent(Object, Object) putIfAbsent},
+ * {@link Region#replace(Object, Object, Object) replace} and {@link Region#remove(Object, Object) remove}
+ * operations, retried on contention, so concurrent updates from multiple application nodes are not lost.
+ * The {@link Region} must not cache the mapping on the client, i.e. it is a {@literal PROXY}, since the atomic
+ * operations are checked on the servers against the current mapping and would never succeed with a stale copy.
+ * Each node remembers the principal name it last indexed for a {@link Session} to avoid updating the mapping
+ * when the principal has not changed.  {@link Session Sessions} destroyed or expired in the {@link Session}
+ * {@link Region} are removed by the {@link Session} event handler.  Entries left stale otherwise, for example
+ * by events not delivered to any application node, are removed when detected by a lookup, including entries
+ * of expired {@link Session Sessions}.
+ *
+ * @author John Blum
+ * @see Region
+ * @see Session
+ * @since 1.0.0
+ */
+public class PrincipalNameSessionIndex {
+
+	public static final int DEFAULT_INDEXED_SESSION_CACHE_SIZE = 10000;
+
+	public static final String REGION_NAME_SUFFIX = "ByPrincipalName";
+
+	protected static final int MAX_UPDATE_ATTEMPTS = 32;
+
+	private final Logger logger = LoggerFactory.getLogger(getClass());
+
+	private final Map<String, String> indexedPrincipalNames;
+
+	private final Region<String, Set<String>> principalNameRegion;
+
+	/**
+	 * Returns the name of the {@link Region} used to map principal names to {@link Session} IDs
+	 * for the given {@link Session} {@link Region}.
+	 *
+	 * @param sessionRegionName {@link String} containing the name of the {@link Session} {@link Region}.
+	 * @return the name of the principal name {@link Region}.
+	 */
+	public static @NonNull String toRegionName(@NonNull String sessionRegionName) {
+		return sessionRegionName + REGION_NAME_SUFFIX;
+	}
+
+	/**
+	 * Constructs a new instance of {@link PrincipalNameSessionIndex}.
+	 *
+	 * @param principalNameRegion {@link Region} mapping principal names to {@link Session} IDs;
+	 * must not be {@literal null}.
+	 * @throws IllegalArgumentException if the {@link Region} is {@literal null}.
+	 */
+	public PrincipalNameSessionIndex(@NonNull Region<String, Set<String>> principalNameRegion) {
+
+		Assert.notNull(principalNameRegion, "Region is required");
+
+		this.principalNameRegion = principalNameRegion;
+		this.indexedPrincipalNames = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<String, String> eldest) {
+				return size() > DEFAULT_INDEXED_SESSION_CACHE_SIZE;
+			}
+		});
+	}
+
+	protected Logger getLogger() {
+		return this.logger;
+	}
+
+	protected Region<String, Set<String>> getPrincipalNameRegion() {
+		return this.principalNameRegion;
+	}
+
+	/**
+	 * Returns the {@link Session} IDs mapped to the given principal name.
+	 *
+	 * @param principalName {@link String} containing the principal name.
+	 * @return an unmodifiable {@link Set} of {@link Session} IDs; never {@literal null}.
+	 */
+	public @NonNull Set<String> getSessionIds(@Nullable String principalName) {
+
+		Set<String> sessionIds = StringUtils.hasText(principalName)
+			? getPrincipalNameRegion().get(principalName)
+			: null;
+
+		return sessionIds != null
+			? Collections.unmodifiableSet(new HashSet<>(sessionIds))
+			: Collections.emptySet();
+	}
+
+	/**
+	 * Indexes the {@link Session} with the given ID under the given principal name, removing it from
+	 * the principal name under which it was previously indexed by this node, if the principal name changed.
+	 *
+	 * @param sessionId {@link String} containing the {@link Session#getId() ID} of the {@link Session}.
+	 * @param principalName {@link String} containing the principal name; may be {@literal null}.
+	 */
+	public void index(@NonNull String sessionId, @Nullable String principalName) {
+
+		String indexedPrincipalName = this.indexedPrincipalNames.get(sessionId);
+
+		if (!Objects.equals(indexedPrincipalName, principalName)) {
+
+			if (StringUtils.hasText(principalName)) {
+				add(principalName, sessionId);
+				this.indexedPrincipalNames.put(sessionId, principalName);
+			}
+			else {
+				this.indexedPrincipalNames.remove(sessionId);
+			}
+
+			if (StringUtils.hasText(indexedPrincipalName)) {
+				remove(indexedPrincipalName, sessionId);
+			}
+		}
+	}
+
+	/**
+	 * Removes the {@link Session} with the given ID from the given principal name.
+	 *
+	 * @param sessionId {@link String} containing the {@link Session#getId() ID} of the {@link Session}.
+	 * @param principalName {@link String} containing the principal name; may be {@literal null}.
+	 */
+	public void unindex(@NonNull String sessionId, @Nullable String principalName) {
+
+		String indexedPrincipalName = this.indexedPrincipalNames.remove(sessionId);
+
+		if (StringUtils.hasText(principalName)) {
+			remove(principalName, sessionId);
+		}
+
+		if (StringUtils.hasText(indexedPrincipalName) && !indexedPrincipalName.equals(principalName)) {
+			remove(indexedPrincipalName, sessionId);
+		}
+	}
+
+	/**
+	 * Removes a stale mapping of the given principal name to the {@link Session} with the given ID,
+	 * detected by a lookup when the {@link Session} no longer exists or belongs to another principal.
+	 *
+	 * @param sessionId {@link String} containing the {@link Session#getId() ID} of the {@link Session}.
+	 * @param principalName {@link String} containing the principal name.
+	 */
+	public void evict(@NonNull String sessionId, @NonNull String principalName) {
+
+		this.indexedPrincipalNames.remove(sessionId, principalName);
+
+		remove(principalName, sessionId);
+	}
+
+	/**
+	 * Adds the {@link Session} ID to the {@link Set} of {@link Session} IDs mapped to the principal name.
+	 *
+	 * @param principalName {@link String} containing the principal name.
+	 * @param sessionId {@link String} containing the {@link Session#getId() ID} of the {@link Session}.
+	 * @return a boolean value indicating whether the mapping was updated.
+	 */
+	protected boolean add(@NonNull String principalName, @NonNull String sessionId) {
+
+		Region<String, Set<String>> region = getPrincipalNameRegion();
+
+		for (int attempt = 0; attempt < MAX_UPDATE_ATTEMPTS; attempt++) {
+
+			Set<String> sessionIds = region.get(principalName);
+
+			if (sessionIds == null) {
+				if (region.putIfAbsent(principalName, newSessionIds(Collections.emptySet(), sessionId)) == null) {
+					return true;
+				}
+			}
+			else if (sessionIds.contains(sessionId)) {
+				return false;
+			}
+			else if (region.replace(principalName, sessionIds, newSessionIds(sessionIds, sessionId))) {
+				return true;
+			}
+		}
+
+		getLogger().warn("Failed to index Session [{}] for principal [{}] after [{}] attempts",
+			sessionId, principalName, MAX_UPDATE_ATTEMPTS);
+
+		return false;
+	}
+
+	/**
+	 * Removes the {@link Session} ID from the {@link Set} of {@link Session} IDs mapped to the principal name,
+	 * removing the mapping when no {@link Session} IDs remain.
+	 *
+	 * @param principalName {@link String} containing the principal name.
+	 * @param sessionId {@link String} containing the {@link Session#getId() ID} of the {@link Session}.
+	 * @return a boolean value indicating whether the mapping was updated.
+	 */
+	protected boolean remove(@NonNull String principalName, @NonNull String sessionId) {
+
+		Region<String, Set<String>> region = getPrincipalNameRegion();
+
+		for (int attempt = 0; attempt < MAX_UPDATE_ATTEMPTS; attempt++) {
+
+			Set<String> sessionIds = region.get(principalName);
+
+			if (sessionIds == null || !sessionIds.contains(sessionId)) {
+				return false;
+			}
+
+			Set<String> remainingSessionIds = new HashSet<>(sessionIds);
+
+			remainingSessionIds.remove(sessionId);
+
+			boolean updated = remainingSessionIds.isEmpty()
+				? region.remove(principalName, sessionIds)
+				: region.replace(principalName, sessionIds, remainingSessionIds);
+
+			if (updated) {
+				return true;
+			}
+		}
+
+		getLogger().warn("Failed to unindex Session [{}] for principal [{}] after [{}] attempts",
+			sessionId, principalName, MAX_UPDATE_ATTEMPTS);
+
+		return false;
+	}
+
+	private Set<String> newSessionIds(Set<String> sessionIds, String sessionId) {
+
+		Set<String> newSessionIds = new HashSet<>(sessionIds);
+
+		newSessionIds.add(sessionId);
+
+		return newSessionIds;
+	}
+}
@@ -0,0 +1,235 @@
+/*
+ * Copyright 2024 Broadcom. All rights reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.springframework.session.data.gemfire.support;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+import org.apache.geode.cache.query.Query;
+import org.apache.geode.cache.query.QueryException;
+import org.apache.geode.cache.query.QueryService;
+import org.apache.geode.cache.query.SelectResults;
+
+import org.springframework.dao.InvalidDataAccessApiUsageException;
+import org.springframework.data.gemfire.GemfireQueryException;
+import org.springframework.lang.NonNull;
+import org.springframework.util.Assert;
+
+/**
+ * {@link QueryCache} is a bounded, least recently used (LRU) cache of compiled OQL {@link Query Queries}.
+ *
+ * {@link Query Queries} are cached by key, so the OQL statement is only built and compiled once per key,
+ * and are executed with bind parameters.  {@link QueryCache} records the number of cache hits, misses
+ * and evictions along with the time spent compiling and executing {@link Query Queries}.
+ *
+ * @author John Blum
+ * @see Query
+ * @see QueryService#newQuery(String)
+ * @since 1.0.0
+ */
+public class QueryCache {
+
+	public static final int DEFAULT_MAXIMUM_SIZE = 128;
+
+	private final int maximumSize;
+
+	private final LongAdder compileTimeNanos = new LongAdder();
+	private final LongAdder evictionCount = new LongAdder();
+	private final LongAdder executionCount = new LongAdder();
+	private final LongAdder executionTimeNanos = new LongAdder();
+	private final LongAdder hitCount = new LongAdder();
+	private final LongAdder missCount = new LongAdder();
+
+	private final Map<String, Query> queries;
+
+	private final QueryService queryService;
+
+	/**
+	 * Constructs a new instance of {@link QueryCache} using the {@link #DEFAULT_MAXIMUM_SIZE}.
+	 *
+	 * @param queryService {@link QueryService} used to compile {@link Query Queries}; must not be {@literal null}.
+	 * @throws IllegalArgumentException if the {@link QueryService} is {@literal null}.
+	 */
+	public QueryCache(@NonNull QueryService queryService) {
+		this(queryService, DEFAULT_MAXIMUM_SIZE);
+	}
+
+	/**
+	 * Constructs a new instance of {@link QueryCache} initialized with the given {@link QueryService}
+	 * and maximum number of cached {@link Query Queries}.
+	 *
+	 * @param queryService {@link QueryService} used to compile {@link Query Queries}; must not be {@literal null}.
+	 * @param maximumSize maximum number of cached {@link Query Queries}; must be greater than {@literal 0}.
+	 * @throws IllegalArgumentException if the {@link QueryService} is {@literal null}
+	 * or the maximum size is less than {@literal 1}.
+	 */
+	public QueryCache(@NonNull QueryService queryService, int maximumSize) {
+
+		Assert.notNull(queryService, "QueryService is required");
+		Assert.isTrue(maximumSize > 0, () -> String.format("Maximum size [%d] must be greater than 0", maximumSize));
+
+		this.queryService = queryService;
+		this.maximumSize = maximumSize;
+		this.queries = new LinkedHashMap<>(16, 0.75f, true) {
+
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<String, Query> eldest) {
+
+				boolean evict = size() > QueryCache.this.maximumSize;
+
+				if (evict) {
+					QueryCache.this.evictionCount.increment();
+				}
+
+				return evict;
+			}
+		};
+	}
+
+	public int getMaximumSize() {
+		return this.maximumSize;
+	}
+
+	protected QueryService getQueryService() {
+		return this.queryService;
+	}
+
+	public long getCompileTimeNanos() {
+		return this.compileTimeNanos.sum();
+	}
+
+	public long getEvictionCount() {
+		return this.evictionCount.sum();
+	}
+
+	public long getExecutionCount() {
+		return this.executionCount.sum();
+	}
+
+	public long getExecutionTimeNanos() {
+		return this.executionTimeNanos.sum();
+	}
+
+	public long getHitCount() {
+		return this.hitCount.sum();
+	}
+
+	public long getMissCount() {
+		return this.missCount.sum();
+	}
+
+	public synchronized int size() {
+		return this.queries.size();
+	}
+
+	/**
+	 * Returns the compiled {@link Query} cached with the given key, compiling the OQL statement
+	 * from the given {@link Supplier} if the {@link Query} is not cached.
+	 *
+	 * @param key {@link String} identifying the {@link Query}; must not be {@literal null}.
+	 * @param queryString {@link Supplier} of the OQL statement; only called on a cache miss.
+	 * @return the compiled {@link Query}.
+	 * @see QueryService#newQuery(String)
+	 */
+	@NonNull
+	public Query getQuery(@NonNull String key, @NonNull Supplier<String> queryString) {
+
+		synchronized (this) {
+
+			Query query = this.queries.get(key);
+
+			if (query != null) {
+				this.hitCount.increment();
+				return query;
+			}
+		}
+
+		this.missCount.increment();
+
+		long startTime = System.nanoTime();
+
+		Query query;
+
+		try {
+			query = getQueryService().newQuery(queryString.get());
+		}
+		catch (RuntimeException cause) {
+			throw new GemfireQueryException(String.format("Failed to compile query [%s]", key), cause);
+		}
+		finally {
+			this.compileTimeNanos.add(System.nanoTime() - startTime);
+		}
+
+		synchronized (this) {
+
+			Query existingQuery = this.queries.putIfAbsent(key, query);
+
+			return existingQuery != null ? existingQuery : query;
+		}
+	}
+
+	/**
+	 * Executes the compiled {@link Query} cached with the given key using the given bind parameters.
+	 *
+	 * @param <T> {@link Class type} of the query results.
+	 * @param key {@link String} identifying the {@link Query}; must not be {@literal null}.
+	 * @param queryString {@link Supplier} of the OQL statement; only called on a cache miss.
+	 * @param parameters array of bind parameters.
+	 * @return the {@link SelectResults} of the {@link Query}.
+	 * @throws GemfireQueryException if the {@link Query} fails.
+	 * @throws InvalidDataAccessApiUsageException if the {@link Query} is not a {@literal SELECT} statement.
+	 * @see #getQuery(String, Supplier)
+	 */
+	@NonNull
+	@SuppressWarnings("unchecked")
+	public <T> SelectResults<T> execute(@NonNull String key, @NonNull Supplier<String> queryString,
+			Object... parameters) {
+
+		Query query = getQuery(key, queryString);
+
+		long startTime = System.nanoTime();
+
+		Object results;
+
+		try {
+			results = query.execute(parameters);
+		}
+		catch (QueryException cause) {
+			throw new GemfireQueryException(cause);
+		}
+		catch (RuntimeException cause) {
+			throw new GemfireQueryException(String.format("Failed to execute query [%s]", key), cause);
+		}
+		finally {
+			this.executionCount.increment();
+			this.executionTimeNanos.add(System.nanoTime() - startTime);
+		}
+
+		if (results instanceof SelectResults) {
+			return (SelectResults<T>) results;
+		}
+
+		throw new InvalidDataAccessApiUsageException(String.format("Result [%s] from query [%s] is not a SelectResults",
+			results, query.getQueryString()));
+	}
+
+	/**
+	 * Removes all cached {@link Query Queries}.
+	 */
+	public synchronized void clear() {
+		this.queries.clear();
+	}
+
+	@Override
+	public String toString() {
+
+		return String.format("%s{size = %d, hits = %d, misses = %d, evictions = %d, compileTimeNanos = %d,"
+			+ " executions = %d, executionTimeNanos = %d}", getClass().getSimpleName(), size(),
+				getHitCount(), getMissCount(), getEvictionCount(), getCompileTimeNanos(), getExecutionCount(),
+				getExecutionTimeNanos());
+	}
+}
@@ -0,0 +1,144 @@
+/*
+ * Copyright 2024 Broadcom. All rights reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.springframework.session.data.gemfire.support;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collections;
+import java.util.Set;
+
+import org.springframework.lang.NonNull;
+import org.springframework.session.Session;
+import org.springframework.util.Assert;
+
+/**
+ * {@link ReadOnlySession} is a read-only view of a {@link Session} used for administrative lookups.
+ *
+ * A {@link ReadOnlySession} is never touched, is never dirty and cannot be modified, so looking up
+ * {@link Session Sessions} neither extends their lifetime nor causes them to be written back when saved.
+ * All mutating operations throw an {@link UnsupportedOperationException}.
+ *
+ * @author John Blum
+ * @see AbstractSession
+ * @see Session
+ * @since 1.0.0
+ */
+public class ReadOnlySession extends AbstractSession {
+
+	protected static final String READ_ONLY_SESSION_EXCEPTION_MESSAGE = "Session [%s] is read-only";
+
+	/**
+	 * Factory method used to construct a new {@link ReadOnlySession} viewing the given {@link Session}.
+	 *
+	 * @param session {@link Session} to view; must not be {@literal null}.
+	 * @return a {@link ReadOnlySession} viewing the given {@link Session}, or the given {@link Session}
+	 * if it is already a {@link ReadOnlySession}.
+	 * @throws IllegalArgumentException if the {@link Session} is {@literal null}.
+	 */
+	public static @NonNull ReadOnlySession from(@NonNull Session session) {
+
+		return session instanceof ReadOnlySession
+			? (ReadOnlySession) session
+			: new ReadOnlySession(session);
+	}
+
+	private final Session session;
+
+	/**
+	 * Constructs a new instance of {@link ReadOnlySession} viewing the given {@link Session}.
+	 *
+	 * @param session {@link Session} to view; must not be {@literal null}.
+	 * @throws IllegalArgumentException if the {@link Session} is {@literal null}.
+	 */
+	protected ReadOnlySession(@NonNull Session session) {
+
+		Assert.notNull(session, "Session is required");
+
+		this.session = session;
+	}
+
+	protected @NonNull Session getSession() {
+		return this.session;
+	}
+
+	@Override
+	public String getId() {
+		return getSession().getId();
+	}
+
+	@Override
+	public <T> T getAttribute(String attributeName) {
+		return getSession().getAttribute(attributeName);
+	}
+
+	@Override
+	public <T> T getAttributeOrDefault(String name, T defaultValue) {
+		return getSession().getAttributeOrDefault(name, defaultValue);
+	}
+
+	@Override
+	public <T> T getRequiredAttribute(String name) {
+		return getSession().getRequiredAttribute(name);
+	}
+
+	@Override
+	public Set<String> getAttributeNames() {
+		return Collections.unmodifiableSet(getSession().getAttributeNames());
+	}
+
+	@Override
+	public boolean isExpired() {
+		return getSession().isExpired();
+	}
+
+	@Override
+	public Instant getCreationTime() {
+		return getSession().getCreationTime();
+	}
+
+	@Override
+	public Instant getLastAccessedTime() {
+		return getSession().getLastAccessedTime();
+	}
+
+	@Override
+	public Duration getMaxInactiveInterval() {
+		return getSession().getMaxInactiveInterval();
+	}
+
+	@Override
+	public String changeSessionId() {
+		throw newReadOnlySessionException();
+	}
+
+	@Override
+	public void removeAttribute(String attributeName) {
+		throw newReadOnlySessionException();
+	}
+
+	@Override
+	public void setAttribute(String attributeName, Object attributeValue) {
+		throw newReadOnlySessionException();
+	}
+
+	@Override
+	public void setLastAccessedTime(Instant lastAccessedTime) {
+		throw newReadOnlySessionException();
+	}
+
+	@Override
+	public void setMaxInactiveInterval(Duration interval) {
+		throw newReadOnlySessionException();
+	}
+
+	private UnsupportedOperationException newReadOnlySessionException() {
+		return new UnsupportedOperationException(String.format(READ_ONLY_SESSION_EXCEPTION_MESSAGE, getId()));
+	}
+
+	@Override
+	public String toString() {
+		return String.format("%s{ %s }", getClass().getSimpleName(), getSession());
+	}
+}
@@ -0,0 +1,87 @@
+/*
+ * Copyright 2024 Broadcom. All rights reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.springframework.session.data.gemfire.support;
+
+import java.util.UUID;
+import java.util.function.Supplier;
+
+import org.apache.geode.cache.Region;
+
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+import org.springframework.session.Session;
+import org.springframework.session.SessionIdGenerator;
+import org.springframework.util.Assert;
+import org.springframework.util.StringUtils;
+
+/**
+ * {@link RoutingKeySessionIdGenerator} is a {@link SessionIdGenerator} embedding a routing key, such as a user
+ * or tenant ID, in the {@link Session#getId() Session ID} as {@literal <routingKey>:<uuid>}.
+ *
+ * Together with the {@link SessionIdPartitionResolver}, the {@link Session} is stored in the same bucket,
+ * and therefore on the same server, as the entries in {@literal colocated-with} {@link Region Regions}
+ * keyed by, or prefixed with, the same routing key.  When the {@link Supplier} returns no routing key,
+ * a plain {@link UUID} is generated.
+ *
+ * @author John Blum
+ * @see SessionIdGenerator
+ * @see SessionIdPartitionResolver
+ * @since 1.0.0
+ */
+public class RoutingKeySessionIdGenerator implements SessionIdGenerator {
+
+	public static final String ROUTING_KEY_SEPARATOR = ":";
+
+	private final Supplier<String> routingKeySupplier;
+
+	/**
+	 * Constructs a new instance of {@link RoutingKeySessionIdGenerator}.
+	 *
+	 * @param routingKeySupplier {@link Supplier} of the routing key of the new {@link Session};
+	 * must not be {@literal null}.
+	 * @throws IllegalArgumentException if the {@link Supplier} is {@literal null}.
+	 */
+	public RoutingKeySessionIdGenerator(@NonNull Supplier<String> routingKeySupplier) {
+
+		Assert.notNull(routingKeySupplier, "Routing key Supplier is required");
+
+		this.routingKeySupplier = routingKeySupplier;
+	}
+
+	/**
+	 * Returns the routing key embedded in the given {@link Session#getId() Session ID}.
+	 *
+	 * @param sessionId {@link String} containing the {@link Session#getId() Session ID}.
+	 * @return the routing key, or {@literal null} if the {@link Session#getId() Session ID} has no routing key.
+	 */
+	public static @Nullable String getRoutingKey(@Nullable String sessionId) {
+
+		int index = sessionId != null ? sessionId.indexOf(ROUTING_KEY_SEPARATOR) : -1;
+
+		return index > -1 ? sessionId.substring(0, index) : null;
+	}
+
+	protected Supplier<String> getRoutingKeySupplier() {
+		return this.routingKeySupplier;
+	}
+
+	@Override
+	public @NonNull String generate() {
+
+		String id = UUID.randomUUID().toString();
+		String routingKey = getRoutingKeySupplier().get();
+
+		if (StringUtils.hasText(routingKey)) {
+
+			Assert.isTrue(!routingKey.contains(ROUTING_KEY_SEPARATOR) && !routingKey.contains("."),
+				() -> String.format("Routing key [%s] must not contain '%s' or '.'",
+					routingKey, ROUTING_KEY_SEPARATOR));
+
+			return routingKey + ROUTING_KEY_SEPARATOR + id;
+		}
+
+		return id;
+	}
+}
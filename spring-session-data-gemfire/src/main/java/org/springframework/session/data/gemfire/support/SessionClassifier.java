@@ -0,0 +1,85 @@
+/*
+ * Copyright 2024 Broadcom. All rights reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.springframework.session.data.gemfire.support;
+
+import org.apache.geode.cache.Region;
+
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+import org.springframework.session.FindByIndexNameSessionRepository;
+import org.springframework.session.Session;
+import org.springframework.util.Assert;
+import org.springframework.util.StringUtils;
+
+/**
+ * {@link SessionClassifier} is a strategy interface used to classify a {@link Session}, for example by tenant
+ * or by whether the {@link Session} is authenticated, into the name of the route, or {@link Region}, in which
+ * the {@link Session} is stored.
+ *
+ * @author John Blum
+ * @see Session
+ * @see org.springframework.session.data.gemfire.RoutingGemFireOperationsSessionRepository
+ * @since 1.0.0
+ */
+@FunctionalInterface
+public interface SessionClassifier {
+
+	String SPRING_SECURITY_CONTEXT = "SPRING_SECURITY_CONTEXT";
+
+	/**
+	 * Classifies the given {@link Session}.
+	 *
+	 * @param session {@link Session} to classify.
+	 * @return the {@link String name} of the route of the {@link Session}, or {@literal null}
+	 * to use the default route.
+	 */
+	@Nullable String classify(@NonNull Session session);
+
+	/**
+	 * Returns a {@link SessionClassifier} classifying {@link Session Sessions} by the {@link String value}
+	 * of the named {@link Session} attribute, such as a tenant ID.
+	 *
+	 * @param attributeName {@link String} containing the name of the {@link Session} attribute;
+	 * must not be {@literal null} or empty.
+	 * @return a {@link SessionClassifier} classifying {@link Session Sessions} by attribute value.
+	 * @throws IllegalArgumentException if the attribute name is not set.
+	 */
+	static @NonNull SessionClassifier byAttribute(@NonNull String attributeName) {
+
+		Assert.hasText(attributeName, "Session attribute name is required");
+
+		return session -> {
+
+			Object attributeValue = session.getAttribute(attributeName);
+
+			return attributeValue != null ? String.valueOf(attributeValue) : null;
+		};
+	}
+
+	/**
+	 * Returns a {@link SessionClassifier} classifying {@link Session Sessions} as authenticated, when the
+	 * {@link Session} has a principal name or a Spring Security context, or as anonymous.
+	 *
+	 * @param authenticatedRoute {@link String} containing the route of authenticated {@link Session Sessions}.
+	 * @param anonymousRoute {@link String} containing the route of anonymous {@link Session Sessions}.
+	 * @return a {@link SessionClassifier} classifying authenticated and anonymous {@link Session Sessions}.
+	 * @throws IllegalArgumentException if either route is not set.
+	 */
+	static @NonNull SessionClassifier byAuthentication(@NonNull String authenticatedRoute,
+			@NonNull String anonymousRoute) {
+
+		Assert.hasText(authenticatedRoute, "Authenticated route is required");
+		Assert.hasText(anonymousRoute, "Anonymous route is required");
+
+		return session -> {
+
+			String principalName = session.getAttribute(FindByIndexNameSessionRepository.PRINCIPAL_NAME_INDEX_NAME);
+
+			return StringUtils.hasText(principalName) || session.getAttribute(SPRING_SECURITY_CONTEXT) != null
+				? authenticatedRoute
+				: anonymousRoute;
+		};
+	}
+}
@@ -0,0 +1,34 @@
+/*
+ * Copyright 2024 Broadcom. All rights reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.springframework.session.data.gemfire.support;
+
+import java.time.Clock;
+
+import org.springframework.lang.Nullable;
+import org.springframework.session.Session;
+
+/**
+ * The {@link SessionClockAware} interface is a configuration callback interface allowing implementors to receive
+ * the {@link Clock} used to touch and expire {@link Session Sessions}.
+ *
+ * Implementors compare times as primitive {@literal long} milliseconds read from {@link Clock#millis()} and use
+ * the {@link Clock#systemUTC() system clock} until a {@link Clock} is set.
+ *
+ * @author John Blum
+ * @see Clock
+ * @see CachedMillisecondClock
+ * @since 1.0.0
+ */
+public interface SessionClockAware {
+
+	/**
+	 * Configures the {@link Clock} used to touch and expire {@link Session Sessions}.
+	 *
+	 * @param clock {@link Clock} to use; the {@link Clock#systemUTC() system clock} is used if {@literal null}.
+	 * @see Clock
+	 */
+	void setClock(@Nullable Clock clock);
+
+}
@@ -0,0 +1,64 @@
+/*
+ * Copyright 2024 Broadcom. All rights reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.springframework.session.data.gemfire.support;
+
+import java.time.Clock;
+
+import org.springframework.beans.BeansException;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+import org.springframework.session.Session;
+import org.springframework.util.Assert;
+
+/**
+ * The {@link SessionClockAwareBeanPostProcessor} class is a Spring {@link BeanPostProcessor} configuring
+ * the {@link Clock} used to touch and expire {@link Session Sessions} on all Spring beans defined in
+ * the Spring container implementing the {@link SessionClockAware} interface.
+ *
+ * @author John Blum
+ * @see BeanPostProcessor
+ * @see Clock
+ * @see SessionClockAware
+ * @since 1.0.0
+ */
+public class SessionClockAwareBeanPostProcessor implements BeanPostProcessor {
+
+	private final Clock clock;
+
+	/**
+	 * Constructs a new {@link SessionClockAwareBeanPostProcessor} initialized with the given {@link Clock}.
+	 *
+	 * @param clock {@link Clock} used to touch and expire {@link Session Sessions}.
+	 * @throws IllegalArgumentException if {@link Clock} is {@literal null}.
+	 * @see Clock
+	 */
+	public SessionClockAwareBeanPostProcessor(@NonNull Clock clock) {
+
+		Assert.notNull(clock, "Clock is required");
+
+		this.clock = clock;
+	}
+
+	/**
+	 * Returns the configured {@link Clock} used to touch and expire {@link Session Sessions}.
+	 *
+	 * @return the configured {@link Clock}.
+	 * @see Clock
+	 */
+	protected @NonNull Clock getClock() {
+		return this.clock;
+	}
+
+	@Nullable @Override
+	public Object postProcessBeforeInitialization(Object bean, String beanName) throws BeansException {
+
+		if (bean instanceof SessionClockAware) {
+			((SessionClockAware) bean).setClock(getClock());
+		}
+
+		return bean;
+	}
+}
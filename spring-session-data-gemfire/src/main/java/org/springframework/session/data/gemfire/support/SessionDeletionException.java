@@ -0,0 +1,54 @@
+/*
+ * Copyright 2024 Broadcom. All rights reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.springframework.session.data.gemfire.support;
+
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+import org.springframework.session.Session;
+
+/**
+ * {@link SessionDeletionException} is a {@link RuntimeException} thrown when deleting {@link Session Sessions}
+ * in bulk fails part way, carrying the {@link Session#getId() IDs} of the {@link Session Sessions}
+ * that were deleted before the failure.
+ *
+ * @author John Blum
+ * @see RuntimeException
+ * @since 1.0.0
+ */
+public class SessionDeletionException extends RuntimeException {
+
+	private final Set<String> deletedSessionIds;
+
+	/**
+	 * Constructs a new instance of {@link SessionDeletionException}.
+	 *
+	 * @param message {@link String} describing the failure.
+	 * @param cause {@link Throwable} causing the failure.
+	 * @param deletedSessionIds {@link Set} of the {@link Session#getId() IDs} of the {@link Session Sessions}
+	 * deleted before the failure.
+	 */
+	public SessionDeletionException(String message, @Nullable Throwable cause,
+			@Nullable Set<String> deletedSessionIds) {
+
+		super(message, cause);
+
+		this.deletedSessionIds = deletedSessionIds != null
+			? Collections.unmodifiableSet(new LinkedHashSet<>(deletedSessionIds))
+			: Collections.emptySet();
+	}
+
+	/**
+	 * Returns the {@link Session#getId() IDs} of the {@link Session Sessions} deleted before the failure.
+	 *
+	 * @return a {@link Set} of the {@link Session#getId() IDs} of the deleted {@link Session Sessions}.
+	 */
+	public @NonNull Set<String> getDeletedSessionIds() {
+		return this.deletedSessionIds;
+	}
+}
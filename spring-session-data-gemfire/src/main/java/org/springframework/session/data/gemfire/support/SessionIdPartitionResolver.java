@@ -0,0 +1,65 @@
+/*
+ * Copyright 2024 Broadcom. All rights reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.springframework.session.data.gemfire.support;
+
+import org.apache.geode.cache.Declarable;
+import org.apache.geode.cache.EntryOperation;
+import org.apache.geode.cache.PartitionResolver;
+import org.apache.geode.cache.Region;
+
+import org.springframework.session.Session;
+
+/**
+ * {@link SessionIdPartitionResolver} is an Apache Geode {@link PartitionResolver} routing a {@link Session}
+ * by the routing key embedded in its {@link Session#getId() ID} by the {@link RoutingKeySessionIdGenerator}.
+ *
+ * For a {@link String} key containing {@literal :}, the routing object is the segment before the first {@literal :},
+ * without any {@literal route.} prefix added by the
+ * {@link org.springframework.session.data.gemfire.RoutingGemFireOperationsSessionRepository}.  Any other key is
+ * its own routing object, so a {@literal colocated-with} {@link Region} configured with this
+ * {@link PartitionResolver} and keyed by the routing key, or {@literal <routingKey>:<id>}, stores its entries
+ * in the same bucket as the {@link Session Sessions} with that routing key.
+ *
+ * The {@link PartitionResolver} must be on the classpath of the servers.
+ *
+ * @author John Blum
+ * @see PartitionResolver
+ * @see RoutingKeySessionIdGenerator
+ * @since 1.0.0
+ */
+public class SessionIdPartitionResolver implements PartitionResolver<Object, Object>, Declarable {
+
+	@Override
+	public String getName() {
+		return getClass().getName();
+	}
+
+	@Override
+	public Object getRoutingObject(EntryOperation<Object, Object> entryOperation) {
+
+		Object key = entryOperation.getKey();
+
+		return key instanceof String ? resolveRoutingObject((String) key) : key;
+	}
+
+	/**
+	 * Resolves the routing object of the given {@link String key}.
+	 *
+	 * @param key {@link String} containing the key of the entry.
+	 * @return the routing key embedded in the {@link String key}, or the {@link String key} itself.
+	 * @see RoutingKeySessionIdGenerator#getRoutingKey(String)
+	 */
+	protected Object resolveRoutingObject(String key) {
+
+		String routingKey = RoutingKeySessionIdGenerator.getRoutingKey(key);
+
+		return routingKey != null
+			? routingKey.substring(routingKey.lastIndexOf('.') + 1)
+			: key;
+	}
+
+	@Override
+	public void close() { }
+}
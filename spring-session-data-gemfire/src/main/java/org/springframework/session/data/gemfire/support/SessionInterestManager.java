@@ -0,0 +1,378 @@
+/*
+ * Copyright 2024 Broadcom. All rights reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.springframework.session.data.gemfire.support;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.LongSupplier;
+
+import org.apache.geode.cache.EntryEvent;
+import org.apache.geode.cache.EntryNotFoundException;
+import org.apache.geode.cache.InterestResultPolicy;
+import org.apache.geode.cache.Region;
+import org.apache.geode.cache.RegionAttributes;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+import org.springframework.session.Session;
+import org.springframework.util.Assert;
+
+/**
+ * {@link SessionInterestManager} registers key interest in the client {@link Session} {@link Region}
+ * only for the {@link Session Sessions} served by this application node.
+ *
+ * Interest is registered when a {@link Session} is first loaded or created on this node and unregistered
+ * when the {@link Session} is deleted, expires, or has not been accessed locally for the configured
+ * {@link #getInactivityTimeout() inactivity timeout}.  Registrations and unregistrations are batched
+ * and sent to the servers periodically, rather than one call per {@link Session}.
+ *
+ * As a result, each node only receives server events for the {@link Session Sessions} it actually serves,
+ * so client-side caching and {@link Session} events scale with the local, not global, {@link Session} count.
+ * Once interest in an inactive {@link Session} is unregistered, the client copy of the {@link Session} no longer
+ * receives updates and is {@link Region#localDestroy(Object, Object) destroyed locally} with
+ * the {@link #INTEREST_DROPPED_CALLBACK_ARGUMENT} callback argument, so it is not served stale.
+ *
+ * Session IDs whose registration or unregistration fails are queued again and retried on the next flush.
+ *
+ * @author John Blum
+ * @see Region#registerInterestForKeys(Iterable, InterestResultPolicy, boolean, boolean)
+ * @see Region#unregisterInterest(Object)
+ * @see Session
+ * @since 1.0.0
+ */
+public class SessionInterestManager implements AutoCloseable {
+
+	public static final boolean DEFAULT_DURABLE = false;
+	public static final boolean DEFAULT_RECEIVE_VALUES = true;
+
+	public static final Duration DEFAULT_FLUSH_INTERVAL = Duration.ofSeconds(1);
+
+	public static final InterestResultPolicy DEFAULT_INTEREST_RESULT_POLICY = InterestResultPolicy.NONE;
+
+	public static final String INTEREST_DROPPED_CALLBACK_ARGUMENT = "SessionInterestDropped";
+
+	protected static final String FLUSH_THREAD_NAME = "SessionInterestManagerThread";
+
+	private final AtomicBoolean started = new AtomicBoolean(false);
+
+	private final boolean durable;
+	private final boolean receiveValues;
+
+	private final Duration flushInterval;
+	private final Duration inactivityTimeout;
+
+	private volatile LongSupplier currentTimeMillis = System::currentTimeMillis;
+
+	private final Logger logger = LoggerFactory.getLogger(getClass());
+
+	private final Map<String, Long> interestingSessionIds = new ConcurrentHashMap<>();
+
+	private final Region<Object, Session> sessionsRegion;
+
+	private final Set<String> inactiveSessionIds = ConcurrentHashMap.newKeySet();
+	private final Set<String> pendingRegistrations = ConcurrentHashMap.newKeySet();
+	private final Set<String> pendingUnregistrations = ConcurrentHashMap.newKeySet();
+
+	private volatile ScheduledExecutorService flushScheduler;
+
+	/**
+	 * Determines whether the given {@link EntryEvent} is the local destroy of the client copy of
+	 * an inactive {@link Session} after interest in the {@link Session} was unregistered.
+	 *
+	 * @param event {@link EntryEvent} to evaluate.
+	 * @return a boolean value indicating whether the {@link EntryEvent} was caused by dropping interest.
+	 * @see #INTEREST_DROPPED_CALLBACK_ARGUMENT
+	 */
+	public static boolean isInterestDropped(@Nullable EntryEvent<?, ?> event) {
+		return event != null && INTEREST_DROPPED_CALLBACK_ARGUMENT.equals(event.getCallbackArgument());
+	}
+
+	/**
+	 * Constructs a new instance of {@link SessionInterestManager} for the given client {@link Region}
+	 * using the default durability, receive values and flush interval settings.
+	 *
+	 * @param sessionsRegion client {@link Region} storing {@link Session} state; must not be {@literal null}.
+	 * @param inactivityTimeout {@link Duration} after which interest for a {@link Session} not accessed locally
+	 * is unregistered; must not be {@literal null}.
+	 * @throws IllegalArgumentException if {@link Region} or {@link Duration} is {@literal null}.
+	 */
+	public SessionInterestManager(@NonNull Region<Object, Session> sessionsRegion, @NonNull Duration inactivityTimeout) {
+		this(sessionsRegion, DEFAULT_DURABLE, DEFAULT_RECEIVE_VALUES, inactivityTimeout, DEFAULT_FLUSH_INTERVAL);
+	}
+
+	/**
+	 * Constructs a new instance of {@link SessionInterestManager}.
+	 *
+	 * @param sessionsRegion client {@link Region} storing {@link Session} state; must not be {@literal null}.
+	 * @param durable boolean indicating whether interest is durable.
+	 * @param receiveValues boolean indicating whether values are sent with server events.
+	 * @param inactivityTimeout {@link Duration} after which interest for a {@link Session} not accessed locally
+	 * is unregistered; must not be {@literal null}.
+	 * @param flushInterval {@link Duration} between batched interest registration calls; must not be {@literal null}.
+	 * @throws IllegalArgumentException if {@link Region} or any {@link Duration} is {@literal null}.
+	 */
+	public SessionInterestManager(@NonNull Region<Object, Session> sessionsRegion, boolean durable,
+			boolean receiveValues, @NonNull Duration inactivityTimeout, @NonNull Duration flushInterval) {
+
+		Assert.notNull(sessionsRegion, "Region is required");
+		Assert.notNull(inactivityTimeout, "Inactivity timeout is required");
+		Assert.notNull(flushInterval, "Flush interval is required");
+		Assert.isTrue(!(flushInterval.isNegative() || flushInterval.isZero()), "Flush interval must be positive");
+
+		this.sessionsRegion = sessionsRegion;
+		this.durable = durable;
+		this.receiveValues = receiveValues;
+		this.inactivityTimeout = inactivityTimeout;
+		this.flushInterval = flushInterval;
+	}
+
+	void setCurrentTimeMillis(@NonNull LongSupplier currentTimeMillis) {
+		this.currentTimeMillis = currentTimeMillis;
+	}
+
+	public Duration getFlushInterval() {
+		return this.flushInterval;
+	}
+
+	public Duration getInactivityTimeout() {
+		return this.inactivityTimeout;
+	}
+
+	protected Logger getLogger() {
+		return this.logger;
+	}
+
+	protected Region<Object, Session> getSessionsRegion() {
+		return this.sessionsRegion;
+	}
+
+	/**
+	 * Determines whether interest is currently held, or pending, for the given {@link Session} ID.
+	 *
+	 * @param sessionId {@link String} containing the {@link Session#getId() Session ID}.
+	 * @return a boolean value indicating whether interest is held for the given {@link Session} ID.
+	 */
+	public boolean isInterested(@Nullable String sessionId) {
+		return sessionId != null && this.interestingSessionIds.containsKey(sessionId);
+	}
+
+	/**
+	 * Records a local access to the {@link Session} with the given ID, scheduling interest registration
+	 * if this is the first time the {@link Session} is seen on this node.
+	 *
+	 * @param sessionId {@link String} containing the {@link Session#getId() Session ID}.
+	 */
+	public void touch(@Nullable String sessionId) {
+
+		if (SessionUtils.isValidSessionId(sessionId)) {
+			if (this.interestingSessionIds.put(sessionId, this.currentTimeMillis.getAsLong()) == null) {
+				this.inactiveSessionIds.remove(sessionId);
+				this.pendingUnregistrations.remove(sessionId);
+				this.pendingRegistrations.add(sessionId);
+				start();
+			}
+		}
+	}
+
+	/**
+	 * Schedules interest for the {@link Session} with the given ID to be unregistered, such as when
+	 * the {@link Session} was deleted or expired.
+	 *
+	 * @param sessionId {@link Object} identifying the {@link Session}.
+	 */
+	public void remove(@Nullable Object sessionId) {
+
+		Optional.ofNullable(sessionId)
+			.map(Object::toString)
+			.filter(id -> this.interestingSessionIds.remove(id) != null)
+			.ifPresent(id -> {
+				if (!this.pendingRegistrations.remove(id)) {
+					this.pendingUnregistrations.add(id);
+				}
+			});
+	}
+
+	private void start() {
+
+		if (this.started.compareAndSet(false, true)) {
+
+			long flushIntervalInMilliseconds = getFlushInterval().toMillis();
+
+			this.flushScheduler = newFlushScheduler();
+			this.flushScheduler.scheduleWithFixedDelay(this::safeFlush, flushIntervalInMilliseconds,
+				flushIntervalInMilliseconds, TimeUnit.MILLISECONDS);
+		}
+	}
+
+	protected ScheduledExecutorService newFlushScheduler() {
+
+		return Executors.newSingleThreadScheduledExecutor(runnable -> {
+
+			Thread flushThread = new Thread(runnable, FLUSH_THREAD_NAME);
+
+			flushThread.setDaemon(true);
+
+			return flushThread;
+		});
+	}
+
+	/**
+	 * Unregisters interest for {@link Session Sessions} not accessed locally within the
+	 * {@link #getInactivityTimeout() inactivity timeout}, then sends all pending interest registrations
+	 * and unregistrations to the servers, one call each.
+	 *
+	 * If either call fails, the {@link Session} IDs of the failed call are queued again and the failure is
+	 * rethrown after the pending unregistrations have been sent.
+	 */
+	public void flush() {
+
+		sweepInactive();
+
+		try {
+			registerPendingInterest();
+		}
+		finally {
+			unregisterPendingInterest();
+		}
+	}
+
+	void sweepInactive() {
+
+		long inactiveBefore = this.currentTimeMillis.getAsLong() - getInactivityTimeout().toMillis();
+
+		this.interestingSessionIds.forEach((sessionId, lastAccessedTime) -> {
+			if (lastAccessedTime < inactiveBefore && this.interestingSessionIds.remove(sessionId, lastAccessedTime)) {
+				if (this.pendingRegistrations.remove(sessionId)) {
+					localDestroy(sessionId);
+				}
+				else {
+					this.inactiveSessionIds.add(sessionId);
+					this.pendingUnregistrations.add(sessionId);
+				}
+			}
+		});
+	}
+
+	private void registerPendingInterest() {
+
+		List<Object> sessionIds = drain(this.pendingRegistrations);
+
+		if (!sessionIds.isEmpty()) {
+			try {
+				getSessionsRegion().registerInterestForKeys(sessionIds, DEFAULT_INTEREST_RESULT_POLICY,
+					this.durable, this.receiveValues);
+			}
+			catch (RuntimeException cause) {
+
+				for (Object sessionId : sessionIds) {
+					if (isInterested(sessionId.toString())) {
+						this.pendingRegistrations.add(sessionId.toString());
+					}
+					else {
+						// Interest was never registered, so there is no interest to unregister
+						this.pendingUnregistrations.remove(sessionId.toString());
+					}
+				}
+
+				throw cause;
+			}
+		}
+	}
+
+	private void unregisterPendingInterest() {
+
+		List<Object> sessionIds = drain(this.pendingUnregistrations);
+
+		if (!sessionIds.isEmpty()) {
+
+			try {
+				getSessionsRegion().unregisterInterest(sessionIds);
+			}
+			catch (RuntimeException cause) {
+
+				for (Object sessionId : sessionIds) {
+					if (!isInterested(sessionId.toString())) {
+						this.pendingUnregistrations.add(sessionId.toString());
+					}
+				}
+
+				throw cause;
+			}
+
+			for (Object sessionId : sessionIds) {
+				if (this.inactiveSessionIds.remove(sessionId.toString())) {
+					localDestroy(sessionId);
+				}
+			}
+		}
+	}
+
+	private void localDestroy(Object sessionId) {
+
+		if (isLocallyCached()) {
+			try {
+				getSessionsRegion().localDestroy(sessionId, INTEREST_DROPPED_CALLBACK_ARGUMENT);
+			}
+			catch (EntryNotFoundException ignore) {
+				// Session is not cached locally
+			}
+			catch (RuntimeException cause) {
+				getLogger().warn(String.format("Failed to destroy the client copy of inactive Session [%s]",
+					sessionId), cause);
+			}
+		}
+	}
+
+	private boolean isLocallyCached() {
+
+		RegionAttributes<Object, Session> regionAttributes = getSessionsRegion().getAttributes();
+
+		return regionAttributes != null && regionAttributes.getDataPolicy() != null
+			&& regionAttributes.getDataPolicy().withStorage();
+	}
+
+	private List<Object> drain(Set<String> sessionIds) {
+
+		List<Object> drainedSessionIds = new ArrayList<>();
+
+		for (String sessionId : sessionIds) {
+			if (sessionIds.remove(sessionId)) {
+				drainedSessionIds.add(sessionId);
+			}
+		}
+
+		return drainedSessionIds;
+	}
+
+	private void safeFlush() {
+
+		try {
+			flush();
+		}
+		catch (Throwable cause) {
+			getLogger().error("Error occurred while updating Session interest registrations", cause);
+		}
+	}
+
+	/**
+	 * Stops the periodic interest registration.
+	 */
+	@Override
+	public void close() {
+		Optional.ofNullable(this.flushScheduler).ifPresent(ScheduledExecutorService::shutdown);
+	}
+}
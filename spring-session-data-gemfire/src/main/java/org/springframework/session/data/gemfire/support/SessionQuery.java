@@ -0,0 +1,399 @@
+/*
+ * Copyright 2024 Broadcom. All rights reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.springframework.session.data.gemfire.support;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Objects;
+
+import org.apache.geode.cache.query.Query;
+
+import org.springframework.lang.NonNull;
+import org.springframework.session.Session;
+import org.springframework.util.Assert;
+import org.springframework.util.StringUtils;
+
+/**
+ * {@link SessionQuery} is an immutable, typed query over the indexed properties and attributes of
+ * {@link Session Sessions}, compiled to a parameterized OQL predicate.
+ *
+ * A {@link SessionQuery} is a conjunction of criteria, for example:
+ *
+ * <pre>
+ * <code>
+ * SessionQuery query = SessionQuery.query()
+ *     .attributeEquals("tenant", "acme")
+ *     .lastAccessedAfter(Instant.now().minus(Duration.ofMinutes(5)));
+ * </code>
+ * </pre>
+ *
+ * Each criterion compiles to the same expression as the OQL Index on the {@link Session} property or attribute
+ * (e.g. {@literal s.principalName}, {@literal s.attributes['tenant']} and {@literal s.expirationTime}), so the query
+ * engine can use the Index, and all values are bound as {@link Query} parameters, so the OQL statement only
+ * depends on the shape of the {@link SessionQuery} and can be compiled once and cached.  Equality criteria are
+ * placed first, followed by {@literal IN} criteria and then range criteria, so the most selective Index is
+ * evaluated first and range criteria on the same expression are combined into a single range Index lookup.
+ *
+ * Time criteria compare the {@literal long} epoch milliseconds of the {@link Session} (e.g.
+ * {@literal s.lastAccessedTimeMillis}), which have the same type whether the {@link Session} is stored with PDX
+ * or Data Serialization, and bind the {@link Instant} as epoch milliseconds.
+ *
+ * @author John Blum
+ * @see Query
+ * @see QueryCache
+ * @since 1.0.0
+ */
+public final class SessionQuery {
+
+	static final String CREATION_TIME_EXPRESSION = "s.creationTimeMillis";
+	static final String EXPIRATION_TIME_EXPRESSION = "s.expirationTime";
+	static final String LAST_ACCESSED_TIME_EXPRESSION = "s.lastAccessedTimeMillis";
+	static final String PRINCIPAL_NAME_EXPRESSION = "s.principalName";
+	static final String SESSION_ATTRIBUTE_EXPRESSION = "s.attributes['%s']";
+
+	private static final SessionQuery EMPTY = new SessionQuery(Collections.emptyList());
+
+	/**
+	 * Factory method used to get an empty {@link SessionQuery} to which criteria are added.
+	 *
+	 * @return an empty {@link SessionQuery}.
+	 */
+	public static @NonNull SessionQuery query() {
+		return EMPTY;
+	}
+
+	private final List<Criterion> criteria;
+
+	private SessionQuery(List<Criterion> criteria) {
+		this.criteria = criteria;
+	}
+
+	/**
+	 * Adds a criterion matching {@link Session Sessions} with the given attribute equal to the given value.
+	 *
+	 * @param attributeName {@link String} containing the name of the indexed {@link Session} attribute.
+	 * @param value value of the {@link Session} attribute; must not be {@literal null}.
+	 * @return a new {@link SessionQuery} with the criterion.
+	 * @throws IllegalArgumentException if the attribute name is invalid or the value is {@literal null}.
+	 */
+	public @NonNull SessionQuery attributeEquals(@NonNull String attributeName, @NonNull Object value) {
+		return and(toAttributeExpression(attributeName), Operator.EQUALS, value);
+	}
+
+	/**
+	 * Adds a criterion matching {@link Session Sessions} with the given attribute equal to any of the given values.
+	 *
+	 * @param attributeName {@link String} containing the name of the indexed {@link Session} attribute.
+	 * @param values {@link Collection} of values of the {@link Session} attribute; must not be empty.
+	 * @return a new {@link SessionQuery} with the criterion.
+	 * @throws IllegalArgumentException if the attribute name is invalid or the values are empty.
+	 */
+	public @NonNull SessionQuery attributeIn(@NonNull String attributeName, @NonNull Collection<?> values) {
+		return in(toAttributeExpression(attributeName), values);
+	}
+
+	/**
+	 * Adds a criterion matching {@link Session Sessions} with the given attribute greater than the given value.
+	 *
+	 * @param attributeName {@link String} containing the name of the indexed {@link Session} attribute.
+	 * @param value {@link Comparable} value of the {@link Session} attribute; must not be {@literal null}.
+	 * @return a new {@link SessionQuery} with the criterion.
+	 * @throws IllegalArgumentException if the attribute name is invalid or the value is {@literal null}.
+	 */
+	public @NonNull SessionQuery attributeGreaterThan(@NonNull String attributeName, @NonNull Comparable<?> value) {
+		return and(toAttributeExpression(attributeName), Operator.GREATER_THAN, value);
+	}
+
+	/**
+	 * Adds a criterion matching {@link Session Sessions} with the given attribute less than the given value.
+	 *
+	 * @param attributeName {@link String} containing the name of the indexed {@link Session} attribute.
+	 * @param value {@link Comparable} value of the {@link Session} attribute; must not be {@literal null}.
+	 * @return a new {@link SessionQuery} with the criterion.
+	 * @throws IllegalArgumentException if the attribute name is invalid or the value is {@literal null}.
+	 */
+	public @NonNull SessionQuery attributeLessThan(@NonNull String attributeName, @NonNull Comparable<?> value) {
+		return and(toAttributeExpression(attributeName), Operator.LESS_THAN, value);
+	}
+
+	/**
+	 * Adds a criterion matching {@link Session Sessions} of the given principal.
+	 *
+	 * @param principalName {@link String} containing the principal name; must not be {@literal null}.
+	 * @return a new {@link SessionQuery} with the criterion.
+	 * @throws IllegalArgumentException if the principal name is {@literal null}.
+	 */
+	public @NonNull SessionQuery principalNameEquals(@NonNull String principalName) {
+		return and(PRINCIPAL_NAME_EXPRESSION, Operator.EQUALS, principalName);
+	}
+
+	/**
+	 * Adds a criterion matching {@link Session Sessions} of any of the given principals.
+	 *
+	 * @param principalNames {@link Collection} of principal names; must not be empty.
+	 * @return a new {@link SessionQuery} with the criterion.
+	 * @throws IllegalArgumentException if the principal names are empty.
+	 */
+	public @NonNull SessionQuery principalNameIn(@NonNull Collection<String> principalNames) {
+		return in(PRINCIPAL_NAME_EXPRESSION, principalNames);
+	}
+
+	/**
+	 * Adds a criterion matching {@link Session Sessions} created after the given {@link Instant}.
+	 *
+	 * @param creationTime {@link Instant} after which the {@link Session Sessions} were created.
+	 * @return a new {@link SessionQuery} with the criterion.
+	 * @throws IllegalArgumentException if the {@link Instant} is {@literal null}.
+	 */
+	public @NonNull SessionQuery createdAfter(@NonNull Instant creationTime) {
+
+		Assert.notNull(creationTime, "Instant is required");
+
+		return and(CREATION_TIME_EXPRESSION, Operator.GREATER_THAN, creationTime.toEpochMilli());
+	}
+
+	/**
+	 * Adds a criterion matching {@link Session Sessions} created before the given {@link Instant}.
+	 *
+	 * @param creationTime {@link Instant} before which the {@link Session Sessions} were created.
+	 * @return a new {@link SessionQuery} with the criterion.
+	 * @throws IllegalArgumentException if the {@link Instant} is {@literal null}.
+	 */
+	public @NonNull SessionQuery createdBefore(@NonNull Instant creationTime) {
+
+		Assert.notNull(creationTime, "Instant is required");
+
+		return and(CREATION_TIME_EXPRESSION, Operator.LESS_THAN, creationTime.toEpochMilli());
+	}
+
+	/**
+	 * Adds a criterion matching {@link Session Sessions} last accessed after the given {@link Instant}.
+	 *
+	 * @param lastAccessedTime {@link Instant} after which the {@link Session Sessions} were last accessed.
+	 * @return a new {@link SessionQuery} with the criterion.
+	 * @throws IllegalArgumentException if the {@link Instant} is {@literal null}.
+	 */
+	public @NonNull SessionQuery lastAccessedAfter(@NonNull Instant lastAccessedTime) {
+
+		Assert.notNull(lastAccessedTime, "Instant is required");
+
+		return and(LAST_ACCESSED_TIME_EXPRESSION, Operator.GREATER_THAN, lastAccessedTime.toEpochMilli());
+	}
+
+	/**
+	 * Adds a criterion matching {@link Session Sessions} last accessed before the given {@link Instant}.
+	 *
+	 * @param lastAccessedTime {@link Instant} before which the {@link Session Sessions} were last accessed.
+	 * @return a new {@link SessionQuery} with the criterion.
+	 * @throws IllegalArgumentException if the {@link Instant} is {@literal null}.
+	 */
+	public @NonNull SessionQuery lastAccessedBefore(@NonNull Instant lastAccessedTime) {
+
+		Assert.notNull(lastAccessedTime, "Instant is required");
+
+		return and(LAST_ACCESSED_TIME_EXPRESSION, Operator.LESS_THAN, lastAccessedTime.toEpochMilli());
+	}
+
+	/**
+	 * Adds a criterion matching {@link Session Sessions} expiring after the given {@link Instant}.
+	 *
+	 * @param expirationTime {@link Instant} after which the {@link Session Sessions} expire.
+	 * @return a new {@link SessionQuery} with the criterion.
+	 * @throws IllegalArgumentException if the {@link Instant} is {@literal null}.
+	 */
+	public @NonNull SessionQuery expiresAfter(@NonNull Instant expirationTime) {
+
+		Assert.notNull(expirationTime, "Instant is required");
+
+		return and(EXPIRATION_TIME_EXPRESSION, Operator.GREATER_THAN, expirationTime.toEpochMilli());
+	}
+
+	/**
+	 * Adds a criterion matching {@link Session Sessions} expiring before the given {@link Instant}.
+	 *
+	 * @param expirationTime {@link Instant} before which the {@link Session Sessions} expire.
+	 * @return a new {@link SessionQuery} with the criterion.
+	 * @throws IllegalArgumentException if the {@link Instant} is {@literal null}.
+	 */
+	public @NonNull SessionQuery expiresBefore(@NonNull Instant expirationTime) {
+
+		Assert.notNull(expirationTime, "Instant is required");
+
+		return and(EXPIRATION_TIME_EXPRESSION, Operator.LESS_THAN, expirationTime.toEpochMilli());
+	}
+
+	private SessionQuery in(String expression, Collection<?> values) {
+
+		Assert.notEmpty(values, () -> String.format("Values for [%s] are required", expression));
+
+		return and(expression, Operator.IN, Collections.unmodifiableSet(new LinkedHashSet<>(values)));
+	}
+
+	private SessionQuery and(String expression, Operator operator, Object value) {
+
+		Assert.notNull(value, () -> String.format("Value for [%s] is required", expression));
+
+		List<Criterion> criteria = new ArrayList<>(this.criteria);
+
+		criteria.add(new Criterion(expression, operator, value));
+		criteria.sort(Comparator.comparing(Criterion::getOperator));
+
+		return new SessionQuery(Collections.unmodifiableList(criteria));
+	}
+
+	private static String toAttributeExpression(String attributeName) {
+
+		Assert.hasText(attributeName, "Session attribute name is required");
+		Assert.isTrue(!attributeName.contains("'"),
+			() -> String.format("Session attribute name [%s] is not valid", attributeName));
+
+		return String.format(SESSION_ATTRIBUTE_EXPRESSION, attributeName);
+	}
+
+	/**
+	 * Determines whether this {@link SessionQuery} has no criteria.
+	 *
+	 * @return a boolean value indicating whether this {@link SessionQuery} has no criteria.
+	 */
+	public boolean isEmpty() {
+		return this.criteria.isEmpty();
+	}
+
+	/**
+	 * Returns the values of the criteria in the order of the {@link Query} parameters in the
+	 * {@link #toPredicate() predicate}.
+	 *
+	 * @return an array of the {@link Query} parameter values.
+	 * @see #toPredicate()
+	 */
+	public @NonNull Object[] getParameters() {
+		return this.criteria.stream().map(Criterion::getValue).toArray();
+	}
+
+	/**
+	 * Compiles this {@link SessionQuery} to an OQL predicate, with a {@link Query} parameter for each criterion,
+	 * for use in the {@literal WHERE} clause of a query on the {@link Session} {@link org.apache.geode.cache.Region}
+	 * with the iterator variable {@literal s}.
+	 *
+	 * @return the OQL predicate.
+	 * @throws IllegalStateException if this {@link SessionQuery} has no criteria.
+	 * @see #getParameters()
+	 */
+	public @NonNull String toPredicate() {
+
+		Assert.state(!isEmpty(), "SessionQuery requires at least one criterion");
+
+		List<String> predicates = new ArrayList<>(this.criteria.size());
+
+		for (int index = 0; index < this.criteria.size(); index++) {
+			predicates.add(this.criteria.get(index).toPredicate(index + 1));
+		}
+
+		return StringUtils.collectionToDelimitedString(predicates, " AND ");
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+
+		if (this == obj) {
+			return true;
+		}
+
+		if (!(obj instanceof SessionQuery)) {
+			return false;
+		}
+
+		return this.criteria.equals(((SessionQuery) obj).criteria);
+	}
+
+	@Override
+	public int hashCode() {
+		return this.criteria.hashCode();
+	}
+
+	@Override
+	public String toString() {
+		return this.criteria.toString();
+	}
+
+	enum Operator {
+
+		// Declared in order of selectivity.
+		EQUALS("="),
+		IN("IN"),
+		GREATER_THAN(">"),
+		LESS_THAN("<");
+
+		private final String symbol;
+
+		Operator(String symbol) {
+			this.symbol = symbol;
+		}
+
+		String getSymbol() {
+			return this.symbol;
+		}
+	}
+
+	static final class Criterion {
+
+		private final Operator operator;
+
+		private final Object value;
+
+		private final String expression;
+
+		Criterion(String expression, Operator operator, Object value) {
+			this.expression = expression;
+			this.operator = operator;
+			this.value = value;
+		}
+
+		Operator getOperator() {
+			return this.operator;
+		}
+
+		Object getValue() {
+			return this.value;
+		}
+
+		String toPredicate(int parameterIndex) {
+			return String.format("%s %s $%d", this.expression, this.operator.getSymbol(), parameterIndex);
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+
+			if (this == obj) {
+				return true;
+			}
+
+			if (!(obj instanceof Criterion)) {
+				return false;
+			}
+
+			Criterion that = (Criterion) obj;
+
+			return this.expression.equals(that.expression)
+				&& this.operator == that.operator
+				&& this.value.equals(that.value);
+		}
+
+		@Override
+		public int hashCode() {
+			return Objects.hash(this.expression, this.operator, this.value);
+		}
+
+		@Override
+		public String toString() {
+			return String.format("%s %s %s", this.expression, this.operator.getSymbol(), this.value);
+		}
+	}
+}
@@ -0,0 +1,129 @@
+/*
+ * Copyright 2024 Broadcom. All rights reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.springframework.session.data.gemfire.support;
+
+import java.util.Optional;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.apache.geode.cache.CacheStatistics;
+import org.apache.geode.cache.EntryEvent;
+import org.apache.geode.cache.Region;
+import org.apache.geode.cache.StatisticsDisabledException;
+import org.apache.geode.cache.util.CacheListenerAdapter;
+
+import org.springframework.lang.NonNull;
+import org.springframework.session.Session;
+import org.springframework.util.Assert;
+
+/**
+ * {@link SessionRegionStatistics} records the hit rate and the number of evictions of a client
+ * {@link Session} {@link Region} that stores {@link Session Sessions} locally, such as
+ * a {@literal CACHING_PROXY} {@link Region}.
+ *
+ * Hits and misses are read from the {@link CacheStatistics} of the {@link Region}, which requires
+ * {@link org.apache.geode.cache.RegionAttributes#getStatisticsEnabled() statistics} to be enabled.
+ * Evictions are counted by registering {@link SessionRegionStatistics} as a
+ * {@link org.apache.geode.cache.CacheListener} on the {@link Region}.
+ *
+ * @author John Blum
+ * @see CacheListenerAdapter
+ * @see CacheStatistics
+ * @see Region#getStatistics()
+ * @since 1.0.0
+ */
+public class SessionRegionStatistics extends CacheListenerAdapter<Object, Object> {
+
+	private final LongAdder evictionCount = new LongAdder();
+
+	private final Region<?, ?> sessionsRegion;
+
+	/**
+	 * Constructs a new instance of {@link SessionRegionStatistics} and registers it as
+	 * a {@link org.apache.geode.cache.CacheListener} on the given {@link Session} {@link Region}.
+	 *
+	 * @param sessionsRegion {@link Session} {@link Region}; must not be {@literal null}.
+	 * @return the new {@link SessionRegionStatistics}.
+	 * @throws IllegalArgumentException if the {@link Region} is {@literal null}.
+	 */
+	@SuppressWarnings("unchecked")
+	public static @NonNull SessionRegionStatistics register(@NonNull Region<?, ?> sessionsRegion) {
+
+		SessionRegionStatistics statistics = new SessionRegionStatistics(sessionsRegion);
+
+		((Region<Object, Object>) sessionsRegion).getAttributesMutator().addCacheListener(statistics);
+
+		return statistics;
+	}
+
+	/**
+	 * Constructs a new instance of {@link SessionRegionStatistics} for the given {@link Session} {@link Region}.
+	 *
+	 * @param sessionsRegion {@link Session} {@link Region}; must not be {@literal null}.
+	 * @throws IllegalArgumentException if the {@link Region} is {@literal null}.
+	 */
+	public SessionRegionStatistics(@NonNull Region<?, ?> sessionsRegion) {
+
+		Assert.notNull(sessionsRegion, "Region is required");
+
+		this.sessionsRegion = sessionsRegion;
+	}
+
+	protected Region<?, ?> getSessionsRegion() {
+		return this.sessionsRegion;
+	}
+
+	private Optional<CacheStatistics> getCacheStatistics() {
+
+		try {
+			return Optional.ofNullable(getSessionsRegion().getStatistics());
+		}
+		catch (StatisticsDisabledException ignore) {
+			return Optional.empty();
+		}
+	}
+
+	public long getEvictionCount() {
+		return this.evictionCount.sum();
+	}
+
+	public long getHitCount() {
+		return getCacheStatistics().map(CacheStatistics::getHitCount).orElse(0L);
+	}
+
+	/**
+	 * Returns the ratio of hits to the number of {@link Session} lookups, or {@literal 0.0}
+	 * if no {@link Session Sessions} were looked up or statistics are disabled.
+	 *
+	 * @return the hit ratio between {@literal 0.0} and {@literal 1.0}.
+	 * @see CacheStatistics#getHitRatio()
+	 */
+	public float getHitRatio() {
+		return getCacheStatistics().map(CacheStatistics::getHitRatio).orElse(0.0f);
+	}
+
+	public long getMissCount() {
+		return getCacheStatistics().map(CacheStatistics::getMissCount).orElse(0L);
+	}
+
+	public int size() {
+		return getSessionsRegion().size();
+	}
+
+	@Override
+	public void afterDestroy(EntryEvent<Object, Object> event) {
+
+		if (event != null && event.getOperation() != null && event.getOperation().isEviction()) {
+			this.evictionCount.increment();
+		}
+	}
+
+	@Override
+	public String toString() {
+
+		return String.format("%s{region = %s, size = %d, hits = %d, misses = %d, hitRatio = %.2f, evictions = %d}",
+			getClass().getSimpleName(), getSessionsRegion().getFullPath(), size(), getHitCount(), getMissCount(),
+				getHitRatio(), getEvictionCount());
+	}
+}
@@ -18,6 +18,7 @@ import org.apache.geode.cache.client.Pool;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
 import org.slf4j.Logger;
@@ -29,14 +30,22 @@ import org.springframework.data.gemfire.util.RegionUtils;
 import org.springframework.lang.Nullable;
 import org.springframework.session.FindByIndexNameSessionRepository;
 import org.springframework.session.Session;
+import org.springframework.session.SessionIdGenerator;
+import org.springframework.session.UuidSessionIdGenerator;
 import org.springframework.session.data.gemfire.config.annotation.web.http.GemFireHttpSessionConfiguration;
 import org.springframework.session.data.gemfire.events.SessionChangedEvent;
+import org.springframework.session.data.gemfire.events.SessionEventExecutor;
+import org.springframework.session.data.gemfire.events.SessionExpiredEventBatcher;
+import org.springframework.session.data.gemfire.expiration.support.ExpiredSessionSweeperFunction;
 import org.springframework.session.data.gemfire.model.BoundedRingHashSet;
+import org.springframework.session.data.gemfire.support.DeleteSessionsByPrincipalNameFunction;
 import org.springframework.session.data.gemfire.support.DeltaAwareDirtyPredicate;
 import org.springframework.session.data.gemfire.support.EqualsDirtyPredicate;
 import org.springframework.session.data.gemfire.support.GemFireOperationsSessionRepositorySupport;
 import org.springframework.session.data.gemfire.support.IdentityEqualsDirtyPredicate;
 import org.springframework.session.data.gemfire.support.IsDirtyPredicate;
+import org.springframework.session.data.gemfire.support.PrincipalNameSessionIndex;
+import org.springframework.session.data.gemfire.support.SessionInterestManager;
 import org.springframework.session.data.gemfire.support.SessionUtils;
 import org.springframework.session.events.AbstractSessionEvent;
 import org.springframework.session.events.SessionCreatedEvent;
@@ -46,8 +55,10 @@ import org.springframework.session.events.SessionExpiredEvent;
 
 import java.io.DataInput;
 import java.io.DataOutput;
+import java.time.Clock;
 import java.time.Duration;
 import java.time.Instant;
+import java.time.ZoneOffset;
 import java.time.temporal.ChronoUnit;
 import java.util.Arrays;
 import java.util.Collections;
@@ -68,6 +79,7 @@ import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.ArgumentMatchers.isA;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.atLeastOnce;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doNothing;
@@ -387,6 +399,39 @@ public class AbstractGemFireOperationsSessionRepositoryTests {
     verify(this.sessionRepository, never()).isRegionPoolSubscriptionEnabled(eq(this.mockRegion));
   }
 
+  @Test
+  public void setSessionInterestManagerWhenRegisterInterestIsAllowed() {
+
+    SessionInterestManager mockSessionInterestManager = mock(SessionInterestManager.class);
+
+    doReturn(true).when(this.sessionRepository).isRegionRegisterInterestAllowed(any(Region.class));
+
+    this.sessionRepository.setSessionInterestManager(mockSessionInterestManager);
+
+    assertThat(this.sessionRepository.getSessionInterestManager()).containsSame(mockSessionInterestManager);
+
+    when(this.mockSession.getId()).thenReturn("1");
+
+    assertThat(this.sessionRepository.registerInterest(this.mockSession)).isSameAs(this.mockSession);
+
+    verify(mockSessionInterestManager, times(1)).touch(eq("1"));
+  }
+
+  @Test
+  public void setSessionInterestManagerIsIgnoredWhenRegisterInterestIsNotAllowed() {
+
+    SessionInterestManager mockSessionInterestManager = mock(SessionInterestManager.class);
+
+    doReturn(false).when(this.sessionRepository).isRegionRegisterInterestAllowed(any(Region.class));
+
+    this.sessionRepository.setSessionInterestManager(mockSessionInterestManager);
+
+    assertThat(this.sessionRepository.getSessionInterestManager()).isNotPresent();
+    assertThat(this.sessionRepository.registerInterest(this.mockSession)).isSameAs(this.mockSession);
+
+    verifyNoInteractions(mockSessionInterestManager);
+  }
+
   @Test
   public void setAndGetApplicationEventPublisher() {
 
@@ -444,6 +489,22 @@ public class AbstractGemFireOperationsSessionRepositoryTests {
     assertThat(this.sessionRepository.getIsDirtyPredicate()).isEqualTo(EqualsDirtyPredicate.INSTANCE);
   }
 
+  @Test
+  public void setAndGetSessionIdGenerator() {
+
+    assertThat(this.sessionRepository.getSessionIdGenerator()).isSameAs(UuidSessionIdGenerator.getInstance());
+
+    SessionIdGenerator mockSessionIdGenerator = mock(SessionIdGenerator.class);
+
+    this.sessionRepository.setSessionIdGenerator(mockSessionIdGenerator);
+
+    assertThat(this.sessionRepository.getSessionIdGenerator()).isSameAs(mockSessionIdGenerator);
+
+    this.sessionRepository.setSessionIdGenerator(null);
+
+    assertThat(this.sessionRepository.getSessionIdGenerator()).isSameAs(UuidSessionIdGenerator.getInstance());
+  }
+
   @Test
   public void setAndGetMaxInactiveInterval() {
 
@@ -584,12 +645,16 @@ public class AbstractGemFireOperationsSessionRepositoryTests {
     assertThat(session.getIsDirtyPredicate()).isEqualTo(DeltaAwareDirtyPredicate.INSTANCE);
     assertThat(session.getMaxInactiveInterval()).isEqualTo(Duration.ZERO);
 
+    Clock clock = Clock.fixed(Instant.parse("2024-01-01T00:00:00Z"), ZoneOffset.UTC);
+
+    this.sessionRepository.setClock(clock);
     this.sessionRepository.setIsDirtyPredicate(EqualsDirtyPredicate.INSTANCE);
     this.sessionRepository.setMaxInactiveIntervalInSeconds(300);
     this.sessionRepository.configure(session);
 
     assertThat(session.getMaxInactiveInterval()).isEqualTo(Duration.ofSeconds(300));
     assertThat(session.getIsDirtyPredicate()).isEqualTo(EqualsDirtyPredicate.INSTANCE);
+    assertThat(session.getClock()).isSameAs(clock);
 
     verify(this.sessionRepository, times(1)).getIsDirtyPredicate();
     verify(this.sessionRepository, times(1)).getMaxInactiveInterval();
@@ -692,6 +757,23 @@ public class AbstractGemFireOperationsSessionRepositoryTests {
     verify(this.mockSession, times(1)).setLastAccessedTime(any(Instant.class));
   }
 
+  @Test
+  public void touchSetsLastAccessedTimeFromConfiguredClock() {
+
+    Instant now = Instant.parse("2024-01-01T00:00:00Z");
+
+    this.sessionRepository.setClock(Clock.fixed(now, ZoneOffset.UTC));
+
+    assertThat(this.sessionRepository.getClock().instant()).isEqualTo(now);
+    assertThat(this.sessionRepository.touch(this.mockSession)).isSameAs(this.mockSession);
+
+    verify(this.mockSession, times(1)).setLastAccessedTime(eq(now));
+
+    this.sessionRepository.setClock(null);
+
+    assertThat(this.sessionRepository.getClock()).isEqualTo(Clock.systemUTC());
+  }
+
   @Test
   public void constructSessionEventHandlerCacheListenerAdapter() {
 
@@ -874,6 +956,118 @@ public class AbstractGemFireOperationsSessionRepositoryTests {
     verify(this.sessionRepository, never()).publishEvent(any(ApplicationEvent.class));
   }
 
+  @Test
+  @SuppressWarnings("unchecked")
+  public void afterDestroyIgnoresEvictionOfClientCopy() {
+
+    SessionEventHandlerCacheListenerAdapter sessionEventHandler =
+        spy(this.sessionRepository.newSessionEventHandler(new BoundedRingHashSet(1)));
+
+    EntryEvent mockEntryEvent = mock(EntryEvent.class);
+
+    when(mockEntryEvent.getOperation()).thenReturn(Operation.EVICT_DESTROY);
+
+    sessionEventHandler.afterDestroy(mockEntryEvent);
+
+    verify(mockEntryEvent, never()).getKey();
+    verify(mockEntryEvent, never()).getOldValue();
+    verify(sessionEventHandler, never()).getSessionRepository();
+    verify(this.sessionRepository, never()).publishEvent(any(ApplicationEvent.class));
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  public void afterDestroyIgnoresLocalDestroyOfClientCopyWhenInterestIsDropped() {
+
+    SessionEventHandlerCacheListenerAdapter sessionEventHandler =
+        spy(this.sessionRepository.newSessionEventHandler(new BoundedRingHashSet(1)));
+
+    EntryEvent mockEntryEvent = mock(EntryEvent.class);
+
+    when(mockEntryEvent.getOperation()).thenReturn(Operation.LOCAL_DESTROY);
+    when(mockEntryEvent.getCallbackArgument()).thenReturn(SessionInterestManager.INTEREST_DROPPED_CALLBACK_ARGUMENT);
+
+    sessionEventHandler.afterDestroy(mockEntryEvent);
+
+    verify(mockEntryEvent, never()).getKey();
+    verify(mockEntryEvent, never()).getOldValue();
+    verify(sessionEventHandler, never()).getSessionRepository();
+    verify(this.sessionRepository, never()).publishEvent(any(ApplicationEvent.class));
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  public void afterDestroyOfSessionRemovedByExpiredSessionSweeperPublishesSessionExpiredEvent() {
+
+    SessionEventHandlerCacheListenerAdapter sessionEventHandler =
+        spy(this.sessionRepository.newSessionEventHandler(new BoundedRingHashSet(1)));
+
+    EntryEvent mockEntryEvent = mock(EntryEvent.class);
+
+    when(mockEntryEvent.getKey()).thenReturn("1");
+    when(mockEntryEvent.getOldValue()).thenReturn(this.mockSession);
+    when(mockEntryEvent.getCallbackArgument())
+        .thenReturn(ExpiredSessionSweeperFunction.SESSION_EXPIRED_CALLBACK_ARGUMENT);
+    when(this.mockSession.getId()).thenReturn("1");
+
+    sessionEventHandler.afterDestroy(mockEntryEvent);
+
+    verify(sessionEventHandler, times(1)).afterInvalidate(eq(mockEntryEvent));
+    verify(this.sessionRepository, times(1)).publishEvent(isA(SessionExpiredEvent.class));
+    verify(this.sessionRepository, never()).publishEvent(isA(SessionDestroyedEvent.class));
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  public void afterDestroyOfSessionDeletedByPrincipalNameCleansUpWithoutPublishingEvent() {
+
+    SessionEventHandlerCacheListenerAdapter sessionEventHandler =
+        this.sessionRepository.newSessionEventHandler(new BoundedRingHashSet(1));
+
+    PrincipalNameSessionIndex mockPrincipalNameSessionIndex = mock(PrincipalNameSessionIndex.class);
+
+    SessionInterestManager mockSessionInterestManager = mock(SessionInterestManager.class);
+
+    EntryEvent mockEntryEvent = mock(EntryEvent.class);
+
+    when(mockEntryEvent.getKey()).thenReturn("1");
+    when(mockEntryEvent.getOldValue()).thenReturn(this.mockSession);
+    when(mockEntryEvent.getCallbackArgument())
+        .thenReturn(DeleteSessionsByPrincipalNameFunction.SESSION_DELETED_CALLBACK_ARGUMENT);
+    when(this.mockSession.getAttribute(eq(FindByIndexNameSessionRepository.PRINCIPAL_NAME_INDEX_NAME)))
+        .thenReturn("jonDoe");
+
+    sessionEventHandler.setPrincipalNameSessionIndex(mockPrincipalNameSessionIndex);
+    sessionEventHandler.setSessionInterestManager(mockSessionInterestManager);
+    sessionEventHandler.afterDestroy(mockEntryEvent);
+
+    verify(mockPrincipalNameSessionIndex, times(1)).unindex(eq("1"), eq("jonDoe"));
+    verify(mockSessionInterestManager, times(1)).remove(eq("1"));
+    verify(this.sessionRepository, never()).publishEvent(any(ApplicationEvent.class));
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  public void afterDestroyOfSessionMovedToOtherRouteCleansUpWithoutPublishingEvent() {
+
+    SessionEventHandlerCacheListenerAdapter sessionEventHandler =
+        this.sessionRepository.newSessionEventHandler(new BoundedRingHashSet(1));
+
+    SessionInterestManager mockSessionInterestManager = mock(SessionInterestManager.class);
+
+    EntryEvent mockEntryEvent = mock(EntryEvent.class);
+
+    when(mockEntryEvent.getKey()).thenReturn("anonymous.1");
+    when(mockEntryEvent.getCallbackArgument())
+        .thenReturn(RoutingGemFireOperationsSessionRepository.SESSION_MOVED_CALLBACK_ARGUMENT);
+
+    sessionEventHandler.setSessionInterestManager(mockSessionInterestManager);
+    sessionEventHandler.afterDestroy(mockEntryEvent);
+
+    verify(mockSessionInterestManager, times(1)).remove(eq("anonymous.1"));
+    verify(this.sessionRepository, never()).publishEvent(any(ApplicationEvent.class));
+  }
+
   @Test
   @SuppressWarnings("unchecked")
   public void afterDestroyHandlesKnownSessionPublishesSessionDestroyedEvent() {
@@ -939,6 +1133,29 @@ public class AbstractGemFireOperationsSessionRepositoryTests {
     verify(this.sessionRepository, times(1)).publishEvent(isA(SessionDestroyedEvent.class));
   }
 
+  @Test
+  @SuppressWarnings("unchecked")
+  public void afterDestroyUnindexesSessionFromPrincipalNameSessionIndex() {
+
+    SessionEventHandlerCacheListenerAdapter sessionEventHandler = this.sessionRepository.newSessionEventHandler(new BoundedRingHashSet(1));
+
+    PrincipalNameSessionIndex mockPrincipalNameSessionIndex = mock(PrincipalNameSessionIndex.class);
+
+    EntryEvent mockEntryEvent = mock(EntryEvent.class);
+
+    when(mockEntryEvent.getKey()).thenReturn("1");
+    when(mockEntryEvent.getOldValue()).thenReturn(this.mockSession);
+    when(this.mockSession.getId()).thenReturn("1");
+    when(this.mockSession.getAttribute(eq(FindByIndexNameSessionRepository.PRINCIPAL_NAME_INDEX_NAME)))
+        .thenReturn("jonDoe");
+
+    sessionEventHandler.setPrincipalNameSessionIndex(mockPrincipalNameSessionIndex);
+    sessionEventHandler.afterDestroy(mockEntryEvent);
+
+    verify(mockEntryEvent, times(1)).getOldValue();
+    verify(mockPrincipalNameSessionIndex, times(1)).unindex(eq("1"), eq("jonDoe"));
+  }
+
   @Test
   public void afterInvalidateIsNullSafe() {
 
@@ -975,6 +1192,65 @@ public class AbstractGemFireOperationsSessionRepositoryTests {
     verify(this.sessionRepository, times(1)).publishEvent(isA(SessionExpiredEvent.class));
   }
 
+  @Test
+  @SuppressWarnings("unchecked")
+  public void afterInvalidateUnindexesSessionFromPrincipalNameSessionIndex() {
+
+    SessionEventHandlerCacheListenerAdapter sessionEventHandler = this.sessionRepository.newSessionEventHandler(new BoundedRingHashSet(1));
+
+    PrincipalNameSessionIndex mockPrincipalNameSessionIndex = mock(PrincipalNameSessionIndex.class);
+
+    EntryEvent mockEntryEvent = mock(EntryEvent.class);
+
+    when(mockEntryEvent.getKey()).thenReturn("1");
+    when(mockEntryEvent.getOldValue()).thenReturn(null);
+
+    sessionEventHandler.setPrincipalNameSessionIndex(mockPrincipalNameSessionIndex);
+    sessionEventHandler.afterInvalidate(mockEntryEvent);
+
+    verify(mockPrincipalNameSessionIndex, times(1)).unindex(eq("1"), isNull());
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  public void afterInvalidateAddsSessionIdToConfiguredSessionExpiredEventBatcher() {
+
+    SessionEventHandlerCacheListenerAdapter sessionEventHandler = this.sessionRepository.newSessionEventHandler(new BoundedRingHashSet(1));
+
+    SessionExpiredEventBatcher mockBatcher = mock(SessionExpiredEventBatcher.class);
+
+    EntryEvent mockEntryEvent = mock(EntryEvent.class);
+
+    when(mockEntryEvent.getKey()).thenReturn("1");
+    when(mockEntryEvent.getOldValue()).thenReturn(null);
+
+    sessionEventHandler.setSessionExpiredEventBatcher(mockBatcher);
+    sessionEventHandler.afterInvalidate(mockEntryEvent);
+
+    verify(this.sessionRepository, times(1)).publishEvent(isA(SessionExpiredEvent.class));
+    verify(mockBatcher, times(1)).add(eq("1"));
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  public void afterDestroyRemovesSessionIdFromConfiguredSessionInterestManager() {
+
+    SessionEventHandlerCacheListenerAdapter sessionEventHandler = this.sessionRepository.newSessionEventHandler(new BoundedRingHashSet(1));
+
+    SessionInterestManager mockSessionInterestManager = mock(SessionInterestManager.class);
+
+    EntryEvent mockEntryEvent = mock(EntryEvent.class);
+
+    when(mockEntryEvent.getKey()).thenReturn("1");
+    when(mockEntryEvent.getOldValue()).thenReturn(null);
+
+    sessionEventHandler.setSessionInterestManager(mockSessionInterestManager);
+    sessionEventHandler.afterDestroy(mockEntryEvent);
+
+    verify(this.sessionRepository, times(1)).publishEvent(isA(SessionDestroyedEvent.class));
+    verify(mockSessionInterestManager, times(1)).remove(eq("1"));
+  }
+
   @Test
   @SuppressWarnings("unchecked")
   public void afterInvalidateHandlesNullSessionPublishesSessionExpiredEventUsingSessionId() {
@@ -1035,6 +1311,100 @@ public class AbstractGemFireOperationsSessionRepositoryTests {
     verify(this.sessionRepository, times(1)).publishEvent(isA(SessionChangedEvent.class));
   }
 
+  @Test
+  public void afterUpdateDispatchesSessionChangedEventToConfiguredSessionEventExecutor() {
+
+    SessionEventHandlerCacheListenerAdapter sessionEventHandler =
+        this.sessionRepository.newSessionEventHandler(new BoundedRingHashSet(1));
+
+    SessionEventExecutor mockSessionEventExecutor = mock(SessionEventExecutor.class);
+
+    EntryEvent mockEntryEvent = mock(EntryEvent.class);
+
+    when(mockEntryEvent.getKey()).thenReturn("1");
+    when(mockEntryEvent.getNewValue()).thenReturn(this.mockSession);
+
+    sessionEventHandler.setSessionEventExecutor(mockSessionEventExecutor);
+    sessionEventHandler.afterUpdate(mockEntryEvent);
+
+    ArgumentCaptor<Runnable> publishTaskCaptor = ArgumentCaptor.forClass(Runnable.class);
+
+    verify(mockSessionEventExecutor, times(1)).execute(eq("1"), publishTaskCaptor.capture());
+    verify(this.sessionRepository, never()).publishEvent(any(ApplicationEvent.class));
+
+    publishTaskCaptor.getValue().run();
+
+    verify(this.sessionRepository, times(1)).publishEvent(isA(SessionChangedEvent.class));
+  }
+
+  @Test
+  public void afterUpdateCoalescesSessionChangedEventsWithinWindow() {
+
+    SessionEventHandlerCacheListenerAdapter sessionEventHandler =
+        this.sessionRepository.newSessionEventHandler(new BoundedRingHashSet(1));
+
+    Session mockUpdatedSession = mock(Session.class);
+
+    EntryEvent mockEntryEventOne = mock(EntryEvent.class);
+    EntryEvent mockEntryEventTwo = mock(EntryEvent.class);
+
+    when(mockEntryEventOne.getKey()).thenReturn("1");
+    when(mockEntryEventOne.getNewValue()).thenReturn(this.mockSession);
+    when(mockEntryEventTwo.getKey()).thenReturn("1");
+    when(mockEntryEventTwo.getNewValue()).thenReturn(mockUpdatedSession);
+
+    try {
+
+      sessionEventHandler.setSessionChangedEventCoalescingWindow(Duration.ofMinutes(5));
+      sessionEventHandler.afterUpdate(mockEntryEventOne);
+      sessionEventHandler.afterUpdate(mockEntryEventTwo);
+
+      verify(this.sessionRepository, never()).publishEvent(any(ApplicationEvent.class));
+
+      sessionEventHandler.publishPendingSessionChangedEvent("1");
+      sessionEventHandler.publishPendingSessionChangedEvent("1");
+
+      ArgumentCaptor<ApplicationEvent> eventCaptor = ArgumentCaptor.forClass(ApplicationEvent.class);
+
+      verify(this.sessionRepository, times(1)).publishEvent(eventCaptor.capture());
+
+      assertThat(eventCaptor.getValue()).isInstanceOf(SessionChangedEvent.class);
+      assertThat(((SessionChangedEvent) eventCaptor.getValue()).<Session>getSession()).isSameAs(mockUpdatedSession);
+    }
+    finally {
+      sessionEventHandler.close();
+    }
+  }
+
+  @Test
+  public void afterDestroyDiscardsPendingSessionChangedEvent() {
+
+    SessionEventHandlerCacheListenerAdapter sessionEventHandler =
+        this.sessionRepository.newSessionEventHandler(new BoundedRingHashSet(1));
+
+    EntryEvent mockUpdateEntryEvent = mock(EntryEvent.class);
+    EntryEvent mockDestroyEntryEvent = mock(EntryEvent.class);
+
+    when(mockUpdateEntryEvent.getKey()).thenReturn("1");
+    when(mockUpdateEntryEvent.getNewValue()).thenReturn(this.mockSession);
+    when(mockDestroyEntryEvent.getKey()).thenReturn("1");
+    when(mockDestroyEntryEvent.getOldValue()).thenReturn(null);
+
+    try {
+
+      sessionEventHandler.setSessionChangedEventCoalescingWindow(Duration.ofMinutes(5));
+      sessionEventHandler.afterUpdate(mockUpdateEntryEvent);
+      sessionEventHandler.afterDestroy(mockDestroyEntryEvent);
+      sessionEventHandler.publishPendingSessionChangedEvent("1");
+
+      verify(this.sessionRepository, times(1)).publishEvent(isA(SessionDestroyedEvent.class));
+      verify(this.sessionRepository, never()).publishEvent(isA(SessionChangedEvent.class));
+    }
+    finally {
+      sessionEventHandler.close();
+    }
+  }
+
   @Test
   public void afterUpdateHandlesNullEntryEventDoesNotPublishSessionChangedEvent() {
 
@@ -1530,6 +1900,36 @@ public class AbstractGemFireOperationsSessionRepositoryTests {
     assertThat(session.getId()).isNotEqualTo(sessionId);
   }
 
+  @Test
+  public void createAndChangeSessionIdUseSessionIdGenerator() {
+
+    SessionIdGenerator mockSessionIdGenerator = mock(SessionIdGenerator.class);
+
+    doReturn("1", "2").when(mockSessionIdGenerator).generate();
+
+    GemFireSession<?> session = GemFireSession.create(mockSessionIdGenerator);
+
+    assertThat(session.getId()).isEqualTo("1");
+    assertThat(session.changeSessionId()).isEqualTo("2");
+    assertThat(session.getId()).isEqualTo("2");
+
+    verify(mockSessionIdGenerator, times(2)).generate();
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void createWithNullSessionIdGeneratorThrowsIllegalArgumentException() {
+
+    try {
+      GemFireSession.create(null);
+    } catch (IllegalArgumentException expected) {
+
+      assertThat(expected).hasMessage("SessionIdGenerator is required");
+      assertThat(expected).hasNoCause();
+
+      throw expected;
+    }
+  }
+
   @Test
   public void setGetAndRemoveAttribute() {
 
@@ -1640,6 +2040,59 @@ public class AbstractGemFireOperationsSessionRepositoryTests {
     assertThat(session.isExpired()).isTrue();
   }
 
+  @Test
+  public void isExpiredUsesConfiguredClock() {
+
+    Instant creationTime = Instant.parse("2024-01-01T00:00:00Z");
+
+    GemFireSession<?> session = GemFireSession.create(UuidSessionIdGenerator.getInstance(),
+        Clock.fixed(creationTime, ZoneOffset.UTC)).configureWith(Duration.ofMinutes(30));
+
+    assertThat(session.getCreationTime()).isEqualTo(creationTime);
+    assertThat(session.getClock().instant()).isEqualTo(creationTime);
+    assertThat(session.isExpired()).isFalse();
+
+    session.configureWith(Clock.fixed(creationTime.plus(Duration.ofMinutes(31)), ZoneOffset.UTC));
+
+    assertThat(session.isExpired()).isTrue();
+  }
+
+  @Test
+  public void getExpirationTimeIsLastAccessedTimePlusMaxInactiveInterval() {
+
+    GemFireSession<?> session = GemFireSession.create()
+        .configureWith(Duration.ofMinutes(30));
+
+    Instant lastAccessedTime = Instant.parse("2024-01-01T12:00:00Z");
+
+    session.setLastAccessedTime(lastAccessedTime);
+
+    assertThat(session.getExpirationTime())
+        .isEqualTo(lastAccessedTime.plus(Duration.ofMinutes(30)).toEpochMilli());
+  }
+
+  @Test
+  public void getCreationAndLastAccessedTimeMillisAreEpochMillis() {
+
+    GemFireSession<?> session = GemFireSession.create();
+
+    Instant lastAccessedTime = session.getCreationTime().plusSeconds(5);
+
+    session.setLastAccessedTime(lastAccessedTime);
+
+    assertThat(session.getCreationTimeMillis()).isEqualTo(session.getCreationTime().toEpochMilli());
+    assertThat(session.getLastAccessedTimeMillis()).isEqualTo(lastAccessedTime.toEpochMilli());
+  }
+
+  @Test
+  public void getExpirationTimeWhenSessionDoesNotExpireReturnsMaxValue() {
+
+    GemFireSession<?> session = GemFireSession.create();
+
+    assertThat(session.getMaxInactiveInterval()).isEqualTo(Duration.ZERO);
+    assertThat(session.getExpirationTime()).isEqualTo(Long.MAX_VALUE);
+  }
+
   @Test
   public void setAndGetGemFireSessionIsDirtyPredicate() {
 
@@ -1765,6 +2218,30 @@ public class AbstractGemFireOperationsSessionRepositoryTests {
     assertThat(session.getIsDirtyPredicate()).isEqualTo(EqualsDirtyPredicate.INSTANCE);
   }
 
+  @Test
+  public void configuresSessionIdGeneratorReturnsGemFireSession() {
+
+    GemFireSession<?> session = new GemFireSession<>();
+
+    SessionIdGenerator mockSessionIdGenerator = mock(SessionIdGenerator.class);
+
+    assertThat(session.getSessionIdGenerator()).isSameAs(UuidSessionIdGenerator.getInstance());
+    assertThat(session.configureWith(mockSessionIdGenerator)).isSameAs(session);
+    assertThat(session.getSessionIdGenerator()).isSameAs(mockSessionIdGenerator);
+  }
+
+  @Test
+  public void configuresClockReturnsGemFireSession() {
+
+    GemFireSession<?> session = new GemFireSession<>();
+
+    Clock clock = Clock.fixed(Instant.parse("2024-01-01T00:00:00Z"), ZoneOffset.UTC);
+
+    assertThat(session.getClock()).isEqualTo(Clock.systemUTC());
+    assertThat(session.configureWith(clock)).isSameAs(session);
+    assertThat(session.getClock()).isSameAs(clock);
+  }
+
   @Test
   public void configuresMaxInactiveIntervalReturnsGemFireSession() {
 
@@ -5,6 +5,7 @@
 package org.springframework.session.data.gemfire;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
@@ -12,36 +13,59 @@ import static org.mockito.ArgumentMatchers.isA;
 import static org.mockito.ArgumentMatchers.same;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
 import static org.springframework.session.FindByIndexNameSessionRepository.PRINCIPAL_NAME_INDEX_NAME;
 import static org.springframework.session.data.gemfire.AbstractGemFireOperationsSessionRepository.DeltaCapableGemFireSession;
 import static org.springframework.session.data.gemfire.AbstractGemFireOperationsSessionRepository.GemFireSession;
 
+import java.time.Clock;
 import java.time.Duration;
 import java.time.Instant;
+import java.time.ZoneOffset;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Stream;
 
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InOrder;
 import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
 
 import org.apache.geode.cache.AttributesMutator;
+import org.apache.geode.cache.DataPolicy;
+import org.apache.geode.cache.EntryNotFoundException;
 import org.apache.geode.cache.Region;
+import org.apache.geode.cache.RegionAttributes;
+import org.apache.geode.cache.client.ClientCache;
+import org.apache.geode.cache.execute.Execution;
+import org.apache.geode.cache.execute.FunctionException;
+import org.apache.geode.cache.execute.ResultCollector;
+import org.apache.geode.cache.query.Query;
+import org.apache.geode.cache.query.QueryService;
 import org.apache.geode.cache.query.SelectResults;
+import org.apache.geode.cache.query.Struct;
 
 import org.springframework.context.ApplicationEvent;
 import org.springframework.context.ApplicationEventPublisher;
@@ -49,8 +73,18 @@ import org.springframework.data.gemfire.GemfireAccessor;
 import org.springframework.data.gemfire.GemfireOperations;
 import org.springframework.data.gemfire.util.RegionUtils;
 import org.springframework.session.Session;
+import org.springframework.session.data.gemfire.model.SessionExpiration;
+import org.springframework.session.data.gemfire.model.SessionSummary;
+import org.springframework.session.data.gemfire.support.DeleteSessionsByPrincipalNameFunction;
+import org.springframework.session.data.gemfire.support.DeletedSessionsResultCollector;
 import org.springframework.session.data.gemfire.support.EqualsDirtyPredicate;
 import org.springframework.session.data.gemfire.support.IdentityEqualsDirtyPredicate;
+import org.springframework.session.data.gemfire.support.PrincipalNameSessionIndex;
+import org.springframework.session.data.gemfire.support.QueryCache;
+import org.springframework.session.data.gemfire.support.ReadOnlySession;
+import org.springframework.session.data.gemfire.support.RoutingKeySessionIdGenerator;
+import org.springframework.session.data.gemfire.support.SessionDeletionException;
+import org.springframework.session.data.gemfire.support.SessionQuery;
 import org.springframework.session.events.AbstractSessionEvent;
 import org.springframework.session.events.SessionDeletedEvent;
 import org.springframework.session.events.SessionExpiredEvent;
@@ -183,6 +217,38 @@ public class GemFireOperationsSessionRepositoryTests {
 		assertThat(session.getMaxInactiveInterval()).isEqualTo(Duration.ofSeconds(MAX_INACTIVE_INTERVAL_IN_SECONDS));
 	}
 
+	@Test
+	public void createSessionWithConfiguredSessionIdGenerator() {
+
+		this.sessionRepository.setSessionIdGenerator(new RoutingKeySessionIdGenerator(() -> "tenantOne"));
+
+		Session session = this.sessionRepository.createSession();
+
+		assertThat(session).isInstanceOf(GemFireSession.class);
+		assertThat(session.getId()).startsWith("tenantOne:");
+		assertThat(session.changeSessionId()).startsWith("tenantOne:");
+	}
+
+	@Test
+	public void createSessionAndExpireSessionWithConfiguredClock() {
+
+		Instant creationTime = Instant.parse("2024-01-01T00:00:00Z");
+
+		this.sessionRepository.setClock(Clock.fixed(creationTime, ZoneOffset.UTC));
+
+		GemFireSession<?> session = (GemFireSession<?>) this.sessionRepository.createSession();
+
+		assertThat(session.getCreationTime()).isEqualTo(creationTime);
+		assertThat(session.getLastAccessedTime()).isEqualTo(creationTime);
+		assertThat(session.isExpired()).isFalse();
+		assertThat(this.sessionRepository.isExpired(session)).isFalse();
+
+		this.sessionRepository.setClock(Clock.fixed(creationTime
+			.plusSeconds(MAX_INACTIVE_INTERVAL_IN_SECONDS + 1), ZoneOffset.UTC));
+
+		assertThat(this.sessionRepository.isExpired(session)).isTrue();
+	}
+
 	@Test
 	public void createProperlyInitializedDeltaAwareSession() {
 
@@ -287,6 +353,58 @@ public class GemFireOperationsSessionRepositoryTests {
 			.publishEvent(isA(SessionExpiredEvent.class));
 	}
 
+	@Test
+	public void findByIdDeletesSessionExceedingFixedDurationReturnsNull() {
+
+		Session mockSession = mock(Session.class);
+
+		when(mockSession.getId()).thenReturn("1");
+		when(mockSession.isExpired()).thenReturn(false);
+		when(mockSession.getCreationTime()).thenReturn(Instant.now().minus(Duration.ofHours(2L)));
+		when(this.mockTemplate.get(eq("1"))).thenReturn(mockSession);
+
+		this.sessionRepository.setFixedDurationExpirationTimeout(Duration.ofHours(1L));
+
+		assertThat(this.sessionRepository.findById("1")).isNull();
+
+		verify(this.mockTemplate, times(2)).get(eq("1"));
+		verify(this.mockTemplate, times(1)).remove(eq("1"));
+	}
+
+	@Test
+	public void findByIdDoesNotDeleteSessionExceedingFixedDurationEnforcedByDataGrid() {
+
+		Session mockSession = mock(Session.class);
+
+		when(mockSession.isExpired()).thenReturn(false);
+		when(mockSession.getCreationTime()).thenReturn(Instant.now().minus(Duration.ofHours(2L)));
+		when(this.mockTemplate.get(eq("1"))).thenReturn(mockSession);
+
+		this.sessionRepository.setFixedDurationExpirationTimeout(Duration.ofHours(1L));
+		this.sessionRepository.setFixedDurationExpirationEnforcedByDataGrid(true);
+
+		assertThat(this.sessionRepository.findById("1")).isNull();
+
+		verify(this.mockTemplate, times(1)).get(eq("1"));
+		verify(this.mockTemplate, never()).remove(any());
+	}
+
+	@Test
+	public void isFixedDurationExpiredIsFalseWhenFixedDurationIsNotConfigured() {
+
+		Session mockSession = mock(Session.class);
+
+		assertThat(this.sessionRepository.getFixedDurationExpirationTimeout()).isEmpty();
+		assertThat(this.sessionRepository.isFixedDurationExpired(mockSession)).isFalse();
+
+		this.sessionRepository.setFixedDurationExpirationTimeout(Duration.ZERO);
+
+		assertThat(this.sessionRepository.getFixedDurationExpirationTimeout()).isEmpty();
+		assertThat(this.sessionRepository.isFixedDurationExpired(mockSession)).isFalse();
+
+		verifyNoInteractions(mockSession);
+	}
+
 	@Test
 	public void findByIdReturnsNull() {
 
@@ -428,6 +546,247 @@ public class GemFireOperationsSessionRepositoryTests {
 		verify(sessionRepositorySpy, never()).commit(any());
 	}
 
+	@Test
+	public void getQueryCacheIsEmptyWhenQueryServiceCannotBeResolved() {
+		assertThat(this.sessionRepository.getQueryCache()).isEmpty();
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void findByIndexNameAndIndexValueReusesCompiledQuery() throws Exception {
+
+		Session mockSession = mock(Session.class);
+
+		when(mockSession.getId()).thenReturn("1");
+
+		SelectResults<Object> mockSelectResults = mock(SelectResults.class);
+
+		when(mockSelectResults.asList()).thenReturn(Collections.singletonList(mockSession));
+
+		String indexName = "vip";
+		String indexValue = "rwinch";
+
+		String expectedOql =
+			String.format(GemFireOperationsSessionRepository.FIND_SESSIONS_BY_INDEX_NAME_AND_INDEX_VALUE_QUERY,
+				this.sessionRepository.getSessionsRegionName(), indexName);
+
+		Query mockQuery = mock(Query.class);
+		QueryService mockQueryService = mock(QueryService.class);
+
+		doReturn(mockQuery).when(mockQueryService).newQuery(eq(expectedOql));
+		doReturn(mockSelectResults).when(mockQuery).execute(eq(indexValue));
+
+		QueryCache queryCache = new QueryCache(mockQueryService);
+
+		GemFireOperationsSessionRepository sessionRepositorySpy = spy(this.sessionRepository);
+
+		doReturn(Optional.of(queryCache)).when(sessionRepositorySpy).getQueryCache();
+
+		assertThat(sessionRepositorySpy.findByIndexNameAndIndexValue(indexName, indexValue)).containsOnlyKeys("1");
+		assertThat(sessionRepositorySpy.findByIndexNameAndIndexValue(indexName, indexValue)).containsOnlyKeys("1");
+		assertThat(queryCache.getHitCount()).isOne();
+		assertThat(queryCache.getMissCount()).isOne();
+		assertThat(queryCache.getExecutionCount()).isEqualTo(2);
+
+		verify(mockQueryService, times(1)).newQuery(eq(expectedOql));
+		verify(mockQuery, times(2)).execute(eq(indexValue));
+		verify(this.mockTemplate, never()).find(anyString(), any());
+	}
+
+	@Test
+	public void findByPrincipalNameUsesPrincipalNameSessionIndex() {
+
+		GemFireSession<?> sessionOne = GemFireSession.create();
+		GemFireSession<?> sessionTwo = GemFireSession.create();
+
+		sessionOne.setPrincipalName("jonDoe");
+		sessionTwo.setPrincipalName("janeDoe");
+
+		Set<String> sessionIds = new HashSet<>(Arrays.asList(sessionOne.getId(), sessionTwo.getId(), "3"));
+
+		Map<String, Session> sessions = new HashMap<>();
+
+		sessions.put(sessionOne.getId(), sessionOne);
+		sessions.put(sessionTwo.getId(), sessionTwo);
+
+		PrincipalNameSessionIndex mockPrincipalNameSessionIndex = mock(PrincipalNameSessionIndex.class);
+
+		doReturn(sessionIds).when(mockPrincipalNameSessionIndex).getSessionIds(eq("jonDoe"));
+		doReturn(sessions).when(this.mockTemplate).getAll(eq(sessionIds));
+
+		this.sessionRepository.setPrincipalNameSessionIndex(mockPrincipalNameSessionIndex);
+
+		assertThat(this.sessionRepository.getPrincipalNameSessionIndex()).contains(mockPrincipalNameSessionIndex);
+		assertThat(this.sessionRepository.findByPrincipalName("jonDoe")).containsOnlyKeys(sessionOne.getId());
+
+		verify(mockPrincipalNameSessionIndex, times(1)).evict(eq(sessionTwo.getId()), eq("jonDoe"));
+		verify(mockPrincipalNameSessionIndex, times(1)).evict(eq("3"), eq("jonDoe"));
+		verify(mockPrincipalNameSessionIndex, never()).evict(eq(sessionOne.getId()), anyString());
+		verify(this.mockTemplate, never()).find(anyString(), any());
+	}
+
+	@Test
+	public void findByPrincipalNameEvictsExpiredSessionsFromPrincipalNameSessionIndex() {
+
+		GemFireSession<?> session = GemFireSession.create();
+
+		session.setPrincipalName("jonDoe");
+		session.setMaxInactiveInterval(Duration.ofSeconds(30L));
+		session.setLastAccessedTime(Instant.now().minusSeconds(60L));
+
+		Set<String> sessionIds = Collections.singleton(session.getId());
+
+		PrincipalNameSessionIndex mockPrincipalNameSessionIndex = mock(PrincipalNameSessionIndex.class);
+
+		doReturn(sessionIds).when(mockPrincipalNameSessionIndex).getSessionIds(eq("jonDoe"));
+		doReturn(Collections.singletonMap(session.getId(), session)).when(this.mockTemplate).getAll(eq(sessionIds));
+
+		this.sessionRepository.setPrincipalNameSessionIndex(mockPrincipalNameSessionIndex);
+
+		assertThat(session.isExpired()).isTrue();
+		assertThat(this.sessionRepository.findByPrincipalName("jonDoe")).isEmpty();
+
+		verify(mockPrincipalNameSessionIndex, times(1)).evict(eq(session.getId()), eq("jonDoe"));
+	}
+
+	@Test
+	public void findByIndexNameAndIndexValueWithPrincipalNameSessionIndexQueriesOtherIndexes() {
+
+		SelectResults<Object> mockSelectResults = mock(SelectResults.class);
+
+		when(mockSelectResults.asList()).thenReturn(Collections.emptyList());
+		when(this.mockTemplate.find(anyString(), eq("gold"))).thenReturn(mockSelectResults);
+
+		PrincipalNameSessionIndex mockPrincipalNameSessionIndex = mock(PrincipalNameSessionIndex.class);
+
+		this.sessionRepository.setPrincipalNameSessionIndex(mockPrincipalNameSessionIndex);
+
+		assertThat(this.sessionRepository.findByIndexNameAndIndexValue("vip", "gold")).isEmpty();
+
+		verifyNoInteractions(mockPrincipalNameSessionIndex);
+	}
+
+	@Test
+	public void saveIndexesSessionByPrincipalName() {
+
+		GemFireSession<?> session = GemFireSession.create();
+
+		session.setPrincipalName("jonDoe");
+
+		PrincipalNameSessionIndex mockPrincipalNameSessionIndex = mock(PrincipalNameSessionIndex.class);
+
+		this.sessionRepository.setPrincipalNameSessionIndex(mockPrincipalNameSessionIndex);
+		this.sessionRepository.save(session);
+
+		verify(this.mockTemplate, times(1)).put(eq(session.getId()), same(session));
+		verify(mockPrincipalNameSessionIndex, times(1)).index(eq(session.getId()), eq("jonDoe"));
+	}
+
+	@Test
+	public void deleteByIdUnindexesSessionByPrincipalName() {
+
+		GemFireSession<?> session = GemFireSession.create();
+
+		session.setPrincipalName("jonDoe");
+
+		when(this.mockTemplate.remove(eq(session.getId()))).thenReturn(session);
+
+		PrincipalNameSessionIndex mockPrincipalNameSessionIndex = mock(PrincipalNameSessionIndex.class);
+
+		this.sessionRepository.setPrincipalNameSessionIndex(mockPrincipalNameSessionIndex);
+		this.sessionRepository.deleteById(session.getId());
+
+		verify(mockPrincipalNameSessionIndex, times(1)).unindex(eq(session.getId()), eq("jonDoe"));
+	}
+
+	@Test
+	public void removeMovedSessionRemovesSessionWithoutPublishingEvent() {
+
+		GemFireSession<?> session = GemFireSession.create();
+
+		session.setPrincipalName("jonDoe");
+
+		when(this.mockTemplate.get(eq(session.getId()))).thenReturn(session);
+
+		PrincipalNameSessionIndex mockPrincipalNameSessionIndex = mock(PrincipalNameSessionIndex.class);
+
+		this.sessionRepository.setPrincipalNameSessionIndex(mockPrincipalNameSessionIndex);
+		this.sessionRepository.removeMovedSession(session.getId());
+
+		verify(this.sessionRepository.getSessionsRegion(), times(1)).destroy(eq(session.getId()),
+			eq(RoutingGemFireOperationsSessionRepository.SESSION_MOVED_CALLBACK_ARGUMENT));
+		verify(mockPrincipalNameSessionIndex, times(1)).unindex(eq(session.getId()), eq("jonDoe"));
+		verify(this.mockTemplate, never()).remove(any());
+		verifyNoInteractions(this.mockApplicationEventPublisher);
+	}
+
+	@Test
+	public void removeMovedSessionIgnoresMissingSession() {
+
+		doThrow(new EntryNotFoundException("TEST")).when(this.sessionRepository.getSessionsRegion())
+			.destroy(eq("1"), eq(RoutingGemFireOperationsSessionRepository.SESSION_MOVED_CALLBACK_ARGUMENT));
+
+		this.sessionRepository.removeMovedSession("1");
+
+		verifyNoInteractions(this.mockApplicationEventPublisher);
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void findReadOnlyByIndexNameAndIndexValueNeitherTouchesNorDirtiesSessions() {
+
+		Instant lastAccessedTime = Instant.now().minusSeconds(60);
+
+		GemFireSession<?> session = newNonDirtyGemFireSession();
+
+		session.setLastAccessedTime(lastAccessedTime);
+		session.commit();
+
+		SelectResults<Object> mockSelectResults = mock(SelectResults.class);
+
+		when(mockSelectResults.asList()).thenReturn(Collections.singletonList(session));
+		when(this.mockTemplate.find(anyString(), eq("gold"))).thenReturn(mockSelectResults);
+
+		Map<String, Session> sessions = this.sessionRepository.findReadOnlyByIndexNameAndIndexValue("vip", "gold");
+
+		assertThat(sessions).containsOnlyKeys(session.getId());
+
+		Session readOnlySession = sessions.get(session.getId());
+
+		assertThat(readOnlySession).isInstanceOf(ReadOnlySession.class);
+		assertThat(readOnlySession.getLastAccessedTime()).isEqualTo(lastAccessedTime);
+		assertThat(session.hasDelta()).isFalse();
+
+		this.sessionRepository.save(readOnlySession);
+
+		verify(this.mockTemplate, never()).put(any(), any());
+	}
+
+	@Test
+	public void findReadOnlyByPrincipalNameUsesPrincipalNameSessionIndex() {
+
+		GemFireSession<?> session = GemFireSession.create();
+
+		session.setPrincipalName("jonDoe");
+
+		Set<String> sessionIds = Collections.singleton(session.getId());
+
+		PrincipalNameSessionIndex mockPrincipalNameSessionIndex = mock(PrincipalNameSessionIndex.class);
+
+		doReturn(sessionIds).when(mockPrincipalNameSessionIndex).getSessionIds(eq("jonDoe"));
+		doReturn(Collections.singletonMap(session.getId(), session)).when(this.mockTemplate).getAll(eq(sessionIds));
+
+		this.sessionRepository.setPrincipalNameSessionIndex(mockPrincipalNameSessionIndex);
+
+		Map<String, Session> sessions = this.sessionRepository.findReadOnlyByPrincipalName("jonDoe");
+
+		assertThat(sessions).containsOnlyKeys(session.getId());
+		assertThat(sessions.get(session.getId())).isInstanceOf(ReadOnlySession.class);
+		assertThat(session.hasDelta()).isFalse();
+
+		verify(this.mockTemplate, never()).find(anyString(), any());
+	}
+
 	@Test
 	public void prepareQueryReturnsIndexNameAndIndexValueOql() {
 
@@ -623,6 +982,616 @@ public class GemFireOperationsSessionRepositoryTests {
 			.publishEvent(isA(SessionDeletedEvent.class));
 	}
 
+	private Struct mockStruct(String sessionId, long expirationTime) {
+
+		Struct mockStruct = mock(Struct.class);
+
+		doReturn(sessionId).when(mockStruct).get(eq("id"));
+		doReturn(expirationTime).when(mockStruct).get(eq("expirationTime"));
+
+		return mockStruct;
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void findSessionsExpiringBeforeReturnsFirstPage() {
+
+		Instant expiringBefore = Instant.parse("2024-01-01T12:00:00Z");
+
+		SelectResults<Object> mockSelectResults = mock(SelectResults.class);
+
+		doReturn(Arrays.asList(mockStruct("1", 1000L), mockStruct("2", 2000L))).when(mockSelectResults).asList();
+
+		String expectedOql = String.format(GemFireOperationsSessionRepository.FIND_SESSIONS_EXPIRING_BEFORE_QUERY,
+			this.sessionRepository.getSessionsRegionName(), 2);
+
+		doReturn(mockSelectResults).when(this.mockTemplate)
+			.find(eq(expectedOql), eq(expiringBefore.toEpochMilli()), eq(Long.MIN_VALUE), eq(""));
+
+		List<SessionExpiration> sessionExpirations =
+			this.sessionRepository.findSessionsExpiringBefore(expiringBefore, null, 2);
+
+		assertThat(sessionExpirations).containsExactly(SessionExpiration.of("1", 1000L),
+			SessionExpiration.of("2", 2000L));
+
+		verify(this.mockTemplate, times(1))
+			.find(eq(expectedOql), eq(expiringBefore.toEpochMilli()), eq(Long.MIN_VALUE), eq(""));
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void findSessionsExpiringBeforeSeeksPastCursor() {
+
+		Instant expiringBefore = Instant.parse("2024-01-01T12:00:00Z");
+
+		SelectResults<Object> mockSelectResults = mock(SelectResults.class);
+
+		doReturn(Collections.emptyList()).when(mockSelectResults).asList();
+
+		String expectedOql = String.format(GemFireOperationsSessionRepository.FIND_SESSIONS_EXPIRING_BEFORE_QUERY,
+			this.sessionRepository.getSessionsRegionName(), 100);
+
+		doReturn(mockSelectResults).when(this.mockTemplate)
+			.find(eq(expectedOql), eq(expiringBefore.toEpochMilli()), eq(2000L), eq("2"));
+
+		assertThat(this.sessionRepository
+			.findSessionsExpiringBefore(expiringBefore, SessionExpiration.of("2", 2000L), 100)).isEmpty();
+	}
+
+	@Test
+	public void findSessionsExpiringBeforeWithInvalidPageSizeThrowsIllegalArgumentException() {
+
+		assertThatIllegalArgumentException()
+			.isThrownBy(() -> this.sessionRepository.findSessionsExpiringBefore(Instant.now(), null, 0))
+			.withMessage("Page size [0] must be greater than 0");
+	}
+
+	private Struct mockSummaryStruct(String sessionId, String principalName, long expirationTime) {
+
+		Struct mockStruct = mock(Struct.class);
+
+		doReturn(sessionId).when(mockStruct).get(eq("id"));
+		doReturn(principalName).when(mockStruct).get(eq("principalName"));
+		doReturn(1000L).when(mockStruct).get(eq("creationTime"));
+		doReturn(2000L).when(mockStruct).get(eq("lastAccessedTime"));
+		doReturn(expirationTime).when(mockStruct).get(eq("expirationTime"));
+
+		return mockStruct;
+	}
+
+	@Test
+	public void prepareSummaryQueryReturnsIndexNameAndIndexValueProjection() {
+
+		String expectedOql = String.format(
+			GemFireOperationsSessionRepository.FIND_SESSION_SUMMARIES_BY_INDEX_NAME_AND_INDEX_VALUE_QUERY,
+				this.sessionRepository.getSessionsRegionName(), "vip");
+
+		assertThat(this.sessionRepository.prepareSummaryQuery("vip")).isEqualTo(expectedOql);
+		assertThat(expectedOql).startsWith("SELECT s.id, s.principalName,").doesNotContain("SELECT s FROM");
+	}
+
+	@Test
+	public void prepareSummaryQueryReturnsPrincipalNameProjection() {
+
+		String expectedOql =
+			String.format(GemFireOperationsSessionRepository.FIND_SESSION_SUMMARIES_BY_PRINCIPAL_NAME_QUERY,
+				this.sessionRepository.getSessionsRegionName());
+
+		assertThat(this.sessionRepository.prepareSummaryQuery(PRINCIPAL_NAME_INDEX_NAME)).isEqualTo(expectedOql);
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void findSessionSummariesByPrincipalNameReturnsUnexpiredSessionSummaries() {
+
+		SelectResults<Object> mockSelectResults = mock(SelectResults.class);
+
+		doReturn(Arrays.asList(mockSummaryStruct("1", "jonDoe", Long.MAX_VALUE),
+			mockSummaryStruct("2", "jonDoe", 0L))).when(mockSelectResults).asList();
+
+		String expectedOql =
+			String.format(GemFireOperationsSessionRepository.FIND_SESSION_SUMMARIES_BY_PRINCIPAL_NAME_QUERY,
+				this.sessionRepository.getSessionsRegionName());
+
+		doReturn(mockSelectResults).when(this.mockTemplate).find(eq(expectedOql), eq("jonDoe"));
+
+		Map<String, SessionSummary> sessionSummaries =
+			this.sessionRepository.findSessionSummariesByPrincipalName("jonDoe");
+
+		assertThat(sessionSummaries).containsOnlyKeys("1");
+
+		SessionSummary sessionSummary = sessionSummaries.get("1");
+
+		assertThat(sessionSummary).isEqualTo(SessionSummary.of("1", "jonDoe", 1000L, 2000L, Long.MAX_VALUE));
+		assertThat(sessionSummary.getCreationTime()).isEqualTo(Instant.ofEpochMilli(1000L));
+		assertThat(sessionSummary.getLastAccessedTime()).isEqualTo(Instant.ofEpochMilli(2000L));
+		assertThat(sessionSummary.getPrincipalName()).isEqualTo("jonDoe");
+
+		verify(this.mockTemplate, times(1)).find(eq(expectedOql), eq("jonDoe"));
+		verify(this.mockTemplate, never()).getAll(any());
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void findSessionSummariesByIndexNameAndIndexValueWithNoPrincipal() {
+
+		SelectResults<Object> mockSelectResults = mock(SelectResults.class);
+
+		doReturn(Collections.singletonList(mockSummaryStruct("1", null, Long.MAX_VALUE)))
+			.when(mockSelectResults).asList();
+
+		String expectedOql = String.format(
+			GemFireOperationsSessionRepository.FIND_SESSION_SUMMARIES_BY_INDEX_NAME_AND_INDEX_VALUE_QUERY,
+				this.sessionRepository.getSessionsRegionName(), "vip");
+
+		doReturn(mockSelectResults).when(this.mockTemplate).find(eq(expectedOql), eq("gold"));
+
+		assertThat(this.sessionRepository.findSessionSummariesByIndexNameAndIndexValue("vip", "gold"))
+			.containsExactly(Map.entry("1", SessionSummary.of("1", null, 1000L, 2000L, Long.MAX_VALUE)));
+	}
+
+	@Test
+	public void findReadOnlyBySessionQueryReturnsUnexpiredReadOnlySessions() {
+
+		Instant lastAccessedTime = Instant.now().minusSeconds(60);
+
+		SessionQuery sessionQuery = SessionQuery.query()
+			.lastAccessedAfter(lastAccessedTime)
+			.attributeEquals("tenant", "acme");
+
+		String expectedOql = String.format(GemFireOperationsSessionRepository.FIND_SESSIONS_BY_SESSION_QUERY,
+			this.sessionRepository.getSessionsRegionName(),
+				"s.attributes['tenant'] = $1 AND s.lastAccessedTimeMillis > $2");
+
+		Session mockExpiredSession = mock(Session.class, "expired");
+
+		doReturn(true).when(mockExpiredSession).isExpired();
+
+		SelectResults<Object> mockSelectResults =
+			mockSelectResults(Arrays.asList(mockSession("1"), mockExpiredSession));
+
+		doReturn(mockSelectResults).when(this.mockTemplate).find(eq(expectedOql), eq("acme"),
+			eq(lastAccessedTime.toEpochMilli()));
+
+		Map<String, Session> sessions = this.sessionRepository.findReadOnlyBySessionQuery(sessionQuery);
+
+		assertThat(sessions).containsOnlyKeys("1");
+		assertThat(sessions.get("1")).isInstanceOf(ReadOnlySession.class);
+	}
+
+	@Test
+	public void findSessionSummariesBySessionQueryUsesProjection() {
+
+		SessionQuery sessionQuery = SessionQuery.query()
+			.principalNameIn(Arrays.asList("jonDoe", "janeDoe"));
+
+		String expectedOql = String.format(GemFireOperationsSessionRepository.FIND_SESSION_SUMMARIES_BY_SESSION_QUERY,
+			this.sessionRepository.getSessionsRegionName(), "s.principalName IN $1");
+
+		SelectResults<Object> mockSelectResults = mockSelectResults(Arrays.asList(
+			mockSummaryStruct("1", "jonDoe", Long.MAX_VALUE), mockSummaryStruct("2", "janeDoe", 0L)));
+
+		doReturn(mockSelectResults).when(this.mockTemplate)
+			.find(eq(expectedOql), eq(new HashSet<>(Arrays.asList("jonDoe", "janeDoe"))));
+
+		assertThat(expectedOql).startsWith("SELECT s.id, s.principalName");
+		assertThat(this.sessionRepository.findSessionSummariesBySessionQuery(sessionQuery))
+			.containsExactly(Map.entry("1", SessionSummary.of("1", "jonDoe", 1000L, 2000L, Long.MAX_VALUE)));
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void findBySessionQueryCompilesQueryOncePerPredicate() throws Exception {
+
+		String expectedOql = String.format(GemFireOperationsSessionRepository.FIND_SESSIONS_BY_SESSION_QUERY,
+			this.sessionRepository.getSessionsRegionName(), "s.principalName = $1");
+
+		Query mockQuery = mock(Query.class);
+		QueryService mockQueryService = mock(QueryService.class);
+		SelectResults<Object> mockSelectResults = mockSelectResults(Collections.emptyList());
+
+		doReturn(mockQuery).when(mockQueryService).newQuery(eq(expectedOql));
+		doReturn(mockSelectResults).when(mockQuery).execute(any());
+
+		QueryCache queryCache = new QueryCache(mockQueryService);
+
+		GemFireOperationsSessionRepository sessionRepositorySpy = spy(this.sessionRepository);
+
+		doReturn(Optional.of(queryCache)).when(sessionRepositorySpy).getQueryCache();
+
+		assertThat(sessionRepositorySpy.findReadOnlyBySessionQuery(SessionQuery.query().principalNameEquals("jonDoe")))
+			.isEmpty();
+		assertThat(sessionRepositorySpy.findReadOnlyBySessionQuery(SessionQuery.query().principalNameEquals("janeDoe")))
+			.isEmpty();
+		assertThat(queryCache.getHitCount()).isOne();
+		assertThat(queryCache.getMissCount()).isOne();
+
+		verify(mockQueryService, times(1)).newQuery(eq(expectedOql));
+		verify(mockQuery, times(1)).execute(eq("jonDoe"));
+		verify(mockQuery, times(1)).execute(eq("janeDoe"));
+		verify(this.mockTemplate, never()).find(anyString(), any());
+	}
+
+	@Test
+	public void findBySessionQueryWithEmptySessionQueryThrowsIllegalArgumentException() {
+
+		assertThatIllegalArgumentException()
+			.isThrownBy(() -> this.sessionRepository.findSessionSummariesBySessionQuery(SessionQuery.query()))
+			.withMessage("SessionQuery requires at least one criterion");
+
+		assertThatIllegalArgumentException()
+			.isThrownBy(() -> this.sessionRepository.findReadOnlyBySessionQuery(null))
+			.withMessage("SessionQuery is required");
+	}
+
+	@SuppressWarnings("unchecked")
+	private Execution mockDeleteSessionsExecution(RuntimeException failure, Object... results) {
+
+		Region<Object, Session> mockRegion = this.sessionRepository.getSessionsRegion();
+		RegionAttributes<Object, Session> mockRegionAttributes = mock(RegionAttributes.class);
+
+		doReturn(mockRegionAttributes).when(mockRegion).getAttributes();
+		doReturn("DEFAULT").when(mockRegionAttributes).getPoolName();
+		doReturn(mock(ClientCache.class)).when(mockRegion).getRegionService();
+
+		Execution mockExecution = mock(Execution.class);
+
+		AtomicReference<ResultCollector> resultCollector = new AtomicReference<>();
+
+		doReturn(mockExecution).when(mockExecution).setArguments(any());
+
+		doAnswer(invocation -> {
+			resultCollector.set(invocation.getArgument(0));
+			return mockExecution;
+		}).when(mockExecution).withCollector(any());
+
+		doAnswer(invocation -> {
+
+			Arrays.stream(results).forEach(result -> resultCollector.get().addResult(null, result));
+
+			if (failure != null) {
+				throw failure;
+			}
+
+			return resultCollector.get();
+
+		}).when(mockExecution).execute(eq(DeleteSessionsByPrincipalNameFunction.ID));
+
+		return mockExecution;
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void deleteByPrincipalNamesDeletesSessionsOnServers() {
+
+		Execution mockExecution = mockDeleteSessionsExecution(null,
+			Collections.singletonMap("1", "jonDoe"), Collections.singletonMap("2", "janeDoe"));
+
+		PrincipalNameSessionIndex mockPrincipalNameSessionIndex = mock(PrincipalNameSessionIndex.class);
+
+		GemFireOperationsSessionRepository sessionRepositorySpy = spy(this.sessionRepository);
+
+		doReturn(mockExecution).when(sessionRepositorySpy).newSessionsRegionExecution();
+
+		sessionRepositorySpy.setPrincipalNameSessionIndex(mockPrincipalNameSessionIndex);
+
+		assertThat(sessionRepositorySpy.deleteByPrincipalNames(Arrays.asList("jonDoe", "janeDoe", " ", null)))
+			.containsExactlyInAnyOrder("1", "2");
+
+		ArgumentCaptor<Object> arguments = ArgumentCaptor.forClass(Object.class);
+
+		verify(mockExecution, times(1)).setArguments(arguments.capture());
+		assertThat((Collection<String>) arguments.getValue()).containsExactlyInAnyOrder("jonDoe", "janeDoe");
+		verify(mockExecution, times(1)).withCollector(isA(DeletedSessionsResultCollector.class));
+		verify(mockPrincipalNameSessionIndex, times(1)).unindex(eq("1"), eq("jonDoe"));
+		verify(mockPrincipalNameSessionIndex, times(1)).unindex(eq("2"), eq("janeDoe"));
+		verify(this.mockApplicationEventPublisher, times(2)).publishEvent(isA(SessionDeletedEvent.class));
+		verify(this.mockTemplate, never()).remove(any());
+		verify(this.mockTemplate, never()).find(anyString(), any());
+	}
+
+	@Test
+	public void deleteByPrincipalNamesDestroysClientCopiesOfSessionsDeletedOnServers() {
+
+		Execution mockExecution = mockDeleteSessionsExecution(null,
+			Collections.singletonMap("1", "jonDoe"), Collections.singletonMap("2", "janeDoe"));
+
+		Region<Object, Session> mockRegion = this.sessionRepository.getSessionsRegion();
+
+		// CACHING_PROXY client Region
+		doReturn(DataPolicy.NORMAL).when(mockRegion.getAttributes()).getDataPolicy();
+		doThrow(new EntryNotFoundException("TEST")).when(mockRegion)
+			.localDestroy(eq("2"), eq(DeleteSessionsByPrincipalNameFunction.SESSION_DELETED_CALLBACK_ARGUMENT));
+
+		GemFireOperationsSessionRepository sessionRepositorySpy = spy(this.sessionRepository);
+
+		doReturn(mockExecution).when(sessionRepositorySpy).newSessionsRegionExecution();
+
+		assertThat(sessionRepositorySpy.deleteByPrincipalNames(Arrays.asList("jonDoe", "janeDoe")))
+			.containsExactlyInAnyOrder("1", "2");
+
+		verify(mockRegion, times(1))
+			.localDestroy(eq("1"), eq(DeleteSessionsByPrincipalNameFunction.SESSION_DELETED_CALLBACK_ARGUMENT));
+		verify(mockRegion, times(1))
+			.localDestroy(eq("2"), eq(DeleteSessionsByPrincipalNameFunction.SESSION_DELETED_CALLBACK_ARGUMENT));
+		verify(this.mockApplicationEventPublisher, times(2)).publishEvent(isA(SessionDeletedEvent.class));
+	}
+
+	@Test
+	public void deleteByPrincipalNamesDoesNotDestroyClientCopiesInProxyRegion() {
+
+		Execution mockExecution = mockDeleteSessionsExecution(null, Collections.singletonMap("1", "jonDoe"));
+
+		Region<Object, Session> mockRegion = this.sessionRepository.getSessionsRegion();
+
+		doReturn(DataPolicy.EMPTY).when(mockRegion.getAttributes()).getDataPolicy();
+
+		GemFireOperationsSessionRepository sessionRepositorySpy = spy(this.sessionRepository);
+
+		doReturn(mockExecution).when(sessionRepositorySpy).newSessionsRegionExecution();
+
+		assertThat(sessionRepositorySpy.deleteByPrincipalNames(Collections.singleton("jonDoe"))).containsExactly("1");
+
+		verify(mockRegion, never()).localDestroy(any(), any());
+		verify(this.mockApplicationEventPublisher, times(1)).publishEvent(isA(SessionDeletedEvent.class));
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void deleteByPrincipalNamesDeletesSessionsOneAtATimeWhenFunctionIsNotRegistered() {
+
+		Execution mockExecution = mockDeleteSessionsExecution(new FunctionException(String.format(
+			"Function named %s is not registered to FunctionService", DeleteSessionsByPrincipalNameFunction.ID)));
+
+		SelectResults<Object> mockSelectResults = mock(SelectResults.class);
+
+		doReturn(Collections.singletonList(mockSummaryStruct("1", "jonDoe", Long.MAX_VALUE)))
+			.when(mockSelectResults).asList();
+
+		String expectedOql =
+			String.format(GemFireOperationsSessionRepository.FIND_SESSION_SUMMARIES_BY_PRINCIPAL_NAME_QUERY,
+				this.sessionRepository.getSessionsRegionName());
+
+		doReturn(mockSelectResults).when(this.mockTemplate).find(eq(expectedOql), eq("jonDoe"));
+
+		GemFireOperationsSessionRepository sessionRepositorySpy = spy(this.sessionRepository);
+
+		doReturn(mockExecution).when(sessionRepositorySpy).newSessionsRegionExecution();
+
+		assertThat(sessionRepositorySpy.deleteByPrincipalName("jonDoe")).containsExactly("1");
+
+		verify(sessionRepositorySpy, times(1)).deleteById(eq("1"));
+		verify(this.mockTemplate, times(1)).remove(eq("1"));
+		verify(this.mockApplicationEventPublisher, times(1)).publishEvent(isA(SessionDeletedEvent.class));
+	}
+
+	@Test(expected = SessionDeletionException.class)
+	public void deleteByPrincipalNamesKeepsSessionsDeletedBeforeFunctionFails() {
+
+		FunctionException failure = new FunctionException("TEST");
+
+		Execution mockExecution = mockDeleteSessionsExecution(failure, Collections.singletonMap("1", "jonDoe"));
+
+		PrincipalNameSessionIndex mockPrincipalNameSessionIndex = mock(PrincipalNameSessionIndex.class);
+
+		GemFireOperationsSessionRepository sessionRepositorySpy = spy(this.sessionRepository);
+
+		doReturn(mockExecution).when(sessionRepositorySpy).newSessionsRegionExecution();
+
+		sessionRepositorySpy.setPrincipalNameSessionIndex(mockPrincipalNameSessionIndex);
+
+		try {
+			sessionRepositorySpy.deleteByPrincipalNames(Arrays.asList("jonDoe", "janeDoe"));
+		}
+		catch (SessionDeletionException expected) {
+
+			assertThat(expected).hasMessageContaining("[1] Sessions were deleted");
+			assertThat(expected).hasCause(failure);
+			assertThat(expected.getDeletedSessionIds()).containsExactly("1");
+
+			throw expected;
+		}
+		finally {
+			verify(mockPrincipalNameSessionIndex, times(1)).unindex(eq("1"), eq("jonDoe"));
+			verify(this.mockApplicationEventPublisher, times(1)).publishEvent(isA(SessionDeletedEvent.class));
+			verify(sessionRepositorySpy, never()).deleteById(any());
+			verify(this.mockTemplate, never()).remove(any());
+		}
+	}
+
+	@Test(expected = SessionDeletionException.class)
+	public void deleteByPrincipalNamesFailsWhenServerSendsException() {
+
+		FunctionException failure = new FunctionException("TEST");
+
+		Execution mockExecution = mockDeleteSessionsExecution(null,
+			Collections.singletonMap("1", "jonDoe"), failure, Collections.singletonMap("2", "janeDoe"));
+
+		GemFireOperationsSessionRepository sessionRepositorySpy = spy(this.sessionRepository);
+
+		doReturn(mockExecution).when(sessionRepositorySpy).newSessionsRegionExecution();
+
+		try {
+			sessionRepositorySpy.deleteByPrincipalNames(Arrays.asList("jonDoe", "janeDoe"));
+		}
+		catch (SessionDeletionException expected) {
+
+			assertThat(expected).hasCause(failure);
+			assertThat(expected.getDeletedSessionIds()).containsExactlyInAnyOrder("1", "2");
+
+			throw expected;
+		}
+		finally {
+			verify(this.mockApplicationEventPublisher, times(2)).publishEvent(isA(SessionDeletedEvent.class));
+		}
+	}
+
+	@Test
+	public void isFunctionNotRegisteredEvaluatesCauseChain() {
+
+		RuntimeException notRegistered = new RuntimeException("TEST", new FunctionException(String.format(
+			"Function named %s is not registered to FunctionService", DeleteSessionsByPrincipalNameFunction.ID)));
+
+		assertThat(this.sessionRepository.isFunctionNotRegistered(notRegistered)).isTrue();
+		assertThat(this.sessionRepository.isFunctionNotRegistered(new FunctionException("TEST"))).isFalse();
+		assertThat(this.sessionRepository.isFunctionNotRegistered(null)).isFalse();
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void deleteByPrincipalNameDeletesSessionsOneAtATimeWhenRegionIsLocal() {
+
+		SelectResults<Object> mockSelectResults = mock(SelectResults.class);
+
+		doReturn(Collections.singletonList(mockSummaryStruct("1", "jonDoe", Long.MAX_VALUE)))
+			.when(mockSelectResults).asList();
+
+		String expectedOql =
+			String.format(GemFireOperationsSessionRepository.FIND_SESSION_SUMMARIES_BY_PRINCIPAL_NAME_QUERY,
+				this.sessionRepository.getSessionsRegionName());
+
+		doReturn(mockSelectResults).when(this.mockTemplate).find(eq(expectedOql), eq("jonDoe"));
+
+		GemFireOperationsSessionRepository sessionRepositorySpy = spy(this.sessionRepository);
+
+		assertThat(sessionRepositorySpy.deleteByPrincipalName("jonDoe")).containsExactly("1");
+
+		verify(sessionRepositorySpy, never()).newSessionsRegionExecution();
+		verify(sessionRepositorySpy, times(1)).deleteById(eq("1"));
+		verify(this.mockTemplate, times(1)).remove(eq("1"));
+		verify(this.mockApplicationEventPublisher, times(1)).publishEvent(isA(SessionDeletedEvent.class));
+	}
+
+	@Test
+	public void deleteByPrincipalNamesWithNoPrincipalNamesDeletesNothing() {
+
+		assertThat(this.sessionRepository.deleteByPrincipalNames(Collections.singleton(""))).isEmpty();
+
+		verify(this.mockTemplate, never()).find(anyString(), any());
+		verify(this.mockTemplate, never()).remove(any());
+	}
+
+	private Session mockSession(String sessionId) {
+
+		Session mockSession = mock(Session.class, sessionId);
+
+		doReturn(sessionId).when(mockSession).getId();
+
+		return mockSession;
+	}
+
+	@SuppressWarnings("unchecked")
+	private SelectResults<Object> mockSelectResults(List<?> results) {
+
+		SelectResults<Object> mockSelectResults = mock(SelectResults.class);
+
+		doReturn(results.size()).when(mockSelectResults).size();
+		doReturn(results).when(mockSelectResults).asList();
+
+		return mockSelectResults;
+	}
+
+	@Test
+	public void prepareSessionIdsQueryReturnsIndexNameAndIndexValueOql() {
+
+		String expectedOql =
+			String.format(GemFireOperationsSessionRepository.FIND_SESSION_IDS_BY_INDEX_NAME_AND_INDEX_VALUE_QUERY,
+				this.sessionRepository.getSessionsRegionName(), "vip", 100);
+
+		assertThat(this.sessionRepository.prepareSessionIdsQuery("vip", 100)).isEqualTo(expectedOql);
+		assertThat(expectedOql).endsWith("ORDER BY s.id LIMIT 100");
+	}
+
+	@Test
+	public void prepareSessionIdsQueryReturnsPrincipalNameOql() {
+
+		String expectedOql = String.format(GemFireOperationsSessionRepository.FIND_SESSION_IDS_BY_PRINCIPAL_NAME_QUERY,
+			this.sessionRepository.getSessionsRegionName(), 100);
+
+		assertThat(this.sessionRepository.prepareSessionIdsQuery(PRINCIPAL_NAME_INDEX_NAME, 100))
+			.isEqualTo(expectedOql);
+		assertThat(expectedOql).contains("s.principalName = $1").endsWith("LIMIT 100");
+	}
+
+	@Test
+	public void findSessionIdsByIndexNameAndIndexValueSeeksPastCursor() {
+
+		String expectedOql = this.sessionRepository.prepareSessionIdsQuery("vip", 2);
+
+		SelectResults<Object> firstPage = mockSelectResults(Arrays.asList("1", "2"));
+		SelectResults<Object> lastPage = mockSelectResults(Collections.emptyList());
+
+		doReturn(firstPage).when(this.mockTemplate).find(eq(expectedOql), eq("gold"), eq(""));
+		doReturn(lastPage).when(this.mockTemplate).find(eq(expectedOql), eq("gold"), eq("2"));
+
+		assertThat(this.sessionRepository.findSessionIdsByIndexNameAndIndexValue("vip", "gold", null, 2))
+			.containsExactly("1", "2");
+		assertThat(this.sessionRepository.findSessionIdsByIndexNameAndIndexValue("vip", "gold", "2", 2))
+			.isEmpty();
+	}
+
+	@Test
+	public void streamByIndexNameAndIndexValueFetchesOnePageAtATime() {
+
+		String expectedOql = this.sessionRepository.prepareSessionIdsQuery("vip", 2);
+
+		SelectResults<Object> firstPage = mockSelectResults(Arrays.asList("1", "2"));
+		SelectResults<Object> lastPage = mockSelectResults(Arrays.asList("3", "4"));
+		SelectResults<Object> emptyPage = mockSelectResults(Collections.emptyList());
+
+		doReturn(firstPage).when(this.mockTemplate).find(eq(expectedOql), eq("gold"), eq(""));
+		doReturn(lastPage).when(this.mockTemplate).find(eq(expectedOql), eq("gold"), eq("2"));
+		doReturn(emptyPage).when(this.mockTemplate).find(eq(expectedOql), eq("gold"), eq("4"));
+
+		Map<String, Session> firstSessions = new HashMap<>();
+
+		firstSessions.put("1", mockSession("1"));
+		firstSessions.put("2", mockSession("2"));
+
+		doReturn(firstSessions).when(this.mockTemplate).getAll(eq(Arrays.asList("1", "2")));
+		doReturn(Collections.singletonMap("4", mockSession("4")))
+			.when(this.mockTemplate).getAll(eq(Arrays.asList("3", "4")));
+
+		Stream<Session> sessions = this.sessionRepository.streamByIndexNameAndIndexValue("vip", "gold", 2);
+
+		verify(this.mockTemplate, never()).find(anyString(), any());
+
+		assertThat(sessions.map(Session::getId)).containsExactly("1", "2", "4");
+
+		verify(this.mockTemplate, times(1)).find(eq(expectedOql), eq("gold"), eq(""));
+		verify(this.mockTemplate, times(1)).find(eq(expectedOql), eq("gold"), eq("2"));
+		verify(this.mockTemplate, times(1)).find(eq(expectedOql), eq("gold"), eq("4"));
+		verify(this.mockTemplate, times(2)).getAll(any());
+	}
+
+	@Test
+	public void streamByIndexNameAndIndexValueReturnsReadOnlySessionsLazily() {
+
+		String expectedOql = this.sessionRepository.prepareSessionIdsQuery("vip", 2);
+
+		SelectResults<Object> firstPage = mockSelectResults(Arrays.asList("1", "2"));
+
+		doReturn(firstPage).when(this.mockTemplate).find(eq(expectedOql), eq("gold"), eq(""));
+		doReturn(Collections.singletonMap("1", mockSession("1")))
+			.when(this.mockTemplate).getAll(eq(Arrays.asList("1", "2")));
+
+		Optional<Session> session =
+			this.sessionRepository.streamByIndexNameAndIndexValue("vip", "gold", 2).findFirst();
+
+		assertThat(session).containsInstanceOf(ReadOnlySession.class);
+		assertThat(session.map(Session::getId)).contains("1");
+
+		verify(this.mockTemplate, times(1)).find(anyString(), any(), any());
+	}
+
+	@Test
+	public void streamByIndexNameAndIndexValueWithInvalidPageSizeThrowsIllegalArgumentException() {
+
+		assertThatIllegalArgumentException()
+			.isThrownBy(() -> this.sessionRepository.streamByIndexNameAndIndexValue("vip", "gold", 0))
+			.withMessage("Page size [0] must be greater than 0");
+	}
+
 	protected static abstract class GemfireOperationsAccessor extends GemfireAccessor implements GemfireOperations { }
 
 }
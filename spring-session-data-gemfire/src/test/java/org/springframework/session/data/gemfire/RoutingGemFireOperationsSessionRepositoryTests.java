@@ -0,0 +1,319 @@
+/*
+ * Copyright 2024 Broadcom. All rights reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.springframework.session.data.gemfire;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import org.springframework.session.Session;
+import org.springframework.session.SessionIdGenerator;
+import org.springframework.session.data.gemfire.AbstractGemFireOperationsSessionRepository.GemFireSession;
+import org.springframework.session.data.gemfire.support.SessionClassifier;
+
+/**
+ * Unit tests for {@link RoutingGemFireOperationsSessionRepository}.
+ *
+ * @author John Blum
+ * @see org.junit.Test
+ * @see org.mockito.Mockito
+ * @see org.springframework.session.data.gemfire.RoutingGemFireOperationsSessionRepository
+ * @since 1.0.0
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class RoutingGemFireOperationsSessionRepositoryTests {
+
+	@Mock
+	private GemFireOperationsSessionRepository mockAnonymousRepository;
+
+	@Mock
+	private GemFireOperationsSessionRepository mockAuthenticatedRepository;
+
+	private Map<String, GemFireOperationsSessionRepository> repositories;
+
+	@Before
+	public void setup() {
+
+		this.repositories = new LinkedHashMap<>();
+		this.repositories.put("anonymous", this.mockAnonymousRepository);
+		this.repositories.put("authenticated", this.mockAuthenticatedRepository);
+	}
+
+	private RoutingGemFireOperationsSessionRepository newRepository(SessionClassifier sessionClassifier) {
+		return new RoutingGemFireOperationsSessionRepository(this.repositories, "anonymous", sessionClassifier);
+	}
+
+	private GemFireSession<?> newSession(String id) {
+
+		GemFireSession<?> session = GemFireSession.create();
+
+		session.setId(id);
+
+		return session;
+	}
+
+	@Test
+	public void constructsRoutingRepository() {
+
+		SessionClassifier sessionClassifier = session -> null;
+
+		RoutingGemFireOperationsSessionRepository repository = newRepository(sessionClassifier);
+
+		assertThat(repository.getDefaultRoute()).isEqualTo("anonymous");
+		assertThat(repository.getRoutes()).containsExactly("anonymous", "authenticated");
+		assertThat(repository.getSessionClassifier()).isSameAs(sessionClassifier);
+		assertThat(repository.getRepository("authenticated")).isSameAs(this.mockAuthenticatedRepository);
+		assertThat(repository.getRepository("unknown")).isSameAs(this.mockAnonymousRepository);
+		assertThat(repository.getRepository(null)).isSameAs(this.mockAnonymousRepository);
+	}
+
+	@Test
+	public void constructWithInvalidArgumentsThrowsIllegalArgumentException() {
+
+		assertThatIllegalArgumentException()
+			.isThrownBy(() -> new RoutingGemFireOperationsSessionRepository(Collections.emptyMap(), "anonymous",
+				session -> null))
+			.withMessage("Routes are required");
+
+		assertThatIllegalArgumentException()
+			.isThrownBy(() -> new RoutingGemFireOperationsSessionRepository(this.repositories, "premium",
+				session -> null))
+			.withMessage("Default route [premium] must be one of [anonymous, authenticated]");
+
+		assertThatIllegalArgumentException()
+			.isThrownBy(() -> new RoutingGemFireOperationsSessionRepository(
+				Collections.singletonMap("tenant.one", this.mockAnonymousRepository), "tenant.one", session -> null))
+			.withMessage("Route [tenant.one] must not be empty or contain [.]");
+
+		assertThatIllegalArgumentException()
+			.isThrownBy(() -> new RoutingGemFireOperationsSessionRepository(this.repositories, "anonymous", null))
+			.withMessage("SessionClassifier is required");
+	}
+
+	@Test
+	public void createSessionEncodesDefaultRouteInSessionId() {
+
+		doReturn(newSession("1")).when(this.mockAnonymousRepository).createSession();
+
+		Session session = newRepository(it -> null).createSession();
+
+		assertThat(session.getId()).isEqualTo("anonymous.1");
+
+		verifyNoInteractions(this.mockAuthenticatedRepository);
+	}
+
+	@Test
+	public void createSessionUsesRepositoryOfClassifiedRoute() {
+
+		doReturn(newSession("1")).when(this.mockAnonymousRepository).createSession();
+		doReturn(newSession("2")).when(this.mockAuthenticatedRepository).createSession();
+
+		Session session = newRepository(it -> "authenticated").createSession();
+
+		assertThat(session.getId()).isEqualTo("authenticated.2");
+	}
+
+	@Test
+	public void findByIdUsesRouteEncodedInSessionId() {
+
+		Session session = newSession("authenticated.1");
+
+		doReturn(session).when(this.mockAuthenticatedRepository).findById(eq("authenticated.1"));
+
+		RoutingGemFireOperationsSessionRepository repository = newRepository(it -> null);
+
+		assertThat(repository.findById("authenticated.1")).isSameAs(session);
+		assertThat(repository.findById("legacy-id")).isNull();
+		assertThat(repository.findById("premium.1")).isNull();
+
+		verify(this.mockAnonymousRepository).findById(eq("legacy-id"));
+		verify(this.mockAnonymousRepository).findById(eq("premium.1"));
+	}
+
+	@Test
+	public void deleteByIdUsesRouteEncodedInSessionId() {
+
+		newRepository(it -> null).deleteById("authenticated.1");
+
+		verify(this.mockAuthenticatedRepository).deleteById(eq("authenticated.1"));
+		verifyNoInteractions(this.mockAnonymousRepository);
+	}
+
+	@Test
+	public void saveKeepsSessionInItsRoute() {
+
+		Session session = newSession("authenticated.1");
+
+		newRepository(it -> "authenticated").save(session);
+
+		assertThat(session.getId()).isEqualTo("authenticated.1");
+
+		verify(this.mockAuthenticatedRepository).save(eq(session));
+		verifyNoInteractions(this.mockAnonymousRepository);
+	}
+
+	@Test
+	public void saveMovesReclassifiedSessionToNewRoute() {
+
+		Session session = newSession("anonymous.1");
+
+		newRepository(it -> "authenticated").save(session);
+
+		assertThat(session.getId()).startsWith("authenticated.");
+		assertThat(session.getId()).isNotEqualTo("authenticated.1");
+		assertThat(((GemFireSession<?>) session).hasDelta()).isTrue();
+
+		verify(this.mockAuthenticatedRepository).save(eq(session));
+		verify(this.mockAnonymousRepository).removeMovedSession(eq("anonymous.1"));
+		verify(this.mockAnonymousRepository, never()).deleteById(any());
+		verify(this.mockAnonymousRepository, never()).save(any());
+	}
+
+	@Test
+	public void saveEncodesRouteInUnroutedSessionId() {
+
+		GemFireSession<?> session = newSession("1");
+
+		session.commit();
+
+		newRepository(it -> null).save(session);
+
+		assertThat(session.getId()).isEqualTo("anonymous.1");
+		assertThat(session.hasDelta()).isTrue();
+
+		verify(this.mockAnonymousRepository).save(eq(session));
+		verify(this.mockAnonymousRepository).removeMovedSession(eq("1"));
+		verify(this.mockAnonymousRepository, never()).deleteById(any());
+	}
+
+	@Test
+	public void saveRemovesUnroutedSessionIdFromDefaultRouteWhenSessionIsClassifiedIntoOtherRoute() {
+
+		GemFireSession<?> session = newSession("1");
+
+		newRepository(it -> "authenticated").save(session);
+
+		assertThat(session.getId()).isEqualTo("authenticated.1");
+
+		verify(this.mockAuthenticatedRepository).save(eq(session));
+		verify(this.mockAuthenticatedRepository, never()).removeMovedSession(any());
+		verify(this.mockAnonymousRepository).removeMovedSession(eq("1"));
+		verify(this.mockAnonymousRepository, never()).deleteById(any());
+		verify(this.mockAnonymousRepository, never()).save(any());
+	}
+
+	@Test
+	public void changeSessionIdOfCreatedSessionKeepsRoute() {
+
+		doReturn(newSession("1")).when(this.mockAnonymousRepository).createSession();
+		doReturn(newSession("2")).when(this.mockAuthenticatedRepository).createSession();
+		doReturn((SessionIdGenerator) () -> "3").when(this.mockAuthenticatedRepository).getSessionIdGenerator();
+
+		RoutingGemFireOperationsSessionRepository repository = newRepository(it -> "authenticated");
+
+		Session session = repository.createSession();
+
+		assertThat(session.changeSessionId()).isEqualTo("authenticated.3");
+
+		repository.save(session);
+
+		assertThat(session.getId()).isEqualTo("authenticated.3");
+
+		verify(this.mockAuthenticatedRepository).save(eq(session));
+		verify(this.mockAuthenticatedRepository, never()).deleteById(any());
+		verify(this.mockAuthenticatedRepository, never()).removeMovedSession(any());
+		verify(this.mockAnonymousRepository, never()).deleteById(any());
+		verify(this.mockAnonymousRepository, never()).removeMovedSession(any());
+	}
+
+	@Test
+	public void changeSessionIdOfFoundSessionKeepsRoute() {
+
+		Session session = newSession("authenticated.1");
+
+		doReturn(session).when(this.mockAuthenticatedRepository).findById(eq("authenticated.1"));
+		doReturn((SessionIdGenerator) () -> "2").when(this.mockAuthenticatedRepository).getSessionIdGenerator();
+
+		RoutingGemFireOperationsSessionRepository repository = newRepository(it -> "authenticated");
+
+		assertThat(repository.findById("authenticated.1")).isSameAs(session);
+		assertThat(session.changeSessionId()).isEqualTo("authenticated.2");
+
+		repository.save(session);
+
+		verify(this.mockAuthenticatedRepository).save(eq(session));
+		verify(this.mockAuthenticatedRepository, never()).removeMovedSession(any());
+		verifyNoInteractions(this.mockAnonymousRepository);
+	}
+
+	@Test
+	public void changeSessionIdOfReclassifiedSessionEncodesNewRoute() {
+
+		GemFireSession<?> session = newSession("anonymous.1");
+
+		doReturn((SessionIdGenerator) () -> "2").when(this.mockAuthenticatedRepository).getSessionIdGenerator();
+
+		newRepository(it -> "authenticated").save(session);
+
+		assertThat(session.getId()).isEqualTo("authenticated.2");
+		assertThat(session.changeSessionId()).startsWith("authenticated.");
+
+		verify(this.mockAnonymousRepository).removeMovedSession(eq("anonymous.1"));
+	}
+
+	@Test
+	public void saveNullSessionDoesNothing() {
+
+		newRepository(it -> "authenticated").save(null);
+
+		verifyNoInteractions(this.mockAnonymousRepository, this.mockAuthenticatedRepository);
+	}
+
+	@Test
+	public void saveNonGemFireSessionUsesRouteEncodedInSessionId() {
+
+		Session mockSession = mock(Session.class);
+
+		doReturn("anonymous.1").when(mockSession).getId();
+
+		newRepository(it -> "authenticated").save(mockSession);
+
+		verify(this.mockAnonymousRepository).save(eq(mockSession));
+		verifyNoInteractions(this.mockAuthenticatedRepository);
+	}
+
+	@Test
+	public void findByIndexNameAndIndexValueSearchesEveryRoute() {
+
+		Session anonymousSession = newSession("anonymous.1");
+		Session authenticatedSession = newSession("authenticated.2");
+
+		doReturn(Collections.singletonMap("anonymous.1", anonymousSession)).when(this.mockAnonymousRepository)
+			.findByIndexNameAndIndexValue(eq("tenant"), eq("acme"));
+		doReturn(Collections.singletonMap("authenticated.2", authenticatedSession))
+			.when(this.mockAuthenticatedRepository).findByIndexNameAndIndexValue(eq("tenant"), eq("acme"));
+
+		Map<String, Session> sessions = newRepository(it -> null).findByIndexNameAndIndexValue("tenant", "acme");
+
+		assertThat(sessions).containsExactly(Map.entry("anonymous.1", anonymousSession),
+			Map.entry("authenticated.2", authenticatedSession));
+	}
+}
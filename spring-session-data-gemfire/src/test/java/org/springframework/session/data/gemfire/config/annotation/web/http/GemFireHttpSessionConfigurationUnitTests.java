@@ -22,15 +22,25 @@ import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
 import java.lang.reflect.Field;
+import java.time.Duration;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Set;
+import org.apache.geode.cache.AttributesMutator;
+import org.apache.geode.cache.EvictionAction;
+import org.apache.geode.cache.EvictionAlgorithm;
+import org.apache.geode.cache.EvictionAttributes;
 import org.apache.geode.cache.ExpirationAction;
 import org.apache.geode.cache.ExpirationAttributes;
 import org.apache.geode.cache.Region;
 import org.apache.geode.cache.RegionAttributes;
 import org.apache.geode.cache.RegionShortcut;
 import org.apache.geode.cache.client.ClientCache;
+import org.apache.geode.cache.client.ClientRegionFactory;
 import org.apache.geode.cache.client.ClientRegionShortcut;
+import org.apache.geode.cache.control.ResourceManager;
+import org.apache.geode.compression.SnappyCompressor;
 import org.junit.Before;
 import org.junit.Test;
 import org.springframework.beans.factory.NoSuchBeanDefinitionException;
@@ -48,12 +58,26 @@ import org.springframework.data.gemfire.GemfireTemplate;
 import org.springframework.data.gemfire.RegionAttributesFactoryBean;
 import org.springframework.data.gemfire.util.ArrayUtils;
 import org.springframework.session.Session;
+import org.springframework.session.SessionIdGenerator;
+import org.springframework.session.UuidSessionIdGenerator;
 import org.springframework.session.data.gemfire.GemFireOperationsSessionRepository;
 import org.springframework.session.data.gemfire.config.annotation.web.http.support.SessionCacheTypeAwareRegionFactoryBean;
+import org.springframework.session.data.gemfire.config.annotation.web.http.support.SessionRegionEvictionPolicy;
+import org.springframework.session.data.gemfire.config.annotation.web.http.support.SessionRegionSettingsFunction;
+import org.springframework.session.data.gemfire.config.annotation.web.http.support.SessionRegionVerifier;
 import org.springframework.session.data.gemfire.config.annotation.web.http.support.SpringSessionGemFireConfigurer;
+import org.springframework.session.data.gemfire.expiration.SessionExpirationPolicy;
+import org.springframework.session.data.gemfire.expiration.support.IdleTimeoutSessionExpirationPolicy;
+import org.springframework.session.data.gemfire.expiration.support.MemoryPressureAwareSessionExpirationPolicy;
+import org.springframework.session.data.gemfire.expiration.support.MemoryPressureSessionSweeper;
+import org.springframework.session.data.gemfire.expiration.support.SessionExpirationPolicyCustomExpiryAdapter;
 import org.springframework.session.data.gemfire.support.DeltaAwareDirtyPredicate;
 import org.springframework.session.data.gemfire.support.EqualsDirtyPredicate;
 import org.springframework.session.data.gemfire.support.IsDirtyPredicate;
+import org.springframework.session.data.gemfire.support.PrincipalNameSessionIndex;
+import org.springframework.session.data.gemfire.support.RoutingKeySessionIdGenerator;
+import org.springframework.session.data.gemfire.support.SessionIdPartitionResolver;
+import org.springframework.session.data.gemfire.support.SessionRegionStatistics;
 import org.springframework.util.ReflectionUtils;
 
 /**
@@ -229,6 +253,22 @@ public class GemFireHttpSessionConfigurationUnitTests {
 		assertThat(this.gemfireConfiguration.getIsDirtyPredicate()).isEqualTo(EqualsDirtyPredicate.INSTANCE);
 	}
 
+	@Test
+	public void setAndGetSessionIdGenerator() {
+
+		assertThat(this.gemfireConfiguration.getSessionIdGenerator()).isSameAs(UuidSessionIdGenerator.getInstance());
+
+		SessionIdGenerator mockSessionIdGenerator = mock(SessionIdGenerator.class);
+
+		this.gemfireConfiguration.setSessionIdGenerator(mockSessionIdGenerator);
+
+		assertThat(this.gemfireConfiguration.getSessionIdGenerator()).isSameAs(mockSessionIdGenerator);
+
+		this.gemfireConfiguration.setSessionIdGenerator(null);
+
+		assertThat(this.gemfireConfiguration.getSessionIdGenerator()).isSameAs(UuidSessionIdGenerator.getInstance());
+	}
+
 	@Test
 	public void setAndGetMaxInactiveIntervalInSeconds() {
 
@@ -427,6 +467,25 @@ public class GemFireHttpSessionConfigurationUnitTests {
 		annotationAttributes.put("regionName", "TEST");
 		annotationAttributes.put("sessionExpirationPolicyBeanName", "testSessionExpirationPolicy");
 		annotationAttributes.put("sessionSerializerBeanName", "testSessionSerializer");
+		annotationAttributes.put("sessionExpiredEventBatchIntervalMillis", 250);
+		annotationAttributes.put("sessionExpiredEventBatchSize", 500);
+		annotationAttributes.put("sessionExpiredEventMaxBatchesPerFlush", 5);
+		annotationAttributes.put("registerInterestEnabled", true);
+		annotationAttributes.put("registerInterestInactivityTimeoutSeconds", 120);
+		annotationAttributes.put("sessionEventExecutorLaneCount", 4);
+		annotationAttributes.put("sessionChangedEventCoalescingWindowMillis", 750);
+		annotationAttributes.put("timingWheelExpirationEnabled", true);
+		annotationAttributes.put("fixedDurationExpirationSeconds", 3600);
+		annotationAttributes.put("expiredSessionSweepIntervalSeconds", 300);
+		annotationAttributes.put("cachedClockResolutionMillis", 10);
+		annotationAttributes.put("expirationTimeIndexEnabled", true);
+		annotationAttributes.put("principalNameIndexRegionEnabled", true);
+		annotationAttributes.put("offHeap", true);
+		annotationAttributes.put("compressionEnabled", true);
+		annotationAttributes.put("totalNumberOfBuckets", 271);
+		annotationAttributes.put("redundantCopies", 1);
+		annotationAttributes.put("evictionPolicy", SessionRegionEvictionPolicy.ENTRY_COUNT);
+		annotationAttributes.put("evictionMaximum", 5000);
 
 		when(mockAnnotationMetadata.getAnnotationAttributes(eq(EnableGemFireHttpSession.class.getName())))
 			.thenReturn(annotationAttributes);
@@ -444,6 +503,26 @@ public class GemFireHttpSessionConfigurationUnitTests {
 		assertThat(this.gemfireConfiguration.getSessionExpirationPolicyBeanName().orElse(null))
 			.isEqualTo("testSessionExpirationPolicy");
 		assertThat(this.gemfireConfiguration.getSessionSerializerBeanName()).isEqualTo("testSessionSerializer");
+		assertThat(this.gemfireConfiguration.getSessionExpiredEventBatchIntervalMillis()).isEqualTo(250);
+		assertThat(this.gemfireConfiguration.getSessionExpiredEventBatchSize()).isEqualTo(500);
+		assertThat(this.gemfireConfiguration.getSessionExpiredEventMaxBatchesPerFlush()).isEqualTo(5);
+		assertThat(this.gemfireConfiguration.isRegisterInterestEnabled()).isTrue();
+		assertThat(this.gemfireConfiguration.getRegisterInterestInactivityTimeoutSeconds()).isEqualTo(120);
+		assertThat(this.gemfireConfiguration.getSessionEventExecutorLaneCount()).isEqualTo(4);
+		assertThat(this.gemfireConfiguration.getSessionChangedEventCoalescingWindowMillis()).isEqualTo(750);
+		assertThat(this.gemfireConfiguration.isTimingWheelExpirationEnabled()).isTrue();
+		assertThat(this.gemfireConfiguration.getFixedDurationExpirationSeconds()).isEqualTo(3600);
+		assertThat(this.gemfireConfiguration.getExpiredSessionSweepIntervalSeconds()).isEqualTo(300);
+		assertThat(this.gemfireConfiguration.getCachedClockResolutionMillis()).isEqualTo(10);
+		assertThat(this.gemfireConfiguration.isExpirationTimeIndexEnabled()).isTrue();
+		assertThat(this.gemfireConfiguration.isPrincipalNameIndexRegionEnabled()).isTrue();
+		assertThat(this.gemfireConfiguration.isSessionRegionOffHeap()).isEqualTo(true);
+		assertThat(this.gemfireConfiguration.isSessionRegionCompressionEnabled()).isEqualTo(true);
+		assertThat(this.gemfireConfiguration.getSessionRegionTotalNumberOfBuckets()).isEqualTo(271);
+		assertThat(this.gemfireConfiguration.getSessionRegionRedundantCopies()).isEqualTo(1);
+		assertThat(this.gemfireConfiguration.getSessionRegionEvictionPolicy())
+			.isEqualTo(SessionRegionEvictionPolicy.ENTRY_COUNT);
+		assertThat(this.gemfireConfiguration.getSessionRegionEvictionMaximum()).isEqualTo(5000);
 
 		verify(mockAnnotationMetadata, times(1))
 			.getAnnotationAttributes(eq(EnableGemFireHttpSession.class.getName()));
@@ -720,18 +799,181 @@ public class GemFireHttpSessionConfigurationUnitTests {
 
 		doReturn(mockRegion).when(mockGemfireOperations).getRegion();
 
+		SessionIdGenerator mockSessionIdGenerator = mock(SessionIdGenerator.class);
+
 		this.gemfireConfiguration.setMaxInactiveIntervalInSeconds(120);
 		this.gemfireConfiguration.setIsDirtyPredicate(EqualsDirtyPredicate.INSTANCE);
+		this.gemfireConfiguration.setSessionIdGenerator(mockSessionIdGenerator);
 
 		GemFireOperationsSessionRepository sessionRepository =
-			this.gemfireConfiguration.sessionRepository(mockGemfireOperations);
+			this.gemfireConfiguration.sessionRepository(mockGemfireOperations, mock(ClientCache.class));
 
 		assertThat(sessionRepository).isNotNull();
 		assertThat(sessionRepository.getIsDirtyPredicate()).isEqualTo(EqualsDirtyPredicate.INSTANCE);
+		assertThat(sessionRepository.getSessionIdGenerator()).isSameAs(mockSessionIdGenerator);
 		assertThat(sessionRepository.getMaxInactiveIntervalInSeconds()).isEqualTo(120);
 		assertThat(sessionRepository.getSessionsTemplate()).isSameAs(mockGemfireOperations);
 	}
 
+	@Test
+	public void sessionRepositoryIsConfiguredWithFixedDuration() {
+
+		GemfireTemplate mockGemfireOperations = mock(GemfireTemplate.class);
+
+		doReturn(mock(Region.class)).when(mockGemfireOperations).getRegion();
+
+		this.gemfireConfiguration.setClientRegionShortcut(ClientRegionShortcut.LOCAL);
+		this.gemfireConfiguration.setFixedDurationExpirationSeconds(3600);
+
+		GemFireOperationsSessionRepository sessionRepository =
+			this.gemfireConfiguration.sessionRepository(mockGemfireOperations, mock(ClientCache.class));
+
+		assertThat(sessionRepository.getFixedDurationExpirationTimeout()).hasValue(Duration.ofSeconds(3600));
+		assertThat(sessionRepository.isFixedDurationExpirationEnforcedByDataGrid()).isTrue();
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void sessionRepositoryIsConfiguredWithPrincipalNameSessionIndexWhenEnabled() {
+
+		ClientCache mockClientCache = mock(ClientCache.class);
+
+		GemfireTemplate mockGemfireOperations = mock(GemfireTemplate.class);
+
+		Region<String, Set<String>> mockPrincipalNameRegion = mock(Region.class);
+
+		doReturn(mock(Region.class)).when(mockGemfireOperations).getRegion();
+		doReturn(mockPrincipalNameRegion).when(mockClientCache)
+			.getRegion(eq(PrincipalNameSessionIndex.toRegionName(this.gemfireConfiguration.getSessionRegionName())));
+
+		this.gemfireConfiguration.setPrincipalNameIndexRegionEnabled(true);
+
+		GemFireOperationsSessionRepository sessionRepository =
+			this.gemfireConfiguration.sessionRepository(mockGemfireOperations, mockClientCache);
+
+		assertThat(sessionRepository.getPrincipalNameSessionIndex()).isPresent();
+		assertThat(sessionRepository.getPrincipalNameSessionIndex().get().getSessionIds("jonDoe")).isEmpty();
+
+		verify(mockPrincipalNameRegion, times(1)).get(eq("jonDoe"));
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void principalNameRegionIsCreatedAsProxyForCachingProxySessionRegion() {
+
+		ClientCache mockClientCache = mock(ClientCache.class);
+		ClientRegionFactory<Object, Object> mockClientRegionFactory = mock(ClientRegionFactory.class);
+
+		doReturn(mockClientRegionFactory).when(mockClientCache)
+			.createClientRegionFactory(eq(ClientRegionShortcut.PROXY));
+		doReturn(mock(Region.class)).when(mockClientRegionFactory).create(anyString());
+
+		this.gemfireConfiguration.setClientRegionShortcut(ClientRegionShortcut.CACHING_PROXY);
+		this.gemfireConfiguration.setPrincipalNameIndexRegionEnabled(true);
+
+		assertThat(this.gemfireConfiguration.resolvePrincipalNameSessionIndex(mockClientCache)).isPresent();
+
+		verify(mockClientCache, times(1)).createClientRegionFactory(eq(ClientRegionShortcut.PROXY));
+		verify(mockClientRegionFactory, times(1)).setPoolName(eq(this.gemfireConfiguration.getPoolName()));
+		verify(mockClientRegionFactory, times(1))
+			.create(eq(PrincipalNameSessionIndex.toRegionName(this.gemfireConfiguration.getSessionRegionName())));
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void principalNameRegionIsCreatedAsLocalForLocalSessionRegion() {
+
+		ClientCache mockClientCache = mock(ClientCache.class);
+		ClientRegionFactory<Object, Object> mockClientRegionFactory = mock(ClientRegionFactory.class);
+
+		doReturn(mockClientRegionFactory).when(mockClientCache)
+			.createClientRegionFactory(eq(ClientRegionShortcut.LOCAL));
+		doReturn(mock(Region.class)).when(mockClientRegionFactory).create(anyString());
+
+		this.gemfireConfiguration.setClientRegionShortcut(ClientRegionShortcut.LOCAL);
+		this.gemfireConfiguration.setPrincipalNameIndexRegionEnabled(true);
+
+		assertThat(this.gemfireConfiguration.resolvePrincipalNameSessionIndex(mockClientCache)).isPresent();
+
+		verify(mockClientCache, times(1)).createClientRegionFactory(eq(ClientRegionShortcut.LOCAL));
+		verify(mockClientRegionFactory, never()).setPoolName(anyString());
+	}
+
+	@Test
+	public void principalNameRegionVerifierVerifiesServerRegion() {
+
+		ClientCache mockClientCache = mock(ClientCache.class);
+
+		this.gemfireConfiguration.setClientRegionShortcut(ClientRegionShortcut.CACHING_PROXY);
+		this.gemfireConfiguration.setPrincipalNameIndexRegionEnabled(true);
+
+		SessionRegionVerifier principalNameRegionVerifier =
+			this.gemfireConfiguration.principalNameRegionVerifier(mockClientCache);
+
+		assertThat(principalNameRegionVerifier).isNotNull();
+		assertThat(principalNameRegionVerifier.getStorageSettings()).isEmpty();
+		assertThat(principalNameRegionVerifier.toGfshCommand()).isEqualTo(String.format(
+			"create region --name=%s --type=%s",
+				PrincipalNameSessionIndex.toRegionName(this.gemfireConfiguration.getSessionRegionName()),
+					this.gemfireConfiguration.getServerRegionShortcut()));
+	}
+
+	@Test
+	public void principalNameRegionVerifierIsNullWhenDisabledOrLocal() {
+
+		ClientCache mockClientCache = mock(ClientCache.class);
+
+		this.gemfireConfiguration.setPrincipalNameIndexRegionEnabled(false);
+
+		assertThat(this.gemfireConfiguration.principalNameRegionVerifier(mockClientCache)).isNull();
+
+		this.gemfireConfiguration.setPrincipalNameIndexRegionEnabled(true);
+		this.gemfireConfiguration.setClientRegionShortcut(ClientRegionShortcut.LOCAL);
+
+		assertThat(this.gemfireConfiguration.principalNameRegionVerifier(mockClientCache)).isNull();
+
+		verifyNoInteractions(mockClientCache);
+	}
+
+	@Test
+	public void sessionRepositoryIsNotConfiguredWithPrincipalNameSessionIndexWhenDisabled() {
+
+		ClientCache mockClientCache = mock(ClientCache.class);
+
+		GemfireTemplate mockGemfireOperations = mock(GemfireTemplate.class);
+
+		doReturn(mock(Region.class)).when(mockGemfireOperations).getRegion();
+
+		this.gemfireConfiguration.setPrincipalNameIndexRegionEnabled(false);
+
+		assertThat(this.gemfireConfiguration.sessionRepository(mockGemfireOperations, mockClientCache)
+			.getPrincipalNameSessionIndex()).isNotPresent();
+
+		verifyNoInteractions(mockClientCache);
+	}
+
+	@Test
+	public void fixedDurationIsOnlyEnforcedByLocalClientRegion() {
+
+		this.gemfireConfiguration.setFixedDurationExpirationSeconds(3600);
+		this.gemfireConfiguration.setClientRegionShortcut(ClientRegionShortcut.LOCAL);
+
+		assertThat(this.gemfireConfiguration.isFixedDurationExpirationEnforcedByClient()).isTrue();
+
+		this.gemfireConfiguration.setClientRegionShortcut(ClientRegionShortcut.CACHING_PROXY);
+
+		assertThat(this.gemfireConfiguration.isFixedDurationExpirationEnforcedByClient()).isFalse();
+
+		this.gemfireConfiguration.setClientRegionShortcut(ClientRegionShortcut.PROXY);
+
+		assertThat(this.gemfireConfiguration.isFixedDurationExpirationEnforcedByClient()).isFalse();
+
+		this.gemfireConfiguration.setClientRegionShortcut(ClientRegionShortcut.LOCAL);
+		this.gemfireConfiguration.setFixedDurationExpirationSeconds(0);
+
+		assertThat(this.gemfireConfiguration.isFixedDurationExpirationEnforcedByClient()).isFalse();
+	}
+
 	@Test
 	@SuppressWarnings("unchecked")
 	public void createsAndInitializesSessionRegionTemplateBean() {
@@ -811,6 +1053,28 @@ public class GemFireHttpSessionConfigurationUnitTests {
 		assertThat(entryIdleTimeoutExpiration.getTimeout()).isEqualTo(0);
 	}
 
+	@Test
+	@SuppressWarnings("unchecked")
+	public void createsSessionRegionAttributesWithFixedDurationTimeToLive() throws Exception {
+
+		ClientCache mockClientCache = mock(ClientCache.class);
+
+		this.gemfireConfiguration.setClientRegionShortcut(ClientRegionShortcut.CACHING_PROXY);
+		this.gemfireConfiguration.setFixedDurationExpirationSeconds(3600);
+
+		RegionAttributesFactoryBean regionAttributesFactory =
+			this.gemfireConfiguration.sessionRegionAttributes(mockClientCache);
+
+		regionAttributesFactory.afterPropertiesSet();
+
+		RegionAttributes<Object, Session> sessionRegionAttributes = regionAttributesFactory.getObject();
+
+		assertThat(sessionRegionAttributes).isNotNull();
+		assertThat(sessionRegionAttributes.getStatisticsEnabled()).isTrue();
+		assertThat(sessionRegionAttributes.getCustomEntryTimeToLive())
+			.isInstanceOf(SessionExpirationPolicyCustomExpiryAdapter.class);
+	}
+
 	@Test
 	public void clientExpirationIsAllowed() {
 
@@ -842,4 +1106,300 @@ public class GemFireHttpSessionConfigurationUnitTests {
 
 		assertThat(this.gemfireConfiguration.isExpirationAllowed(mockClientCache)).isFalse();
 	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void createsSessionRegionAttributesWithOffHeapCompressedStorage() throws Exception {
+
+		ClientCache mockClientCache = mock(ClientCache.class);
+
+		this.gemfireConfiguration.setClientRegionShortcut(ClientRegionShortcut.CACHING_PROXY);
+		this.gemfireConfiguration.setSessionRegionOffHeap(true);
+		this.gemfireConfiguration.setSessionRegionCompressionEnabled(true);
+
+		RegionAttributesFactoryBean regionAttributesFactory =
+			this.gemfireConfiguration.sessionRegionAttributes(mockClientCache);
+
+		regionAttributesFactory.afterPropertiesSet();
+
+		RegionAttributes<Object, Session> sessionRegionAttributes = regionAttributesFactory.getObject();
+
+		assertThat(sessionRegionAttributes.getOffHeap()).isTrue();
+		assertThat(sessionRegionAttributes.getCompressor()).isInstanceOf(SnappyCompressor.class);
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void createsProxySessionRegionAttributesWithoutLocalStorageSettings() throws Exception {
+
+		ClientCache mockClientCache = mock(ClientCache.class);
+
+		this.gemfireConfiguration.setClientRegionShortcut(ClientRegionShortcut.PROXY);
+		this.gemfireConfiguration.setSessionRegionOffHeap(true);
+		this.gemfireConfiguration.setSessionRegionCompressionEnabled(true);
+
+		RegionAttributesFactoryBean regionAttributesFactory =
+			this.gemfireConfiguration.sessionRegionAttributes(mockClientCache);
+
+		regionAttributesFactory.afterPropertiesSet();
+
+		RegionAttributes<Object, Session> sessionRegionAttributes = regionAttributesFactory.getObject();
+
+		assertThat(sessionRegionAttributes.getOffHeap()).isFalse();
+		assertThat(sessionRegionAttributes.getCompressor()).isNull();
+	}
+
+	@Test
+	public void sessionRegionVerifierIsNullWithDefaultStorageSettings() {
+
+		assertThat(this.gemfireConfiguration.resolveSessionRegionStorageSettings()).isEmpty();
+		assertThat(this.gemfireConfiguration.sessionRegionVerifier(mock(ClientCache.class))).isNull();
+	}
+
+	@Test
+	public void sessionRegionVerifierIsNullForLocalClientRegion() {
+
+		this.gemfireConfiguration.setClientRegionShortcut(ClientRegionShortcut.LOCAL);
+		this.gemfireConfiguration.setSessionRegionOffHeap(true);
+
+		assertThat(this.gemfireConfiguration.sessionRegionVerifier(mock(ClientCache.class))).isNull();
+	}
+
+	@Test
+	public void sessionRegionVerifierIsConfiguredWithStorageAndExpirationSettings() {
+
+		this.gemfireConfiguration.setPoolName("Car");
+		this.gemfireConfiguration.setServerRegionShortcut(RegionShortcut.PARTITION_REDUNDANT);
+		this.gemfireConfiguration.setSessionRegionName("Sessions");
+		this.gemfireConfiguration.setSessionRegionOffHeap(true);
+		this.gemfireConfiguration.setSessionRegionCompressionEnabled(true);
+		this.gemfireConfiguration.setSessionRegionTotalNumberOfBuckets(271);
+		this.gemfireConfiguration.setSessionRegionRedundantCopies(2);
+
+		this.gemfireConfiguration.setFixedDurationExpirationSeconds(3600);
+
+		SessionRegionVerifier sessionRegionVerifier =
+			this.gemfireConfiguration.sessionRegionVerifier(mock(ClientCache.class));
+
+		Map<String, Object> expectedStorageSettings = new HashMap<>();
+
+		expectedStorageSettings.put(SessionRegionSettingsFunction.OFF_HEAP, true);
+		expectedStorageSettings.put(SessionRegionSettingsFunction.COMPRESSED, true);
+		expectedStorageSettings.put(SessionRegionSettingsFunction.TOTAL_NUMBER_OF_BUCKETS, 271);
+		expectedStorageSettings.put(SessionRegionSettingsFunction.REDUNDANT_COPIES, 2);
+		expectedStorageSettings.put(SessionRegionSettingsFunction.FIXED_DURATION_EXPIRATION_SECONDS, 3600);
+		expectedStorageSettings.put(SessionRegionSettingsFunction.ENTRY_IDLE_TIMEOUT_SECONDS,
+			GemFireHttpSessionConfiguration.DEFAULT_MAX_INACTIVE_INTERVAL_IN_SECONDS);
+
+		assertThat(sessionRegionVerifier).isNotNull();
+		assertThat(sessionRegionVerifier.getServerRegionShortcut()).isEqualTo(RegionShortcut.PARTITION_REDUNDANT);
+		assertThat(sessionRegionVerifier.getStorageSettings()).isEqualTo(expectedStorageSettings);
+	}
+
+	@Test
+	public void sessionExpirationPolicyIsVerifiedOnServers() {
+
+		ApplicationContext mockApplicationContext = mock(ApplicationContext.class);
+
+		doReturn(true).when(mockApplicationContext).containsBean(eq("TestSessionExpirationPolicy"));
+		doReturn(new IdleTimeoutSessionExpirationPolicy()).when(mockApplicationContext)
+			.getBean(eq("TestSessionExpirationPolicy"), eq(SessionExpirationPolicy.class));
+
+		this.gemfireConfiguration.setApplicationContext(mockApplicationContext);
+		this.gemfireConfiguration.setSessionExpirationPolicyBeanName("TestSessionExpirationPolicy");
+
+		assertThat(this.gemfireConfiguration.resolveSessionRegionStorageSettings())
+			.hasSize(1)
+			.containsEntry(SessionRegionSettingsFunction.SESSION_EXPIRATION_POLICY,
+				IdleTimeoutSessionExpirationPolicy.class.getName());
+	}
+
+	@Test
+	public void partitionStorageSettingsAreIgnoredForReplicateServerRegion() {
+
+		this.gemfireConfiguration.setServerRegionShortcut(RegionShortcut.REPLICATE);
+		this.gemfireConfiguration.setSessionRegionTotalNumberOfBuckets(271);
+		this.gemfireConfiguration.setSessionRegionRedundantCopies(1);
+
+		assertThat(this.gemfireConfiguration.resolveSessionRegionStorageSettings()).isEmpty();
+	}
+
+	@Test
+	public void partitionResolverIsConfiguredForRoutingKeySessionIdGenerator() {
+
+		this.gemfireConfiguration.setSessionIdGenerator(new RoutingKeySessionIdGenerator(() -> "tenantOne"));
+
+		assertThat(this.gemfireConfiguration.resolveSessionRegionStorageSettings())
+			.hasSize(1)
+			.containsEntry(SessionRegionSettingsFunction.PARTITION_RESOLVER,
+				SessionIdPartitionResolver.class.getName());
+
+		this.gemfireConfiguration.setServerRegionShortcut(RegionShortcut.REPLICATE);
+
+		assertThat(this.gemfireConfiguration.resolveSessionRegionStorageSettings()).isEmpty();
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void createsCachingProxySessionRegionAttributesWithEntryCountEviction() throws Exception {
+
+		ClientCache mockClientCache = mock(ClientCache.class);
+
+		this.gemfireConfiguration.setClientRegionShortcut(ClientRegionShortcut.CACHING_PROXY);
+		this.gemfireConfiguration.setSessionRegionEvictionPolicy(SessionRegionEvictionPolicy.ENTRY_COUNT);
+		this.gemfireConfiguration.setSessionRegionEvictionMaximum(5000);
+
+		RegionAttributesFactoryBean regionAttributesFactory =
+			this.gemfireConfiguration.sessionRegionAttributes(mockClientCache);
+
+		regionAttributesFactory.afterPropertiesSet();
+
+		EvictionAttributes evictionAttributes = regionAttributesFactory.getObject().getEvictionAttributes();
+
+		assertThat(evictionAttributes.getAlgorithm()).isEqualTo(EvictionAlgorithm.LRU_ENTRY);
+		assertThat(evictionAttributes.getAction()).isEqualTo(EvictionAction.LOCAL_DESTROY);
+		assertThat(evictionAttributes.getMaximum()).isEqualTo(5000);
+		assertThat(regionAttributesFactory.getObject().getStatisticsEnabled()).isTrue();
+	}
+
+	@Test
+	public void heapPercentageEvictionSetsEvictionHeapPercentage() {
+
+		ClientCache mockClientCache = mock(ClientCache.class);
+		ResourceManager mockResourceManager = mock(ResourceManager.class);
+
+		doReturn(mockResourceManager).when(mockClientCache).getResourceManager();
+
+		this.gemfireConfiguration.setClientRegionShortcut(ClientRegionShortcut.CACHING_PROXY);
+		this.gemfireConfiguration.setSessionRegionEvictionPolicy(SessionRegionEvictionPolicy.HEAP_PERCENTAGE);
+		this.gemfireConfiguration.setSessionRegionEvictionMaximum(75);
+
+		EvictionAttributes evictionAttributes =
+			this.gemfireConfiguration.resolveSessionRegionEvictionAttributes(mockClientCache);
+
+		assertThat(evictionAttributes).isNotNull();
+		assertThat(evictionAttributes.getAlgorithm()).isEqualTo(EvictionAlgorithm.LRU_HEAP);
+		assertThat(evictionAttributes.getAction()).isEqualTo(EvictionAction.LOCAL_DESTROY);
+
+		verify(mockResourceManager, times(1)).setEvictionHeapPercentage(eq(75.0f));
+	}
+
+	@Test
+	public void evictionIsNotConfiguredByDefaultOrForLocalClientRegion() {
+
+		ClientCache mockClientCache = mock(ClientCache.class);
+
+		this.gemfireConfiguration.setClientRegionShortcut(ClientRegionShortcut.CACHING_PROXY);
+
+		assertThat(this.gemfireConfiguration.resolveSessionRegionEvictionAttributes(mockClientCache)).isNull();
+
+		this.gemfireConfiguration.setClientRegionShortcut(ClientRegionShortcut.LOCAL);
+		this.gemfireConfiguration.setSessionRegionEvictionPolicy(SessionRegionEvictionPolicy.MEMORY_SIZE);
+
+		assertThat(this.gemfireConfiguration.resolveSessionRegionEvictionAttributes(mockClientCache)).isNull();
+
+		verifyNoInteractions(mockClientCache);
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void sessionRegionStatisticsAreRegisteredOnCachingProxyRegion() {
+
+		AttributesMutator<Object, Object> mockAttributesMutator = mock(AttributesMutator.class);
+		ClientCache mockClientCache = mock(ClientCache.class);
+		Region<Object, Object> mockRegion = mock(Region.class);
+
+		doReturn(mockRegion).when(mockClientCache)
+			.getRegion(eq(GemFireHttpSessionConfiguration.DEFAULT_SESSION_REGION_NAME));
+		doReturn(mockAttributesMutator).when(mockRegion).getAttributesMutator();
+
+		this.gemfireConfiguration.setClientRegionShortcut(ClientRegionShortcut.CACHING_PROXY);
+
+		SessionRegionStatistics statistics = this.gemfireConfiguration.sessionRegionStatistics(mockClientCache);
+
+		assertThat(statistics).isNotNull();
+
+		verify(mockAttributesMutator, times(1)).addCacheListener(eq(statistics));
+	}
+
+	@Test
+	public void sessionRegionStatisticsAreNullForProxyRegion() {
+
+		ClientCache mockClientCache = mock(ClientCache.class);
+
+		doReturn(mock(Region.class)).when(mockClientCache)
+			.getRegion(eq(GemFireHttpSessionConfiguration.DEFAULT_SESSION_REGION_NAME));
+
+		this.gemfireConfiguration.setClientRegionShortcut(ClientRegionShortcut.PROXY);
+
+		assertThat(this.gemfireConfiguration.sessionRegionStatistics(mockClientCache)).isNull();
+	}
+
+	@Test
+	public void memoryPressureSessionSweeperIsStartedWithThresholdsFromResourceManager() {
+
+		ApplicationContext mockApplicationContext = mock(ApplicationContext.class);
+		ClientCache mockClientCache = mock(ClientCache.class);
+		ResourceManager mockResourceManager = mock(ResourceManager.class);
+
+		MemoryPressureAwareSessionExpirationPolicy sessionExpirationPolicy =
+			new MemoryPressureAwareSessionExpirationPolicy(new IdleTimeoutSessionExpirationPolicy(),
+				Duration.ofMinutes(10), Duration.ofMinutes(2));
+
+		doReturn(true).when(mockApplicationContext).containsBean(eq("TestSessionExpirationPolicy"));
+		doReturn(sessionExpirationPolicy).when(mockApplicationContext)
+			.getBean(eq("TestSessionExpirationPolicy"), eq(SessionExpirationPolicy.class));
+		doReturn(mock(Region.class)).when(mockClientCache)
+			.getRegion(eq(GemFireHttpSessionConfiguration.DEFAULT_SESSION_REGION_NAME));
+		doReturn(mockResourceManager).when(mockClientCache).getResourceManager();
+		doReturn(70.0f).when(mockResourceManager).getEvictionHeapPercentage();
+		doReturn(85.0f).when(mockResourceManager).getCriticalHeapPercentage();
+
+		this.gemfireConfiguration.setApplicationContext(mockApplicationContext);
+		this.gemfireConfiguration.setClientRegionShortcut(ClientRegionShortcut.LOCAL);
+		this.gemfireConfiguration.setSessionExpirationPolicyBeanName("TestSessionExpirationPolicy");
+
+		try (MemoryPressureSessionSweeper sweeper = this.gemfireConfiguration
+				.memoryPressureSessionSweeper(mockClientCache, mock(GemFireOperationsSessionRepository.class))) {
+
+			assertThat(sweeper).isNotNull();
+			assertThat(sweeper.isStarted()).isTrue();
+			assertThat(sessionExpirationPolicy.getElevatedThresholdPercentage()).isEqualTo(70.0f);
+			assertThat(sessionExpirationPolicy.getCriticalThresholdPercentage()).isEqualTo(85.0f);
+		}
+	}
+
+	@Test
+	public void memoryPressureSessionSweeperIsNullWithoutMemoryPressureAwareSessionExpirationPolicy() {
+
+		ClientCache mockClientCache = mock(ClientCache.class);
+
+		this.gemfireConfiguration.setClientRegionShortcut(ClientRegionShortcut.LOCAL);
+
+		assertThat(this.gemfireConfiguration.memoryPressureSessionSweeper(mockClientCache,
+			mock(GemFireOperationsSessionRepository.class))).isNull();
+
+		verifyNoInteractions(mockClientCache);
+	}
+
+	@Test
+	public void memoryPressureSessionSweeperIsNullForClientServerRegions() {
+
+		ApplicationContext mockApplicationContext = mock(ApplicationContext.class);
+		ClientCache mockClientCache = mock(ClientCache.class);
+
+		this.gemfireConfiguration.setApplicationContext(mockApplicationContext);
+		this.gemfireConfiguration.setSessionExpirationPolicyBeanName("TestSessionExpirationPolicy");
+
+		for (ClientRegionShortcut shortcut : Arrays.asList(ClientRegionShortcut.PROXY,
+				ClientRegionShortcut.CACHING_PROXY)) {
+
+			this.gemfireConfiguration.setClientRegionShortcut(shortcut);
+
+			assertThat(this.gemfireConfiguration.memoryPressureSessionSweeper(mockClientCache,
+				mock(GemFireOperationsSessionRepository.class))).isNull();
+		}
+
+		verifyNoInteractions(mockApplicationContext, mockClientCache);
+	}
 }
@@ -0,0 +1,173 @@
+/*
+ * Copyright 2024 Broadcom. All rights reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.springframework.session.data.gemfire.config.annotation.web.http.support;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import org.apache.geode.cache.Cache;
+import org.apache.geode.cache.Region;
+import org.apache.geode.cache.execute.FunctionContext;
+import org.apache.geode.cache.execute.FunctionException;
+import org.apache.geode.cache.execute.ResultSender;
+import org.apache.geode.cache.query.Index;
+import org.apache.geode.cache.query.IndexNameConflictException;
+import org.apache.geode.cache.query.QueryService;
+
+/**
+ * Unit tests for {@link CreateSessionIndexesFunction}.
+ *
+ * @author John Blum
+ * @see org.junit.Test
+ * @see org.mockito.Mockito
+ * @see org.springframework.session.data.gemfire.config.annotation.web.http.support.CreateSessionIndexesFunction
+ * @since 1.0.0
+ */
+@RunWith(MockitoJUnitRunner.class)
+@SuppressWarnings({ "rawtypes", "unchecked" })
+public class CreateSessionIndexesFunctionUnitTests {
+
+	@Mock
+	private Cache mockCache;
+
+	@Mock
+	private FunctionContext mockFunctionContext;
+
+	@Mock
+	private QueryService mockQueryService;
+
+	@Mock
+	private Region mockRegion;
+
+	@Mock
+	private ResultSender mockResultSender;
+
+	private final CreateSessionIndexesFunction function = new CreateSessionIndexesFunction();
+
+	private Index mockIndex(String name) {
+
+		Index mockIndex = mock(Index.class);
+
+		doReturn(name).when(mockIndex).getName();
+
+		return mockIndex;
+	}
+
+	private Map<String, String> indexDefinitions() {
+
+		Map<String, String> indexDefinitions = new LinkedHashMap<>();
+
+		indexDefinitions.put(SessionIndexInstaller.PRINCIPAL_NAME_INDEX_NAME,
+			SessionIndexInstaller.PRINCIPAL_NAME_INDEXED_EXPRESSION);
+		indexDefinitions.put(SessionIndexInstaller.SESSION_ATTRIBUTES_INDEX_NAME, "s.attributes['tenant']");
+
+		return indexDefinitions;
+	}
+
+	@Test
+	public void functionIsConfiguredCorrectly() {
+
+		assertThat(this.function.getId()).isEqualTo(CreateSessionIndexesFunction.ID);
+		assertThat(this.function.hasResult()).isTrue();
+		assertThat(this.function.isHA()).isFalse();
+		assertThat(this.function.optimizeForWrite()).isFalse();
+	}
+
+	@Test
+	public void executeCreatesMissingIndexesAndReturnsIndexNames() throws Exception {
+
+		doReturn(new Object[] { "Sessions", indexDefinitions() }).when(this.mockFunctionContext).getArguments();
+		doReturn(this.mockCache).when(this.mockFunctionContext).getCache();
+		doReturn(this.mockResultSender).when(this.mockFunctionContext).getResultSender();
+		doReturn(this.mockRegion).when(this.mockCache).getRegion(eq("Sessions"));
+		doReturn("/Sessions").when(this.mockRegion).getFullPath();
+		doReturn(this.mockQueryService).when(this.mockCache).getQueryService();
+		doAnswer(invocation -> {
+
+			if (SessionIndexInstaller.PRINCIPAL_NAME_INDEX_NAME.equals(invocation.getArgument(0))) {
+				throw new IndexNameConflictException("TEST");
+			}
+
+			return null;
+
+		}).when(this.mockQueryService).createIndex(anyString(), anyString(), anyString());
+
+		Index mockPrincipalNameIndex = mockIndex(SessionIndexInstaller.PRINCIPAL_NAME_INDEX_NAME);
+		Index mockSessionAttributesIndex = mockIndex(SessionIndexInstaller.SESSION_ATTRIBUTES_INDEX_NAME);
+
+		doReturn(Arrays.asList(mockPrincipalNameIndex, mockSessionAttributesIndex))
+			.when(this.mockQueryService).getIndexes(eq(this.mockRegion));
+
+		this.function.execute(this.mockFunctionContext);
+
+		verify(this.mockQueryService).createIndex(eq(SessionIndexInstaller.SESSION_ATTRIBUTES_INDEX_NAME),
+			eq("s.attributes['tenant']"), eq("/Sessions s"));
+		verify(this.mockResultSender).lastResult(eq(Arrays.asList(SessionIndexInstaller.PRINCIPAL_NAME_INDEX_NAME,
+			SessionIndexInstaller.SESSION_ATTRIBUTES_INDEX_NAME)));
+	}
+
+	@Test
+	public void executeWithInvalidArgumentsThrowsFunctionException() {
+
+		doReturn("Sessions").when(this.mockFunctionContext).getArguments();
+
+		assertThatExceptionOfType(FunctionException.class)
+			.isThrownBy(() -> this.function.execute(this.mockFunctionContext))
+			.withMessageContaining(CreateSessionIndexesFunction.ID);
+
+		verifyNoInteractions(this.mockResultSender);
+	}
+
+	@Test
+	public void executeWithMissingRegionThrowsFunctionException() {
+
+		doReturn(new Object[] { "Sessions", indexDefinitions() }).when(this.mockFunctionContext).getArguments();
+		doReturn(this.mockCache).when(this.mockFunctionContext).getCache();
+		doReturn("TestServer").when(this.mockFunctionContext).getMemberName();
+
+		assertThatExceptionOfType(FunctionException.class)
+			.isThrownBy(() -> this.function.execute(this.mockFunctionContext))
+			.withMessage("Region [Sessions] was not found on member [TestServer]");
+
+		verifyNoInteractions(this.mockQueryService, this.mockResultSender);
+	}
+
+	@Test
+	public void executeWrapsIndexCreationFailure() throws Exception {
+
+		doReturn(new Object[] { "Sessions", indexDefinitions() }).when(this.mockFunctionContext).getArguments();
+		doReturn(this.mockCache).when(this.mockFunctionContext).getCache();
+		doReturn(this.mockRegion).when(this.mockCache).getRegion(eq("Sessions"));
+		doReturn("/Sessions").when(this.mockRegion).getFullPath();
+		doReturn(this.mockQueryService).when(this.mockCache).getQueryService();
+		doThrow(new IllegalStateException("TEST")).when(this.mockQueryService)
+			.createIndex(anyString(), anyString(), anyString());
+
+		assertThatExceptionOfType(FunctionException.class)
+			.isThrownBy(() -> this.function.execute(this.mockFunctionContext))
+			.withMessage("Failed to create Index [%s] on Region [Sessions]",
+				SessionIndexInstaller.PRINCIPAL_NAME_INDEX_NAME)
+			.withCauseInstanceOf(IllegalStateException.class);
+
+		verifyNoInteractions(this.mockResultSender);
+	}
+}
@@ -0,0 +1,286 @@
+/*
+ * Copyright 2024 Broadcom. All rights reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.springframework.session.data.gemfire.config.annotation.web.http.support;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Map;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import org.apache.geode.cache.DataPolicy;
+import org.apache.geode.cache.Region;
+import org.apache.geode.cache.RegionAttributes;
+import org.apache.geode.cache.client.ClientCache;
+import org.apache.geode.cache.execute.Execution;
+import org.apache.geode.cache.execute.FunctionException;
+import org.apache.geode.cache.execute.ResultCollector;
+import org.apache.geode.cache.query.IndexExistsException;
+import org.apache.geode.cache.query.QueryService;
+
+import org.springframework.session.FindByIndexNameSessionRepository;
+
+/**
+ * Unit tests for {@link SessionIndexInstaller}.
+ *
+ * @author John Blum
+ * @see org.junit.Test
+ * @see org.mockito.Mockito
+ * @see org.springframework.session.data.gemfire.config.annotation.web.http.support.SessionIndexInstaller
+ * @since 1.0.0
+ */
+@RunWith(MockitoJUnitRunner.class)
+@SuppressWarnings({ "rawtypes", "unchecked" })
+public class SessionIndexInstallerUnitTests {
+
+	@Mock
+	private ClientCache mockClientCache;
+
+	@Mock
+	private QueryService mockQueryService;
+
+	@Mock
+	private Region mockRegion;
+
+	@Mock
+	private RegionAttributes mockRegionAttributes;
+
+	private void mockLocalRegion() {
+
+		doReturn(this.mockRegion).when(this.mockClientCache).getRegion(eq("Sessions"));
+		doReturn(this.mockRegionAttributes).when(this.mockRegion).getAttributes();
+	}
+
+	private void mockClientRegion(DataPolicy dataPolicy) {
+
+		mockLocalRegion();
+
+		doReturn("DEFAULT").when(this.mockRegionAttributes).getPoolName();
+		doReturn(this.mockClientCache).when(this.mockRegion).getRegionService();
+		lenient().doReturn(dataPolicy).when(this.mockRegionAttributes).getDataPolicy();
+	}
+
+	private void mockLocalQueryService() {
+
+		doReturn("/Sessions").when(this.mockRegion).getFullPath();
+		doReturn(this.mockQueryService).when(this.mockClientCache).getLocalQueryService();
+	}
+
+	private SessionIndexInstaller newServerInstaller(Execution mockExecution, String[] indexableSessionAttributes) {
+
+		return new SessionIndexInstaller(this.mockClientCache, "Sessions", indexableSessionAttributes, false) {
+
+			@Override
+			protected Execution newServerExecution(Region<?, ?> sessionsRegion) {
+				return mockExecution;
+			}
+		};
+	}
+
+	@Test
+	public void indexDefinitionsContainPrincipalNameOnlyByDefault() {
+
+		SessionIndexInstaller installer = new SessionIndexInstaller(this.mockClientCache, "Sessions", null, false);
+
+		assertThat(installer.getIndexableSessionAttributes()).isEmpty();
+		assertThat(installer.isExpirationTimeIndexEnabled()).isFalse();
+		assertThat(installer.getIndexDefinitions()).containsExactly(
+			Map.entry(SessionIndexInstaller.PRINCIPAL_NAME_INDEX_NAME,
+				SessionIndexInstaller.PRINCIPAL_NAME_INDEXED_EXPRESSION));
+	}
+
+	@Test
+	public void indexDefinitionsContainSessionAttributesAndExpirationTime() {
+
+		String[] indexableSessionAttributes = { "one", " two ", "", "one",
+			FindByIndexNameSessionRepository.PRINCIPAL_NAME_INDEX_NAME };
+
+		SessionIndexInstaller installer =
+			new SessionIndexInstaller(this.mockClientCache, "Sessions", indexableSessionAttributes, true);
+
+		assertThat(installer.getIndexDefinitions()).containsExactly(
+			Map.entry(SessionIndexInstaller.PRINCIPAL_NAME_INDEX_NAME,
+				SessionIndexInstaller.PRINCIPAL_NAME_INDEXED_EXPRESSION),
+			Map.entry(SessionIndexInstaller.SESSION_ATTRIBUTES_INDEX_NAME, "s.attributes['one', 'two']"),
+			Map.entry(SessionIndexInstaller.EXPIRATION_TIME_INDEX_NAME,
+				SessionIndexInstaller.EXPIRATION_TIME_INDEXED_EXPRESSION));
+	}
+
+	@Test
+	public void installWithMissingRegionDoesNothing() {
+
+		SessionIndexInstaller installer = new SessionIndexInstaller(this.mockClientCache, "Sessions", null, true);
+
+		installer.afterSingletonsInstantiated();
+
+		assertThat(installer.install()).isEmpty();
+
+		verify(this.mockClientCache, never()).getLocalQueryService();
+	}
+
+	@Test
+	public void installCreatesIndexesOnLocalRegion() throws Exception {
+
+		mockLocalRegion();
+		mockLocalQueryService();
+
+		SessionIndexInstaller installer =
+			new SessionIndexInstaller(this.mockClientCache, "Sessions", new String[] { "tenant" }, true);
+
+		assertThat(installer.install()).containsExactly(SessionIndexInstaller.PRINCIPAL_NAME_INDEX_NAME,
+			SessionIndexInstaller.SESSION_ATTRIBUTES_INDEX_NAME, SessionIndexInstaller.EXPIRATION_TIME_INDEX_NAME);
+
+		verify(this.mockQueryService).createIndex(eq(SessionIndexInstaller.PRINCIPAL_NAME_INDEX_NAME),
+			eq(SessionIndexInstaller.PRINCIPAL_NAME_INDEXED_EXPRESSION), eq("/Sessions s"));
+		verify(this.mockQueryService).createIndex(eq(SessionIndexInstaller.SESSION_ATTRIBUTES_INDEX_NAME),
+			eq("s.attributes['tenant']"), eq("/Sessions s"));
+		verify(this.mockQueryService).createIndex(eq(SessionIndexInstaller.EXPIRATION_TIME_INDEX_NAME),
+			eq(SessionIndexInstaller.EXPIRATION_TIME_INDEXED_EXPRESSION), eq("/Sessions s"));
+	}
+
+	@Test
+	public void installTreatsExistingIndexesAsInstalled() throws Exception {
+
+		mockLocalRegion();
+		mockLocalQueryService();
+
+		doThrow(new IndexExistsException("TEST")).when(this.mockQueryService)
+			.createIndex(anyString(), anyString(), anyString());
+
+		SessionIndexInstaller installer = new SessionIndexInstaller(this.mockClientCache, "Sessions", null, false);
+
+		assertThat(installer.install()).containsExactly(SessionIndexInstaller.PRINCIPAL_NAME_INDEX_NAME);
+	}
+
+	@Test
+	public void installOmitsIndexesThatFailToBeCreated() throws Exception {
+
+		mockLocalRegion();
+		mockLocalQueryService();
+
+		doAnswer(invocation -> {
+
+			if (SessionIndexInstaller.PRINCIPAL_NAME_INDEX_NAME.equals(invocation.getArgument(0))) {
+				throw new IllegalStateException("TEST");
+			}
+
+			return null;
+
+		}).when(this.mockQueryService).createIndex(anyString(), anyString(), anyString());
+
+		SessionIndexInstaller installer = new SessionIndexInstaller(this.mockClientCache, "Sessions", null, true);
+
+		assertThat(installer.install()).containsExactly(SessionIndexInstaller.EXPIRATION_TIME_INDEX_NAME);
+	}
+
+	@Test
+	public void installOnProxyRegionCreatesAndVerifiesIndexesOnServers() {
+
+		mockClientRegion(DataPolicy.EMPTY);
+
+		Execution mockExecution = mock(Execution.class);
+		ResultCollector mockResultCollector = mock(ResultCollector.class);
+
+		doReturn(mockExecution).when(mockExecution).setArguments(any());
+		doReturn(mockResultCollector).when(mockExecution).execute(eq(CreateSessionIndexesFunction.ID));
+		doReturn(Arrays.asList(
+			Arrays.asList(SessionIndexInstaller.PRINCIPAL_NAME_INDEX_NAME,
+				SessionIndexInstaller.SESSION_ATTRIBUTES_INDEX_NAME, "otherIndex"),
+			Arrays.asList(SessionIndexInstaller.SESSION_ATTRIBUTES_INDEX_NAME,
+				SessionIndexInstaller.PRINCIPAL_NAME_INDEX_NAME)))
+			.when(mockResultCollector).getResult();
+
+		SessionIndexInstaller installer = newServerInstaller(mockExecution, new String[] { "tenant" });
+
+		assertThat(installer.install()).containsExactly(SessionIndexInstaller.PRINCIPAL_NAME_INDEX_NAME,
+			SessionIndexInstaller.SESSION_ATTRIBUTES_INDEX_NAME);
+
+		ArgumentCaptor<Object> arguments = ArgumentCaptor.forClass(Object.class);
+
+		verify(mockExecution, times(1)).setArguments(arguments.capture());
+
+		assertThat(arguments.getValue()).isInstanceOf(Object[].class);
+		assertThat(((Object[]) arguments.getValue())[0]).isEqualTo("Sessions");
+		assertThat(((Object[]) arguments.getValue())[1]).isEqualTo(installer.getIndexDefinitions());
+
+		verify(this.mockClientCache, never()).getLocalQueryService();
+		verifyNoInteractions(this.mockQueryService);
+	}
+
+	@Test
+	public void installOnCachingProxyRegionCreatesIndexesOnServers() {
+
+		mockClientRegion(DataPolicy.NORMAL);
+
+		Execution mockExecution = mock(Execution.class);
+		ResultCollector mockResultCollector = mock(ResultCollector.class);
+
+		doReturn(mockExecution).when(mockExecution).setArguments(any());
+		doReturn(mockResultCollector).when(mockExecution).execute(eq(CreateSessionIndexesFunction.ID));
+		doReturn(Collections.singletonList(Collections.singletonList(SessionIndexInstaller.PRINCIPAL_NAME_INDEX_NAME)))
+			.when(mockResultCollector).getResult();
+
+		SessionIndexInstaller installer = newServerInstaller(mockExecution, null);
+
+		assertThat(installer.install()).containsExactly(SessionIndexInstaller.PRINCIPAL_NAME_INDEX_NAME);
+
+		verify(mockExecution, times(1)).execute(eq(CreateSessionIndexesFunction.ID));
+		verify(this.mockClientCache, never()).getLocalQueryService();
+		verifyNoInteractions(this.mockQueryService);
+	}
+
+	@Test
+	public void installOnProxyRegionReportsIndexesMissingOnAnyServer() {
+
+		mockClientRegion(DataPolicy.EMPTY);
+
+		Execution mockExecution = mock(Execution.class);
+		ResultCollector mockResultCollector = mock(ResultCollector.class);
+
+		doReturn(mockExecution).when(mockExecution).setArguments(any());
+		doReturn(mockResultCollector).when(mockExecution).execute(eq(CreateSessionIndexesFunction.ID));
+		doReturn(Arrays.asList(Collections.singletonList(SessionIndexInstaller.PRINCIPAL_NAME_INDEX_NAME),
+			Collections.emptyList())).when(mockResultCollector).getResult();
+
+		SessionIndexInstaller installer = newServerInstaller(mockExecution, null);
+
+		assertThat(installer.install()).isEmpty();
+	}
+
+	@Test
+	public void installOnProxyRegionHandlesUnregisteredFunction() {
+
+		mockClientRegion(DataPolicy.EMPTY);
+
+		Execution mockExecution = mock(Execution.class);
+
+		doReturn(mockExecution).when(mockExecution).setArguments(any());
+		doThrow(new FunctionException("TEST")).when(mockExecution).execute(eq(CreateSessionIndexesFunction.ID));
+
+		SessionIndexInstaller installer = newServerInstaller(mockExecution, null);
+
+		assertThat(installer.install()).isEmpty();
+
+		verifyNoInteractions(this.mockQueryService);
+	}
+}
@@ -0,0 +1,67 @@
+/*
+ * Copyright 2024 Broadcom. All rights reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.springframework.session.data.gemfire.config.annotation.web.http.support;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.Test;
+
+import org.apache.geode.cache.EvictionAction;
+import org.apache.geode.cache.EvictionAlgorithm;
+import org.apache.geode.cache.EvictionAttributes;
+
+/**
+ * Unit tests for {@link SessionRegionEvictionPolicy}.
+ *
+ * @author John Blum
+ * @see org.junit.Test
+ * @see org.springframework.session.data.gemfire.config.annotation.web.http.support.SessionRegionEvictionPolicy
+ * @since 1.0.0
+ */
+public class SessionRegionEvictionPolicyUnitTests {
+
+	@Test
+	public void noneHasNoEvictionAttributes() {
+		assertThat(SessionRegionEvictionPolicy.NONE.toEvictionAttributes(100)).isNull();
+	}
+
+	@Test
+	public void entryCountEvictionAttributes() {
+
+		EvictionAttributes evictionAttributes = SessionRegionEvictionPolicy.ENTRY_COUNT.toEvictionAttributes(5000);
+
+		assertThat(evictionAttributes.getAlgorithm()).isEqualTo(EvictionAlgorithm.LRU_ENTRY);
+		assertThat(evictionAttributes.getAction()).isEqualTo(EvictionAction.LOCAL_DESTROY);
+		assertThat(evictionAttributes.getMaximum()).isEqualTo(5000);
+	}
+
+	@Test
+	public void entryCountEvictionAttributesUseDefaultMaximum() {
+
+		assertThat(SessionRegionEvictionPolicy.ENTRY_COUNT.toEvictionAttributes(0).getMaximum())
+			.isEqualTo(EvictionAttributes.DEFAULT_ENTRIES_MAXIMUM);
+	}
+
+	@Test
+	public void heapPercentageEvictionAttributes() {
+
+		EvictionAttributes evictionAttributes = SessionRegionEvictionPolicy.HEAP_PERCENTAGE.toEvictionAttributes(75);
+
+		assertThat(evictionAttributes.getAlgorithm()).isEqualTo(EvictionAlgorithm.LRU_HEAP);
+		assertThat(evictionAttributes.getAction()).isEqualTo(EvictionAction.LOCAL_DESTROY);
+	}
+
+	@Test
+	public void memorySizeEvictionAttributes() {
+
+		EvictionAttributes evictionAttributes = SessionRegionEvictionPolicy.MEMORY_SIZE.toEvictionAttributes(256);
+
+		assertThat(evictionAttributes.getAlgorithm()).isEqualTo(EvictionAlgorithm.LRU_MEMORY);
+		assertThat(evictionAttributes.getAction()).isEqualTo(EvictionAction.LOCAL_DESTROY);
+		assertThat(evictionAttributes.getMaximum()).isEqualTo(256);
+		assertThat(SessionRegionEvictionPolicy.MEMORY_SIZE.toEvictionAttributes(-1).getMaximum())
+			.isEqualTo(EvictionAttributes.DEFAULT_MEMORY_MAXIMUM);
+	}
+}
@@ -0,0 +1,202 @@
+/*
+ * Copyright 2024 Broadcom. All rights reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.springframework.session.data.gemfire.config.annotation.web.http.support;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Properties;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import org.apache.geode.cache.Cache;
+import org.apache.geode.cache.ExpirationAction;
+import org.apache.geode.cache.ExpirationAttributes;
+import org.apache.geode.cache.PartitionAttributes;
+import org.apache.geode.cache.Region;
+import org.apache.geode.cache.RegionAttributes;
+import org.apache.geode.cache.execute.FunctionContext;
+import org.apache.geode.cache.execute.FunctionException;
+import org.apache.geode.cache.execute.ResultSender;
+import org.apache.geode.compression.SnappyCompressor;
+
+import org.springframework.session.data.gemfire.expiration.support.DeclarableSessionCustomExpiry;
+import org.springframework.session.data.gemfire.expiration.support.IdleTimeoutSessionExpirationPolicy;
+import org.springframework.session.data.gemfire.support.SessionIdPartitionResolver;
+
+/**
+ * Unit tests for {@link SessionRegionSettingsFunction}.
+ *
+ * @author John Blum
+ * @see org.junit.Test
+ * @see org.mockito.Mockito
+ * @see org.springframework.session.data.gemfire.config.annotation.web.http.support.SessionRegionSettingsFunction
+ * @since 1.0.0
+ */
+@RunWith(MockitoJUnitRunner.class)
+@SuppressWarnings({ "rawtypes", "unchecked" })
+public class SessionRegionSettingsFunctionUnitTests {
+
+	@Mock
+	private Cache mockCache;
+
+	@Mock
+	private FunctionContext mockFunctionContext;
+
+	@Mock
+	private Region mockRegion;
+
+	@Mock
+	private RegionAttributes mockRegionAttributes;
+
+	@Mock
+	private ResultSender mockResultSender;
+
+	private final SessionRegionSettingsFunction function = new SessionRegionSettingsFunction();
+
+	private void mockFunctionContext() {
+
+		doReturn("Sessions").when(this.mockFunctionContext).getArguments();
+		doReturn(this.mockCache).when(this.mockFunctionContext).getCache();
+		doReturn(this.mockResultSender).when(this.mockFunctionContext).getResultSender();
+	}
+
+	private DeclarableSessionCustomExpiry newCustomExpiry(String name, String value) {
+
+		DeclarableSessionCustomExpiry customExpiry = new DeclarableSessionCustomExpiry();
+
+		Properties parameters = new Properties();
+
+		parameters.setProperty(name, value);
+		customExpiry.initialize(null, parameters);
+
+		return customExpiry;
+	}
+
+	@Test
+	public void functionIsConfiguredCorrectly() {
+
+		assertThat(this.function.getId()).isEqualTo(SessionRegionSettingsFunction.ID);
+		assertThat(this.function.hasResult()).isTrue();
+		assertThat(this.function.isHA()).isFalse();
+		assertThat(this.function.optimizeForWrite()).isFalse();
+	}
+
+	@Test
+	public void executeReturnsStorageSettingsOfExistingRegion() {
+
+		mockFunctionContext();
+
+		PartitionAttributes mockPartitionAttributes = mock(PartitionAttributes.class);
+
+		doReturn(this.mockRegion).when(this.mockCache).getRegion(eq("Sessions"));
+		doReturn(this.mockRegionAttributes).when(this.mockRegion).getAttributes();
+		doReturn(true).when(this.mockRegionAttributes).getOffHeap();
+		doReturn(new SnappyCompressor()).when(this.mockRegionAttributes).getCompressor();
+		doReturn(mockPartitionAttributes).when(this.mockRegionAttributes).getPartitionAttributes();
+		doReturn(271).when(mockPartitionAttributes).getTotalNumBuckets();
+		doReturn(1).when(mockPartitionAttributes).getRedundantCopies();
+		doReturn(new SessionIdPartitionResolver()).when(mockPartitionAttributes).getPartitionResolver();
+
+		this.function.execute(this.mockFunctionContext);
+
+		Map<String, Object> expectedStorageSettings = new HashMap<>();
+
+		expectedStorageSettings.put(SessionRegionSettingsFunction.OFF_HEAP, true);
+		expectedStorageSettings.put(SessionRegionSettingsFunction.COMPRESSED, true);
+		expectedStorageSettings.put(SessionRegionSettingsFunction.TOTAL_NUMBER_OF_BUCKETS, 271);
+		expectedStorageSettings.put(SessionRegionSettingsFunction.REDUNDANT_COPIES, 1);
+		expectedStorageSettings.put(SessionRegionSettingsFunction.PARTITION_RESOLVER,
+			SessionIdPartitionResolver.class.getName());
+		expectedStorageSettings.put(SessionRegionSettingsFunction.ENTRY_IDLE_TIMEOUT_SECONDS, 0);
+
+		verify(this.mockResultSender).lastResult(eq(expectedStorageSettings));
+	}
+
+	@Test
+	public void executeReturnsExpirationSettingsOfExistingRegion() {
+
+		mockFunctionContext();
+
+		doReturn(this.mockRegion).when(this.mockCache).getRegion(eq("Sessions"));
+		doReturn(this.mockRegionAttributes).when(this.mockRegion).getAttributes();
+		doReturn(true).when(this.mockRegionAttributes).getStatisticsEnabled();
+		doReturn(new ExpirationAttributes(1800, ExpirationAction.INVALIDATE))
+			.when(this.mockRegionAttributes).getEntryIdleTimeout();
+		doReturn(newCustomExpiry(DeclarableSessionCustomExpiry.SESSION_EXPIRATION_POLICY,
+			IdleTimeoutSessionExpirationPolicy.class.getName()))
+				.when(this.mockRegionAttributes).getCustomEntryIdleTimeout();
+		doReturn(newCustomExpiry(DeclarableSessionCustomExpiry.MAX_LIFETIME_SECONDS, "3600"))
+			.when(this.mockRegionAttributes).getCustomEntryTimeToLive();
+
+		this.function.execute(this.mockFunctionContext);
+
+		ArgumentCaptor<Map> storageSettings = ArgumentCaptor.forClass(Map.class);
+
+		verify(this.mockResultSender).lastResult(storageSettings.capture());
+
+		assertThat(storageSettings.getValue())
+			.containsEntry(SessionRegionSettingsFunction.ENTRY_IDLE_TIMEOUT_SECONDS, 1800)
+			.containsEntry(SessionRegionSettingsFunction.SESSION_EXPIRATION_POLICY,
+				IdleTimeoutSessionExpirationPolicy.class.getName())
+			.containsEntry(SessionRegionSettingsFunction.FIXED_DURATION_EXPIRATION_SECONDS, 3600)
+			.doesNotContainKey(SessionRegionSettingsFunction.TOTAL_NUMBER_OF_BUCKETS);
+	}
+
+	@Test
+	public void executeReturnsNoEntryIdleTimeoutWhenStatisticsAreDisabled() {
+
+		mockFunctionContext();
+
+		doReturn(this.mockRegion).when(this.mockCache).getRegion(eq("Sessions"));
+		doReturn(this.mockRegionAttributes).when(this.mockRegion).getAttributes();
+		doReturn(false).when(this.mockRegionAttributes).getStatisticsEnabled();
+
+		this.function.execute(this.mockFunctionContext);
+
+		ArgumentCaptor<Map> storageSettings = ArgumentCaptor.forClass(Map.class);
+
+		verify(this.mockResultSender).lastResult(storageSettings.capture());
+
+		assertThat(storageSettings.getValue())
+			.containsEntry(SessionRegionSettingsFunction.ENTRY_IDLE_TIMEOUT_SECONDS, 0);
+	}
+
+	@Test
+	public void executeDoesNotCreateMissingRegion() {
+
+		mockFunctionContext();
+
+		this.function.execute(this.mockFunctionContext);
+
+		verify(this.mockCache).getRegion(eq("Sessions"));
+		verify(this.mockResultSender).lastResult(eq(Collections.emptyMap()));
+		verifyNoInteractions(this.mockRegion);
+	}
+
+	@Test
+	public void executeWithInvalidArgumentsThrowsFunctionException() {
+
+		doReturn(new Object[] { "Sessions" }).when(this.mockFunctionContext).getArguments();
+
+		assertThatExceptionOfType(FunctionException.class)
+			.isThrownBy(() -> this.function.execute(this.mockFunctionContext))
+			.withMessage("Function [%s] requires a Region name", SessionRegionSettingsFunction.ID);
+
+		verifyNoInteractions(this.mockCache, this.mockResultSender);
+	}
+}
@@ -0,0 +1,225 @@
+/*
+ * Copyright 2024 Broadcom. All rights reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.springframework.session.data.gemfire.config.annotation.web.http.support;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.verify;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import org.apache.geode.cache.RegionShortcut;
+import org.apache.geode.cache.client.ClientCache;
+import org.apache.geode.cache.execute.Execution;
+import org.apache.geode.cache.execute.FunctionException;
+import org.apache.geode.cache.execute.ResultCollector;
+
+import org.springframework.session.data.gemfire.support.SessionIdPartitionResolver;
+
+/**
+ * Unit tests for {@link SessionRegionVerifier}.
+ *
+ * @author John Blum
+ * @see org.junit.Test
+ * @see org.mockito.Mockito
+ * @see org.springframework.session.data.gemfire.config.annotation.web.http.support.SessionRegionVerifier
+ * @since 1.0.0
+ */
+@RunWith(MockitoJUnitRunner.class)
+@SuppressWarnings({ "rawtypes", "unchecked" })
+public class SessionRegionVerifierUnitTests {
+
+	@Mock
+	private ClientCache mockClientCache;
+
+	@Mock
+	private Execution mockExecution;
+
+	@Mock
+	private ResultCollector mockResultCollector;
+
+	private Map<String, Object> storageSettings;
+
+	@Before
+	public void setup() {
+
+		this.storageSettings = new LinkedHashMap<>();
+		this.storageSettings.put(SessionRegionSettingsFunction.OFF_HEAP, true);
+		this.storageSettings.put(SessionRegionSettingsFunction.REDUNDANT_COPIES, 1);
+		this.storageSettings.put(SessionRegionSettingsFunction.ENTRY_IDLE_TIMEOUT_SECONDS, 1800);
+	}
+
+	private void mockExecution(Object results) {
+
+		doReturn(this.mockExecution).when(this.mockExecution).setArguments(any());
+		doReturn(this.mockResultCollector).when(this.mockExecution).execute(eq(SessionRegionSettingsFunction.ID));
+		doReturn(results).when(this.mockResultCollector).getResult();
+	}
+
+	private SessionRegionVerifier newVerifier() {
+
+		return new SessionRegionVerifier(this.mockClientCache, null, "Sessions", RegionShortcut.PARTITION,
+				this.storageSettings) {
+
+			@Override
+			protected Execution newServerExecution() {
+				return mockExecution;
+			}
+		};
+	}
+
+	private Map<String, Object> serverStorageSettings(boolean offHeap, int redundantCopies) {
+
+		Map<String, Object> serverStorageSettings = new LinkedHashMap<>();
+
+		serverStorageSettings.put(SessionRegionSettingsFunction.OFF_HEAP, offHeap);
+		serverStorageSettings.put(SessionRegionSettingsFunction.COMPRESSED, false);
+		serverStorageSettings.put(SessionRegionSettingsFunction.TOTAL_NUMBER_OF_BUCKETS, 113);
+		serverStorageSettings.put(SessionRegionSettingsFunction.REDUNDANT_COPIES, redundantCopies);
+		serverStorageSettings.put(SessionRegionSettingsFunction.ENTRY_IDLE_TIMEOUT_SECONDS, 1800);
+
+		return serverStorageSettings;
+	}
+
+	@Test
+	public void constructsSessionRegionVerifier() {
+
+		SessionRegionVerifier verifier = newVerifier();
+
+		assertThat(verifier.getServerRegionShortcut()).isEqualTo(RegionShortcut.PARTITION);
+		assertThat(verifier.getStorageSettings()).isEqualTo(this.storageSettings);
+		assertThat(verifier.getStorageSettings()).isNotSameAs(this.storageSettings);
+	}
+
+	@Test
+	public void constructWithInvalidArgumentsThrowsIllegalArgumentException() {
+
+		assertThatIllegalArgumentException()
+			.isThrownBy(() -> new SessionRegionVerifier(null, null, "Sessions", RegionShortcut.PARTITION, null))
+			.withMessage("ClientCache is required");
+
+		assertThatIllegalArgumentException()
+			.isThrownBy(() -> new SessionRegionVerifier(this.mockClientCache, null, " ", RegionShortcut.PARTITION,
+				null))
+			.withMessage("Region name is required");
+
+		assertThatIllegalArgumentException()
+			.isThrownBy(() -> new SessionRegionVerifier(this.mockClientCache, null, "Sessions", null, null))
+			.withMessage("RegionShortcut is required");
+	}
+
+	@Test
+	public void verifyMatchesRegionOnServers() {
+
+		mockExecution(Arrays.asList(serverStorageSettings(true, 1), serverStorageSettings(true, 1)));
+
+		assertThat(newVerifier().verify()).isTrue();
+
+		verify(this.mockExecution).setArguments(eq("Sessions"));
+	}
+
+	@Test
+	public void verifyReportsStorageSettingsMismatchOnAnyServer() {
+
+		mockExecution(Arrays.asList(serverStorageSettings(true, 1), serverStorageSettings(false, 0)));
+
+		assertThat(newVerifier().verify()).isFalse();
+	}
+
+	@Test
+	public void verifyReportsMissingExpirationSetting() {
+
+		this.storageSettings.put(SessionRegionSettingsFunction.FIXED_DURATION_EXPIRATION_SECONDS, 3600);
+
+		mockExecution(Collections.singletonList(serverStorageSettings(true, 1)));
+
+		assertThat(newVerifier().verify()).isFalse();
+	}
+
+	@Test
+	public void verifyReportsMissingRegion() {
+
+		mockExecution(Arrays.asList(serverStorageSettings(true, 1), Collections.emptyMap()));
+
+		assertThat(newVerifier().verify()).isFalse();
+	}
+
+	@Test
+	public void verifyWithNoServersIsNotVerified() {
+
+		mockExecution(Collections.emptyList());
+
+		assertThat(newVerifier().verify()).isFalse();
+	}
+
+	@Test
+	public void verifyHandlesExceptionReturnedByServer() {
+
+		mockExecution(Collections.singletonList(new FunctionException("TEST")));
+
+		assertThat(newVerifier().verify()).isFalse();
+	}
+
+	@Test
+	public void verifyHandlesUnregisteredFunction() {
+
+		doReturn(this.mockExecution).when(this.mockExecution).setArguments(any());
+		doThrow(new FunctionException("TEST")).when(this.mockExecution).execute(eq(SessionRegionSettingsFunction.ID));
+
+		assertThat(newVerifier().verify()).isFalse();
+	}
+
+	@Test
+	public void afterPropertiesSetVerifiesRegion() {
+
+		mockExecution(Collections.singletonList(serverStorageSettings(true, 1)));
+
+		newVerifier().afterPropertiesSet();
+
+		verify(this.mockExecution).execute(eq(SessionRegionSettingsFunction.ID));
+	}
+
+	@Test
+	public void toGfshCommandCreatesRegionWithConfiguredSettings() {
+
+		this.storageSettings.put(SessionRegionSettingsFunction.COMPRESSED, true);
+		this.storageSettings.put(SessionRegionSettingsFunction.TOTAL_NUMBER_OF_BUCKETS, 271);
+		this.storageSettings.put(SessionRegionSettingsFunction.PARTITION_RESOLVER,
+			SessionIdPartitionResolver.class.getName());
+		this.storageSettings.put(SessionRegionSettingsFunction.SESSION_EXPIRATION_POLICY, "example.TestPolicy");
+		this.storageSettings.put(SessionRegionSettingsFunction.FIXED_DURATION_EXPIRATION_SECONDS, 3600);
+
+		assertThat(newVerifier().toGfshCommand()).isEqualTo("create region --name=Sessions --type=PARTITION"
+			+ " --off-heap=true --compressor=org.apache.geode.compression.SnappyCompressor --total-num-buckets=271"
+			+ " --redundant-copies=1 --partition-resolver=" + SessionIdPartitionResolver.class.getName()
+			+ " --enable-statistics=true --entry-idle-time-expiration=1800"
+			+ " --entry-idle-time-expiration-action=INVALIDATE"
+			+ " --entry-idle-time-custom-expiry=org.springframework.session.data.gemfire.expiration.support"
+			+ ".DeclarableSessionCustomExpiry{\"sessionExpirationPolicy\":\"example.TestPolicy\"}"
+			+ " --entry-time-to-live-custom-expiry=org.springframework.session.data.gemfire.expiration.support"
+			+ ".DeclarableSessionCustomExpiry{\"maxLifetimeSeconds\":\"3600\"}");
+	}
+
+	@Test
+	public void toGfshCommandWithNoSettingsCreatesRegionOfType() {
+
+		this.storageSettings.clear();
+
+		assertThat(newVerifier().toGfshCommand()).isEqualTo("create region --name=Sessions --type=PARTITION");
+	}
+}
@@ -0,0 +1,146 @@
+/*
+ * Copyright 2024 Broadcom. All rights reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.springframework.session.data.gemfire.events;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.IntStream;
+
+import org.junit.After;
+import org.junit.Test;
+
+/**
+ * Unit tests for {@link SessionEventExecutor}.
+ *
+ * @author John Blum
+ * @see org.junit.Test
+ * @see org.springframework.session.data.gemfire.events.SessionEventExecutor
+ * @since 1.0.0
+ */
+public class SessionEventExecutorUnitTests {
+
+	private SessionEventExecutor sessionEventExecutor;
+
+	@After
+	public void tearDown() {
+
+		if (this.sessionEventExecutor != null) {
+			this.sessionEventExecutor.close();
+		}
+	}
+
+	@Test
+	public void disabledExecutorRunsTasksOnCallingThread() {
+
+		this.sessionEventExecutor = new SessionEventExecutor(0);
+
+		AtomicReference<Thread> taskThread = new AtomicReference<>();
+
+		this.sessionEventExecutor.execute("1", () -> taskThread.set(Thread.currentThread()));
+
+		assertThat(this.sessionEventExecutor.isEnabled()).isFalse();
+		assertThat(taskThread.get()).isSameAs(Thread.currentThread());
+	}
+
+	@Test
+	public void negativeLaneCountIsDisabled() {
+
+		this.sessionEventExecutor = new SessionEventExecutor(-2);
+
+		assertThat(this.sessionEventExecutor.getLaneCount()).isZero();
+		assertThat(this.sessionEventExecutor.isEnabled()).isFalse();
+		assertThat(this.sessionEventExecutor.laneFor("1")).isZero();
+	}
+
+	@Test
+	public void laneForIsStableAndWithinBounds() {
+
+		this.sessionEventExecutor = new SessionEventExecutor(4);
+
+		IntStream.range(0, 100).mapToObj(String::valueOf).forEach(sessionId -> {
+
+			int lane = this.sessionEventExecutor.laneFor(sessionId);
+
+			assertThat(lane).isBetween(0, 3);
+			assertThat(this.sessionEventExecutor.laneFor(sessionId)).isEqualTo(lane);
+		});
+
+		assertThat(this.sessionEventExecutor.laneFor(null)).isBetween(0, 3);
+	}
+
+	@Test
+	public void executesTasksForSameSessionInOrderOnOneThread() throws InterruptedException {
+
+		this.sessionEventExecutor = new SessionEventExecutor(4);
+
+		int taskCount = 200;
+
+		CountDownLatch latch = new CountDownLatch(taskCount * 2);
+
+		Map<String, List<Integer>> sequences = new ConcurrentHashMap<>();
+		Map<String, Thread> threads = new ConcurrentHashMap<>();
+
+		for (int index = 0; index < taskCount; index++) {
+			for (String sessionId : new String[] { "A", "B" }) {
+
+				int sequence = index;
+
+				this.sessionEventExecutor.execute(sessionId, () -> {
+					sequences.computeIfAbsent(sessionId, key -> Collections.synchronizedList(new ArrayList<>()))
+						.add(sequence);
+					threads.merge(sessionId, Thread.currentThread(),
+						(previous, current) -> previous == current ? previous : null);
+					latch.countDown();
+				});
+			}
+		}
+
+		assertThat(latch.await(10, TimeUnit.SECONDS)).isTrue();
+
+		List<Integer> expected = new ArrayList<>();
+
+		IntStream.range(0, taskCount).forEach(expected::add);
+
+		assertThat(sequences.get("A")).containsExactlyElementsOf(expected);
+		assertThat(sequences.get("B")).containsExactlyElementsOf(expected);
+		assertThat(threads.get("A")).isNotSameAs(Thread.currentThread());
+		assertThat(threads.get("A").getName()).startsWith(SessionEventExecutor.LANE_THREAD_NAME_PREFIX);
+	}
+
+	@Test
+	public void failingTaskDoesNotStopLane() throws InterruptedException {
+
+		this.sessionEventExecutor = new SessionEventExecutor(1);
+
+		CountDownLatch latch = new CountDownLatch(1);
+
+		this.sessionEventExecutor.execute("1", () -> { throw new IllegalStateException("TEST"); });
+		this.sessionEventExecutor.execute("1", latch::countDown);
+
+		assertThat(latch.await(10, TimeUnit.SECONDS)).isTrue();
+	}
+
+	@Test
+	public void closedExecutorRunsTasksOnCallingThread() {
+
+		this.sessionEventExecutor = new SessionEventExecutor(2);
+		this.sessionEventExecutor.close();
+
+		AtomicReference<Thread> taskThread = new AtomicReference<>();
+
+		this.sessionEventExecutor.execute("1", () -> taskThread.set(Thread.currentThread()));
+
+		assertThat(this.sessionEventExecutor.isEnabled()).isFalse();
+		assertThat(taskThread.get()).isSameAs(Thread.currentThread());
+	}
+}
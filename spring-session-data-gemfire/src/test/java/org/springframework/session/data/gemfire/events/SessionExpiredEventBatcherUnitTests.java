@@ -0,0 +1,291 @@
+/*
+ * Copyright 2024 Broadcom. All rights reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.springframework.session.data.gemfire.events;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+import java.time.Duration;
+import java.util.List;
+
+import org.junit.After;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import org.springframework.context.ApplicationEventPublisher;
+
+/**
+ * Unit tests for {@link SessionExpiredEventBatcher}.
+ *
+ * @author John Blum
+ * @see org.junit.Test
+ * @see org.mockito.Mock
+ * @see org.mockito.junit.MockitoJUnitRunner
+ * @see org.springframework.session.data.gemfire.events.SessionExpiredEventBatcher
+ * @since 1.0.0
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class SessionExpiredEventBatcherUnitTests {
+
+	private static final Duration LONG_FLUSH_INTERVAL = Duration.ofMinutes(5);
+
+	@Mock
+	private ApplicationEventPublisher mockEventPublisher;
+
+	private SessionExpiredEventBatcher batcher;
+
+	@After
+	public void tearDown() {
+
+		if (this.batcher != null) {
+			this.batcher.close();
+		}
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void constructWithNullEventPublisher() {
+
+		try {
+			new SessionExpiredEventBatcher(this, null, 10, LONG_FLUSH_INTERVAL);
+		}
+		catch (IllegalArgumentException expected) {
+
+			assertThat(expected).hasMessage("ApplicationEventPublisher is required");
+			assertThat(expected).hasNoCause();
+
+			throw expected;
+		}
+	}
+
+	@Test
+	public void constructWithInvalidFlushIntervalUsesDefault() {
+
+		this.batcher = new SessionExpiredEventBatcher(this, this.mockEventPublisher, 10, Duration.ZERO);
+
+		assertThat(this.batcher.getFlushInterval()).isEqualTo(SessionExpiredEventBatcher.DEFAULT_FLUSH_INTERVAL);
+		assertThat(this.batcher.getMaxBatchSize()).isEqualTo(10);
+		assertThat(this.batcher.isEnabled()).isTrue();
+	}
+
+	@Test
+	public void addIsIgnoredWhenDisabled() {
+
+		this.batcher = new SessionExpiredEventBatcher(this, this.mockEventPublisher, 0, LONG_FLUSH_INTERVAL);
+
+		this.batcher.add("1");
+
+		assertThat(this.batcher.isEnabled()).isFalse();
+		assertThat(this.batcher.getPendingCount()).isZero();
+		assertThat(this.batcher.flush()).isZero();
+
+		verifyNoInteractions(this.mockEventPublisher);
+	}
+
+	@Test
+	public void addIgnoresNullSessionId() {
+
+		this.batcher = new SessionExpiredEventBatcher(this, this.mockEventPublisher, 10, LONG_FLUSH_INTERVAL);
+
+		this.batcher.add(null);
+
+		assertThat(this.batcher.getPendingCount()).isZero();
+	}
+
+	@Test
+	public void flushPublishesAtMostMaxBatchSizeSessionIds() {
+
+		this.batcher = new SessionExpiredEventBatcher(this, this.mockEventPublisher, 2, LONG_FLUSH_INTERVAL);
+
+		this.batcher.add("1");
+		this.batcher.add("2");
+		this.batcher.add("3");
+
+		assertThat(this.batcher.getPendingCount()).isEqualTo(3);
+		assertThat(this.batcher.flush()).isEqualTo(2);
+		assertThat(this.batcher.getPendingCount()).isOne();
+
+		ArgumentCaptor<SessionsExpiredBatchEvent> eventCaptor =
+			ArgumentCaptor.forClass(SessionsExpiredBatchEvent.class);
+
+		verify(this.mockEventPublisher, times(1)).publishEvent(eventCaptor.capture());
+
+		SessionsExpiredBatchEvent event = eventCaptor.getValue();
+
+		assertThat(event.getSource()).isSameAs(this);
+		assertThat(event.getSessionIds()).containsExactly("1", "2");
+		assertThat(event.size()).isEqualTo(2);
+	}
+
+	@Test
+	public void flushWithNoPendingSessionIdsPublishesNothing() {
+
+		this.batcher = new SessionExpiredEventBatcher(this, this.mockEventPublisher, 2, LONG_FLUSH_INTERVAL);
+
+		assertThat(this.batcher.flush()).isZero();
+
+		verifyNoInteractions(this.mockEventPublisher);
+	}
+
+	@Test
+	public void closePublishesAllRemainingSessionIds() {
+
+		this.batcher = new SessionExpiredEventBatcher(this, this.mockEventPublisher, 2, LONG_FLUSH_INTERVAL);
+
+		this.batcher.add("1");
+		this.batcher.add("2");
+		this.batcher.add("3");
+		this.batcher.close();
+
+		assertThat(this.batcher.getPendingCount()).isZero();
+
+		ArgumentCaptor<SessionsExpiredBatchEvent> eventCaptor =
+			ArgumentCaptor.forClass(SessionsExpiredBatchEvent.class);
+
+		verify(this.mockEventPublisher, times(2)).publishEvent(eventCaptor.capture());
+
+		List<SessionsExpiredBatchEvent> events = eventCaptor.getAllValues();
+
+		assertThat(events.get(0).getSessionIds()).containsExactly("1", "2");
+		assertThat(events.get(1).getSessionIds()).containsExactly("3");
+	}
+
+	@Test
+	public void constructWithInvalidCapacityThrowsIllegalArgumentException() {
+
+		assertThatIllegalArgumentException()
+			.isThrownBy(() -> new SessionExpiredEventBatcher(this, this.mockEventPublisher, 10, LONG_FLUSH_INTERVAL,
+				0, SessionExpiredEventBatcher.OverflowPolicy.DROP))
+			.withMessage("Capacity [0] must be greater than 0");
+	}
+
+	@Test
+	public void constructWithInvalidMaxBatchesPerFlushThrowsIllegalArgumentException() {
+
+		assertThatIllegalArgumentException()
+			.isThrownBy(() -> new SessionExpiredEventBatcher(this, this.mockEventPublisher, 10, LONG_FLUSH_INTERVAL,
+				10, SessionExpiredEventBatcher.OverflowPolicy.DROP, 0))
+			.withMessage("Max batches per flush [0] must be greater than 0");
+	}
+
+	@Test
+	public void constructWithDefaultCapacityAndOverflowPolicy() {
+
+		this.batcher = new SessionExpiredEventBatcher(this, this.mockEventPublisher, 10, LONG_FLUSH_INTERVAL);
+
+		assertThat(this.batcher.getCapacity()).isEqualTo(SessionExpiredEventBatcher.DEFAULT_CAPACITY);
+		assertThat(this.batcher.getOverflowPolicy()).isEqualTo(SessionExpiredEventBatcher.OverflowPolicy.DROP);
+		assertThat(this.batcher.getMaxBatchesPerFlush())
+			.isEqualTo(SessionExpiredEventBatcher.DEFAULT_MAX_BATCHES_PER_FLUSH);
+		assertThat(this.batcher.getDroppedCount()).isZero();
+	}
+
+	@Test
+	public void flushAllPublishesAllPendingSessionIdsInBatches() {
+
+		this.batcher = new SessionExpiredEventBatcher(this, this.mockEventPublisher, 2, LONG_FLUSH_INTERVAL);
+
+		this.batcher.add("1");
+		this.batcher.add("2");
+		this.batcher.add("3");
+		this.batcher.add("4");
+		this.batcher.add("5");
+
+		assertThat(this.batcher.flushAll()).isEqualTo(5);
+		assertThat(this.batcher.getPendingCount()).isZero();
+
+		ArgumentCaptor<SessionsExpiredBatchEvent> eventCaptor =
+			ArgumentCaptor.forClass(SessionsExpiredBatchEvent.class);
+
+		verify(this.mockEventPublisher, times(3)).publishEvent(eventCaptor.capture());
+
+		List<SessionsExpiredBatchEvent> events = eventCaptor.getAllValues();
+
+		assertThat(events.get(0).getSessionIds()).containsExactly("1", "2");
+		assertThat(events.get(1).getSessionIds()).containsExactly("3", "4");
+		assertThat(events.get(2).getSessionIds()).containsExactly("5");
+	}
+
+	@Test
+	public void flushAllPublishesNoMoreThanMaxBatchesPerFlush() {
+
+		this.batcher = new SessionExpiredEventBatcher(this, this.mockEventPublisher, 2, LONG_FLUSH_INTERVAL, 10,
+			SessionExpiredEventBatcher.OverflowPolicy.DROP, 2);
+
+		this.batcher.add("1");
+		this.batcher.add("2");
+		this.batcher.add("3");
+		this.batcher.add("4");
+		this.batcher.add("5");
+
+		assertThat(this.batcher.flushAll()).isEqualTo(4);
+		assertThat(this.batcher.getPendingCount()).isOne();
+
+		ArgumentCaptor<SessionsExpiredBatchEvent> eventCaptor =
+			ArgumentCaptor.forClass(SessionsExpiredBatchEvent.class);
+
+		verify(this.mockEventPublisher, times(2)).publishEvent(eventCaptor.capture());
+
+		List<SessionsExpiredBatchEvent> events = eventCaptor.getAllValues();
+
+		assertThat(events.get(0).getSessionIds()).containsExactly("1", "2");
+		assertThat(events.get(1).getSessionIds()).containsExactly("3", "4");
+
+		assertThat(this.batcher.flushAll()).isOne();
+		assertThat(this.batcher.getPendingCount()).isZero();
+	}
+
+	@Test
+	public void addWhenFullPublishesBatchWithPublishOverflowPolicy() {
+
+		this.batcher = new SessionExpiredEventBatcher(this, this.mockEventPublisher, 2, LONG_FLUSH_INTERVAL, 3,
+			SessionExpiredEventBatcher.OverflowPolicy.PUBLISH);
+
+		this.batcher.add("1");
+		this.batcher.add("2");
+		this.batcher.add("3");
+		this.batcher.add("4");
+
+		assertThat(this.batcher.getPendingCount()).isEqualTo(2);
+		assertThat(this.batcher.getDroppedCount()).isZero();
+
+		ArgumentCaptor<SessionsExpiredBatchEvent> eventCaptor =
+			ArgumentCaptor.forClass(SessionsExpiredBatchEvent.class);
+
+		verify(this.mockEventPublisher, times(1)).publishEvent(eventCaptor.capture());
+
+		assertThat(eventCaptor.getValue().getSessionIds()).containsExactly("1", "2");
+	}
+
+	@Test
+	public void addWhenFullDropsSessionIdWithDropOverflowPolicy() {
+
+		this.batcher = new SessionExpiredEventBatcher(this, this.mockEventPublisher, 2, LONG_FLUSH_INTERVAL, 2,
+			SessionExpiredEventBatcher.OverflowPolicy.DROP);
+
+		this.batcher.add("1");
+		this.batcher.add("2");
+		this.batcher.add("3");
+
+		assertThat(this.batcher.getPendingCount()).isEqualTo(2);
+		assertThat(this.batcher.getDroppedCount()).isOne();
+
+		verifyNoInteractions(this.mockEventPublisher);
+	}
+
+	@Test
+	public void sessionsExpiredBatchEventWithNullSessionIdsIsEmpty() {
+
+		SessionsExpiredBatchEvent event = new SessionsExpiredBatchEvent(this, null);
+
+		assertThat(event.getSessionIds()).isEmpty();
+		assertThat(event.size()).isZero();
+	}
+}
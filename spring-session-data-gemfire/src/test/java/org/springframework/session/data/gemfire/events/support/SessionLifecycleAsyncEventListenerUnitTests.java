@@ -0,0 +1,198 @@
+/*
+ * Copyright 2024 Broadcom. All rights reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.springframework.session.data.gemfire.events.support;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Properties;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import org.apache.geode.cache.Operation;
+import org.apache.geode.cache.asyncqueue.AsyncEvent;
+
+import org.springframework.session.Session;
+import org.springframework.session.data.gemfire.events.SessionLifecycleEvent;
+import org.springframework.session.data.gemfire.events.SessionLifecycleEventSink;
+import org.springframework.session.data.gemfire.expiration.support.ExpiredSessionSweeperFunction;
+
+/**
+ * Unit tests for {@link SessionLifecycleAsyncEventListener}.
+ *
+ * @author John Blum
+ * @see org.junit.Test
+ * @see org.mockito.Mock
+ * @see org.mockito.junit.MockitoJUnitRunner
+ * @see org.apache.geode.cache.asyncqueue.AsyncEvent
+ * @see org.springframework.session.data.gemfire.events.support.SessionLifecycleAsyncEventListener
+ * @since 1.0.0
+ */
+@RunWith(MockitoJUnitRunner.class)
+@SuppressWarnings({ "rawtypes", "unchecked" })
+public class SessionLifecycleAsyncEventListenerUnitTests {
+
+	@Mock
+	private Session mockSession;
+
+	@Mock
+	private SessionLifecycleEventSink mockSink;
+
+	private AsyncEvent mockAsyncEvent(Operation operation, String key) {
+
+		AsyncEvent mockAsyncEvent = mock(AsyncEvent.class);
+
+		when(mockAsyncEvent.getOperation()).thenReturn(operation);
+		when(mockAsyncEvent.getKey()).thenReturn(key);
+
+		return mockAsyncEvent;
+	}
+
+	private List<SessionLifecycleEvent> captureDeliveredEvents() throws Exception {
+
+		ArgumentCaptor<List> eventsCaptor = ArgumentCaptor.forClass(List.class);
+
+		verify(this.mockSink, times(1)).accept(eventsCaptor.capture());
+
+		return eventsCaptor.getValue();
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void constructWithNullSink() {
+
+		try {
+			new SessionLifecycleAsyncEventListener(null);
+		}
+		catch (IllegalArgumentException expected) {
+
+			assertThat(expected).hasMessage("SessionLifecycleEventSink is required");
+			assertThat(expected).hasNoCause();
+
+			throw expected;
+		}
+	}
+
+	@Test
+	public void initializeConfiguresSinkFromClassNameParameter() {
+
+		Properties parameters = new Properties();
+
+		parameters.setProperty(SessionLifecycleAsyncEventListener.SINK_CLASS_NAME_PARAMETER,
+			TestSessionLifecycleEventSink.class.getName());
+
+		SessionLifecycleAsyncEventListener listener = new SessionLifecycleAsyncEventListener();
+
+		listener.initialize(null, parameters);
+
+		assertThat(listener.getSink()).isInstanceOf(TestSessionLifecycleEventSink.class);
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void initializeWithoutSinkParameterThrowsIllegalArgumentException() {
+
+		new SessionLifecycleAsyncEventListener().initialize(null, new Properties());
+	}
+
+	@Test
+	public void processEventsCollapsesEventsPerSession() throws Exception {
+
+		AsyncEvent createOne = mockAsyncEvent(Operation.CREATE, "1");
+		AsyncEvent updateOne = mockAsyncEvent(Operation.UPDATE, "1");
+		AsyncEvent createTwo = mockAsyncEvent(Operation.CREATE, "2");
+		AsyncEvent expireTwo = mockAsyncEvent(Operation.EXPIRE_DESTROY, "2");
+		AsyncEvent destroyThree = mockAsyncEvent(Operation.DESTROY, "3");
+
+		when(updateOne.getDeserializedValue()).thenReturn(this.mockSession);
+
+		SessionLifecycleAsyncEventListener listener = new SessionLifecycleAsyncEventListener(this.mockSink);
+
+		assertThat(listener.processEvents(Arrays.asList(createOne, updateOne, createTwo, expireTwo, destroyThree)))
+			.isTrue();
+
+		List<SessionLifecycleEvent> events = captureDeliveredEvents();
+
+		assertThat(events).containsExactly(
+			SessionLifecycleEvent.of("1", SessionLifecycleEvent.Type.CREATED, this.mockSession),
+			SessionLifecycleEvent.of("2", SessionLifecycleEvent.Type.EXPIRED, null),
+			SessionLifecycleEvent.of("3", SessionLifecycleEvent.Type.DELETED, null));
+
+		assertThat(events.get(0).getSession()).containsSame(this.mockSession);
+	}
+
+	@Test
+	public void processEventsDeliversSessionsRemovedByExpiredSessionSweeperAsExpired() throws Exception {
+
+		AsyncEvent removeOne = mockAsyncEvent(Operation.REMOVEALL_DESTROY, "1");
+
+		when(removeOne.getCallbackArgument())
+			.thenReturn(ExpiredSessionSweeperFunction.SESSION_EXPIRED_CALLBACK_ARGUMENT);
+
+		SessionLifecycleAsyncEventListener listener = new SessionLifecycleAsyncEventListener(this.mockSink);
+
+		assertThat(listener.processEvents(Collections.singletonList(removeOne))).isTrue();
+
+		assertThat(captureDeliveredEvents())
+			.containsExactly(SessionLifecycleEvent.of("1", SessionLifecycleEvent.Type.EXPIRED, null));
+	}
+
+	@Test
+	public void processEventsRedeliversPossibleDuplicatesAtLeastOnce() throws Exception {
+
+		AsyncEvent mockAsyncEvent = mockAsyncEvent(Operation.DESTROY, "1");
+		AsyncEvent mockDuplicateAsyncEvent = mockAsyncEvent(Operation.DESTROY, "1");
+
+		SessionLifecycleAsyncEventListener listener = new SessionLifecycleAsyncEventListener(this.mockSink);
+
+		assertThat(listener.processEvents(Collections.singletonList(mockAsyncEvent))).isTrue();
+		assertThat(listener.processEvents(Collections.singletonList(mockDuplicateAsyncEvent))).isTrue();
+
+		SessionLifecycleEvent expectedEvent = SessionLifecycleEvent.of("1", SessionLifecycleEvent.Type.DELETED, null);
+
+		verify(this.mockSink, times(2)).accept(eq(Collections.singletonList(expectedEvent)));
+	}
+
+	@Test
+	public void processEventsIgnoresInvalidSessionIds() {
+
+		SessionLifecycleAsyncEventListener listener = new SessionLifecycleAsyncEventListener(this.mockSink);
+
+		assertThat(listener.processEvents(Collections.singletonList(mockAsyncEvent(Operation.DESTROY, "  "))))
+			.isTrue();
+
+		verifyNoInteractions(this.mockSink);
+	}
+
+	@Test
+	public void processEventsReturnsFalseWhenSinkFails() throws Exception {
+
+		doThrow(new IllegalStateException("TEST")).when(this.mockSink).accept(anyList());
+
+		SessionLifecycleAsyncEventListener listener = new SessionLifecycleAsyncEventListener(this.mockSink);
+
+		assertThat(listener.processEvents(Collections.singletonList(mockAsyncEvent(Operation.DESTROY, "1"))))
+			.isFalse();
+	}
+
+	public static class TestSessionLifecycleEventSink implements SessionLifecycleEventSink {
+
+		@Override
+		public void accept(List<SessionLifecycleEvent> events) { }
+
+	}
+}
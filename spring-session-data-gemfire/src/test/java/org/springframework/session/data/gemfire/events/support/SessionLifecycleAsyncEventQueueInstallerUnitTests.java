@@ -0,0 +1,203 @@
+/*
+ * Copyright 2024 Broadcom. All rights reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.springframework.session.data.gemfire.events.support;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isA;
+import static org.mockito.Mockito.RETURNS_SELF;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+import java.util.Collections;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import org.apache.geode.cache.AttributesMutator;
+import org.apache.geode.cache.Cache;
+import org.apache.geode.cache.ExpirationAction;
+import org.apache.geode.cache.ExpirationAttributes;
+import org.apache.geode.cache.Region;
+import org.apache.geode.cache.RegionAttributes;
+import org.apache.geode.cache.asyncqueue.AsyncEventQueue;
+import org.apache.geode.cache.asyncqueue.AsyncEventQueueFactory;
+
+import org.springframework.session.data.gemfire.events.SessionLifecycleEventSink;
+
+/**
+ * Unit tests for {@link SessionLifecycleAsyncEventQueueInstaller}.
+ *
+ * @author John Blum
+ * @see org.junit.Test
+ * @see org.mockito.Mock
+ * @see org.mockito.junit.MockitoJUnitRunner
+ * @see org.apache.geode.cache.asyncqueue.AsyncEventQueue
+ * @see org.springframework.session.data.gemfire.events.support.SessionLifecycleAsyncEventQueueInstaller
+ * @since 1.0.0
+ */
+@RunWith(MockitoJUnitRunner.class)
+@SuppressWarnings({ "rawtypes", "unchecked" })
+public class SessionLifecycleAsyncEventQueueInstallerUnitTests {
+
+	@Mock
+	private AsyncEventQueue mockAsyncEventQueue;
+
+	@Mock
+	private AttributesMutator mockAttributesMutator;
+
+	@Mock
+	private Cache mockCache;
+
+	@Mock
+	private Region mockRegion;
+
+	@Mock
+	private RegionAttributes mockRegionAttributes;
+
+	@Mock
+	private SessionLifecycleEventSink mockSink;
+
+	private SessionLifecycleAsyncEventQueueInstaller installer;
+
+	@Before
+	public void setup() {
+
+		this.installer = new SessionLifecycleAsyncEventQueueInstaller(this.mockSink);
+	}
+
+	private void mockExpiration(ExpirationAttributes entryIdleTimeout, ExpirationAttributes entryTimeToLive) {
+
+		doReturn(this.mockRegionAttributes).when(this.mockRegion).getAttributes();
+		doReturn(entryIdleTimeout).when(this.mockRegionAttributes).getEntryIdleTimeout();
+		doReturn(entryTimeToLive).when(this.mockRegionAttributes).getEntryTimeToLive();
+	}
+
+	private AsyncEventQueueFactory mockAsyncEventQueueFactory() {
+
+		AsyncEventQueueFactory mockAsyncEventQueueFactory = mock(AsyncEventQueueFactory.class, RETURNS_SELF);
+
+		doReturn(mockAsyncEventQueueFactory).when(this.mockCache).createAsyncEventQueueFactory();
+		doReturn(this.mockAsyncEventQueue).when(mockAsyncEventQueueFactory)
+			.create(anyString(), isA(SessionLifecycleAsyncEventListener.class));
+
+		return mockAsyncEventQueueFactory;
+	}
+
+	@Test
+	public void constructWithNullSinkThrowsIllegalArgumentException() {
+
+		assertThatIllegalArgumentException()
+			.isThrownBy(() -> new SessionLifecycleAsyncEventQueueInstaller(null))
+			.withMessage("SessionLifecycleEventSink is required");
+	}
+
+	@Test
+	public void asyncEventQueueIdDefaultsWhenNotSet() {
+
+		assertThat(this.installer.getAsyncEventQueueId())
+			.isEqualTo(SessionLifecycleAsyncEventQueueInstaller.DEFAULT_ASYNC_EVENT_QUEUE_ID);
+		assertThat(this.installer.withAsyncEventQueueId("  ").getAsyncEventQueueId())
+			.isEqualTo(SessionLifecycleAsyncEventQueueInstaller.DEFAULT_ASYNC_EVENT_QUEUE_ID);
+		assertThat(this.installer.withAsyncEventQueueId("TestQueue").getAsyncEventQueueId())
+			.isEqualTo("TestQueue");
+	}
+
+	@Test
+	public void installCreatesAsyncEventQueueForwardingExpirationDestroysAndAttachesItToRegion() {
+
+		mockExpiration(new ExpirationAttributes(1800, ExpirationAction.DESTROY), new ExpirationAttributes());
+
+		AsyncEventQueueFactory mockAsyncEventQueueFactory = mockAsyncEventQueueFactory();
+
+		doReturn(Collections.emptySet()).when(this.mockRegionAttributes).getAsyncEventQueueIds();
+		doReturn(this.mockAttributesMutator).when(this.mockRegion).getAttributesMutator();
+
+		assertThat(this.installer.withBatchSize(500).withDiskStoreName("TestDiskStore").withPersistent(true)
+			.install(this.mockCache, this.mockRegion)).isSameAs(this.mockAsyncEventQueue);
+
+		verify(mockAsyncEventQueueFactory).setBatchConflationEnabled(eq(true));
+		verify(mockAsyncEventQueueFactory).setBatchSize(eq(500));
+		verify(mockAsyncEventQueueFactory).setBatchTimeInterval(eq(1000));
+		verify(mockAsyncEventQueueFactory).setForwardExpirationDestroy(eq(true));
+		verify(mockAsyncEventQueueFactory).setParallel(eq(true));
+		verify(mockAsyncEventQueueFactory).setPersistent(eq(true));
+		verify(mockAsyncEventQueueFactory).setDiskStoreName(eq("TestDiskStore"));
+		verify(mockAsyncEventQueueFactory)
+			.create(eq(SessionLifecycleAsyncEventQueueInstaller.DEFAULT_ASYNC_EVENT_QUEUE_ID),
+				isA(SessionLifecycleAsyncEventListener.class));
+		verify(this.mockAttributesMutator)
+			.addAsyncEventQueueId(eq(SessionLifecycleAsyncEventQueueInstaller.DEFAULT_ASYNC_EVENT_QUEUE_ID));
+	}
+
+	@Test
+	public void installReusesExistingAsyncEventQueueAlreadyAttachedToRegion() {
+
+		mockExpiration(new ExpirationAttributes(), new ExpirationAttributes(3600, ExpirationAction.DESTROY));
+
+		doReturn(this.mockAsyncEventQueue).when(this.mockCache).getAsyncEventQueue(eq("TestQueue"));
+		doReturn(Collections.singleton("TestQueue")).when(this.mockRegionAttributes).getAsyncEventQueueIds();
+
+		assertThat(this.installer.withAsyncEventQueueId("TestQueue").install(this.mockCache, this.mockRegion))
+			.isSameAs(this.mockAsyncEventQueue);
+
+		verify(this.mockCache, never()).createAsyncEventQueueFactory();
+		verify(this.mockRegion, never()).getAttributesMutator();
+	}
+
+	@Test
+	public void installWhenRegionInvalidatesIdleEntriesThrowsIllegalStateException() {
+
+		mockExpiration(new ExpirationAttributes(1800, ExpirationAction.INVALIDATE), new ExpirationAttributes());
+
+		doReturn("/ClusteredSpringSessions").when(this.mockRegion).getFullPath();
+
+		assertThatIllegalStateException()
+			.isThrownBy(() -> this.installer.install(this.mockCache, this.mockRegion))
+			.withMessage("The entry idle timeout of Region [/ClusteredSpringSessions] must use ExpirationAction"
+				+ " [DESTROY] instead of [INVALIDATE] for AsyncEventQueue [SessionLifecycleEventQueue]"
+				+ " to receive expired Sessions");
+
+		verifyNoInteractions(this.mockCache);
+	}
+
+	@Test
+	public void installWhenRegionInvalidatesEntriesOnTimeToLiveThrowsIllegalStateException() {
+
+		mockExpiration(new ExpirationAttributes(), new ExpirationAttributes(3600, ExpirationAction.INVALIDATE));
+
+		doReturn("/ClusteredSpringSessions").when(this.mockRegion).getFullPath();
+
+		assertThatIllegalStateException()
+			.isThrownBy(() -> this.installer.install(this.mockCache, this.mockRegion))
+			.withMessageStartingWith("The entry time-to-live of Region [/ClusteredSpringSessions]");
+
+		verifyNoInteractions(this.mockCache);
+	}
+
+	@Test
+	public void installWithNullArgumentsThrowsIllegalArgumentException() {
+
+		assertThatIllegalArgumentException()
+			.isThrownBy(() -> this.installer.install(null, this.mockRegion))
+			.withMessage("Cache is required");
+
+		assertThatIllegalArgumentException()
+			.isThrownBy(() -> this.installer.install(this.mockCache, null))
+			.withMessage("Region is required");
+
+		verify(this.mockCache, never()).createAsyncEventQueueFactory();
+		verify(this.mockRegion, never()).getAttributesMutator();
+	}
+}
@@ -196,4 +196,24 @@ public class FixedDurationExpirationSessionRepositoryUnitTests {
 		verify(this.mockSessionRepository, times(1)).findById(eq("1"));
 		verify(this.mockSessionRepository, never()).deleteById(anyString());
 	}
+
+	@Test
+	public void findByIdDoesNotDeleteExpiredSessionWhenExpirationIsEnforcedByDataGrid() {
+
+		Session mockSession = mock(Session.class);
+
+		when(mockSession.getCreationTime())
+			.thenReturn(Instant.ofEpochMilli(System.currentTimeMillis() - Duration.ofMinutes(31L).toMillis()));
+
+		when(this.mockSessionRepository.findById(anyString())).thenReturn(mockSession);
+
+		FixedDurationExpirationSessionRepository<Session> sessionRepository =
+			new FixedDurationExpirationSessionRepository<>(this.mockSessionRepository, Duration.ofMinutes(30L), true);
+
+		assertThat(sessionRepository.isExpirationEnforcedByDataGrid()).isTrue();
+		assertThat(sessionRepository.findById("1")).isNull();
+
+		verify(this.mockSessionRepository, times(1)).findById(eq("1"));
+		verify(this.mockSessionRepository, never()).deleteById(anyString());
+	}
 }
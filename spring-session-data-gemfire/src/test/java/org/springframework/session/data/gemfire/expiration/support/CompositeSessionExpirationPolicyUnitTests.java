@@ -0,0 +1,178 @@
+/*
+ * Copyright 2024 Broadcom. All rights reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.springframework.session.data.gemfire.expiration.support;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.Optional;
+
+import org.junit.Test;
+
+import org.springframework.session.Session;
+import org.springframework.session.data.gemfire.expiration.SessionExpirationPolicy;
+
+/**
+ * Unit tests for {@link CompositeSessionExpirationPolicy}.
+ *
+ * @author John Blum
+ * @see org.junit.Test
+ * @see org.mockito.Mockito
+ * @see org.springframework.session.data.gemfire.expiration.support.CompositeSessionExpirationPolicy
+ * @since 1.0.0
+ */
+public class CompositeSessionExpirationPolicyUnitTests {
+
+	private static SessionExpirationPolicy mockSessionExpirationPolicy(Duration expirationTimeout) {
+
+		SessionExpirationPolicy mockSessionExpirationPolicy = mock(SessionExpirationPolicy.class);
+
+		when(mockSessionExpirationPolicy.determineExpirationTimeout(any(Session.class)))
+			.thenReturn(Optional.ofNullable(expirationTimeout));
+
+		return mockSessionExpirationPolicy;
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void constructWithNullSessionExpirationPolicyElement() {
+
+		try {
+			new CompositeSessionExpirationPolicy(Arrays.asList(mock(SessionExpirationPolicy.class), null));
+		}
+		catch (IllegalArgumentException expected) {
+
+			assertThat(expected).hasMessage("SessionExpirationPolicy must not be null");
+			assertThat(expected).hasNoCause();
+
+			throw expected;
+		}
+	}
+
+	@Test
+	public void determinesMinimumExpirationTimeout() {
+
+		Session mockSession = mock(Session.class);
+
+		CompositeSessionExpirationPolicy sessionExpirationPolicy = CompositeSessionExpirationPolicy.compose(
+			mockSessionExpirationPolicy(Duration.ofMinutes(30L)),
+			mockSessionExpirationPolicy(null),
+			mockSessionExpirationPolicy(Duration.ofMinutes(5L)),
+			mockSessionExpirationPolicy(Duration.ofHours(8L)));
+
+		assertThat(sessionExpirationPolicy.determineExpirationTimeout(mockSession).orElse(null))
+			.isEqualTo(Duration.ofMinutes(5L));
+	}
+
+	@Test
+	public void determinesNoExpirationTimeoutWhenNoPolicyDoes() {
+
+		CompositeSessionExpirationPolicy sessionExpirationPolicy = CompositeSessionExpirationPolicy.compose(
+			mockSessionExpirationPolicy(null), mockSessionExpirationPolicy(null));
+
+		assertThat(sessionExpirationPolicy.determineExpirationTimeout(mock(Session.class))).isNotPresent();
+	}
+
+	@Test
+	public void stopsEvaluatingOnceSessionHasExpired() {
+
+		SessionExpirationPolicy mockSessionExpirationPolicy = mock(SessionExpirationPolicy.class);
+
+		CompositeSessionExpirationPolicy sessionExpirationPolicy = CompositeSessionExpirationPolicy.compose(
+			mockSessionExpirationPolicy(Duration.ofSeconds(-1L)), mockSessionExpirationPolicy);
+
+		assertThat(sessionExpirationPolicy.determineExpirationTimeout(mock(Session.class)).orElse(null))
+			.isEqualTo(Duration.ofSeconds(-1L));
+
+		verifyNoInteractions(mockSessionExpirationPolicy);
+	}
+
+	@Test
+	public void composesIdleMaxLifetimeAndAnonymousPolicies() {
+
+		Instant now = Instant.now();
+
+		Session mockSession = mock(Session.class);
+
+		when(mockSession.getCreationTime()).thenReturn(now.minus(Duration.ofMinutes(50L)));
+		when(mockSession.getLastAccessedTime()).thenReturn(now);
+
+		CompositeSessionExpirationPolicy sessionExpirationPolicy = CompositeSessionExpirationPolicy.compose(
+			new IdleTimeoutSessionExpirationPolicy(Duration.ofMinutes(30L)),
+			new MaxLifetimeSessionExpirationPolicy(Duration.ofHours(1L)),
+			ConditionalSessionExpirationPolicy.anonymous(Duration.ofMinutes(2L)));
+
+		assertThat(sessionExpirationPolicy.determineExpirationTimeout(mockSession).orElse(null))
+			.isBetween(Duration.ofSeconds(115L), Duration.ofMinutes(2L));
+
+		when(mockSession.getAttribute(any())).thenReturn("jonDoe");
+
+		assertThat(sessionExpirationPolicy.determineExpirationTimeout(mockSession).orElse(null))
+			.isBetween(Duration.ofSeconds(595L), Duration.ofMinutes(10L));
+	}
+
+	@Test
+	public void setExpirationActionDefaultsToInvalidate() {
+
+		CompositeSessionExpirationPolicy sessionExpirationPolicy = CompositeSessionExpirationPolicy.compose();
+
+		assertThat(sessionExpirationPolicy.getExpirationAction())
+			.isEqualTo(SessionExpirationPolicy.ExpirationAction.INVALIDATE);
+
+		sessionExpirationPolicy.setExpirationAction(SessionExpirationPolicy.ExpirationAction.DESTROY);
+
+		assertThat(sessionExpirationPolicy.getExpirationAction())
+			.isEqualTo(SessionExpirationPolicy.ExpirationAction.DESTROY);
+
+		sessionExpirationPolicy.setExpirationAction(null);
+
+		assertThat(sessionExpirationPolicy.getExpirationAction())
+			.isEqualTo(SessionExpirationPolicy.ExpirationAction.INVALIDATE);
+	}
+
+	@Test
+	public void setExpirationTimeoutConfiguresTimeoutAwarePolicies() {
+
+		IdleTimeoutSessionExpirationPolicy idleTimeoutSessionExpirationPolicy =
+			new IdleTimeoutSessionExpirationPolicy();
+
+		CompositeSessionExpirationPolicy sessionExpirationPolicy = CompositeSessionExpirationPolicy.compose(
+			idleTimeoutSessionExpirationPolicy, new MaxLifetimeSessionExpirationPolicy(Duration.ofHours(1L)));
+
+		sessionExpirationPolicy.setExpirationTimeout(Duration.ofMinutes(15L));
+
+		assertThat(idleTimeoutSessionExpirationPolicy.getIdleTimeout().orElse(null))
+			.isEqualTo(Duration.ofMinutes(15L));
+	}
+
+	@Test
+	public void setClockConfiguresClockAwarePolicies() {
+
+		Clock clock = Clock.fixed(Instant.parse("2024-01-01T00:00:00Z"), ZoneOffset.UTC);
+
+		IdleTimeoutSessionExpirationPolicy idleTimeoutSessionExpirationPolicy =
+			new IdleTimeoutSessionExpirationPolicy();
+
+		MaxLifetimeSessionExpirationPolicy maxLifetimeSessionExpirationPolicy =
+			new MaxLifetimeSessionExpirationPolicy(Duration.ofHours(1L));
+
+		CompositeSessionExpirationPolicy sessionExpirationPolicy = CompositeSessionExpirationPolicy.compose(
+			idleTimeoutSessionExpirationPolicy, maxLifetimeSessionExpirationPolicy,
+			mock(SessionExpirationPolicy.class));
+
+		sessionExpirationPolicy.setClock(clock);
+
+		assertThat(idleTimeoutSessionExpirationPolicy.getClock()).isSameAs(clock);
+		assertThat(maxLifetimeSessionExpirationPolicy.getClock()).isSameAs(clock);
+	}
+}
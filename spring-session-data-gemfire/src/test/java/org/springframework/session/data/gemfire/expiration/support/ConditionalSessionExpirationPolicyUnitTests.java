@@ -0,0 +1,135 @@
+/*
+ * Copyright 2024 Broadcom. All rights reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.springframework.session.data.gemfire.expiration.support;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collections;
+import java.util.Optional;
+
+import org.junit.Test;
+
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextImpl;
+import org.springframework.session.FindByIndexNameSessionRepository;
+import org.springframework.session.Session;
+import org.springframework.session.data.gemfire.expiration.SessionExpirationPolicy;
+
+/**
+ * Unit tests for {@link ConditionalSessionExpirationPolicy}.
+ *
+ * @author John Blum
+ * @see org.junit.Test
+ * @see org.mockito.Mockito
+ * @see org.springframework.session.data.gemfire.expiration.support.ConditionalSessionExpirationPolicy
+ * @since 1.0.0
+ */
+public class ConditionalSessionExpirationPolicyUnitTests {
+
+	@Test
+	public void determinesExpirationTimeoutOnlyWhenConditionMatches() {
+
+		Session mockSession = mock(Session.class);
+
+		SessionExpirationPolicy mockSessionExpirationPolicy = mock(SessionExpirationPolicy.class);
+
+		when(mockSessionExpirationPolicy.determineExpirationTimeout(mockSession))
+			.thenReturn(Optional.of(Duration.ofMinutes(1L)));
+
+		assertThat(new ConditionalSessionExpirationPolicy(session -> true, mockSessionExpirationPolicy)
+			.determineExpirationTimeout(mockSession).orElse(null)).isEqualTo(Duration.ofMinutes(1L));
+
+		SessionExpirationPolicy mockUnusedSessionExpirationPolicy = mock(SessionExpirationPolicy.class);
+
+		assertThat(new ConditionalSessionExpirationPolicy(session -> false, mockUnusedSessionExpirationPolicy)
+			.determineExpirationTimeout(mockSession)).isNotPresent();
+
+		verifyNoInteractions(mockUnusedSessionExpirationPolicy);
+	}
+
+	@Test
+	public void anonymousExpiresIdleAnonymousSessions() {
+
+		Session mockSession = mock(Session.class);
+
+		when(mockSession.getLastAccessedTime()).thenReturn(Instant.now().minus(Duration.ofMinutes(1L)));
+
+		assertThat(ConditionalSessionExpirationPolicy.anonymous(Duration.ofMinutes(5L))
+			.determineExpirationTimeout(mockSession).orElse(null))
+			.isBetween(Duration.ofSeconds(235L), Duration.ofMinutes(4L));
+	}
+
+	@Test
+	public void isAnonymousMatchesSessionsWithoutAuthenticatedPrincipal() {
+
+		Session anonymousSession = mock(Session.class);
+
+		Session anonymousTokenSession = mock(Session.class);
+
+		when(anonymousTokenSession.getAttribute(ConditionalSessionExpirationPolicy.SPRING_SECURITY_CONTEXT))
+			.thenReturn(new SecurityContextImpl(new AnonymousAuthenticationToken("key", "anonymousUser",
+				Collections.singletonList(new SimpleGrantedAuthority("ROLE_ANONYMOUS")))));
+
+		Session principalSession = mock(Session.class);
+
+		when(principalSession.getAttribute(FindByIndexNameSessionRepository.PRINCIPAL_NAME_INDEX_NAME))
+			.thenReturn("jonDoe");
+
+		Session authenticatedSession = mock(Session.class);
+
+		when(authenticatedSession.getAttribute(ConditionalSessionExpirationPolicy.SPRING_SECURITY_CONTEXT))
+			.thenReturn(new SecurityContextImpl(new UsernamePasswordAuthenticationToken("janeDoe", "secret",
+				Collections.emptyList())));
+
+		assertThat(ConditionalSessionExpirationPolicy.isAnonymous().test(anonymousSession)).isTrue();
+		assertThat(ConditionalSessionExpirationPolicy.isAnonymous().test(anonymousTokenSession)).isTrue();
+		assertThat(ConditionalSessionExpirationPolicy.isAnonymous().test(principalSession)).isFalse();
+		assertThat(ConditionalSessionExpirationPolicy.isAnonymous().test(authenticatedSession)).isFalse();
+	}
+
+	@Test
+	public void hasAuthorityMatchesGrantedAuthority() {
+
+		Session mockSession = mock(Session.class);
+
+		when(mockSession.getAttribute(ConditionalSessionExpirationPolicy.SPRING_SECURITY_CONTEXT))
+			.thenReturn(new SecurityContextImpl(new UsernamePasswordAuthenticationToken("jonDoe", "secret",
+				Collections.singletonList(new SimpleGrantedAuthority("ROLE_ADMIN")))));
+
+		assertThat(ConditionalSessionExpirationPolicy.hasAuthority("ROLE_ADMIN").test(mockSession)).isTrue();
+		assertThat(ConditionalSessionExpirationPolicy.hasAuthority("ROLE_USER").test(mockSession)).isFalse();
+		assertThat(ConditionalSessionExpirationPolicy.hasAuthority("ROLE_ADMIN").test(mock(Session.class))).isFalse();
+	}
+
+	@Test
+	public void hasAttributeMatchesAttributeValue() {
+
+		Session mockSession = mock(Session.class);
+
+		when(mockSession.getAttribute("channel")).thenReturn("api");
+
+		assertThat(ConditionalSessionExpirationPolicy.hasAttribute("channel", "api").test(mockSession)).isTrue();
+		assertThat(ConditionalSessionExpirationPolicy.hasAttribute("channel", "web").test(mockSession)).isFalse();
+	}
+
+	@Test
+	public void getExpirationActionIsDelegated() {
+
+		SessionExpirationPolicy mockSessionExpirationPolicy = mock(SessionExpirationPolicy.class);
+
+		when(mockSessionExpirationPolicy.getExpirationAction())
+			.thenReturn(SessionExpirationPolicy.ExpirationAction.DESTROY);
+
+		assertThat(new ConditionalSessionExpirationPolicy(session -> true, mockSessionExpirationPolicy)
+			.getExpirationAction()).isEqualTo(SessionExpirationPolicy.ExpirationAction.DESTROY);
+	}
+}
@@ -0,0 +1,107 @@
+/*
+ * Copyright 2024 Broadcom. All rights reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.springframework.session.data.gemfire.expiration.support;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Properties;
+
+import org.junit.Test;
+
+import org.apache.geode.cache.ExpirationAction;
+import org.apache.geode.cache.ExpirationAttributes;
+import org.apache.geode.cache.Region;
+
+import org.springframework.session.Session;
+
+/**
+ * Unit tests for {@link DeclarableSessionCustomExpiry}.
+ *
+ * @author John Blum
+ * @see org.junit.Test
+ * @see org.mockito.Mockito
+ * @see org.springframework.session.data.gemfire.expiration.support.DeclarableSessionCustomExpiry
+ * @since 1.0.0
+ */
+@SuppressWarnings("unchecked")
+public class DeclarableSessionCustomExpiryUnitTests {
+
+	private Properties parameters(String name, String value) {
+
+		Properties parameters = new Properties();
+
+		parameters.setProperty(name, value);
+
+		return parameters;
+	}
+
+	@Test
+	public void initializeWithMaxLifetimeExpiresSessionsFromCreationTime() {
+
+		DeclarableSessionCustomExpiry customExpiry = new DeclarableSessionCustomExpiry();
+
+		customExpiry.initialize(null, parameters(DeclarableSessionCustomExpiry.MAX_LIFETIME_SECONDS, " 3600 "));
+
+		Session mockSession = mock(Session.class);
+		Region.Entry<String, Object> mockRegionEntry = mock(Region.Entry.class);
+
+		doReturn(Instant.now().minus(Duration.ofMinutes(20L))).when(mockSession).getCreationTime();
+		doReturn(mockSession).when(mockRegionEntry).getValue();
+
+		ExpirationAttributes expirationAttributes = customExpiry.getExpiry(mockRegionEntry);
+
+		assertThat(customExpiry.getMaxLifetimeSeconds()).isEqualTo(3600L);
+		assertThat(customExpiry.getSessionExpirationPolicy()).isInstanceOf(MaxLifetimeSessionExpirationPolicy.class);
+		assertThat(expirationAttributes).isNotNull();
+		assertThat(expirationAttributes.getTimeout()).isBetween(2399, 2400);
+		assertThat(expirationAttributes.getAction()).isEqualTo(ExpirationAction.INVALIDATE);
+	}
+
+	@Test
+	public void initializeWithSessionExpirationPolicyClassName() {
+
+		DeclarableSessionCustomExpiry customExpiry = new DeclarableSessionCustomExpiry();
+
+		customExpiry.initialize(null, parameters(DeclarableSessionCustomExpiry.SESSION_EXPIRATION_POLICY,
+			IdleTimeoutSessionExpirationPolicy.class.getName()));
+
+		assertThat(customExpiry.getMaxLifetimeSeconds()).isZero();
+		assertThat(customExpiry.getSessionExpirationPolicy()).isInstanceOf(IdleTimeoutSessionExpirationPolicy.class);
+	}
+
+	@Test
+	public void initializeWithInvalidParametersThrowsIllegalArgumentException() {
+
+		DeclarableSessionCustomExpiry customExpiry = new DeclarableSessionCustomExpiry();
+
+		Properties parameters = parameters(DeclarableSessionCustomExpiry.MAX_LIFETIME_SECONDS, "3600");
+
+		parameters.setProperty(DeclarableSessionCustomExpiry.SESSION_EXPIRATION_POLICY,
+			IdleTimeoutSessionExpirationPolicy.class.getName());
+
+		assertThatIllegalArgumentException()
+			.isThrownBy(() -> customExpiry.initialize(null, parameters))
+			.withMessage("Exactly one of [maxLifetimeSeconds] or [sessionExpirationPolicy] is required");
+
+		assertThatIllegalArgumentException()
+			.isThrownBy(() -> customExpiry.initialize(null, new Properties()))
+			.withMessage("Exactly one of [maxLifetimeSeconds] or [sessionExpirationPolicy] is required");
+
+		assertThatIllegalArgumentException()
+			.isThrownBy(() -> customExpiry.initialize(null, parameters(
+				DeclarableSessionCustomExpiry.SESSION_EXPIRATION_POLICY, String.class.getName())))
+			.withMessage("[java.lang.String] is not a SessionExpirationPolicy");
+	}
+
+	@Test
+	public void getExpiryBeforeInitializeReturnsNull() {
+		assertThat(new DeclarableSessionCustomExpiry().getExpiry(mock(Region.Entry.class))).isNull();
+	}
+}
@@ -0,0 +1,323 @@
+/*
+ * Copyright 2024 Broadcom. All rights reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.springframework.session.data.gemfire.expiration.support;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import org.apache.geode.cache.Cache;
+import org.apache.geode.cache.CacheTransactionManager;
+import org.apache.geode.cache.CommitConflictException;
+import org.apache.geode.cache.EntryEvent;
+import org.apache.geode.cache.Region;
+import org.apache.geode.cache.execute.FunctionContext;
+import org.apache.geode.cache.execute.FunctionException;
+import org.apache.geode.cache.execute.RegionFunctionContext;
+import org.apache.geode.cache.execute.ResultSender;
+import org.apache.geode.cache.query.Query;
+import org.apache.geode.cache.query.QueryService;
+import org.apache.geode.cache.query.SelectResults;
+import org.apache.geode.cache.query.TypeMismatchException;
+import org.apache.geode.pdx.PdxInstance;
+
+import org.springframework.session.data.gemfire.AbstractGemFireOperationsSessionRepository.GemFireSession;
+
+/**
+ * Unit tests for {@link ExpiredSessionSweeperFunction}.
+ *
+ * @author John Blum
+ * @see org.junit.Test
+ * @see org.mockito.Mockito
+ * @see org.springframework.session.data.gemfire.expiration.support.ExpiredSessionSweeperFunction
+ * @since 1.0.0
+ */
+@RunWith(MockitoJUnitRunner.class)
+@SuppressWarnings({ "rawtypes", "unchecked" })
+public class ExpiredSessionSweeperFunctionUnitTests {
+
+	private static final String EXPECTED_QUERY =
+		String.format(ExpiredSessionSweeperFunction.FIND_EXPIRED_SESSION_IDS_QUERY, "/Sessions");
+
+	private static final long NOW = Instant.parse("2024-01-01T12:00:00Z").toEpochMilli();
+
+	@Mock
+	private Cache mockCache;
+
+	@Mock
+	private CacheTransactionManager mockTransactionManager;
+
+	@Mock
+	private Query mockQuery;
+
+	@Mock
+	private QueryService mockQueryService;
+
+	@Mock
+	private Region<Object, Object> mockRegion;
+
+	@Mock
+	private RegionFunctionContext mockFunctionContext;
+
+	@Mock
+	private ResultSender mockResultSender;
+
+	private final ExpiredSessionSweeperFunction function = new ExpiredSessionSweeperFunction();
+
+	@Before
+	public void setup() {
+		this.function.setClock(Clock.fixed(Instant.ofEpochMilli(NOW), ZoneOffset.UTC));
+	}
+
+	private void mockSessions(Object... sessionIdsAndSessions) {
+
+		doReturn(this.mockCache).when(this.mockRegion).getRegionService();
+		doReturn(this.mockTransactionManager).when(this.mockCache).getCacheTransactionManager();
+
+		for (int index = 0; index < sessionIdsAndSessions.length; index += 2) {
+			doReturn(sessionIdsAndSessions[index + 1]).when(this.mockRegion).get(eq(sessionIdsAndSessions[index]));
+		}
+	}
+
+	private PdxInstance mockSession(long expirationTime) {
+
+		PdxInstance mockPdxInstance = mock(PdxInstance.class);
+
+		doReturn(true).when(mockPdxInstance).hasField(eq("expirationTime"));
+		doReturn(expirationTime).when(mockPdxInstance).readField(eq("expirationTime"));
+
+		return mockPdxInstance;
+	}
+
+	private void verifyDestroyed(Object... sessionIds) {
+
+		for (Object sessionId : sessionIds) {
+			verify(this.mockRegion)
+				.destroy(eq(sessionId), eq(ExpiredSessionSweeperFunction.SESSION_EXPIRED_CALLBACK_ARGUMENT));
+		}
+	}
+
+	private void mockQuery(List<Object> expiredSessionIds) throws Exception {
+
+		SelectResults mockSelectResults = mock(SelectResults.class);
+
+		doReturn(this.mockCache).when(this.mockFunctionContext).getCache();
+		doReturn(this.mockQueryService).when(this.mockCache).getQueryService();
+		doReturn(this.mockQuery).when(this.mockQueryService).newQuery(eq(EXPECTED_QUERY));
+		doReturn(mockSelectResults).when(this.mockQuery).execute(any(Object[].class));
+		doReturn(expiredSessionIds.iterator()).when(mockSelectResults).iterator();
+	}
+
+	private void execute() {
+
+		doReturn(this.mockRegion).when(this.mockFunctionContext).getDataSet();
+		doReturn("/Sessions").when(this.mockRegion).getFullPath();
+		doReturn(this.mockResultSender).when(this.mockFunctionContext).getResultSender();
+		doReturn("TestServer").when(this.mockFunctionContext).getMemberName();
+
+		this.function.execute(this.mockFunctionContext);
+	}
+
+	private ExpiredSessionSweepResult captureResult() {
+
+		ArgumentCaptor<ExpiredSessionSweepResult> resultCaptor =
+			ArgumentCaptor.forClass(ExpiredSessionSweepResult.class);
+
+		verify(this.mockResultSender).lastResult(resultCaptor.capture());
+
+		return resultCaptor.getValue();
+	}
+
+	@Test
+	public void functionIsIdentifiedOptimizedForWriteAndReturnsResults() {
+
+		assertThat(this.function.getId()).isEqualTo(ExpiredSessionSweeperFunction.ID);
+		assertThat(this.function.hasResult()).isTrue();
+		assertThat(this.function.isHA()).isTrue();
+		assertThat(this.function.optimizeForWrite()).isTrue();
+	}
+
+	@Test
+	public void executeRemovesExpiredSessionsAndReportsCounts() throws Exception {
+
+		mockQuery(Arrays.asList("1", "3", "5"));
+		mockSessions("1", mockSession(NOW - 1L), "3", mockSession(NOW - 1000L), "5", mockSession(NOW - 60000L));
+
+		execute();
+
+		verifyDestroyed("1", "3", "5");
+		verify(this.mockTransactionManager, times(3)).begin();
+		verify(this.mockTransactionManager, times(3)).commit();
+		verify(this.mockRegion, never()).entrySet();
+
+		ExpiredSessionSweepResult result = captureResult();
+
+		assertThat(result).isNotNull();
+		assertThat(result.getMemberName()).isEqualTo("TestServer");
+		assertThat(result.getScannedCount()).isEqualTo(3L);
+		assertThat(result.getExpiredCount()).isEqualTo(3L);
+		assertThat(result.getDurationMillis()).isNotNegative();
+	}
+
+	@Test
+	public void executeRemovesExpiredSessionsInBatches() throws Exception {
+
+		mockQuery(Arrays.asList("1", "2", "3"));
+		mockSessions("1", mockSession(NOW - 1L), "2", mockSession(NOW - 1L), "3", mockSession(NOW - 1L));
+
+		doReturn(new Object[] { 2, 0L }).when(this.mockFunctionContext).getArguments();
+
+		execute();
+
+		verifyDestroyed("1", "2", "3");
+
+		assertThat(captureResult().getExpiredCount()).isEqualTo(3L);
+	}
+
+	@Test
+	public void executeKeepsSessionsAccessedOrRemovedAfterQuery() throws Exception {
+
+		GemFireSession mockGemFireSession = mock(GemFireSession.class);
+
+		doReturn(NOW - 1L).when(mockGemFireSession).getExpirationTime();
+
+		mockQuery(Arrays.asList("1", "2", "3"));
+		mockSessions("1", mockGemFireSession, "2", mockSession(NOW + 1000L), "3", null);
+
+		doReturn(false, true, true).when(this.mockTransactionManager).exists();
+
+		execute();
+
+		verifyDestroyed("1");
+		verify(this.mockRegion, never()).destroy(eq("2"), any());
+		verify(this.mockRegion, never()).destroy(eq("3"), any());
+		verify(this.mockTransactionManager, times(1)).commit();
+		verify(this.mockTransactionManager, times(2)).rollback();
+
+		ExpiredSessionSweepResult result = captureResult();
+
+		assertThat(result.getScannedCount()).isEqualTo(3L);
+		assertThat(result.getExpiredCount()).isOne();
+	}
+
+	@Test
+	public void executeKeepsSessionUpdatedBeforeCommit() throws Exception {
+
+		mockQuery(Collections.singletonList("1"));
+		mockSessions("1", mockSession(NOW - 1L));
+
+		doThrow(new CommitConflictException("TEST")).when(this.mockTransactionManager).commit();
+
+		execute();
+
+		verifyDestroyed("1");
+
+		assertThat(captureResult().getExpiredCount()).isZero();
+	}
+
+	@Test
+	public void executeWithNoExpiredSessionsRemovesNothing() throws Exception {
+
+		mockQuery(Collections.emptyList());
+
+		execute();
+
+		verify(this.mockRegion, never()).destroy(any(), any());
+
+		ExpiredSessionSweepResult result = captureResult();
+
+		assertThat(result.getScannedCount()).isZero();
+		assertThat(result.getExpiredCount()).isZero();
+	}
+
+	@Test
+	public void executeSweepsRegionOncePerSweepInterval() throws Exception {
+
+		mockQuery(Collections.emptyList());
+
+		doReturn(new Object[] { 100, Long.MAX_VALUE }).when(this.mockFunctionContext).getArguments();
+
+		execute();
+		execute();
+
+		verify(this.mockQueryService, times(1)).newQuery(eq(EXPECTED_QUERY));
+		verify(this.mockResultSender, times(2)).lastResult(any(ExpiredSessionSweepResult.class));
+	}
+
+	@Test
+	public void claimSweepIsPerRegionAndSweepInterval() {
+
+		Region mockOtherRegion = mock(Region.class);
+
+		doReturn("/Sessions").when(this.mockRegion).getFullPath();
+		doReturn("/OtherSessions").when(mockOtherRegion).getFullPath();
+
+		assertThat(this.function.claimSweep(this.mockRegion, 1000L, 5000L)).isTrue();
+		assertThat(this.function.claimSweep(this.mockRegion, 1000L, 5999L)).isFalse();
+		assertThat(this.function.claimSweep(mockOtherRegion, 1000L, 5999L)).isTrue();
+		assertThat(this.function.claimSweep(this.mockRegion, 1000L, 6000L)).isTrue();
+		assertThat(this.function.claimSweep(this.mockRegion, 0L, 6000L)).isTrue();
+	}
+
+	@Test
+	public void executeWithFailingQueryThrowsFunctionException() throws Exception {
+
+		doReturn(this.mockCache).when(this.mockFunctionContext).getCache();
+		doReturn(this.mockQueryService).when(this.mockCache).getQueryService();
+		doReturn(this.mockQuery).when(this.mockQueryService).newQuery(eq(EXPECTED_QUERY));
+		doThrow(new TypeMismatchException("TEST")).when(this.mockQuery).execute(any(Object[].class));
+
+		assertThatExceptionOfType(FunctionException.class)
+			.isThrownBy(this::execute)
+			.withMessage("Failed to find the expired Sessions in Region [/Sessions]")
+			.withCauseInstanceOf(TypeMismatchException.class);
+
+		verify(this.mockRegion, never()).destroy(any(), any());
+	}
+
+	@Test
+	public void executeWithNonRegionFunctionContextThrowsFunctionException() {
+
+		FunctionContext mockFunctionContext = mock(FunctionContext.class);
+
+		assertThatExceptionOfType(FunctionException.class)
+			.isThrownBy(() -> this.function.execute(mockFunctionContext))
+			.withMessageContaining(ExpiredSessionSweeperFunction.ID);
+	}
+
+	@Test
+	public void isSessionExpiredEvaluatesCallbackArgument() {
+
+		EntryEvent mockEntryEvent = mock(EntryEvent.class);
+
+		doReturn(ExpiredSessionSweeperFunction.SESSION_EXPIRED_CALLBACK_ARGUMENT)
+			.when(mockEntryEvent).getCallbackArgument();
+
+		assertThat(ExpiredSessionSweeperFunction.isSessionExpired(mockEntryEvent)).isTrue();
+		assertThat(ExpiredSessionSweeperFunction.isSessionExpired((EntryEvent) null)).isFalse();
+		assertThat(ExpiredSessionSweeperFunction.isSessionExpired("TEST")).isFalse();
+	}
+}
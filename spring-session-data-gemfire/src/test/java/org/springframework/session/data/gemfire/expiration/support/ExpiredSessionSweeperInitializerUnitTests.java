@@ -0,0 +1,50 @@
+/*
+ * Copyright 2024 Broadcom. All rights reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.springframework.session.data.gemfire.expiration.support;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Properties;
+
+import org.junit.After;
+import org.junit.Test;
+
+import org.apache.geode.cache.execute.FunctionService;
+
+/**
+ * Unit tests for {@link ExpiredSessionSweeperInitializer}.
+ *
+ * @author John Blum
+ * @see org.junit.Test
+ * @see org.apache.geode.cache.execute.FunctionService
+ * @see org.springframework.session.data.gemfire.expiration.support.ExpiredSessionSweeperInitializer
+ * @since 1.0.0
+ */
+public class ExpiredSessionSweeperInitializerUnitTests {
+
+	@After
+	public void tearDown() {
+		FunctionService.unregisterFunction(ExpiredSessionSweeperFunction.ID);
+	}
+
+	@Test
+	public void initializeRegistersExpiredSessionSweeperFunction() {
+
+		new ExpiredSessionSweeperInitializer().initialize(null, new Properties());
+
+		assertThat(FunctionService.isRegistered(ExpiredSessionSweeperFunction.ID)).isTrue();
+		assertThat(FunctionService.getFunction(ExpiredSessionSweeperFunction.ID))
+			.isInstanceOf(ExpiredSessionSweeperFunction.class);
+	}
+
+	@Test
+	public void registerDoesNotReplaceRegisteredFunction() {
+
+		ExpiredSessionSweeperInitializer initializer = new ExpiredSessionSweeperInitializer();
+
+		assertThat(initializer.register()).isTrue();
+		assertThat(initializer.register()).isFalse();
+	}
+}
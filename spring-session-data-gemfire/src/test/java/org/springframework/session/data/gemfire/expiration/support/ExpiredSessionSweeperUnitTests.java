@@ -0,0 +1,150 @@
+/*
+ * Copyright 2024 Broadcom. All rights reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.springframework.session.data.gemfire.expiration.support;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import org.apache.geode.cache.Region;
+import org.apache.geode.cache.execute.Execution;
+import org.apache.geode.cache.execute.ResultCollector;
+
+/**
+ * Unit tests for {@link ExpiredSessionSweeper}.
+ *
+ * @author John Blum
+ * @see org.junit.Test
+ * @see org.mockito.Mockito
+ * @see org.springframework.session.data.gemfire.expiration.support.ExpiredSessionSweeper
+ * @since 1.0.0
+ */
+@RunWith(MockitoJUnitRunner.class)
+@SuppressWarnings("rawtypes")
+public class ExpiredSessionSweeperUnitTests {
+
+	@Mock
+	private Execution mockExecution;
+
+	@Mock
+	private Region<Object, Object> mockRegion;
+
+	@Mock
+	private ResultCollector mockResultCollector;
+
+	@Mock
+	private ScheduledExecutorService mockSweepScheduler;
+
+	private ExpiredSessionSweeper sweeper;
+
+	@Before
+	public void setup() {
+
+		Execution execution = this.mockExecution;
+		ScheduledExecutorService sweepScheduler = this.mockSweepScheduler;
+
+		this.sweeper = new ExpiredSessionSweeper(this.mockRegion, Duration.ofSeconds(30), 500) {
+
+			@Override
+			protected Execution newExecution() {
+				return execution;
+			}
+
+			@Override
+			protected ScheduledExecutorService newSweepScheduler() {
+				return sweepScheduler;
+			}
+		};
+	}
+
+	@Test
+	public void constructExpiredSessionSweeper() {
+
+		ExpiredSessionSweeper sweeper = new ExpiredSessionSweeper(this.mockRegion);
+
+		assertThat(sweeper.getSessionsRegion()).isSameAs(this.mockRegion);
+		assertThat(sweeper.getSweepInterval()).isEqualTo(ExpiredSessionSweeper.DEFAULT_SWEEP_INTERVAL);
+		assertThat(sweeper.getBatchSize()).isEqualTo(ExpiredSessionSweeperFunction.DEFAULT_BATCH_SIZE);
+		assertThat(sweeper.isStarted()).isFalse();
+	}
+
+	@Test
+	public void constructExpiredSessionSweeperWithNullRegionThrowsIllegalArgumentException() {
+
+		assertThatIllegalArgumentException()
+			.isThrownBy(() -> new ExpiredSessionSweeper(null))
+			.withMessage("Region is required");
+	}
+
+	@Test
+	public void constructExpiredSessionSweeperWithInvalidSweepIntervalThrowsIllegalArgumentException() {
+
+		assertThatIllegalArgumentException()
+			.isThrownBy(() -> new ExpiredSessionSweeper(this.mockRegion, Duration.ZERO, 100))
+			.withMessage("Sweep interval [PT0S] must be positive");
+	}
+
+	@Test
+	public void constructExpiredSessionSweeperWithInvalidBatchSizeThrowsIllegalArgumentException() {
+
+		assertThatIllegalArgumentException()
+			.isThrownBy(() -> new ExpiredSessionSweeper(this.mockRegion, Duration.ofSeconds(30), 0))
+			.withMessage("Batch size [0] must be greater than 0");
+	}
+
+	@Test
+	public void sweepExecutesFunctionAndCollectsResults() {
+
+		ExpiredSessionSweepResult resultOne = new ExpiredSessionSweepResult("ServerOne", 100L, 10L, 20L);
+		ExpiredSessionSweepResult resultTwo = new ExpiredSessionSweepResult("ServerTwo", 50L, 5L, 30L);
+
+		doReturn(this.mockResultCollector).when(this.mockExecution).execute(eq(ExpiredSessionSweeperFunction.ID));
+		doReturn(Arrays.asList(resultOne, new RuntimeException("TEST"), resultTwo))
+			.when(this.mockResultCollector).getResult();
+
+		List<ExpiredSessionSweepResult> results = this.sweeper.sweep();
+
+		assertThat(results).containsExactly(resultOne, resultTwo);
+
+		ExpiredSessionSweepResult aggregateResult = ExpiredSessionSweepResult.aggregate(results);
+
+		assertThat(aggregateResult.getScannedCount()).isEqualTo(150L);
+		assertThat(aggregateResult.getExpiredCount()).isEqualTo(15L);
+		assertThat(aggregateResult.getDurationMillis()).isEqualTo(30L);
+
+		verify(this.mockExecution).execute(eq(ExpiredSessionSweeperFunction.ID));
+	}
+
+	@Test
+	public void startSchedulesSweepOnlyOnce() {
+
+		assertThat(this.sweeper.start()).isSameAs(this.sweeper);
+		assertThat(this.sweeper.start()).isSameAs(this.sweeper);
+		assertThat(this.sweeper.isStarted()).isTrue();
+
+		verify(this.mockSweepScheduler, times(1))
+			.scheduleWithFixedDelay(any(Runnable.class), eq(30000L), eq(30000L), eq(TimeUnit.MILLISECONDS));
+
+		this.sweeper.close();
+
+		verify(this.mockSweepScheduler).shutdownNow();
+	}
+}
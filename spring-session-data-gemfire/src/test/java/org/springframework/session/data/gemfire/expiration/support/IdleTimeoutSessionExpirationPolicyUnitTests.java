@@ -13,8 +13,10 @@ import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.session.data.gemfire.expiration.support.IdleTimeoutSessionExpirationPolicy.DEFAULT_IDLE_TIMEOUT;
 
+import java.time.Clock;
 import java.time.Duration;
 import java.time.Instant;
+import java.time.ZoneOffset;
 
 import org.junit.Test;
 
@@ -152,4 +154,29 @@ public class IdleTimeoutSessionExpirationPolicyUnitTests {
 		verify(mockSession, never()).getCreationTime();
 		verify(mockSession, times(1)).getLastAccessedTime();
 	}
+
+	@Test
+	public void determinesExpirationTimeoutWithConfiguredClock() {
+
+		Instant lastAccessedTime = Instant.parse("2024-01-01T00:00:00Z");
+
+		IdleTimeoutSessionExpirationPolicy sessionExpirationPolicy =
+			new IdleTimeoutSessionExpirationPolicy(Duration.ofMinutes(30L));
+
+		sessionExpirationPolicy.setClock(Clock.fixed(lastAccessedTime.plus(Duration.ofMinutes(10L)), ZoneOffset.UTC));
+
+		Session mockSession = mock(Session.class);
+
+		when(mockSession.getLastAccessedTime()).thenReturn(lastAccessedTime);
+
+		assertThat(sessionExpirationPolicy.determineExpirationTimeout(mockSession).orElse(null))
+			.isEqualTo(Duration.ofMinutes(20L));
+		assertThat(sessionExpirationPolicy.computeExpirationTimeoutMillis(lastAccessedTime.toEpochMilli()))
+			.isEqualTo(Duration.ofMinutes(20L).toMillis());
+
+		sessionExpirationPolicy.setExpirationTimeout(null);
+
+		assertThat(sessionExpirationPolicy.computeExpirationTimeoutMillis(lastAccessedTime.toEpochMilli()))
+			.isEqualTo(IdleTimeoutSessionExpirationPolicy.NO_EXPIRATION_TIMEOUT);
+	}
 }
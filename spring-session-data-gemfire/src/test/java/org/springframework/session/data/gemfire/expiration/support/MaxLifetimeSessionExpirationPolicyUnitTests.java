@@ -0,0 +1,93 @@
+/*
+ * Copyright 2024 Broadcom. All rights reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.springframework.session.data.gemfire.expiration.support;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+
+import org.junit.Test;
+
+import org.springframework.session.Session;
+
+/**
+ * Unit tests for {@link MaxLifetimeSessionExpirationPolicy}.
+ *
+ * @author John Blum
+ * @see org.junit.Test
+ * @see org.mockito.Mockito
+ * @see org.springframework.session.data.gemfire.expiration.support.MaxLifetimeSessionExpirationPolicy
+ * @since 1.0.0
+ */
+public class MaxLifetimeSessionExpirationPolicyUnitTests {
+
+	@Test(expected = IllegalArgumentException.class)
+	public void constructWithNullMaxLifetime() {
+
+		try {
+			new MaxLifetimeSessionExpirationPolicy(null);
+		}
+		catch (IllegalArgumentException expected) {
+
+			assertThat(expected).hasMessage("Max lifetime is required");
+			assertThat(expected).hasNoCause();
+
+			throw expected;
+		}
+	}
+
+	@Test
+	public void determinesExpirationTimeoutFromCreationTime() {
+
+		Session mockSession = mock(Session.class);
+
+		when(mockSession.getCreationTime()).thenReturn(Instant.now().minus(Duration.ofMinutes(20L)));
+
+		MaxLifetimeSessionExpirationPolicy sessionExpirationPolicy =
+			new MaxLifetimeSessionExpirationPolicy(Duration.ofHours(1L));
+
+		assertThat(sessionExpirationPolicy.getMaxLifetime()).isEqualTo(Duration.ofHours(1L));
+		assertThat(sessionExpirationPolicy.determineExpirationTimeout(mockSession).orElse(null))
+			.isBetween(Duration.ofMinutes(39L), Duration.ofMinutes(40L));
+	}
+
+	@Test
+	public void determinesNegativeExpirationTimeoutWhenMaxLifetimeExceeded() {
+
+		Session mockSession = mock(Session.class);
+
+		when(mockSession.getCreationTime()).thenReturn(Instant.now().minus(Duration.ofHours(2L)));
+
+		MaxLifetimeSessionExpirationPolicy sessionExpirationPolicy =
+			new MaxLifetimeSessionExpirationPolicy(Duration.ofHours(1L));
+
+		assertThat(sessionExpirationPolicy.determineExpirationTimeout(mockSession).orElse(null)).isNegative();
+	}
+
+	@Test
+	public void determinesExpirationTimeoutWithConfiguredClock() {
+
+		Instant creationTime = Instant.parse("2024-01-01T00:00:00Z");
+
+		Session mockSession = mock(Session.class);
+
+		when(mockSession.getCreationTime()).thenReturn(creationTime);
+
+		MaxLifetimeSessionExpirationPolicy sessionExpirationPolicy =
+			new MaxLifetimeSessionExpirationPolicy(Duration.ofHours(1L));
+
+		sessionExpirationPolicy.setClock(Clock.fixed(creationTime.plus(Duration.ofMinutes(20L)), ZoneOffset.UTC));
+
+		assertThat(sessionExpirationPolicy.determineExpirationTimeout(mockSession).orElse(null))
+			.isEqualTo(Duration.ofMinutes(40L));
+		assertThat(sessionExpirationPolicy.computeExpirationTimeoutMillis(creationTime.toEpochMilli()))
+			.isEqualTo(Duration.ofMinutes(40L).toMillis());
+	}
+}
@@ -0,0 +1,216 @@
+/*
+ * Copyright 2024 Broadcom. All rights reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.springframework.session.data.gemfire.expiration.support;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import org.apache.geode.cache.control.ResourceManager;
+
+import org.springframework.session.Session;
+import org.springframework.session.data.gemfire.expiration.SessionExpirationPolicy;
+import org.springframework.session.data.gemfire.expiration.support.MemoryPressureAwareSessionExpirationPolicy.MemoryPressure;
+
+/**
+ * Unit tests for {@link MemoryPressureAwareSessionExpirationPolicy}.
+ *
+ * @author John Blum
+ * @see org.junit.Test
+ * @see org.mockito.Mockito
+ * @see org.springframework.session.data.gemfire.expiration.support.MemoryPressureAwareSessionExpirationPolicy
+ * @since 1.0.0
+ */
+public class MemoryPressureAwareSessionExpirationPolicyUnitTests {
+
+	private static final Instant NOW = Instant.parse("2024-01-01T12:00:00Z");
+
+	private final AtomicReference<Double> memoryUsagePercentage = new AtomicReference<>(50.0d);
+
+	private MemoryPressureAwareSessionExpirationPolicy policy;
+
+	private Session lowValueSession;
+	private Session session;
+
+	@Before
+	public void setup() {
+
+		this.policy = new MemoryPressureAwareSessionExpirationPolicy(
+			new IdleTimeoutSessionExpirationPolicy(Duration.ofMinutes(30)),
+			session -> "anonymous".equals(session.getAttribute("user")),
+			Duration.ofMinutes(10), Duration.ofMinutes(2));
+
+		setTime(NOW);
+		this.policy.setMemoryUsagePercentage(this.memoryUsagePercentage::get);
+
+		this.lowValueSession = mockSession("anonymous", NOW.minus(Duration.ofMinutes(1)));
+		this.session = mockSession("jonDoe", NOW.minus(Duration.ofMinutes(1)));
+	}
+
+	private Session mockSession(String user, Instant lastAccessedTime) {
+
+		Session mockSession = mock(Session.class);
+
+		doReturn(user).when(mockSession).getAttribute("user");
+		doReturn(lastAccessedTime).when(mockSession).getLastAccessedTime();
+
+		return mockSession;
+	}
+
+	private void setTime(Instant time) {
+		this.policy.setClock(Clock.fixed(time, ZoneOffset.UTC));
+	}
+
+	private void setMemoryUsagePercentage(double memoryUsagePercentage) {
+		this.memoryUsagePercentage.set(memoryUsagePercentage);
+		this.policy.setMemoryUsagePercentage(this.memoryUsagePercentage::get);
+	}
+
+	@Test
+	public void constructWithNullArgumentsThrowsIllegalArgumentException() {
+
+		assertThatIllegalArgumentException()
+			.isThrownBy(() -> new MemoryPressureAwareSessionExpirationPolicy(null, Duration.ZERO, Duration.ZERO))
+			.withMessage("SessionExpirationPolicy is required");
+
+		assertThatIllegalArgumentException()
+			.isThrownBy(() -> new MemoryPressureAwareSessionExpirationPolicy(
+				new IdleTimeoutSessionExpirationPolicy(), null, Duration.ZERO))
+			.withMessage("Elevated idle timeout is required");
+	}
+
+	@Test
+	public void memoryPressureIsDeterminedByThresholds() {
+
+		assertThat(this.policy.getMemoryPressure()).isEqualTo(MemoryPressure.NORMAL);
+
+		setMemoryUsagePercentage(80.0d);
+
+		assertThat(this.policy.getMemoryPressure()).isEqualTo(MemoryPressure.ELEVATED);
+
+		setMemoryUsagePercentage(95.0d);
+
+		assertThat(this.policy.getMemoryPressure()).isEqualTo(MemoryPressure.CRITICAL);
+	}
+
+	@Test
+	public void memoryUsageIsSampledOncePerInterval() {
+
+		assertThat(this.policy.getMemoryPressure()).isEqualTo(MemoryPressure.NORMAL);
+
+		this.memoryUsagePercentage.set(95.0d);
+
+		assertThat(this.policy.getMemoryPressure()).isEqualTo(MemoryPressure.NORMAL);
+
+		setTime(NOW.plus(MemoryPressureAwareSessionExpirationPolicy.DEFAULT_SAMPLE_INTERVAL));
+
+		assertThat(this.policy.getMemoryPressure()).isEqualTo(MemoryPressure.CRITICAL);
+	}
+
+	@Test
+	public void idleTimeoutIsDeterminedByMemoryPressure() {
+
+		assertThat(this.policy.getIdleTimeout(MemoryPressure.NORMAL)).isNull();
+		assertThat(this.policy.getIdleTimeout(MemoryPressure.ELEVATED)).isEqualTo(Duration.ofMinutes(10));
+		assertThat(this.policy.getIdleTimeout(MemoryPressure.CRITICAL)).isEqualTo(Duration.ofMinutes(2));
+	}
+
+	@Test
+	public void normalMemoryPressureUsesDelegateExpirationTimeout() {
+
+		assertThat(this.policy.determineExpirationTimeout(this.lowValueSession)).contains(Duration.ofMinutes(29));
+		assertThat(this.policy.determineExpirationTimeout(this.session)).contains(Duration.ofMinutes(29));
+	}
+
+	@Test
+	public void elevatedMemoryPressureShortensExpirationTimeoutOfLowValueSessions() {
+
+		setMemoryUsagePercentage(80.0d);
+
+		assertThat(this.policy.determineExpirationTimeout(this.lowValueSession)).contains(Duration.ofMinutes(9));
+		assertThat(this.policy.determineExpirationTimeout(this.session)).contains(Duration.ofMinutes(29));
+	}
+
+	@Test
+	public void criticalMemoryPressureShortensExpirationTimeoutOfLowValueSessions() {
+
+		setMemoryUsagePercentage(95.0d);
+
+		assertThat(this.policy.determineExpirationTimeout(this.lowValueSession)).contains(Duration.ofMinutes(1));
+		assertThat(this.policy.determineExpirationTimeout(this.session)).contains(Duration.ofMinutes(29));
+	}
+
+	@Test
+	public void expirationTimeoutIsRestoredWhenMemoryPressureDrops() {
+
+		setMemoryUsagePercentage(95.0d);
+
+		assertThat(this.policy.determineExpirationTimeout(this.lowValueSession)).contains(Duration.ofMinutes(1));
+
+		setMemoryUsagePercentage(50.0d);
+
+		assertThat(this.policy.determineExpirationTimeout(this.lowValueSession)).contains(Duration.ofMinutes(29));
+	}
+
+	@Test
+	public void shorterDelegateExpirationTimeoutIsRetained() {
+
+		SessionExpirationPolicy mockSessionExpirationPolicy = mock(SessionExpirationPolicy.class);
+
+		doReturn(Optional.of(Duration.ofSeconds(30))).when(mockSessionExpirationPolicy)
+			.determineExpirationTimeout(this.lowValueSession);
+
+		MemoryPressureAwareSessionExpirationPolicy policy = new MemoryPressureAwareSessionExpirationPolicy(
+			mockSessionExpirationPolicy, session -> true, Duration.ofMinutes(10), Duration.ofMinutes(2));
+
+		policy.setClock(Clock.fixed(NOW, ZoneOffset.UTC));
+		policy.setMemoryUsagePercentage(() -> 95.0d);
+
+		assertThat(policy.determineExpirationTimeout(this.lowValueSession)).contains(Duration.ofSeconds(30));
+	}
+
+	@Test
+	public void configureThresholdsFromResourceManager() {
+
+		ResourceManager mockResourceManager = mock(ResourceManager.class);
+
+		doReturn(60.0f).when(mockResourceManager).getEvictionHeapPercentage();
+		doReturn(0.0f).when(mockResourceManager).getCriticalHeapPercentage();
+
+		assertThat(this.policy.configureThresholds(mockResourceManager)).isSameAs(this.policy);
+		assertThat(this.policy.getElevatedThresholdPercentage()).isEqualTo(60.0f);
+		assertThat(this.policy.getCriticalThresholdPercentage())
+			.isEqualTo(MemoryPressureAwareSessionExpirationPolicy.DEFAULT_CRITICAL_THRESHOLD_PERCENTAGE);
+
+		verify(mockResourceManager).getCriticalHeapPercentage();
+	}
+
+	@Test
+	public void setExpirationTimeoutConfiguresDelegate() {
+
+		this.policy.setExpirationTimeout(Duration.ofMinutes(60));
+
+		assertThat(this.policy.determineExpirationTimeout(this.session)).contains(Duration.ofMinutes(59));
+	}
+
+	@Test
+	public void heapUsagePercentageIsWithinBounds() {
+
+		assertThat(MemoryPressureAwareSessionExpirationPolicy.heapUsagePercentage().getAsDouble())
+			.isBetween(0.0d, 100.0d);
+	}
+}
@@ -0,0 +1,286 @@
+/*
+ * Copyright 2024 Broadcom. All rights reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.springframework.session.data.gemfire.expiration.support;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import org.apache.geode.cache.CacheTransactionManager;
+import org.apache.geode.cache.Region;
+import org.apache.geode.cache.client.ClientCache;
+
+import org.springframework.session.Session;
+import org.springframework.session.data.gemfire.GemFireOperationsSessionRepository;
+import org.springframework.session.data.gemfire.model.SessionExpiration;
+
+/**
+ * Unit tests for {@link MemoryPressureSessionSweeper}.
+ *
+ * @author John Blum
+ * @see org.junit.Test
+ * @see org.mockito.Mockito
+ * @see org.springframework.session.data.gemfire.expiration.support.MemoryPressureSessionSweeper
+ * @since 1.0.0
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class MemoryPressureSessionSweeperUnitTests {
+
+	private static final Instant NOW = Instant.parse("2024-01-01T12:00:00Z");
+
+	private final AtomicReference<Double> memoryUsagePercentage = new AtomicReference<>(50.0d);
+
+	@Mock
+	private CacheTransactionManager mockTransactionManager;
+
+	@Mock
+	private ClientCache mockClientCache;
+
+	@Mock
+	private GemFireOperationsSessionRepository mockSessionRepository;
+
+	@Mock
+	private Region<Object, Session> mockRegion;
+
+	@Mock
+	private ScheduledExecutorService mockSweepScheduler;
+
+	private MemoryPressureAwareSessionExpirationPolicy policy;
+
+	private MemoryPressureSessionSweeper sweeper;
+
+	@Before
+	public void setup() {
+
+		this.policy = new MemoryPressureAwareSessionExpirationPolicy(
+			new IdleTimeoutSessionExpirationPolicy(Duration.ofMinutes(30)),
+			session -> "anonymous".equals(session.getAttribute("user")),
+			Duration.ofMinutes(10), Duration.ofMinutes(2));
+
+		this.policy.setClock(Clock.fixed(NOW, ZoneOffset.UTC));
+		this.policy.setMemoryUsagePercentage(this.memoryUsagePercentage::get);
+
+		ScheduledExecutorService sweepScheduler = this.mockSweepScheduler;
+
+		this.sweeper = new MemoryPressureSessionSweeper(this.mockRegion, this.mockSessionRepository, this.policy,
+				Duration.ofSeconds(5), 2) {
+
+			@Override
+			protected ScheduledExecutorService newSweepScheduler() {
+				return sweepScheduler;
+			}
+		};
+	}
+
+	private Session mockSession(String user, Duration idleTime) {
+
+		Session mockSession = mock(Session.class);
+
+		doReturn(user).when(mockSession).getAttribute("user");
+		doReturn(NOW.minus(idleTime)).when(mockSession).getLastAccessedTime();
+
+		return mockSession;
+	}
+
+	private void setMemoryUsagePercentage(double memoryUsagePercentage) {
+		this.memoryUsagePercentage.set(memoryUsagePercentage);
+		this.policy.setMemoryUsagePercentage(this.memoryUsagePercentage::get);
+	}
+
+	private void mockSessionRepository() {
+		doReturn(Duration.ofMinutes(30)).when(this.mockSessionRepository).getMaxInactiveInterval();
+		doReturn(Clock.fixed(NOW, ZoneOffset.UTC)).when(this.mockSessionRepository).getClock();
+	}
+
+	private void mockSessions(Object... sessionIdsAndSessions) {
+
+		doReturn(this.mockClientCache).when(this.mockRegion).getRegionService();
+		doReturn(this.mockTransactionManager).when(this.mockClientCache).getCacheTransactionManager();
+
+		for (int index = 0; index < sessionIdsAndSessions.length; index += 2) {
+			doReturn(sessionIdsAndSessions[index + 1]).when(this.mockRegion).get(eq(sessionIdsAndSessions[index]));
+		}
+	}
+
+	private void verifyDestroyed(Object... sessionIds) {
+
+		for (Object sessionId : sessionIds) {
+			verify(this.mockRegion)
+				.destroy(eq(sessionId), eq(ExpiredSessionSweeperFunction.SESSION_EXPIRED_CALLBACK_ARGUMENT));
+		}
+	}
+
+	@Test
+	public void constructMemoryPressureSessionSweeper() {
+
+		MemoryPressureSessionSweeper sweeper =
+			new MemoryPressureSessionSweeper(this.mockRegion, this.mockSessionRepository, this.policy);
+
+		assertThat(sweeper.getSessionsRegion()).isSameAs(this.mockRegion);
+		assertThat(sweeper.getSessionRepository()).isSameAs(this.mockSessionRepository);
+		assertThat(sweeper.getSessionExpirationPolicy()).isSameAs(this.policy);
+		assertThat(sweeper.getSweepInterval()).isEqualTo(MemoryPressureSessionSweeper.DEFAULT_SWEEP_INTERVAL);
+		assertThat(sweeper.getBatchSize()).isEqualTo(ExpiredSessionSweeperFunction.DEFAULT_BATCH_SIZE);
+		assertThat(sweeper.isStarted()).isFalse();
+	}
+
+	@Test
+	public void constructWithInvalidArgumentsThrowsIllegalArgumentException() {
+
+		assertThatIllegalArgumentException()
+			.isThrownBy(() -> new MemoryPressureSessionSweeper(null, this.mockSessionRepository, this.policy))
+			.withMessage("Region is required");
+
+		assertThatIllegalArgumentException()
+			.isThrownBy(() -> new MemoryPressureSessionSweeper(this.mockRegion, null, this.policy))
+			.withMessage("SessionRepository is required");
+
+		assertThatIllegalArgumentException()
+			.isThrownBy(() -> new MemoryPressureSessionSweeper(this.mockRegion, this.mockSessionRepository, null))
+			.withMessage("SessionExpirationPolicy is required");
+
+		assertThatIllegalArgumentException()
+			.isThrownBy(() -> new MemoryPressureSessionSweeper(this.mockRegion, this.mockSessionRepository,
+				this.policy, Duration.ZERO, 100))
+			.withMessage("Sweep interval [PT0S] must be positive");
+
+		assertThatIllegalArgumentException()
+			.isThrownBy(() -> new MemoryPressureSessionSweeper(this.mockRegion, this.mockSessionRepository,
+				this.policy, Duration.ofSeconds(5), 0))
+			.withMessage("Batch size [0] must be greater than 0");
+	}
+
+	@Test
+	public void sweepUnderNormalMemoryPressureDoesNothing() {
+
+		assertThat(this.sweeper.sweep()).isZero();
+
+		verify(this.mockSessionRepository, never()).findSessionsExpiringBefore(any(), any(), anyInt());
+		verify(this.mockRegion, never()).destroy(any(), any());
+	}
+
+	@Test
+	public void sweepUnderElevatedMemoryPressureRemovesIdleLowValueSessions() {
+
+		mockSessionRepository();
+		setMemoryUsagePercentage(80.0d);
+
+		SessionExpiration one = SessionExpiration.of("1", NOW.plus(Duration.ofMinutes(5)).toEpochMilli());
+		SessionExpiration two = SessionExpiration.of("2", NOW.plus(Duration.ofMinutes(10)).toEpochMilli());
+		SessionExpiration three = SessionExpiration.of("3", NOW.plus(Duration.ofMinutes(15)).toEpochMilli());
+
+		Instant expiringBefore = NOW.plus(Duration.ofMinutes(20));
+
+		doReturn(Arrays.asList(one, two)).when(this.mockSessionRepository)
+			.findSessionsExpiringBefore(eq(expiringBefore), isNull(), eq(2));
+		doReturn(Collections.singletonList(three)).when(this.mockSessionRepository)
+			.findSessionsExpiringBefore(eq(expiringBefore), eq(two), eq(2));
+
+		mockSessions("1", mockSession("anonymous", Duration.ofMinutes(25)),
+			"2", mockSession("jonDoe", Duration.ofMinutes(20)),
+			"3", mockSession("anonymous", Duration.ofMinutes(15)));
+
+		assertThat(this.sweeper.sweep()).isEqualTo(2);
+
+		verifyDestroyed("1", "3");
+		verify(this.mockRegion, never()).destroy(eq("2"), any());
+		verify(this.mockTransactionManager, times(3)).begin();
+		verify(this.mockTransactionManager, times(2)).commit();
+	}
+
+	@Test
+	public void sweepKeepsSessionsAccessedOrRemovedWhileSweeping() {
+
+		mockSessionRepository();
+		setMemoryUsagePercentage(80.0d);
+
+		SessionExpiration one = SessionExpiration.of("1", NOW.plus(Duration.ofMinutes(5)).toEpochMilli());
+		SessionExpiration two = SessionExpiration.of("2", NOW.plus(Duration.ofMinutes(10)).toEpochMilli());
+
+		doReturn(Arrays.asList(one, two)).when(this.mockSessionRepository)
+			.findSessionsExpiringBefore(eq(NOW.plus(Duration.ofMinutes(20))), isNull(), eq(2));
+		doReturn(Collections.emptyList()).when(this.mockSessionRepository)
+			.findSessionsExpiringBefore(eq(NOW.plus(Duration.ofMinutes(20))), eq(two), eq(2));
+
+		mockSessions("1", mockSession("anonymous", Duration.ofMinutes(1)), "2", null);
+
+		doReturn(true).when(this.mockTransactionManager).exists();
+
+		assertThat(this.sweeper.sweep()).isZero();
+
+		verify(this.mockRegion, never()).destroy(any(), any());
+		verify(this.mockTransactionManager, never()).commit();
+		verify(this.mockTransactionManager, times(2)).rollback();
+	}
+
+	@Test
+	public void sweepUnderCriticalMemoryPressureUsesCriticalIdleTimeout() {
+
+		mockSessionRepository();
+		setMemoryUsagePercentage(95.0d);
+
+		SessionExpiration one = SessionExpiration.of("1", NOW.plus(Duration.ofMinutes(27)).toEpochMilli());
+
+		doReturn(Collections.singletonList(one)).when(this.mockSessionRepository)
+			.findSessionsExpiringBefore(eq(NOW.plus(Duration.ofMinutes(28))), isNull(), eq(2));
+
+		mockSessions("1", mockSession("anonymous", Duration.ofMinutes(3)));
+
+		assertThat(this.sweeper.sweep()).isEqualTo(1);
+
+		verifyDestroyed("1");
+	}
+
+	@Test
+	public void sweepWhenSessionsDoNotExpireDoesNothing() {
+
+		doReturn(Duration.ZERO).when(this.mockSessionRepository).getMaxInactiveInterval();
+
+		setMemoryUsagePercentage(95.0d);
+
+		assertThat(this.sweeper.sweep()).isZero();
+
+		verify(this.mockSessionRepository, never()).findSessionsExpiringBefore(any(), any(), anyInt());
+	}
+
+	@Test
+	public void startSchedulesSweepOnlyOnce() {
+
+		assertThat(this.sweeper.start()).isSameAs(this.sweeper);
+		assertThat(this.sweeper.start()).isSameAs(this.sweeper);
+		assertThat(this.sweeper.isStarted()).isTrue();
+
+		verify(this.mockSweepScheduler, times(1))
+			.scheduleWithFixedDelay(any(Runnable.class), eq(5000L), eq(5000L), eq(TimeUnit.MILLISECONDS));
+
+		this.sweeper.close();
+
+		verify(this.mockSweepScheduler).shutdownNow();
+	}
+}
@@ -15,6 +15,7 @@ import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 import java.time.Duration;
+import java.time.Instant;
 import java.util.Optional;
 
 import org.junit.Test;
@@ -266,4 +267,140 @@ public class SessionExpirationPolicyCustomExpiryAdapterUnitTests {
 		verify(this.mockSessionExpirationPolicy, times(1)).determineExpirationTimeout(eq(mockSession));
 		verify(this.mockSessionExpirationPolicy, times(1)).getExpirationAction();
 	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void getExpiryReturnsInternedExpirationAttributes() {
+
+		when(this.mockSessionExpirationPolicy.determineExpirationTimeout(any(Session.class)))
+			.thenReturn(Optional.of(Duration.ofSeconds(600L)));
+
+		Session mockSession = mock(Session.class);
+
+		Region.Entry<String, Object> mockRegionEntry = mock(Region.Entry.class);
+
+		when(mockRegionEntry.getValue()).thenReturn(mockSession);
+
+		SessionExpirationPolicyCustomExpiryAdapter adapter =
+			new SessionExpirationPolicyCustomExpiryAdapter(this.mockSessionExpirationPolicy);
+
+		ExpirationAttributes expirationAttributes = adapter.getExpiry(mockRegionEntry);
+
+		assertThat(expirationAttributes).isNotNull();
+		assertThat(expirationAttributes.getAction()).isEqualTo(ExpirationAction.INVALIDATE);
+		assertThat(expirationAttributes.getTimeout()).isEqualTo(600);
+		assertThat(adapter.getExpiry(mockRegionEntry)).isSameAs(expirationAttributes);
+		assertThat(adapter.newExpirationAttributes(Duration.ofMillis(600_999L))).isSameAs(expirationAttributes);
+		assertThat(adapter.newExpirationAttributes(Duration.ofSeconds(600L),
+			SessionExpirationPolicy.ExpirationAction.DESTROY)).isNotSameAs(expirationAttributes);
+	}
+
+	@Test
+	public void newExpirationAttributesWithTimeoutBeyondCacheReturnsNewExpirationAttributes() {
+
+		SessionExpirationPolicyCustomExpiryAdapter adapter =
+			new SessionExpirationPolicyCustomExpiryAdapter(this.mockSessionExpirationPolicy);
+
+		Duration expirationTimeout =
+			Duration.ofSeconds(SessionExpirationPolicyCustomExpiryAdapter.EXPIRATION_ATTRIBUTES_CACHE_SIZE);
+
+		ExpirationAttributes expirationAttributes = adapter.newExpirationAttributes(expirationTimeout);
+
+		assertThat(expirationAttributes.getTimeout()).isEqualTo(expirationTimeout.getSeconds());
+		assertThat(expirationAttributes.getAction()).isEqualTo(ExpirationAction.INVALIDATE);
+		assertThat(adapter.newExpirationAttributes(expirationTimeout)).isNotSameAs(expirationAttributes);
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void getExpiryWithIdleTimeoutPolicyReadsLastAccessedTimeFromPdxInstance() {
+
+		PdxInstance mockPdxInstance = mock(PdxInstance.class);
+
+		Region.Entry<String, Object> mockRegionEntry = mock(Region.Entry.class);
+
+		when(mockPdxInstance.hasField("lastAccessedTime")).thenReturn(true);
+		when(mockPdxInstance.readField("lastAccessedTime"))
+			.thenReturn(System.currentTimeMillis() - Duration.ofMinutes(10L).toMillis());
+		when(mockRegionEntry.getValue()).thenReturn(mockPdxInstance);
+
+		SessionExpirationPolicyCustomExpiryAdapter adapter =
+			new SessionExpirationPolicyCustomExpiryAdapter(
+				new IdleTimeoutSessionExpirationPolicy(Duration.ofMinutes(30L)));
+
+		ExpirationAttributes expirationAttributes = adapter.getExpiry(mockRegionEntry);
+
+		assertThat(expirationAttributes).isNotNull();
+		assertThat(expirationAttributes.getAction()).isEqualTo(ExpirationAction.INVALIDATE);
+		assertThat(expirationAttributes.getTimeout()).isBetween(1195, 1200);
+
+		verify(mockPdxInstance, times(1)).readField(eq("lastAccessedTime"));
+		verify(mockPdxInstance, never()).getObject();
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void getExpiryWithIdleTimeoutPolicyAndExpiredSessionReturnsMinimumExpirationTimeout() {
+
+		Session mockSession = mock(Session.class);
+
+		Region.Entry<String, Object> mockRegionEntry = mock(Region.Entry.class);
+
+		when(mockSession.getLastAccessedTime()).thenReturn(Instant.now().minus(Duration.ofHours(1L)));
+		when(mockRegionEntry.getValue()).thenReturn(mockSession);
+
+		SessionExpirationPolicyCustomExpiryAdapter adapter =
+			new SessionExpirationPolicyCustomExpiryAdapter(
+				new IdleTimeoutSessionExpirationPolicy(Duration.ofMinutes(30L)));
+
+		ExpirationAttributes expirationAttributes = adapter.getExpiry(mockRegionEntry);
+
+		assertThat(expirationAttributes).isNotNull();
+		assertThat(expirationAttributes.getTimeout()).isEqualTo(1);
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void getExpiryWithIdleTimeoutPolicyHavingNoIdleTimeoutReturnsNull() {
+
+		Session mockSession = mock(Session.class);
+
+		Region.Entry<String, Object> mockRegionEntry = mock(Region.Entry.class);
+
+		when(mockSession.getLastAccessedTime()).thenReturn(Instant.now());
+		when(mockRegionEntry.getValue()).thenReturn(mockSession);
+
+		SessionExpirationPolicyCustomExpiryAdapter adapter =
+			new SessionExpirationPolicyCustomExpiryAdapter(new IdleTimeoutSessionExpirationPolicy(null));
+
+		assertThat(adapter.getExpiry(mockRegionEntry)).isNull();
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void getExpiryWithMaxLifetimePolicyReadsCreationTimeFromPdxInstance() {
+
+		PdxInstance mockPdxInstance = mock(PdxInstance.class);
+
+		Region.Entry<String, Object> mockRegionEntry = mock(Region.Entry.class);
+
+		when(mockPdxInstance.hasField("creationTime")).thenReturn(true);
+		when(mockPdxInstance.readField("creationTime"))
+			.thenReturn(System.currentTimeMillis() - Duration.ofMinutes(45L).toMillis());
+		when(mockRegionEntry.getValue()).thenReturn(mockPdxInstance);
+
+		SessionExpirationPolicyCustomExpiryAdapter adapter =
+			new SessionExpirationPolicyCustomExpiryAdapter(
+				new MaxLifetimeSessionExpirationPolicy(Duration.ofHours(1L)));
+
+		ExpirationAttributes expirationAttributes = adapter.getExpiry(mockRegionEntry);
+
+		assertThat(expirationAttributes).isNotNull();
+		assertThat(expirationAttributes.getAction()).isEqualTo(ExpirationAction.INVALIDATE);
+		assertThat(expirationAttributes.getTimeout()).isBetween(895, 900);
+
+		verify(mockPdxInstance, times(1)).readField(eq("creationTime"));
+		verify(mockPdxInstance, never()).readField(eq("lastAccessedTime"));
+		verify(mockPdxInstance, never()).getObject();
+	}
 }
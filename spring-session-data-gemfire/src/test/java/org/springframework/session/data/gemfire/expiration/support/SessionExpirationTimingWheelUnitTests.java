@@ -0,0 +1,183 @@
+/*
+ * Copyright 2024 Broadcom. All rights reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.springframework.session.data.gemfire.expiration.support;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Unit tests for {@link SessionExpirationTimingWheel}.
+ *
+ * @author John Blum
+ * @see org.junit.Test
+ * @see org.springframework.session.data.gemfire.expiration.support.SessionExpirationTimingWheel
+ * @since 1.0.0
+ */
+public class SessionExpirationTimingWheelUnitTests {
+
+	private final AtomicLong currentTimeMillis = new AtomicLong(10_000L);
+
+	private final List<List<String>> expiredBatches = new ArrayList<>();
+
+	private SessionExpirationTimingWheel timingWheel;
+
+	@Before
+	public void setup() {
+		// the wheel is turned by the test only
+		this.timingWheel = new SessionExpirationTimingWheel(Duration.ofSeconds(1), 4, this.expiredBatches::add,
+				this.currentTimeMillis::get) {
+
+			@Override
+			protected ScheduledExecutorService newTickScheduler() {
+				return mock(ScheduledExecutorService.class);
+			}
+		};
+	}
+
+	@After
+	public void tearDown() {
+		this.timingWheel.close();
+	}
+
+	private void advanceSeconds(long seconds) {
+		this.currentTimeMillis.addAndGet(Duration.ofSeconds(seconds).toMillis());
+	}
+
+	private List<String> expiredSessionIds() {
+
+		List<String> expiredSessionIds = new ArrayList<>();
+
+		this.expiredBatches.forEach(expiredSessionIds::addAll);
+
+		return expiredSessionIds;
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void constructWithInvalidWheelSize() {
+
+		try {
+			new SessionExpirationTimingWheel(Duration.ofSeconds(1), 1, ids -> {}, System::currentTimeMillis);
+		}
+		catch (IllegalArgumentException expected) {
+
+			assertThat(expected).hasMessage("Wheel size must be greater than 1");
+			assertThat(expected).hasNoCause();
+
+			throw expected;
+		}
+	}
+
+	@Test
+	public void expiresSessionsInBatchWhenDue() {
+
+		this.timingWheel.schedule("1", Duration.ofSeconds(3));
+		this.timingWheel.schedule("2", Duration.ofSeconds(3));
+		this.timingWheel.schedule("3", Duration.ofSeconds(10));
+
+		assertThat(this.timingWheel.size()).isEqualTo(3);
+
+		advanceSeconds(2);
+
+		assertThat(this.timingWheel.advance()).isZero();
+
+		advanceSeconds(1);
+
+		assertThat(this.timingWheel.advance()).isEqualTo(2);
+		assertThat(this.expiredBatches).hasSize(1);
+		assertThat(this.expiredBatches.get(0)).containsExactlyInAnyOrder("1", "2");
+		assertThat(this.timingWheel.isScheduled("3")).isTrue();
+	}
+
+	@Test
+	public void cascadesTimersFromHigherLevels() {
+
+		// wheel size 4: level 0 spans 4 ticks, level 1 spans 16, level 2 spans 64 and level 3 spans 256 ticks
+		long[] timeouts = { 5, 17, 63, 100, 255, 1000 };
+
+		for (long timeout : timeouts) {
+			this.timingWheel.schedule(String.valueOf(timeout), Duration.ofSeconds(timeout));
+		}
+
+		long elapsed = 0;
+
+		for (long timeout : timeouts) {
+
+			advanceSeconds(timeout - 1 - elapsed);
+			this.timingWheel.advance();
+
+			assertThat(expiredSessionIds()).doesNotContain(String.valueOf(timeout));
+
+			advanceSeconds(1);
+			this.timingWheel.advance();
+
+			assertThat(expiredSessionIds()).endsWith(String.valueOf(timeout));
+
+			elapsed = timeout;
+		}
+
+		assertThat(this.timingWheel.size()).isZero();
+	}
+
+	@Test
+	public void rescheduleMovesDeadline() {
+
+		this.timingWheel.schedule("1", Duration.ofSeconds(2));
+
+		advanceSeconds(1);
+
+		this.timingWheel.advance();
+		this.timingWheel.schedule("1", Duration.ofSeconds(5));
+
+		advanceSeconds(4);
+
+		assertThat(this.timingWheel.advance()).isZero();
+
+		advanceSeconds(1);
+
+		assertThat(this.timingWheel.advance()).isOne();
+		assertThat(expiredSessionIds()).containsExactly("1");
+	}
+
+	@Test
+	public void cancelAndNullTimeoutRemoveTimer() {
+
+		this.timingWheel.schedule("1", Duration.ofSeconds(1));
+		this.timingWheel.schedule("2", Duration.ofSeconds(1));
+
+		assertThat(this.timingWheel.cancel("1")).isTrue();
+		assertThat(this.timingWheel.cancel("1")).isFalse();
+
+		this.timingWheel.schedule("2", null);
+
+		advanceSeconds(5);
+
+		assertThat(this.timingWheel.advance()).isZero();
+		assertThat(this.timingWheel.size()).isZero();
+		assertThat(this.expiredBatches).isEmpty();
+	}
+
+	@Test
+	public void nonPositiveTimeoutExpiresOnNextTick() {
+
+		this.timingWheel.schedule("1", Duration.ofSeconds(-30));
+
+		assertThat(this.timingWheel.advance()).isZero();
+
+		advanceSeconds(1);
+
+		assertThat(this.timingWheel.advance()).isOne();
+		assertThat(expiredSessionIds()).containsExactly("1");
+	}
+}
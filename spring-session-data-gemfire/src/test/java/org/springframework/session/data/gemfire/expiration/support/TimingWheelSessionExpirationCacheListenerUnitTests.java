@@ -0,0 +1,187 @@
+/*
+ * Copyright 2024 Broadcom. All rights reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.springframework.session.data.gemfire.expiration.support;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.Optional;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import org.apache.geode.cache.EntryEvent;
+import org.apache.geode.cache.EntryNotFoundException;
+import org.apache.geode.cache.Region;
+
+import org.springframework.session.Session;
+import org.springframework.session.data.gemfire.expiration.SessionExpirationPolicy;
+
+/**
+ * Unit tests for {@link TimingWheelSessionExpirationCacheListener}.
+ *
+ * @author John Blum
+ * @see org.junit.Test
+ * @see org.mockito.Mockito
+ * @see org.springframework.session.data.gemfire.expiration.support.TimingWheelSessionExpirationCacheListener
+ * @since 1.0.0
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class TimingWheelSessionExpirationCacheListenerUnitTests {
+
+	@Mock
+	private EntryEvent<Object, Session> mockEntryEvent;
+
+	@Mock
+	private Region.Entry<Object, Session> mockRegionEntry;
+
+	@Mock
+	private Region<Object, Session> mockRegion;
+
+	@Mock
+	private Session mockSession;
+
+	@Mock
+	private SessionExpirationPolicy mockSessionExpirationPolicy;
+
+	private SessionExpirationTimingWheel mockTimingWheel;
+
+	private TimingWheelSessionExpirationCacheListener cacheListener;
+
+	@Before
+	public void setup() {
+
+		this.mockTimingWheel = mock(SessionExpirationTimingWheel.class);
+
+		SessionExpirationTimingWheel timingWheel = this.mockTimingWheel;
+
+		this.cacheListener =
+			new TimingWheelSessionExpirationCacheListener(this.mockRegion, this.mockSessionExpirationPolicy) {
+
+				@Override
+				protected SessionExpirationTimingWheel newTimingWheel(Duration tickDuration, int wheelSize) {
+					return timingWheel;
+				}
+			};
+	}
+
+	private void mockRegionEntry(String sessionId, Duration expirationTimeout) {
+
+		doReturn(this.mockRegionEntry).when(this.mockRegion).getEntry(sessionId);
+		doReturn(this.mockSession).when(this.mockRegionEntry).getValue();
+		doReturn(Optional.ofNullable(expirationTimeout)).when(this.mockSessionExpirationPolicy)
+			.determineExpirationTimeout(this.mockSession);
+	}
+
+	@Test
+	public void afterCreateSchedulesSessionExpiration() {
+
+		doReturn("1").when(this.mockEntryEvent).getKey();
+		doReturn(this.mockSession).when(this.mockEntryEvent).getNewValue();
+		doReturn(Optional.of(Duration.ofMinutes(30))).when(this.mockSessionExpirationPolicy)
+			.determineExpirationTimeout(this.mockSession);
+
+		this.cacheListener.afterCreate(this.mockEntryEvent);
+
+		verify(this.mockTimingWheel).schedule("1", Duration.ofMinutes(30));
+	}
+
+	@Test
+	public void afterUpdateWithNonSessionValueCancelsSessionExpiration() {
+
+		doReturn("1").when(this.mockEntryEvent).getKey();
+		doReturn("TEST").when(this.mockEntryEvent).getNewValue();
+
+		this.cacheListener.afterUpdate(this.mockEntryEvent);
+
+		verify(this.mockTimingWheel).cancel("1");
+		verify(this.mockTimingWheel, never()).schedule(any(), any());
+	}
+
+	@Test
+	public void afterDestroyCancelsSessionExpiration() {
+
+		doReturn("1").when(this.mockEntryEvent).getKey();
+
+		this.cacheListener.afterDestroy(this.mockEntryEvent);
+
+		verify(this.mockTimingWheel).cancel("1");
+	}
+
+	@Test
+	public void expireInvalidatesExpiredSession() {
+
+		mockRegionEntry("1", Duration.ZERO);
+
+		this.cacheListener.expire(Collections.singletonList("1"));
+
+		verify(this.mockRegion).localInvalidate("1");
+		verify(this.mockRegion, never()).localDestroy(any());
+	}
+
+	@Test
+	public void expireDestroysExpiredSessionWhenExpirationActionIsDestroy() {
+
+		mockRegionEntry("1", Duration.ofSeconds(-5));
+
+		doReturn(SessionExpirationPolicy.ExpirationAction.DESTROY)
+			.when(this.mockSessionExpirationPolicy).getExpirationAction();
+
+		this.cacheListener.expire(Collections.singletonList("1"));
+
+		verify(this.mockRegion).localDestroy("1");
+		verify(this.mockRegion, never()).localInvalidate(any());
+	}
+
+	@Test
+	public void expireReschedulesSessionThatIsNoLongerDue() {
+
+		mockRegionEntry("1", Duration.ofMinutes(10));
+
+		this.cacheListener.expire(Collections.singletonList("1"));
+
+		verify(this.mockTimingWheel).schedule("1", Duration.ofMinutes(10));
+		verify(this.mockRegion, never()).localInvalidate(any());
+	}
+
+	@Test
+	public void expireIgnoresSessionAlreadyRemoved() {
+
+		mockRegionEntry("1", Duration.ZERO);
+
+		doThrow(new EntryNotFoundException("TEST")).when(this.mockRegion).localInvalidate("1");
+
+		this.cacheListener.expire(Collections.singletonList("1"));
+
+		verify(this.mockRegion).localInvalidate("1");
+	}
+
+	@Test
+	public void expireSkipsMissingSession() {
+
+		this.cacheListener.expire(Collections.singletonList("1"));
+
+		verify(this.mockRegion).getEntry("1");
+		verify(this.mockRegion, never()).localInvalidate(any());
+		verify(this.mockTimingWheel, never()).schedule(any(), any());
+	}
+
+	@Test
+	public void closeStopsTimingWheel() {
+
+		this.cacheListener.close();
+
+		verify(this.mockTimingWheel).close();
+	}
+}
@@ -72,6 +72,15 @@ public class PdxSerializableSessionSerializerTests {
 		verify(this.mockPdxWriter, times(1))
 			.writeLong(eq("maxInactiveIntervalInSeconds"), eq(session.getMaxInactiveInterval().getSeconds()));
 
+		verify(this.mockPdxWriter, times(1))
+			.writeLong(eq("expirationTime"), eq(session.getExpirationTime()));
+
+		verify(this.mockPdxWriter, times(1))
+			.writeLong(eq("creationTimeMillis"), eq(session.getCreationTime().toEpochMilli()));
+
+		verify(this.mockPdxWriter, times(1))
+			.writeLong(eq("lastAccessedTimeMillis"), eq(session.getLastAccessedTime().toEpochMilli()));
+
 		verify(this.mockPdxWriter, times(1))
 			.writeString(eq("principalName"), eq(session.getPrincipalName()));
 
@@ -0,0 +1,115 @@
+/*
+ * Copyright 2024 Broadcom. All rights reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.springframework.session.data.gemfire.support;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.time.Duration;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+
+/**
+ * Unit tests for {@link CachedMillisecondClock}.
+ *
+ * @author John Blum
+ * @see org.junit.Test
+ * @see org.springframework.session.data.gemfire.support.CachedMillisecondClock
+ * @since 1.0.0
+ */
+public class CachedMillisecondClockUnitTests {
+
+	private final ScheduledExecutorService mockTickScheduler = mock(ScheduledExecutorService.class);
+
+	private CachedMillisecondClock newClock(Duration resolution) {
+
+		ScheduledExecutorService tickScheduler = this.mockTickScheduler;
+
+		return new CachedMillisecondClock(resolution) {
+
+			@Override
+			protected ScheduledExecutorService newTickScheduler() {
+				return tickScheduler;
+			}
+		};
+	}
+
+	@Test
+	public void constructCachedMillisecondClock() {
+
+		CachedMillisecondClock clock = new CachedMillisecondClock();
+
+		assertThat(clock.getResolution()).isEqualTo(CachedMillisecondClock.DEFAULT_RESOLUTION);
+		assertThat(clock.getZone()).isEqualTo(ZoneOffset.UTC);
+		assertThat(clock.withZone(ZoneId.of("America/Los_Angeles"))).isSameAs(clock);
+		assertThat(clock.isRunning()).isFalse();
+	}
+
+	@Test
+	public void constructCachedMillisecondClockWithInvalidResolutionThrowsIllegalArgumentException() {
+
+		assertThatIllegalArgumentException()
+			.isThrownBy(() -> new CachedMillisecondClock(Duration.ZERO))
+			.withMessage("Resolution [PT0S] must be at least 1 millisecond");
+	}
+
+	@Test
+	public void cachedTimeIsReturnedUntilTick() throws InterruptedException {
+
+		CachedMillisecondClock clock = newClock(Duration.ofMillis(5));
+
+		assertThat(clock.start()).isSameAs(clock);
+		assertThat(clock.isRunning()).isTrue();
+
+		long cachedTime = clock.millis();
+
+		Thread.sleep(20L);
+
+		assertThat(clock.millis()).isEqualTo(cachedTime);
+		assertThat(clock.instant().toEpochMilli()).isEqualTo(cachedTime);
+
+		clock.tick();
+
+		assertThat(clock.millis()).isGreaterThan(cachedTime);
+	}
+
+	@Test
+	public void startSchedulesTickOnlyOnce() {
+
+		CachedMillisecondClock clock = newClock(Duration.ofMillis(5));
+
+		clock.start();
+		clock.start();
+
+		verify(this.mockTickScheduler, times(1))
+			.scheduleAtFixedRate(any(Runnable.class), eq(5L), eq(5L), eq(TimeUnit.MILLISECONDS));
+	}
+
+	@Test
+	public void closedClockReturnsSystemTime() throws InterruptedException {
+
+		CachedMillisecondClock clock = newClock(Duration.ofMillis(5)).start();
+
+		long cachedTime = clock.millis();
+
+		clock.close();
+
+		Thread.sleep(20L);
+
+		assertThat(clock.isRunning()).isFalse();
+		assertThat(clock.millis()).isGreaterThan(cachedTime);
+
+		verify(this.mockTickScheduler).shutdownNow();
+	}
+}
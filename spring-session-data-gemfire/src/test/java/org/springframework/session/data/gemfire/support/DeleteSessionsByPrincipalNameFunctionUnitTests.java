@@ -0,0 +1,246 @@
+/*
+ * Copyright 2024 Broadcom. All rights reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.springframework.session.data.gemfire.support;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import org.apache.geode.cache.Cache;
+import org.apache.geode.cache.EntryEvent;
+import org.apache.geode.cache.EntryNotFoundException;
+import org.apache.geode.cache.Region;
+import org.apache.geode.cache.execute.FunctionContext;
+import org.apache.geode.cache.execute.FunctionException;
+import org.apache.geode.cache.execute.RegionFunctionContext;
+import org.apache.geode.cache.execute.ResultSender;
+import org.apache.geode.cache.query.Query;
+import org.apache.geode.cache.query.QueryService;
+import org.apache.geode.cache.query.SelectResults;
+import org.apache.geode.cache.query.Struct;
+import org.apache.geode.cache.query.TypeMismatchException;
+
+/**
+ * Unit tests for {@link DeleteSessionsByPrincipalNameFunction}.
+ *
+ * @author John Blum
+ * @see org.junit.Test
+ * @see org.mockito.Mockito
+ * @see org.springframework.session.data.gemfire.support.DeleteSessionsByPrincipalNameFunction
+ * @since 1.0.0
+ */
+@RunWith(MockitoJUnitRunner.class)
+@SuppressWarnings({ "rawtypes", "unchecked" })
+public class DeleteSessionsByPrincipalNameFunctionUnitTests {
+
+	private static final String EXPECTED_QUERY =
+		String.format(DeleteSessionsByPrincipalNameFunction.FIND_SESSIONS_BY_PRINCIPAL_NAMES_QUERY, "/Sessions");
+
+	@Mock
+	private Cache mockCache;
+
+	@Mock
+	private Query mockQuery;
+
+	@Mock
+	private QueryService mockQueryService;
+
+	@Mock
+	private Region mockRegion;
+
+	@Mock
+	private RegionFunctionContext mockRegionFunctionContext;
+
+	@Mock
+	private ResultSender mockResultSender;
+
+	private final DeleteSessionsByPrincipalNameFunction function = new DeleteSessionsByPrincipalNameFunction();
+
+	private void mockQuery() {
+
+		doReturn(this.mockRegion).when(this.mockRegionFunctionContext).getDataSet();
+		doReturn(this.mockCache).when(this.mockRegionFunctionContext).getCache();
+		doReturn(this.mockQueryService).when(this.mockCache).getQueryService();
+		doReturn("/Sessions").when(this.mockRegion).getFullPath();
+		doReturn(this.mockQuery).when(this.mockQueryService).newQuery(eq(EXPECTED_QUERY));
+	}
+
+	private Struct mockStruct(String sessionId, String principalName) {
+
+		Struct mockStruct = mock(Struct.class);
+
+		doReturn(sessionId).when(mockStruct).get(eq("id"));
+		doReturn(principalName).when(mockStruct).get(eq("principalName"));
+
+		return mockStruct;
+	}
+
+	@Test
+	public void functionIsConfiguredCorrectly() {
+
+		assertThat(this.function.getId()).isEqualTo(DeleteSessionsByPrincipalNameFunction.ID);
+		assertThat(this.function.hasResult()).isTrue();
+		assertThat(this.function.isHA()).isFalse();
+		assertThat(this.function.optimizeForWrite()).isTrue();
+	}
+
+	@Test
+	public void executeDeletesSessionsOfPrincipalsAndReturnsDeletedSessionIds() throws Exception {
+
+		mockQuery();
+
+		SelectResults mockSelectResults = mock(SelectResults.class);
+
+		doReturn(Arrays.asList("jonDoe", "janeDoe", "jonDoe")).when(this.mockRegionFunctionContext).getArguments();
+		doReturn(this.mockResultSender).when(this.mockRegionFunctionContext).getResultSender();
+		doReturn(mockSelectResults).when(this.mockQuery)
+			.execute(eq(new HashSet<>(Arrays.asList("jonDoe", "janeDoe"))));
+		doReturn(Arrays.asList(mockStruct("1", "jonDoe"), mockStruct("2", "janeDoe"), mockStruct("3", "jonDoe")))
+			.when(mockSelectResults).asList();
+		doThrow(new EntryNotFoundException("TEST")).when(this.mockRegion)
+			.destroy(eq("3"), eq(DeleteSessionsByPrincipalNameFunction.SESSION_DELETED_CALLBACK_ARGUMENT));
+
+		this.function.execute(this.mockRegionFunctionContext);
+
+		Map<String, String> expectedDeletedSessions = new HashMap<>();
+
+		expectedDeletedSessions.put("1", "jonDoe");
+		expectedDeletedSessions.put("2", "janeDoe");
+
+		verify(this.mockRegion)
+			.destroy(eq("1"), eq(DeleteSessionsByPrincipalNameFunction.SESSION_DELETED_CALLBACK_ARGUMENT));
+		verify(this.mockRegion)
+			.destroy(eq("2"), eq(DeleteSessionsByPrincipalNameFunction.SESSION_DELETED_CALLBACK_ARGUMENT));
+		verify(this.mockRegion)
+			.destroy(eq("3"), eq(DeleteSessionsByPrincipalNameFunction.SESSION_DELETED_CALLBACK_ARGUMENT));
+		verify(this.mockResultSender).lastResult(eq(expectedDeletedSessions));
+	}
+
+	@Test
+	public void executeSendsSessionsDeletedBeforeFailureThenException() throws Exception {
+
+		mockQuery();
+
+		SelectResults mockSelectResults = mock(SelectResults.class);
+		RuntimeException failure = new RuntimeException("TEST");
+
+		doReturn(Collections.singletonList("jonDoe")).when(this.mockRegionFunctionContext).getArguments();
+		doReturn(this.mockResultSender).when(this.mockRegionFunctionContext).getResultSender();
+		doReturn("serverOne").when(this.mockRegionFunctionContext).getMemberName();
+		doReturn(mockSelectResults).when(this.mockQuery).execute(eq(Collections.singleton("jonDoe")));
+		doReturn(Arrays.asList(mockStruct("1", "jonDoe"), mockStruct("2", "jonDoe")))
+			.when(mockSelectResults).asList();
+		doThrow(failure).when(this.mockRegion)
+			.destroy(eq("2"), eq(DeleteSessionsByPrincipalNameFunction.SESSION_DELETED_CALLBACK_ARGUMENT));
+
+		this.function.execute(this.mockRegionFunctionContext);
+
+		ArgumentCaptor<Throwable> exception = ArgumentCaptor.forClass(Throwable.class);
+
+		verify(this.mockResultSender).sendResult(eq(Collections.singletonMap("1", "jonDoe")));
+		verify(this.mockResultSender).sendException(exception.capture());
+		verify(this.mockResultSender, never()).lastResult(any());
+
+		assertThat(exception.getValue()).isInstanceOf(FunctionException.class)
+			.hasMessage("Failed to delete the Sessions of principals [jonDoe] on member [serverOne]")
+			.hasCause(failure);
+	}
+
+	@Test
+	public void executeWithNoPrincipalNamesDeletesNothing() {
+
+		doReturn(this.mockRegion).when(this.mockRegionFunctionContext).getDataSet();
+		doReturn(Collections.emptyList()).when(this.mockRegionFunctionContext).getArguments();
+		doReturn(this.mockResultSender).when(this.mockRegionFunctionContext).getResultSender();
+
+		this.function.execute(this.mockRegionFunctionContext);
+
+		verify(this.mockRegion, never()).destroy(any(), any());
+		verify(this.mockResultSender).lastResult(eq(Collections.emptyMap()));
+		verifyNoInteractions(this.mockCache);
+	}
+
+	@Test
+	public void executeOutsideRegionThrowsFunctionException() {
+
+		FunctionContext mockFunctionContext = mock(FunctionContext.class);
+
+		assertThatExceptionOfType(FunctionException.class)
+			.isThrownBy(() -> this.function.execute(mockFunctionContext))
+			.withMessage("Function [%s] must be executed on the Session Region",
+				DeleteSessionsByPrincipalNameFunction.ID);
+	}
+
+	@Test
+	public void executeWithInvalidArgumentsThrowsFunctionException() {
+
+		doReturn("jonDoe").when(this.mockRegionFunctionContext).getArguments();
+
+		assertThatExceptionOfType(FunctionException.class)
+			.isThrownBy(() -> this.function.execute(this.mockRegionFunctionContext))
+			.withMessageContaining(DeleteSessionsByPrincipalNameFunction.ID);
+
+		verifyNoInteractions(this.mockRegion, this.mockResultSender);
+	}
+
+	@Test
+	public void executeWrapsQueryFailure() throws Exception {
+
+		mockQuery();
+
+		doReturn(Collections.singletonList("jonDoe")).when(this.mockRegionFunctionContext).getArguments();
+		doThrow(new TypeMismatchException("TEST")).when(this.mockQuery)
+			.execute(eq(Collections.singleton("jonDoe")));
+
+		assertThatExceptionOfType(FunctionException.class)
+			.isThrownBy(() -> this.function.execute(this.mockRegionFunctionContext))
+			.withMessage("Failed to find the Sessions of principals [jonDoe] in Region [/Sessions]")
+			.withCauseInstanceOf(TypeMismatchException.class);
+
+		verify(this.mockRegion, never()).destroy(any(), any());
+		verifyNoInteractions(this.mockResultSender);
+	}
+
+	@Test
+	public void isSessionDeletedWithSessionDeletedCallbackArgument() {
+
+		EntryEvent<?, ?> mockEntryEvent = mock(EntryEvent.class);
+
+		doReturn(DeleteSessionsByPrincipalNameFunction.SESSION_DELETED_CALLBACK_ARGUMENT)
+			.when(mockEntryEvent).getCallbackArgument();
+
+		assertThat(DeleteSessionsByPrincipalNameFunction.isSessionDeleted(mockEntryEvent)).isTrue();
+	}
+
+	@Test
+	public void isSessionDeletedWithOtherCallbackArgumentIsFalse() {
+
+		EntryEvent<?, ?> mockEntryEvent = mock(EntryEvent.class);
+
+		doReturn("TEST").when(mockEntryEvent).getCallbackArgument();
+
+		assertThat(DeleteSessionsByPrincipalNameFunction.isSessionDeleted(mockEntryEvent)).isFalse();
+		assertThat(DeleteSessionsByPrincipalNameFunction.isSessionDeleted(null)).isFalse();
+	}
+}
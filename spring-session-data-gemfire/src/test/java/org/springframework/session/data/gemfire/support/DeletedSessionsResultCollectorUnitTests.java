@@ -0,0 +1,54 @@
+/*
+ * Copyright 2024 Broadcom. All rights reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.springframework.session.data.gemfire.support;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+
+import org.apache.geode.cache.execute.FunctionException;
+
+/**
+ * Unit tests for {@link DeletedSessionsResultCollector}.
+ *
+ * @author John Blum
+ * @see org.junit.Test
+ * @see org.springframework.session.data.gemfire.support.DeletedSessionsResultCollector
+ * @since 1.0.0
+ */
+public class DeletedSessionsResultCollectorUnitTests {
+
+	private final DeletedSessionsResultCollector resultCollector = new DeletedSessionsResultCollector();
+
+	@Test
+	public void collectsDeletedSessionsAndFailures() {
+
+		FunctionException failure = new FunctionException("TEST");
+
+		this.resultCollector.addResult(null, Collections.singletonMap("1", "jonDoe"));
+		this.resultCollector.addResult(null, failure);
+		this.resultCollector.addResult(null, Collections.singletonMap("2", "janeDoe"));
+		this.resultCollector.addResult(null, "IGNORED");
+		this.resultCollector.endResults();
+
+		assertThat(this.resultCollector.getResult()).containsOnlyKeys("1", "2");
+		assertThat(this.resultCollector.getResult(1L, TimeUnit.SECONDS)).containsEntry("2", "janeDoe");
+		assertThat(this.resultCollector.getFailures()).containsExactly(failure);
+	}
+
+	@Test
+	public void clearResultsRemovesDeletedSessionsAndFailures() {
+
+		this.resultCollector.addResult(null, Collections.singletonMap("1", "jonDoe"));
+		this.resultCollector.addResult(null, new FunctionException("TEST"));
+		this.resultCollector.clearResults();
+
+		assertThat(this.resultCollector.getResult()).isEmpty();
+		assertThat(this.resultCollector.getFailures()).isEmpty();
+	}
+}
@@ -14,6 +14,7 @@ import static org.mockito.Mockito.when;
 import java.io.Closeable;
 import java.io.IOException;
 import java.util.Arrays;
+import org.apache.geode.cache.Cache;
 import org.apache.geode.cache.DataPolicy;
 import org.apache.geode.cache.PartitionAttributes;
 import org.apache.geode.cache.Region;
@@ -21,6 +22,7 @@ import org.apache.geode.cache.RegionAttributes;
 import org.apache.geode.cache.RegionShortcut;
 import org.apache.geode.cache.client.ClientCache;
 import org.apache.geode.cache.client.ClientRegionShortcut;
+import org.apache.geode.cache.query.QueryService;
 import org.junit.Test;
 
 /**
@@ -334,6 +336,70 @@ public class GemFireUtilsTests {
 			.forEach(it -> assertThat(GemFireUtils.isProxy(it)).isFalse());
 	}
 
+	@Test
+	public void resolveQueryServiceWithNullRegionReturnsNull() {
+		assertThat(GemFireUtils.resolveQueryService(null)).isNull();
+	}
+
+	@Test
+	@SuppressWarnings("rawtypes")
+	public void resolveQueryServiceForPeerRegionReturnsCacheQueryService() {
+
+		Cache mockCache = mock(Cache.class);
+
+		QueryService mockQueryService = mock(QueryService.class);
+
+		Region mockRegion = mock(Region.class);
+
+		when(mockRegion.getRegionService()).thenReturn(mockCache);
+		when(mockCache.getQueryService()).thenReturn(mockQueryService);
+
+		assertThat(GemFireUtils.resolveQueryService(mockRegion)).isSameAs(mockQueryService);
+	}
+
+	@Test
+	@SuppressWarnings("rawtypes")
+	public void resolveQueryServiceForLocalClientRegionReturnsLocalQueryService() {
+
+		ClientCache mockClientCache = mock(ClientCache.class);
+
+		QueryService mockQueryService = mock(QueryService.class);
+
+		Region mockRegion = mock(Region.class);
+
+		RegionAttributes mockRegionAttributes = mock(RegionAttributes.class);
+
+		when(mockRegion.getAttributes()).thenReturn(mockRegionAttributes);
+		when(mockRegion.getRegionService()).thenReturn(mockClientCache);
+		when(mockClientCache.getLocalQueryService()).thenReturn(mockQueryService);
+
+		assertThat(GemFireUtils.resolveQueryService(mockRegion)).isSameAs(mockQueryService);
+
+		verify(mockClientCache, never()).getQueryService();
+	}
+
+	@Test
+	@SuppressWarnings("rawtypes")
+	public void resolveQueryServiceForClientRegionWithServerProxyReturnsDefaultPoolQueryService() {
+
+		ClientCache mockClientCache = mock(ClientCache.class);
+
+		QueryService mockQueryService = mock(QueryService.class);
+
+		ServerProxyCapableRegion mockRegion = mock(ServerProxyCapableRegion.class);
+
+		RegionAttributes mockRegionAttributes = mock(RegionAttributes.class);
+
+		when(mockRegion.getAttributes()).thenReturn(mockRegionAttributes);
+		when(mockRegion.getRegionService()).thenReturn(mockClientCache);
+		when(mockRegion.hasServerProxy()).thenReturn(true);
+		when(mockClientCache.getQueryService()).thenReturn(mockQueryService);
+
+		assertThat(GemFireUtils.resolveQueryService(mockRegion)).isSameAs(mockQueryService);
+
+		verify(mockClientCache, never()).getLocalQueryService();
+	}
+
 	interface ServerProxyCapableRegion<K, V> extends Region<K, V> {
 
 		boolean hasServerProxy();
@@ -0,0 +1,229 @@
+/*
+ * Copyright 2024 Broadcom. All rights reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.springframework.session.data.gemfire.support;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import org.apache.geode.cache.Region;
+
+/**
+ * Unit tests for {@link PrincipalNameSessionIndex}.
+ *
+ * @author John Blum
+ * @see org.junit.Test
+ * @see org.mockito.Mockito
+ * @see org.springframework.session.data.gemfire.support.PrincipalNameSessionIndex
+ * @since 1.0.0
+ */
+@SuppressWarnings("unchecked")
+public class PrincipalNameSessionIndexUnitTests {
+
+	private final Map<String, Set<String>> data = new ConcurrentHashMap<>();
+
+	private Region<String, Set<String>> mockRegion;
+
+	@Before
+	public void setup() {
+
+		this.mockRegion = mock(Region.class);
+
+		doAnswer(invocation -> this.data.get(invocation.<String>getArgument(0)))
+			.when(this.mockRegion).get(anyString());
+
+		doAnswer(invocation -> this.data.putIfAbsent(invocation.getArgument(0), invocation.getArgument(1)))
+			.when(this.mockRegion).putIfAbsent(anyString(), any());
+
+		doAnswer(invocation -> this.data.replace(invocation.getArgument(0), invocation.getArgument(1),
+			invocation.getArgument(2))).when(this.mockRegion).replace(anyString(), any(), any());
+
+		doAnswer(invocation -> this.data.remove(invocation.<String>getArgument(0), invocation.getArgument(1)))
+			.when(this.mockRegion).remove(anyString(), any());
+	}
+
+	private Set<String> setOf(String... elements) {
+		return new HashSet<>(Arrays.asList(elements));
+	}
+
+	@Test
+	public void constructWithNullRegionThrowsIllegalArgumentException() {
+
+		assertThatIllegalArgumentException()
+			.isThrownBy(() -> new PrincipalNameSessionIndex(null))
+			.withMessage("Region is required");
+	}
+
+	@Test
+	public void toRegionNameAppendsSuffix() {
+		assertThat(PrincipalNameSessionIndex.toRegionName("Sessions")).isEqualTo("SessionsByPrincipalName");
+	}
+
+	@Test
+	public void getSessionIdsForUnknownOrMissingPrincipalIsEmpty() {
+
+		PrincipalNameSessionIndex index = new PrincipalNameSessionIndex(this.mockRegion);
+
+		assertThat(index.getSessionIds("jonDoe")).isEmpty();
+		assertThat(index.getSessionIds(null)).isEmpty();
+		assertThat(index.getSessionIds("  ")).isEmpty();
+
+		verify(this.mockRegion, times(1)).get(anyString());
+	}
+
+	@Test
+	public void getSessionIdsReturnsUnmodifiableCopy() {
+
+		this.data.put("jonDoe", setOf("1", "2"));
+
+		Set<String> sessionIds = new PrincipalNameSessionIndex(this.mockRegion).getSessionIds("jonDoe");
+
+		assertThat(sessionIds).containsExactlyInAnyOrder("1", "2");
+		assertThatThrownBy(() -> sessionIds.add("3")).isInstanceOf(UnsupportedOperationException.class);
+	}
+
+	@Test
+	public void indexAddsSessionIdsForPrincipal() {
+
+		PrincipalNameSessionIndex index = new PrincipalNameSessionIndex(this.mockRegion);
+
+		index.index("1", "jonDoe");
+		index.index("2", "jonDoe");
+		index.index("3", "janeDoe");
+
+		assertThat(this.data).containsOnlyKeys("jonDoe", "janeDoe");
+		assertThat(index.getSessionIds("jonDoe")).containsExactlyInAnyOrder("1", "2");
+		assertThat(index.getSessionIds("janeDoe")).containsExactly("3");
+	}
+
+	@Test
+	public void indexSkipsUpdateWhenPrincipalIsUnchanged() {
+
+		PrincipalNameSessionIndex index = new PrincipalNameSessionIndex(this.mockRegion);
+
+		index.index("1", "jonDoe");
+		index.index("1", "jonDoe");
+		index.index("1", null);
+		index.index("2", null);
+
+		verify(this.mockRegion, times(1)).putIfAbsent(eq("jonDoe"), any());
+		verify(this.mockRegion, times(1)).remove(eq("jonDoe"), any());
+		verify(this.mockRegion, never()).replace(anyString(), any(), any());
+		assertThat(this.data).isEmpty();
+	}
+
+	@Test
+	public void indexMovesSessionIdWhenPrincipalChanges() {
+
+		PrincipalNameSessionIndex index = new PrincipalNameSessionIndex(this.mockRegion);
+
+		index.index("1", "jonDoe");
+		index.index("2", "jonDoe");
+		index.index("1", "janeDoe");
+
+		assertThat(index.getSessionIds("jonDoe")).containsExactly("2");
+		assertThat(index.getSessionIds("janeDoe")).containsExactly("1");
+	}
+
+	@Test
+	public void unindexRemovesSessionIdAndEmptyMapping() {
+
+		PrincipalNameSessionIndex index = new PrincipalNameSessionIndex(this.mockRegion);
+
+		index.index("1", "jonDoe");
+		index.index("2", "jonDoe");
+		index.unindex("1", "jonDoe");
+
+		assertThat(index.getSessionIds("jonDoe")).containsExactly("2");
+
+		index.unindex("2", "jonDoe");
+
+		assertThat(this.data).isEmpty();
+	}
+
+	@Test
+	public void unindexRemovesSessionIdFromPreviouslyIndexedPrincipal() {
+
+		PrincipalNameSessionIndex index = new PrincipalNameSessionIndex(this.mockRegion);
+
+		index.index("1", "jonDoe");
+		index.unindex("1", null);
+
+		assertThat(this.data).isEmpty();
+	}
+
+	@Test
+	public void evictRemovesStaleMapping() {
+
+		this.data.put("jonDoe", setOf("1", "2"));
+
+		PrincipalNameSessionIndex index = new PrincipalNameSessionIndex(this.mockRegion);
+
+		index.evict("1", "jonDoe");
+		index.evict("3", "jonDoe");
+
+		assertThat(index.getSessionIds("jonDoe")).containsExactly("2");
+		verify(this.mockRegion, times(1)).replace(eq("jonDoe"), any(), any());
+	}
+
+	@Test
+	public void addRetriesOnConcurrentModification() {
+
+		this.data.put("jonDoe", setOf("1"));
+
+		AtomicBoolean conflict = new AtomicBoolean(true);
+
+		doAnswer(invocation -> {
+
+			if (conflict.getAndSet(false)) {
+				this.data.put("jonDoe", setOf("1", "2"));
+				return false;
+			}
+
+			return this.data.replace(invocation.getArgument(0), invocation.getArgument(1), invocation.getArgument(2));
+
+		}).when(this.mockRegion).replace(anyString(), any(), any());
+
+		PrincipalNameSessionIndex index = new PrincipalNameSessionIndex(this.mockRegion);
+
+		assertThat(index.add("jonDoe", "3")).isTrue();
+		assertThat(index.getSessionIds("jonDoe")).containsExactlyInAnyOrder("1", "2", "3");
+		verify(this.mockRegion, times(2)).replace(eq("jonDoe"), any(), any());
+	}
+
+	@Test
+	public void addGivesUpAfterMaximumAttempts() {
+
+		this.data.put("jonDoe", Collections.singleton("1"));
+
+		doReturn(false).when(this.mockRegion).replace(anyString(), any(), any());
+
+		PrincipalNameSessionIndex index = new PrincipalNameSessionIndex(this.mockRegion);
+
+		assertThat(index.add("jonDoe", "2")).isFalse();
+		verify(this.mockRegion, times(PrincipalNameSessionIndex.MAX_UPDATE_ATTEMPTS))
+			.replace(eq("jonDoe"), any(), any());
+	}
+}
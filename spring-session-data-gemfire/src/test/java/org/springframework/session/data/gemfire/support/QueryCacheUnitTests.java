@@ -0,0 +1,222 @@
+/*
+ * Copyright 2024 Broadcom. All rights reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.springframework.session.data.gemfire.support;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import org.apache.geode.cache.query.Query;
+import org.apache.geode.cache.query.QueryService;
+import org.apache.geode.cache.query.SelectResults;
+import org.apache.geode.cache.query.TypeMismatchException;
+
+import org.springframework.dao.InvalidDataAccessApiUsageException;
+import org.springframework.data.gemfire.GemfireQueryException;
+
+/**
+ * Unit tests for {@link QueryCache}.
+ *
+ * @author John Blum
+ * @see org.junit.Test
+ * @see org.mockito.Mockito
+ * @see org.springframework.session.data.gemfire.support.QueryCache
+ * @since 1.0.0
+ */
+@RunWith(MockitoJUnitRunner.class)
+@SuppressWarnings({ "rawtypes", "unchecked" })
+public class QueryCacheUnitTests {
+
+	@Mock
+	private QueryService mockQueryService;
+
+	private void mockNewQuery() {
+
+		doAnswer(invocation -> mock(Query.class, invocation.<String>getArgument(0)))
+			.when(this.mockQueryService).newQuery(anyString());
+	}
+
+	private Query mockQuery(String queryString) {
+
+		Query mockQuery = mock(Query.class, queryString);
+
+		doReturn(queryString).when(mockQuery).getQueryString();
+
+		return mockQuery;
+	}
+
+	@Test
+	public void constructQueryCacheWithDefaults() {
+
+		QueryCache queryCache = new QueryCache(this.mockQueryService);
+
+		assertThat(queryCache.getMaximumSize()).isEqualTo(QueryCache.DEFAULT_MAXIMUM_SIZE);
+		assertThat(queryCache.getQueryService()).isSameAs(this.mockQueryService);
+		assertThat(queryCache.size()).isZero();
+	}
+
+	@Test
+	public void constructQueryCacheWithNullQueryServiceThrowsIllegalArgumentException() {
+
+		assertThatIllegalArgumentException()
+			.isThrownBy(() -> new QueryCache(null))
+			.withMessage("QueryService is required");
+	}
+
+	@Test
+	public void constructQueryCacheWithInvalidMaximumSizeThrowsIllegalArgumentException() {
+
+		assertThatIllegalArgumentException()
+			.isThrownBy(() -> new QueryCache(this.mockQueryService, 0))
+			.withMessage("Maximum size [0] must be greater than 0");
+	}
+
+	@Test
+	public void getQueryCompilesQueryOnceAndCachesIt() {
+
+		mockNewQuery();
+
+		AtomicInteger queryStringCount = new AtomicInteger();
+
+		QueryCache queryCache = new QueryCache(this.mockQueryService);
+
+		Query query = queryCache.getQuery("key", () -> {
+			queryStringCount.incrementAndGet();
+			return "SELECT * FROM /Sessions";
+		});
+
+		assertThat(queryCache.getQuery("key", () -> "SELECT * FROM /Other")).isSameAs(query);
+		assertThat(queryStringCount.get()).isEqualTo(1);
+		assertThat(queryCache.size()).isOne();
+		assertThat(queryCache.getHitCount()).isOne();
+		assertThat(queryCache.getMissCount()).isOne();
+		assertThat(queryCache.getCompileTimeNanos()).isNotNegative();
+
+		verify(this.mockQueryService, times(1)).newQuery(eq("SELECT * FROM /Sessions"));
+	}
+
+	@Test
+	public void getQueryEvictsLeastRecentlyUsedQuery() {
+
+		mockNewQuery();
+
+		QueryCache queryCache = new QueryCache(this.mockQueryService, 2);
+
+		Query queryOne = queryCache.getQuery("one", () -> "ONE");
+
+		queryCache.getQuery("two", () -> "TWO");
+		queryCache.getQuery("one", () -> "ONE");
+		queryCache.getQuery("three", () -> "THREE");
+
+		assertThat(queryCache.size()).isEqualTo(2);
+		assertThat(queryCache.getEvictionCount()).isOne();
+		assertThat(queryCache.getQuery("one", () -> "ONE")).isSameAs(queryOne);
+
+		queryCache.getQuery("two", () -> "TWO");
+
+		assertThat(queryCache.getMissCount()).isEqualTo(4);
+		assertThat(queryCache.getEvictionCount()).isEqualTo(2);
+	}
+
+	@Test
+	public void getQueryWrapsInvalidQuery() {
+
+		doThrow(new IllegalStateException("TEST")).when(this.mockQueryService).newQuery(anyString());
+
+		QueryCache queryCache = new QueryCache(this.mockQueryService);
+
+		assertThatExceptionOfType(GemfireQueryException.class)
+			.isThrownBy(() -> queryCache.getQuery("key", () -> "SELECT"))
+			.withCauseInstanceOf(IllegalStateException.class);
+
+		assertThat(queryCache.size()).isZero();
+	}
+
+	@Test
+	public void executeRunsCachedQueryWithParameters() throws Exception {
+
+		Query mockQuery = mockQuery("SELECT s FROM /Sessions s WHERE s.principalName = $1");
+		SelectResults mockSelectResults = mock(SelectResults.class);
+
+		doReturn(mockQuery).when(this.mockQueryService).newQuery(anyString());
+		doReturn(mockSelectResults).when(mockQuery).execute(eq("jonDoe"));
+
+		QueryCache queryCache = new QueryCache(this.mockQueryService);
+
+		assertThat(queryCache.execute("key", mockQuery::getQueryString, "jonDoe")).isSameAs(mockSelectResults);
+		assertThat(queryCache.execute("key", mockQuery::getQueryString, "jonDoe")).isSameAs(mockSelectResults);
+		assertThat(queryCache.getExecutionCount()).isEqualTo(2);
+		assertThat(queryCache.getExecutionTimeNanos()).isNotNegative();
+		assertThat(queryCache.getHitCount()).isOne();
+		assertThat(queryCache.getMissCount()).isOne();
+
+		verify(this.mockQueryService, times(1)).newQuery(anyString());
+		verify(mockQuery, times(2)).execute(eq("jonDoe"));
+	}
+
+	@Test
+	public void executeWrapsQueryException() throws Exception {
+
+		Query mockQuery = mock(Query.class);
+
+		doReturn(mockQuery).when(this.mockQueryService).newQuery(anyString());
+		doThrow(new TypeMismatchException("TEST")).when(mockQuery).execute(eq("jonDoe"));
+
+		QueryCache queryCache = new QueryCache(this.mockQueryService);
+
+		assertThatExceptionOfType(GemfireQueryException.class)
+			.isThrownBy(() -> queryCache.execute("key", () -> "SELECT", "jonDoe"))
+			.withCauseInstanceOf(TypeMismatchException.class);
+
+		assertThat(queryCache.getExecutionCount()).isOne();
+	}
+
+	@Test
+	public void executeWithNonSelectResultsThrowsInvalidDataAccessApiUsageException() throws Exception {
+
+		Query mockQuery = mockQuery("SELECT COUNT(*) FROM /Sessions");
+
+		doReturn(mockQuery).when(this.mockQueryService).newQuery(anyString());
+		doReturn(1).when(mockQuery).execute(eq("jonDoe"));
+
+		QueryCache queryCache = new QueryCache(this.mockQueryService);
+
+		assertThatExceptionOfType(InvalidDataAccessApiUsageException.class)
+			.isThrownBy(() -> queryCache.execute("key", mockQuery::getQueryString, "jonDoe"));
+	}
+
+	@Test
+	public void clearRemovesAllCachedQueries() {
+
+		mockNewQuery();
+
+		QueryCache queryCache = new QueryCache(this.mockQueryService);
+
+		queryCache.getQuery("one", () -> "ONE");
+		queryCache.getQuery("two", () -> "TWO");
+
+		assertThat(queryCache.size()).isEqualTo(2);
+
+		queryCache.clear();
+
+		assertThat(queryCache.size()).isZero();
+		assertThat(queryCache.toString()).contains("size = 0", "misses = 2");
+	}
+}
@@ -0,0 +1,118 @@
+/*
+ * Copyright 2024 Broadcom. All rights reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.springframework.session.data.gemfire.support;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import org.springframework.session.Session;
+
+/**
+ * Unit tests for {@link ReadOnlySession}.
+ *
+ * @author John Blum
+ * @see org.junit.Test
+ * @see org.mockito.Mockito
+ * @see org.springframework.session.data.gemfire.support.ReadOnlySession
+ * @since 1.0.0
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class ReadOnlySessionUnitTests {
+
+	@Mock
+	private Session mockSession;
+
+	@Test
+	public void fromNullSessionThrowsIllegalArgumentException() {
+
+		assertThatIllegalArgumentException()
+			.isThrownBy(() -> ReadOnlySession.from(null))
+			.withMessage("Session is required");
+	}
+
+	@Test
+	public void fromReadOnlySessionReturnsSameReadOnlySession() {
+
+		ReadOnlySession readOnlySession = ReadOnlySession.from(this.mockSession);
+
+		assertThat(ReadOnlySession.from(readOnlySession)).isSameAs(readOnlySession);
+		assertThat(readOnlySession.getSession()).isSameAs(this.mockSession);
+	}
+
+	@Test
+	public void readOperationsDelegateToSession() {
+
+		Instant creationTime = Instant.parse("2024-01-01T12:00:00Z");
+		Instant lastAccessedTime = creationTime.plusSeconds(60);
+
+		doReturn("1").when(this.mockSession).getId();
+		doReturn("jonDoe").when(this.mockSession).getAttribute("principal");
+		doReturn(new HashSet<>(Collections.singleton("principal"))).when(this.mockSession).getAttributeNames();
+		doReturn(creationTime).when(this.mockSession).getCreationTime();
+		doReturn(lastAccessedTime).when(this.mockSession).getLastAccessedTime();
+		doReturn(Duration.ofMinutes(30)).when(this.mockSession).getMaxInactiveInterval();
+		doReturn(true).when(this.mockSession).isExpired();
+
+		ReadOnlySession readOnlySession = ReadOnlySession.from(this.mockSession);
+
+		assertThat(readOnlySession.getId()).isEqualTo("1");
+		assertThat(readOnlySession.<String>getAttribute("principal")).isEqualTo("jonDoe");
+		assertThat(readOnlySession.getCreationTime()).isEqualTo(creationTime);
+		assertThat(readOnlySession.getLastAccessedTime()).isEqualTo(lastAccessedTime);
+		assertThat(readOnlySession.getMaxInactiveInterval()).isEqualTo(Duration.ofMinutes(30));
+		assertThat(readOnlySession.isExpired()).isTrue();
+
+		Set<String> attributeNames = readOnlySession.getAttributeNames();
+
+		assertThat(attributeNames).containsExactly("principal");
+		assertThatThrownBy(() -> attributeNames.add("other")).isInstanceOf(UnsupportedOperationException.class);
+	}
+
+	@Test
+	public void writeOperationsThrowUnsupportedOperationException() {
+
+		doReturn("1").when(this.mockSession).getId();
+
+		ReadOnlySession readOnlySession = ReadOnlySession.from(this.mockSession);
+
+		assertThatThrownBy(readOnlySession::changeSessionId)
+			.isInstanceOf(UnsupportedOperationException.class)
+			.hasMessage("Session [1] is read-only");
+
+		assertThatThrownBy(() -> readOnlySession.setAttribute("principal", "janeDoe"))
+			.isInstanceOf(UnsupportedOperationException.class);
+
+		assertThatThrownBy(() -> readOnlySession.removeAttribute("principal"))
+			.isInstanceOf(UnsupportedOperationException.class);
+
+		assertThatThrownBy(() -> readOnlySession.setLastAccessedTime(Instant.now()))
+			.isInstanceOf(UnsupportedOperationException.class);
+
+		assertThatThrownBy(() -> readOnlySession.setMaxInactiveInterval(Duration.ZERO))
+			.isInstanceOf(UnsupportedOperationException.class);
+	}
+
+	@Test
+	public void constructionDoesNotAccessSession() {
+
+		ReadOnlySession.from(this.mockSession);
+
+		verifyNoInteractions(this.mockSession);
+	}
+}
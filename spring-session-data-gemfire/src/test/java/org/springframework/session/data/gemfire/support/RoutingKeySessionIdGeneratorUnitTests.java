@@ -0,0 +1,78 @@
+/*
+ * Copyright 2024 Broadcom. All rights reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.springframework.session.data.gemfire.support;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+import java.util.UUID;
+
+import org.junit.Test;
+
+/**
+ * Unit tests for {@link RoutingKeySessionIdGenerator}.
+ *
+ * @author John Blum
+ * @see org.junit.Test
+ * @see org.springframework.session.data.gemfire.support.RoutingKeySessionIdGenerator
+ * @since 1.0.0
+ */
+public class RoutingKeySessionIdGeneratorUnitTests {
+
+	@Test
+	public void generateEmbedsRoutingKey() {
+
+		String sessionId = new RoutingKeySessionIdGenerator(() -> "tenantOne").generate();
+
+		assertThat(sessionId).startsWith("tenantOne:");
+		assertThat(UUID.fromString(sessionId.substring("tenantOne:".length()))).isNotNull();
+		assertThat(RoutingKeySessionIdGenerator.getRoutingKey(sessionId)).isEqualTo("tenantOne");
+	}
+
+	@Test
+	public void generateWithoutRoutingKeyReturnsUuid() {
+
+		String sessionId = new RoutingKeySessionIdGenerator(() -> " ").generate();
+
+		assertThat(UUID.fromString(sessionId)).isNotNull();
+		assertThat(RoutingKeySessionIdGenerator.getRoutingKey(sessionId)).isNull();
+		assertThat(new RoutingKeySessionIdGenerator(() -> null).generate()).doesNotContain(":");
+	}
+
+	@Test
+	public void generateWithInvalidRoutingKeyThrowsIllegalArgumentException() {
+
+		assertThatIllegalArgumentException()
+			.isThrownBy(() -> new RoutingKeySessionIdGenerator(() -> "tenant:one").generate())
+			.withMessage("Routing key [tenant:one] must not contain ':' or '.'");
+
+		assertThatIllegalArgumentException()
+			.isThrownBy(() -> new RoutingKeySessionIdGenerator(() -> "tenant.one").generate())
+			.withMessage("Routing key [tenant.one] must not contain ':' or '.'");
+	}
+
+	@Test
+	public void getRoutingKeyFromSessionIdWithoutRoutingKeyReturnsNull() {
+
+		assertThat(RoutingKeySessionIdGenerator.getRoutingKey(null)).isNull();
+		assertThat(RoutingKeySessionIdGenerator.getRoutingKey("123")).isNull();
+		assertThat(RoutingKeySessionIdGenerator.getRoutingKey(":123")).isEmpty();
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void constructWithNullSupplierThrowsIllegalArgumentException() {
+
+		try {
+			new RoutingKeySessionIdGenerator(null);
+		}
+		catch (IllegalArgumentException expected) {
+
+			assertThat(expected).hasMessage("Routing key Supplier is required");
+			assertThat(expected).hasNoCause();
+
+			throw expected;
+		}
+	}
+}
@@ -0,0 +1,74 @@
+/*
+ * Copyright 2024 Broadcom. All rights reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.springframework.session.data.gemfire.support;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+import org.junit.Test;
+
+import org.springframework.session.FindByIndexNameSessionRepository;
+import org.springframework.session.MapSession;
+import org.springframework.session.Session;
+
+/**
+ * Unit tests for {@link SessionClassifier}.
+ *
+ * @author John Blum
+ * @see org.junit.Test
+ * @see org.springframework.session.data.gemfire.support.SessionClassifier
+ * @since 1.0.0
+ */
+public class SessionClassifierUnitTests {
+
+	@Test
+	public void byAttributeClassifiesByAttributeValue() {
+
+		SessionClassifier sessionClassifier = SessionClassifier.byAttribute("tenant");
+
+		Session session = new MapSession();
+
+		assertThat(sessionClassifier.classify(session)).isNull();
+
+		session.setAttribute("tenant", "acme");
+
+		assertThat(sessionClassifier.classify(session)).isEqualTo("acme");
+	}
+
+	@Test
+	public void byAuthenticationClassifiesAuthenticatedSessions() {
+
+		SessionClassifier sessionClassifier = SessionClassifier.byAuthentication("users", "guests");
+
+		Session session = new MapSession();
+
+		assertThat(sessionClassifier.classify(session)).isEqualTo("guests");
+
+		session.setAttribute(FindByIndexNameSessionRepository.PRINCIPAL_NAME_INDEX_NAME, "jonDoe");
+
+		assertThat(sessionClassifier.classify(session)).isEqualTo("users");
+
+		session = new MapSession();
+		session.setAttribute(SessionClassifier.SPRING_SECURITY_CONTEXT, new Object());
+
+		assertThat(sessionClassifier.classify(session)).isEqualTo("users");
+	}
+
+	@Test
+	public void invalidArgumentsThrowIllegalArgumentException() {
+
+		assertThatIllegalArgumentException()
+			.isThrownBy(() -> SessionClassifier.byAttribute(" "))
+			.withMessage("Session attribute name is required");
+
+		assertThatIllegalArgumentException()
+			.isThrownBy(() -> SessionClassifier.byAuthentication(null, "guests"))
+			.withMessage("Authenticated route is required");
+
+		assertThatIllegalArgumentException()
+			.isThrownBy(() -> SessionClassifier.byAuthentication("users", ""))
+			.withMessage("Anonymous route is required");
+	}
+}
@@ -0,0 +1,69 @@
+/*
+ * Copyright 2024 Broadcom. All rights reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.springframework.session.data.gemfire.support;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.mockito.ArgumentMatchers.same;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.time.Clock;
+
+import org.junit.Test;
+
+/**
+ * Unit tests for {@link SessionClockAwareBeanPostProcessor}.
+ *
+ * @author John Blum
+ * @see org.junit.Test
+ * @see org.mockito.Mockito
+ * @see org.springframework.session.data.gemfire.support.SessionClockAware
+ * @see org.springframework.session.data.gemfire.support.SessionClockAwareBeanPostProcessor
+ * @since 1.0.0
+ */
+public class SessionClockAwareBeanPostProcessorUnitTests {
+
+	@Test
+	public void constructsSessionClockAwareBeanPostProcessor() {
+
+		Clock clock = Clock.systemUTC();
+
+		assertThat(new SessionClockAwareBeanPostProcessor(clock).getClock()).isSameAs(clock);
+	}
+
+	@Test
+	public void constructWithNullClockThrowsIllegalArgumentException() {
+
+		assertThatIllegalArgumentException()
+			.isThrownBy(() -> new SessionClockAwareBeanPostProcessor(null))
+			.withMessage("Clock is required")
+			.withNoCause();
+	}
+
+	@Test
+	public void configuresSessionClockAwareBean() {
+
+		CachedMillisecondClock clock = new CachedMillisecondClock();
+
+		SessionClockAware bean = mock(SessionClockAware.class);
+
+		SessionClockAwareBeanPostProcessor beanPostProcessor = new SessionClockAwareBeanPostProcessor(clock);
+
+		assertThat(beanPostProcessor.postProcessBeforeInitialization(bean, "testBean")).isSameAs(bean);
+
+		verify(bean, times(1)).setClock(same(clock));
+	}
+
+	@Test
+	public void doesNotConfigureNonSessionClockAwareBean() {
+
+		Object bean = new Object();
+
+		assertThat(new SessionClockAwareBeanPostProcessor(Clock.systemUTC())
+			.postProcessBeforeInitialization(bean, "testBean")).isSameAs(bean);
+	}
+}
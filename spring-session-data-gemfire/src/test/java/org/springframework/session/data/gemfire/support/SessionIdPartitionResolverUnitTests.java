@@ -0,0 +1,61 @@
+/*
+ * Copyright 2024 Broadcom. All rights reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.springframework.session.data.gemfire.support;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+
+import org.junit.Test;
+
+import org.apache.geode.cache.EntryOperation;
+
+/**
+ * Unit tests for {@link SessionIdPartitionResolver}.
+ *
+ * @author John Blum
+ * @see org.junit.Test
+ * @see org.mockito.Mockito
+ * @see org.apache.geode.cache.EntryOperation
+ * @see org.springframework.session.data.gemfire.support.SessionIdPartitionResolver
+ * @since 1.0.0
+ */
+@SuppressWarnings("unchecked")
+public class SessionIdPartitionResolverUnitTests {
+
+	private final SessionIdPartitionResolver partitionResolver = new SessionIdPartitionResolver();
+
+	private Object resolveRoutingObject(Object key) {
+
+		EntryOperation<Object, Object> mockEntryOperation = mock(EntryOperation.class);
+
+		doReturn(key).when(mockEntryOperation).getKey();
+
+		return this.partitionResolver.getRoutingObject(mockEntryOperation);
+	}
+
+	@Test
+	public void nameIsClassName() {
+		assertThat(this.partitionResolver.getName()).isEqualTo(SessionIdPartitionResolver.class.getName());
+	}
+
+	@Test
+	public void routingObjectIsRoutingKeyOfSessionId() {
+
+		String sessionId = new RoutingKeySessionIdGenerator(() -> "tenantOne").generate();
+
+		assertThat(resolveRoutingObject(sessionId)).isEqualTo("tenantOne");
+		assertThat(resolveRoutingObject("authenticated." + sessionId)).isEqualTo("tenantOne");
+		assertThat(resolveRoutingObject("tenantOne:cart")).isEqualTo("tenantOne");
+	}
+
+	@Test
+	public void routingObjectIsKeyWithoutRoutingKey() {
+
+		assertThat(resolveRoutingObject("tenantOne")).isEqualTo("tenantOne");
+		assertThat(resolveRoutingObject("authenticated.123")).isEqualTo("authenticated.123");
+		assertThat(resolveRoutingObject(42L)).isEqualTo(42L);
+	}
+}
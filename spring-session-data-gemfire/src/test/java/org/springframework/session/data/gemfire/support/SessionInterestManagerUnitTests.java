@@ -0,0 +1,313 @@
+/*
+ * Copyright 2024 Broadcom. All rights reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.springframework.session.data.gemfire.support;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.After;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import org.apache.geode.cache.DataPolicy;
+import org.apache.geode.cache.EntryEvent;
+import org.apache.geode.cache.InterestResultPolicy;
+import org.apache.geode.cache.Region;
+import org.apache.geode.cache.RegionAttributes;
+
+import org.springframework.session.Session;
+
+/**
+ * Unit tests for {@link SessionInterestManager}.
+ *
+ * @author John Blum
+ * @see org.junit.Test
+ * @see org.mockito.Mock
+ * @see org.mockito.junit.MockitoJUnitRunner
+ * @see org.apache.geode.cache.Region
+ * @see org.springframework.session.data.gemfire.support.SessionInterestManager
+ * @since 1.0.0
+ */
+@RunWith(MockitoJUnitRunner.class)
+@SuppressWarnings({ "rawtypes", "unchecked" })
+public class SessionInterestManagerUnitTests {
+
+	private static final Duration INACTIVITY_TIMEOUT = Duration.ofMinutes(30);
+	private static final Duration LONG_FLUSH_INTERVAL = Duration.ofMinutes(5);
+
+	private final AtomicLong currentTimeMillis = new AtomicLong(1_000L);
+
+	@Mock
+	private Region<Object, Session> mockRegion;
+
+	private SessionInterestManager sessionInterestManager;
+
+	private SessionInterestManager newSessionInterestManager() {
+
+		this.sessionInterestManager = new SessionInterestManager(this.mockRegion, false, true,
+			INACTIVITY_TIMEOUT, LONG_FLUSH_INTERVAL);
+
+		this.sessionInterestManager.setCurrentTimeMillis(this.currentTimeMillis::get);
+
+		return this.sessionInterestManager;
+	}
+
+	private List<Object> captureRegisteredKeys() {
+
+		ArgumentCaptor<List> keysCaptor = ArgumentCaptor.forClass(List.class);
+
+		verify(this.mockRegion, times(1)).registerInterestForKeys(keysCaptor.capture(),
+			eq(InterestResultPolicy.NONE), eq(false), eq(true));
+
+		return keysCaptor.getValue();
+	}
+
+	@After
+	public void tearDown() {
+
+		if (this.sessionInterestManager != null) {
+			this.sessionInterestManager.close();
+		}
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void constructWithNullRegion() {
+
+		try {
+			new SessionInterestManager(null, INACTIVITY_TIMEOUT);
+		}
+		catch (IllegalArgumentException expected) {
+
+			assertThat(expected).hasMessage("Region is required");
+			assertThat(expected).hasNoCause();
+
+			throw expected;
+		}
+	}
+
+	@Test
+	public void constructWithDefaults() {
+
+		this.sessionInterestManager = new SessionInterestManager(this.mockRegion, INACTIVITY_TIMEOUT);
+
+		assertThat(this.sessionInterestManager.getSessionsRegion()).isSameAs(this.mockRegion);
+		assertThat(this.sessionInterestManager.getInactivityTimeout()).isEqualTo(INACTIVITY_TIMEOUT);
+		assertThat(this.sessionInterestManager.getFlushInterval())
+			.isEqualTo(SessionInterestManager.DEFAULT_FLUSH_INTERVAL);
+	}
+
+	@Test
+	public void touchRegistersInterestOnceInBatch() {
+
+		newSessionInterestManager();
+
+		this.sessionInterestManager.touch("1");
+		this.sessionInterestManager.touch("2");
+		this.sessionInterestManager.touch("1");
+		this.sessionInterestManager.flush();
+
+		assertThat(captureRegisteredKeys()).containsExactlyInAnyOrder("1", "2");
+		assertThat(this.sessionInterestManager.isInterested("1")).isTrue();
+		assertThat(this.sessionInterestManager.isInterested("2")).isTrue();
+
+		this.sessionInterestManager.touch("1");
+		this.sessionInterestManager.flush();
+
+		verifyNoMoreInteractions(this.mockRegion);
+	}
+
+	@Test
+	public void touchIgnoresInvalidSessionIds() {
+
+		newSessionInterestManager();
+
+		this.sessionInterestManager.touch(null);
+		this.sessionInterestManager.touch("  ");
+		this.sessionInterestManager.flush();
+
+		verifyNoInteractions(this.mockRegion);
+	}
+
+	@Test
+	public void removeUnregistersRegisteredInterest() {
+
+		newSessionInterestManager();
+
+		this.sessionInterestManager.touch("1");
+		this.sessionInterestManager.flush();
+		this.sessionInterestManager.remove("1");
+		this.sessionInterestManager.flush();
+
+		assertThat(captureRegisteredKeys()).containsExactly("1");
+		assertThat(this.sessionInterestManager.isInterested("1")).isFalse();
+
+		verify(this.mockRegion, times(1)).unregisterInterest(eq(Collections.singletonList("1")));
+	}
+
+	@Test
+	public void removeBeforeFlushCancelsPendingRegistration() {
+
+		newSessionInterestManager();
+
+		this.sessionInterestManager.touch("1");
+		this.sessionInterestManager.remove("1");
+		this.sessionInterestManager.remove("2");
+		this.sessionInterestManager.flush();
+
+		verifyNoInteractions(this.mockRegion);
+	}
+
+	@Test
+	public void flushUnregistersInterestForInactiveSessions() {
+
+		newSessionInterestManager();
+
+		this.sessionInterestManager.touch("1");
+		this.sessionInterestManager.touch("2");
+		this.sessionInterestManager.flush();
+
+		this.currentTimeMillis.addAndGet(INACTIVITY_TIMEOUT.toMillis() / 2);
+		this.sessionInterestManager.touch("2");
+		this.currentTimeMillis.addAndGet(INACTIVITY_TIMEOUT.toMillis() / 2 + 1);
+		this.sessionInterestManager.flush();
+
+		assertThat(captureRegisteredKeys()).containsExactlyInAnyOrder("1", "2");
+		assertThat(this.sessionInterestManager.isInterested("1")).isFalse();
+		assertThat(this.sessionInterestManager.isInterested("2")).isTrue();
+
+		verify(this.mockRegion, times(1)).unregisterInterest(eq(Collections.singletonList("1")));
+	}
+
+	@Test
+	public void flushLocallyDestroysInactiveSessionsAfterUnregisteringInterest() {
+
+		RegionAttributes mockRegionAttributes = mock(RegionAttributes.class);
+
+		doReturn(mockRegionAttributes).when(this.mockRegion).getAttributes();
+		doReturn(DataPolicy.NORMAL).when(mockRegionAttributes).getDataPolicy();
+
+		newSessionInterestManager();
+
+		this.sessionInterestManager.touch("1");
+		this.sessionInterestManager.flush();
+		this.sessionInterestManager.remove("1");
+		this.currentTimeMillis.addAndGet(INACTIVITY_TIMEOUT.toMillis() + 1);
+		this.sessionInterestManager.touch("2");
+		this.sessionInterestManager.flush();
+		this.currentTimeMillis.addAndGet(INACTIVITY_TIMEOUT.toMillis() + 1);
+		this.sessionInterestManager.flush();
+
+		InOrder inOrder = inOrder(this.mockRegion);
+
+		inOrder.verify(this.mockRegion, times(1)).unregisterInterest(eq(Collections.singletonList("1")));
+		inOrder.verify(this.mockRegion, times(1)).unregisterInterest(eq(Collections.singletonList("2")));
+		inOrder.verify(this.mockRegion, times(1))
+			.localDestroy(eq("2"), eq(SessionInterestManager.INTEREST_DROPPED_CALLBACK_ARGUMENT));
+
+		verify(this.mockRegion, never()).localDestroy(eq("1"), any());
+	}
+
+	@Test
+	public void flushDoesNotLocallyDestroyInactiveSessionsOfProxyRegion() {
+
+		RegionAttributes mockRegionAttributes = mock(RegionAttributes.class);
+
+		doReturn(mockRegionAttributes).when(this.mockRegion).getAttributes();
+		doReturn(DataPolicy.EMPTY).when(mockRegionAttributes).getDataPolicy();
+
+		newSessionInterestManager();
+
+		this.sessionInterestManager.touch("1");
+		this.sessionInterestManager.flush();
+		this.currentTimeMillis.addAndGet(INACTIVITY_TIMEOUT.toMillis() + 1);
+		this.sessionInterestManager.flush();
+
+		verify(this.mockRegion, times(1)).unregisterInterest(eq(Collections.singletonList("1")));
+		verify(this.mockRegion, never()).localDestroy(any(), any());
+	}
+
+	@Test
+	public void flushRequeuesSessionIdsWhenRegistrationFails() {
+
+		doThrow(new RuntimeException("TEST")).doNothing().when(this.mockRegion)
+			.registerInterestForKeys(anyList(), any(InterestResultPolicy.class), anyBoolean(), anyBoolean());
+
+		newSessionInterestManager();
+
+		this.sessionInterestManager.touch("1");
+		this.sessionInterestManager.touch("2");
+
+		assertThatExceptionOfType(RuntimeException.class)
+			.isThrownBy(() -> this.sessionInterestManager.flush())
+			.withMessage("TEST");
+
+		this.sessionInterestManager.remove("2");
+		this.sessionInterestManager.flush();
+
+		ArgumentCaptor<List> keysCaptor = ArgumentCaptor.forClass(List.class);
+
+		verify(this.mockRegion, times(2)).registerInterestForKeys(keysCaptor.capture(),
+			eq(InterestResultPolicy.NONE), eq(false), eq(true));
+
+		assertThat(keysCaptor.getAllValues().get(0)).containsExactlyInAnyOrder("1", "2");
+		assertThat(keysCaptor.getAllValues().get(1)).containsExactly("1");
+
+		verify(this.mockRegion, never()).unregisterInterest(any());
+	}
+
+	@Test
+	public void flushRequeuesSessionIdsWhenUnregistrationFails() {
+
+		doThrow(new RuntimeException("TEST")).doNothing().when(this.mockRegion).unregisterInterest(any());
+
+		newSessionInterestManager();
+
+		this.sessionInterestManager.touch("1");
+		this.sessionInterestManager.flush();
+		this.sessionInterestManager.remove("1");
+
+		assertThatExceptionOfType(RuntimeException.class)
+			.isThrownBy(() -> this.sessionInterestManager.flush())
+			.withMessage("TEST");
+
+		this.sessionInterestManager.flush();
+
+		verify(this.mockRegion, times(2)).unregisterInterest(eq(Collections.singletonList("1")));
+	}
+
+	@Test
+	public void isInterestDroppedEvaluatesCallbackArgument() {
+
+		EntryEvent mockEntryEvent = mock(EntryEvent.class);
+
+		doReturn(SessionInterestManager.INTEREST_DROPPED_CALLBACK_ARGUMENT).when(mockEntryEvent).getCallbackArgument();
+
+		assertThat(SessionInterestManager.isInterestDropped(mockEntryEvent)).isTrue();
+		assertThat(SessionInterestManager.isInterestDropped(mock(EntryEvent.class))).isFalse();
+		assertThat(SessionInterestManager.isInterestDropped(null)).isFalse();
+	}
+}
@@ -0,0 +1,140 @@
+/*
+ * Copyright 2024 Broadcom. All rights reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.springframework.session.data.gemfire.support;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+
+import org.junit.Test;
+
+/**
+ * Unit tests for {@link SessionQuery}.
+ *
+ * @author John Blum
+ * @see org.junit.Test
+ * @see org.springframework.session.data.gemfire.support.SessionQuery
+ * @since 1.0.0
+ */
+public class SessionQueryUnitTests {
+
+	private static final Instant NOW = Instant.parse("2024-01-01T12:00:00Z");
+
+	@Test
+	public void queryIsEmpty() {
+
+		assertThat(SessionQuery.query().isEmpty()).isTrue();
+		assertThat(SessionQuery.query().getParameters()).isEmpty();
+
+		assertThatIllegalStateException()
+			.isThrownBy(() -> SessionQuery.query().toPredicate())
+			.withMessage("SessionQuery requires at least one criterion");
+	}
+
+	@Test
+	public void criteriaAreImmutable() {
+
+		SessionQuery query = SessionQuery.query();
+		SessionQuery tenantQuery = query.attributeEquals("tenant", "acme");
+
+		assertThat(query.isEmpty()).isTrue();
+		assertThat(tenantQuery).isNotSameAs(query);
+		assertThat(tenantQuery.isEmpty()).isFalse();
+	}
+
+	@Test
+	public void conjunctionCompilesToParameterizedPredicate() {
+
+		SessionQuery query = SessionQuery.query()
+			.attributeEquals("tenant", "acme")
+			.lastAccessedAfter(NOW);
+
+		assertThat(query.toPredicate()).isEqualTo("s.attributes['tenant'] = $1 AND s.lastAccessedTimeMillis > $2");
+		assertThat(query.getParameters()).containsExactly("acme", NOW.toEpochMilli());
+	}
+
+	@Test
+	public void criteriaAreOrderedBySelectivity() {
+
+		SessionQuery query = SessionQuery.query()
+			.expiresBefore(NOW)
+			.lastAccessedAfter(NOW.minusSeconds(60))
+			.attributeIn("role", Arrays.asList("admin", "ops", "admin"))
+			.principalNameEquals("jonDoe");
+
+		assertThat(query.toPredicate()).isEqualTo("s.principalName = $1 AND s.attributes['role'] IN $2"
+			+ " AND s.lastAccessedTimeMillis > $3 AND s.expirationTime < $4");
+
+		assertThat(query.getParameters()).containsExactly("jonDoe", new LinkedHashSet<>(Arrays.asList("admin", "ops")),
+			NOW.minusSeconds(60).toEpochMilli(), NOW.toEpochMilli());
+	}
+
+	@Test
+	public void rangeCriteriaCompileToRangePredicates() {
+
+		SessionQuery query = SessionQuery.query()
+			.createdAfter(NOW.minusSeconds(60))
+			.createdBefore(NOW)
+			.attributeGreaterThan("visits", 10)
+			.attributeLessThan("visits", 20)
+			.expiresAfter(NOW)
+			.lastAccessedBefore(NOW);
+
+		assertThat(query.toPredicate()).isEqualTo("s.creationTimeMillis > $1 AND s.attributes['visits'] > $2"
+			+ " AND s.expirationTime > $3 AND s.creationTimeMillis < $4 AND s.attributes['visits'] < $5"
+			+ " AND s.lastAccessedTimeMillis < $6");
+
+		assertThat(query.getParameters()).containsExactly(NOW.minusSeconds(60).toEpochMilli(), 10, NOW.toEpochMilli(),
+			NOW.toEpochMilli(), 20, NOW.toEpochMilli());
+	}
+
+	@Test
+	public void queriesWithSameCriteriaAreEqual() {
+
+		SessionQuery query = SessionQuery.query().principalNameIn(Collections.singleton("jonDoe"));
+
+		assertThat(query).isEqualTo(SessionQuery.query().principalNameIn(Collections.singletonList("jonDoe")));
+		assertThat(query).hasSameHashCodeAs(SessionQuery.query().principalNameIn(Collections.singleton("jonDoe")));
+		assertThat(query).isNotEqualTo(SessionQuery.query().principalNameEquals("jonDoe"));
+		assertThat(query.toString()).isEqualTo("[s.principalName IN [jonDoe]]");
+	}
+
+	@Test
+	public void invalidAttributeNameThrowsIllegalArgumentException() {
+
+		assertThatIllegalArgumentException()
+			.isThrownBy(() -> SessionQuery.query().attributeEquals(" ", "acme"))
+			.withMessage("Session attribute name is required");
+
+		assertThatIllegalArgumentException()
+			.isThrownBy(() -> SessionQuery.query().attributeEquals("tenant'] = 'x' OR s.attributes['id", "acme"))
+			.withMessageStartingWith("Session attribute name [tenant']");
+	}
+
+	@Test
+	public void nullOrEmptyValuesThrowIllegalArgumentException() {
+
+		assertThatIllegalArgumentException()
+			.isThrownBy(() -> SessionQuery.query().principalNameEquals(null))
+			.withMessage("Value for [s.principalName] is required");
+
+		assertThatIllegalArgumentException()
+			.isThrownBy(() -> SessionQuery.query().attributeIn("role", Collections.emptySet()))
+			.withMessage("Values for [s.attributes['role']] are required");
+
+		assertThatIllegalArgumentException()
+			.isThrownBy(() -> SessionQuery.query().expiresBefore(null))
+			.withMessage("Instant is required");
+
+		assertThatIllegalArgumentException()
+			.isThrownBy(() -> SessionQuery.query().lastAccessedAfter(null))
+			.withMessage("Instant is required");
+	}
+}
@@ -0,0 +1,126 @@
+/*
+ * Copyright 2024 Broadcom. All rights reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.springframework.session.data.gemfire.support;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import org.apache.geode.cache.AttributesMutator;
+import org.apache.geode.cache.CacheStatistics;
+import org.apache.geode.cache.EntryEvent;
+import org.apache.geode.cache.Operation;
+import org.apache.geode.cache.Region;
+import org.apache.geode.cache.StatisticsDisabledException;
+
+/**
+ * Unit tests for {@link SessionRegionStatistics}.
+ *
+ * @author John Blum
+ * @see org.junit.Test
+ * @see org.mockito.Mockito
+ * @see org.springframework.session.data.gemfire.support.SessionRegionStatistics
+ * @since 1.0.0
+ */
+@RunWith(MockitoJUnitRunner.class)
+@SuppressWarnings({ "rawtypes", "unchecked" })
+public class SessionRegionStatisticsUnitTests {
+
+	@Mock
+	private CacheStatistics mockCacheStatistics;
+
+	@Mock
+	private Region mockRegion;
+
+	private EntryEvent mockEntryEvent(Operation operation) {
+
+		EntryEvent mockEntryEvent = mock(EntryEvent.class);
+
+		doReturn(operation).when(mockEntryEvent).getOperation();
+
+		return mockEntryEvent;
+	}
+
+	@Test
+	public void constructWithNullRegionThrowsIllegalArgumentException() {
+
+		assertThatIllegalArgumentException()
+			.isThrownBy(() -> new SessionRegionStatistics(null))
+			.withMessage("Region is required");
+	}
+
+	@Test
+	public void registerAddsCacheListenerToRegion() {
+
+		AttributesMutator mockAttributesMutator = mock(AttributesMutator.class);
+
+		doReturn(mockAttributesMutator).when(this.mockRegion).getAttributesMutator();
+
+		SessionRegionStatistics statistics = SessionRegionStatistics.register(this.mockRegion);
+
+		verify(mockAttributesMutator).addCacheListener(eq(statistics));
+	}
+
+	@Test
+	public void hitsAndMissesAreReadFromCacheStatistics() {
+
+		doReturn(this.mockCacheStatistics).when(this.mockRegion).getStatistics();
+		doReturn(75L).when(this.mockCacheStatistics).getHitCount();
+		doReturn(25L).when(this.mockCacheStatistics).getMissCount();
+		doReturn(0.75f).when(this.mockCacheStatistics).getHitRatio();
+
+		SessionRegionStatistics statistics = new SessionRegionStatistics(this.mockRegion);
+
+		assertThat(statistics.getHitCount()).isEqualTo(75L);
+		assertThat(statistics.getMissCount()).isEqualTo(25L);
+		assertThat(statistics.getHitRatio()).isEqualTo(0.75f);
+	}
+
+	@Test
+	public void hitsAndMissesAreZeroWhenStatisticsAreDisabled() {
+
+		doThrow(new StatisticsDisabledException("TEST")).when(this.mockRegion).getStatistics();
+
+		SessionRegionStatistics statistics = new SessionRegionStatistics(this.mockRegion);
+
+		assertThat(statistics.getHitCount()).isZero();
+		assertThat(statistics.getMissCount()).isZero();
+		assertThat(statistics.getHitRatio()).isZero();
+	}
+
+	@Test
+	public void onlyEvictionsAreCounted() {
+
+		SessionRegionStatistics statistics = new SessionRegionStatistics(this.mockRegion);
+
+		statistics.afterDestroy(mockEntryEvent(Operation.EVICT_DESTROY));
+		statistics.afterDestroy(mockEntryEvent(Operation.DESTROY));
+		statistics.afterDestroy(mockEntryEvent(Operation.EVICT_DESTROY));
+		statistics.afterDestroy(null);
+
+		assertThat(statistics.getEvictionCount()).isEqualTo(2L);
+	}
+
+	@Test
+	public void toStringContainsStatistics() {
+
+		doReturn("/Sessions").when(this.mockRegion).getFullPath();
+		doReturn(10).when(this.mockRegion).size();
+		doThrow(new StatisticsDisabledException("TEST")).when(this.mockRegion).getStatistics();
+
+		assertThat(new SessionRegionStatistics(this.mockRegion).toString())
+			.isEqualTo("SessionRegionStatistics{region = /Sessions, size = 10, hits = 0, misses = 0,"
+				+ " hitRatio = 0.00, evictions = 0}");
+	}
+}